@@ -0,0 +1,60 @@
+package com.bmfalkye.benchmark;
+
+import com.bmfalkye.ai.AIStrategy;
+import com.bmfalkye.ai.MctsSearch;
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.game.core.RulesEngine;
+import com.bmfalkye.game.core.Seat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Выбор хода AI жителя: эвристика стратегий и поиск MCTS с фиксированным числом итераций
+ * (время, а не бюджет, - чтобы регрессии скорости симуляций были видны в цифрах)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AiTurnBenchmark {
+    @Param({"100", "500"})
+    public int iterations;
+
+    private RulesEngine engine;
+    private List<Card> hand;
+
+    @Setup
+    public void setUp() {
+        engine = BenchmarkFixtures.midGameEngine();
+        hand = engine.getBoard().seat(Seat.SECOND).getHand();
+    }
+
+    @Benchmark
+    public RulesEngine.Move mctsSearch() {
+        return new MctsSearch(new Random(7)).search(engine, Seat.SECOND, 60_000, iterations).move;
+    }
+
+    @Benchmark
+    public FalkyeGameSession.CardRow heuristicStrategy() {
+        Card card = AIStrategy.applyStrategyForCard(AIStrategy.StrategyType.BALANCED, hand,
+            -4, 2, 14, 9, 6, 18, 7, 5);
+        return AIStrategy.applyStrategyForRow(AIStrategy.StrategyType.BALANCED, card,
+            4, 3, 2, 4, 3, 2, 14, 9, 6, 18, 7, 5, true, false, false);
+    }
+}
@@ -0,0 +1,125 @@
+package com.bmfalkye.benchmark;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.CardDeck;
+import com.bmfalkye.cards.CardRegistry;
+import com.bmfalkye.cards.LeaderRegistry;
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.game.core.EffectResolver;
+import com.bmfalkye.game.core.GameBoard;
+import com.bmfalkye.game.core.GameListener;
+import com.bmfalkye.game.core.GameRules;
+import com.bmfalkye.game.core.RulesEngine;
+import com.bmfalkye.game.core.Seat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Фикстуры для бенчмарков: реестр карт и доски в состоянии середины партии.
+ *
+ * <p>Раскладка фиксирована (сид случайности постоянный), чтобы цифры разных сборок
+ * были сравнимы: у каждой стороны полная рука, в рядах 4/3/2 карты, на поле мороз
+ * и несколько модификаторов силы.
+ *
+ * <p>Партия собирается на безголовом ядре ({@link GameBoard} и {@link RulesEngine}),
+ * без игроков, мира и сети.
+ */
+public final class BenchmarkFixtures {
+    /** Карт в рядах ближнего, дальнего и осадного боя */
+    private static final int[] ROW_SIZES = {4, 3, 2};
+    private static final long SEED = 42L;
+
+    private static boolean initialized;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Загружает ванильные реестры и все карты мода, замораживает реестр карт
+     */
+    public static synchronized void init() {
+        if (initialized) {
+            return;
+        }
+        net.minecraft.SharedConstants.tryDetectVersion();
+        net.minecraft.server.Bootstrap.bootStrap();
+        CardRegistry.initializeDefaultCards();
+        com.bmfalkye.cards.ExpandedCardRegistry.initializeAllCards();
+        LeaderRegistry.initializeLeaders();
+        CardRegistry.freeze();
+        initialized = true;
+    }
+
+    /**
+     * Все существа реестра в фиксированном перемешанном порядке
+     */
+    public static List<Card> creatures() {
+        init();
+        List<Card> creatures = new ArrayList<>();
+        for (Card card : CardRegistry.getAllCards()) {
+            if (card.getType() == Card.CardType.CREATURE) {
+                creatures.add(card);
+            }
+        }
+        creatures.sort((a, b) -> a.getId().compareTo(b.getId()));
+        Collections.shuffle(creatures, new Random(SEED));
+        return creatures;
+    }
+
+    /**
+     * Доска середины партии на заданных рядах (например, рядах с кэшем сумм силы)
+     */
+    public static GameBoard midGameBoard(GameBoard.LaneFactory lanes) {
+        List<Card> creatures = creatures();
+        int fieldSize = ROW_SIZES[0] + ROW_SIZES[1] + ROW_SIZES[2];
+        int half = creatures.size() / 2;
+        List<Card> side1 = creatures.subList(0, half);
+        List<Card> side2 = creatures.subList(half, creatures.size());
+
+        GameBoard board = new GameBoard(FalkyeGameSession.CardRow.values().length,
+            new CardDeck(side1.subList(fieldSize, side1.size())),
+            new CardDeck(side2.subList(fieldSize, side2.size())),
+            lanes);
+        for (Seat seat : Seat.values()) {
+            board.seat(seat).draw(GameRules.HAND_SIZE);
+        }
+        fillRows(board, Seat.FIRST, side1);
+        fillRows(board, Seat.SECOND, side2);
+        board.setWeather(FalkyeGameSession.WeatherType.FROST);
+        board.seat(Seat.FIRST).addPowerModifier(side1.get(0).getId(), 2);
+        board.seat(Seat.FIRST).addPowerModifier(side1.get(5).getId(), -1);
+        board.seat(Seat.SECOND).addPowerModifier(side2.get(1).getId(), 3);
+        board.setCurrentSeat(Seat.SECOND);
+        return board;
+    }
+
+    /**
+     * Безголовый движок на доске середины партии, без эффектов карт
+     */
+    public static RulesEngine midGameEngine() {
+        return midGameEngine(EffectResolver.NONE);
+    }
+
+    /**
+     * Безголовый движок на доске середины партии с заданными эффектами карт
+     */
+    public static RulesEngine midGameEngine(EffectResolver effects) {
+        RulesEngine engine = new RulesEngine(midGameBoard(GameBoard.DEFAULT_LANES),
+            effects, GameListener.NONE, RulesEngine.BASE_POWER);
+        engine.recalculateScores();
+        return engine;
+    }
+
+    private static void fillRows(GameBoard board, Seat seat, List<Card> cards) {
+        int next = 0;
+        FalkyeGameSession.CardRow[] rows = FalkyeGameSession.CardRow.values();
+        for (int i = 0; i < rows.length; i++) {
+            for (int j = 0; j < ROW_SIZES[i]; j++) {
+                board.seat(seat).getRow(rows[i]).add(cards.get(next++));
+            }
+        }
+    }
+}
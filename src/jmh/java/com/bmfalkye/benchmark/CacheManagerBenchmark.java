@@ -0,0 +1,86 @@
+package com.bmfalkye.benchmark;
+
+import com.bmfalkye.util.CacheManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Чтение и запись {@link CacheManager} при заполненном кэше (ключи - UUID игроков)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheManagerBenchmark {
+    private static final int KEYS = 512;
+
+    private CacheManager<UUID, String> cache;
+    private CacheManager<UUID, String> fullCache;
+    private UUID[] keys;
+    private long nextKey = KEYS;
+
+    @Setup
+    public void setUp() {
+        cache = new CacheManager<>(TimeUnit.MINUTES.toMillis(5), KEYS * 2);
+        keys = new UUID[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = new UUID(i, i);
+            cache.put(keys[i], "value" + i);
+        }
+        fullCache = new CacheManager<>(TimeUnit.MINUTES.toMillis(5), KEYS);
+        for (int i = 0; i < KEYS; i++) {
+            fullCache.put(keys[i], "value" + i);
+        }
+    }
+
+    private UUID randomKey() {
+        return keys[ThreadLocalRandom.current().nextInt(KEYS)];
+    }
+
+    @Benchmark
+    public String getHit() {
+        return cache.get(randomKey());
+    }
+
+    @Benchmark
+    public String getWithSupplier() {
+        return cache.get(randomKey(), () -> "computed");
+    }
+
+    @Benchmark
+    public UUID put() {
+        UUID key = randomKey();
+        cache.put(key, "updated");
+        return key;
+    }
+
+    /** Запись нового ключа в заполненный кэш: каждая запись вытесняет самую старую */
+    @Benchmark
+    public UUID putEvicting() {
+        UUID key = new UUID(nextKey, nextKey++);
+        fullCache.put(key, "new");
+        return key;
+    }
+
+    /** Чтение из нескольких потоков сервера одновременно */
+    @Benchmark
+    @Threads(4)
+    public String getHitContended() {
+        return cache.get(randomKey());
+    }
+}
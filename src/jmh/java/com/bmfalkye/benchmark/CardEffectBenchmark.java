@@ -0,0 +1,67 @@
+package com.bmfalkye.benchmark;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.CardRegistry;
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.game.core.BoardSnapshot;
+import com.bmfalkye.game.core.CardEffects;
+import com.bmfalkye.game.core.GameListener;
+import com.bmfalkye.game.core.GameRules;
+import com.bmfalkye.game.core.RulesEngine;
+import com.bmfalkye.game.core.Seat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Розыгрыш карты способности со встроенным эффектом {@link CardEffects} на доске
+ * середины партии: эффект, комбо, пересчёт очков и передача хода.
+ *
+ * <p>Эффект меняет доску, поэтому перед каждым вызовом она восстанавливается из снимка
+ * (подготовка в замер не входит).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardEffectBenchmark {
+    @Param({"flame_storm", "nature_heal", "temporal_shift", "balance_scale"})
+    public String cardId;
+
+    private BoardSnapshot start;
+    private Card card;
+    private RulesEngine engine;
+
+    @Setup
+    public void setUp() {
+        RulesEngine midGame = BenchmarkFixtures.midGameEngine(CardEffects.RESOLVER);
+        card = CardRegistry.getCard(cardId);
+        midGame.getBoard().seat(Seat.SECOND).getHand().add(card);
+        start = midGame.getBoard().snapshot();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetBoard() {
+        engine = new RulesEngine(start.toBoard(), CardEffects.RESOLVER, GameListener.NONE, RulesEngine.BASE_POWER);
+        engine.setRandom(new Random(7));
+    }
+
+    @Benchmark
+    public GameRules.PlayCheck playAbilityCard() {
+        return engine.playCard(Seat.SECOND, card, FalkyeGameSession.CardRow.MELEE);
+    }
+}
@@ -0,0 +1,58 @@
+package com.bmfalkye.benchmark;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.game.core.ComboSystem;
+import com.bmfalkye.game.core.RulesEngine;
+import com.bmfalkye.game.core.Seat;
+import com.bmfalkye.game.core.SeatState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проверка комбо после розыгрыша карты.
+ *
+ * <p>Все комбо первого места заранее отмечены собранными (как во второй половине раунда):
+ * замеряется проверка, которая идёт при каждом розыгрыше, без изменения доски.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComboBenchmark {
+    private static final String[] COMBO_IDS = {"legendary", "epic", "spell", "creature", "power"};
+
+    private RulesEngine engine;
+    private Card playedCard;
+
+    @Setup
+    public void setUp() {
+        engine = BenchmarkFixtures.midGameEngine();
+        SeatState seat = engine.getBoard().seat(Seat.FIRST);
+        for (Card card : BenchmarkFixtures.creatures()) {
+            seat.getCollectedCombos().add("faction_" + card.getFaction());
+        }
+        for (String comboId : COMBO_IDS) {
+            seat.getCollectedCombos().add(comboId);
+        }
+        playedCard = seat.getRow(FalkyeGameSession.CardRow.MELEE).get(0);
+    }
+
+    @Benchmark
+    public RulesEngine checkAndApplyCombos() {
+        ComboSystem.checkAndApplyCombos(engine, Seat.FIRST, playedCard);
+        return engine;
+    }
+}
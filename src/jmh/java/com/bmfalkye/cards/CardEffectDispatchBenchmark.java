@@ -0,0 +1,56 @@
+package com.bmfalkye.cards;
+
+import com.bmfalkye.benchmark.BenchmarkFixtures;
+import com.bmfalkye.game.core.CardEffects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Выбор эффекта карты: поиск в таблице {@link CardEffectTable} против сопоставления
+ * правил {@link CardEffects} (так эффект выбирался при каждом розыгрыше до таблицы)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardEffectDispatchBenchmark {
+    private Card[] cards;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.init();
+        List<Card> all = CardRegistry.getAllCards();
+        cards = all.toArray(new Card[0]);
+    }
+
+    private Card nextCard() {
+        Card card = cards[next];
+        next = next + 1 == cards.length ? 0 : next + 1;
+        return card;
+    }
+
+    @Benchmark
+    public void tableLookup(Blackhole blackhole) {
+        blackhole.consume(CardEffectTable.get(nextCard()));
+    }
+
+    @Benchmark
+    public void ruleMatching(Blackhole blackhole) {
+        blackhole.consume(CardEffects.resolveBuiltin(nextCard()));
+    }
+}
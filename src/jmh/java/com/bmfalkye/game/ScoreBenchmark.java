@@ -0,0 +1,94 @@
+package com.bmfalkye.game;
+
+import com.bmfalkye.benchmark.BenchmarkFixtures;
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.game.core.EffectResolver;
+import com.bmfalkye.game.core.GameListener;
+import com.bmfalkye.game.core.RulesEngine;
+import com.bmfalkye.game.core.Seat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Подсчёт очков раунда и эффективной силы карт на доске середины партии.
+ *
+ * <p>Доска собрана, как в {@link FalkyeGameSession}: ряды {@link FieldRow} помечают
+ * изменившиеся суммы в {@link RowScoreTracker}, а {@link CachedRowPower} пересчитывает
+ * только их.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreBenchmark {
+    private RowScoreTracker rowScores;
+    private RulesEngine cached;
+    private RulesEngine uncached;
+    private FalkyeGameSession.CardRow changedRow;
+    private List<Card> fieldCards;
+
+    @Setup
+    public void setUp() {
+        BattlefieldIndex fieldIndex = new BattlefieldIndex();
+        rowScores = new RowScoreTracker();
+        cached = new RulesEngine(
+            BenchmarkFixtures.midGameBoard((seat, lane) ->
+                new FieldRow(fieldIndex, rowScores, seat.getSide(), FalkyeGameSession.CardRow.values()[lane])),
+            EffectResolver.NONE, GameListener.NONE, new CachedRowPower(rowScores, RulesEngine.BASE_POWER));
+        cached.recalculateScores();
+        fieldCards = cached.getFieldCards(Seat.FIRST);
+        changedRow = cached.findRow(Seat.FIRST, fieldCards.get(0));
+        uncached = BenchmarkFixtures.midGameEngine();
+    }
+
+    /** Пересчёт без изменений на доске: все суммы рядов берутся из кэша */
+    @Benchmark
+    public int recalculateRoundScoreClean() {
+        cached.recalculateScores();
+        return cached.getBoard().seat(Seat.FIRST).getRoundScore();
+    }
+
+    /** Пересчёт после изменения силы одной карты: пересчитывается один ряд */
+    @Benchmark
+    public int recalculateRoundScoreAfterCardChange() {
+        rowScores.markDirty(Seat.FIRST.getSide(), changedRow);
+        cached.recalculateScores();
+        return cached.getBoard().seat(Seat.FIRST).getRoundScore();
+    }
+
+    /** Полный пересчёт всех рядов (массовые изменения баффов) */
+    @Benchmark
+    public int recalculateRoundScoreFull() {
+        rowScores.markAllDirty();
+        cached.recalculateScores();
+        return cached.getBoard().seat(Seat.FIRST).getRoundScore();
+    }
+
+    @Benchmark
+    public void getEffectivePower(Blackhole blackhole) {
+        for (Card card : fieldCards) {
+            blackhole.consume(cached.getPower(Seat.FIRST, card));
+        }
+    }
+
+    /** Тот же подсчёт без кэша сумм рядов (симуляции AI) */
+    @Benchmark
+    public int rulesEngineRecalculateScores() {
+        uncached.recalculateScores();
+        return uncached.getBoard().seat(Seat.FIRST).getRoundScore();
+    }
+}
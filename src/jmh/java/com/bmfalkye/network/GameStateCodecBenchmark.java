@@ -0,0 +1,86 @@
+package com.bmfalkye.network;
+
+import com.bmfalkye.benchmark.BenchmarkFixtures;
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.game.ClientFalkyeGameSession;
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.game.LocationEffect;
+import com.bmfalkye.settings.GameModeSettings;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Кодирование и декодирование полного состояния партии для клиента
+ * (encodeFalkyeGameSessionForClient / decodeFalkyeGameSession через пакет обновления)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameStateCodecBenchmark {
+    private NetworkHandler.UpdateGameStatePacket packet;
+    private FriendlyByteBuf encodeBuffer;
+    private ByteBuf encoded;
+
+    @Setup
+    public void setUp() {
+        List<Card> creatures = BenchmarkFixtures.creatures();
+        List<String> ids = new ArrayList<>();
+        for (Card card : creatures) {
+            ids.add(card.getId());
+        }
+        Map<String, Integer> modifiers = new HashMap<>();
+        modifiers.put(ids.get(20), 2);
+        modifiers.put(ids.get(25), -1);
+        modifiers.put(ids.get(50), 3);
+
+        ClientFalkyeGameSession session = new ClientFalkyeGameSession(
+            new UUID(1L, 1L), new UUID(2L, 2L), 37, 29, 2, new UUID(1L, 1L),
+            ids.subList(0, 10), ids.subList(10, 18),
+            ids.subList(20, 24), ids.subList(24, 27), ids.subList(27, 29),
+            ids.subList(50, 54), ids.subList(54, 57), ids.subList(57, 59),
+            ids.subList(30, 37), ids.subList(60, 66),
+            FalkyeGameSession.WeatherType.FROST, "leader_fire_architect", "leader_fire_architect",
+            1, 0, false, true, false, 64, 0,
+            modifiers, ids.subList(10, 12), LocationEffect.LocationType.FOREST,
+            GameModeSettings.GameMode.MODE_2D);
+        packet = new NetworkHandler.UpdateGameStatePacket(42, 7, session);
+
+        encodeBuffer = new FriendlyByteBuf(Unpooled.buffer(4096));
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer(4096));
+        NetworkHandler.UpdateGameStatePacket.encode(packet, buffer);
+        encoded = buffer.copy();
+    }
+
+    @Benchmark
+    public int encode() {
+        encodeBuffer.clear();
+        NetworkHandler.UpdateGameStatePacket.encode(packet, encodeBuffer);
+        return encodeBuffer.writerIndex();
+    }
+
+    @Benchmark
+    public NetworkHandler.UpdateGameStatePacket decode() {
+        return NetworkHandler.UpdateGameStatePacket.decode(new FriendlyByteBuf(encoded.duplicate()));
+    }
+}
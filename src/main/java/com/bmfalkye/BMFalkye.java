@@ -8,12 +8,15 @@ import com.mojang.logging.LogUtils;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.RegisterCommandsEvent;
+import net.minecraftforge.event.server.ServerStartedEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.DistExecutor;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
+import net.minecraftforge.fml.event.lifecycle.FMLLoadCompleteEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import org.slf4j.Logger;
 
@@ -73,6 +76,7 @@ public class BMFalkye {
         ModLogger.info("Registered loot modifiers");
 
         modEventBus.addListener(this::commonSetup);
+        modEventBus.addListener(this::loadComplete);
         
         // Регистрируем clientSetup ТОЛЬКО на клиенте
         DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
@@ -92,6 +96,28 @@ public class BMFalkye {
         ModLogger.info("Commands registered successfully");
     }
 
+    @SubscribeEvent
+    public void onServerStarted(ServerStartedEvent event) {
+        // Архив реплеев мира: в памяти только индекс, ходы читаются с диска
+        com.bmfalkye.replay.ReplaySystem.openArchive(event.getServer());
+    }
+
+    @SubscribeEvent
+    public void onServerStopped(ServerStoppedEvent event) {
+        // Мир уже сохранён, но файлы мода пишутся в фоне - дожидаемся записи до выхода
+        com.bmfalkye.replay.ReplaySystem.closeArchive();
+        com.bmfalkye.storage.CurrencyLedger.closeAll();
+        if (!com.bmfalkye.storage.SavePipeline.awaitIdle(60, java.util.concurrent.TimeUnit.SECONDS)) {
+            ModLogger.warn("Save pipeline did not finish writing before shutdown");
+        }
+        ModLogger.info("Save pipeline stats: {}", com.bmfalkye.storage.SavePipeline.getStats());
+        
+        // Данные игроков и индексы относятся к остановленному миру
+        com.bmfalkye.storage.PlayerDataCache.clear();
+        com.bmfalkye.storage.ShardedSavedData.clearAttached();
+        com.bmfalkye.storage.PlayerIndex.clearActive();
+    }
+
     private void commonSetup(final FMLCommonSetupEvent event) {
         ModLogger.info("=== Common Setup Started ===");
         LOGGER.info("BM Falkye mod loading...");
@@ -147,6 +173,14 @@ public class BMFalkye {
         ModLogger.info("=== Common Setup Completed ===");
     }
 
+    private void loadComplete(final FMLLoadCompleteEvent event) {
+        // Все карты (включая карты аддонов) зарегистрированы - назначаем плотные числовые ID
+        event.enqueueWork(() -> {
+            com.bmfalkye.cards.CardRegistry.freeze();
+            com.bmfalkye.cards.LeaderRegistry.freeze();
+        });
+    }
+
     private void clientSetup(final FMLClientSetupEvent event) {
         // Инициализируем JEI интеграцию на клиенте
         event.enqueueWork(() -> {
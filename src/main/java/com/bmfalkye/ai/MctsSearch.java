@@ -0,0 +1,246 @@
+package com.bmfalkye.ai;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.CardDeck;
+import com.bmfalkye.game.core.GameBoard;
+import com.bmfalkye.game.core.GameRules;
+import com.bmfalkye.game.core.RulesEngine;
+import com.bmfalkye.game.core.Seat;
+import com.bmfalkye.game.core.SeatState;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Поиск хода методом Монте-Карло по дереву (MCTS) для AI игрока.
+ *
+ * <p>Скрытая информация учитывается детерминизацией: на каждой итерации карты противника,
+ * которых AI не видит (рука и колода), перемешиваются и раздаются заново, порядок
+ * собственной колоды тоже случаен. Все итерации растят одно общее дерево, узлы которого
+ * различаются по ходу (ID карты и ряд или пас) - так статистика копится по ходам,
+ * а не по конкретной раздаче.
+ *
+ * <p>Работает только с безголовым {@link RulesEngine} и не трогает живую сессию,
+ * поэтому может выполняться в рабочем потоке.
+ */
+public class MctsSearch {
+    // Коэффициент исследования в формуле UCB1
+    private static final double EXPLORATION = 0.7;
+    // Защита от бесконечного доигрывания
+    private static final int MAX_PLAYOUT_MOVES = 300;
+
+    private final Random random;
+
+    public MctsSearch(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Результат поиска
+     */
+    public static final class Result {
+        /** Лучший ход или null, если у места нет ходов */
+        public final RulesEngine.Move move;
+        public final int iterations;
+        /** Доля побед лучшего хода в симуляциях (0..1) */
+        public final double winRate;
+
+        Result(RulesEngine.Move move, int iterations, double winRate) {
+            this.move = move;
+            this.iterations = iterations;
+            this.winRate = winRate;
+        }
+    }
+
+    /**
+     * Ищет ход для места, которое сейчас ходит
+     *
+     * @param root партия с точки зрения AI (не меняется, ветвится через {@link RulesEngine#fork()})
+     * @param seat место AI
+     * @param budgetMs бюджет времени в миллисекундах
+     * @param maxIterations ограничение числа итераций (0 - без ограничения)
+     */
+    public Result search(RulesEngine root, Seat seat, long budgetMs, int maxIterations) {
+        List<RulesEngine.Move> rootMoves = root.getLegalMoves(seat);
+        if (rootMoves.isEmpty()) {
+            return new Result(null, 0, 0.0);
+        }
+        if (rootMoves.size() == 1) {
+            return new Result(rootMoves.get(0), 0, 0.0);
+        }
+
+        Node rootNode = new Node(null, null, null);
+        long deadline = System.nanoTime() + budgetMs * 1_000_000L;
+        int iterations = 0;
+        while ((maxIterations <= 0 || iterations < maxIterations) && System.nanoTime() < deadline) {
+            iterate(determinize(root, seat), rootNode);
+            iterations++;
+        }
+
+        // Выбираем самый посещаемый ход: он устойчивее к шуму симуляций, чем лучший по доле побед
+        Node best = null;
+        for (Node child : rootNode.children.values()) {
+            if (best == null || child.visits > best.visits) {
+                best = child;
+            }
+        }
+        if (best == null) {
+            return new Result(rootMoves.get(0), iterations, 0.0);
+        }
+        // Ход из дерева относится к одной из раздач - возвращаем соответствующий ход корня
+        RulesEngine.Move move = rootMoves.get(0);
+        for (RulesEngine.Move candidate : rootMoves) {
+            if (moveKey(candidate).equals(best.key)) {
+                move = candidate;
+                break;
+            }
+        }
+        return new Result(move, iterations, best.wins / best.visits);
+    }
+
+    /**
+     * Одна итерация: спуск по дереву, расширение, случайное доигрывание и обратное распространение
+     */
+    private void iterate(RulesEngine game, Node rootNode) {
+        GameBoard board = game.getBoard();
+        Node node = rootNode;
+
+        while (!board.isGameEnded()) {
+            Seat mover = board.getCurrentSeat();
+            List<RulesEngine.Move> moves = game.getLegalMoves(mover);
+            if (moves.isEmpty()) {
+                break;
+            }
+
+            List<RulesEngine.Move> untried = new ArrayList<>();
+            for (RulesEngine.Move move : moves) {
+                String key = moveKey(move);
+                Node child = node.children.get(key);
+                if (child == null) {
+                    untried.add(move);
+                } else {
+                    // Ход был доступен в этой раздаче - учитываем для UCB
+                    child.availability++;
+                }
+            }
+
+            if (!untried.isEmpty()) {
+                RulesEngine.Move move = untried.get(random.nextInt(untried.size()));
+                Node child = new Node(node, moveKey(move), mover);
+                child.availability++;
+                node.children.put(child.key, child);
+                game.apply(move);
+                node = child;
+                break;
+            }
+
+            Node selected = null;
+            RulesEngine.Move selectedMove = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (RulesEngine.Move move : moves) {
+                Node child = node.children.get(moveKey(move));
+                double value = child.wins / child.visits
+                    + EXPLORATION * Math.sqrt(Math.log(child.availability) / child.visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    selected = child;
+                    selectedMove = move;
+                }
+            }
+            game.apply(selectedMove);
+            node = selected;
+        }
+
+        playout(game);
+
+        Seat winner = board.isGameEnded() ? GameRules.getMatchWinner(board) : leaderByScore(board);
+        for (Node current = node; current != null; current = current.parent) {
+            current.visits++;
+            if (current.mover != null) {
+                current.wins += winner == null ? 0.5 : (winner == current.mover ? 1.0 : 0.0);
+            }
+        }
+    }
+
+    /**
+     * Случайное доигрывание до конца партии
+     */
+    private void playout(RulesEngine game) {
+        GameBoard board = game.getBoard();
+        for (int i = 0; i < MAX_PLAYOUT_MOVES && !board.isGameEnded(); i++) {
+            List<RulesEngine.Move> moves = game.getLegalMoves(board.getCurrentSeat());
+            if (moves.isEmpty()) {
+                return;
+            }
+            game.apply(moves.get(random.nextInt(moves.size())));
+        }
+    }
+
+    /**
+     * Копия партии со случайной раздачей скрытых карт
+     */
+    RulesEngine determinize(RulesEngine root, Seat seat) {
+        RulesEngine game = root.fork();
+        // Для доигрываний откат не нужен
+        game.setRecordHistory(false);
+        GameBoard board = game.getBoard();
+
+        SeatState opponent = board.seat(seat.opponent());
+        List<Card> unseen = new ArrayList<>(opponent.getHand());
+        CardDeck opponentDeck = opponent.getDeck();
+        if (opponentDeck != null) {
+            unseen.addAll(opponentDeck.getCards());
+        }
+        Collections.shuffle(unseen, random);
+        int handSize = opponent.getHand().size();
+        opponent.getHand().clear();
+        opponent.getHand().addAll(unseen.subList(0, handSize));
+        if (opponentDeck != null) {
+            opponentDeck.restore(unseen.subList(handSize, unseen.size()), opponentDeck.getDiscardPile());
+        }
+
+        CardDeck ownDeck = board.seat(seat).getDeck();
+        if (ownDeck != null) {
+            List<Card> cards = ownDeck.getCards();
+            Collections.shuffle(cards, random);
+            ownDeck.restore(cards, ownDeck.getDiscardPile());
+        }
+        return game;
+    }
+
+    private static Seat leaderByScore(GameBoard board) {
+        int first = board.seat(Seat.FIRST).getRoundsWon();
+        int second = board.seat(Seat.SECOND).getRoundsWon();
+        if (first == second) {
+            return null;
+        }
+        return first > second ? Seat.FIRST : Seat.SECOND;
+    }
+
+    static String moveKey(RulesEngine.Move move) {
+        return move.isPass() ? "pass" : move.card.getId() + "#" + move.row.ordinal();
+    }
+
+    /**
+     * Узел дерева: ход, который к нему привёл, и статистика с точки зрения сделавшего ход места
+     */
+    private static final class Node {
+        final Node parent;
+        final String key;
+        final Seat mover;
+        final Map<String, Node> children = new HashMap<>();
+        int visits;
+        int availability;
+        double wins;
+
+        Node(Node parent, String key, Seat mover) {
+            this.parent = parent;
+            this.key = key;
+            this.mover = mover;
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package com.bmfalkye.analytics;
 
+import com.bmfalkye.storage.AsyncSavedData;
 import com.bmfalkye.util.ModLogger;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -12,7 +12,7 @@ import java.util.*;
 /**
  * Хранилище аналитики игры
  */
-public class AnalyticsStorage extends SavedData {
+public class AnalyticsStorage extends AsyncSavedData {
     // Win Rate карт: cardId -> (wins, losses)
     private final Map<String, CardStats> cardStats = new HashMap<>();
     
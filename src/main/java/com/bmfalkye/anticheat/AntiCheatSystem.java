@@ -23,7 +23,8 @@ public class AntiCheatSystem {
         OUT_OF_TURN_ACTION,     // Действие не в свой ход
         DUPLICATE_ACTION,       // Дублирование действия
         SUSPICIOUS_PATTERN,     // Подозрительный паттерн действий
-        INVALID_STATE_ACCESS    // Доступ к невалидному состоянию
+        INVALID_STATE_ACCESS,   // Доступ к невалидному состоянию
+        PACKET_FLOOD            // Поток пакетов сверх лимита (см. PacketRateLimiter)
     }
     
     /**
@@ -246,6 +247,19 @@ public class AntiCheatSystem {
         }
     }
     
+    /**
+     * Записывает превышение лимита пакетов. Пакеты уже отброшены в сетевом потоке
+     * ({@link com.bmfalkye.network.PacketRateLimiter}); сюда приходит одно нарушение
+     * на всплеск с числом отброшенных пакетов.
+     */
+    public static void recordPacketFlood(UUID playerUUID, int droppedPackets) {
+        ViolationSeverity severity = determineSeverity(getViolationCount(playerUUID));
+        ModLogger.warn("Packet flood detected",
+            "playerUUID", playerUUID.toString(),
+            "droppedPackets", droppedPackets);
+        recordViolation(playerUUID, ViolationType.PACKET_FLOOD, severity);
+    }
+    
     /**
      * Получает количество нарушений игрока
      */
@@ -4,7 +4,8 @@ import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Реестр способностей карт
+ * Реестр способностей карт.
+ * Способность вызывается живой сессией перед встроенным эффектом карты из {@link com.bmfalkye.cards.CardEffectTable}.
  */
 public class AbilityRegistry {
     private static final Map<String, Ability> cardAbilities = new HashMap<>();
@@ -14,6 +15,10 @@ public class AbilityRegistry {
      */
     public static void registerCardAbility(String cardId, Ability ability) {
         cardAbilities.put(cardId, ability);
+        if (com.bmfalkye.cards.CardRegistry.isFrozen()) {
+            // Таблица эффектов уже собрана - перепривязываем карту
+            com.bmfalkye.cards.CardEffectTable.rebind(cardId);
+        }
     }
     
     /**
@@ -1,5 +1,7 @@
 package com.bmfalkye.campaign;
 
+import com.bmfalkye.player.PlayerProgress;
+import com.bmfalkye.storage.PlayerProgressStorage;
 import net.minecraft.server.level.ServerPlayer;
 import java.util.*;
 
@@ -10,11 +12,56 @@ public class CampaignSystem {
     // UUID игрока -> Прогресс кампании
     private static final Map<UUID, CampaignProgress> playerProgress = new HashMap<>();
     
+    // Ключи статистики прогресса игрока
+    private static final String CHAPTER_KEY = "campaign_chapter";
+    private static final String MISSION_PREFIX = "campaign_mission:";
+    
     /**
      * Получает прогресс кампании игрока
      */
     public static CampaignProgress getProgress(ServerPlayer player) {
-        return playerProgress.computeIfAbsent(player.getUUID(), k -> new CampaignProgress());
+        return playerProgress.computeIfAbsent(player.getUUID(), k -> loadProgress(player));
+    }
+    
+    private static CampaignProgress loadProgress(ServerPlayer player) {
+        PlayerProgressStorage storage = PlayerProgressStorage.get((net.minecraft.server.level.ServerLevel) player.level());
+        Map<String, Integer> stats = storage.getPlayerProgress(player).getStatistics();
+        CampaignProgress progress = new CampaignProgress();
+        int chapter = stats.getOrDefault(CHAPTER_KEY, 1);
+        while (progress.getCurrentChapter() < chapter) {
+            progress.unlockNextChapter();
+        }
+        for (String key : stats.keySet()) {
+            if (key.startsWith(MISSION_PREFIX)) {
+                progress.completeMission(key.substring(MISSION_PREFIX.length()));
+            }
+        }
+        return progress;
+    }
+    
+    /**
+     * Переносит прогресс кампании в прогресс игрока (перед выгрузкой из памяти)
+     */
+    public static void savePlayer(ServerPlayer player) {
+        CampaignProgress campaign = playerProgress.get(player.getUUID());
+        if (campaign == null) {
+            return;
+        }
+        PlayerProgressStorage storage = PlayerProgressStorage.get((net.minecraft.server.level.ServerLevel) player.level());
+        PlayerProgress progress = storage.getPlayerProgress(player);
+        Map<String, Integer> stats = progress.getStatistics();
+        stats.put(CHAPTER_KEY, campaign.getCurrentChapter());
+        for (String missionId : campaign.getCompletedMissions()) {
+            stats.put(MISSION_PREFIX + missionId, 1);
+        }
+        storage.setPlayerProgress(player, progress);
+    }
+    
+    /**
+     * Выгружает прогресс кампании игрока из памяти
+     */
+    public static void evictPlayer(UUID playerUUID) {
+        playerProgress.remove(playerUUID);
     }
     
     /**
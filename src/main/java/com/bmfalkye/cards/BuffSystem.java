@@ -18,16 +18,16 @@ public class BuffSystem {
         }
         
         UUID playerId = targetPlayer.getUUID();
-        String cardId = card.getId();
         
         // Получаем или создаём карту баффов для игрока
-        Map<String, List<CardBuff>> playerBuffs = session.getCardBuffs().computeIfAbsent(playerId, k -> new HashMap<>());
-        List<CardBuff> cardBuffs = playerBuffs.computeIfAbsent(cardId, k -> new ArrayList<>());
+        CardIdMap<List<CardBuff>> playerBuffs = session.getCardBuffs().computeIfAbsent(playerId, k -> new CardIdMap<>());
+        List<CardBuff> cardBuffs = playerBuffs.computeIfAbsent(card, ArrayList::new);
         
         // Проверяем, нет ли уже такого баффа
         boolean alreadyExists = cardBuffs.stream().anyMatch(b -> b.getId().equals(buff.getId()));
         if (!alreadyExists) {
             cardBuffs.add(buff);
+            session.onCardPowerChanged(targetPlayer, card);
         }
     }
     
@@ -40,13 +40,12 @@ public class BuffSystem {
         }
         
         UUID playerId = targetPlayer.getUUID();
-        String cardId = card.getId();
         
-        Map<String, List<CardBuff>> playerBuffs = session.getCardBuffs().get(playerId);
+        CardIdMap<List<CardBuff>> playerBuffs = session.getCardBuffs().get(playerId);
         if (playerBuffs != null) {
-            List<CardBuff> cardBuffs = playerBuffs.get(cardId);
-            if (cardBuffs != null) {
-                cardBuffs.removeIf(b -> b.getId().equals(buffId));
+            List<CardBuff> cardBuffs = playerBuffs.get(card);
+            if (cardBuffs != null && cardBuffs.removeIf(b -> b.getId().equals(buffId))) {
+                session.onCardPowerChanged(targetPlayer, card);
             }
         }
     }
@@ -55,22 +54,19 @@ public class BuffSystem {
      * Получает все баффы карты
      */
     public static List<CardBuff> getCardBuffs(FalkyeGameSession session, ServerPlayer targetPlayer, Card card) {
+        List<CardBuff> cardBuffs = findCardBuffs(session, targetPlayer, card);
+        return cardBuffs != null ? new ArrayList<>(cardBuffs) : Collections.emptyList();
+    }
+    
+    /**
+     * Живой список баффов карты или null (без копирования - для подсчёта силы)
+     */
+    private static List<CardBuff> findCardBuffs(FalkyeGameSession session, ServerPlayer targetPlayer, Card card) {
         if (session == null || targetPlayer == null || card == null) {
-            return Collections.emptyList();
+            return null;
         }
-        
-        UUID playerId = targetPlayer.getUUID();
-        String cardId = card.getId();
-        
-        Map<String, List<CardBuff>> playerBuffs = session.getCardBuffs().get(playerId);
-        if (playerBuffs != null) {
-            List<CardBuff> cardBuffs = playerBuffs.get(cardId);
-            if (cardBuffs != null) {
-                return new ArrayList<>(cardBuffs);
-            }
-        }
-        
-        return Collections.emptyList();
+        CardIdMap<List<CardBuff>> playerBuffs = session.getCardBuffs().get(targetPlayer.getUUID());
+        return playerBuffs != null ? playerBuffs.get(card) : null;
     }
     
     /**
@@ -78,7 +74,10 @@ public class BuffSystem {
      */
     public static int calculateEffectivePower(FalkyeGameSession session, ServerPlayer targetPlayer, Card card) {
         int basePower = card.getPower();
-        List<CardBuff> buffs = getCardBuffs(session, targetPlayer, card);
+        List<CardBuff> buffs = findCardBuffs(session, targetPlayer, card);
+        if (buffs == null) {
+            return Math.max(0, basePower);
+        }
         
         for (CardBuff buff : buffs) {
             if (buff.getType() == CardBuff.BuffType.FROZEN) {
@@ -99,13 +98,13 @@ public class BuffSystem {
         }
         
         // Обновляем баффы для всех игроков
-        for (Map.Entry<UUID, Map<String, List<CardBuff>>> playerEntry : session.getCardBuffs().entrySet()) {
-            for (Map.Entry<String, List<CardBuff>> cardEntry : playerEntry.getValue().entrySet()) {
-                List<CardBuff> buffs = cardEntry.getValue();
+        for (CardIdMap<List<CardBuff>> playerBuffs : session.getCardBuffs().values()) {
+            playerBuffs.forEachValue(buffs -> {
                 buffs.forEach(CardBuff::decreaseDuration);
                 buffs.removeIf(CardBuff::isExpired);
-            }
+            });
         }
+        session.invalidateRowScores();
     }
     
     /**
@@ -117,6 +116,7 @@ public class BuffSystem {
         }
         
         session.getCardBuffs().remove(player.getUUID());
+        session.invalidateRowScores();
     }
 }
 
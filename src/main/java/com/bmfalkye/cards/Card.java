@@ -27,6 +27,7 @@ public class Card {
     private final String faction; // Фракция карты (например, "Дом Пламени", "Дозорные Руин", "Дети Рощения")
     private final CardRarity rarity;
     private final int cost; // Стоимость крафта
+    private int numericId = CardDictionary.UNKNOWN; // Плотный числовой ID, назначается CardRegistry.freeze()
 
     public Card(String id, String name, CardType type, int power, String description, String faction, CardRarity rarity, int cost) {
         this.id = id;
@@ -53,6 +54,19 @@ public class Card {
         return id;
     }
 
+    /**
+     * Получает плотный числовой идентификатор карты, назначенный при заморозке реестра.
+     * 
+     * @return числовой ID или {@link CardDictionary#UNKNOWN}, если карта не зарегистрирована
+     */
+    public int getNumericId() {
+        return numericId;
+    }
+    
+    void setNumericId(int numericId) {
+        this.numericId = numericId;
+    }
+
     /**
      * Получает имя карты.
      * 
@@ -136,7 +136,22 @@ public class CardDeck {
     public List<Card> getCards() {
         return new ArrayList<>(cards);
     }
-    
+
+    public List<Card> getDiscardPile() {
+        return new ArrayList<>(discardPile);
+    }
+
+    /**
+     * Заменяет содержимое колоды и сброса без перемешивания
+     * (используется при откате симуляции к снимку партии)
+     */
+    public void restore(List<Card> cards, List<Card> discardPile) {
+        this.cards.clear();
+        this.cards.addAll(cards);
+        this.discardPile.clear();
+        this.discardPile.addAll(discardPile);
+    }
+
     public void fillWithRandomCards(int count) {
         // Добавляем случайные карты из реестра (без дубликатов)
         List<Card> allCards = CardRegistry.getAllCards();
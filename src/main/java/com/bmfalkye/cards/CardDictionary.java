@@ -0,0 +1,120 @@
+package com.bmfalkye.cards;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Неизменяемый словарь «строковый ID -> плотный числовой ID».
+ *
+ * <p>Числовые ID начинаются с 1 (0 зарезервирован под «нет в словаре») и назначаются
+ * в алфавитном порядке строковых ID при заморозке реестра, поэтому одинаковый набор карт
+ * на сервере и клиенте даёт одинаковую нумерацию. Хэш содержимого позволяет клиенту
+ * проверить, совпадает ли его реестр с серверным.
+ */
+public final class CardDictionary {
+    /** Числовой ID для строк, отсутствующих в словаре */
+    public static final int UNKNOWN = 0;
+
+    private final String[] ids; // ids[0] не используется
+    private final Map<String, Integer> index;
+    private final long contentHash;
+
+    private CardDictionary(List<String> orderedIds) {
+        this.ids = new String[orderedIds.size() + 1];
+        this.index = new HashMap<>(orderedIds.size() * 2);
+        for (int i = 0; i < orderedIds.size(); i++) {
+            ids[i + 1] = orderedIds.get(i);
+            index.put(orderedIds.get(i), i + 1);
+        }
+        this.contentHash = computeHash(orderedIds);
+    }
+
+    /**
+     * Создаёт словарь из набора ID (сортируются для стабильной нумерации)
+     */
+    public static CardDictionary of(Collection<String> ids) {
+        List<String> sorted = new ArrayList<>(ids);
+        Collections.sort(sorted);
+        return new CardDictionary(sorted);
+    }
+
+    /**
+     * Создаёт словарь с уже заданным порядком (полученный от сервера)
+     */
+    public static CardDictionary ordered(List<String> orderedIds) {
+        return new CardDictionary(new ArrayList<>(orderedIds));
+    }
+
+    /**
+     * Возвращает новый словарь с добавленным в конец ID (для регистрации после заморозки).
+     * Существующие числовые ID не меняются.
+     */
+    public CardDictionary withAppended(String id) {
+        if (index.containsKey(id)) {
+            return this;
+        }
+        List<String> ordered = getOrderedIds();
+        ordered.add(id);
+        return new CardDictionary(ordered);
+    }
+
+    public int getNumericId(String id) {
+        if (id == null) {
+            return UNKNOWN;
+        }
+        Integer numericId = index.get(id);
+        return numericId != null ? numericId : UNKNOWN;
+    }
+
+    /**
+     * @return строковый ID или null, если числовой ID вне словаря
+     */
+    public String getId(int numericId) {
+        return numericId > 0 && numericId < ids.length ? ids[numericId] : null;
+    }
+
+    public int size() {
+        return ids.length - 1;
+    }
+
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * @return ID в порядке числовых ID (начиная с 1)
+     */
+    public List<String> getOrderedIds() {
+        List<String> result = new ArrayList<>(ids.length - 1);
+        for (int i = 1; i < ids.length; i++) {
+            result.add(ids[i]);
+        }
+        return result;
+    }
+
+    private static long computeHash(List<String> orderedIds) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String id : orderedIds) {
+                digest.update(id.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            byte[] bytes = digest.digest();
+            long hash = 0;
+            for (int i = 0; i < 8; i++) {
+                hash = (hash << 8) | (bytes[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 есть в любой JVM, но на всякий случай используем hashCode списка
+            return orderedIds.hashCode();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.bmfalkye.cards;
+
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.game.core.CardEffects;
+import com.bmfalkye.game.core.RulesEngine;
+import com.bmfalkye.game.core.Seat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Таблица обработчиков эффектов карт, индексированная плотным числовым ID карты.
+ *
+ * <p>Собирается при заморозке {@link CardRegistry}: для каждой карты один раз определяется
+ * встроенный эффект ({@link CardEffects#resolveBuiltin}). При розыгрыше карты выбор эффекта -
+ * одно обращение к массиву, без сравнения ID и поиска подстрок в описании. Способность из
+ * {@link com.bmfalkye.api.AbilityRegistry} работает с игроками и вызывается живой сессией
+ * перед эффектом из таблицы, поэтому в симуляциях движка не срабатывает.
+ *
+ * <p>Карты, для которых не нашлось ни встроенного эффекта, ни способности API,
+ * перечисляются в отчёте при запуске и доступны через {@link #getUnboundCardIds()}.
+ */
+public final class CardEffectTable {
+
+    /**
+     * Обработчик эффекта карты
+     */
+    @FunctionalInterface
+    public interface EffectHandler {
+        void apply(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row);
+    }
+
+    /** Карта без эффекта */
+    public static final EffectHandler NO_EFFECT = (engine, seat, card, row) -> { };
+
+    // Обработчики по числовому ID (индекс 0 не используется), публикуются целиком
+    private static volatile EffectHandler[] handlers = new EffectHandler[0];
+    private static volatile List<String> unboundCardIds = Collections.emptyList();
+
+    private CardEffectTable() {
+    }
+
+    /**
+     * Обработчик эффекта карты. До заморозки реестра и для карт вне реестра
+     * обработчик собирается на месте.
+     */
+    public static EffectHandler get(Card card) {
+        EffectHandler[] table = handlers;
+        int numericId = card.getNumericId();
+        if (numericId > 0 && numericId < table.length) {
+            EffectHandler handler = table[numericId];
+            if (handler != null) {
+                return handler;
+            }
+        }
+        return compile(card);
+    }
+
+    /**
+     * Пересобирает таблицу по текущему словарю реестра.
+     * Вызывается при заморозке реестра и при регистрации карт после неё.
+     *
+     * @param report вывести в лог отчёт о картах без обработчика
+     */
+    static void rebuild(boolean report) {
+        CardDictionary dictionary = CardRegistry.getDictionary();
+        if (dictionary == null) {
+            return;
+        }
+        EffectHandler[] table = new EffectHandler[dictionary.size() + 1];
+        List<String> unbound = new ArrayList<>();
+        for (int numericId = 1; numericId <= dictionary.size(); numericId++) {
+            Card card = CardRegistry.getCard(numericId);
+            if (card == null) {
+                continue;
+            }
+            table[numericId] = compile(card, unbound);
+        }
+        handlers = table;
+        unboundCardIds = Collections.unmodifiableList(unbound);
+
+        if (report) {
+            com.bmfalkye.util.ModLogger.info("Card effect table built: {} cards, {} without effect handler",
+                dictionary.size(), unbound.size());
+            if (!unbound.isEmpty()) {
+                com.bmfalkye.util.ModLogger.warn("Cards without effect handler: {}", String.join(", ", unbound));
+            }
+        }
+    }
+
+    /**
+     * Пересобирает обработчик одной карты (например, после регистрации способности API)
+     */
+    public static void rebind(String cardId) {
+        int numericId = CardRegistry.getNumericId(cardId);
+        Card card = CardRegistry.getCard(numericId);
+        EffectHandler[] table = handlers;
+        if (card == null || numericId >= table.length) {
+            return;
+        }
+        List<String> unbound = new ArrayList<>(unboundCardIds);
+        unbound.remove(cardId);
+        EffectHandler[] updated = table.clone();
+        updated[numericId] = compile(card, unbound);
+        handlers = updated;
+        unboundCardIds = Collections.unmodifiableList(unbound);
+    }
+
+    /**
+     * ID карт, для которых при сборке таблицы не нашлось обработчика
+     */
+    public static List<String> getUnboundCardIds() {
+        return unboundCardIds;
+    }
+
+    private static EffectHandler compile(Card card) {
+        return compile(card, null);
+    }
+
+    private static EffectHandler compile(Card card, List<String> unbound) {
+        EffectHandler builtin = CardEffects.resolveBuiltin(card);
+        if (builtin == null) {
+            // Карта со способностью API не считается непривязанной
+            if (unbound != null && com.bmfalkye.api.AbilityRegistry.getCardAbility(card.getId()) == null) {
+                unbound.add(card.getId());
+            }
+            builtin = CardEffects.fallback(card);
+        }
+        return builtin;
+    }
+}
@@ -0,0 +1,135 @@
+package com.bmfalkye.cards;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Таблица «карта -> значение», индексированная плотным числовым ID карты.
+ *
+ * <p>Как и {@link CardIntMap}: карты замороженного {@link CardRegistry} адресуются индексом массива,
+ * карты вне словаря - запасной картой по строковому ID.
+ *
+ * @param <V> тип значения
+ */
+public final class CardIdMap<V> {
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] values = EMPTY; // values[0] не используется
+    private int count; // непустых ячеек в values
+    private Map<String, V> unregistered; // создаётся при первой карте вне словаря
+
+    private static int slot(Card card) {
+        int numericId = card.getNumericId();
+        return numericId != CardDictionary.UNKNOWN ? numericId : CardRegistry.getNumericId(card.getId());
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(Card card) {
+        if (card == null) {
+            return null;
+        }
+        int slot = slot(card);
+        if (slot != CardDictionary.UNKNOWN) {
+            return slot < values.length ? (V) values[slot] : null;
+        }
+        return unregistered != null ? unregistered.get(card.getId()) : null;
+    }
+
+    /**
+     * Значение карты; если его нет - создаёт и сохраняет новое
+     */
+    public V computeIfAbsent(Card card, Supplier<V> factory) {
+        V value = get(card);
+        if (value == null) {
+            value = factory.get();
+            put(card, value);
+        }
+        return value;
+    }
+
+    public void put(Card card, V value) {
+        int slot = slot(card);
+        if (slot == CardDictionary.UNKNOWN) {
+            if (value != null) {
+                if (unregistered == null) {
+                    unregistered = new HashMap<>();
+                }
+                unregistered.put(card.getId(), value);
+            } else if (unregistered != null) {
+                unregistered.remove(card.getId());
+            }
+            return;
+        }
+        if (slot >= values.length) {
+            if (value == null) {
+                return;
+            }
+            CardDictionary dictionary = CardRegistry.getDictionary();
+            int size = Math.max(slot + 1, dictionary != null ? dictionary.size() + 1 : 0);
+            values = Arrays.copyOf(values, size);
+        }
+        Object previous = values[slot];
+        values[slot] = value;
+        if (previous == null && value != null) {
+            count++;
+        } else if (previous != null && value == null) {
+            count--;
+        }
+    }
+
+    public void remove(Card card) {
+        if (card != null) {
+            put(card, null);
+        }
+    }
+
+    public boolean isEmpty() {
+        return count == 0 && (unregistered == null || unregistered.isEmpty());
+    }
+
+    public void clear() {
+        if (count > 0) {
+            Arrays.fill(values, null);
+            count = 0;
+        }
+        if (unregistered != null) {
+            unregistered.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<V> action) {
+        if (count > 0) {
+            for (Object value : values) {
+                if (value != null) {
+                    action.accept((V) value);
+                }
+            }
+        }
+        if (unregistered != null) {
+            unregistered.values().forEach(action);
+        }
+    }
+
+    /**
+     * Удаляет записи, значения которых подходят под условие
+     */
+    @SuppressWarnings("unchecked")
+    public void removeValuesIf(Predicate<V> filter) {
+        if (count > 0) {
+            for (int slot = 1; slot < values.length; slot++) {
+                if (values[slot] != null && filter.test((V) values[slot])) {
+                    values[slot] = null;
+                    count--;
+                }
+            }
+        }
+        if (unregistered != null) {
+            unregistered.values().removeIf(filter);
+        }
+    }
+}
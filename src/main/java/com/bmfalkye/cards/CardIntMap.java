@@ -0,0 +1,191 @@
+package com.bmfalkye.cards;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Таблица «карта -> целое число» (модификаторы силы), индексированная плотным числовым ID карты.
+ *
+ * <p>Для карт из замороженного {@link CardRegistry} чтение и запись - обращение к массиву по
+ * {@link Card#getNumericId()}, без хэширования строк. Карты вне словаря (тестовые, аддонов до
+ * заморозки) хранятся в запасной карте по строковому ID. Нулевое значение равносильно отсутствию записи.
+ */
+public final class CardIntMap {
+    private static final int[] EMPTY = new int[0];
+
+    private int[] values = EMPTY; // values[0] не используется
+    private int count; // ненулевых ячеек в values
+    private Map<String, Integer> unregistered; // создаётся при первой карте вне словаря
+
+    public CardIntMap() {
+    }
+
+    private CardIntMap(CardIntMap source) {
+        setAll(source);
+    }
+
+    private static int slot(Card card) {
+        int numericId = card.getNumericId();
+        return numericId != CardDictionary.UNKNOWN ? numericId : CardRegistry.getNumericId(card.getId());
+    }
+
+    public int get(Card card) {
+        if (card == null) {
+            return 0;
+        }
+        int slot = slot(card);
+        if (slot != CardDictionary.UNKNOWN) {
+            return slot < values.length ? values[slot] : 0;
+        }
+        return unregistered != null ? unregistered.getOrDefault(card.getId(), 0) : 0;
+    }
+
+    public int get(String cardId) {
+        int slot = CardRegistry.getNumericId(cardId);
+        if (slot != CardDictionary.UNKNOWN) {
+            return slot < values.length ? values[slot] : 0;
+        }
+        return unregistered != null && cardId != null ? unregistered.getOrDefault(cardId, 0) : 0;
+    }
+
+    public void add(Card card, int delta) {
+        if (card != null) {
+            int slot = slot(card);
+            if (slot != CardDictionary.UNKNOWN) {
+                putSlot(slot, (slot < values.length ? values[slot] : 0) + delta);
+            } else {
+                putUnregistered(card.getId(), get(card) + delta);
+            }
+        }
+    }
+
+    public void add(String cardId, int delta) {
+        put(cardId, get(cardId) + delta);
+    }
+
+    public void put(Card card, int value) {
+        if (card != null) {
+            int slot = slot(card);
+            if (slot != CardDictionary.UNKNOWN) {
+                putSlot(slot, value);
+            } else {
+                putUnregistered(card.getId(), value);
+            }
+        }
+    }
+
+    public void put(String cardId, int value) {
+        if (cardId == null) {
+            return;
+        }
+        int slot = CardRegistry.getNumericId(cardId);
+        if (slot != CardDictionary.UNKNOWN) {
+            putSlot(slot, value);
+        } else {
+            putUnregistered(cardId, value);
+        }
+    }
+
+    public void remove(Card card) {
+        put(card, 0);
+    }
+
+    public void remove(String cardId) {
+        put(cardId, 0);
+    }
+
+    private void putSlot(int slot, int value) {
+        if (slot >= values.length) {
+            if (value == 0) {
+                return;
+            }
+            // Размер по текущему словарю: карты, зарегистрированные после заморозки, расширяют массив
+            CardDictionary dictionary = CardRegistry.getDictionary();
+            int size = Math.max(slot + 1, dictionary != null ? dictionary.size() + 1 : 0);
+            values = Arrays.copyOf(values, size);
+        }
+        int previous = values[slot];
+        values[slot] = value;
+        if (previous == 0 && value != 0) {
+            count++;
+        } else if (previous != 0 && value == 0) {
+            count--;
+        }
+    }
+
+    private void putUnregistered(String cardId, int value) {
+        if (value != 0) {
+            if (unregistered == null) {
+                unregistered = new HashMap<>();
+            }
+            unregistered.put(cardId, value);
+        } else if (unregistered != null) {
+            unregistered.remove(cardId);
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return число карт с ненулевым значением
+     */
+    public int size() {
+        return count + (unregistered != null ? unregistered.size() : 0);
+    }
+
+    public void clear() {
+        if (count > 0) {
+            Arrays.fill(values, 0);
+            count = 0;
+        }
+        if (unregistered != null) {
+            unregistered.clear();
+        }
+    }
+
+    /**
+     * Заменяет содержимое копией другой таблицы (копируется массив, без обхода записей)
+     */
+    public void setAll(CardIntMap source) {
+        values = source.count > 0 ? source.values.clone() : EMPTY;
+        count = source.count;
+        unregistered = source.unregistered != null && !source.unregistered.isEmpty()
+            ? new HashMap<>(source.unregistered) : null;
+    }
+
+    public CardIntMap copy() {
+        return new CardIntMap(this);
+    }
+
+    /**
+     * Обходит ненулевые записи по строковому ID карты (для пакетов и отладки)
+     */
+    public void forEach(ObjIntConsumer<String> action) {
+        if (count > 0) {
+            CardDictionary dictionary = CardRegistry.getDictionary();
+            for (int slot = 1; slot < values.length; slot++) {
+                if (values[slot] != 0) {
+                    action.accept(dictionary.getId(slot), values[slot]);
+                }
+            }
+        }
+        if (unregistered != null) {
+            for (Map.Entry<String, Integer> entry : unregistered.entrySet()) {
+                action.accept(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * @return копия содержимого с ключом - строковым ID карты
+     */
+    public Map<String, Integer> toMap() {
+        Map<String, Integer> result = new HashMap<>();
+        forEach(result::put);
+        return result;
+    }
+}
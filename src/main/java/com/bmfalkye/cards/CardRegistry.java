@@ -7,15 +7,81 @@ import java.util.Map;
 
 public class CardRegistry {
     private static final Map<String, Card> CARDS = new HashMap<>();
+    // Плотные числовые ID, назначаются при заморозке реестра (см. freeze())
+    private static volatile CardDictionary dictionary = null;
+    private static volatile Card[] cardsByNumericId = new Card[0];
 
     public static void registerCard(Card card) {
         CARDS.put(card.getId(), card);
+        if (dictionary != null) {
+            // Регистрация после заморозки: добавляем в конец, не меняя существующие ID
+            com.bmfalkye.util.ModLogger.warn("Card {} registered after registry freeze", card.getId());
+            dictionary = dictionary.withAppended(card.getId());
+            rebuildNumericIndex();
+            CardEffectTable.rebuild(false);
+        }
     }
 
     public static Card getCard(String id) {
         return CARDS.get(id);
     }
     
+    /**
+     * Получает карту по плотному числовому ID (индекс массива, без хэширования строк)
+     */
+    public static Card getCard(int numericId) {
+        Card[] cards = cardsByNumericId;
+        return numericId > 0 && numericId < cards.length ? cards[numericId] : null;
+    }
+    
+    /**
+     * Замораживает реестр: назначает картам плотные числовые ID.
+     * Вызывается один раз после регистрации всех карт (включая карты аддонов).
+     */
+    public static void freeze() {
+        if (dictionary != null) {
+            return;
+        }
+        dictionary = CardDictionary.of(CARDS.keySet());
+        rebuildNumericIndex();
+        com.bmfalkye.util.ModLogger.info("Card registry frozen: {} cards, hash {}", 
+            dictionary.size(), Long.toHexString(dictionary.getContentHash()));
+        // Эффекты карт разрешаются один раз, с отчётом о картах без обработчика
+        CardEffectTable.rebuild(true);
+    }
+    
+    public static boolean isFrozen() {
+        return dictionary != null;
+    }
+    
+    /**
+     * @return словарь числовых ID или null, если реестр ещё не заморожен
+     */
+    public static CardDictionary getDictionary() {
+        return dictionary;
+    }
+    
+    /**
+     * @return числовой ID карты или {@link CardDictionary#UNKNOWN}
+     */
+    public static int getNumericId(String id) {
+        CardDictionary dict = dictionary;
+        return dict != null ? dict.getNumericId(id) : CardDictionary.UNKNOWN;
+    }
+    
+    private static void rebuildNumericIndex() {
+        CardDictionary dict = dictionary;
+        Card[] cards = new Card[dict.size() + 1];
+        for (int i = 1; i <= dict.size(); i++) {
+            Card card = CARDS.get(dict.getId(i));
+            if (card != null) {
+                card.setNumericId(i);
+            }
+            cards[i] = card;
+        }
+        cardsByNumericId = cards;
+    }
+    
     public static int getTotalCardCount() {
         return CARDS.size();
     }
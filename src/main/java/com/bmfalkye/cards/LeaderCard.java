@@ -1,7 +1,7 @@
 package com.bmfalkye.cards;
 
-import com.bmfalkye.game.FalkyeGameSession;
-import net.minecraft.server.level.ServerPlayer;
+import com.bmfalkye.game.core.RulesEngine;
+import com.bmfalkye.game.core.Seat;
 
 /**
  * Карта лидера - особая карта с уникальной способностью
@@ -22,10 +22,13 @@ public class LeaderCard {
         this.ability = ability;
     }
 
-    public void use(FalkyeGameSession session, ServerPlayer player) {
+    /**
+     * Применяет способность лидера за место через движок партии
+     */
+    public void use(RulesEngine engine, Seat seat) {
         if (used) return;
         
-        ability.execute(session, player);
+        ability.execute(engine, seat);
         used = true;
     }
 
@@ -43,9 +46,12 @@ public class LeaderCard {
     public String getDescription() { return description; }
     public String getAbility() { return description; } // Возвращаем описание как способность
 
+    /**
+     * Способность лидера: меняет партию только через методы {@link RulesEngine}
+     */
     @FunctionalInterface
     public interface LeaderAbility {
-        void execute(FalkyeGameSession session, ServerPlayer player);
+        void execute(RulesEngine engine, Seat seat);
     }
 }
 
@@ -1,7 +1,5 @@
 package com.bmfalkye.cards;
 
-import net.minecraft.server.level.ServerPlayer;
-
 import java.util.HashMap;
 import java.util.Map;
 
@@ -10,6 +8,8 @@ import java.util.Map;
  */
 public class LeaderRegistry {
     private static final Map<String, LeaderCard> LEADERS = new HashMap<>();
+    // Плотные числовые ID лидеров, назначаются при заморозке реестра
+    private static volatile CardDictionary dictionary = null;
 
     public static void initializeLeaders() {
         // Лидер Дома Пламени - Архитектор Реальности
@@ -18,30 +18,10 @@ public class LeaderRegistry {
             "Архитектор Реальности",
             "Дом Пламени",
             "Уничтожает самую сильную карту противника",
-            (session, player) -> {
-                ServerPlayer opponent = session.getOpponent(player);
-                Card strongest = null;
-                
-                if (opponent == null && session.isPlayingWithVillager()) {
-                    // Для villager ищем самую сильную карту
-                    strongest = session.findStrongestCard(null);
-                } else if (opponent != null) {
-                    strongest = session.findStrongestCard(opponent);
-                }
-                
+            (engine, seat) -> {
+                Card strongest = engine.findStrongest(seat.opponent());
                 if (strongest != null) {
-                    if (opponent == null && session.isPlayingWithVillager()) {
-                        session.removeCardFromField(null, strongest);
-                    } else if (opponent != null) {
-                        session.removeCardFromField(opponent, strongest);
-                    }
-                    if (player != null) {
-                        player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
-                            "§cАрхитектор Реальности уничтожил карту противника: " + strongest.getName()));
-                    }
-                } else if (player != null) {
-                    player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
-                        "§7У противника нет карт на поле"));
+                    engine.destroy(seat.opponent(), strongest);
                 }
             }
         ));
@@ -52,21 +32,13 @@ public class LeaderRegistry {
             "Картограф Непознанного",
             "Дозорные Руин",
             "Возвращает случайную карту из сброса в руку",
-            (session, player) -> {
-                // Получаем сброс игрока
-                java.util.List<Card> graveyard = session.getGraveyard(player);
+            (engine, seat) -> {
+                // Получаем сброс места
+                java.util.List<Card> graveyard = engine.getBoard().seat(seat).getGraveyard();
                 if (!graveyard.isEmpty()) {
                     // Возвращаем случайную карту
-                    Card card = graveyard.get(new java.util.Random().nextInt(graveyard.size()));
-                    graveyard.remove(card);
-                    session.getHand(player).add(card);
-                    if (player != null) {
-                        player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
-                            "§bКартограф Непознанного вернул карту: " + card.getName()));
-                    }
-                } else if (player != null) {
-                    player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
-                        "§7В сбросе нет карт"));
+                    Card card = graveyard.remove(engine.getRandom().nextInt(graveyard.size()));
+                    engine.getBoard().seat(seat).getHand().add(card);
                 }
             }
         ));
@@ -77,29 +49,10 @@ public class LeaderRegistry {
             "Дирижёр Мировой Души",
             "Дети Рощения",
             "Усиливает все карты на поле на 2",
-            (session, player) -> {
-                // Усиливаем все карты игрока
-                java.util.List<Card> melee = session.getMeleeRow(player);
-                java.util.List<Card> ranged = session.getRangedRow(player);
-                java.util.List<Card> siege = session.getSiegeRow(player);
-                
-                for (Card card : melee) {
-                    // ВАЖНО: Передаем игрока, чтобы модификатор применялся только к его картам
-                    session.addPowerModifier(card, 2, player);
-                }
-                for (Card card : ranged) {
-                    // ВАЖНО: Передаем игрока, чтобы модификатор применялся только к его картам
-                    session.addPowerModifier(card, 2, player);
-                }
-                for (Card card : siege) {
-                    // ВАЖНО: Передаем игрока, чтобы модификатор применялся только к его картам
-                    session.addPowerModifier(card, 2, player);
-                }
-                
-                session.recalculateRoundScore();
-                if (player != null) {
-                    player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
-                        "§aДирижёр Мировой Души усилил все ваши карты на 2!"));
+            (engine, seat) -> {
+                // Усиливаем только карты этого места
+                for (Card card : engine.getFieldCards(seat)) {
+                    engine.addPowerModifier(seat, card, 2);
                 }
             }
         ));
@@ -107,6 +60,34 @@ public class LeaderRegistry {
 
     public static void registerLeader(LeaderCard leader) {
         LEADERS.put(leader.getId(), leader);
+        if (dictionary != null) {
+            com.bmfalkye.util.ModLogger.warn("Leader {} registered after registry freeze", leader.getId());
+            dictionary = dictionary.withAppended(leader.getId());
+        }
+    }
+    
+    /**
+     * Замораживает реестр лидеров и назначает им плотные числовые ID
+     */
+    public static void freeze() {
+        if (dictionary == null) {
+            dictionary = CardDictionary.of(LEADERS.keySet());
+        }
+    }
+    
+    /**
+     * @return словарь числовых ID лидеров или null, если реестр ещё не заморожен
+     */
+    public static CardDictionary getDictionary() {
+        return dictionary;
+    }
+    
+    /**
+     * Получает лидера по плотному числовому ID
+     */
+    public static LeaderCard getLeader(int numericId) {
+        CardDictionary dict = dictionary;
+        return dict != null ? LEADERS.get(dict.getId(numericId)) : null;
     }
     
     /**
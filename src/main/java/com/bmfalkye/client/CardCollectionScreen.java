@@ -7,7 +7,6 @@ import com.bmfalkye.client.gui.GuiUtils;
 import com.bmfalkye.client.gui.AdaptiveLayout;
 import com.bmfalkye.client.gui.CardTextures;
 import com.bmfalkye.client.gui.SimpleCardRenderer;
-import com.bmfalkye.network.NetworkHandler;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Button;
 import net.minecraft.client.gui.components.EditBox;
@@ -37,6 +36,9 @@ public class CardCollectionScreen extends Screen {
     private int GUI_HEIGHT;
     
     private List<Card> playerCards; // Карты из коллекции игрока
+    // Коллекция загружается с сервера постранично (10 рядов по 6 карт)
+    private final PagedListLoader<String> collectionLoader =
+        new PagedListLoader<>(com.bmfalkye.network.PagedListType.CARD_COLLECTION, 60);
     private List<Card> filteredCards;
     private int scrollOffset = 0;
     private String searchQuery = "";
@@ -68,8 +70,8 @@ public class CardCollectionScreen extends Screen {
     }
     
     private void loadPlayerCollection() {
-        // Всегда запрашиваем актуальную коллекцию с сервера при открытии экрана
-        NetworkHandler.INSTANCE.sendToServer(new NetworkHandler.RequestCardCollectionPacket());
+        // Всегда запрашиваем актуальную коллекцию с сервера при открытии экрана (первую страницу)
+        collectionLoader.start();
         
         // Инициализируем пустые списки по умолчанию
         this.playerCards = new ArrayList<>();
@@ -86,13 +88,31 @@ public class CardCollectionScreen extends Screen {
      * Обновляет коллекцию карт (вызывается при получении данных с сервера)
      */
     public void updateCollection(List<String> cardIds) {
+        // Полный список заменяет загруженные страницы
+        collectionLoader.replaceAll(cardIds);
+        setPlayerCards(cardIds);
+        updateFilters();
+    }
+    
+    /**
+     * Добавляет страницу коллекции, полученную с сервера (позиция прокрутки сохраняется)
+     */
+    public void onPage(com.bmfalkye.network.PagePackets.PagePacket page) {
+        if (collectionLoader.accept(page)) {
+            int savedScrollOffset = scrollOffset;
+            setPlayerCards(collectionLoader.getItems());
+            updateFilters();
+            scrollOffset = savedScrollOffset;
+        }
+    }
+    
+    private void setPlayerCards(List<String> cardIds) {
         // Убираем дубликаты карт по ID, чтобы предотвратить отображение одинаковых карт несколько раз
-        java.util.Set<String> uniqueCardIds = new java.util.HashSet<>(cardIds);
+        java.util.Set<String> uniqueCardIds = new java.util.LinkedHashSet<>(cardIds);
         this.playerCards = uniqueCardIds.stream()
             .map(CardRegistry::getCard)
             .filter(java.util.Objects::nonNull)
             .collect(Collectors.toList());
-        updateFilters();
     }
 
     @Override
@@ -165,7 +185,7 @@ public class CardCollectionScreen extends Screen {
         Button refreshBtn = createStyledButton(layout.getX(70), layout.getY(91), layout.getWidth(17), layout.getHeight(6), 
             Component.translatable("button.bm_falkye.refresh"), 
             (btn) -> {
-                NetworkHandler.INSTANCE.sendToServer(new NetworkHandler.RequestCardCollectionPacket());
+                collectionLoader.start();
             });
         this.addRenderableWidget(refreshBtn);
         buttons.add(refreshBtn);
@@ -303,7 +323,7 @@ public class CardCollectionScreen extends Screen {
         // Информация о коллекции с улучшенным стилем
         // Используем playerCards.size() для отображения общего количества карт в коллекции
         // (не фильтрованного, чтобы показывать реальное количество)
-        int cardCount = playerCards != null ? playerCards.size() : 0;
+        int cardCount = Math.max(collectionLoader.getTotal(), playerCards != null ? playerCards.size() : 0);
         int infoY = layout.getY(38);
         Component countText = Component.translatable("screen.bm_falkye.collection_count", cardCount);
         
@@ -342,6 +362,10 @@ public class CardCollectionScreen extends Screen {
         // АГРЕССИВНАЯ ОПТИМИЗАЦИЯ: Рендерим только видимые карты с дополнительной проверкой
         int visibleStart = scrollOffset;
         int visibleEnd = Math.min(visibleStart + maxVisibleCards + 2, filteredCards.size()); // +2 для буфера
+        // Подгружаем следующую страницу коллекции, когда до конца отфильтрованного списка меньше экрана
+        if (visibleEnd + maxVisibleCards >= filteredCards.size()) {
+            collectionLoader.loadMore();
+        }
         
         for (int i = visibleStart; i < visibleEnd; i++) {
             Card card = filteredCards.get(i);
@@ -44,9 +44,17 @@ public class ClientPacketHandler {
     }
     
     public static void handleUpdateFalkyeGameState(com.bmfalkye.game.ClientFalkyeGameSession session) {
+        handleUpdateFalkyeGameState(session, true);
+    }
+    
+    /**
+     * @param playEffects проигрывать ли эффекты по разнице с показанным состоянием
+     *                    (false при откате предсказанного хода)
+     */
+    public static void handleUpdateFalkyeGameState(com.bmfalkye.game.ClientFalkyeGameSession session, boolean playEffects) {
         Minecraft.getInstance().execute(() -> {
             if (Minecraft.getInstance().screen instanceof FalkyeGameScreen gameScreen) {
-                gameScreen.updateGameState(session);
+                gameScreen.updateGameState(session, playEffects);
             }
         });
     }
@@ -211,6 +219,22 @@ public class ClientPacketHandler {
         });
     }
     
+    /**
+     * Страница списка: передаётся открытому экрану, который загружает этот список
+     */
+    public static void handlePage(com.bmfalkye.network.PagePackets.PagePacket page) {
+        Minecraft.getInstance().execute(() -> {
+            net.minecraft.client.gui.screens.Screen screen = Minecraft.getInstance().screen;
+            if (screen instanceof com.bmfalkye.client.CardCollectionScreen collectionScreen) {
+                collectionScreen.onPage(page);
+            } else if (screen instanceof com.bmfalkye.client.HallOfFameScreen hallOfFameScreen) {
+                hallOfFameScreen.onPage(page);
+            } else if (screen instanceof com.bmfalkye.client.ReplayScreen replayScreen) {
+                replayScreen.onPage(page);
+            }
+        });
+    }
+    
     public static void handleEmote(java.util.UUID senderUUID, String emoteId) {
         Minecraft.getInstance().execute(() -> {
             // Отображаем эмоцию в игре
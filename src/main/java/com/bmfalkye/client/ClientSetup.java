@@ -47,6 +47,14 @@ public class ClientSetup {
         });
     }
     
+    /**
+     * Сбрасывает нумерацию карт сервера при выходе с сервера
+     */
+    @SubscribeEvent
+    public static void onLoggingOut(net.minecraftforge.client.event.ClientPlayerNetworkEvent.LoggingOut event) {
+        com.bmfalkye.network.CardIdCodec.clearRemoteDictionaries();
+    }
+    
     /**
      * Добавляет кнопки справа от инвентаря
      * Кнопки: Админ-Панель (только для админов), Фальки (главное меню)
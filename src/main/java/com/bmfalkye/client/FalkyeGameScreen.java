@@ -302,7 +302,11 @@ public class FalkyeGameScreen extends Screen {
                 if (isMyTurn) {
                     // Воспроизводим звук паса
                     com.bmfalkye.client.sounds.SoundEffectManager.playPassSound();
-                    NetworkHandler.INSTANCE.sendToServer(new NetworkHandler.PassPacket());
+                    ClientFalkyeGameSession predicted = com.bmfalkye.client.network.ClientPrediction.getInstance()
+                        .pass(session);
+                    if (predicted != null) {
+                        updateGameState(predicted);
+                    }
             }
             }
         );
@@ -640,16 +644,12 @@ public class FalkyeGameScreen extends Screen {
             return; // Не наш ход
         }
         
-        int rowIndex = switch (row) {
-            case MELEE -> 0;
-            case RANGED -> 1;
-            case SIEGE -> 2;
-        };
-        
-        // Отправляем пакет на сервер
-        NetworkHandler.INSTANCE.sendToServer(
-            new NetworkHandler.PlayCardPacket(card.getId(), rowIndex)
-        );
+        // Отправляем ход на сервер; простой ход показываем сразу, не дожидаясь ответа
+        ClientFalkyeGameSession predicted = com.bmfalkye.client.network.ClientPrediction.getInstance()
+            .playCard(session, card, row);
+        if (predicted != null) {
+            updateGameState(predicted);
+        }
         
         // Сбрасываем выбор карты сразу после отправки пакета
         selectedCard = null;
@@ -682,6 +682,24 @@ public class FalkyeGameScreen extends Screen {
         com.bmfalkye.client.sounds.SoundEffectManager.playCardPlaySound(card);
     }
     
+    /**
+     * Добавляет в лог событие от сервера, локализованное с точки зрения этого игрока
+     */
+    public void addActionLog(com.bmfalkye.network.ActionLogEventPacket event) {
+        addActionLog(ActionLogRenderer.format(event, getViewerSeat(),
+            session != null && session.isPlayingWithVillager()));
+    }
+    
+    /**
+     * Место локального игрока за столом
+     */
+    private com.bmfalkye.game.core.Seat getViewerSeat() {
+        UUID viewerUUID = net.minecraft.client.Minecraft.getInstance().player != null ?
+            net.minecraft.client.Minecraft.getInstance().player.getUUID() : null;
+        boolean first = session == null || viewerUUID == null || viewerUUID.equals(session.getPlayer1UUID());
+        return first ? com.bmfalkye.game.core.Seat.FIRST : com.bmfalkye.game.core.Seat.SECOND;
+    }
+    
     public void addActionLog(String action) {
         actionLog.add(action);
         if (actionLog.size() > MAX_LOG_ENTRIES) {
@@ -1809,8 +1827,19 @@ public class FalkyeGameScreen extends Screen {
     }
 
     public void updateGameState(ClientFalkyeGameSession newSession) {
+        updateGameState(newSession, true);
+    }
+    
+    /**
+     * Обновляет состояние игры
+     * 
+     * @param playEffects проигрывать ли анимации и эффекты по разнице с текущим состоянием.
+     *                    При откате предсказанного хода ({@link com.bmfalkye.client.network.ClientPrediction})
+     *                    разница - это отменённый ход, и анимировать её не нужно
+     */
+    public void updateGameState(ClientFalkyeGameSession newSession, boolean playEffects) {
         // Обновляем лог действий при изменении состояния
-        if (this.session != null && newSession != null) {
+        if (playEffects && this.session != null && newSession != null) {
             UUID currentPlayerUUID = net.minecraft.client.Minecraft.getInstance().player != null ? 
                 net.minecraft.client.Minecraft.getInstance().player.getUUID() : null;
             
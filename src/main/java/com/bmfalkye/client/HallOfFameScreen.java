@@ -2,7 +2,8 @@ package com.bmfalkye.client;
 
 import com.bmfalkye.client.gui.AdaptiveLayout;
 import com.bmfalkye.client.gui.GuiUtils;
-import com.bmfalkye.network.NetworkHandler;
+import com.bmfalkye.network.PagePackets;
+import com.bmfalkye.network.PagedListType;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Button;
 import net.minecraft.client.gui.screens.Screen;
@@ -36,6 +37,11 @@ public class HallOfFameScreen extends Screen {
     
     private List<HallOfFameEntry> hallOfFame = new ArrayList<>();
     private List<LeaderboardEntry> weeklyLeaderboard = new ArrayList<>();
+    // Списки загружаются постранично по мере прокрутки
+    private final PagedListLoader<HallOfFameEntry> hallOfFameLoader =
+        new PagedListLoader<>(PagedListType.HALL_OF_FAME, 20);
+    private final PagedListLoader<LeaderboardEntry> weeklyLoader =
+        new PagedListLoader<>(PagedListType.WEEKLY_LEADERBOARD, 20);
     
     private Tab currentTab = Tab.HALL_OF_FAME;
     
@@ -52,7 +58,23 @@ public class HallOfFameScreen extends Screen {
     }
     
     private void requestData() {
-        NetworkHandler.INSTANCE.sendToServer(new NetworkHandler.RequestLeaderboardPacket());
+        hallOfFameLoader.start();
+        weeklyLoader.start();
+    }
+    
+    /**
+     * Обрабатывает страницу Зала Славы или еженедельного рейтинга
+     */
+    public void onPage(PagePackets.PagePacket page) {
+        if (hallOfFameLoader.accept(page)) {
+            this.hallOfFame = new ArrayList<>(hallOfFameLoader.getItems());
+        } else if (weeklyLoader.accept(page)) {
+            this.weeklyLeaderboard = new ArrayList<>(weeklyLoader.getItems());
+        } else {
+            return;
+        }
+        List<?> current = currentTab == Tab.HALL_OF_FAME ? hallOfFame : weeklyLeaderboard;
+        this.contentHeight = current.size() * (ENTRY_HEIGHT + ENTRY_SPACING);
     }
     
     public void updateHallOfFame(List<HallOfFameEntry> entries) {
@@ -238,6 +260,7 @@ public class HallOfFameScreen extends Screen {
         int visibleEntries = (layout.getGuiHeight() - layout.getY(12) - layout.getHeight(10) - 25) / (ENTRY_HEIGHT + ENTRY_SPACING);
         int startIndex = scrollOffset / (ENTRY_HEIGHT + ENTRY_SPACING);
         int endIndex = Math.min(startIndex + visibleEntries + 1, hallOfFame.size());
+        hallOfFameLoader.ensureLoaded(startIndex + visibleEntries);
         
         for (int i = startIndex; i < endIndex; i++) {
             if (i >= hallOfFame.size()) break;
@@ -290,6 +313,7 @@ public class HallOfFameScreen extends Screen {
         int visibleEntries = (layout.getGuiHeight() - layout.getY(12) - layout.getHeight(10) - 25) / (ENTRY_HEIGHT + ENTRY_SPACING);
         int startIndex = scrollOffset / (ENTRY_HEIGHT + ENTRY_SPACING);
         int endIndex = Math.min(startIndex + visibleEntries + 1, weeklyLeaderboard.size());
+        weeklyLoader.ensureLoaded(startIndex + visibleEntries);
         
         for (int i = startIndex; i < endIndex; i++) {
             if (i >= weeklyLeaderboard.size()) break;
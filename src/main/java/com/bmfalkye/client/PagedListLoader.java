@@ -0,0 +1,126 @@
+package com.bmfalkye.client;
+
+import com.bmfalkye.network.NetworkHandler;
+import com.bmfalkye.network.PagePackets;
+import com.bmfalkye.network.PagedListType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ленивая постраничная загрузка списка с сервера для экрана.
+ *
+ * <p>Экран вызывает {@link #start()} при открытии и {@link #ensureLoaded(int)} при прокрутке:
+ * следующая страница запрашивается, когда до конца загруженной части остаётся меньше
+ * половины страницы. Одновременно в пути не больше одного запроса.
+ *
+ * @param <T> тип элемента списка
+ */
+public class PagedListLoader<T> {
+    private final PagedListType type;
+    private final int pageSize;
+    private final List<T> items = new ArrayList<>();
+    // Курсор сервера (0 - ещё не открыт)
+    private int cursor = 0;
+    private int total = -1;
+    private boolean loading = false;
+
+    public PagedListLoader(PagedListType type, int pageSize) {
+        this.type = type;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Начинает загрузку заново (новый снимок списка на сервере)
+     */
+    public void start() {
+        items.clear();
+        cursor = 0;
+        total = -1;
+        request(0);
+    }
+
+    /**
+     * Подгружает следующую страницу, если элемент с указанным индексом близок к концу загруженного
+     */
+    public void ensureLoaded(int index) {
+        if (index + pageSize / 2 >= items.size()) {
+            loadMore();
+        }
+    }
+
+    /**
+     * Запрашивает следующую страницу, если она есть и запрос ещё не отправлен
+     */
+    public void loadMore() {
+        if (!loading && hasMore()) {
+            request(items.size());
+        }
+    }
+
+    private void request(int offset) {
+        loading = true;
+        NetworkHandler.INSTANCE.sendToServer(new PagePackets.RequestPagePacket(type, cursor, offset, pageSize));
+    }
+
+    /**
+     * Принимает страницу от сервера
+     *
+     * @return true, если страница относится к этому списку и добавлена
+     */
+    @SuppressWarnings("unchecked")
+    public boolean accept(PagePackets.PagePacket page) {
+        if (page.getType() != type) {
+            return false;
+        }
+        if (page.getCursor() != cursor) {
+            if (page.getOffset() != 0) {
+                // Страница устаревшего курсора
+                return false;
+            }
+            // Сервер открыл новый курсор (первый запрос или истёкший курсор)
+            items.clear();
+            cursor = page.getCursor();
+        }
+        loading = false;
+        if (page.getOffset() != items.size()) {
+            return false;
+        }
+        for (Object item : page.getItems()) {
+            items.add((T) item);
+        }
+        total = page.getTotal();
+        return true;
+    }
+
+    /**
+     * Заменяет содержимое полным списком (пришедшим не постранично)
+     */
+    public void replaceAll(List<T> all) {
+        items.clear();
+        items.addAll(all);
+        total = all.size();
+        cursor = 0;
+        loading = false;
+    }
+
+    public boolean hasMore() {
+        return total < 0 || items.size() < total;
+    }
+
+    public boolean isLoading() {
+        return loading;
+    }
+
+    public List<T> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * Размер всего списка на сервере (-1, пока первая страница не получена)
+     */
+    public int getTotal() {
+        return total;
+    }
+}
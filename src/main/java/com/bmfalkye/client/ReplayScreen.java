@@ -3,6 +3,8 @@ package com.bmfalkye.client;
 import com.bmfalkye.client.gui.AdaptiveLayout;
 import com.bmfalkye.client.gui.GuiUtils;
 import com.bmfalkye.network.NetworkHandler;
+import com.bmfalkye.network.PagePackets;
+import com.bmfalkye.network.PagedListType;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Button;
 import net.minecraft.client.gui.screens.Screen;
@@ -33,18 +35,34 @@ public class ReplayScreen extends Screen {
     private AdaptiveLayout layout;
     private int scrollOffset = 0;
     
-    private static class ReplayInfo {
-        String replayId;
-        String player1Name;
-        String player2Name;
-        String winnerName;
-        int roundsWon1;
-        int roundsWon2;
-        long timestamp;
+    public static class ReplayInfo {
+        public String replayId;
+        public String player1Name;
+        public String player2Name;
+        public String winnerName;
+        public int roundsWon1;
+        public int roundsWon2;
+        public long timestamp;
+        
+        public ReplayInfo() {
+        }
+        
+        public ReplayInfo(String replayId, String player1Name, String player2Name, String winnerName,
+                          int roundsWon1, int roundsWon2, long timestamp) {
+            this.replayId = replayId;
+            this.player1Name = player1Name;
+            this.player2Name = player2Name;
+            this.winnerName = winnerName;
+            this.roundsWon1 = roundsWon1;
+            this.roundsWon2 = roundsWon2;
+            this.timestamp = timestamp;
+        }
     }
     
     private List<ReplayInfo> replays = new ArrayList<>();
     private boolean dataLoaded = false;
+    // Реплеи загружаются постранично по мере прокрутки
+    private final PagedListLoader<ReplayInfo> replayLoader = new PagedListLoader<>(PagedListType.REPLAYS, 20);
     private final Screen parentScreen;
     
     private static final int REPLAY_CARD_HEIGHT = 95;
@@ -68,8 +86,8 @@ public class ReplayScreen extends Screen {
                                          MAX_SCREEN_RATIO, MIN_GUI_WIDTH, MIN_GUI_HEIGHT);
         
         // Запрашиваем данные с сервера
-        if (!dataLoaded) {
-            NetworkHandler.INSTANCE.sendToServer(new NetworkHandler.RequestReplaysPacket());
+        if (!dataLoaded && !replayLoader.isLoading()) {
+            replayLoader.start();
         }
         
         // Кнопка "Назад"
@@ -96,7 +114,8 @@ public class ReplayScreen extends Screen {
             (btn) -> {
                 com.bmfalkye.client.sounds.SoundEffectManager.playButtonClickSound();
                 dataLoaded = false;
-                NetworkHandler.INSTANCE.sendToServer(new NetworkHandler.RequestReplaysPacket());
+                scrollOffset = 0;
+                replayLoader.start();
             }
         );
         this.addRenderableWidget(refreshButton);
@@ -116,6 +135,7 @@ public class ReplayScreen extends Screen {
             info.timestamp = data.readLong();
             replays.add(info);
         }
+        replayLoader.replaceAll(replays);
         dataLoaded = true;
         scrollOffset = 0;
         if (this.minecraft != null && this.minecraft.screen == this) {
@@ -123,6 +143,17 @@ public class ReplayScreen extends Screen {
         }
     }
     
+    /**
+     * Обрабатывает очередную страницу списка реплеев
+     */
+    public void onPage(PagePackets.PagePacket page) {
+        if (!replayLoader.accept(page)) {
+            return;
+        }
+        replays = new ArrayList<>(replayLoader.getItems());
+        dataLoaded = true;
+    }
+    
     @Override
     public void render(GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTick) {
         if (layout == null || layout.needsRecalculation()) {
@@ -227,6 +258,7 @@ public class ReplayScreen extends Screen {
         int visibleCount = height / (REPLAY_CARD_HEIGHT + REPLAY_CARD_SPACING);
         int startIndex = scrollOffset / (REPLAY_CARD_HEIGHT + REPLAY_CARD_SPACING);
         int endIndex = Math.min(startIndex + visibleCount + 1, replays.size());
+        replayLoader.ensureLoaded(startIndex + visibleCount);
         
         int replayY = y - (scrollOffset % (REPLAY_CARD_HEIGHT + REPLAY_CARD_SPACING));
         
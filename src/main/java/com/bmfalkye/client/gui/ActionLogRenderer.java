@@ -1,7 +1,14 @@
 package com.bmfalkye.client.gui;
 
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.CardRegistry;
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.game.core.Seat;
+import com.bmfalkye.network.ActionLogCode;
+import com.bmfalkye.network.ActionLogEventPacket;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.resources.language.I18n;
 import net.minecraft.network.chat.Component;
 
 import java.util.List;
@@ -17,6 +24,8 @@ import java.util.List;
  * </ul>
  * 
  * <p>Лог поддерживает автоматическую прокрутку и перенос строк для длинных сообщений.
+ * События от сервера ({@link ActionLogEventPacket}) переводятся в текст на языке клиента
+ * методом {@link #format}.
  * 
  * @author BeforeMine Team
  * @since 1.0
@@ -109,6 +118,49 @@ public class ActionLogRenderer {
         guiGraphics.disableScissor();
     }
     
+    /**
+     * Собирает текст события лога на языке клиента.
+     * 
+     * @param event событие от сервера
+     * @param viewerSeat место локального игрока
+     * @param villagerOpponent противник - житель (для действий противника есть отдельная формулировка)
+     * @return строка для лога действий
+     */
+    public static String format(ActionLogEventPacket event, Seat viewerSeat, boolean villagerOpponent) {
+        ActionLogCode code = event.getCode();
+        String key = code.getTranslationKey();
+        if (code.getPerspective() == ActionLogCode.Perspective.ACTOR) {
+            if (event.getSeat() == viewerSeat) {
+                key += ".self";
+            } else if (villagerOpponent && I18n.exists(key + ".villager")) {
+                key += ".villager";
+            } else {
+                key += ".opponent";
+            }
+        }
+        
+        Object[] args = new Object[code.getArgCount()];
+        for (int i = 0; i < args.length; i++) {
+            Object arg = event.getArg(i);
+            if (code.getArgType(i) == ActionLogCode.ArgType.CARD) {
+                Card card = CardRegistry.getCard((String) arg);
+                arg = card != null ? card.getName() : arg;
+            } else if (code.getArgType(i) == ActionLogCode.ArgType.ROW) {
+                arg = I18n.get("row.bm_falkye." + ((FalkyeGameSession.CardRow) arg).name().toLowerCase(java.util.Locale.ROOT));
+            }
+            args[i] = arg;
+        }
+        // Пары значений по местам: значение читателя показывается первым
+        if (code.getPerspective() == ActionLogCode.Perspective.SCORE_PAIRS && viewerSeat == Seat.SECOND) {
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                Object first = args[i];
+                args[i] = args[i + 1];
+                args[i + 1] = first;
+            }
+        }
+        return I18n.get(key, args);
+    }
+    
     /**
      * Обновляет время анимации
      */
@@ -0,0 +1,111 @@
+package com.bmfalkye.client.network;
+
+import com.bmfalkye.game.ClientFalkyeGameSession;
+import com.bmfalkye.network.GameStateDelta;
+import com.bmfalkye.network.GameStatePackets;
+import com.bmfalkye.network.NetworkHandler;
+import com.bmfalkye.util.ModLogger;
+
+import java.util.TreeMap;
+
+/**
+ * Клиентская часть дельта-синхронизации состояния игры.
+ * Хранит полученные снимки по номерам, применяет дельты к базовому снимку
+ * и подтверждает получение серверу. Перед показом состояние сервера сверяется
+ * с предсказанными ходами ({@link ClientPrediction}).
+ */
+public class ClientGameStateTracker {
+
+    private static final ClientGameStateTracker INSTANCE = new ClientGameStateTracker();
+
+    private final TreeMap<Integer, ClientFalkyeGameSession> history = new TreeMap<>();
+    // Ожидаем полный снимок после запроса - повторно не запрашиваем
+    private boolean awaitingFullState = false;
+    // Номер последнего применённого состояния: более старые (вытесненные) состояния не применяются
+    private int latestSequence = -1;
+
+    private ClientGameStateTracker() {}
+
+    public static ClientGameStateTracker getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Получен полный снимок состояния
+     */
+    public synchronized void onFullState(int sequence, int actionSequence, ClientFalkyeGameSession session) {
+        if (sequence <= latestSequence) {
+            acknowledgeStale();
+            return;
+        }
+        latestSequence = sequence;
+        history.clear();
+        history.put(sequence, session);
+        awaitingFullState = false;
+        acknowledge(sequence);
+        show(session, actionSequence);
+    }
+
+    /**
+     * Получена дельта состояния
+     */
+    public synchronized void onDelta(GameStateDelta delta, int actionSequence) {
+        if (delta.getSequence() <= latestSequence) {
+            acknowledgeStale();
+            return;
+        }
+        ClientFalkyeGameSession base = history.get(delta.getBaseSequence());
+        if (base == null) {
+            // Базового снимка нет (рассинхронизация) - запрашиваем полный снимок
+            if (!awaitingFullState) {
+                awaitingFullState = true;
+                ModLogger.warn("Missing base game state {} for delta {}, requesting full state",
+                    delta.getBaseSequence(), delta.getSequence());
+                NetworkHandler.INSTANCE.sendToServer(new GameStatePackets.RequestFullGameStatePacket());
+            }
+            return;
+        }
+
+        ClientFalkyeGameSession session = delta.applyTo(base);
+        latestSequence = delta.getSequence();
+        history.put(delta.getSequence(), session);
+        // Сервер больше не построит дельту от снимков старше базового
+        history.headMap(delta.getBaseSequence(), false).clear();
+        acknowledge(delta.getSequence());
+        show(session, actionSequence);
+    }
+
+    /**
+     * Сброс при открытии нового игрового экрана
+     */
+    public synchronized void reset() {
+        history.clear();
+        awaitingFullState = false;
+        latestSequence = -1;
+        ClientPrediction.getInstance().reset();
+    }
+
+    /**
+     * Показывает состояние сервера с ещё не обработанными предсказанными ходами.
+     * Подтверждённый ход не анимируется повторно: он уже показан предсказанием.
+     * При откате эффекты по разнице с предсказанием не проигрываются.
+     */
+    private void show(ClientFalkyeGameSession authoritative, int actionSequence) {
+        ClientPrediction.Reconciliation result = ClientPrediction.getInstance().reconcile(authoritative, actionSequence);
+        com.bmfalkye.client.ClientPacketHandler.handleUpdateFalkyeGameState(result.getSession(), !result.isRolledBack());
+    }
+
+    /**
+     * Повтор или устаревшее состояние: подтверждение последнего применённого могло потеряться,
+     * поэтому оно отправляется снова - иначе сервер продолжит повторять отправку
+     */
+    private void acknowledgeStale() {
+        if (latestSequence >= 0) {
+            acknowledge(latestSequence);
+        }
+    }
+
+    private void acknowledge(int sequence) {
+        NetworkHandler.INSTANCE.sendToServer(new GameStatePackets.GameStateAckPacket(sequence));
+    }
+}
@@ -0,0 +1,375 @@
+package com.bmfalkye.client.network;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.CardRegistry;
+import com.bmfalkye.game.ClientFalkyeGameSession;
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.game.core.GameBoard;
+import com.bmfalkye.game.core.GameRules;
+import com.bmfalkye.game.core.Seat;
+import com.bmfalkye.game.core.SeatState;
+import com.bmfalkye.network.NetworkHandler;
+import net.minecraft.client.Minecraft;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Оптимистичное предсказание ходов локального игрока.
+ *
+ * <p>Простой ход - существо без эффекта при розыгрыше или пас - показывается сразу, не дожидаясь
+ * ответа сервера: результат строится из текущего состояния по общим правилам {@link GameRules}.
+ * Каждое действие уходит на сервер с номером, а сервер возвращает номер последнего обработанного
+ * действия вместе с состоянием игры. Обработанные предсказания снимаются, ещё не обработанные
+ * применяются заново поверх состояния сервера. Если сервер отклонил ход или его результат
+ * разошёлся с предсказанием, показывается состояние сервера (откат).
+ *
+ * <p>Карты способностей и существа с эффектами не предсказываются: их результат зависит от данных,
+ * которых у клиента нет. Пока такое действие не обработано сервером, следующие ходы тоже
+ * не предсказываются.
+ */
+public class ClientPrediction {
+
+    private static final ClientPrediction INSTANCE = new ClientPrediction();
+
+    /**
+     * Предсказанное действие, ещё не обработанное сервером
+     */
+    private static class PendingAction {
+        final int sequence;
+        final Card card; // null - пас
+        final FalkyeGameSession.CardRow row;
+        final ClientFalkyeGameSession predicted;
+
+        PendingAction(int sequence, Card card, FalkyeGameSession.CardRow row, ClientFalkyeGameSession predicted) {
+            this.sequence = sequence;
+            this.card = card;
+            this.row = row;
+            this.predicted = predicted;
+        }
+    }
+
+    /**
+     * Итог сверки с состоянием сервера
+     */
+    public static class Reconciliation {
+        private final ClientFalkyeGameSession session;
+        private final boolean rolledBack;
+
+        Reconciliation(ClientFalkyeGameSession session, boolean rolledBack) {
+            this.session = session;
+            this.rolledBack = rolledBack;
+        }
+
+        /** Состояние для показа: состояние сервера с ещё не обработанными предсказаниями */
+        public ClientFalkyeGameSession getSession() {
+            return session;
+        }
+
+        /** Предсказание не подтвердилось - эффекты по разнице с показанным состоянием не проигрываются */
+        public boolean isRolledBack() {
+            return rolledBack;
+        }
+    }
+
+    private final List<PendingAction> pending = new ArrayList<>();
+    // Номер последнего отправленного действия (не сбрасывается между партиями)
+    private int lastActionSequence = 0;
+    // Номер последнего действия, отправленного без предсказания
+    private int lastUnpredictedSequence = 0;
+    // Номер последнего действия, обработанного сервером
+    private int processedSequence = 0;
+
+    ClientPrediction() {}
+
+    public static ClientPrediction getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Отправляет розыгрыш карты на сервер
+     *
+     * @param current показанное состояние игры
+     * @return предсказанное состояние или null, если ход не предсказывается
+     */
+    public synchronized ClientFalkyeGameSession playCard(ClientFalkyeGameSession current, Card card,
+                                                         FalkyeGameSession.CardRow row) {
+        int sequence = ++lastActionSequence;
+        ClientFalkyeGameSession predicted = canPredict() ? predictPlay(current, getLocalPlayerUUID(), card, row) : null;
+        track(sequence, card, row, predicted);
+        NetworkHandler.INSTANCE.sendToServer(new NetworkHandler.PlayCardPacket(card.getId(), row.ordinal(), sequence));
+        return predicted;
+    }
+
+    /**
+     * Отправляет пас на сервер
+     *
+     * @param current показанное состояние игры
+     * @return предсказанное состояние или null, если пас не предсказывается
+     */
+    public synchronized ClientFalkyeGameSession pass(ClientFalkyeGameSession current) {
+        int sequence = ++lastActionSequence;
+        ClientFalkyeGameSession predicted = canPredict() ? predictPass(current, getLocalPlayerUUID()) : null;
+        track(sequence, null, null, predicted);
+        NetworkHandler.INSTANCE.sendToServer(new NetworkHandler.PassPacket(sequence));
+        return predicted;
+    }
+
+    /**
+     * Сверяет предсказания с состоянием сервера
+     *
+     * @param authoritative состояние, полученное от сервера
+     * @param actionSequence номер последнего действия, обработанного сервером
+     */
+    public Reconciliation reconcile(ClientFalkyeGameSession authoritative, int actionSequence) {
+        return reconcile(authoritative, actionSequence, getLocalPlayerUUID());
+    }
+
+    synchronized Reconciliation reconcile(ClientFalkyeGameSession authoritative, int actionSequence, UUID localPlayer) {
+        processedSequence = Math.max(processedSequence, actionSequence);
+
+        // Снимаем обработанные сервером действия; сверяем результат последнего из них
+        PendingAction lastProcessed = null;
+        Iterator<PendingAction> processed = pending.iterator();
+        while (processed.hasNext()) {
+            PendingAction action = processed.next();
+            if (action.sequence > processedSequence) {
+                break;
+            }
+            lastProcessed = action;
+            processed.remove();
+        }
+        boolean rolledBack = lastProcessed != null && lastProcessed.sequence == processedSequence
+            && !matchesPrediction(authoritative, lastProcessed.predicted, localPlayer);
+
+        // Ещё не обработанные действия применяем поверх состояния сервера
+        ClientFalkyeGameSession shown = authoritative;
+        List<PendingAction> replayed = new ArrayList<>(pending.size());
+        for (PendingAction action : pending) {
+            ClientFalkyeGameSession next = action.card != null
+                ? predictPlay(shown, localPlayer, action.card, action.row)
+                : predictPass(shown, localPlayer);
+            if (next == null) {
+                // Предсказание больше не применимо - результат оставшихся действий покажет сервер
+                lastUnpredictedSequence = Math.max(lastUnpredictedSequence, pending.get(pending.size() - 1).sequence);
+                rolledBack = true;
+                break;
+            }
+            replayed.add(new PendingAction(action.sequence, action.card, action.row, next));
+            shown = next;
+        }
+        pending.clear();
+        pending.addAll(replayed);
+
+        if (rolledBack) {
+            com.bmfalkye.util.ModLogger.debug("Predicted move rolled back (processed action {}, pending {})",
+                processedSequence, pending.size());
+        }
+        return new Reconciliation(shown, rolledBack);
+    }
+
+    /**
+     * Сброс при открытии нового игрового экрана. Номера действий продолжают расти,
+     * чтобы ответы на действия прошлой партии не приняли за ответы на новые.
+     */
+    public synchronized void reset() {
+        pending.clear();
+        processedSequence = lastActionSequence;
+        lastUnpredictedSequence = 0;
+    }
+
+    /**
+     * Есть ли предсказанные ходы, ещё не обработанные сервером
+     */
+    public synchronized boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    synchronized void track(int sequence, Card card, FalkyeGameSession.CardRow row, ClientFalkyeGameSession predicted) {
+        lastActionSequence = Math.max(lastActionSequence, sequence);
+        if (predicted != null) {
+            pending.add(new PendingAction(sequence, card, row, predicted));
+        } else {
+            lastUnpredictedSequence = sequence;
+        }
+    }
+
+    private boolean canPredict() {
+        // Результат непредсказанного действия неизвестен - предсказание поверх него будет неверным
+        return lastUnpredictedSequence <= processedSequence;
+    }
+
+    private static UUID getLocalPlayerUUID() {
+        Minecraft minecraft = Minecraft.getInstance();
+        return minecraft.player != null ? minecraft.player.getUUID() : null;
+    }
+
+    // ==================== ПРЕДСКАЗАНИЕ ====================
+
+    /**
+     * Предсказывает розыгрыш существа без эффекта: карта переходит из руки в ряд,
+     * её сила добавляется к очкам раунда, ход переходит по общим правилам
+     *
+     * @return предсказанное состояние или null, если ход нельзя предсказать
+     */
+    public static ClientFalkyeGameSession predictPlay(ClientFalkyeGameSession base, UUID localPlayer,
+                                                      Card card, FalkyeGameSession.CardRow row) {
+        Seat seat = seatOf(base, localPlayer);
+        if (seat == null || card == null || row == null
+            || !GameRules.isNormalCard(card) || com.bmfalkye.game.core.CardEffects.hasPlayEffect(card)) {
+            return null;
+        }
+        GameBoard board = toBoard(base);
+        SeatState state = board.seat(seat);
+        if (GameRules.checkPlay(board, seat, card) != GameRules.PlayCheck.OK) {
+            return null;
+        }
+        state.getHand().remove(state.findInHand(card.getId()));
+        if (GameRules.shouldSwitchTurnAfterPlay(state, card)) {
+            board.setCurrentSeat(GameRules.nextTurn(board));
+        }
+
+        boolean first = seat == Seat.FIRST;
+        List<String> hand = new ArrayList<>(first ? base.getHand1Ids() : base.getHand2Ids());
+        hand.remove(card.getId());
+        List<String> rowIds = new ArrayList<>(rowIds(base, seat, row));
+        rowIds.add(card.getId());
+        // Погода снижает силу каждой карты своего ряда до 1
+        int score = (first ? base.getRoundScore1() : base.getRoundScore2())
+            + GameRules.rowScore(board.getWeather(), row, 1, card.getPower());
+
+        return rebuild(base, board, seat, hand, row, rowIds, score, false);
+    }
+
+    /**
+     * Предсказывает пас на весь раунд. Не предсказывается пас, который может оказаться отказом
+     * от карты способности (в руке есть способность), и пас, завершающий раунд.
+     *
+     * @return предсказанное состояние или null, если пас нельзя предсказать
+     */
+    public static ClientFalkyeGameSession predictPass(ClientFalkyeGameSession base, UUID localPlayer) {
+        Seat seat = seatOf(base, localPlayer);
+        if (seat == null) {
+            return null;
+        }
+        GameBoard board = toBoard(base);
+        SeatState state = board.seat(seat);
+        if (board.isRoundEnded() || board.isGameEnded() || board.getCurrentSeat() != seat
+            || state.isPassed() || board.seat(seat.opponent()).isPassed() || state.hasAbilityCardInHand()) {
+            return null;
+        }
+        state.setPassed(true);
+        board.setCurrentSeat(GameRules.nextTurn(board));
+
+        boolean first = seat == Seat.FIRST;
+        return rebuild(base, board, seat, first ? base.getHand1Ids() : base.getHand2Ids(), null, null,
+            first ? base.getRoundScore1() : base.getRoundScore2(), true);
+    }
+
+    /**
+     * Совпадает ли состояние сервера с предсказанием для локального игрока: рука, ряды и пас.
+     * Сила карт и очки не сравниваются - их уточняют эффекты, которых клиент не знает.
+     */
+    static boolean matchesPrediction(ClientFalkyeGameSession authoritative, ClientFalkyeGameSession predicted,
+                                     UUID localPlayer) {
+        Seat seat = seatOf(authoritative, localPlayer);
+        if (seat == null || seat != seatOf(predicted, localPlayer)) {
+            return false;
+        }
+        if (seat == Seat.FIRST) {
+            return authoritative.getHand1Ids().equals(predicted.getHand1Ids())
+                && authoritative.getMelee1Ids().equals(predicted.getMelee1Ids())
+                && authoritative.getRanged1Ids().equals(predicted.getRanged1Ids())
+                && authoritative.getSiege1Ids().equals(predicted.getSiege1Ids())
+                && authoritative.getPlayer1Passed() == predicted.getPlayer1Passed();
+        }
+        return authoritative.getHand2Ids().equals(predicted.getHand2Ids())
+            && authoritative.getMelee2Ids().equals(predicted.getMelee2Ids())
+            && authoritative.getRanged2Ids().equals(predicted.getRanged2Ids())
+            && authoritative.getSiege2Ids().equals(predicted.getSiege2Ids())
+            && authoritative.getPlayer2Passed() == predicted.getPlayer2Passed();
+    }
+
+    private static Seat seatOf(ClientFalkyeGameSession session, UUID player) {
+        if (session == null || player == null) {
+            return null;
+        }
+        if (player.equals(session.getPlayer1UUID())) {
+            return Seat.FIRST;
+        }
+        return player.equals(session.getPlayer2UUID()) ? Seat.SECOND : null;
+    }
+
+    /**
+     * Доска с тем, что нужно правилам для проверки хода и передачи хода: руки, пасы, очередь.
+     * Флаги сыгранных за ход карт клиенту неизвестны - повторный ход отклонит сервер.
+     */
+    private static GameBoard toBoard(ClientFalkyeGameSession session) {
+        GameBoard board = new GameBoard(null, null);
+        board.setWeather(session.getWeather());
+        board.setCurrentRound(session.getCurrentRound());
+        board.setRoundEnded(session.isRoundEnded());
+        board.setGameEnded(session.isGameEnded());
+        UUID current = session.getCurrentPlayerUUID();
+        board.setCurrentSeat(current == null ? null
+            : current.equals(session.getPlayer1UUID()) ? Seat.FIRST : Seat.SECOND);
+        fillSeat(board.seat(Seat.FIRST), session.getHand1Ids(), session.getPlayer1Passed());
+        fillSeat(board.seat(Seat.SECOND), session.getHand2Ids(), session.getPlayer2Passed());
+        return board;
+    }
+
+    private static void fillSeat(SeatState state, List<String> handIds, boolean passed) {
+        for (String cardId : handIds) {
+            Card card = CardRegistry.getCard(cardId);
+            if (card != null) {
+                state.getHand().add(card);
+            }
+        }
+        state.setPassed(passed);
+    }
+
+    private static List<String> rowIds(ClientFalkyeGameSession session, Seat seat, FalkyeGameSession.CardRow row) {
+        boolean first = seat == Seat.FIRST;
+        return switch (row) {
+            case MELEE -> first ? session.getMelee1Ids() : session.getMelee2Ids();
+            case RANGED -> first ? session.getRanged1Ids() : session.getRanged2Ids();
+            case SIEGE -> first ? session.getSiege1Ids() : session.getSiege2Ids();
+        };
+    }
+
+    /**
+     * Копия состояния с изменённой стороной локального игрока и очередью хода
+     */
+    private static ClientFalkyeGameSession rebuild(ClientFalkyeGameSession base, GameBoard board, Seat seat,
+                                                   List<String> hand, FalkyeGameSession.CardRow row,
+                                                   List<String> changedRow, int score, boolean passed) {
+        boolean first = seat == Seat.FIRST;
+        UUID currentPlayer = board.getCurrentSeat() == Seat.FIRST ? base.getPlayer1UUID() : base.getPlayer2UUID();
+        List<String> melee = row == FalkyeGameSession.CardRow.MELEE ? changedRow : null;
+        List<String> ranged = row == FalkyeGameSession.CardRow.RANGED ? changedRow : null;
+        List<String> siege = row == FalkyeGameSession.CardRow.SIEGE ? changedRow : null;
+        return new ClientFalkyeGameSession(
+            base.getPlayer1UUID(), base.getPlayer2UUID(),
+            first ? score : base.getRoundScore1(),
+            first ? base.getRoundScore2() : score,
+            base.getCurrentRound(), currentPlayer,
+            first ? hand : base.getHand1Ids(),
+            first ? base.getHand2Ids() : hand,
+            first && melee != null ? melee : base.getMelee1Ids(),
+            first && ranged != null ? ranged : base.getRanged1Ids(),
+            first && siege != null ? siege : base.getSiege1Ids(),
+            !first && melee != null ? melee : base.getMelee2Ids(),
+            !first && ranged != null ? ranged : base.getRanged2Ids(),
+            !first && siege != null ? siege : base.getSiege2Ids(),
+            base.getGraveyard1Ids(), base.getGraveyard2Ids(),
+            base.getWeather(), base.getLeader1Id(), base.getLeader2Id(),
+            base.getRoundsWon1(), base.getRoundsWon2(),
+            first ? base.getPlayer1Passed() || passed : base.getPlayer1Passed(),
+            first ? base.getPlayer2Passed() : base.getPlayer2Passed() || passed,
+            base.getIsPlayer2AI(), base.getRemainingTime(), base.getTimeoutCount(),
+            base.getPowerModifiers(), base.getRevealedCards(),
+            base.getLocationType(), base.getGameMode());
+    }
+}
@@ -405,12 +405,11 @@ public class FalkyeCommand {
                 int count = 0;
                 for (com.bmfalkye.replay.ReplaySystem.ReplayInfo replayInfo : replays) {
                     if (count >= 10) break; // Показываем только первые 10
-                    com.bmfalkye.replay.ReplaySystem.GameReplay replay = replayInfo.getReplay();
                     context.getSource().sendSuccess(() -> Component.literal(
-                        "§e" + replay.getPlayer1Name() + " §7vs §e" + replay.getPlayer2Name()), false);
+                        "§e" + replayInfo.getPlayer1Name() + " §7vs §e" + replayInfo.getPlayer2Name()), false);
                     context.getSource().sendSuccess(() -> Component.literal(
-                        "§7Победитель: §f" + replay.getWinnerName() + 
-                        " §7| Раунды: §f" + replay.getRoundsWon1() + " - " + replay.getRoundsWon2()), false);
+                        "§7Победитель: §f" + replayInfo.getWinnerName() + 
+                        " §7| Раунды: §f" + replayInfo.getRoundsWon1() + " - " + replayInfo.getRoundsWon2()), false);
                     count++;
                 }
                 if (replays.size() > 10) {
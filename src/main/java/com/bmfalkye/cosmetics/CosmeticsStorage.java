@@ -1,9 +1,9 @@
 package com.bmfalkye.cosmetics;
 
+import com.bmfalkye.storage.AsyncSavedData;
 import com.bmfalkye.util.ModLogger;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -11,7 +11,7 @@ import java.util.*;
 /**
  * Хранилище косметики игроков
  */
-public class CosmeticsStorage extends SavedData {
+public class CosmeticsStorage extends AsyncSavedData {
     // Косметика игроков: UUID -> данные косметики
     private final Map<UUID, PlayerCosmetics> playerCosmetics = new HashMap<>();
     
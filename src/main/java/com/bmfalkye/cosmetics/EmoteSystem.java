@@ -67,10 +67,14 @@ public class EmoteSystem {
     public static void sendEmote(ServerPlayer sender, ServerPlayer receiver, String emoteId) {
         Emote emote = getEmote(emoteId);
         if (emote != null) {
-            // Отправляем пакет с эмоцией
-            NetworkHandler.INSTANCE.send(
-                net.minecraftforge.network.PacketDistributor.PLAYER.with(() -> receiver),
-                new NetworkHandler.SendEmotePacket(sender.getUUID(), emoteId)
+            // Отправляем пакет с эмоцией (уходит одной связкой с остальными пакетами тика)
+            com.bmfalkye.network.PacketBatcher.addToBatch(
+                NetworkHandler.INSTANCE,
+                new NetworkHandler.SendEmotePacket(sender.getUUID(), emoteId),
+                receiver,
+                net.minecraftforge.network.NetworkDirection.PLAY_TO_CLIENT,
+                com.bmfalkye.network.NetworkErrorHandler.PacketPriority.NORMAL,
+                null
             );
             
             receiver.sendSystemMessage(Component.literal(
@@ -18,7 +18,7 @@ public class DailyRewardSystem {
     
     public static void checkAndGiveDailyReward(ServerPlayer player) {
         UUID playerUUID = player.getUUID();
-        DailyRewardData data = playerRewards.computeIfAbsent(playerUUID, k -> new DailyRewardData());
+        DailyRewardData data = playerRewards.computeIfAbsent(playerUUID, k -> loadRewardData(player));
         
         long currentDay = player.level().getGameTime() / 24000; // Дни в Minecraft
         
@@ -35,7 +35,7 @@ public class DailyRewardSystem {
      */
     public static boolean claimDailyReward(ServerPlayer player) {
         UUID playerUUID = player.getUUID();
-        DailyRewardData data = playerRewards.computeIfAbsent(playerUUID, k -> new DailyRewardData());
+        DailyRewardData data = playerRewards.computeIfAbsent(playerUUID, k -> loadRewardData(player));
         
         long currentDay = player.level().getGameTime() / 24000;
         
@@ -123,7 +123,7 @@ public class DailyRewardSystem {
     
     public static void checkDailyQuests(ServerPlayer player) {
         UUID playerUUID = player.getUUID();
-        DailyQuestData questData = playerQuests.computeIfAbsent(playerUUID, k -> new DailyQuestData());
+        DailyQuestData questData = playerQuests.computeIfAbsent(playerUUID, k -> loadQuestData(player));
         
         long currentDay = player.level().getGameTime() / 24000;
         
@@ -277,7 +277,7 @@ public class DailyRewardSystem {
      */
     public static DailyRewardInfo getDailyRewardInfo(ServerPlayer player) {
         UUID playerUUID = player.getUUID();
-        DailyRewardData data = playerRewards.computeIfAbsent(playerUUID, k -> new DailyRewardData());
+        DailyRewardData data = playerRewards.computeIfAbsent(playerUUID, k -> loadRewardData(player));
         long currentDay = player.level().getGameTime() / 24000;
         int day = (int)((currentDay - data.lastRewardDay) % 7) + 1;
         if (day > 7) day = 1;
@@ -285,6 +285,74 @@ public class DailyRewardSystem {
         return new DailyRewardInfo(day, claimed, data.streakDays);
     }
     
+    // Ключи статистики прогресса, в которых состояние переживает выгрузку игрока
+    private static final String REWARD_DAY_KEY = "daily_reward_day";
+    private static final String STREAK_KEY = "daily_streak";
+    private static final String QUEST_DAY_KEY = "daily_quest_day";
+    private static final String QUEST_PREFIX = "daily_quest:";
+    
+    private static DailyRewardData loadRewardData(ServerPlayer player) {
+        Map<String, Integer> stats = getStatistics(player);
+        DailyRewardData data = new DailyRewardData();
+        data.lastRewardDay = stats.getOrDefault(REWARD_DAY_KEY, -1);
+        data.streakDays = stats.getOrDefault(STREAK_KEY, 0);
+        return data;
+    }
+    
+    private static DailyQuestData loadQuestData(ServerPlayer player) {
+        Map<String, Integer> stats = getStatistics(player);
+        DailyQuestData questData = new DailyQuestData();
+        questData.lastQuestDay = stats.getOrDefault(QUEST_DAY_KEY, -1);
+        for (QuestType type : QuestType.values()) {
+            Integer progress = stats.get(QUEST_PREFIX + type.name());
+            if (progress != null) {
+                questData.quests.add(new DailyQuest(type, getQuestTarget(type)));
+                questData.progress.put(type, progress);
+            }
+        }
+        return questData;
+    }
+    
+    private static Map<String, Integer> getStatistics(ServerPlayer player) {
+        PlayerProgressStorage storage = PlayerProgressStorage.get((net.minecraft.server.level.ServerLevel) player.level());
+        return storage.getPlayerProgress(player).getStatistics();
+    }
+    
+    /**
+     * Переносит награды и задания игрока в его прогресс (перед выгрузкой из памяти)
+     */
+    public static void savePlayer(ServerPlayer player) {
+        DailyRewardData data = playerRewards.get(player.getUUID());
+        DailyQuestData questData = playerQuests.get(player.getUUID());
+        if (data == null && questData == null) {
+            return;
+        }
+        
+        PlayerProgressStorage storage = PlayerProgressStorage.get((net.minecraft.server.level.ServerLevel) player.level());
+        PlayerProgress progress = storage.getPlayerProgress(player);
+        Map<String, Integer> stats = progress.getStatistics();
+        if (data != null) {
+            stats.put(REWARD_DAY_KEY, (int) data.lastRewardDay);
+            stats.put(STREAK_KEY, data.streakDays);
+        }
+        if (questData != null) {
+            stats.put(QUEST_DAY_KEY, (int) questData.lastQuestDay);
+            stats.keySet().removeIf(key -> key.startsWith(QUEST_PREFIX));
+            for (DailyQuest quest : questData.quests) {
+                stats.put(QUEST_PREFIX + quest.getType().name(), questData.progress.getOrDefault(quest.getType(), 0));
+            }
+        }
+        storage.setPlayerProgress(player, progress);
+    }
+    
+    /**
+     * Выгружает данные игрока из памяти
+     */
+    public static void evictPlayer(UUID playerUUID) {
+        playerRewards.remove(playerUUID);
+        playerQuests.remove(playerUUID);
+    }
+    
     /**
      * Типы заданий
      */
@@ -1,12 +1,12 @@
 package com.bmfalkye.draft;
 
+import com.bmfalkye.storage.AsyncSavedData;
 import com.bmfalkye.util.DataLoadValidator;
 import com.bmfalkye.util.ModLogger;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
@@ -16,7 +16,7 @@ import java.util.UUID;
 /**
  * Хранилище активных сессий драфта
  */
-public class DraftStorage extends SavedData {
+public class DraftStorage extends AsyncSavedData {
     // UUID игрока -> DraftSession
     private final Map<UUID, DraftSession> activeSessions = new HashMap<>();
     
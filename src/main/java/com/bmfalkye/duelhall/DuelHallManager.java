@@ -1,19 +1,19 @@
 package com.bmfalkye.duelhall;
 
+import com.bmfalkye.storage.AsyncSavedData;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.block.Blocks;
-import net.minecraft.world.level.saveddata.SavedData;
 
 import java.util.*;
 
 /**
  * Менеджер Залов Дуэлей - управляет многоблочными структурами
  */
-public class DuelHallManager extends SavedData {
+public class DuelHallManager extends AsyncSavedData {
     private final Map<BlockPos, DuelHall> halls = new HashMap<>();
     
     public static DuelHallManager get(ServerLevel level) {
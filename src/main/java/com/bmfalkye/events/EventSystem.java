@@ -41,6 +41,7 @@ public class EventSystem {
                                        List<Card> eventCards, Map<String, Object> rewards) {
         GameEvent event = new GameEvent(name, type, duration, eventCards, rewards);
         activeEvents.put(event.getId(), event);
+        com.bmfalkye.network.ResponseCache.invalidate(com.bmfalkye.network.ResponseCache.ResponseType.EVENTS);
         return event;
     }
     
@@ -137,6 +138,8 @@ public class EventSystem {
         }
         
         event.markPlayerAsParticipated(player);
+        com.bmfalkye.network.ResponseCache.invalidatePlayer(
+            com.bmfalkye.network.ResponseCache.ResponseType.EVENTS, player.getUUID());
     }
     
     /**
@@ -180,7 +183,9 @@ public class EventSystem {
      * Удаляет завершённые события
      */
     private static void removeFinishedEvents() {
-        activeEvents.entrySet().removeIf(entry -> !entry.getValue().isActive());
+        if (activeEvents.entrySet().removeIf(entry -> !entry.getValue().isActive())) {
+            com.bmfalkye.network.ResponseCache.invalidate(com.bmfalkye.network.ResponseCache.ResponseType.EVENTS);
+        }
     }
     
     /**
@@ -270,11 +275,13 @@ public class EventSystem {
         }
         
         Map<String, EventProgress> playerProgress = playerEventProgress.computeIfAbsent(
-            player.getUUID(), k -> new HashMap<>());
+            player.getUUID(), k -> loadEventProgress(player));
         EventProgress progress = playerProgress.computeIfAbsent(
             eventId, k -> new EventProgress(eventId));
         
         progress.incrementProgress(questType, amount);
+        com.bmfalkye.network.ResponseCache.invalidatePlayer(
+            com.bmfalkye.network.ResponseCache.ResponseType.EVENTS, player.getUUID());
         
         // Проверяем выполнение квастов
         checkEventQuests(player, event, progress);
@@ -339,11 +346,81 @@ public class EventSystem {
      * Получает прогресс игрока в событии
      */
     public static EventProgress getPlayerEventProgress(ServerPlayer player, String eventId) {
+        Map<String, EventProgress> playerProgress = playerEventProgress.computeIfAbsent(
+            player.getUUID(), k -> loadEventProgress(player));
+        return playerProgress.getOrDefault(eventId, new EventProgress(eventId));
+    }
+    
+    // Префикс ключей статистики прогресса игрока для прогресса событий
+    private static final String EVENT_PREFIX = "event:";
+    
+    /**
+     * Ключ статистики для кваста события. Время начала отличает события с одинаковым
+     * коротким ID после перезапуска сервера
+     */
+    private static String progressKey(GameEvent event, EventQuestType type) {
+        return EVENT_PREFIX + event.getId() + "@" + event.getStartTime() + ":" + type.name();
+    }
+    
+    /**
+     * Читает прогресс игрока в активных событиях из его сохранённого прогресса
+     */
+    private static Map<String, EventProgress> loadEventProgress(ServerPlayer player) {
+        PlayerProgressStorage storage = PlayerProgressStorage.get((ServerLevel) player.level());
+        Map<String, Integer> stats = storage.getPlayerProgress(player).getStatistics();
+        Map<String, EventProgress> playerProgress = new HashMap<>();
+        for (GameEvent event : activeEvents.values()) {
+            EventProgress progress = new EventProgress(event.getId());
+            for (EventQuestType type : EventQuestType.values()) {
+                String key = progressKey(event, type);
+                Integer value = stats.get(key);
+                if (value != null) {
+                    progress.getProgress().put(type, value);
+                }
+                if (stats.containsKey(key + ":done")) {
+                    progress.completeQuest(type);
+                }
+            }
+            if (!progress.getProgress().isEmpty() || !progress.getCompletedQuests().isEmpty()) {
+                playerProgress.put(event.getId(), progress);
+            }
+        }
+        return playerProgress;
+    }
+    
+    /**
+     * Переносит прогресс игрока в активных событиях в его прогресс (перед выгрузкой из памяти).
+     * Ключи завершённых событий при этом удаляются
+     */
+    public static void savePlayer(ServerPlayer player) {
         Map<String, EventProgress> playerProgress = playerEventProgress.get(player.getUUID());
         if (playerProgress == null) {
-            return new EventProgress(eventId);
+            return;
         }
-        return playerProgress.getOrDefault(eventId, new EventProgress(eventId));
+        PlayerProgressStorage storage = PlayerProgressStorage.get((ServerLevel) player.level());
+        PlayerProgress progress = storage.getPlayerProgress(player);
+        Map<String, Integer> stats = progress.getStatistics();
+        stats.keySet().removeIf(key -> key.startsWith(EVENT_PREFIX));
+        for (EventProgress eventProgress : playerProgress.values()) {
+            GameEvent event = activeEvents.get(eventProgress.getEventId());
+            if (event == null || !event.isActive()) {
+                continue;
+            }
+            for (Map.Entry<EventQuestType, Integer> entry : eventProgress.getProgress().entrySet()) {
+                stats.put(progressKey(event, entry.getKey()), entry.getValue());
+            }
+            for (EventQuestType type : eventProgress.getCompletedQuests()) {
+                stats.put(progressKey(event, type) + ":done", 1);
+            }
+        }
+        storage.setPlayerProgress(player, progress);
+    }
+    
+    /**
+     * Выгружает прогресс событий игрока из памяти
+     */
+    public static void evictPlayer(UUID playerUUID) {
+        playerEventProgress.remove(playerUUID);
     }
     
     /**
@@ -458,6 +535,7 @@ public class EventSystem {
         
         public String getId() { return id; }
         public String getName() { return name; }
+        public long getStartTime() { return startTime; }
         public EventType getType() { return type; }
         public String getDescription() { return description; }
         public List<Card> getEventCards() { return eventCards; }
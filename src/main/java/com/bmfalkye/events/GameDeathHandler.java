@@ -68,8 +68,8 @@ public class GameDeathHandler {
                     player.sendSystemMessage(Component.literal("§aПротивник погиб! Вы выиграли игру!"));
                     
                     // Добавляем в лог действий
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player, 
-                        "§aПротивник погиб! Вы выиграли игру!");
+                    com.bmfalkye.network.NetworkHandler.addActionLog(player,
+                        com.bmfalkye.network.ActionLogCode.OPPONENT_DIED);
                 }
                 break;
             }
@@ -96,8 +96,8 @@ public class GameDeathHandler {
             player.sendSystemMessage(Component.literal("§cВы погибли! Противник выиграл игру."));
             
             // Добавляем в лог действий
-            com.bmfalkye.network.NetworkHandler.addActionLog(player, 
-                "§cВы погибли! Противник выиграл игру.");
+            com.bmfalkye.network.NetworkHandler.addActionLog(player,
+                com.bmfalkye.network.ActionLogCode.PLAYER_DIED);
         }
     }
 }
@@ -38,6 +38,9 @@ public class GameTickHandler {
         if (event.getServer().getTickCount() % 20 == 0) {
             ServerLevel level = event.getServer().overworld();
             
+            // Передаём античиту пакеты, отброшенные лимитом частоты за секунду
+            com.bmfalkye.network.PacketRateLimiter.reportDrops();
+            
             // Очищаем истёкший кэш таймеров каждые 5 секунд (100 тиков)
             if (event.getServer().getTickCount() % 100 == 0) {
                 com.bmfalkye.game.TurnTimer.cleanupExpiredCache();
@@ -46,12 +49,9 @@ public class GameTickHandler {
             // Очищаем истёкшие блокировки ставок каждые 30 секунд (600 тиков)
             if (event.getServer().getTickCount() % 600 == 0) {
                 com.bmfalkye.game.BetProtectionSystem.cleanupExpiredLocks();
-            }
-            
-            // Обрабатываем батчи пакетов каждые 2 тика (примерно каждые 100мс)
-            if (event.getServer().getTickCount() % 2 == 0) {
-                com.bmfalkye.network.PacketBatcher.processBatches(
-                    com.bmfalkye.network.NetworkHandler.INSTANCE, event.getServer());
+                com.bmfalkye.storage.PlayerDataCache.evictExpired(event.getServer());
+                // Индекс реплеев пишется пачкой, а не на каждый реплей
+                com.bmfalkye.replay.ReplaySystem.flushArchiveIndex();
             }
             
             // Оптимизация памяти каждые 5 минут (6000 тиков)
@@ -82,6 +82,12 @@ public class GameTickHandler {
                 
                 // Очищаем данные реконнекта
                 com.bmfalkye.game.ReconnectManager.cleanupExpired();
+                
+                // Удаляем неиспользуемые курсоры постраничной загрузки
+                com.bmfalkye.network.PagedQueries.cleanupExpired();
+                
+                // Удаляем истёкшие ответы кэша запросов и пишем его метрики
+                com.bmfalkye.network.ResponseCache.cleanupExpired();
             }
             
             // Очищаем устаревшие пакеты в очереди повторной отправки каждые 5 минут (6000 тиков)
@@ -89,6 +95,27 @@ public class GameTickHandler {
                 com.bmfalkye.network.NetworkErrorHandler.cleanupExpiredPackets();
             }
         }
+        
+        // Сетевой этап в конце каждого тика: изменения состояния, накопленные за тик,
+        // уходят одним сообщением на игрока вместе с накопленными пакетами батча
+        com.bmfalkye.network.NetworkHandler.flushGameStateUpdates();
+        
+        // Повторная отправка неподтверждённого состояния игры и неотправленных пакетов
+        // (тайм-аут по RTT игрока)
+        com.bmfalkye.network.GameStateSync.retransmitUnacknowledged(event.getServer());
+        com.bmfalkye.network.NetworkErrorHandler.processRetries();
+        
+        // Кадры трансляции турнирных матчей для зрителей (интервал адаптивный)
+        com.bmfalkye.network.SpectatorBroadcast.tick(event.getServer());
+        
+        // Обрабатываем батчи пакетов каждые 2 тика (примерно каждые 100мс)
+        if (event.getServer().getTickCount() % 2 == 0) {
+            com.bmfalkye.network.PacketBatcher.processBatches(
+                com.bmfalkye.network.NetworkHandler.INSTANCE, event.getServer());
+        }
+        
+        // Групповая фиксация журнала валюты: изменения за тик пишутся одним блоком
+        com.bmfalkye.storage.CurrencyLedger.commitAll();
     }
     
     /**
@@ -278,8 +305,8 @@ public class GameTickHandler {
                     "player", player.getName().getString());
                 session.forceGameEnd(player, false);
                 player.sendSystemMessage(net.minecraft.network.chat.Component.literal("§cВы погибли! Противник выиграл игру."));
-                com.bmfalkye.network.NetworkHandler.addActionLog(player, 
-                    "§cВы погибли! Противник выиграл игру.");
+                com.bmfalkye.network.NetworkHandler.addActionLog(player,
+                    com.bmfalkye.network.ActionLogCode.PLAYER_DIED);
             }
             return;
         }
@@ -292,8 +319,8 @@ public class GameTickHandler {
                     "villager", villager.getName().getString());
                 session.forceGameEnd(player, true);
                 player.sendSystemMessage(net.minecraft.network.chat.Component.literal("§aПротивник погиб! Вы выиграли игру!"));
-                com.bmfalkye.network.NetworkHandler.addActionLog(player, 
-                    "§aПротивник погиб! Вы выиграли игру!");
+                com.bmfalkye.network.NetworkHandler.addActionLog(player,
+                    com.bmfalkye.network.ActionLogCode.OPPONENT_DIED);
             }
             return;
         }
@@ -311,8 +338,8 @@ public class GameTickHandler {
                         "villager", villager.getName().getString());
                     session.forceGameEnd(player, true);
                     player.sendSystemMessage(net.minecraft.network.chat.Component.literal("§aПротивник превратился в зомби! Вы выиграли игру!"));
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player, 
-                        "§aПротивник превратился в зомби! Вы выиграли игру!");
+                    com.bmfalkye.network.NetworkHandler.addActionLog(player,
+                        com.bmfalkye.network.ActionLogCode.OPPONENT_ZOMBIFIED);
                 }
                 return;
             }
@@ -333,8 +360,8 @@ public class GameTickHandler {
                     if (!session.isGameEnded()) {
                         session.forceGameEnd(player, true);
                         player.sendSystemMessage(net.minecraft.network.chat.Component.literal("§aПротивник превратился в зомби! Вы выиграли игру!"));
-                        com.bmfalkye.network.NetworkHandler.addActionLog(player, 
-                            "§aПротивник превратился в зомби! Вы выиграли игру!");
+                        com.bmfalkye.network.NetworkHandler.addActionLog(player,
+                            com.bmfalkye.network.ActionLogCode.OPPONENT_ZOMBIFIED);
                     }
                     return;
                 }
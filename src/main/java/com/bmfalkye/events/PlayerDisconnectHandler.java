@@ -38,6 +38,19 @@ public class PlayerDisconnectHandler {
             
             // Очищаем батчи пакетов для отключившегося игрока
             com.bmfalkye.network.PacketBatcher.clearBatchesForPlayer(player.getUUID());
+            
+            // Очищаем базу дельта-синхронизации состояния игры
+            com.bmfalkye.network.GameStateSync.clearPlayer(player.getUUID());
+            com.bmfalkye.network.RttEstimator.clearPlayer(player.getUUID());
+            com.bmfalkye.network.PagedQueries.clearPlayer(player.getUUID());
+            com.bmfalkye.network.PacketRateLimiter.clearPlayer(player.getUUID());
+            com.bmfalkye.network.ResponseCache.invalidatePlayer(player.getUUID());
+            
+            // Зритель турнирного матча больше не получает трансляцию
+            com.bmfalkye.tournament.TournamentSpectatorManager.removeSpectator(player.getUUID());
+            
+            // Сохраняем данные игрока и планируем их выгрузку из памяти
+            com.bmfalkye.storage.PlayerDataCache.onLeave(player);
         }
     }
 }
@@ -26,6 +26,12 @@ public class PlayerJoinHandler {
     @SubscribeEvent
     public static void onPlayerJoin(PlayerEvent.PlayerLoggedInEvent event) {
         if (event.getEntity() instanceof ServerPlayer player) {
+            // Отправляем словарь числовых ID карт до любых игровых пакетов
+            com.bmfalkye.network.CardIdCodec.sendDictionary(player);
+            
+            // Читаем данные игрока из его файлов (и отменяем выгрузку после недавнего выхода)
+            com.bmfalkye.storage.PlayerDataCache.onJoin(player);
+            
             // Пытаемся восстановить игровую сессию
             if (com.bmfalkye.game.ReconnectManager.tryReconnect(player)) {
                 // Сессия восстановлена, пропускаем остальную инициализацию
@@ -0,0 +1,80 @@
+package com.bmfalkye.game;
+
+import com.bmfalkye.cards.Card;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Индекс карт на поле: экземпляр карты -> (сторона, ряд, позиция в ряду).
+ *
+ * <p>Карты - общие экземпляры из реестра, поэтому одна и та же карта может лежать
+ * на поле у обоих игроков. Индекс ведётся отдельно для каждой стороны (1 и 2),
+ * поиск без указания стороны проверяет сначала сторону 1.
+ *
+ * <p>Индекс обновляется рядами {@link FieldRow} при любом изменении их содержимого,
+ * включая изменения из CardEffects и лидерских способностей.
+ */
+class BattlefieldIndex {
+
+    /**
+     * Положение карты на поле
+     */
+    static final class Location {
+        final int side;
+        final FalkyeGameSession.CardRow row;
+        final int slot;
+
+        Location(int side, FalkyeGameSession.CardRow row, int slot) {
+            this.side = side;
+            this.row = row;
+            this.slot = slot;
+        }
+    }
+
+    private final Map<Card, Location> side1 = new IdentityHashMap<>();
+    private final Map<Card, Location> side2 = new IdentityHashMap<>();
+
+    private Map<Card, Location> bySide(int side) {
+        return side == 1 ? side1 : side2;
+    }
+
+    /**
+     * Положение карты на указанной стороне или null
+     */
+    Location get(Card card, int side) {
+        if (card == null || (side != 1 && side != 2)) {
+            return null;
+        }
+        return bySide(side).get(card);
+    }
+
+    /**
+     * Положение карты на любой стороне (сначала сторона 1) или null
+     */
+    Location find(Card card) {
+        if (card == null) {
+            return null;
+        }
+        Location location = side1.get(card);
+        return location != null ? location : side2.get(card);
+    }
+
+    void put(Card card, int side, FalkyeGameSession.CardRow row, int slot) {
+        if (card != null) {
+            bySide(side).put(card, new Location(side, row, slot));
+        }
+    }
+
+    /**
+     * Переиндексирует один ряд после произвольного изменения
+     */
+    void reindexRow(int side, FalkyeGameSession.CardRow row, List<Card> cards) {
+        Map<Card, Location> map = bySide(side);
+        map.values().removeIf(location -> location.row == row);
+        for (int i = 0; i < cards.size(); i++) {
+            put(cards.get(i), side, row, i);
+        }
+    }
+}
@@ -33,19 +33,15 @@ public class BettingSystem {
         
         PlayerCurrency currency = PlayerCurrency.get(level);
         
-        // Проверяем баланс (с учётом уже заблокированных ставок)
-        int lockedBet = BetProtectionSystem.getLockedBetAmount(player);
-        int availableCoins = currency.getCoins(player);
-        
-        // Если ставка уже была заблокирована ранее, проверяем, что у нас достаточно монет
-        if (lockedBet > 0 && lockedBet != betAmount) {
-            // Ставка изменилась - нужно вернуть старую и заблокировать новую
-            currency.addCoins(player, lockedBet);
-            BetProtectionSystem.unlockBet(player);
-            if (!BetProtectionSystem.lockBetSafely(player, betAmount)) {
-                return false;
-            }
+        // Залог прежней ставки, блокировка которой истекла (игрок не в игре - это проверил
+        // lockBetSafely), возвращается до нового залога
+        int orphanedEscrow = currency.getEscrow(player);
+        if (orphanedEscrow > 0) {
+            currency.releaseEscrow(player, orphanedEscrow);
+            ModLogger.logGameEvent("Stale bet escrow refunded", "player", player.getName().getString(),
+                "amount", orphanedEscrow);
         }
+        int availableCoins = currency.getCoins(player);
         
         if (availableCoins < betAmount) {
             BetProtectionSystem.unlockBet(player);
@@ -53,8 +49,8 @@ public class BettingSystem {
             return false;
         }
         
-        // Блокируем монеты
-        if (!currency.removeCoins(player, betAmount)) {
+        // Блокируем монеты (переводим в залог)
+        if (!currency.escrowCoins(player, betAmount)) {
             BetProtectionSystem.unlockBet(player);
             player.sendSystemMessage(Component.literal("§cОшибка при блокировке монет. Попробуйте ещё раз."));
             return false;
@@ -112,7 +108,9 @@ public class BettingSystem {
             winnings = Integer.MAX_VALUE - winnerBalance;
         }
         
-        currency.addCoins(winner, winnings);
+        // Выплата и закрытие обоих залогов попадают в один блок журнала валюты
+        currency.releaseEscrow(winner, winnings);
+        currency.releaseEscrow(loser, 0);
         
         // Разблокируем ставки
         BetProtectionSystem.unlockBet(winner);
@@ -157,8 +155,8 @@ public class BettingSystem {
             betAmount = Math.min(betAmount, Integer.MAX_VALUE - player2Balance);
         }
         
-        currency.addCoins(player1, betAmount);
-        currency.addCoins(player2, betAmount);
+        currency.releaseEscrow(player1, betAmount);
+        currency.releaseEscrow(player2, betAmount);
         
         // Разблокируем ставки
         BetProtectionSystem.unlockBet(player1);
@@ -0,0 +1,40 @@
+package com.bmfalkye.game;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.game.core.GameBoard;
+import com.bmfalkye.game.core.RulesEngine;
+import com.bmfalkye.game.core.Seat;
+
+/**
+ * Сила карт для {@link RulesEngine} с суммами рядов из {@link RowScoreTracker}.
+ *
+ * <p>Сила отдельной карты берётся у базовой функции, а сумма ряда пересчитывается
+ * только для рядов, помеченных «грязными».
+ */
+final class CachedRowPower implements RulesEngine.PowerFunction {
+    private final RowScoreTracker scores;
+    private final RulesEngine.PowerFunction base;
+
+    CachedRowPower(RowScoreTracker scores, RulesEngine.PowerFunction base) {
+        this.scores = scores;
+        this.base = base;
+    }
+
+    @Override
+    public int getPower(GameBoard board, Seat seat, Card card) {
+        return base.getPower(board, seat, card);
+    }
+
+    @Override
+    public int getRowPower(GameBoard board, Seat seat, FalkyeGameSession.CardRow row) {
+        int side = seat.getSide();
+        if (scores.isDirty(side, row)) {
+            int total = 0;
+            for (Card card : board.seat(seat).getRow(row)) {
+                total += base.getPower(board, seat, card);
+            }
+            scores.set(side, row, total);
+        }
+        return scores.get(side, row);
+    }
+}
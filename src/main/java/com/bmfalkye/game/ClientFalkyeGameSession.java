@@ -255,6 +255,10 @@ public class ClientFalkyeGameSession {
     public boolean getPlayer1Passed() { return player1Passed; }
     public boolean getPlayer2Passed() { return player2Passed; }
     public boolean getIsPlayer2AI() { return isPlayer2AI; }
+    public List<String> getGraveyard1Ids() { return graveyard1Ids; }
+    public List<String> getGraveyard2Ids() { return graveyard2Ids; }
+    public String getLeader1Id() { return leader1Id; }
+    public String getLeader2Id() { return leader2Id; }
     
     public int getRoundScore(ServerPlayer player) {
         UUID currentUUID = getLocalPlayerUUID();
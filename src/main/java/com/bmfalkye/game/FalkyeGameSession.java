@@ -3,6 +3,14 @@ package com.bmfalkye.game;
 import com.bmfalkye.cards.Card;
 import com.bmfalkye.cards.CardDeck;
 import com.bmfalkye.cards.LeaderCard;
+import com.bmfalkye.game.core.CardEffects;
+import com.bmfalkye.game.core.EffectResolver;
+import com.bmfalkye.game.core.GameBoard;
+import com.bmfalkye.game.core.GameListener;
+import com.bmfalkye.game.core.GameRules;
+import com.bmfalkye.game.core.RulesEngine;
+import com.bmfalkye.game.core.Seat;
+import com.bmfalkye.game.core.SeatState;
 import com.bmfalkye.util.ModLogger;
 import net.minecraft.server.level.ServerPlayer;
 
@@ -65,66 +73,47 @@ public class FalkyeGameSession {
     private final List<Card> rangedRow2;
     private final List<Card> siegeRow2;
     
-    // Лидеры
-    private LeaderCard leader1;
-    private LeaderCard leader2;
-    
-    // Погода на поле
-    protected WeatherType weather;
+    // Индекс карт на поле (экземпляр карты -> сторона, ряд, позиция), обновляется рядами FieldRow
+    private final BattlefieldIndex fieldIndex = new BattlefieldIndex();
+    // Суммы силы по рядам, пересчитываются только для изменившихся рядов
+    private final RowScoreTracker rowScores = new RowScoreTracker();
     
-    // Раунды
-    protected int currentRound = 1;
-    protected int roundsWon1 = 0;
-    protected int roundsWon2 = 0;
+    // Локация дуэли, определяется один раз за сессию (см. getLocationType)
+    private volatile com.bmfalkye.game.LocationEffect.LocationType cachedLocation;
     
-    // Текущий раунд
-    protected int roundScore1 = 0;
-    protected int roundScore2 = 0;
+    // Отладка: сверять инкрементальные очки с полным пересчётом (-Dbmfalkye.verifyScores=true)
+    private static volatile boolean scoreVerification = Boolean.getBoolean("bmfalkye.verifyScores");
     
-    // Состояние игры
-    protected UUID currentPlayer; // Чей ход
-    protected boolean player1Passed = false;
-    protected boolean player2Passed = false;
-    protected boolean roundEnded = false;
-    protected boolean gameEnded = false;
+    // Лидеры
+    private LeaderCard leader1;
+    private LeaderCard leader2;
     
-    // Флаги для отслеживания хода (сыграл ли обычную карту и карту способности)
-    protected boolean player1PlayedNormalCard = false;
-    protected boolean player1PlayedAbilityCard = false;
-    protected boolean player2PlayedNormalCard = false;
-    protected boolean player2PlayedAbilityCard = false;
+    // Состояние партии (руки, ряды, сбросы, счёт, пасы, погода, чей ход) хранится в ядре правил.
+    // Сессия связывает места с игроками/жителем и отвечает за побочные эффекты: сеть, логи, таймер.
+    private final GameBoard board;
+    private final SeatState state1; // player1
+    private final SeatState state2; // player2 или villager
+    // Ход партии (розыгрыш, пас, лидер, битва рядов, раунды) ведёт движок правил
+    private final RulesEngine engine;
     
     // Сбросы
     private final List<Card> graveyard1;
     private final List<Card> graveyard2;
     
-    /**
-     * Модификаторы силы карт (для эффектов усиления/ослабления)
+    /*
+     * Модификаторы силы карт (для эффектов усиления/ослабления) хранятся по местам
+     * в SeatState: Map<ID карты, модификатор> у каждой стороны (см. modifiersOf).
      * 
-     * Структура: Map<UUID игрока, Map<ID карты, модификатор>>
-     * 
-     * ВАЖНО: Храним модификаторы по комбинации (UUID игрока, ID карты), чтобы модификаторы
-     * применялись только к картам конкретного игрока, даже если у обоих игроков одинаковые карты.
-     * 
-     * Пример: Если у обоих игроков есть карта "fire_dragon" и мы усиливаем карты игрока 1,
-     * то модификатор будет применён только к карте игрока 1, а не к карте игрока 2.
+     * ВАЖНО: Модификаторы разделены по сторонам, чтобы они применялись только к картам
+     * конкретного игрока, даже если у обоих игроков одинаковые карты.
      * 
      * Модификаторы могут быть:
      * - Положительными (усиление): +1, +2, +5 и т.д.
      * - Отрицательными (ослабление): -1, -2, -5 и т.д.
-     * 
-     * Модификаторы применяются при расчёте силы карты в методе getCardPower().
      */
-    private final Map<UUID, Map<String, Integer>> powerModifiers = new HashMap<>();
-    
-    // Показанные карты оппонента (UUID игрока, который видит карты -> список ID показанных карт)
-    private final Map<UUID, List<String>> revealedCards = new HashMap<>();
     
-    // Отслеживание собранных комбо за раунд (UUID игрока -> Set идентификаторов комбо)
-    private final Map<UUID, Set<String>> collectedCombos = new HashMap<>();
-    
-    // Баффы/дебаффы карт (UUID игрока -> Map<ID карты, List<CardBuff>>)
-    private final Map<UUID, Map<String, List<com.bmfalkye.cards.CardBuff>>> cardBuffs = new HashMap<>();
+    // Баффы/дебаффы карт (UUID игрока -> карта -> List<CardBuff>, по числовому ID карты)
+    private final Map<UUID, com.bmfalkye.cards.CardIdMap<List<com.bmfalkye.cards.CardBuff>>> cardBuffs = new HashMap<>();
     
     // Система записи реплеев
     private final long gameStartTime = System.currentTimeMillis();
@@ -137,7 +126,7 @@ public class FalkyeGameSession {
     /**
      * Получает карту баффов для всех игроков
      */
-    public Map<UUID, Map<String, List<com.bmfalkye.cards.CardBuff>>> getCardBuffs() {
+    public Map<UUID, com.bmfalkye.cards.CardIdMap<List<com.bmfalkye.cards.CardBuff>>> getCardBuffs() {
         return cardBuffs;
     }
     
@@ -162,10 +151,10 @@ public class FalkyeGameSession {
         if (player == null) {
             // Ход villager
             recordedMoves.add(new com.bmfalkye.replay.ReplaySystem.ReplayMove(
-                "Villager", action, cardId, currentRound));
+                "Villager", action, cardId, board.getCurrentRound()));
         } else {
             recordedMoves.add(new com.bmfalkye.replay.ReplaySystem.ReplayMove(
-                player.getName().getString(), action, cardId, currentRound));
+                player.getName().getString(), action, cardId, board.getCurrentRound()));
         }
     }
 
@@ -180,32 +169,34 @@ public class FalkyeGameSession {
         this.leader2 = leader2;
         this.villagerOpponent = null;
         
-        this.hand1 = new ArrayList<>();
-        this.hand2 = new ArrayList<>();
-        this.meleeRow1 = new ArrayList<>();
-        this.rangedRow1 = new ArrayList<>();
-        this.siegeRow1 = new ArrayList<>();
-        this.meleeRow2 = new ArrayList<>();
-        this.rangedRow2 = new ArrayList<>();
-        this.siegeRow2 = new ArrayList<>();
-        this.graveyard1 = new ArrayList<>();
-        this.graveyard2 = new ArrayList<>();
-        
-        this.weather = WeatherType.NONE;
+        // Ряды доски - FieldRow, чтобы индекс поля и суммы рядов обновлялись при любом изменении
+        this.board = new GameBoard(CardRow.values().length, deck1, deck2,
+            (seat, lane) -> new FieldRow(fieldIndex, rowScores, seat.getSide(), CardRow.values()[lane]));
+        this.state1 = board.seat(Seat.FIRST);
+        this.state2 = board.seat(Seat.SECOND);
+        // Сила карт - с баффами и бонусом локации, суммы рядов - из кэша сессии
+        this.engine = new RulesEngine(board, new SessionEffects(), new SessionListener(),
+            new CachedRowPower(rowScores, (forBoard, seat, card) -> getEffectivePower(card, playerOf(seat))));
+        
+        this.hand1 = state1.getHand();
+        this.hand2 = state2.getHand();
+        this.meleeRow1 = state1.getRow(CardRow.MELEE);
+        this.rangedRow1 = state1.getRow(CardRow.RANGED);
+        this.siegeRow1 = state1.getRow(CardRow.SIEGE);
+        this.meleeRow2 = state2.getRow(CardRow.MELEE);
+        this.rangedRow2 = state2.getRow(CardRow.RANGED);
+        this.siegeRow2 = state2.getRow(CardRow.SIEGE);
+        this.graveyard1 = state1.getGraveyard();
+        this.graveyard2 = state2.getGraveyard();
         
         // Определяем, у кого первый ход:
         // - При игре между игроками: первый ход у того, кому бросили вызов (player1)
         //   В startPlayerMatch: player = target (тот, кому бросили вызов) -> player1 в сессии
         //   opponent = challenger (тот, кто бросил вызов) -> player2 в сессии
         // - При игре с жителем: первый ход у игрока (player1)
-        if (isPlayingWithVillager()) {
-            // Игра с жителем - первый ход у игрока (player1)
-            this.currentPlayer = player1 != null ? player1.getUUID() : null;
-        } else {
-            // Игра между игроками - первый ход у того, кому бросили вызов (player1)
-            // player1 = target (тот, кому бросили вызов)
-            this.currentPlayer = player1 != null ? player1.getUUID() : null;
-        }
+        // Игра с жителем - первый ход у игрока (player1).
+        // Игра между игроками - первый ход у того, кому бросили вызов (player1 = target).
+        board.setCurrentSeat(player1 != null ? Seat.FIRST : null);
         
         // Сбрасываем счётчики таймаутов для обоих игроков при начале новой игры
         if (player1 != null) {
@@ -222,38 +213,8 @@ public class FalkyeGameSession {
         com.bmfalkye.game.TurnTimer.startTurn(this);
         
         // Логируем, чей первый ход
-        if (isPlayingWithVillager()) {
-            // Игра с жителем
-            if (player1 != null) {
-                if (isVillagerTurn()) {
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, 
-                        net.minecraft.network.chat.Component.translatable("message.bm_falkye.first_turn_villager").getString());
-                } else {
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§aПервый ход: вы");
-                }
-            }
-        } else {
-            // Игра между игроками
-            if (player1 != null) {
-                if (isPlayerTurn(player1)) {
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§aПервый ход: вы");
-                } else {
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, 
-                        net.minecraft.network.chat.Component.translatable("message.bm_falkye.first_turn_opponent", 
-                            player2 != null ? player2.getName() : net.minecraft.network.chat.Component.literal("противник")).getString());
-                }
-            }
-            if (player2 != null) {
-                if (isPlayerTurn(player2)) {
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player2, 
-                        net.minecraft.network.chat.Component.translatable("message.bm_falkye.first_turn_you").getString());
-                } else {
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player2, 
-                        net.minecraft.network.chat.Component.translatable("message.bm_falkye.first_turn_opponent", 
-                            player1 != null ? player1.getName() : net.minecraft.network.chat.Component.literal("противник")).getString());
-                }
-            }
-        }
+        com.bmfalkye.network.NetworkHandler.logEvent(this, board.getCurrentSeat(),
+            com.bmfalkye.network.ActionLogCode.FIRST_TURN);
         
         // Если играем с villager и первый ход у villager, делаем ход AI
         if (isPlayingWithVillager() && isVillagerTurn()) {
@@ -325,15 +286,34 @@ public class FalkyeGameSession {
     }
     
     /**
-     * Получает тип локации на основе позиции игрока
+     * Получает тип локации дуэли.
+     * Определяется один раз за сессию (место дуэли или Зал Дуэлей) и обновляется только через {@link #refreshLocation()}.
      */
     public com.bmfalkye.game.LocationEffect.LocationType getLocationType() {
+        com.bmfalkye.game.LocationEffect.LocationType location = cachedLocation;
+        if (location == null) {
+            location = resolveLocation();
+            cachedLocation = location;
+        }
+        return location;
+    }
+    
+    /**
+     * Заново определяет локацию дуэли (например, после переноса игры) и пересчитывает очки
+     */
+    public void refreshLocation() {
+        cachedLocation = resolveLocation();
+        rowScores.markAllDirty();
+        recalculateRoundScore();
+    }
+    
+    private com.bmfalkye.game.LocationEffect.LocationType resolveLocation() {
         if (player1 == null || !(player1.level() instanceof net.minecraft.server.level.ServerLevel level)) {
             return com.bmfalkye.game.LocationEffect.LocationType.NONE;
         }
         
-        // Используем позицию первого игрока для определения локации
-        return com.bmfalkye.game.LocationEffect.getLocationType(level, player1.blockPosition());
+        // Используем позицию первого игрока на момент начала дуэли
+        return com.bmfalkye.game.LocationEffect.getDuelLocationType(level, player1.blockPosition());
     }
 
     /**
@@ -384,12 +364,10 @@ public class FalkyeGameSession {
      *   <li>Карта должна находиться в руке игрока</li>
      * </ul>
      * 
-     * <p>После успешного размещения карты на поле:
-     * <ul>
-     *   <li>Применяются эффекты карты (если применимо)</li>
-     *   <li>Пересчитывается счёт раунда</li>
-     *   <li>Ход переходит к оппоненту (если не была сыграна способность)</li>
-     * </ul>
+     * <p>Сам ход разыгрывает {@link com.bmfalkye.game.core.RulesEngine}: карта уходит на поле
+     * или в сброс, применяются её эффекты и комбо, пересчитываются очки, ход переходит
+     * к оппоненту (если не осталась возможность сыграть способность). Лог, реплей
+     * и задания обновляет слушатель сессии.
      * 
      * @param player игрок, который разыгрывает карту
      * @param card карта для разыгрывания
@@ -397,54 +375,36 @@ public class FalkyeGameSession {
      * @return {@code true} если карта была успешно разыграна, {@code false} в противном случае
      */
     public boolean playCard(ServerPlayer player, Card card, CardRow row) {
-        if (player == null || roundEnded || gameEnded) {
-            ModLogger.logGameLogic("playCard failed: invalid state", "player", player != null ? player.getName().getString() : "null", "roundEnded", roundEnded, "gameEnded", gameEnded);
+        if (player == null || board.isRoundEnded() || board.isGameEnded()) {
+            ModLogger.logGameLogic("playCard failed: invalid state", "player", player != null ? player.getName().getString() : "null", "roundEnded", board.isRoundEnded(), "gameEnded", board.isGameEnded());
             com.bmfalkye.BMFalkye.LOGGER.debug("playCard: player is null or game ended. player={}, roundEnded={}, gameEnded={}", 
-                player, roundEnded, gameEnded);
+                player, board.isRoundEnded(), board.isGameEnded());
             return false;
         }
         
         // Проверяем, не пасовал ли игрок в этом раунде (пас действует на весь раунд)
-        if (player.equals(player1) && player1Passed) {
-            if (player != null) {
-                player.sendSystemMessage(net.minecraft.network.chat.Component.translatable(
-                    "message.bm_falkye.already_passed_round"));
-            }
-            return false;
-        }
-        if (player2 != null && player.equals(player2) && player2Passed) {
-            if (player != null) {
-                player.sendSystemMessage(net.minecraft.network.chat.Component.translatable(
-                    "message.bm_falkye.already_passed_round"));
-            }
+        if (hasPassed(player)) {
+            player.sendSystemMessage(net.minecraft.network.chat.Component.translatable(
+                "message.bm_falkye.already_passed_round"));
             return false;
         }
         
-        // Проверяем, чей ход (для villager игнорируем проверку, так как villager играет через playCardForVillager)
+        // Проверяем, чей ход (villager играет через playCardForVillager)
         if (!isPlayerTurn(player)) {
+            UUID currentPlayer = getCurrentPlayerUUID();
             ModLogger.logGameLogic("playCard failed: not player's turn", "player", player.getName().getString(), "currentPlayer", currentPlayer != null ? currentPlayer.toString() : "null");
             com.bmfalkye.BMFalkye.LOGGER.debug("playCard: not player's turn. player={}, currentPlayer={}, isPlayerTurn={}", 
-                player != null ? player.getUUID() : null, currentPlayer, isPlayerTurn(player));
+                player.getUUID(), currentPlayer, isPlayerTurn(player));
             return false;
         }
         
-        List<Card> hand = getHand(player);
-        // Оптимизация: убрано избыточное логирование
-        com.bmfalkye.BMFalkye.LOGGER.debug("playCard: player={}, hand size={}, cardId={}", 
-            player.getUUID(), hand.size(), card.getId());
-        
+        SeatState seatState = getSeatState(player);
         // Ищем карту в руке по ID (так как Card не переопределяет equals)
-        Card cardInHand = null;
-        for (Card c : hand) {
-            if (c.getId().equals(card.getId())) {
-                cardInHand = c;
-                break;
-            }
-        }
+        Card cardInHand = seatState.findInHand(card.getId());
         if (cardInHand == null) {
             ModLogger.logGameLogic("playCard failed: card not in hand", "player", player.getName().getString(), "cardId", card.getId());
             com.bmfalkye.BMFalkye.LOGGER.debug("playCard: card not found in hand. cardId={}, hand cards={}", 
-                card.getId(), hand.stream().map(Card::getId).collect(java.util.stream.Collectors.toList()));
+                card.getId(), seatState.getHand().stream().map(Card::getId).collect(java.util.stream.Collectors.toList()));
             return false;
         }
         
@@ -455,233 +415,42 @@ public class FalkyeGameSession {
             "cardType", card.getType().toString(),
             "cardPower", card.getPower(),
             "row", row.toString(),
-            "round", currentRound);
-        
-        // Определяем тип карты (обычная или способность)
-        boolean isAbilityCard = cardInHand.getType() == Card.CardType.SPELL || cardInHand.getType() == Card.CardType.SPECIAL;
-        boolean isNormalCard = cardInHand.getType() == Card.CardType.CREATURE;
+            "round", board.getCurrentRound());
         
         // Проверяем логику хода
-        if (player.equals(player1)) {
-            if (isNormalCard && player1PlayedNormalCard) {
+        switch (GameRules.checkTurnLimits(seatState, cardInHand)) {
+            case NORMAL_ALREADY_PLAYED:
                 // Уже сыграл обычную карту в этом ходу
-                if (player != null) {
-                    player.sendSystemMessage(net.minecraft.network.chat.Component.translatable(
-                        "message.bm_falkye.already_played_normal_card"));
-                }
+                player.sendSystemMessage(net.minecraft.network.chat.Component.translatable(
+                    "message.bm_falkye.already_played_normal_card"));
                 return false;
-            }
-            if (isAbilityCard && player1PlayedAbilityCard) {
+            case ABILITY_ALREADY_PLAYED:
                 // Уже сыграл картой способности в этом ходу
-                if (player != null) {
-                    player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
-                        "§cВы уже сыграли картой способности в этом ходу!"));
-                }
+                player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
+                    "§cВы уже сыграли картой способности в этом ходу!"));
                 return false;
-            }
-            if (isNormalCard && player1PlayedAbilityCard) {
+            case NORMAL_AFTER_ABILITY:
                 // Нельзя играть обычной картой после карты способности
-                if (player != null) {
-                    player.sendSystemMessage(net.minecraft.network.chat.Component.translatable(
-                        "message.bm_falkye.cannot_play_normal_after_ability"));
-                }
-                return false;
-            }
-        } else if (player2 != null && player.equals(player2)) {
-            if (isNormalCard && player2PlayedNormalCard) {
-                if (player != null) {
-                    player.sendSystemMessage(net.minecraft.network.chat.Component.translatable(
-                        "message.bm_falkye.already_played_normal_card"));
-                }
-                return false;
-            }
-            if (isAbilityCard && player2PlayedAbilityCard) {
-                if (player != null) {
-                    player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
-                        "§cВы уже сыграли картой способности в этом ходу!"));
-                }
-                return false;
-            }
-            if (isNormalCard && player2PlayedAbilityCard) {
-                if (player != null) {
-                    player.sendSystemMessage(net.minecraft.network.chat.Component.translatable(
-                        "message.bm_falkye.cannot_play_normal_after_ability"));
-                }
+                player.sendSystemMessage(net.minecraft.network.chat.Component.translatable(
+                    "message.bm_falkye.cannot_play_normal_after_ability"));
                 return false;
-            }
-        }
-        
-        // Удаляем карту из руки (используем найденный объект)
-        hand.remove(cardInHand);
-        
-        // Отслеживаем использование карты для системы балансировки
-        UUID playerUUID = player.getUUID();
-        usedCards.computeIfAbsent(playerUUID, k -> new HashSet<>()).add(cardInHand.getId());
-        
-        // Если оппонент видел эту карту (через Прозрение Дозора), удаляем её из показанных
-        ServerPlayer opponent = getOpponent(player);
-        if (opponent != null) {
-            removeRevealedCard(opponent, cardInHand.getId());
+            default:
+                break;
         }
         
-        // Если это карта способности, она не идёт на поле, а применяет эффект и уходит в сброс
-        if (isAbilityCard) {
-            // Применяем эффект карты способности
-            applyCardEffect(player, cardInHand, row);
-            // Отправляем в сброс
-            getGraveyard(player).add(cardInHand);
-            
-            // Проверяем, является ли это картой "Странник Снов" - обрабатываем её эффект при сбросе
-            handleDreamWalkerOnDiscard(player, cardInHand);
-            
-            // Отмечаем, что сыграли картой способности
-            if (player.equals(player1)) {
-                player1PlayedAbilityCard = true;
-            } else if (player2 != null && player.equals(player2)) {
-                player2PlayedAbilityCard = true;
-            }
-            
-            com.bmfalkye.network.NetworkHandler.addActionLog(player,
-                net.minecraft.network.chat.Component.translatable("message.bm_falkye.ability_card_used", cardInHand.getName()).getString()
-            );
-            
-            // Записываем ход в реплей
-            recordMove(player, "use_ability", cardInHand.getId());
-            
-            // Обновляем ежедневные задания
-            if (player != null) {
-                com.bmfalkye.daily.DailyRewardSystem.incrementQuestProgress(player, 
-                    com.bmfalkye.daily.DailyRewardSystem.QuestType.PLAY_CARDS, 1);
-                if (cardInHand.getType() == Card.CardType.SPELL) {
-                    com.bmfalkye.daily.DailyRewardSystem.incrementQuestProgress(player, 
-                        com.bmfalkye.daily.DailyRewardSystem.QuestType.PLAY_SPELLS, 1);
-                }
-            }
-        } else {
-            // Обычная карта идёт на поле
-            List<Card> targetRow = getRow(player, row);
-            targetRow.add(cardInHand);
-            ModLogger.logCardAction("Card added to field", 
-                "player", player.getName().getString(), 
-                "card", cardInHand.getName(),
-                "row", row.toString(), 
-                "rowSize", targetRow.size(),
-                "round", currentRound);
-            
-            // Применяем эффект карты (используем карту из руки)
-            applyCardEffect(player, cardInHand, row);
-            
-            // Проверяем комбо-эффекты ПОСЛЕ применения эффекта карты
-            // Это важно, так как эффект карты может изменить состояние поля
-            com.bmfalkye.combo.ComboSystem.checkAndApplyCombos(this, player, cardInHand);
-            
-            ModLogger.logCardEffect("Card effect applied after playing", 
-                "player", player.getName().getString(), 
-                "card", card.getName(),
-                "cardId", card.getId(),
-                "round", currentRound);
-            
-            // Отмечаем, что сыграли обычной картой
-            if (player.equals(player1)) {
-                player1PlayedNormalCard = true;
-            } else if (player2 != null && player.equals(player2)) {
-                player2PlayedNormalCard = true;
-            }
-            
-            // Логируем действие через лог действий
-            String rowName = switch (row) {
-                case MELEE -> net.minecraft.network.chat.Component.translatable("row.bm_falkye.melee").getString();
-                case RANGED -> net.minecraft.network.chat.Component.translatable("row.bm_falkye.ranged").getString();
-                case SIEGE -> net.minecraft.network.chat.Component.translatable("row.bm_falkye.siege").getString();
-            };
-            com.bmfalkye.network.NetworkHandler.addActionLog(player,
-                net.minecraft.network.chat.Component.translatable("message.bm_falkye.card_played", cardInHand.getName(), rowName).getString()
-            );
-            
-            // Записываем ход в реплей
-            recordMove(player, "play_card", cardInHand.getId());
-            
-            // Обновляем ежедневные задания
-            if (player != null) {
-                com.bmfalkye.daily.DailyRewardSystem.incrementQuestProgress(player, 
-                    com.bmfalkye.daily.DailyRewardSystem.QuestType.PLAY_CARDS, 1);
-            }
+        if (engine.playCard(seatState.getSeat(), cardInHand, row) != GameRules.PlayCheck.OK) {
+            return false;
         }
         
-        // ВАЖНО: Пересчитываем очки раунда после применения всех эффектов
-        // Это гарантирует актуальные очки перед обновлением состояния игры
-        recalculateRoundScore();
-        ModLogger.logGameLogic("Round score recalculated after card play", 
-            "player1Score", roundScore1, 
-            "player2Score", roundScore2,
-            "round", currentRound);
-        
-        // Визуальные эффекты будут проиграны на клиенте через GuiEffectManager
-        // Не создаем эффекты в мире, чтобы они были в GUI
+        // Отслеживаем использование карты для системы балансировки
+        usedCards.computeIfAbsent(player.getUUID(), k -> new HashSet<>()).add(cardInHand.getId());
         
         // Проигрываем звук реакции жителя на ход игрока (если играем с villager)
         if (isPlayingWithVillager() && villagerOpponent != null) {
-            int aiScore = getRoundScore(null);
-            int humanScore = getRoundScore(player);
-            int scoreDifference = aiScore - humanScore;
+            int scoreDifference = state2.getRoundScore() - state1.getRoundScore();
             com.bmfalkye.game.VillagerAIPlayer.playVillagerReactionOnPlayerMove(villagerOpponent, scoreDifference);
         }
         
-        /**
-         * ЛОГИКА ПЕРЕКЛЮЧЕНИЯ ХОДА:
-         * 
-         * Правила переключения хода после разыгрывания карты:
-         * 
-         * 1. Если игрок сыграл ОБЫЧНОЙ картой (CREATURE):
-         *    - Если в руке есть карта способности (SPELL/SPECIAL) → НЕ переключаем ход
-         *      Игрок может сыграть картой способности или спасовать
-         *    - Если в руке НЕТ карты способности → переключаем ход
-         * 
-         * 2. Если игрок сыграл КАРТОЙ СПОСОБНОСТИ (SPELL/SPECIAL):
-         *    - ВСЕГДА переключаем ход, даже если есть другие карты способности
-         *    Это предотвращает бесконечные цепочки способностей
-         * 
-         * 3. Если игрок спасовал:
-         *    - ВСЕГДА переключаем ход
-         * 
-         * Эта логика обеспечивает баланс между стратегией и темпом игры.
-         */
-        boolean shouldSwitchTurn = true;
-        if (player.equals(player1)) {
-            if (isNormalCard && hasAbilityCardInHand(player)) {
-                // Сыграли обычной картой и есть карта способности - не переключаем ход
-                // Игрок может сыграть картой способности или спасовать (отказаться)
-                shouldSwitchTurn = false;
-                if (player != null) {
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player,
-                        net.minecraft.network.chat.Component.translatable("message.bm_falkye.can_play_ability_or_pass").getString());
-                }
-            } else if (isAbilityCard) {
-                // Сыграли картой способности - ВСЕГДА переключаем ход
-                shouldSwitchTurn = true;
-            }
-        } else if (player2 != null && player.equals(player2)) {
-            if (isNormalCard && hasAbilityCardInHand(player)) {
-                // Сыграли обычной картой и есть карта способности - не переключаем ход
-                shouldSwitchTurn = false;
-                if (player != null) {
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player,
-                        net.minecraft.network.chat.Component.translatable("message.bm_falkye.can_play_ability_or_pass").getString());
-                }
-            } else if (isAbilityCard) {
-                // Сыграли картой способности - ВСЕГДА переключаем ход
-                shouldSwitchTurn = true;
-            }
-        }
-        
-        if (shouldSwitchTurn) {
-            // Переключаем ход
-            switchTurn();
-        }
-        
-        // Проверяем условия автоматического окончания раунда/игры после хода
-        checkAutoEndConditions();
-        
         // Обновляем состояние игры после хода (критичное обновление)
         com.bmfalkye.network.NetworkHandler.updateGameStateImmediate(player1, this);
         if (player2 != null) {
@@ -699,102 +468,17 @@ public class FalkyeGameSession {
             "card", card.getName(),
             "cardId", card.getId(),
             "row", row.toString(),
-            "round", currentRound);
+            "round", board.getCurrentRound());
         
-        if (!isPlayingWithVillager() || roundEnded || gameEnded) {
-            return false;
-        }
-        
-        List<Card> hand = hand2; // Рука villager
-        // Ищем карту в руке по ID (так как Card не переопределяет equals)
-        Card cardInHand = null;
-        for (Card c : hand) {
-            if (c.getId().equals(card.getId())) {
-                cardInHand = c;
-                break;
-            }
-        }
-        if (cardInHand == null) {
+        if (!isPlayingWithVillager() || engine.playCard(Seat.SECOND, card, row) != GameRules.PlayCheck.OK) {
             return false;
         }
         
-        hand.remove(cardInHand);
-        
         // Отслеживаем использование карты для системы балансировки (для villager)
         if (villagerOpponent != null) {
-            UUID villagerUUID = villagerOpponent.getUUID();
-            usedCards.computeIfAbsent(villagerUUID, k -> new HashSet<>()).add(cardInHand.getId());
-        }
-        
-        // Определяем тип карты (обычная или способность)
-        boolean isAbilityCard = cardInHand.getType() == Card.CardType.SPELL || cardInHand.getType() == Card.CardType.SPECIAL;
-        boolean isNormalCard = cardInHand.getType() == Card.CardType.CREATURE;
-        
-        // Проверяем логику хода для villager
-        if (isNormalCard && player2PlayedNormalCard) {
-            // Уже сыграл обычную карту в этом ходу
-            return false;
-        }
-        if (isAbilityCard && player2PlayedAbilityCard) {
-            // Уже сыграл картой способности в этом ходу
-            return false;
-        }
-        if (isNormalCard && player2PlayedAbilityCard) {
-            // Нельзя играть обычной картой после карты способности
-            return false;
-        }
-        
-        // Если это карта способности, она не идёт на поле, а применяет эффект и уходит в сброс
-        if (isAbilityCard) {
-            // Применяем эффект карты способности
-            applyCardEffectForVillager(cardInHand, row);
-            // Отправляем в сброс
-            getGraveyard(null).add(cardInHand);
-            
-            // Отмечаем, что сыграли картой способности
-            player2PlayedAbilityCard = true;
-            
-            // Уведомляем игрока о ходе AI через лог действий
-            if (player1 != null) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1,
-                    net.minecraft.network.chat.Component.translatable("message.bm_falkye.opponent_used_ability", cardInHand.getName()).getString()
-                );
-            }
-        } else {
-            // Обычная карта идёт на поле
-            List<Card> targetRow = getRowForVillager(row);
-            targetRow.add(cardInHand);
-            
-            // Применяем эффект карты (если есть)
-            applyCardEffectForVillager(cardInHand, row);
-            
-            // Отмечаем, что сыграли обычной картой
-            player2PlayedNormalCard = true;
-            
-            // Уведомляем игрока о ходе AI через лог действий
-            if (player1 != null) {
-                String rowName = switch (row) {
-                    case MELEE -> "ближний бой";
-                    case RANGED -> "дальний бой";
-                    case SIEGE -> "осаду";
-                };
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1,
-                    "§cПротивник сыграл: §f" + cardInHand.getName() + " §cв §f" + rowName
-                );
-            }
-            
-            // Записываем ход villager в реплей
-            recordMove(null, "play_card", cardInHand.getId());
+            usedCards.computeIfAbsent(villagerOpponent.getUUID(), k -> new HashSet<>()).add(card.getId());
         }
         
-        recalculateRoundScore();
-        
-        // Переключаем ход
-        switchTurn();
-        
-        // Проверяем условия автоматического окончания раунда/игры после хода villager
-        checkAutoEndConditions();
-        
         // Обновляем состояние игры после хода жителя
         if (player1 != null) {
             com.bmfalkye.network.NetworkHandler.updateGameState(player1, this);
@@ -802,126 +486,36 @@ public class FalkyeGameSession {
         
         return true;
     }
-    
-    private List<Card> getRowForVillager(CardRow row) {
-        switch (row) {
-            case MELEE: return meleeRow2;
-            case RANGED: return rangedRow2;
-            case SIEGE: return siegeRow2;
-            default: return new ArrayList<>();
-        }
-    }
 
     /**
-     * Пасование (пропуск хода)
+     * Пасование (пропуск хода).
+     * После обычной карты при наличии карты способности в руке пас означает отказ от способности.
      */
     public void pass(ServerPlayer player) {
-        if (player == null || roundEnded || gameEnded) {
-            ModLogger.logGameLogic("pass failed: invalid state", "player", player != null ? player.getName().getString() : "null", "roundEnded", roundEnded, "gameEnded", gameEnded);
+        if (player == null || board.isRoundEnded() || board.isGameEnded()) {
+            ModLogger.logGameLogic("pass failed: invalid state", "player", player != null ? player.getName().getString() : "null", "roundEnded", board.isRoundEnded(), "gameEnded", board.isGameEnded());
             com.bmfalkye.BMFalkye.LOGGER.debug("pass: player is null or game ended. player={}, roundEnded={}, gameEnded={}", 
-                player, roundEnded, gameEnded);
+                player, board.isRoundEnded(), board.isGameEnded());
             return;
         }
         
         // Проверяем, чей ход
         if (!isPlayerTurn(player)) {
-            if (player != null) {
-                player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
-                    "§cНе ваш ход!"));
-            }
+            player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
+                "§cНе ваш ход!"));
             return;
         }
         
-        // Если игрок сыграл обычной картой и может сыграть картой способности, пас означает отказ от карты способности
-        if (player.equals(player1)) {
-            if (player1PlayedNormalCard && hasAbilityCardInHand(player) && !player1PlayedAbilityCard) {
-                // Игрок отказывается играть картой способности - переключаем ход
-                player1PlayedAbilityCard = false; // Отмечаем, что отказался
-                com.bmfalkye.network.NetworkHandler.addActionLog(player, "§eВы отказались играть картой способности");
-                switchTurn();
-                
-                // Обновляем состояние игры
-                com.bmfalkye.network.NetworkHandler.updateGameStateImmediate(player1, this);
-                if (player2 != null) {
-                    com.bmfalkye.network.NetworkHandler.updateGameStateImmediate(player2, this);
-                }
-                return;
-            }
-        } else if (player2 != null && player.equals(player2)) {
-            if (player2PlayedNormalCard && hasAbilityCardInHand(player) && !player2PlayedAbilityCard) {
-                player2PlayedAbilityCard = false;
-                com.bmfalkye.network.NetworkHandler.addActionLog(player, "§eВы отказались играть картой способности");
-                switchTurn();
-                
-                com.bmfalkye.network.NetworkHandler.updateGameStateImmediate(player1, this);
-                if (player2 != null) {
-                    com.bmfalkye.network.NetworkHandler.updateGameStateImmediate(player2, this);
-                }
-                return;
-            }
-        }
-        
-        // Обычный пас - пропуск хода
-        if (player.equals(player1)) {
-            if (player1Passed) {
-                ModLogger.logPlayerAction("Pass failed: already passed", "player", player.getName().getString(), "round", currentRound);
-                if (player != null) {
-                    player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
-                        "§cВы уже спасовали в этом раунде!"));
-                }
-                return;
-            }
-            player1Passed = true;
-            
-            // Записываем ход в реплей
-            recordMove(player, "pass", null);
-            
-            ModLogger.logPlayerAction("Player passed", 
-                "player", player.getName().getString(),
-                "round", currentRound,
-                "player1Score", roundScore1,
-                "player2Score", roundScore2,
-                "player1Passed", player1Passed,
-                "player2Passed", player2Passed);
-            com.bmfalkye.network.NetworkHandler.addActionLog(player, "§eВы спасовали");
-            // Уведомляем оппонента о пасе
-            if (player2 != null) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player2, "§7Противник спасовал");
-            }
-        } else if (player2 != null && player.equals(player2)) {
-            if (player2Passed) {
-                if (player != null) {
-                    player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
-                        "§cВы уже спасовали в этом раунде!"));
-                }
-                return;
-            }
-            player2Passed = true;
-            
-            // Записываем ход в реплей
-            recordMove(player, "pass", null);
-            
-            ModLogger.logPlayerAction("Player2 passed", 
-                "player", player.getName().getString(),
-                "round", currentRound,
-                "player1Score", roundScore1,
-                "player2Score", roundScore2,
-                "player1Passed", player1Passed,
-                "player2Passed", player2Passed);
-            com.bmfalkye.network.NetworkHandler.addActionLog(player, "§eВы спасовали");
-            // Уведомляем оппонента о пасе
-            com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§7Противник спасовал");
+        SeatState seatState = getSeatState(player);
+        if (seatState.isPassed() && !GameRules.isAbilityDecline(seatState)) {
+            ModLogger.logPlayerAction("Pass failed: already passed", "player", player.getName().getString(), "round", board.getCurrentRound());
+            player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
+                "§cВы уже спасовали в этом раунде!"));
+            return;
         }
         
-        // Оптимизация: убрано избыточное логирование
-        com.bmfalkye.BMFalkye.LOGGER.debug("pass: player passed. player={}, player1Passed={}, player2Passed={}", 
-            player.getUUID(), player1Passed, player2Passed);
-        
-        // Проверяем условия для битвы карт
-        checkForCardBattle();
-        
-        // Переключаем ход (противник может продолжать играть)
-        switchTurn();
+        // Пас, битва карт и конец раунда - по правилам движка
+        engine.pass(seatState.getSeat());
         
         // Обновляем состояние игры после паса
         com.bmfalkye.network.NetworkHandler.updateGameStateImmediate(player1, this);
@@ -930,76 +524,18 @@ public class FalkyeGameSession {
         }
     }
     
-    /**
-     * Проверяет наличие карты способности в руке игрока
-     */
-    private boolean hasAbilityCardInHand(ServerPlayer player) {
-        List<Card> hand = getHand(player);
-        for (Card card : hand) {
-            if (card.getType() == Card.CardType.SPELL || card.getType() == Card.CardType.SPECIAL) {
-                return true;
-            }
-        }
-        return false;
-    }
-    
-    /**
-     * Обрабатывает эффект карты "Странник Снов" при сбросе
-     * Возвращает 1 случайную карту из сброшенных кроме самой себя
-     * Если сброшенных карт нет, то не возвращает ничего
-     */
-    private void handleDreamWalkerOnDiscard(ServerPlayer player, Card discardedCard) {
-        if (discardedCard == null || !discardedCard.getId().equals("dream_walker")) {
-            return;
-        }
-        
-        // Получаем сброс игрока
-        List<Card> graveyard = getGraveyard(player);
-        
-        // Фильтруем карты, исключая саму карту "Странник Снов"
-        List<Card> availableCards = new ArrayList<>();
-        for (Card graveyardCard : graveyard) {
-            if (!graveyardCard.getId().equals("dream_walker")) {
-                availableCards.add(graveyardCard);
-            }
-        }
-        
-        if (!availableCards.isEmpty()) {
-            // Возвращаем случайную карту из сброшенных (кроме самой себя)
-            Card randomCard = availableCards.get(new java.util.Random().nextInt(availableCards.size()));
-            List<Card> hand = getHand(player);
-            hand.add(randomCard);
-            graveyard.remove(randomCard);
-            
-            if (player != null) {
-                player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
-                    "§dСтранник Снов возвращает карту из сброса: §f" + randomCard.getName()));
-                com.bmfalkye.network.NetworkHandler.addActionLog(player, 
-                    "§dСтранник Снов возвращает карту из сброса: §f" + randomCard.getName());
-            }
-        } else {
-            // Нет карт в сбросе (кроме самой себя) - не возвращаем ничего
-            if (player != null) {
-                player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
-                    "§7Странник Снов: в сбросе нет других карт"));
-                com.bmfalkye.network.NetworkHandler.addActionLog(player, 
-                    "§7Странник Снов: в сбросе нет других карт");
-            }
-        }
-    }
-    
     /**
      * Проверяет, сыграл ли villager обычную карту в этом ходу
      */
     public boolean hasPlayedNormalCard(ServerPlayer player) {
         if (player == null && isPlayingWithVillager()) {
-            return player2PlayedNormalCard;
+            return state2.isPlayedNormalCard();
         }
         if (player != null && player.equals(player1)) {
-            return player1PlayedNormalCard;
+            return state1.isPlayedNormalCard();
         }
         if (player != null && player2 != null && player.equals(player2)) {
-            return player2PlayedNormalCard;
+            return state2.isPlayedNormalCard();
         }
         return false;
     }
@@ -1009,144 +545,73 @@ public class FalkyeGameSession {
      */
     public boolean hasPlayedAbilityCard(ServerPlayer player) {
         if (player == null && isPlayingWithVillager()) {
-            return player2PlayedAbilityCard;
+            return state2.isPlayedAbilityCard();
         }
         if (player != null && player.equals(player1)) {
-            return player1PlayedAbilityCard;
+            return state1.isPlayedAbilityCard();
         }
         if (player != null && player2 != null && player.equals(player2)) {
-            return player2PlayedAbilityCard;
+            return state2.isPlayedAbilityCard();
         }
         return false;
     }
     
-    /**
-     * Проверяет условия для битвы карт
-     * Битва происходит только если оба игрока пасовали и не выкинули ни одной карты за свои ходы
-     */
-    private void checkForCardBattle() {
-        // Проверяем, пасовали ли оба игрока
-        if (!player1Passed || !player2Passed) {
-            return;
-        }
-        
-        // Проверяем, выкинули ли игроки карты в этом раунде
-        boolean player1PlayedCards = player1PlayedNormalCard || player1PlayedAbilityCard;
-        boolean player2PlayedCards = player2PlayedNormalCard || player2PlayedAbilityCard;
-        
-        // Битва происходит только если оба пасовали и НЕ выкинули ни одной карты
-        if (!player1PlayedCards && !player2PlayedCards) {
-            ModLogger.logCardAction("Card battle triggered: both players passed without playing cards", 
-                "round", currentRound,
-                "player1Score", roundScore1,
-                "player2Score", roundScore2);
-            
-            // Проводим битву между картами одного типа боя
-            resolveCardBattles();
-            // После битвы определяем победителя по очкам и заканчиваем раунд
-            endRound();
-        }
-        // Если хотя бы один игрок выкинул карты, битва не происходит, раунд продолжается
-    }
-    
     /**
      * Пас для villager (AI)
      */
     public void passVillager() {
-        if (!isPlayingWithVillager() || roundEnded || gameEnded) {
+        if (!isPlayingWithVillager() || board.isRoundEnded() || board.isGameEnded()) {
             return;
         }
         
-        // Если villager сыграл обычной картой и может сыграть картой способности, пас означает отказ от карты способности
-        if (player2PlayedNormalCard && hasAbilityCardInHand(null) && !player2PlayedAbilityCard) {
-            // Villager отказывается играть картой способности - переключаем ход
-            player2PlayedAbilityCard = false; // Отмечаем, что отказался
-            com.bmfalkye.util.ModLogger.logAIAction("Villager passing (declining ability card)", 
-                "round", currentRound,
-                "player1Score", roundScore1,
-                "player2Score", roundScore2);
-            
-            switchTurn();
-            
-            // Обновляем состояние игры
-            if (player1 != null) {
-                com.bmfalkye.network.NetworkHandler.updateGameState(player1, this);
-            }
-            return;
-        }
+        com.bmfalkye.util.ModLogger.logAIAction(GameRules.isAbilityDecline(state2)
+                ? "Villager passing (declining ability card)" : "Villager passing", 
+            "round", board.getCurrentRound(),
+            "player1Score", state1.getRoundScore(),
+            "player2Score", state2.getRoundScore());
         
-        // Проверяем, не пасовал ли уже villager
-        if (player2Passed) {
+        // Отказ от способности передаёт ход, обычный пас - на весь раунд
+        if (!engine.pass(Seat.SECOND)) {
             return;
         }
         
-        com.bmfalkye.util.ModLogger.logAIAction("Villager passing", 
-            "round", currentRound,
-            "player1Score", roundScore1,
-            "player2Score", roundScore2);
-        
-        player2Passed = true;
-        
-        // Уведомляем игрока о пасе жителя через лог действий
+        // Обновляем состояние игры
         if (player1 != null) {
-            com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§7Противник спасовал");
+            com.bmfalkye.network.NetworkHandler.updateGameState(player1, this);
         }
-        
-        // Проверяем условия для битвы карт
-        checkForCardBattle();
     }
 
     /**
      * Использование лидера
      */
     public boolean useLeader(ServerPlayer player) {
-        if (roundEnded || gameEnded) {
+        if (board.isRoundEnded() || board.isGameEnded()) {
             return false;
         }
         
-        LeaderCard leader;
-        boolean isVillagerTurn = false;
-        
-        // Определяем лидера и проверяем ход
+        // Определяем место и проверяем ход
+        Seat seat;
         if (player == null && isPlayingWithVillager()) {
             // Использование лидера для villager
-            isVillagerTurn = isVillagerTurn();
-            if (!isVillagerTurn) {
+            if (!isVillagerTurn()) {
                 return false;
             }
-            leader = leader2;
+            seat = Seat.SECOND;
         } else if (player != null) {
             // Использование лидера для игрока
             if (!isPlayerTurn(player)) {
                 return false;
             }
-            leader = player.equals(player1) ? leader1 : leader2;
+            seat = getSeat(player);
         } else {
             return false;
         }
         
-        if (leader == null || leader.isUsed()) {
+        // Способность лидера, пересчёт очков и передача хода - в движке
+        if (!engine.useLeader(seat, getLeader(player))) {
             return false;
         }
         
-        // Применяем способность лидера
-        leader.use(this, player);
-        
-        // Записываем ход в реплей
-        recordMove(player, "use_leader", leader.getId());
-        
-        // Обновляем ежедневные задания
-        if (player != null) {
-            com.bmfalkye.daily.DailyRewardSystem.incrementQuestProgress(player, 
-                com.bmfalkye.daily.DailyRewardSystem.QuestType.USE_LEADER, 1);
-        }
-        
-        // Пересчитываем очки после использования лидера
-        recalculateRoundScore();
-        
-        // Переключаем ход после использования лидера
-        switchTurn();
-        
         // Обновляем состояние игры после использования лидера
         if (player1 != null) {
             com.bmfalkye.network.NetworkHandler.updateGameState(player1, this);
@@ -1162,7 +627,7 @@ public class FalkyeGameSession {
      * Играет карту погоды
      */
     public void playWeatherCard(WeatherType weatherType) {
-        this.weather = weatherType;
+        engine.setWeather(weatherType);
         recalculateRoundScore();
         
         // Обновляем состояние игры после изменения погоды
@@ -1173,16 +638,6 @@ public class FalkyeGameSession {
             com.bmfalkye.network.NetworkHandler.updateGameState(player2, this);
         }
     }
-
-    private void applyCardEffect(ServerPlayer player, Card card, CardRow row) {
-        // Применяем эффект карты, передавая выбранный ряд
-        com.bmfalkye.cards.CardEffects.applyCardEffect(this, player, card, row);
-    }
-    
-    private void applyCardEffectForVillager(Card card, CardRow row) {
-        // Применяем эффект карты для villager, передавая выбранный ряд
-        com.bmfalkye.cards.CardEffects.applyCardEffect(this, null, card, row);
-    }
     
     public ServerPlayer getOpponent(ServerPlayer player) {
         if (player == null) {
@@ -1199,26 +654,87 @@ public class FalkyeGameSession {
     }
 
     /**
-     * Пересчитывает очки раунда (публичный метод для использования в CardEffects)
+     * Пересчитывает очки раунда (после эффектов вне хода: погода, события, баффы)
      */
     public void recalculateRoundScore() {
-        roundScore1 = calculateRowScore(player1);
-        // Для villager используем null, для обычного игрока - player2
-        if (isPlayingWithVillager()) {
-            roundScore2 = calculateRowScore(null); // null означает villager
-        } else {
-            roundScore2 = calculateRowScore(player2);
+        engine.recalculateScores();
+        
+        if (scoreVerification) {
+            verifyRoundScores();
         }
     }
 
-    private int calculateRowScore(ServerPlayer player) {
-        int score = 0;
-        
-        // Считаем очки с учётом погоды
-        List<Card> melee = getMeleeRow(player);
-        List<Card> ranged = getRangedRow(player);
-        List<Card> siege = getSiegeRow(player);
-        
+    
+    /**
+     * Сверяет инкрементальные очки с полным пересчётом (только в режиме отладки).
+     * При расхождении пишет предупреждение и исправляет очки.
+     */
+    private void verifyRoundScores() {
+        int expected1 = calculateRowScore(player1);
+        int expected2 = isPlayingWithVillager() ? calculateRowScore(null) : calculateRowScore(player2);
+        if (expected1 != state1.getRoundScore() || expected2 != state2.getRoundScore()) {
+            ModLogger.warn("Incremental round score mismatch: {}:{} (expected {}:{})",
+                state1.getRoundScore(), state2.getRoundScore(), expected1, expected2);
+            state1.setRoundScore(expected1);
+            state2.setRoundScore(expected2);
+            rowScores.markAllDirty();
+        }
+    }
+    
+    /**
+     * Включает/выключает сверку инкрементальных очков с полным пересчётом
+     */
+    public static void setScoreVerification(boolean enabled) {
+        scoreVerification = enabled;
+    }
+    
+    /**
+     * Сообщает сессии, что сила карты игрока изменилась вне её рядов (баффы, модификаторы).
+     * Пересчитан будет только ряд этой карты.
+     */
+    public void onCardPowerChanged(ServerPlayer player, Card card) {
+        markCardRowDirty(getFieldSide(player), card);
+    }
+    
+    /**
+     * Помечает все ряды для пересчёта (массовые изменения баффов/модификаторов)
+     */
+    public void invalidateRowScores() {
+        rowScores.markAllDirty();
+    }
+    
+    /**
+     * Модификаторы силы стороны по UUID владельца (player1 - сторона 1, иначе player2/житель)
+     */
+    private com.bmfalkye.cards.CardIntMap modifiersOf(UUID playerUUID) {
+        if (playerUUID == null) {
+            return null;
+        }
+        return player1 != null && playerUUID.equals(player1.getUUID())
+            ? state1.getPowerModifiers() : state2.getPowerModifiers();
+    }
+    
+    private void markCardRowDirty(int side, Card card) {
+        if (side == 0) {
+            return;
+        }
+        BattlefieldIndex.Location location = fieldIndex.get(card, side);
+        if (location != null) {
+            rowScores.markDirty(side, location.row);
+        } else {
+            // Карты нет на поле этим экземпляром - пересчитываем всю сторону
+            rowScores.markSideDirty(side);
+        }
+    }
+
+    private int calculateRowScore(ServerPlayer player) {
+        int score = 0;
+        
+        // Считаем очки с учётом погоды
+        List<Card> melee = getMeleeRow(player);
+        List<Card> ranged = getRangedRow(player);
+        List<Card> siege = getSiegeRow(player);
+        
         // Если player null и играем с villager, используем ряды villager
         if (player == null && isPlayingWithVillager()) {
             melee = meleeRow2;
@@ -1227,21 +743,21 @@ public class FalkyeGameSession {
         }
         
         // Применяем эффекты погоды
-        if (weather == WeatherType.FROST) {
+        if (board.getWeather() == WeatherType.FROST) {
             // Мороз снижает силу всех ближних карт до 1
             for (Card card : melee) {
                 score += 1;
             }
             score += calculateRowPower(ranged, player);
             score += calculateRowPower(siege, player);
-        } else if (weather == WeatherType.FOG) {
+        } else if (board.getWeather() == WeatherType.FOG) {
             // Туман снижает силу всех дальних карт до 1
             score += calculateRowPower(melee, player);
             for (Card card : ranged) {
                 score += 1;
             }
             score += calculateRowPower(siege, player);
-        } else if (weather == WeatherType.RAIN) {
+        } else if (board.getWeather() == WeatherType.RAIN) {
             // Дождь снижает силу всех осадных карт до 1
             score += calculateRowPower(melee, player);
             score += calculateRowPower(ranged, player);
@@ -1303,21 +819,15 @@ public class FalkyeGameSession {
             playerUUID = player.getUUID();
         } else {
             // Если player не указан, пытаемся определить по карте на поле
-            if (getMeleeRow(player1).contains(card) || getRangedRow(player1).contains(card) || getSiegeRow(player1).contains(card)) {
-                playerUUID = player1 != null ? player1.getUUID() : null;
-            } else if (player2 != null && (getMeleeRow(player2).contains(card) || getRangedRow(player2).contains(card) || getSiegeRow(player2).contains(card))) {
-                playerUUID = player2.getUUID();
-            } else if (isPlayingWithVillager() && (meleeRow2.contains(card) || rangedRow2.contains(card) || siegeRow2.contains(card))) {
-                playerUUID = villagerOpponent != null ? villagerOpponent.getUUID() : null;
-            }
+            playerUUID = getFieldOwnerUUID(card);
         }
         
         // Получаем модификатор для этой карты у этого игрока (старая система модификаторов)
         int modifier = 0;
         if (playerUUID != null) {
-            Map<String, Integer> playerModifiers = powerModifiers.get(playerUUID);
+            com.bmfalkye.cards.CardIntMap playerModifiers = modifiersOf(playerUUID);
             if (playerModifiers != null) {
-                modifier = playerModifiers.getOrDefault(card.getId(), 0);
+                modifier = playerModifiers.get(card);
             }
         }
         
@@ -1326,14 +836,11 @@ public class FalkyeGameSession {
         // Применяем эффекты окружения (если карта на поле)
         if (player != null && player.level() instanceof net.minecraft.server.level.ServerLevel level) {
             // Проверяем, находится ли карта на поле
-            boolean cardOnField = getMeleeRow(player).contains(card) || 
-                                getRangedRow(player).contains(card) || 
-                                getSiegeRow(player).contains(card);
+            boolean cardOnField = isCardOnField(card, player);
             
             if (cardOnField) {
-                // Получаем тип локации по позиции игрока
-                com.bmfalkye.game.LocationEffect.LocationType location = 
-                    com.bmfalkye.game.LocationEffect.getLocationType(level, player.blockPosition());
+                // Тип локации определяется один раз за сессию
+                com.bmfalkye.game.LocationEffect.LocationType location = getLocationType();
                 
                 // Применяем модификатор локации
                 int locationModifier = com.bmfalkye.game.LocationEffect.getLocationPowerModifier(
@@ -1363,21 +870,15 @@ public class FalkyeGameSession {
         UUID playerUUID = player != null ? player.getUUID() : null;
         if (playerUUID == null) {
             // Пытаемся определить игрока по карте на поле
-            if (getMeleeRow(player1).contains(card) || getRangedRow(player1).contains(card) || getSiegeRow(player1).contains(card)) {
-                playerUUID = player1 != null ? player1.getUUID() : null;
-            } else if (player2 != null && (getMeleeRow(player2).contains(card) || getRangedRow(player2).contains(card) || getSiegeRow(player2).contains(card))) {
-                playerUUID = player2.getUUID();
-            } else if (isPlayingWithVillager() && (meleeRow2.contains(card) || rangedRow2.contains(card) || siegeRow2.contains(card))) {
-                playerUUID = villagerOpponent != null ? villagerOpponent.getUUID() : null;
-            }
+            playerUUID = getFieldOwnerUUID(card);
         }
         
         if (playerUUID == null) return 0;
         
-        Map<String, Integer> playerModifiers = powerModifiers.get(playerUUID);
+        com.bmfalkye.cards.CardIntMap playerModifiers = modifiersOf(playerUUID);
         if (playerModifiers == null) return 0;
         
-        return playerModifiers.getOrDefault(card.getId(), 0);
+        return playerModifiers.get(card);
     }
     
     /**
@@ -1393,13 +894,7 @@ public class FalkyeGameSession {
             playerUUID = player.getUUID();
         } else {
             // Если player не указан, пытаемся определить по карте на поле
-            if (getMeleeRow(player1).contains(card) || getRangedRow(player1).contains(card) || getSiegeRow(player1).contains(card)) {
-                playerUUID = player1 != null ? player1.getUUID() : null;
-            } else if (player2 != null && (getMeleeRow(player2).contains(card) || getRangedRow(player2).contains(card) || getSiegeRow(player2).contains(card))) {
-                playerUUID = player2.getUUID();
-            } else if (isPlayingWithVillager() && (meleeRow2.contains(card) || rangedRow2.contains(card) || siegeRow2.contains(card))) {
-                playerUUID = villagerOpponent != null ? villagerOpponent.getUUID() : null;
-            }
+            playerUUID = getFieldOwnerUUID(card);
         }
         
         if (playerUUID == null) {
@@ -1408,20 +903,44 @@ public class FalkyeGameSession {
         }
         
         // Получаем или создаем Map модификаторов для этого игрока
-        Map<String, Integer> playerModifiers = powerModifiers.computeIfAbsent(playerUUID, k -> new HashMap<>());
+        com.bmfalkye.cards.CardIntMap playerModifiers = modifiersOf(playerUUID);
         
         // Добавляем модификатор для этой карты
-        String cardId = card.getId();
-        playerModifiers.put(cardId, playerModifiers.getOrDefault(cardId, 0) + modifier);
+        playerModifiers.add(card, modifier);
+        
+        // Пересчёт понадобится только ряду этой карты
+        markCardRowDirty(player1 != null && playerUUID.equals(player1.getUUID()) ? 1 : 2, card);
     }
     
     /**
      * Сбрасывает все модификаторы силы (при начале нового раунда)
      */
     public void clearPowerModifiers() {
-        powerModifiers.clear();
+        state1.getPowerModifiers().clear();
+        state2.getPowerModifiers().clear();
+        rowScores.markAllDirty();
     }
-    
+
+    /**
+     * Удаляет модификаторы силы карт, которых нет на поле у их стороны (очистка памяти)
+     */
+    public void prunePowerModifiers() {
+        for (SeatState state : List.of(state1, state2)) {
+            com.bmfalkye.cards.CardIntMap modifiers = state.getPowerModifiers();
+            if (modifiers.isEmpty()) {
+                continue;
+            }
+            com.bmfalkye.cards.CardIntMap onField = new com.bmfalkye.cards.CardIntMap();
+            for (List<Card> lane : state.getLanes()) {
+                for (Card card : lane) {
+                    onField.put(card, modifiers.get(card));
+                }
+            }
+            modifiers.setAll(onField);
+        }
+        rowScores.markAllDirty();
+    }
+
     /**
      * Получает модификаторы силы для всех карт (для передачи на клиент)
      * ВАЖНО: Возвращает модификаторы для ВСЕХ игроков, чтобы оба игрока видели изменения
@@ -1432,11 +951,10 @@ public class FalkyeGameSession {
         // Объединяем модификаторы всех игроков
         // ВАЖНО: Если у обоих игроков есть карты с одинаковым ID, модификаторы объединяются
         // Но это нормально, так как на клиенте модификаторы применяются только к картам на поле
-        for (Map<String, Integer> playerModifiers : powerModifiers.values()) {
-            for (java.util.Map.Entry<String, Integer> entry : playerModifiers.entrySet()) {
-                // Если у карты уже есть модификатор, берем максимальный (на случай конфликтов)
-                result.put(entry.getKey(), Math.max(result.getOrDefault(entry.getKey(), 0), entry.getValue()));
-            }
+        for (com.bmfalkye.cards.CardIntMap playerModifiers : List.of(state1.getPowerModifiers(), state2.getPowerModifiers())) {
+            // Если у карты уже есть модификатор, берем максимальный (на случай конфликтов)
+            playerModifiers.forEach((cardId, modifier) ->
+                result.put(cardId, Math.max(result.getOrDefault(cardId, 0), modifier)));
         }
         return result;
     }
@@ -1459,15 +977,13 @@ public class FalkyeGameSession {
         // Добавляем модификаторы только для карт этого игрока
         UUID playerUUID = player != null ? player.getUUID() : null;
         if (playerUUID != null) {
-            Map<String, Integer> playerModifiers = powerModifiers.get(playerUUID);
+            com.bmfalkye.cards.CardIntMap playerModifiers = modifiersOf(playerUUID);
             if (playerModifiers != null) {
                 // Добавляем модификаторы только для карт, которые есть на поле у этого игрока
-                for (java.util.Map.Entry<String, Integer> entry : playerModifiers.entrySet()) {
-                    String cardId = entry.getKey();
-                    // Проверяем, что карта с этим ID есть на поле у этого игрока
-                    boolean cardOnField = playerCards.stream().anyMatch(c -> c.getId().equals(cardId));
-                    if (cardOnField) {
-                        result.put(cardId, entry.getValue());
+                for (Card card : playerCards) {
+                    int modifier = playerModifiers.get(card);
+                    if (modifier != 0) {
+                        result.put(card.getId(), modifier);
                     }
                 }
             }
@@ -1479,11 +995,11 @@ public class FalkyeGameSession {
     /**
      * Получает показанные карты оппонента для игрока
      * @param player игрок, который видит карты
-     * @return список ID показанных карт
+     * @return список ID показанных карт (копия)
      */
     public List<String> getRevealedCards(ServerPlayer player) {
-        if (player == null) return new ArrayList<>();
-        return revealedCards.getOrDefault(player.getUUID(), new ArrayList<>());
+        SeatState state = player != null ? getSeatState(player) : null;
+        return state != null ? new ArrayList<>(state.getRevealedCards()) : new ArrayList<>();
     }
     
     /**
@@ -1492,1186 +1008,648 @@ public class FalkyeGameSession {
      * @param cardIds список ID показанных карт
      */
     public void setRevealedCards(ServerPlayer player, List<String> cardIds) {
-        if (player == null) return;
-        revealedCards.put(player.getUUID(), new ArrayList<>(cardIds));
+        SeatState state = player != null ? getSeatState(player) : null;
+        if (state == null) return;
+        state.getRevealedCards().clear();
+        state.getRevealedCards().addAll(cardIds);
     }
     
     /**
-     * Удаляет показанную карту (когда оппонент использует её)
-     * @param player игрок, который видел карту
-     * @param cardId ID использованной карты
+     * Получает сброс игрока
      */
-    public void removeRevealedCard(ServerPlayer player, String cardId) {
-        if (player == null) return;
-        List<String> revealed = revealedCards.get(player.getUUID());
-        if (revealed != null) {
-            revealed.remove(cardId);
-            if (revealed.isEmpty()) {
-                revealedCards.remove(player.getUUID());
-            }
+    public List<Card> getGraveyard(ServerPlayer player) {
+        if (player == null && isPlayingWithVillager()) {
+            return graveyard2;
+        }
+        if (player == null) {
+            return new ArrayList<>();
         }
+        return player.equals(player1) ? graveyard1 : graveyard2;
     }
     
     /**
-     * Очищает все показанные карты (при начале нового раунда)
+     * Принудительно завершить игру (для сдачи или проигрыша по таймауту)
      */
-    public void clearRevealedCards() {
-        revealedCards.clear();
+    public void forceGameEnd(ServerPlayer player, boolean playerWon) {
+        if (board.isGameEnded()) {
+            ModLogger.logGameEvent("forceGameEnd failed: game already ended", "player", player != null ? player.getName().getString() : "null");
+            return;
+        }
+        
+        ModLogger.logGameEvent("Force game end", 
+            "player", player != null ? player.getName().getString() : "null",
+            "playerWon", playerWon,
+            "round", board.getCurrentRound(),
+            "roundsWon1", state1.getRoundsWon(),
+            "roundsWon2", state2.getRoundsWon());
+        
+        board.setGameEnded(true);
+        board.setRoundEnded(true);
+        
+        // Определяем, кто сдался: player1 или player2
+        boolean isPlayer1 = player1 != null && player.equals(player1);
+        boolean isPlayer2 = player2 != null && player.equals(player2);
+        
+        // Если сдался player1, побеждает player2 (или villager)
+        // Если сдался player2, побеждает player1
+        if (isPlayer1) {
+            // player1 сдался - побеждает player2 (или villager)
+            state2.setRoundsWon(2);
+            state1.setRoundsWon(0);
+            ModLogger.logGameEvent("Player1 surrendered, Player2 wins", 
+                "player1", player1.getName().getString(),
+                "player2", player2 != null ? player2.getName().getString() : (isPlayingWithVillager() ? "Villager" : "null"));
+        } else if (isPlayer2) {
+            // player2 сдался - побеждает player1
+            state1.setRoundsWon(2);
+            state2.setRoundsWon(0);
+            ModLogger.logGameEvent("Player2 surrendered, Player1 wins", 
+                "player1", player1 != null ? player1.getName().getString() : "null",
+                "player2", player2.getName().getString());
+        } else {
+            // Если игрок не найден, используем старую логику
+            if (playerWon) {
+                state1.setRoundsWon(2);
+            } else {
+                state2.setRoundsWon(2);
+            }
+        }
+        
+        // Освобождаем жителя
+        if (villagerOpponent != null && villagerOpponent instanceof net.minecraft.world.entity.Mob mob) {
+            mob.setNoAi(false);
+        }
+        
+        // Обрабатываем окончание игры
+        com.bmfalkye.game.GameEndHandler.handleGameEnd(this);
+    }
+
+    public boolean isPlayerTurn(ServerPlayer player) {
+        if (player == null) return false;
+        UUID currentPlayer = getCurrentPlayerUUID();
+        return currentPlayer != null && player.getUUID().equals(currentPlayer);
     }
     
-    /**
-     * Проверяет, было ли комбо уже собрано игроком в этом раунде
-     * @param player игрок
-     * @param comboId идентификатор комбо (например, "faction_Дом Пламени", "legendary", "epic", "spell", "creature", "power")
-     * @return true если комбо уже было собрано
-     */
-    public boolean isComboCollected(ServerPlayer player, String comboId) {
+    public boolean isVillagerTurn() {
+        return isPlayingWithVillager() && player2 == null && board.getCurrentSeat() == Seat.SECOND;
+    }
+
+    // Геттеры
+    public ServerPlayer getPlayer1() { return player1; }
+    public ServerPlayer getPlayer2() { return player2; }
+    public List<Card> getHand(ServerPlayer player) {
         if (player == null) {
-            // Для villager используем UUID villager
-            if (isPlayingWithVillager() && villagerOpponent != null) {
-                Set<String> combos = collectedCombos.get(villagerOpponent.getUUID());
-                return combos != null && combos.contains(comboId);
+            // Для villager возвращаем hand2
+            if (isPlayingWithVillager()) {
+                return hand2;
             }
-            return false;
+            return new ArrayList<>();
+        }
+        return player.equals(player1) ? hand1 : hand2;
+    }
+    public List<Card> getMeleeRow(ServerPlayer player) {
+        if (player == null && isPlayingWithVillager()) {
+            return meleeRow2;
         }
-        Set<String> combos = collectedCombos.get(player.getUUID());
-        return combos != null && combos.contains(comboId);
+        if (player == null) return new ArrayList<>();
+        return player.equals(player1) ? meleeRow1 : meleeRow2;
+    }
+    
+    public List<Card> getRangedRow(ServerPlayer player) {
+        if (player == null && isPlayingWithVillager()) {
+            return rangedRow2;
+        }
+        if (player == null) return new ArrayList<>();
+        return player.equals(player1) ? rangedRow1 : rangedRow2;
     }
     
+    public List<Card> getSiegeRow(ServerPlayer player) {
+        if (player == null && isPlayingWithVillager()) {
+            return siegeRow2;
+        }
+        if (player == null) return new ArrayList<>();
+        return player.equals(player1) ? siegeRow1 : siegeRow2;
+    }
     /**
-     * Отмечает комбо как собранное для игрока в этом раунде
-     * @param player игрок
-     * @param comboId идентификатор комбо
+     * Сторона поля игрока: 1 - player1, 2 - player2 или villager, 0 - нет стороны.
+     * Соответствует выбору рядов в getMeleeRow/getRangedRow/getSiegeRow.
      */
-    public void markComboAsCollected(ServerPlayer player, String comboId) {
-        UUID playerUUID;
+    private int getFieldSide(ServerPlayer player) {
         if (player == null) {
-            // Для villager используем UUID villager
-            if (isPlayingWithVillager() && villagerOpponent != null) {
-                playerUUID = villagerOpponent.getUUID();
-            } else {
-                return;
-            }
-        } else {
-            playerUUID = player.getUUID();
+            return isPlayingWithVillager() ? 2 : 0;
         }
-        collectedCombos.computeIfAbsent(playerUUID, k -> new HashSet<>()).add(comboId);
+        return player.equals(player1) ? 1 : 2;
     }
     
     /**
-     * Очищает все собранные комбо (при начале нового раунда)
+     * Получает ряд, в котором лежит карта на стороне игрока, за O(1)
+     * 
+     * @return ряд или null, если карты нет на поле этого игрока
      */
-    public void clearCollectedCombos() {
-        collectedCombos.clear();
+    public CardRow getCardRow(Card card, ServerPlayer player) {
+        BattlefieldIndex.Location location = fieldIndex.get(card, getFieldSide(player));
+        return location != null ? location.row : null;
     }
     
     /**
-     * Получает сброс игрока
+     * Получает позицию карты в её ряду на стороне игрока
+     * 
+     * @return позиция или -1, если карты нет на поле этого игрока
      */
-    public List<Card> getGraveyard(ServerPlayer player) {
-        if (player == null && isPlayingWithVillager()) {
-            return graveyard2;
-        }
-        if (player == null) {
-            return new ArrayList<>();
-        }
-        return player.equals(player1) ? graveyard1 : graveyard2;
+    public int getCardSlot(Card card, ServerPlayer player) {
+        BattlefieldIndex.Location location = fieldIndex.get(card, getFieldSide(player));
+        return location != null ? location.slot : -1;
     }
     
     /**
-     * Находит самую сильную карту на поле игрока
+     * Проверяет, лежит ли карта на поле игрока
      */
-    public Card findStrongestCard(ServerPlayer player) {
-        Card strongest = null;
-        int maxPower = -1;
-        
-        List<Card> melee = getMeleeRow(player);
-        List<Card> ranged = getRangedRow(player);
-        List<Card> siege = getSiegeRow(player);
-        
-        for (Card card : melee) {
-            int power = getEffectivePower(card, player);
-            if (power > maxPower) {
-                maxPower = power;
-                strongest = card;
-            }
-        }
-        for (Card card : ranged) {
-            int power = getEffectivePower(card, player);
-            if (power > maxPower) {
-                maxPower = power;
-                strongest = card;
-            }
-        }
-        for (Card card : siege) {
-            int power = getEffectivePower(card, player);
-            if (power > maxPower) {
-                maxPower = power;
-                strongest = card;
-            }
-        }
-        
-        return strongest;
+    public boolean isCardOnField(Card card, ServerPlayer player) {
+        return fieldIndex.get(card, getFieldSide(player)) != null;
     }
     
     /**
-     * Удаляет карту с поля игрока
+     * Определяет владельца карты на поле (сначала проверяется player1)
+     * 
+     * @return UUID игрока/жителя или null, если карты нет на поле
      */
-    public boolean removeCardFromField(ServerPlayer player, Card card) {
-        List<Card> melee = getMeleeRow(player);
-        List<Card> ranged = getRangedRow(player);
-        List<Card> siege = getSiegeRow(player);
-        
-        // Ищем карту по ID (так как Card не переопределяет equals)
-        Card cardToRemove = null;
-        for (Card c : melee) {
-            if (c.getId().equals(card.getId())) {
-                cardToRemove = c;
-                break;
-            }
+    private UUID getFieldOwnerUUID(Card card) {
+        BattlefieldIndex.Location location = fieldIndex.find(card);
+        if (location == null) {
+            return null;
         }
-        if (cardToRemove == null) {
-            for (Card c : ranged) {
-                if (c.getId().equals(card.getId())) {
-                    cardToRemove = c;
-                    break;
-                }
-            }
+        if (location.side == 1) {
+            return player1 != null ? player1.getUUID() : null;
         }
-        if (cardToRemove == null) {
-            for (Card c : siege) {
-                if (c.getId().equals(card.getId())) {
-                    cardToRemove = c;
-                    break;
-                }
-            }
+        if (player2 != null) {
+            return player2.getUUID();
         }
-        
-        if (cardToRemove != null) {
-            melee.remove(cardToRemove);
-            ranged.remove(cardToRemove);
-            siege.remove(cardToRemove);
-            // Добавляем в сброс
-            getGraveyard(player).add(cardToRemove);
-            // Проверяем, является ли это картой "Странник Снов" - обрабатываем её эффект при сбросе
-            handleDreamWalkerOnDiscard(player, cardToRemove);
-            // Удаляем модификаторы для этой карты у этого игрока
-            UUID playerUUID = player != null ? player.getUUID() : null;
-            if (playerUUID != null) {
-                Map<String, Integer> playerModifiers = powerModifiers.get(playerUUID);
-                if (playerModifiers != null) {
-                    playerModifiers.remove(cardToRemove.getId());
-                }
-            }
-            // Пересчитываем очки
-            recalculateRoundScore();
-            return true;
+        return isPlayingWithVillager() && villagerOpponent != null ? villagerOpponent.getUUID() : null;
+    }
+    
+    private List<Card> getRow(ServerPlayer player, CardRow row) {
+        switch (row) {
+            case MELEE: return getMeleeRow(player);
+            case RANGED: return getRangedRow(player);
+            case SIEGE: return getSiegeRow(player);
+            default: return new ArrayList<>();
         }
-        return false;
+    }
+    public int getRoundScore(ServerPlayer player) {
+        if (player == null && isPlayingWithVillager()) {
+            return state2.getRoundScore();
+        }
+        if (player == null) return 0;
+        return player.equals(player1) ? state1.getRoundScore() : state2.getRoundScore();
+    }
+    
+    public int getRoundsWon(ServerPlayer player) {
+        if (player == null && isPlayingWithVillager()) {
+            return state2.getRoundsWon();
+        }
+        if (player == null) return 0;
+        return player.equals(player1) ? state1.getRoundsWon() : state2.getRoundsWon();
     }
     
     /**
-     * Проводит битву между картами одного типа боя
-     * Когда оба игрока пасуют, карты одного типа боя сражаются друг с другом
-     * Слабая карта проигрывает и исчезает, у победившей карты вычитается сила проигравшей
+     * Получает список использованных карт для игрока
      */
-    private void resolveCardBattles() {
-        ModLogger.logCardAction("Resolving card battles", 
-            "round", currentRound,
-            "melee1", meleeRow1.size(), 
-            "melee2", meleeRow2.size(),
-            "ranged1", rangedRow1.size(),
-            "ranged2", rangedRow2.size(),
-            "siege1", siegeRow1.size(),
-            "siege2", siegeRow2.size());
-        
-        // Битва в ближнем бою
-        resolveRowBattle(meleeRow1, meleeRow2, "ближний бой", player1);
-        
-        // Битва в дальнем бою
-        resolveRowBattle(rangedRow1, rangedRow2, "дальний бой", player1);
-        
-        // Битва в осаде
-        resolveRowBattle(siegeRow1, siegeRow2, "осада", player1);
-        
-        // Пересчитываем очки после битв
-        recalculateRoundScore();
-        
-        // Обновляем состояние игры после битв
-        if (player1 != null) {
-            com.bmfalkye.network.NetworkHandler.updateGameStateImmediate(player1, this);
-        }
-        if (player2 != null) {
-            com.bmfalkye.network.NetworkHandler.updateGameStateImmediate(player2, this);
+    public List<String> getUsedCards(ServerPlayer player) {
+        if (player == null) {
+            return new ArrayList<>();
         }
+        Set<String> cards = usedCards.get(player.getUUID());
+        return cards != null ? new ArrayList<>(cards) : new ArrayList<>();
     }
     
     /**
-     * Проводит битву между картами одного ряда
-     * Сравнивает общую силу рядов и уничтожает слабейшие карты противника
+     * Получает все использованные карты в игре (для обоих игроков)
      */
-    private void resolveRowBattle(List<Card> row1, List<Card> row2, String rowName, ServerPlayer player1) {
-        if (row1.isEmpty() && row2.isEmpty()) {
-            // Нет карт для битвы
-            return;
+    public List<String> getAllUsedCards() {
+        Set<String> allCards = new HashSet<>();
+        for (Set<String> cards : usedCards.values()) {
+            allCards.addAll(cards);
         }
-        
-        // Вычисляем общую силу каждого ряда
-        // ВАЖНО: Передаем игроков для правильного расчета эффективной силы
-        int totalPower1 = calculateRowPower(row1, player1);
-        int totalPower2 = calculateRowPower(row2, player2);
-        
-        ModLogger.logCardAction("Row battle resolved", 
-            "row", rowName, 
-            "power1", totalPower1, 
-            "power2", totalPower2,
-            "round", currentRound,
-            "cards1", row1.size(), "cards2", row2.size());
-        
-        if (totalPower1 == 0 && totalPower2 == 0) {
-            return; // Нет силы для битвы
+        return new ArrayList<>(allCards);
+    }
+    
+    public int getCurrentRound() { return board.getCurrentRound(); }
+    public boolean isRoundEnded() { return board.isRoundEnded(); }
+    public boolean isGameEnded() { return board.isGameEnded(); }
+    public ServerPlayer getWinner() {
+        if (state1.getRoundsWon() >= 2) return player1;
+        if (state2.getRoundsWon() >= 2) return player2;
+        return null;
+    }
+    public UUID getCurrentPlayerUUID() {
+        Seat seat = board.getCurrentSeat();
+        if (seat == Seat.FIRST) {
+            return player1 != null ? player1.getUUID() : null;
         }
-        
-        // Определяем победителя
-        if (totalPower1 > totalPower2) {
-            // Игрок 1 выигрывает - наносим урон ряду игрока 2
-            int damage = totalPower2;
-            applyDamageToRow(row2, damage, player2, rowName, false);
-            if (player1 != null) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1,
-                    "§aВы выиграли ряд " + rowName + "! §7(Ваша сила: §f" + totalPower1 + "§7, сила противника: §f" + totalPower2 + "§7)");
-            }
-            if (player2 != null) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player2,
-                    "§cВы проиграли ряд " + rowName + ". §7(Ваша сила: §f" + totalPower2 + "§7, сила противника: §f" + totalPower1 + "§7)");
-            }
-        } else if (totalPower2 > totalPower1) {
-            // Игрок 2 выигрывает - наносим урон ряду игрока 1
-            int damage = totalPower1;
-            applyDamageToRow(row1, damage, player1, rowName, true);
-            if (player1 != null) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1,
-                    "§cВы проиграли ряд " + rowName + ". §7(Ваша сила: §f" + totalPower1 + "§7, сила противника: §f" + totalPower2 + "§7)");
-            }
-            if (player2 != null) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player2,
-                    "§aВы выиграли ряд " + rowName + "! §7(Ваша сила: §f" + totalPower2 + "§7, сила противника: §f" + totalPower1 + "§7)");
-            }
-        } else {
-            // Ничья - обе стороны получают урон равный их силе
-            applyDamageToRow(row1, totalPower1, player1, rowName, true);
-            applyDamageToRow(row2, totalPower2, player2, rowName, false);
-            if (player1 != null) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1,
-                    "§7Ничья в ряду " + rowName + ". Обе стороны получили урон.");
-            }
-            if (player2 != null) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player2,
-                    "§7Ничья в ряду " + rowName + ". Обе стороны получили урон.");
-            }
+        if (seat == Seat.SECOND) {
+            if (player2 != null) return player2.getUUID();
+            return villagerOpponent != null ? villagerOpponent.getUUID() : null;
         }
+        return null;
+    }
+    public ServerPlayer getCurrentPlayer() {
+        Seat seat = board.getCurrentSeat();
+        if (seat == Seat.FIRST) return player1;
+        if (seat == Seat.SECOND) return player2; // null - ход villager
+        return null;
     }
     
     /**
-     * Применяет урон к ряду карт, уничтожая слабейшие карты первыми
-     * @param row ряд карт для получения урона
-     * @param damage количество урона
-     * @param player игрок, чей ряд получает урон (null для villager)
-     * @param rowName название ряда (для логов)
-     * @param isPlayer1 true если это ряд игрока 1, false если игрока 2
+     * Доска партии в безголовом ядре (только для чтения снаружи сессии)
      */
-    private void applyDamageToRow(List<Card> row, int damage, ServerPlayer player, String rowName, boolean isPlayer1) {
-        if (row.isEmpty() || damage <= 0) {
-            return;
-        }
-        
-        // Создаём копию списка для безопасной итерации
-        List<Card> cardsToProcess = new ArrayList<>(row);
-        
-        // Сортируем карты по силе (от слабой к сильной)
-        // ВАЖНО: Используем игрока для правильного расчета эффективной силы
-        final ServerPlayer finalPlayer = player;
-        cardsToProcess.sort(Comparator.comparingInt(card -> getEffectivePower(card, finalPlayer)));
-        
-        int remainingDamage = damage;
-        List<Card> cardsToRemove = new ArrayList<>();
-        
-        for (Card card : cardsToProcess) {
-            if (remainingDamage <= 0) {
-                break;
-            }
-            
-            int cardPower = getEffectivePower(card, player);
-            
-            if (remainingDamage >= cardPower) {
-                // Карта уничтожена
-                cardsToRemove.add(card);
-                remainingDamage -= cardPower;
-                
-                // Отправляем в сброс
-                ServerPlayer cardOwner = isPlayer1 ? player1 : (isPlayingWithVillager() ? null : player2);
-                if (cardOwner != null || isPlayingWithVillager()) {
-                    getGraveyard(cardOwner).add(card);
-                    // Проверяем, является ли это картой "Странник Снов" - обрабатываем её эффект при сбросе
-                    if (cardOwner != null) {
-                        handleDreamWalkerOnDiscard(cardOwner, card);
-                    }
-                }
-                
-                // Удаляем модификаторы для этой карты у этого игрока
-                UUID playerUUID = player != null ? player.getUUID() : null;
-                if (playerUUID == null && isPlayingWithVillager()) {
-                    playerUUID = villagerOpponent != null ? villagerOpponent.getUUID() : null;
-                }
-                if (playerUUID != null) {
-                    Map<String, Integer> playerModifiers = powerModifiers.get(playerUUID);
-                    if (playerModifiers != null) {
-                        playerModifiers.remove(card.getId());
-                    }
-                }
-                
-                // Логируем уничтожение
-                if (player != null) {
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player,
-                        "§cКарта §f" + card.getName() + " §cуничтожена в ряду " + rowName + "!");
-                }
-            } else {
-                // Карта получает урон, но не уничтожается
-                int newPower = cardPower - remainingDamage;
-                int basePower = card.getPower();
-                int currentModifier = getPowerModifier(card, player);
-                int newModifier = newPower - basePower;
-                // ВАЖНО: Применяем модификатор только к карте этого игрока
-                addPowerModifier(card, newModifier - currentModifier, player);
-                
-                // Логируем урон
-                if (player != null) {
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player,
-                        "§cКарта §f" + card.getName() + " §cполучила урон: §f" + remainingDamage + 
-                        " §7(Осталось силы: §f" + newPower + "§7)");
+    public GameBoard getBoard() { return board; }
+
+    /**
+     * Неизменяемый снимок партии (для превью и симуляций)
+     */
+    public com.bmfalkye.game.core.BoardSnapshot snapshot() { return board.snapshot(); }
+
+
+    /**
+     * Независимая копия партии для поиска ходов: ветвление через fork(), apply() и undo()
+     * без пакетов, логов и наград. Эффекты карт и комбо применяются те же, что в партии
+     * ({@link CardEffects#RESOLVER}); способности аддонов из API не вызываются. Сила карты -
+     * базовая с модификаторами и бонусом локации (баффы BuffSystem не учитываются).
+     */
+    public RulesEngine fork() {
+        LocationEffect.LocationType location = getLocationType();
+        boolean secondSeatHasLocation = player2 != null; // житель бонус локации не получает
+        RulesEngine fork = new RulesEngine(board.snapshot().toBoard(), CardEffects.RESOLVER, GameListener.NONE,
+            (forkBoard, seat, card) -> {
+                int power = card.getPower() + forkBoard.seat(seat).getPowerModifier(card);
+                if (seat == Seat.FIRST || secondSeatHasLocation) {
+                    power += LocationEffect.getLocationPowerModifier(location, card.getFaction());
                 }
-                
-                remainingDamage = 0;
-            }
+                return Math.max(0, power);
+            });
+        fork.setRandom(new Random(engine.getRandom().nextLong()));
+        fork.setRecordHistory(true);
+        return fork;
+    }
+
+    /**
+     * Место игрока за столом: player1 - первое, player2 или villager (null) - второе
+     */
+    public Seat getSeat(ServerPlayer player) {
+        if (player == null) {
+            return isPlayingWithVillager() ? Seat.SECOND : null;
         }
-        
-        // Удаляем уничтоженные карты из ряда
-        for (Card card : cardsToRemove) {
-            row.remove(card);
+        if (player.equals(player1)) return Seat.FIRST;
+        if (player.equals(player2)) return Seat.SECOND;
+        return null;
+    }
+    
+    public SeatState getSeatState(ServerPlayer player) {
+        Seat seat = getSeat(player);
+        return seat != null ? board.seat(seat) : null;
+    }
+    
+    private boolean hasSecondSeat() {
+        return player2 != null || isPlayingWithVillager();
+    }
+    public boolean hasPassed(ServerPlayer player) {
+        if (player == null && isPlayingWithVillager()) {
+            return state2.isPassed();
         }
-        
-        ModLogger.logCardAction("Damage applied to row", 
-            "row", rowName, 
-            "damage", damage,
-            "cardsDestroyed", cardsToRemove.size(), 
-            "remainingDamage", remainingDamage,
-            "round", currentRound);
+        if (player == null) return false;
+        return player.equals(player1) ? state1.isPassed() : state2.isPassed();
     }
     
-
-    private void endRound() {
-        // Обновляем баффы в конце раунда
-        com.bmfalkye.cards.BuffSystem.updateBuffsEndOfRound(this);
-        roundEnded = true;
-        
-        ModLogger.logRoundEvent("Round ending", 
-            "round", currentRound,
-            "player1Score", roundScore1,
-            "player2Score", roundScore2,
-            "roundsWon1", roundsWon1,
-            "roundsWon2", roundsWon2);
-        
-        // Определяем победителя раунда по количеству выигранных сторон (рядов)
-        // Сравниваем очки по каждому ряду отдельно: ближний бой, дальний бой, осада
-        int meleeScore1 = calculateRowPower(getMeleeRow(player1), player1);
-        int rangedScore1 = calculateRowPower(getRangedRow(player1), player1);
-        int siegeScore1 = calculateRowPower(getSiegeRow(player1), player1);
-        
-        int meleeScore2, rangedScore2, siegeScore2;
-        if (isPlayingWithVillager()) {
-            // Для villager используем null, так как у villager нет ServerPlayer
-            meleeScore2 = calculateRowPower(meleeRow2, null);
-            rangedScore2 = calculateRowPower(rangedRow2, null);
-            siegeScore2 = calculateRowPower(siegeRow2, null);
-        } else {
-            meleeScore2 = calculateRowPower(getMeleeRow(player2), player2);
-            rangedScore2 = calculateRowPower(getRangedRow(player2), player2);
-            siegeScore2 = calculateRowPower(getSiegeRow(player2), player2);
+    public WeatherType getWeather() { return board.getWeather(); }
+    
+    public void setWeather(WeatherType weatherType) {
+        board.setWeather(weatherType);
+    }
+    
+    public CardDeck getDeck1() { return deck1; }
+    
+    public CardDeck getDeck2() { return deck2; }
+    
+    public LeaderCard getLeader(ServerPlayer player) {
+        if (player == null && isPlayingWithVillager()) {
+            return leader2;
         }
-        
-        // Применяем эффекты погоды к очкам рядов
-        if (weather == WeatherType.FROST) {
-            meleeScore1 = getMeleeRow(player1).size(); // Все ближние карты считаются как 1
-            if (isPlayingWithVillager()) {
-                meleeScore2 = meleeRow2.size();
-            } else {
-                meleeScore2 = getMeleeRow(player2).size();
-            }
-        } else if (weather == WeatherType.FOG) {
-            rangedScore1 = getRangedRow(player1).size(); // Все дальние карты считаются как 1
-            if (isPlayingWithVillager()) {
-                rangedScore2 = rangedRow2.size();
-            } else {
-                rangedScore2 = getRangedRow(player2).size();
-            }
-        } else if (weather == WeatherType.RAIN) {
-            siegeScore1 = getSiegeRow(player1).size(); // Все осадные карты считаются как 1
-            if (isPlayingWithVillager()) {
-                siegeScore2 = siegeRow2.size();
-            } else {
-                siegeScore2 = getSiegeRow(player2).size();
-            }
+        if (player == null) return null;
+        return player.equals(player1) ? leader1 : leader2;
+    }
+
+    /**
+     * Игрок места (null - житель или свободное место)
+     */
+    private ServerPlayer playerOf(Seat seat) {
+        return seat == Seat.FIRST ? player1 : player2;
+    }
+
+    /**
+     * Запускает ход жителя в следующем тике сервера, если сейчас его ход
+     */
+    private void scheduleVillagerTurn() {
+        if (isPlayingWithVillager() && isVillagerTurn()
+                && player1 != null && player1.level() instanceof net.minecraft.server.level.ServerLevel serverLevel) {
+            serverLevel.getServer().execute(() -> {
+                if (!isGameEnded() && !isRoundEnded() && isVillagerTurn()) {
+                    com.bmfalkye.game.VillagerAIPlayer.makeAITurn(this);
+                    com.bmfalkye.network.NetworkHandler.updateGameState(player1, this);
+                }
+            });
         }
-        
-        // Определяем победителя каждого ряда
-        int player1Wins = 0; // Количество выигранных рядов player1
-        int player2Wins = 0; // Количество выигранных рядов player2
-        
-        if (meleeScore1 > meleeScore2) {
-            player1Wins++;
-        } else if (meleeScore2 > meleeScore1) {
-            player2Wins++;
+    }
+
+    private String seatName(Seat seat) {
+        ServerPlayer player = playerOf(seat);
+        if (player != null) {
+            return player.getName().getString();
         }
-        
-        if (rangedScore1 > rangedScore2) {
-            player1Wins++;
-        } else if (rangedScore2 > rangedScore1) {
-            player2Wins++;
+        return seat == Seat.SECOND && isPlayingWithVillager() ? "Villager" : (seat == Seat.FIRST ? "Player1" : "Player2");
+    }
+
+    /**
+     * Эффекты карт в живой сессии: способность из API аддона, затем встроенный эффект карты
+     */
+    private class SessionEffects implements EffectResolver {
+        @Override
+        public void apply(RulesEngine engine, Seat seat, Card card, CardRow row) {
+            ServerPlayer player = playerOf(seat);
+            ModLogger.logCardEffect("Card effect triggered",
+                "player", seatName(seat),
+                "card", card.getName(),
+                "cardId", card.getId(),
+                "cardType", card.getType().toString(),
+                "row", row != null ? row.toString() : "null");
+
+            com.bmfalkye.api.Ability ability = com.bmfalkye.api.AbilityRegistry.getCardAbility(card.getId());
+            if (ability != null) {
+                ability.onPlay(FalkyeGameSession.this, player, card.getId());
+            }
+            CardEffects.RESOLVER.apply(engine, seat, card, row);
         }
-        
-        if (siegeScore1 > siegeScore2) {
-            player1Wins++;
-        } else if (siegeScore2 > siegeScore1) {
-            player2Wins++;
+
+        @Override
+        public void onDiscarded(RulesEngine engine, Seat seat, Card card) {
+            CardEffects.RESOLVER.onDiscarded(engine, seat, card);
         }
-        
-        // Определяем победителя раунда по количеству выигранных рядов
-        String roundResult = "";
-        String winner = "";
-        
-        if (player1Wins > player2Wins) {
-            // Player1 выиграл больше рядов
-            roundsWon1++;
-            winner = player1 != null ? player1.getName().getString() : "Player1";
-            if (player1 != null) {
-                roundResult = "§aВы выиграли раунд! (§6" + player1Wins + "§a из 3 сторон)";
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1, roundResult);
-                // Детали по рядам
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1, 
-                    "§7Ближний бой: §a" + meleeScore1 + " §7- §c" + meleeScore2 + 
-                    " | Дальний бой: §a" + rangedScore1 + " §7- §c" + rangedScore2 + 
-                    " | Осада: §a" + siegeScore1 + " §7- §c" + siegeScore2);
-            }
-            if (player2 != null) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player2, "§cВы проиграли раунд. (§6" + player2Wins + "§c из 3 сторон)");
-                com.bmfalkye.network.NetworkHandler.addActionLog(player2, 
-                    "§7Ближний бой: §c" + meleeScore1 + " §7- §a" + meleeScore2 + 
-                    " | Дальний бой: §c" + rangedScore1 + " §7- §a" + rangedScore2 + 
-                    " | Осада: §c" + siegeScore1 + " §7- §a" + siegeScore2);
-            } else if (isPlayingWithVillager() && player1 != null) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1, 
-                    "§7Противник выиграл §c" + player2Wins + " §7из 3 сторон");
-            }
-        } else if (player2Wins > player1Wins) {
-            // Player2 выиграл больше рядов
-            roundsWon2++;
-            winner = player2 != null ? player2.getName().getString() : (isPlayingWithVillager() ? "Villager" : "Player2");
-            if (player1 != null) {
-                roundResult = "§cПротивник выиграл раунд. (§6" + player2Wins + "§c из 3 сторон)";
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1, roundResult);
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1, 
-                    "§7Ближний бой: §c" + meleeScore1 + " §7- §a" + meleeScore2 + 
-                    " | Дальний бой: §c" + rangedScore1 + " §7- §a" + rangedScore2 + 
-                    " | Осада: §c" + siegeScore1 + " §7- §a" + siegeScore2);
-            }
-            if (player2 != null) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player2, "§aВы выиграли раунд! (§6" + player2Wins + "§a из 3 сторон)");
-                com.bmfalkye.network.NetworkHandler.addActionLog(player2, 
-                    "§7Ближний бой: §a" + meleeScore1 + " §7- §c" + meleeScore2 + 
-                    " | Дальний бой: §a" + rangedScore1 + " §7- §c" + rangedScore2 + 
-                    " | Осада: §a" + siegeScore1 + " §7- §c" + siegeScore2);
-            }
-        } else {
-            // Ничья по количеству выигранных рядов - используем общие очки как тай-брейк
-            if (roundScore1 > roundScore2) {
-                roundsWon1++;
-                winner = player1 != null ? player1.getName().getString() : "Player1";
-                if (player1 != null) {
-                    roundResult = "§aВы выиграли раунд! (ничья по рядам, но больше общих очков)";
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, roundResult);
-                }
-                if (player2 != null) {
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player2, "§cВы проиграли раунд. (ничья по рядам, но меньше общих очков)");
-                }
-            } else if (roundScore2 > roundScore1) {
-                roundsWon2++;
-                winner = player2 != null ? player2.getName().getString() : (isPlayingWithVillager() ? "Villager" : "Player2");
-                if (player1 != null) {
-                    roundResult = "§cПротивник выиграл раунд. (ничья по рядам, но больше общих очков)";
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, roundResult);
-                }
-                if (player2 != null) {
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player2, "§aВы выиграли раунд! (ничья по рядам, но больше общих очков)");
+    }
+
+    /**
+     * Побочные эффекты партии: журнал действий, реплей, задания, таймер хода, пакеты и ход жителя
+     */
+    private class SessionListener implements GameListener {
+        @Override
+        public void onCardPlayed(Seat seat, Card card, CardRow row) {
+            ServerPlayer player = playerOf(seat);
+            if (GameRules.isAbilityCard(card)) {
+                com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, seat,
+                    com.bmfalkye.network.ActionLogCode.ABILITY_CARD_USED, card.getId());
+                recordMove(player, "use_ability", card.getId());
+                if (player != null) {
+                    com.bmfalkye.daily.DailyRewardSystem.incrementQuestProgress(player,
+                        com.bmfalkye.daily.DailyRewardSystem.QuestType.PLAY_CARDS, 1);
+                    if (card.getType() == Card.CardType.SPELL) {
+                        com.bmfalkye.daily.DailyRewardSystem.incrementQuestProgress(player,
+                            com.bmfalkye.daily.DailyRewardSystem.QuestType.PLAY_SPELLS, 1);
+                    }
                 }
             } else {
-                // Полная ничья
-                winner = "Draw";
-                ModLogger.logRoundEvent("Round ended in draw", 
-                    "round", currentRound,
-                    "player1Score", roundScore1,
-                    "player2Score", roundScore2,
-                    "player1Wins", player1Wins,
-                    "player2Wins", player2Wins);
-                if (player1 != null) {
-                    roundResult = "§7Раунд закончился ничьей. (равное количество выигранных рядов и общих очков)";
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, roundResult);
-                }
-                if (player2 != null) {
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player2, roundResult);
+                com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, seat,
+                    com.bmfalkye.network.ActionLogCode.CARD_PLAYED, card.getId(), row);
+                recordMove(player, "play_card", card.getId());
+                if (player != null) {
+                    com.bmfalkye.daily.DailyRewardSystem.incrementQuestProgress(player,
+                        com.bmfalkye.daily.DailyRewardSystem.QuestType.PLAY_CARDS, 1);
                 }
             }
-            
-            // Показываем детали по рядам даже при ничьей
-            if (player1 != null) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1, 
-                    "§7Ближний бой: §e" + meleeScore1 + " §7- §e" + meleeScore2 + 
-                    " | Дальний бой: §e" + rangedScore1 + " §7- §e" + rangedScore2 + 
-                    " | Осада: §e" + siegeScore1 + " §7- §e" + siegeScore2);
-            }
-            if (player2 != null) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player2, 
-                    "§7Ближний бой: §e" + meleeScore1 + " §7- §e" + meleeScore2 + 
-                    " | Дальний бой: §e" + rangedScore1 + " §7- §e" + rangedScore2 + 
-                    " | Осада: §e" + siegeScore1 + " §7- §e" + siegeScore2);
+
+            // Сыграли обычной картой и есть карта способности - ход не переходит,
+            // можно сыграть способность или спасовать (отказаться)
+            if (player != null && !GameRules.shouldSwitchTurnAfterPlay(board.seat(seat), card)) {
+                com.bmfalkye.network.NetworkHandler.addActionLog(player,
+                    com.bmfalkye.network.ActionLogCode.CAN_PLAY_ABILITY_OR_PASS);
             }
         }
-        
-        ModLogger.logRoundEvent("Round ended", 
-            "round", currentRound,
-            "winner", winner,
-            "roundsWon1", roundsWon1,
-            "roundsWon2", roundsWon2);
-        
-        // Уведомляем о счёте раунда
-        if (player1 != null) {
-            com.bmfalkye.network.NetworkHandler.addActionLog(player1, 
-                "§7Счёт раунда: §a" + roundScore1 + " §7- §c" + roundScore2);
+
+        @Override
+        public void onPassed(Seat seat) {
+            recordMove(playerOf(seat), "pass", null);
+            ModLogger.logPlayerAction("Player passed",
+                "player", seatName(seat),
+                "round", board.getCurrentRound(),
+                "player1Score", state1.getRoundScore(),
+                "player2Score", state2.getRoundScore(),
+                "player1Passed", state1.isPassed(),
+                "player2Passed", state2.isPassed());
+            com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, seat,
+                com.bmfalkye.network.ActionLogCode.PASSED);
         }
-        
-        // Визуальные эффекты окончания раунда будут проиграны на клиенте через GuiEffectManager
-        // Не создаем эффекты в мире, чтобы они были в GUI
-        
-        // Обновляем состояние игры после окончания раунда (критичное обновление)
-        if (player1 != null) {
-            com.bmfalkye.network.NetworkHandler.updateGameStateImmediate(player1, this);
+
+        @Override
+        public void onAbilityDeclined(Seat seat) {
+            com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, seat,
+                com.bmfalkye.network.ActionLogCode.ABILITY_DECLINED);
         }
-        if (player2 != null) {
-            com.bmfalkye.network.NetworkHandler.updateGameStateImmediate(player2, this);
+
+        @Override
+        public void onTurnEnded(Seat seat) {
+            com.bmfalkye.game.TurnTimer.endTurn(FalkyeGameSession.this);
         }
-        
-        // Проверяем, закончена ли игра
-        if (roundsWon1 >= 2 || roundsWon2 >= 2) {
-            endGame();
-        } else {
-            // Начинаем следующий раунд
-            startNextRound();
-            
-            // Если играем с villager и теперь его ход, делаем ход AI
-            if (isPlayingWithVillager() && isVillagerTurn()) {
-                // Выполняем ход AI в следующем тике сервера
-                if (player1 != null && player1.level() instanceof net.minecraft.server.level.ServerLevel serverLevel) {
-                    serverLevel.getServer().execute(() -> {
-                        if (!isGameEnded() && !isRoundEnded() && isVillagerTurn()) {
-                            com.bmfalkye.game.VillagerAIPlayer.makeAITurn(this);
-                            com.bmfalkye.network.NetworkHandler.updateGameStateImmediate(player1, this);
-                        }
-                    });
-                }
+
+        @Override
+        public void onTurnChanged(Seat seat) {
+            // Без второго места ход всегда у player1
+            if (seat == Seat.SECOND && !hasSecondSeat()) {
+                board.setCurrentSeat(player1 != null ? Seat.FIRST : null);
             }
-        }
-    }
+            if (getCurrentPlayerUUID() != null) {
+                com.bmfalkye.game.TurnTimer.startTurn(FalkyeGameSession.this);
+            }
+            com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, board.getCurrentSeat(),
+                com.bmfalkye.network.ActionLogCode.TURN_START);
 
-    private void startNextRound() {
-        // Проверяем, что не превышен лимит раундов (максимум 3 раунда)
-        if (currentRound >= 3) {
-            ModLogger.logGameLogic("Cannot start next round: maximum rounds reached", "currentRound", currentRound);
-            // Если уже 3 раунда, завершаем игру
-            endGame();
-            return;
-        }
-        
-        int newRound = currentRound + 1;
-        ModLogger.logRoundEvent("Starting next round", 
-            "newRound", newRound, 
-            "roundsWon1", roundsWon1, 
-            "roundsWon2", roundsWon2,
-            "player1", player1 != null ? player1.getName().getString() : "null",
-            "player2", player2 != null ? player2.getName().getString() : (isPlayingWithVillager() ? "Villager" : "null"));
-        
-        currentRound++;
-        roundEnded = false;
-        player1Passed = false;
-        
-        // Очищаем баффы в начале нового раунда (те, что должны истечь)
-        // Баффы с duration > 0 будут обновлены в endRound через updateBuffsEndOfRound
-        player2Passed = false;
-        player1PlayedNormalCard = false;
-        player1PlayedAbilityCard = false;
-        player2PlayedNormalCard = false;
-        player2PlayedAbilityCard = false;
-        roundScore1 = 0;
-        roundScore2 = 0;
-        weather = WeatherType.NONE;
-        
-        // Очищаем модификаторы силы (эффекты карт действуют только в рамках раунда)
-        clearPowerModifiers();
-        
-        // Очищаем показанные карты (эффект действует только в рамках раунда)
-        clearRevealedCards();
-        
-        // Очищаем собранные комбо (каждое комбо можно собрать только один раз за раунд)
-        clearCollectedCombos();
-        
-        // Возвращаем карты с поля в колоду (через сброс, затем в колоду)
-        // Сначала отправляем карты с поля в сброс
-        graveyard1.addAll(meleeRow1);
-        graveyard1.addAll(rangedRow1);
-        graveyard1.addAll(siegeRow1);
-        graveyard2.addAll(meleeRow2);
-        graveyard2.addAll(rangedRow2);
-        graveyard2.addAll(siegeRow2);
-        
-        // Возвращаем карты из сброса в колоду (создаём копию списка, чтобы избежать ConcurrentModificationException)
-        List<Card> graveyard1Copy = new ArrayList<>(graveyard1);
-        List<Card> graveyard2Copy = new ArrayList<>(graveyard2);
-        
-        for (Card card : graveyard1Copy) {
-            if (deck1 != null && card != null) {
-                deck1.returnCardToDeck(card);
+            // Смена хода - критичное обновление, отправляется сразу
+            if (player1 != null) {
+                com.bmfalkye.network.NetworkHandler.sendGameStateNow(player1, FalkyeGameSession.this);
             }
-        }
-        for (Card card : graveyard2Copy) {
-            if (deck2 != null && card != null) {
-                deck2.returnCardToDeck(card);
+            if (player2 != null) {
+                com.bmfalkye.network.NetworkHandler.sendGameStateNow(player2, FalkyeGameSession.this);
             }
+            scheduleVillagerTurn();
         }
-        
-        // Очищаем сбросы
-        graveyard1.clear();
-        graveyard2.clear();
-        
-        // Очищаем поля
-        meleeRow1.clear();
-        rangedRow1.clear();
-        siegeRow1.clear();
-        meleeRow2.clear();
-        rangedRow2.clear();
-        siegeRow2.clear();
-        
-        // Перемешиваем колоды
-        if (deck1 != null) {
-            deck1.shuffle();
-        }
-        if (deck2 != null) {
-            deck2.shuffle();
-        }
-        
-        // Раздаём новые карты игрокам (10 карт каждому)
-        for (int i = 0; i < 10; i++) {
-            if (deck1 != null) {
-                Card card1 = deck1.drawCard();
-                if (card1 != null) {
-                    hand1.add(card1);
-                }
-            }
-            if (deck2 != null) {
-                Card card2 = deck2.drawCard();
-                if (card2 != null) {
-                    hand2.add(card2);
-                }
+
+        @Override
+        public void onLeaderUsed(Seat seat, LeaderCard leader) {
+            ServerPlayer player = playerOf(seat);
+            recordMove(player, "use_leader", leader.getId());
+            if (player != null) {
+                com.bmfalkye.daily.DailyRewardSystem.incrementQuestProgress(player,
+                    com.bmfalkye.daily.DailyRewardSystem.QuestType.USE_LEADER, 1);
             }
+            com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, seat,
+                com.bmfalkye.network.ActionLogCode.LEADER_USED, leader.getName());
         }
-        
-        // Переключаем первого ходящего (тот, кто выиграл предыдущий раунд)
-        if (isPlayingWithVillager() && villagerOpponent != null) {
-            if (roundsWon1 > roundsWon2) {
-                currentPlayer = player1 != null ? player1.getUUID() : null;
-            } else if (roundsWon2 > roundsWon1) {
-                currentPlayer = villagerOpponent.getUUID();
-            } else {
-                // Если была ничья, переключаем
-                if (player1 != null && currentPlayer != null && currentPlayer.equals(player1.getUUID())) {
-                    currentPlayer = villagerOpponent.getUUID();
-                } else {
-                    if (player1 != null) {
-                        currentPlayer = player1.getUUID();
-                    }
+
+        @Override
+        public void onEffect(Seat actor, com.bmfalkye.network.ActionLogCode code, Object... args) {
+            if (code.getPerspective() == com.bmfalkye.network.ActionLogCode.Perspective.NONE && actor != null) {
+                // Сообщение только для автора эффекта
+                ServerPlayer player = playerOf(actor);
+                if (player != null) {
+                    com.bmfalkye.network.NetworkHandler.addActionLog(player, code, args);
                 }
-            }
-        } else if (player2 != null) {
-            if (roundsWon1 > roundsWon2) {
-                currentPlayer = player1 != null ? player1.getUUID() : null;
-            } else if (roundsWon2 > roundsWon1) {
-                currentPlayer = player2.getUUID();
             } else {
-                // Если была ничья, первый ход делает тот, кто ходил вторым в прошлом раунде
-                if (player1 != null && currentPlayer != null) {
-                    currentPlayer = currentPlayer.equals(player1.getUUID()) ? player2.getUUID() : player1.getUUID();
-                } else if (player1 != null) {
-                    currentPlayer = player1.getUUID();
-                }
+                com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, actor, code, args);
             }
-        } else if (player1 != null) {
-            // Если нет второго игрока и не villager, всегда ход первого игрока
-            currentPlayer = player1.getUUID();
-        }
-        
-        // Запускаем таймер для нового хода
-        if (currentPlayer != null) {
-            com.bmfalkye.game.TurnTimer.startTurn(this);
         }
-        
-        // Логируем, чей первый ход в новом раунде
-        if (player1 != null) {
-            if (isPlayingWithVillager() && isVillagerTurn()) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§7Раунд " + currentRound + " - Ход жителя");
-            } else if (isPlayerTurn(player1)) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§7Раунд " + currentRound + " - §aВаш ход!");
-            } else {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§7Раунд " + currentRound + " - §cХод противника");
-            }
+
+        @Override
+        public void onPowerChanged(Seat seat, Card card) {
+            markCardRowDirty(seat.getSide(), card);
         }
-        if (player2 != null) {
-            if (isPlayerTurn(player2)) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player2, "§7Раунд " + currentRound + " - §aВаш ход!");
-            } else {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player2, "§7Раунд " + currentRound + " - §cХод противника");
+
+        @Override
+        public void onCardDestroyed(Seat seat, Card card, CardRow row) {
+            ServerPlayer owner = playerOf(seat);
+            if (owner != null) {
+                com.bmfalkye.network.NetworkHandler.addActionLog(owner,
+                    com.bmfalkye.network.ActionLogCode.CARD_DESTROYED, card.getId(), row);
             }
         }
-        
-        // Обновляем состояние игры после начала нового раунда
-        if (player1 != null) {
-            com.bmfalkye.network.NetworkHandler.updateGameState(player1, this);
-        }
-        if (player2 != null) {
-            com.bmfalkye.network.NetworkHandler.updateGameState(player2, this);
-        }
-        
-        // Если играем с villager и теперь его ход, делаем ход AI (без блокирующей задержки)
-        if (isPlayingWithVillager() && isVillagerTurn()) {
-            if (player1 != null && player1.level() instanceof net.minecraft.server.level.ServerLevel serverLevel) {
-                // Выполняем ход AI асинхронно без блокирующей задержки
-                serverLevel.getServer().execute(() -> {
-                    if (!isGameEnded() && !isRoundEnded() && isVillagerTurn()) {
-                        com.bmfalkye.game.VillagerAIPlayer.makeAITurn(this);
-                        com.bmfalkye.network.NetworkHandler.updateGameState(player1, this);
-                    }
-                });
+
+        @Override
+        public void onCardDamaged(Seat seat, Card card, int damage, int newPower) {
+            ServerPlayer owner = playerOf(seat);
+            if (owner != null) {
+                com.bmfalkye.network.NetworkHandler.addActionLog(owner,
+                    com.bmfalkye.network.ActionLogCode.CARD_DAMAGED, card.getId(), damage, newPower);
             }
         }
-    }
 
-    private void endGame() {
-        // Очищаем баффы при завершении игры
-        if (player1 != null) {
-            com.bmfalkye.cards.BuffSystem.clearPlayerBuffs(this, player1);
-        }
-        if (player2 != null) {
-            com.bmfalkye.cards.BuffSystem.clearPlayerBuffs(this, player2);
-        }
-        String winner = "";
-        if (roundsWon1 >= 2) {
-            winner = player1 != null ? player1.getName().getString() : "Player1";
-        } else if (roundsWon2 >= 2) {
-            winner = player2 != null ? player2.getName().getString() : (isPlayingWithVillager() ? "Villager" : "Player2");
-        }
-        
-        ModLogger.logGameEvent("Game ended", 
-            "winner", winner,
-            "roundsWon1", roundsWon1,
-            "roundsWon2", roundsWon2,
-            "finalRound", currentRound,
-            "player1", player1 != null ? player1.getName().getString() : "null",
-            "player2", player2 != null ? player2.getName().getString() : (isPlayingWithVillager() ? "Villager" : "null"));
-        
-        gameEnded = true;
-        roundEnded = true;
-        
-        // Визуальные эффекты окончания игры будут проиграны на клиенте через GuiEffectManager
-        // Не создаем эффекты в мире, чтобы они были в GUI
-        
-        // Освобождаем жителя
-        if (villagerOpponent != null && villagerOpponent instanceof net.minecraft.world.entity.Mob mob) {
-            mob.setNoAi(false);
-        }
-        
-        // Обновляем состояние игры после окончания игры
-        if (player1 != null) {
-            com.bmfalkye.network.NetworkHandler.updateGameState(player1, this);
-        }
-        if (player2 != null) {
-            com.bmfalkye.network.NetworkHandler.updateGameState(player2, this);
-        }
-        
-        // Обрабатываем окончание игры
-        com.bmfalkye.game.GameEndHandler.handleGameEnd(this);
-    }
-    
-    /**
-     * Принудительно завершить игру (для сдачи или проигрыша по таймауту)
-     */
-    public void forceGameEnd(ServerPlayer player, boolean playerWon) {
-        if (gameEnded) {
-            ModLogger.logGameEvent("forceGameEnd failed: game already ended", "player", player != null ? player.getName().getString() : "null");
-            return;
-        }
-        
-        ModLogger.logGameEvent("Force game end", 
-            "player", player != null ? player.getName().getString() : "null",
-            "playerWon", playerWon,
-            "round", currentRound,
-            "roundsWon1", roundsWon1,
-            "roundsWon2", roundsWon2);
-        
-        gameEnded = true;
-        roundEnded = true;
-        
-        // Определяем, кто сдался: player1 или player2
-        boolean isPlayer1 = player1 != null && player.equals(player1);
-        boolean isPlayer2 = player2 != null && player.equals(player2);
-        
-        // Если сдался player1, побеждает player2 (или villager)
-        // Если сдался player2, побеждает player1
-        if (isPlayer1) {
-            // player1 сдался - побеждает player2 (или villager)
-            roundsWon2 = 2;
-            roundsWon1 = 0;
-            ModLogger.logGameEvent("Player1 surrendered, Player2 wins", 
-                "player1", player1.getName().getString(),
-                "player2", player2 != null ? player2.getName().getString() : (isPlayingWithVillager() ? "Villager" : "null"));
-        } else if (isPlayer2) {
-            // player2 сдался - побеждает player1
-            roundsWon1 = 2;
-            roundsWon2 = 0;
-            ModLogger.logGameEvent("Player2 surrendered, Player1 wins", 
-                "player1", player1 != null ? player1.getName().getString() : "null",
-                "player2", player2.getName().getString());
-        } else {
-            // Если игрок не найден, используем старую логику
-            if (playerWon) {
-                roundsWon1 = 2;
+        @Override
+        public void onRowBattle(CardRow row, int power1, int power2) {
+            ModLogger.logCardAction("Row battle resolved",
+                "row", row,
+                "power1", power1,
+                "power2", power2,
+                "round", board.getCurrentRound());
+            if (power1 > power2) {
+                com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, Seat.FIRST,
+                    com.bmfalkye.network.ActionLogCode.ROW_BATTLE_WON, row, power1, power2);
+            } else if (power2 > power1) {
+                com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, Seat.SECOND,
+                    com.bmfalkye.network.ActionLogCode.ROW_BATTLE_WON, row, power2, power1);
             } else {
-                roundsWon2 = 2;
+                // Ничья - обе стороны получили урон, равный их силе
+                com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, null,
+                    com.bmfalkye.network.ActionLogCode.ROW_BATTLE_DRAW, row);
             }
         }
-        
-        // Освобождаем жителя
-        if (villagerOpponent != null && villagerOpponent instanceof net.minecraft.world.entity.Mob mob) {
-            mob.setNoAi(false);
-        }
-        
-        // Обрабатываем окончание игры
-        com.bmfalkye.game.GameEndHandler.handleGameEnd(this);
-    }
 
-    private void switchTurn() {
-        String previousPlayer = currentPlayer != null ? 
-            (player1 != null && currentPlayer.equals(player1.getUUID()) ? player1.getName().getString() : 
-             (player2 != null && currentPlayer.equals(player2.getUUID()) ? player2.getName().getString() : 
-              (isPlayingWithVillager() && villagerOpponent != null && currentPlayer.equals(villagerOpponent.getUUID()) ? "Villager" : "Unknown"))) : "null";
-        
-        // Сбрасываем флаги сыгранных карт для текущего игрока (который только что закончил свой ход)
-        // Это позволяет игроку снова играть картами, когда ход вернется к нему
-        if (currentPlayer != null) {
-            if (player1 != null && currentPlayer.equals(player1.getUUID())) {
-                player1PlayedNormalCard = false;
-                player1PlayedAbilityCard = false;
-            } else if (player2 != null && currentPlayer.equals(player2.getUUID())) {
-                player2PlayedNormalCard = false;
-                player2PlayedAbilityCard = false;
-            }
-        }
-        
-        // Завершаем таймер предыдущего хода
-        com.bmfalkye.game.TurnTimer.endTurn(this);
-        
-        // Если currentPlayer null, устанавливаем его на player1
-        if (currentPlayer == null && player1 != null) {
-            currentPlayer = player1.getUUID();
+        @Override
+        public void onRoundEnding() {
+            // Баффы с ограниченной длительностью тикают в конце раунда
+            com.bmfalkye.cards.BuffSystem.updateBuffsEndOfRound(FalkyeGameSession.this);
         }
-        
-        if (isPlayingWithVillager()) {
-            // Для villager переключаем между игроком и villager
-            if (player1Passed && !player2Passed) {
-                // Ход villager
-                if (villagerOpponent != null) {
-                    currentPlayer = villagerOpponent.getUUID();
-                }
-            } else if (player2Passed && !player1Passed) {
-                if (player1 != null) {
-                    currentPlayer = player1.getUUID();
-                }
+
+        @Override
+        public void onRoundEnded(GameRules.RoundResult result) {
+            if (result.winner == null) {
+                com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, null,
+                    com.bmfalkye.network.ActionLogCode.ROUND_DRAW);
+            } else if (result.decidedByTotal) {
+                // Ничья по рядам - победа по общим очкам
+                com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, result.winner,
+                    com.bmfalkye.network.ActionLogCode.ROUND_WON_TOTAL);
             } else {
-                // Переключаем между игроком и villager
-                if (player1 != null && currentPlayer != null && currentPlayer.equals(player1.getUUID())) {
-                    if (villagerOpponent != null) {
-                        currentPlayer = villagerOpponent.getUUID();
-                    }
-                } else {
-                    if (player1 != null) {
-                        currentPlayer = player1.getUUID();
-                    }
-                }
+                com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, result.winner,
+                    com.bmfalkye.network.ActionLogCode.ROUND_WON_ROWS,
+                    result.winner == Seat.FIRST ? result.rowsWon1 : result.rowsWon2);
             }
-        } else {
-            if (player1Passed && !player2Passed && player2 != null) {
-                currentPlayer = player2.getUUID();
-            } else if (player2Passed && !player1Passed) {
-                if (player1 != null) {
-                    currentPlayer = player1.getUUID();
-                }
-            } else if (player2 != null && currentPlayer != null) {
-                currentPlayer = currentPlayer.equals(player1.getUUID()) ? player2.getUUID() : player1.getUUID();
-            } else if (player1 != null && currentPlayer == null) {
-                currentPlayer = player1.getUUID();
+
+            // Детали по рядам (значения по местам, клиент показывает свои очки первыми)
+            int[] scores1 = result.rowScores1;
+            int[] scores2 = result.rowScores2;
+            com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, null, com.bmfalkye.network.ActionLogCode.ROW_SCORES,
+                scores1[0], scores2[0], scores1[1], scores2[1], scores1[2], scores2[2]);
+
+            ModLogger.logRoundEvent("Round ended",
+                "round", board.getCurrentRound(),
+                "winner", result.winner != null ? seatName(result.winner) : "Draw",
+                "roundsWon1", state1.getRoundsWon(),
+                "roundsWon2", state2.getRoundsWon());
+
+            com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, null, com.bmfalkye.network.ActionLogCode.ROUND_SCORE,
+                state1.getRoundScore(), state2.getRoundScore());
+
+            // Окончание раунда - критичное обновление, отправляется сразу
+            if (player1 != null) {
+                com.bmfalkye.network.NetworkHandler.sendGameStateNow(player1, FalkyeGameSession.this);
             }
-        }
-        
-        // Запускаем таймер для нового хода
-        if (currentPlayer != null) {
-            com.bmfalkye.game.TurnTimer.startTurn(this);
-            // Оптимизация: убрано избыточное логирование
-        }
-        
-        // Уведомляем игроков о смене хода через лог действий
-        if (player1 != null) {
-            if (isPlayingWithVillager() && isVillagerTurn()) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§7Ход жителя");
-            } else if (isPlayerTurn(player1)) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§aВаш ход!");
-            } else {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§cХод противника");
+            if (player2 != null) {
+                com.bmfalkye.network.NetworkHandler.sendGameStateNow(player2, FalkyeGameSession.this);
             }
         }
-        if (player2 != null) {
-            if (isPlayerTurn(player2)) {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player2, "§aВаш ход!");
-            } else {
-                com.bmfalkye.network.NetworkHandler.addActionLog(player2, "§cХод противника");
+
+        @Override
+        public void onRoundStarted(int round, Seat firstSeat) {
+            // Без второго места ход всегда у player1
+            if (!hasSecondSeat()) {
+                board.setCurrentSeat(player1 != null ? Seat.FIRST : null);
+            }
+            ModLogger.logRoundEvent("Round started",
+                "round", round,
+                "roundsWon1", state1.getRoundsWon(),
+                "roundsWon2", state2.getRoundsWon());
+
+            if (getCurrentPlayerUUID() != null) {
+                com.bmfalkye.game.TurnTimer.startTurn(FalkyeGameSession.this);
             }
-        }
-        
-        // Проверяем условия автоматического окончания раунда/игры
-        checkAutoEndConditions();
-        
-        // Обновляем состояние игры после переключения хода (критичное обновление)
-        if (player1 != null) {
-            com.bmfalkye.network.NetworkHandler.updateGameStateImmediate(player1, this);
-        }
-        if (player2 != null) {
-            com.bmfalkye.network.NetworkHandler.updateGameStateImmediate(player2, this);
-        }
-        
-        // Если играем с villager и теперь его ход, делаем ход AI
-        if (isPlayingWithVillager() && isVillagerTurn()) {
-            // Выполняем ход AI асинхронно без блокирующей задержки
-            if (player1 != null && player1.level() instanceof net.minecraft.server.level.ServerLevel serverLevel) {
-                serverLevel.getServer().execute(() -> {
-                    if (!isGameEnded() && !isRoundEnded() && isVillagerTurn()) {
-                        com.bmfalkye.game.VillagerAIPlayer.makeAITurn(this);
-                        com.bmfalkye.network.NetworkHandler.updateGameState(player1, this);
-                    }
-                });
+            com.bmfalkye.network.NetworkHandler.logEvent(FalkyeGameSession.this, board.getCurrentSeat(),
+                com.bmfalkye.network.ActionLogCode.ROUND_TURN_START, round);
+
+            if (player1 != null) {
+                com.bmfalkye.network.NetworkHandler.updateGameState(player1, FalkyeGameSession.this);
             }
-        }
-    }
-    
-    /**
-     * Проверяет условия автоматического окончания раунда/игры
-     * Раунд заканчивается только после битвы карт и проверки наличия карт в руках
-     */
-    private void checkAutoEndConditions() {
-        if (roundEnded || gameEnded) {
-            return;
-        }
-        
-        // Проверяем, что это 3 раунд
-        if (currentRound != 3) {
-            return;
-        }
-        
-        // Проверяем, что у обоих игроков закончились карты в колоде
-        boolean deck1Empty = deck1 == null || deck1.isEmpty();
-        boolean deck2Empty = deck2 == null || deck2.isEmpty();
-        
-        // Проверяем, что у обоих игроков закончились карты в руке
-        boolean hand1Empty = hand1 == null || hand1.isEmpty();
-        boolean hand2Empty = hand2 == null || hand2.isEmpty();
-        
-        // Если у обоих игроков закончились карты в колоде и руке
-        if (deck1Empty && deck2Empty && hand1Empty && hand2Empty) {
-            // Проверяем, пасовали ли оба игрока
-            if (player1Passed && player2Passed) {
-                // Проверяем, выкинули ли игроки карты в этом раунде
-                boolean player1PlayedCards = player1PlayedNormalCard || player1PlayedAbilityCard;
-                boolean player2PlayedCards = player2PlayedNormalCard || player2PlayedAbilityCard;
-                
-                // Если оба пасовали и не выкинули ни одной карты - ничья
-                if (!player1PlayedCards && !player2PlayedCards) {
-                    if (player1 != null) {
-                        com.bmfalkye.network.NetworkHandler.addActionLog(player1, 
-                            "§7У обоих игроков закончились карты. Раунд завершён ничьей.");
-                    }
-                    if (player2 != null) {
-                        com.bmfalkye.network.NetworkHandler.addActionLog(player2, 
-                            "§7У обоих игроков закончились карты. Раунд завершён ничьей.");
-                    }
-                    endRound();
-                } else {
-                    // Проводим битву карт и затем заканчиваем раунд
-                    resolveCardBattles();
-                    endRound();
-                }
+            if (player2 != null) {
+                com.bmfalkye.network.NetworkHandler.updateGameState(player2, FalkyeGameSession.this);
             }
+            scheduleVillagerTurn();
         }
-    }
 
-    public boolean isPlayerTurn(ServerPlayer player) {
-        if (player == null || currentPlayer == null) return false;
-        return player.getUUID().equals(currentPlayer);
-    }
-    
-    public boolean isVillagerTurn() {
-        return isPlayingWithVillager() && villagerOpponent != null && 
-               currentPlayer != null && villagerOpponent.getUUID().equals(currentPlayer);
-    }
+        @Override
+        public void onGameEnded(Seat winner) {
+            // Очищаем баффы при завершении игры
+            if (player1 != null) {
+                com.bmfalkye.cards.BuffSystem.clearPlayerBuffs(FalkyeGameSession.this, player1);
+            }
+            if (player2 != null) {
+                com.bmfalkye.cards.BuffSystem.clearPlayerBuffs(FalkyeGameSession.this, player2);
+            }
 
-    // Геттеры
-    public ServerPlayer getPlayer1() { return player1; }
-    public ServerPlayer getPlayer2() { return player2; }
-    public List<Card> getHand(ServerPlayer player) {
-        if (player == null) {
-            // Для villager возвращаем hand2
-            if (isPlayingWithVillager()) {
-                return hand2;
+            ModLogger.logGameEvent("Game ended",
+                "winner", winner != null ? seatName(winner) : "",
+                "roundsWon1", state1.getRoundsWon(),
+                "roundsWon2", state2.getRoundsWon(),
+                "finalRound", board.getCurrentRound(),
+                "player1", player1 != null ? player1.getName().getString() : "null",
+                "player2", player2 != null ? player2.getName().getString() : (isPlayingWithVillager() ? "Villager" : "null"));
+
+            // Освобождаем жителя
+            if (villagerOpponent instanceof net.minecraft.world.entity.Mob mob) {
+                mob.setNoAi(false);
             }
-            return new ArrayList<>();
-        }
-        return player.equals(player1) ? hand1 : hand2;
-    }
-    public List<Card> getMeleeRow(ServerPlayer player) {
-        if (player == null && isPlayingWithVillager()) {
-            return meleeRow2;
-        }
-        if (player == null) return new ArrayList<>();
-        return player.equals(player1) ? meleeRow1 : meleeRow2;
-    }
-    
-    public List<Card> getRangedRow(ServerPlayer player) {
-        if (player == null && isPlayingWithVillager()) {
-            return rangedRow2;
-        }
-        if (player == null) return new ArrayList<>();
-        return player.equals(player1) ? rangedRow1 : rangedRow2;
-    }
-    
-    public List<Card> getSiegeRow(ServerPlayer player) {
-        if (player == null && isPlayingWithVillager()) {
-            return siegeRow2;
-        }
-        if (player == null) return new ArrayList<>();
-        return player.equals(player1) ? siegeRow1 : siegeRow2;
-    }
-    private List<Card> getRow(ServerPlayer player, CardRow row) {
-        switch (row) {
-            case MELEE: return getMeleeRow(player);
-            case RANGED: return getRangedRow(player);
-            case SIEGE: return getSiegeRow(player);
-            default: return new ArrayList<>();
-        }
-    }
-    public int getRoundScore(ServerPlayer player) {
-        if (player == null && isPlayingWithVillager()) {
-            return roundScore2;
-        }
-        if (player == null) return 0;
-        return player.equals(player1) ? roundScore1 : roundScore2;
-    }
-    
-    public int getRoundsWon(ServerPlayer player) {
-        if (player == null && isPlayingWithVillager()) {
-            return roundsWon2;
-        }
-        if (player == null) return 0;
-        return player.equals(player1) ? roundsWon1 : roundsWon2;
-    }
-    
-    /**
-     * Получает список использованных карт для игрока
-     */
-    public List<String> getUsedCards(ServerPlayer player) {
-        if (player == null) {
-            return new ArrayList<>();
-        }
-        Set<String> cards = usedCards.get(player.getUUID());
-        return cards != null ? new ArrayList<>(cards) : new ArrayList<>();
-    }
-    
-    /**
-     * Получает все использованные карты в игре (для обоих игроков)
-     */
-    public List<String> getAllUsedCards() {
-        Set<String> allCards = new HashSet<>();
-        for (Set<String> cards : usedCards.values()) {
-            allCards.addAll(cards);
-        }
-        return new ArrayList<>(allCards);
-    }
-    
-    public int getCurrentRound() { return currentRound; }
-    public boolean isRoundEnded() { return roundEnded; }
-    public boolean isGameEnded() { return gameEnded; }
-    public ServerPlayer getWinner() {
-        if (roundsWon1 >= 2) return player1;
-        if (roundsWon2 >= 2) return player2;
-        return null;
-    }
-    public UUID getCurrentPlayerUUID() { return currentPlayer; }
-    public ServerPlayer getCurrentPlayer() {
-        if (currentPlayer == null) return null;
-        if (isPlayingWithVillager() && villagerOpponent != null && 
-            villagerOpponent.getUUID().equals(currentPlayer)) {
-            return null; // Ход villager
-        }
-        if (player1 != null && currentPlayer.equals(player1.getUUID())) {
-            return player1;
-        }
-        return player2;
-    }
-    public boolean hasPassed(ServerPlayer player) {
-        if (player == null && isPlayingWithVillager()) {
-            return player2Passed;
-        }
-        if (player == null) return false;
-        return player.equals(player1) ? player1Passed : player2Passed;
-    }
-    
-    public WeatherType getWeather() { return weather; }
-    
-    public void setWeather(WeatherType weatherType) {
-        this.weather = weatherType;
-    }
-    
-    public CardDeck getDeck1() { return deck1; }
-    
-    public CardDeck getDeck2() { return deck2; }
-    
-    public LeaderCard getLeader(ServerPlayer player) {
-        if (player == null && isPlayingWithVillager()) {
-            return leader2;
+
+            if (player1 != null) {
+                com.bmfalkye.network.NetworkHandler.updateGameState(player1, FalkyeGameSession.this);
+            }
+            if (player2 != null) {
+                com.bmfalkye.network.NetworkHandler.updateGameState(player2, FalkyeGameSession.this);
+            }
+
+            com.bmfalkye.game.GameEndHandler.handleGameEnd(FalkyeGameSession.this);
         }
-        if (player == null) return null;
-        return player.equals(player1) ? leader1 : leader2;
     }
 
     public enum CardRow {
@@ -0,0 +1,132 @@
+package com.bmfalkye.game;
+
+import com.bmfalkye.cards.Card;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Ряд карт на поле, сообщающий {@link BattlefieldIndex} и {@link RowScoreTracker} о каждом изменении.
+ *
+ * <p>Геттеры рядов сессии возвращают живые списки, и их меняют не только методы
+ * сессии (CardEffects, способности лидеров, случайные события). Поэтому индекс
+ * поддерживается самим списком: добавление в конец обновляет одну запись,
+ * остальные изменения переиндексируют ряд (несколько карт).
+ */
+final class FieldRow extends ArrayList<Card> {
+    private final BattlefieldIndex index;
+    private final RowScoreTracker scores;
+    private final int side;
+    private final FalkyeGameSession.CardRow row;
+
+    FieldRow(BattlefieldIndex index, RowScoreTracker scores, int side, FalkyeGameSession.CardRow row) {
+        this.index = index;
+        this.scores = scores;
+        this.side = side;
+        this.row = row;
+    }
+
+    private void reindex() {
+        index.reindexRow(side, row, this);
+        scores.markDirty(side, row);
+    }
+
+    @Override
+    public boolean add(Card card) {
+        super.add(card);
+        index.put(card, side, row, size() - 1);
+        scores.markDirty(side, row);
+        return true;
+    }
+
+    @Override
+    public void add(int position, Card card) {
+        super.add(position, card);
+        reindex();
+    }
+
+    @Override
+    public Card set(int position, Card card) {
+        Card previous = super.set(position, card);
+        reindex();
+        return previous;
+    }
+
+    @Override
+    public Card remove(int position) {
+        Card removed = super.remove(position);
+        reindex();
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object card) {
+        boolean removed = super.remove(card);
+        if (removed) {
+            reindex();
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Card> cards) {
+        boolean changed = super.addAll(cards);
+        reindex();
+        return changed;
+    }
+
+    @Override
+    public boolean addAll(int position, Collection<? extends Card> cards) {
+        boolean changed = super.addAll(position, cards);
+        reindex();
+        return changed;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> cards) {
+        boolean changed = super.removeAll(cards);
+        reindex();
+        return changed;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> cards) {
+        boolean changed = super.retainAll(cards);
+        reindex();
+        return changed;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Card> filter) {
+        boolean changed = super.removeIf(filter);
+        reindex();
+        return changed;
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<Card> operator) {
+        super.replaceAll(operator);
+        reindex();
+    }
+
+    @Override
+    public void sort(Comparator<? super Card> comparator) {
+        super.sort(comparator);
+        reindex();
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        super.removeRange(fromIndex, toIndex);
+        reindex();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        reindex();
+    }
+}
@@ -177,7 +177,7 @@ public class GameEndHandler {
                         com.bmfalkye.daily.DailyRewardSystem.QuestType.WIN_ROUNDS, roundsWon);
                     
                     // Уведомляем игрока о победе через лог действий
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§6§lПОБЕДА! Вы выиграли игру!");
+                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, com.bmfalkye.network.ActionLogCode.GAME_WON);
                     
                     player1.sendSystemMessage(Component.translatable("message.bm_falkye.game_won"));
                     
@@ -192,18 +192,18 @@ public class GameEndHandler {
                     com.bmfalkye.season.SeasonSystem.updateSeasonProgress(player1, baseXP);
                     
                     // Уведомляем о получении опыта через лог действий
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§aПолучено опыта: " + baseXP);
+                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, com.bmfalkye.network.ActionLogCode.XP_GAINED, baseXP);
                     player1.sendSystemMessage(Component.translatable("message.bm_falkye.xp_gained", baseXP));
                     
                     // Обрабатываем ставку (против NPC)
                     if (betAmount > 0 && player1.level() instanceof net.minecraft.server.level.ServerLevel serverLevel) {
                         com.bmfalkye.storage.PlayerCurrency currency = com.bmfalkye.storage.PlayerCurrency.get(serverLevel);
-                        currency.addCoins(player1, betAmount * 2);
+                        currency.releaseEscrow(player1, betAmount * 2);
                         com.bmfalkye.storage.VillagerCurrency villagerCurrency = com.bmfalkye.storage.VillagerCurrency.get(serverLevel);
                         if (villager != null) {
                             villagerCurrency.removeCoins(villager, betAmount);
                         }
-                        com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§aВы выиграли " + (betAmount * 2) + " монет!");
+                        com.bmfalkye.network.NetworkHandler.addActionLog(player1, com.bmfalkye.network.ActionLogCode.BET_WON, betAmount * 2);
                         player1.sendSystemMessage(Component.literal("§aВы выиграли " + (betAmount * 2) + " монет!"));
                     }
                 } else {
@@ -226,18 +226,20 @@ public class GameEndHandler {
                     com.bmfalkye.evolution.CardEvolutionSystem.awardExperienceForLoss(player1, session);
                     
                     // Уведомляем игрока о поражении через лог действий
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§c§lПОРАЖЕНИЕ! Вы проиграли игру.");
+                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, com.bmfalkye.network.ActionLogCode.GAME_LOST);
                     
                     // Игрок проиграл - забираем 2 карты
                     List<String> lostCardIds = handleCardLoss(player1);
                     
                     // Уведомляем о потере карт через лог действий
                     if (!lostCardIds.isEmpty()) {
-                        com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§cУ вас забрано карт: " + lostCardIds.size());
+                        com.bmfalkye.network.NetworkHandler.addActionLog(player1,
+                            com.bmfalkye.network.ActionLogCode.CARDS_LOST, lostCardIds.size());
                         for (String cardId : lostCardIds) {
                             Card card = CardRegistry.getCard(cardId);
                             if (card != null) {
-                                com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§cПотеряна карта: " + card.getName());
+                                com.bmfalkye.network.NetworkHandler.addActionLog(player1,
+                                    com.bmfalkye.network.ActionLogCode.CARD_LOST, cardId);
                             }
                         }
                     }
@@ -246,19 +248,20 @@ public class GameEndHandler {
                     player1.sendSystemMessage(Component.translatable("message.bm_falkye.game_lost"));
                     
                     // Уведомляем о получении опыта через лог действий
-                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§7Получено опыта: 20");
+                    com.bmfalkye.network.NetworkHandler.addActionLog(player1, com.bmfalkye.network.ActionLogCode.XP_GAINED, 20);
                     player1.sendSystemMessage(Component.translatable("message.bm_falkye.xp_gained", 20));
                     player1.sendSystemMessage(Component.translatable("message.bm_falkye.cards_lost", lostCardIds.size()));
                     
                     // Обрабатываем ставку
                     if (betAmount > 0 && player1.level() instanceof net.minecraft.server.level.ServerLevel serverLevel) {
                         com.bmfalkye.storage.PlayerCurrency currency = com.bmfalkye.storage.PlayerCurrency.get(serverLevel);
-                        currency.removeCoins(player1, betAmount);
+                        // Ставка уже снята в залог при начале матча
+                        currency.releaseEscrow(player1, 0);
                         com.bmfalkye.storage.VillagerCurrency villagerCurrency = com.bmfalkye.storage.VillagerCurrency.get(serverLevel);
                         if (villager != null) {
                             villagerCurrency.addCoins(villager, betAmount * 2);
                         }
-                        com.bmfalkye.network.NetworkHandler.addActionLog(player1, "§cВы проиграли " + betAmount + " монет.");
+                        com.bmfalkye.network.NetworkHandler.addActionLog(player1, com.bmfalkye.network.ActionLogCode.BET_LOST, betAmount);
                         player1.sendSystemMessage(Component.literal("§cВы проиграли " + betAmount + " монет."));
                     }
                 }
@@ -284,6 +287,9 @@ public class GameEndHandler {
                     "§7Реплей игры сохранён. ID: §f" + replayId.substring(0, 8)));
             }
             
+            // Итоги игры меняют статистику, рейтинги и сезон - кэшированные ответы устарели
+            com.bmfalkye.network.ResponseCache.onGameEnd(player1, player2);
+            
             // Проверяем активные события для игроков
             if (player1 != null) {
                 com.bmfalkye.events.EventSystem.checkActiveEvents(player1);
@@ -335,23 +341,27 @@ public class GameEndHandler {
         
         // Уведомления проигравшему
         loser.sendSystemMessage(Component.translatable("message.bm_falkye.cards_lost", lostCardIds.size()));
-        com.bmfalkye.network.NetworkHandler.addActionLog(loser, "§cУ вас забрано карт: " + lostCardIds.size());
+        com.bmfalkye.network.NetworkHandler.addActionLog(loser,
+            com.bmfalkye.network.ActionLogCode.CARDS_LOST, lostCardIds.size());
         for (String cardId : lostCardIds) {
             Card card = CardRegistry.getCard(cardId);
             if (card != null) {
                 loser.sendSystemMessage(Component.translatable("message.bm_falkye.card_lost_detail", card.getName()));
-                com.bmfalkye.network.NetworkHandler.addActionLog(loser, "§cПотеряна карта: " + card.getName());
+                com.bmfalkye.network.NetworkHandler.addActionLog(loser,
+                    com.bmfalkye.network.ActionLogCode.CARD_LOST, cardId);
             }
         }
         
         // Уведомления победителю
         winner.sendSystemMessage(Component.translatable("message.bm_falkye.cards_won", lostCardIds.size()));
-        com.bmfalkye.network.NetworkHandler.addActionLog(winner, "§aВы получили карт: " + lostCardIds.size());
+        com.bmfalkye.network.NetworkHandler.addActionLog(winner,
+            com.bmfalkye.network.ActionLogCode.CARDS_GAINED, lostCardIds.size());
         for (String cardId : lostCardIds) {
             Card card = CardRegistry.getCard(cardId);
             if (card != null) {
                 winner.sendSystemMessage(Component.translatable("message.bm_falkye.card_won_detail", card.getName()));
-                com.bmfalkye.network.NetworkHandler.addActionLog(winner, "§aПолучена карта: " + card.getName());
+                com.bmfalkye.network.NetworkHandler.addActionLog(winner,
+                    com.bmfalkye.network.ActionLogCode.CARD_GAINED, cardId);
             }
         }
         
@@ -160,13 +160,16 @@ public class GameManager {
         activeVillagerGames.remove(session.getPlayer1().getUUID());
         
         // Разблокируем ставки (на случай, если они не были разблокированы в GameEndHandler)
-        // Это защита от эксплойтов - гарантируем, что ставки всегда разблокируются
+        // Это защита от эксплойтов - гарантируем, что ставки всегда разблокируются.
+        // Залог, не закрытый выплатой (ничья, прерванный или зависший матч), возвращается игроку
         if (session.getPlayer1() != null) {
+            refundOpenEscrow(session.getPlayer1());
             com.bmfalkye.game.BetProtectionSystem.unlockBet(session.getPlayer1());
             // Сбрасываем статистику античита при окончании игры
             com.bmfalkye.anticheat.AntiCheatSystem.resetPlayerStats(session.getPlayer1().getUUID());
         }
         if (session.getPlayer2() != null) {
+            refundOpenEscrow(session.getPlayer2());
             com.bmfalkye.game.BetProtectionSystem.unlockBet(session.getPlayer2());
             // Сбрасываем статистику античита при окончании игры
             com.bmfalkye.anticheat.AntiCheatSystem.resetPlayerStats(session.getPlayer2().getUUID());
@@ -181,6 +184,22 @@ public class GameManager {
         
         BMFalkye.LOGGER.info("Falkye game ended");
     }
+    
+    /**
+     * Возвращает игроку ставку, оставшуюся в залоге после окончания игры
+     */
+    private static void refundOpenEscrow(ServerPlayer player) {
+        if (!(player.level() instanceof net.minecraft.server.level.ServerLevel level)) {
+            return;
+        }
+        com.bmfalkye.storage.PlayerCurrency currency = com.bmfalkye.storage.PlayerCurrency.get(level);
+        int stake = currency.getEscrow(player);
+        if (stake > 0) {
+            currency.releaseEscrow(player, stake);
+            ModLogger.logGameEvent("Bet escrow refunded on game end",
+                "player", player.getName().getString(), "amount", stake);
+        }
+    }
 
     /**
      * Получает активную игровую сессию игрока
@@ -339,7 +358,7 @@ public class GameManager {
             if (!com.bmfalkye.game.BetProtectionSystem.canPlayerBet(opponent)) {
                 // Возвращаем ставку первому игроку
                 com.bmfalkye.storage.PlayerCurrency currency = com.bmfalkye.storage.PlayerCurrency.get(level);
-                currency.addCoins(player, config.getBetAmount());
+                currency.releaseEscrow(player, config.getBetAmount());
                 com.bmfalkye.game.BetProtectionSystem.unlockBet(player);
                 player.sendSystemMessage(Component.literal("§cПротивник не может сделать ставку сейчас!"));
                 return;
@@ -348,7 +367,7 @@ public class GameManager {
             if (!com.bmfalkye.game.BettingSystem.lockBet(opponent, config.getBetAmount(), level)) {
                 // Возвращаем ставку первому игроку
                 com.bmfalkye.storage.PlayerCurrency currency = com.bmfalkye.storage.PlayerCurrency.get(level);
-                currency.addCoins(player, config.getBetAmount());
+                currency.releaseEscrow(player, config.getBetAmount());
                 com.bmfalkye.game.BetProtectionSystem.unlockBet(player);
                 player.sendSystemMessage(Component.literal("§cУ противника недостаточно монет для ставки!"));
                 return;
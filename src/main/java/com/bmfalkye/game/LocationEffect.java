@@ -1,8 +1,15 @@
 package com.bmfalkye.game;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.Biomes;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Эффекты окружения, влияющие на игру
@@ -20,29 +27,93 @@ public class LocationEffect {
         END          // Энд - усиливает мистические карты
     }
     
+    // Предвычисленная таблица: ключ биома -> тип локации (ванильные биомы)
+    private static final Map<ResourceKey<Biome>, LocationType> BIOME_TABLE = new HashMap<>();
+    // Биомы других модов классифицируются по ключу один раз и кэшируются
+    private static final Map<ResourceKey<Biome>, LocationType> MODDED_BIOME_CACHE = new ConcurrentHashMap<>();
+    
+    static {
+        register(LocationType.DESERT, Biomes.DESERT);
+        register(LocationType.SNOW, Biomes.SNOWY_PLAINS, Biomes.ICE_SPIKES, Biomes.SNOWY_TAIGA, Biomes.SNOWY_SLOPES,
+            Biomes.GROVE, Biomes.FROZEN_PEAKS, Biomes.FROZEN_RIVER, Biomes.SNOWY_BEACH,
+            Biomes.FROZEN_OCEAN, Biomes.DEEP_FROZEN_OCEAN);
+        register(LocationType.FOREST, Biomes.FOREST, Biomes.FLOWER_FOREST, Biomes.BIRCH_FOREST, Biomes.DARK_FOREST,
+            Biomes.OLD_GROWTH_BIRCH_FOREST, Biomes.OLD_GROWTH_PINE_TAIGA, Biomes.OLD_GROWTH_SPRUCE_TAIGA,
+            Biomes.TAIGA, Biomes.WINDSWEPT_FOREST, Biomes.JUNGLE, Biomes.SPARSE_JUNGLE, Biomes.BAMBOO_JUNGLE);
+        register(LocationType.OCEAN, Biomes.RIVER, Biomes.BEACH, Biomes.STONY_SHORE, Biomes.OCEAN, Biomes.DEEP_OCEAN,
+            Biomes.WARM_OCEAN, Biomes.LUKEWARM_OCEAN, Biomes.DEEP_LUKEWARM_OCEAN,
+            Biomes.COLD_OCEAN, Biomes.DEEP_COLD_OCEAN);
+        register(LocationType.MOUNTAIN, Biomes.WINDSWEPT_HILLS, Biomes.WINDSWEPT_GRAVELLY_HILLS,
+            Biomes.JAGGED_PEAKS, Biomes.STONY_PEAKS);
+        register(LocationType.NETHER, Biomes.NETHER_WASTES, Biomes.SOUL_SAND_VALLEY, Biomes.CRIMSON_FOREST,
+            Biomes.WARPED_FOREST, Biomes.BASALT_DELTAS);
+        register(LocationType.END, Biomes.THE_END, Biomes.END_HIGHLANDS, Biomes.END_MIDLANDS,
+            Biomes.SMALL_END_ISLANDS, Biomes.END_BARRENS);
+    }
+    
+    @SafeVarargs
+    private static void register(LocationType type, ResourceKey<Biome>... biomes) {
+        for (ResourceKey<Biome> biome : biomes) {
+            BIOME_TABLE.put(biome, type);
+        }
+    }
+    
     /**
-     * Определяет тип локации по позиции игрока
+     * Определяет тип локации по позиции
      */
     public static LocationType getLocationType(ServerLevel level, BlockPos pos) {
         if (level == null || pos == null) {
             return LocationType.NONE;
         }
         
-        Biome biome = level.getBiome(pos).value();
-        String biomeName = biome.toString().toLowerCase();
+        Optional<ResourceKey<Biome>> biomeKey = level.getBiome(pos).unwrapKey();
+        return biomeKey.map(LocationEffect::getLocationType).orElse(LocationType.PLAINS);
+    }
+    
+    /**
+     * Определяет тип локации по ключу биома
+     */
+    public static LocationType getLocationType(ResourceKey<Biome> biomeKey) {
+        LocationType type = BIOME_TABLE.get(biomeKey);
+        if (type != null) {
+            return type;
+        }
+        return MODDED_BIOME_CACHE.computeIfAbsent(biomeKey, key -> classifyByName(key.location().getPath()));
+    }
+    
+    /**
+     * Определяет тип локации для места дуэли: если позиция внутри активного Зала Дуэлей,
+     * используется центр зала, иначе - сама позиция
+     */
+    public static LocationType getDuelLocationType(ServerLevel level, BlockPos pos) {
+        if (level == null || pos == null) {
+            return LocationType.NONE;
+        }
         
+        com.bmfalkye.duelhall.DuelHallManager.DuelHall hall = 
+            com.bmfalkye.duelhall.DuelHallManager.get(level).findHallAt(pos);
+        if (hall != null && hall.isActive()) {
+            return getLocationType(level, hall.getCenterPos());
+        }
+        return getLocationType(level, pos);
+    }
+    
+    /**
+     * Классификация биомов, которых нет в таблице, по имени ключа
+     */
+    private static LocationType classifyByName(String biomeName) {
         if (biomeName.contains("desert")) {
             return LocationType.DESERT;
         } else if (biomeName.contains("snow") || biomeName.contains("frozen") || biomeName.contains("ice")) {
             return LocationType.SNOW;
+        } else if (biomeName.contains("nether") || biomeName.contains("soul") || biomeName.contains("warped") || biomeName.contains("crimson")) {
+            return LocationType.NETHER;
         } else if (biomeName.contains("forest") || biomeName.contains("taiga") || biomeName.contains("jungle")) {
             return LocationType.FOREST;
         } else if (biomeName.contains("ocean") || biomeName.contains("beach") || biomeName.contains("river")) {
             return LocationType.OCEAN;
         } else if (biomeName.contains("mountain") || biomeName.contains("hills") || biomeName.contains("peaks")) {
             return LocationType.MOUNTAIN;
-        } else if (biomeName.contains("nether") || biomeName.contains("soul") || biomeName.contains("warped")) {
-            return LocationType.NETHER;
         } else if (biomeName.contains("end")) {
             return LocationType.END;
         }
@@ -7,21 +7,27 @@ import com.bmfalkye.cards.LeaderCard;
  */
 public class MatchConfig {
     public enum Difficulty {
-        EASY(0.6f),
-        NORMAL(1.0f),
-        HARD(1.5f),
-        EXPERT(2.0f);
+        EASY(0.6f, 0),
+        NORMAL(1.0f, 0),
+        HARD(1.5f, 300),
+        EXPERT(2.0f, 800);
         
         private final float aiMultiplier;
+        private final int aiSearchTimeMs; // Время поиска хода MCTS (0 = эвристический AI)
         
-        Difficulty(float multiplier) {
+        Difficulty(float multiplier, int aiSearchTimeMs) {
             this.aiMultiplier = multiplier;
+            this.aiSearchTimeMs = aiSearchTimeMs;
         }
         
         public float getAIMultiplier() {
             return aiMultiplier;
         }
         
+        public int getAISearchTimeMs() {
+            return aiSearchTimeMs;
+        }
+        
         public String getDisplayName() {
             return net.minecraft.network.chat.Component.translatable("difficulty.bm_falkye." + this.name().toLowerCase()).getString();
         }
@@ -37,6 +43,7 @@ public class MatchConfig {
     private int turnTimeLimit = 90; // Лимит времени на ход в секундах
     private boolean isFriendlyMatch = false; // Дружеская игра (без ставки и наград)
     private boolean draftArena = false; // Матч арены драфта
+    private int aiSearchTimeMs = -1; // Время поиска хода AI в мс (-1 = по сложности, 0 = без поиска)
     private com.bmfalkye.settings.GameModeSettings.GameMode gameMode = com.bmfalkye.settings.GameModeSettings.GameMode.MODE_2D; // Режим отображения игры
     
     public MatchConfig() {
@@ -106,6 +113,17 @@ public class MatchConfig {
         this.turnTimeLimit = Math.max(30, Math.min(300, turnTimeLimit)); // От 30 до 300 секунд
     }
     
+    /**
+     * Бюджет времени на поиск хода AI (MCTS). 0 - AI ходит по эвристикам без поиска.
+     */
+    public int getAISearchTimeMs() {
+        return aiSearchTimeMs >= 0 ? aiSearchTimeMs : difficulty.getAISearchTimeMs();
+    }
+    
+    public void setAISearchTimeMs(int aiSearchTimeMs) {
+        this.aiSearchTimeMs = Math.max(-1, Math.min(5000, aiSearchTimeMs)); // До 5 секунд
+    }
+    
     public boolean isFriendlyMatch() {
         return isFriendlyMatch;
     }
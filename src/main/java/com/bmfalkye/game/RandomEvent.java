@@ -227,8 +227,8 @@ public class RandomEvent {
                 "§aСлучайное событие: Вы получили дополнительную карту: §b" + drawnCard.getName() + "§a!"));
             
             // Уведомляем через лог действий
-            com.bmfalkye.network.NetworkHandler.addActionLog(player, 
-                "§aСлучайное событие: Получена карта " + drawnCard.getName());
+            com.bmfalkye.network.NetworkHandler.addActionLog(player,
+                com.bmfalkye.network.ActionLogCode.RANDOM_EVENT_CARD, drawnCard.getId());
         } else {
             player.sendSystemMessage(net.minecraft.network.chat.Component.literal(
                 "§eСлучайное событие: Вы получили дополнительную карту! (но колода пуста)"));
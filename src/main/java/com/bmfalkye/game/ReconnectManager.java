@@ -132,7 +132,7 @@ public class ReconnectManager {
             
             // Отправляем уведомление об успешном реконнекте
             player.sendSystemMessage(Component.literal("§a§lИгра восстановлена! Добро пожаловать обратно!"));
-            com.bmfalkye.network.NetworkHandler.addActionLog(player, "§aИгра восстановлена после переподключения");
+            com.bmfalkye.network.NetworkHandler.addActionLog(player, com.bmfalkye.network.ActionLogCode.GAME_RESTORED);
             
             // Уведомляем второго игрока (если есть) о реконнекте
             notifyOpponentAboutReconnect(session, player);
@@ -160,7 +160,7 @@ public class ReconnectManager {
             
             // Отправляем уведомление об успешном реконнекте
             player.sendSystemMessage(Component.literal("§a§lИгра восстановлена! Добро пожаловать обратно!"));
-            com.bmfalkye.network.NetworkHandler.addActionLog(player, "§aИгра восстановлена после переподключения");
+            com.bmfalkye.network.NetworkHandler.addActionLog(player, com.bmfalkye.network.ActionLogCode.GAME_RESTORED);
             
             // Уведомляем первого игрока о реконнекте
             notifyOpponentAboutReconnect(session, player);
@@ -263,8 +263,8 @@ public class ReconnectManager {
         if (opponent != null && opponent.isAlive()) {
             opponent.sendSystemMessage(Component.literal("§e" + disconnectedPlayer.getName().getString() + 
                 " отключился. Игра будет восстановлена при переподключении."));
-            com.bmfalkye.network.NetworkHandler.addActionLog(opponent, 
-                "§eПротивник отключился. Ожидание переподключения...");
+            com.bmfalkye.network.NetworkHandler.addActionLog(opponent,
+                com.bmfalkye.network.ActionLogCode.OPPONENT_DISCONNECTED);
         }
     }
     
@@ -287,8 +287,8 @@ public class ReconnectManager {
         if (opponent != null && opponent.isAlive()) {
             opponent.sendSystemMessage(Component.literal("§a" + reconnectedPlayer.getName().getString() + 
                 " переподключился! Игра продолжается."));
-            com.bmfalkye.network.NetworkHandler.addActionLog(opponent, 
-                "§aПротивник переподключился!");
+            com.bmfalkye.network.NetworkHandler.addActionLog(opponent,
+                com.bmfalkye.network.ActionLogCode.OPPONENT_RECONNECTED);
             
             // Обновляем состояние игры для противника
             com.bmfalkye.network.NetworkHandler.updateGameStateImmediate(opponent, session);
@@ -0,0 +1,48 @@
+package com.bmfalkye.game;
+
+/**
+ * Текущие суммы силы по рядам обеих сторон поля.
+ *
+ * <p>Сумма ряда пересчитывается только после того, как ряд помечен «грязным»:
+ * изменился состав ряда ({@link FieldRow}), модификатор силы или бафф одной из его карт.
+ * Погода в суммы не входит - она применяется при сложении рядов в очки раунда.
+ */
+class RowScoreTracker {
+    // [сторона 1..2][ряд]
+    private final int[][] totals = new int[3][FalkyeGameSession.CardRow.values().length];
+    private final boolean[][] dirty = new boolean[3][FalkyeGameSession.CardRow.values().length];
+
+    RowScoreTracker() {
+        markAllDirty();
+    }
+
+    void markDirty(int side, FalkyeGameSession.CardRow row) {
+        if (side == 1 || side == 2) {
+            dirty[side][row.ordinal()] = true;
+        }
+    }
+
+    void markSideDirty(int side) {
+        for (FalkyeGameSession.CardRow row : FalkyeGameSession.CardRow.values()) {
+            markDirty(side, row);
+        }
+    }
+
+    void markAllDirty() {
+        markSideDirty(1);
+        markSideDirty(2);
+    }
+
+    boolean isDirty(int side, FalkyeGameSession.CardRow row) {
+        return dirty[side][row.ordinal()];
+    }
+
+    int get(int side, FalkyeGameSession.CardRow row) {
+        return totals[side][row.ordinal()];
+    }
+
+    void set(int side, FalkyeGameSession.CardRow row, int total) {
+        totals[side][row.ordinal()] = total;
+        dirty[side][row.ordinal()] = false;
+    }
+}
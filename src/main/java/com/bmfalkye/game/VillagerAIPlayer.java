@@ -16,6 +16,20 @@ import java.util.Random;
 public class VillagerAIPlayer {
     private static final Random RANDOM = new Random();
     
+    // Рабочие потоки поиска хода: не больше половины ядер, чтобы не отнимать время у сервера
+    private static final java.util.concurrent.ExecutorService SEARCH_EXECUTOR = 
+        java.util.concurrent.Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2), runnable -> {
+                Thread thread = new Thread(runnable, "BM-Falkye AI search");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.NORM_PRIORITY - 1);
+                return thread;
+            });
+    
+    // Сессии, для которых сейчас идёт поиск хода
+    private static final java.util.Set<FalkyeGameSession> SEARCHING = 
+        java.util.concurrent.ConcurrentHashMap.newKeySet();
+    
     /**
      * Создаёт игровую сессию с villager или NPC как вторым игроком
      */
@@ -110,9 +124,20 @@ public class VillagerAIPlayer {
     }
     
     /**
-     * AI делает ход - значительно улучшенная версия с продвинутой стратегией для каждого уровня сложности
+     * AI делает ход - значительно улучшенная версия с продвинутой стратегией для каждого уровня сложности.
+     * Если для сложности задан бюджет поиска, ход ищется MCTS в рабочем потоке
+     * и применяется позже в потоке сервера.
      */
     public static void makeAITurn(FalkyeGameSession session) {
+        makeAITurn(session, true);
+    }
+    
+    private static void makeAITurn(FalkyeGameSession session, boolean allowSearch) {
+        // Поиск хода уже идёт - ход применится по его завершении
+        if (SEARCHING.contains(session)) {
+            return;
+        }
+        
         com.bmfalkye.util.ModLogger.logAIAction("AI turn started", 
             "player", session.getPlayer1() != null ? session.getPlayer1().getName().getString() : "null",
             "round", session.getCurrentRound(),
@@ -206,6 +231,12 @@ public class VillagerAIPlayer {
             }
         }
         
+        // ========== ПОИСК ХОДА (MCTS) ==========
+        int searchTimeMs = config != null ? config.getAISearchTimeMs() : difficulty.getAISearchTimeMs();
+        if (allowSearch && searchTimeMs > 0 && startSearch(session, humanPlayer, searchTimeMs)) {
+            return;
+        }
+        
         /**
          * ========== ЛОГИКА ИГРЫ КАРТЫ С УЧЁТОМ НОВОЙ МЕХАНИКИ ==========
          * 
@@ -393,6 +424,92 @@ public class VillagerAIPlayer {
         com.bmfalkye.network.NetworkHandler.updateGameState(humanPlayer, session);
     }
     
+    /**
+     * Запускает поиск хода MCTS в рабочем потоке. Снимок партии берётся здесь, в потоке сервера,
+     * найденный ход применяется тоже в потоке сервера.
+     *
+     * @return false, если поиск запустить не удалось (тогда AI ходит по эвристикам)
+     */
+    private static boolean startSearch(FalkyeGameSession session, ServerPlayer humanPlayer, int searchTimeMs) {
+        if (!(humanPlayer.level() instanceof net.minecraft.server.level.ServerLevel serverLevel)) {
+            return false;
+        }
+        net.minecraft.server.MinecraftServer server = serverLevel.getServer();
+        com.bmfalkye.game.core.RulesEngine root = session.fork();
+        int round = session.getCurrentRound();
+        int handSize = session.getHand(null).size();
+        
+        if (!SEARCHING.add(session)) {
+            return true;
+        }
+        try {
+            SEARCH_EXECUTOR.execute(() -> {
+                com.bmfalkye.game.core.RulesEngine.Move move = null;
+                try {
+                    com.bmfalkye.ai.MctsSearch.Result result = new com.bmfalkye.ai.MctsSearch(new Random())
+                        .search(root, com.bmfalkye.game.core.Seat.SECOND, searchTimeMs, 0);
+                    move = result.move;
+                    com.bmfalkye.util.ModLogger.logAIAction("AI search finished", 
+                        "iterations", result.iterations,
+                        "winRate", String.format("%.2f", result.winRate),
+                        "move", move == null ? "none" : move.isPass() ? "pass" : move.card.getId() + "/" + move.row);
+                } catch (RuntimeException e) {
+                    com.bmfalkye.util.ModLogger.error("AI search failed", e);
+                }
+                com.bmfalkye.game.core.RulesEngine.Move chosen = move;
+                server.execute(() -> {
+                    SEARCHING.remove(session);
+                    applySearchedMove(session, chosen, round, handSize);
+                });
+            });
+        } catch (java.util.concurrent.RejectedExecutionException e) {
+            SEARCHING.remove(session);
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Применяет найденный ход, если партия с момента снимка не изменилась
+     */
+    private static void applySearchedMove(FalkyeGameSession session, com.bmfalkye.game.core.RulesEngine.Move move,
+                                          int round, int handSize) {
+        ServerPlayer humanPlayer = session.getPlayer1();
+        if (humanPlayer == null || session.isGameEnded() || session.isRoundEnded() || !session.isVillagerTurn()) {
+            return;
+        }
+        if (session.getCurrentRound() != round || session.getHand(null).size() != handSize) {
+            // Пока шёл поиск, партия ушла вперёд (например, сработал таймер хода) - ищем заново
+            makeAITurn(session);
+            return;
+        }
+        
+        boolean applied;
+        if (move == null) {
+            applied = false;
+        } else if (move.isPass()) {
+            session.passVillager();
+            applied = true;
+        } else {
+            applied = session.playCardForVillager(move.card, move.row);
+        }
+        if (!applied) {
+            makeAITurn(session, false);
+            return;
+        }
+        
+        int scoreDifference = session.getRoundScore(null) - session.getRoundScore(humanPlayer);
+        if (session.getVillagerOpponent() != null) {
+            playVillagerReactionSound(session.getVillagerOpponent(), scoreDifference, session.getHand(null).isEmpty());
+        }
+        com.bmfalkye.network.NetworkHandler.updateGameState(humanPlayer, session);
+        
+        // Ход остался за villager (например, после обычной карты можно сыграть способность)
+        if (session.isVillagerTurn() && !session.isRoundEnded() && !session.isGameEnded()) {
+            makeAITurn(session);
+        }
+    }
+    
     /**
      * Определяет, нужно ли использовать лидера
      */
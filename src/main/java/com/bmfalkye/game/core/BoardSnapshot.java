@@ -0,0 +1,160 @@
+package com.bmfalkye.game.core;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.CardDeck;
+import com.bmfalkye.cards.CardIntMap;
+import com.bmfalkye.game.FalkyeGameSession;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Неизменяемый снимок {@link GameBoard}.
+ *
+ * <p>Карты неизменяемы, поэтому снимок разделяет их с доской и другими снимками:
+ * копируются только массивы ссылок и примитивы, без глубокого копирования.
+ * Модификаторы силы копируются массивом по числовому ID карты, флаги места хранятся битовой маской.
+ * Из снимка можно восстановить доску ({@link GameBoard#restore}) или получить независимую
+ * копию для симуляции ({@link #toBoard()}).
+ */
+public final class BoardSnapshot {
+    private static final Card[] NO_CARDS = new Card[0];
+    private static final String[] NO_IDS = new String[0];
+    private static final FalkyeGameSession.WeatherType[] WEATHER = FalkyeGameSession.WeatherType.values();
+
+    private static final int PASSED = 1;
+    private static final int PLAYED_NORMAL = 1 << 1;
+    private static final int PLAYED_ABILITY = 1 << 2;
+
+    private final SeatSnapshot first;
+    private final SeatSnapshot second;
+    private final byte weather;
+    private final byte currentSeat; // 0 - ход никому не принадлежит
+    private final byte currentRound;
+    private final boolean roundEnded;
+    private final boolean gameEnded;
+
+    BoardSnapshot(GameBoard board) {
+        this.first = new SeatSnapshot(board.seat(Seat.FIRST));
+        this.second = new SeatSnapshot(board.seat(Seat.SECOND));
+        this.weather = (byte) board.getWeather().ordinal();
+        this.currentSeat = (byte) (board.getCurrentSeat() != null ? board.getCurrentSeat().getSide() : 0);
+        this.currentRound = (byte) board.getCurrentRound();
+        this.roundEnded = board.isRoundEnded();
+        this.gameEnded = board.isGameEnded();
+    }
+
+    /**
+     * Новая независимая доска с этим состоянием (обычные ряды, свои копии колод)
+     */
+    public GameBoard toBoard() {
+        GameBoard board = new GameBoard(first.lanes.length, first.copyDeck(), second.copyDeck(), GameBoard.DEFAULT_LANES);
+        board.restore(this);
+        return board;
+    }
+
+    SeatSnapshot seat(Seat seat) {
+        return seat == Seat.FIRST ? first : second;
+    }
+
+    FalkyeGameSession.WeatherType getWeather() {
+        return WEATHER[weather];
+    }
+
+    Seat getCurrentSeat() {
+        return currentSeat == 0 ? null : Seat.fromSide(currentSeat);
+    }
+
+    int getCurrentRound() {
+        return currentRound;
+    }
+
+    boolean isRoundEnded() {
+        return roundEnded;
+    }
+
+    boolean isGameEnded() {
+        return gameEnded;
+    }
+
+    /**
+     * Снимок одного места
+     */
+    static final class SeatSnapshot {
+        private final Card[] hand;
+        private final Card[] graveyard;
+        private final Card[][] lanes;
+        private final Card[] deck;
+        private final Card[] discard;
+        private final CardIntMap modifiers;
+        private final String[] revealed;
+        private final String[] combos;
+        private final int flags;
+        private final int roundsWon;
+        private final int roundScore;
+
+        SeatSnapshot(SeatState state) {
+            this.hand = state.getHand().toArray(NO_CARDS);
+            this.graveyard = state.getGraveyard().toArray(NO_CARDS);
+            this.lanes = new Card[state.getLaneCount()][];
+            for (int lane = 0; lane < lanes.length; lane++) {
+                lanes[lane] = state.getLane(lane).toArray(NO_CARDS);
+            }
+            CardDeck source = state.getDeck();
+            this.deck = source != null ? source.getCards().toArray(NO_CARDS) : null;
+            this.discard = source != null ? source.getDiscardPile().toArray(NO_CARDS) : null;
+
+            this.modifiers = state.getPowerModifiers().copy();
+            this.revealed = state.getRevealedCards().toArray(NO_IDS);
+            this.combos = state.getCollectedCombos().toArray(NO_IDS);
+
+            this.flags = (state.isPassed() ? PASSED : 0)
+                | (state.isPlayedNormalCard() ? PLAYED_NORMAL : 0)
+                | (state.isPlayedAbilityCard() ? PLAYED_ABILITY : 0);
+            this.roundsWon = state.getRoundsWon();
+            this.roundScore = state.getRoundScore();
+        }
+
+        void restoreInto(SeatState state) {
+            replace(state.getHand(), hand);
+            replace(state.getGraveyard(), graveyard);
+            for (int lane = 0; lane < lanes.length; lane++) {
+                replace(state.getLane(lane), lanes[lane]);
+            }
+            if (state.getDeck() != null && deck != null) {
+                state.getDeck().restore(Arrays.asList(deck), Arrays.asList(discard));
+            }
+
+            state.getPowerModifiers().setAll(modifiers);
+            replace(state.getRevealedCards(), revealed);
+            replace(state.getCollectedCombos(), combos);
+
+            state.setPassed((flags & PASSED) != 0);
+            state.setPlayedNormalCard((flags & PLAYED_NORMAL) != 0);
+            state.setPlayedAbilityCard((flags & PLAYED_ABILITY) != 0);
+            state.setRoundsWon(roundsWon);
+            state.setRoundScore(roundScore);
+        }
+
+        private CardDeck copyDeck() {
+            if (deck == null) {
+                return null;
+            }
+            CardDeck copy = new CardDeck(Collections.emptyList());
+            copy.restore(Arrays.asList(deck), Arrays.asList(discard));
+            return copy;
+        }
+
+        private static <T> void replace(List<T> target, T[] items) {
+            target.clear();
+            Collections.addAll(target, items);
+        }
+
+        private static void replace(Set<String> target, String[] items) {
+            target.clear();
+            Collections.addAll(target, items);
+        }
+    }
+}
@@ -0,0 +1,957 @@
+package com.bmfalkye.game.core;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.CardEffectTable;
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.network.ActionLogCode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+/**
+ * Система применения эффектов карт в игре Falkye.
+ * 
+ * <p>Этот класс обрабатывает все эффекты карт при их разыгрывании, включая:
+ * <ul>
+ *   <li>Погодные эффекты (мороз, туман, дождь, ясная погода)</li>
+ *   <li>Эффекты усиления/ослабления карт</li>
+ *   <li>Эффекты лечения и урона</li>
+ *   <li>Уникальные способности карт (например, возврат карт из сброса)</li>
+ * </ul>
+ * 
+ * <p>Эффекты меняют партию только через {@link RulesEngine}: движок сообщает слушателю
+ * о каждом изменении, а живая сессия превращает события в пакеты и журнал действий.
+ * Поэтому одни и те же эффекты применяются в живой партии и в симуляциях ИИ.
+ * 
+ * <p><b>Важно:</b> Положительные эффекты (усиление, лечение) применяются только к картам места,
+ * которое использовало способность. Отрицательные эффекты (урон, снижение силы) применяются
+ * только к картам оппонента.
+ * 
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+public class CardEffects {
+
+    /**
+     * Стандартные эффекты карт для {@link RulesEngine}: эффект карты из {@link CardEffectTable},
+     * затем комбо для обычной карты на поле; при сбросе - способность «Странника Снов».
+     */
+    public static final EffectResolver RESOLVER = new EffectResolver() {
+        @Override
+        public void apply(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+            applyCardEffect(engine, seat, card, row);
+            if (!GameRules.isAbilityCard(card) && engine.findRow(seat, card) != null) {
+                ComboSystem.checkAndApplyCombos(engine, seat, card);
+            }
+        }
+
+        @Override
+        public void onDiscarded(RulesEngine engine, Seat seat, Card card) {
+            dreamWalkerOnDiscard(engine, seat, card);
+        }
+    };
+    
+    /**
+     * Применяет эффект карты при её разыгрывании.
+     * 
+     * <p>Обработчик карты берётся из {@link CardEffectTable}: он собирается один раз при заморозке
+     * реестра по типу карты (правила {@code SPELL_RULES}, {@code SPECIAL_RULES}, {@code CREATURE_RULES}).
+     * Розыгрыш карты - это один поиск в массиве по числовому ID без сравнения строк.
+     * Логирование розыгрыша - забота вызывающего (живой сессии): в симуляциях эффекты срабатывают тысячи раз.
+     * 
+     * @param engine движок партии, в которой разыгрывается карта
+     * @param seat место, которое разыграло карту
+     * @param card карта, эффект которой нужно применить
+     * @param row выбранный ряд (для карт способностей, которые работают на конкретный ряд)
+     *            может быть {@code null} для карт, не требующих выбора ряда
+     */
+    public static void applyCardEffect(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        CardEffectTable.get(card).apply(engine, seat, card, row);
+    }
+    
+    /**
+     * Правило выбора встроенного эффекта: условие по ID и описанию карты (в нижнем регистре)
+     * и обработчик. Условия проверяются один раз при сборке {@link CardEffectTable},
+     * первое подходящее правило выигрывает.
+     */
+    private static final class EffectRule {
+        final BiPredicate<String, String> matcher;
+        final CardEffectTable.EffectHandler handler;
+
+        EffectRule(BiPredicate<String, String> matcher, CardEffectTable.EffectHandler handler) {
+            this.matcher = matcher;
+            this.handler = handler;
+        }
+    }
+
+    private static EffectRule rule(BiPredicate<String, String> matcher, CardEffectTable.EffectHandler handler) {
+        return new EffectRule(matcher, handler);
+    }
+
+    /** Заклинания (SPELL). Положительные эффекты - картам игрока, отрицательные - картам оппонента. */
+    private static final List<EffectRule> SPELL_RULES = List.of(
+        rule((cardId, description) -> cardId.equals("weather_frost") || description.contains("мороз") || description.contains("снижает силу всех ближних"),
+            CardEffects::weatherFrost),
+        rule((cardId, description) -> cardId.equals("weather_fog") || description.contains("туман") || description.contains("снижает силу всех дальних"),
+            CardEffects::weatherFog),
+        rule((cardId, description) -> cardId.equals("weather_rain") || description.contains("дождь") || description.contains("снижает силу всех осадных"),
+            CardEffects::weatherRain),
+        rule((cardId, description) -> cardId.equals("weather_clear") || description.contains("ясная погода") || description.contains("снимает все эффекты погоды"),
+            CardEffects::weatherClear),
+        rule((cardId, description) -> cardId.equals("flame_storm") || description.contains("наносит урон всем картам противника") || description.contains("наносит 3 урона всем картам противника"),
+            CardEffects::flameStorm),
+        rule((cardId, description) -> cardId.equals("nature_heal") || (description.contains("исцеление природы") && description.contains("усиливает все ваши карты")),
+            CardEffects::natureHeal),
+        rule((cardId, description) -> cardId.equals("time_freeze") || description.contains("противник пропускает"),
+            CardEffects::timeFreeze),
+        rule((cardId, description) -> cardId.equals("entropy_whisper") || description.contains("снижает силу всех карт противника"),
+            CardEffects::entropyWhisper),
+        rule((cardId, description) -> cardId.equals("solar_beam") || (description.contains("солнечный луч") && description.contains("усиливает все ваши карты")),
+            CardEffects::solarBeam),
+        rule((cardId, description) -> cardId.equals("molten_strike") || description.contains("уничтожает самую слабую карту противника"),
+            CardEffects::moltenStrike),
+        rule((cardId, description) -> cardId.equals("ignite") || (description.contains("воспламенение") && description.contains("ближний ряд противника")),
+            CardEffects::ignite),
+        rule((cardId, description) -> cardId.equals("fire_shield") || (description.contains("огненный щит") && description.contains("усиливает")),
+            CardEffects::fireShield),
+        rule((cardId, description) -> cardId.equals("frost_bolt") || (description.contains("ледяная стрела") && description.contains("дальний ряд противника")),
+            CardEffects::frostBolt),
+        rule((cardId, description) -> cardId.equals("void_shield") || (description.contains("щит пустоты") && description.contains("усиливает")),
+            CardEffects::voidShield),
+        rule((cardId, description) -> cardId.equals("grove_song") || (description.contains("песнь рощи") && description.contains("усиливает все ваши карты")),
+            CardEffects::groveSong),
+        rule((cardId, description) -> cardId.equals("lightning_strike") || (description.contains("удар молнии") && description.contains("осадный ряд противника")),
+            CardEffects::lightningStrike),
+        rule((cardId, description) -> cardId.equals("nature_shield") || (description.contains("щит природы") && description.contains("усиливает")),
+            CardEffects::natureShield),
+        rule((cardId, description) -> cardId.equals("void_rift") || (description.contains("разлом пустоты") && description.contains("возвращает случайную карту из сброса")),
+            CardEffects::voidRift),
+        rule((cardId, description) -> cardId.equals("world_soul_call") || (description.contains("призыв мировой души") && description.contains("возвращает карту из сброса")),
+            CardEffects::worldSoulCall)
+    );
+
+    /** Особые карты (SPECIAL) */
+    private static final List<EffectRule> SPECIAL_RULES = List.of(
+        rule((cardId, description) -> cardId.equals("world_soul_awakening") || description.contains("возвращает все карты из сброса в руку"),
+            CardEffects::worldSoulAwakening),
+        rule((cardId, description) -> cardId.equals("watcher_insight") || (description.contains("прозрение дозора") && description.contains("показывает")) || (description.contains("показывает") && description.contains("карты оппонента")),
+            CardEffects::watcherInsight),
+        rule((cardId, description) -> cardId.equals("grove_blessing") || (description.contains("благословение рощи") && description.contains("лечит все ваши карты")),
+            CardEffects::groveBlessing),
+        rule((cardId, description) -> cardId.equals("inferno_ritual") || description.contains("ритуал инферно"),
+            CardEffects::infernoRitual),
+        rule((cardId, description) -> cardId.equals("flame_barrier") || description.contains("огненный барьер"),
+            CardEffects::flameBarrier),
+        rule((cardId, description) -> cardId.equals("molten_core") || description.contains("расплавленное ядро") || description.contains("удваивает силу всех ваших карт в ближнем ряду"),
+            CardEffects::moltenCore),
+        rule((cardId, description) -> cardId.equals("temporal_shift") || description.contains("временной сдвиг"),
+            CardEffects::temporalShift),
+        rule((cardId, description) -> cardId.equals("void_echo") || description.contains("эхо пустоты") || description.contains("копирует эффект последней сыгранной карты способности"),
+            CardEffects::voidEcho),
+        rule((cardId, description) -> cardId.equals("knowledge_seal") || description.contains("печать знания"),
+            CardEffects::knowledgeSeal),
+        rule((cardId, description) -> cardId.equals("nature_wrath") || description.contains("гнев природы"),
+            CardEffects::natureWrath),
+        rule((cardId, description) -> cardId.equals("grove_awakening") || description.contains("пробуждение рощи"),
+            CardEffects::groveAwakening),
+        rule((cardId, description) -> cardId.equals("dimension_rift") || description.contains("разлом измерения"),
+            CardEffects::dimensionRift),
+        rule((cardId, description) -> cardId.equals("balance_scale") || description.contains("весы равновесия"),
+            CardEffects::balanceScale),
+        rule((cardId, description) -> cardId.equals("silent_hunger") || description.contains("безмолвный голод") || description.contains("иммунный ответ реальности"),
+            CardEffects::silentHunger),
+        rule((cardId, description) -> cardId.equals("reality_crack") || description.contains("трещина реальности") || description.contains("разлом в матрице бытия"),
+            CardEffects::realityCrack),
+        rule((cardId, description) -> cardId.equals("pyro_ritual") || description.contains("пироритуал"),
+            CardEffects::pyroRitual),
+        rule((cardId, description) -> cardId.equals("forge_blessing") || description.contains("благословение кузни"),
+            CardEffects::forgeBlessing),
+        rule((cardId, description) -> cardId.equals("time_paradox") || description.contains("парадокс времени"),
+            CardEffects::timeParadox)
+    );
+
+    /** Существа (CREATURE) */
+    private static final List<EffectRule> CREATURE_RULES = List.of(
+        rule((cardId, description) -> cardId.equals("ice_dragon_glacis") || (description.contains("глацис") && description.contains("замораживает")),
+            CardEffects::iceDragonGlacis),
+        rule((cardId, description) -> cardId.equals("ancient_tree") || (description.contains("древнее дерево") && description.contains("лечит")),
+            CardEffects::ancientTree),
+        rule((cardId, description) -> cardId.equals("light_elf") || (description.contains("эльф света") && description.contains("усиливает соседние")),
+            CardEffects::lightElf),
+        rule((cardId, description) -> cardId.equals("lightning_dragon_fulgur"),
+            CardEffects::lightningDragonFulgur),
+        rule((cardId, description) -> cardId.equals("crystal_serpent") || (description.contains("кристальный змей") && description.contains("замедляет")),
+            CardEffects::crystalSerpent),
+        rule((cardId, description) -> cardId.equals("tree_singer") || (description.contains("певун деревьев") && description.contains("лечит все карты")),
+            CardEffects::treeSinger),
+        rule((cardId, description) -> cardId.equals("library_guardian") || (description.contains("страж чертогов") && description.contains("дальнем ряду")),
+            CardEffects::libraryGuardian),
+        rule((cardId, description) -> cardId.equals("grove_keeper") || (description.contains("хранитель рощи") && description.contains("осадном ряду")),
+            CardEffects::groveKeeper),
+        rule((cardId, description) -> cardId.equals("fire_dragon_ignisar") || (description.contains("игнисар") && description.contains("усиливает все карты дома пламени")),
+            CardEffects::fireDragonIgnisar),
+        rule((cardId, description) -> cardId.equals("pyro_phoenix") || (description.contains("пирофеникс") && description.contains("наносит 3 урона")),
+            CardEffects::pyroPhoenix),
+        rule((cardId, description) -> cardId.equals("pyro_master") || (description.contains("пиромант") && description.contains("наносит 2 урона ближайшей")),
+            CardEffects::pyroMaster),
+        rule((cardId, description) -> cardId.equals("forge_master") || (description.contains("мастер кузни") && description.contains("ближнем ряду")),
+            CardEffects::forgeMaster),
+        rule((cardId, description) -> cardId.equals("void_walker") || (description.contains("странник пустоты") && description.contains("берёт карту")),
+            CardEffects::voidWalker),
+        rule((cardId, description) -> cardId.equals("void_researcher") || (description.contains("исследователь пустоты") && description.contains("берёт карту")),
+            CardEffects::voidResearcher)
+    );
+
+    /**
+     * Встроенный эффект карты по её типу, ID и описанию.
+     * Вызывается при сборке {@link CardEffectTable}, а не при каждом розыгрыше.
+     *
+     * @return обработчик или {@code null}, если для карты,
+     *         у которой должна быть способность, не нашлось правила
+     */
+    public static CardEffectTable.EffectHandler resolveBuiltin(Card card) {
+        String cardId = card.getId();
+        String description = card.getDescription().toLowerCase();
+        switch (card.getType()) {
+            case SPELL:
+                return match(SPELL_RULES, cardId, description);
+            case SPECIAL:
+                return match(SPECIAL_RULES, cardId, description);
+            case CREATURE: {
+                CardEffectTable.EffectHandler handler = match(CREATURE_RULES, cardId, description);
+                if (handler == null && !hasAbilityHints(description)) {
+                    // Обычное существо без способности - эффекта нет, и это не ошибка
+                    handler = CardEffectTable.NO_EFFECT;
+                }
+                return handler;
+            }
+            default:
+                return CardEffectTable.NO_EFFECT;
+        }
+    }
+
+    /**
+     * Есть ли у карты эффект при розыгрыше. Обычное существо без способности (ни правила
+     * {@code CREATURE_RULES}, ни способности API) только добавляет свою силу в ряд -
+     * такой ход клиент может показать до ответа сервера.
+     */
+    public static boolean hasPlayEffect(Card card) {
+        if (card.getType() != Card.CardType.CREATURE) {
+            return true;
+        }
+        if (com.bmfalkye.api.AbilityRegistry.getCardAbility(card.getId()) != null) {
+            return true;
+        }
+        String description = card.getDescription().toLowerCase();
+        return match(CREATURE_RULES, card.getId(), description) != null || hasAbilityHints(description);
+    }
+
+    /**
+     * Обработчик для карты без встроенного эффекта: эффекта нет, карта попадает
+     * в отчёт {@link CardEffectTable} о картах без обработчика при запуске
+     */
+    public static CardEffectTable.EffectHandler fallback(Card card) {
+        return CardEffectTable.NO_EFFECT;
+    }
+
+    private static CardEffectTable.EffectHandler match(List<EffectRule> rules, String cardId, String description) {
+        for (EffectRule rule : rules) {
+            if (rule.matcher.test(cardId, description)) {
+                return rule.handler;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Признаки способности в описании существа
+     */
+    private static boolean hasAbilityHints(String description) {
+        return description.contains("усиливает") || description.contains("лечит") || 
+            description.contains("наносит") || description.contains("снижает") ||
+            description.contains("возвращает") || description.contains("уничтожает");
+    }
+
+    /**
+     * Мороз - снижает силу ближних карт оппонента до 1 (погода применяется только к картам оппонента)
+     */
+    private static void weatherFrost(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        engine.setWeather(FalkyeGameSession.WeatherType.FROST);
+        reduceRowTo1(engine, seat.opponent(), FalkyeGameSession.CardRow.MELEE);
+        engine.emit(seat, ActionLogCode.WEATHER_FROST);
+    }
+    
+    /**
+     * Туман - снижает силу дальних карт оппонента до 1
+     */
+    private static void weatherFog(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        engine.setWeather(FalkyeGameSession.WeatherType.FOG);
+        reduceRowTo1(engine, seat.opponent(), FalkyeGameSession.CardRow.RANGED);
+        engine.emit(seat, ActionLogCode.WEATHER_FOG);
+    }
+    
+    /**
+     * Дождь - снижает силу осадных карт оппонента до 1
+     */
+    private static void weatherRain(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        engine.setWeather(FalkyeGameSession.WeatherType.RAIN);
+        reduceRowTo1(engine, seat.opponent(), FalkyeGameSession.CardRow.SIEGE);
+        engine.emit(seat, ActionLogCode.WEATHER_RAIN);
+    }
+    
+    /**
+     * Ясная погода - снимает все эффекты погоды
+     */
+    private static void weatherClear(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        engine.setWeather(FalkyeGameSession.WeatherType.NONE);
+        engine.emit(seat, ActionLogCode.WEATHER_CLEAR);
+    }
+    
+    /**
+     * Огненная буря - наносит урон всем картам противника на поле
+     */
+    private static void flameStorm(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        int damage = card.getDescription().toLowerCase().contains("3 урона") ? 3 : 2;
+        damageAll(engine, seat.opponent(), damage);
+        engine.emit(seat, ActionLogCode.FLAME_STORM, damage);
+    }
+    
+    /**
+     * Исцеление природы - лечит все карты места на поле (если есть что лечить) и усиливает на 2
+     */
+    private static void natureHeal(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        if (hasDamagedCards(engine, seat, null)) {
+            healAll(engine, seat, 3);
+            engine.emit(seat, ActionLogCode.EFFECT_HEAL_ALL, card.getId(), 3);
+        }
+        // ВСЕГДА усиливаем все карты (даже если нечего было лечить)
+        boostAll(engine, seat, 2);
+        engine.emit(seat, ActionLogCode.EFFECT_BOOST_ALL, card.getId(), 2);
+    }
+    
+    /**
+     * Замораживание времени - противник пропускает оставшиеся ходы раунда (пасует)
+     */
+    private static void timeFreeze(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        engine.forcePass(seat.opponent());
+        engine.emit(seat, ActionLogCode.EFFECT_SKIP_TURN, card.getId());
+    }
+    
+    /**
+     * Шёпот Энтропии - снижает силу всех карт противника на поле
+     */
+    private static void entropyWhisper(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        boostAll(engine, seat.opponent(), -1);
+        engine.emit(seat, ActionLogCode.EFFECT_WEAKEN_ALL, card.getId(), 1);
+    }
+    
+    /**
+     * Солнечный луч - усиливает все карты места на поле на 2
+     */
+    private static void solarBeam(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        boostAll(engine, seat, 2);
+        engine.emit(seat, ActionLogCode.EFFECT_BOOST_ALL, card.getId(), 2);
+    }
+    
+    /**
+     * Удар магмы - уничтожает самую слабую карту противника
+     */
+    private static void moltenStrike(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        Card weakest = engine.findWeakest(seat.opponent());
+        if (weakest != null) {
+            engine.destroy(seat.opponent(), weakest);
+        }
+        engine.emit(seat, ActionLogCode.EFFECT_DESTROY_WEAKEST, card.getId());
+    }
+    
+    /**
+     * Воспламенение - наносит 2 урона всем картам в ближнем ряду противника
+     */
+    private static void ignite(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        damageRow(engine, seat.opponent(), FalkyeGameSession.CardRow.MELEE, 2);
+        engine.emit(seat, ActionLogCode.EFFECT_DAMAGE_ROW, card.getId(), FalkyeGameSession.CardRow.MELEE, 2);
+    }
+    
+    /**
+     * Огненный Щит - усиливает все карты места в выбранном ряду на 1 (по умолчанию ближний)
+     */
+    private static void fireShield(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        shieldRow(engine, seat, card, row != null ? row : FalkyeGameSession.CardRow.MELEE);
+    }
+    
+    /**
+     * Ледяная стрела - наносит 2 урона всем картам в дальнем ряду противника
+     */
+    private static void frostBolt(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        damageRow(engine, seat.opponent(), FalkyeGameSession.CardRow.RANGED, 2);
+        engine.emit(seat, ActionLogCode.EFFECT_DAMAGE_ROW, card.getId(), FalkyeGameSession.CardRow.RANGED, 2);
+    }
+    
+    /**
+     * Щит Пустоты - усиливает все карты места в выбранном ряду на 1 (по умолчанию дальний)
+     */
+    private static void voidShield(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        shieldRow(engine, seat, card, row != null ? row : FalkyeGameSession.CardRow.RANGED);
+    }
+    
+    /**
+     * Песнь Рощи - усиливает все карты места на 1
+     */
+    private static void groveSong(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        boostAll(engine, seat, 1);
+        engine.emit(seat, ActionLogCode.EFFECT_BOOST_ALL, card.getId(), 1);
+    }
+    
+    /**
+     * Удар молнии - наносит 2 урона всем картам в осадном ряду противника
+     */
+    private static void lightningStrike(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        damageRow(engine, seat.opponent(), FalkyeGameSession.CardRow.SIEGE, 2);
+        engine.emit(seat, ActionLogCode.EFFECT_DAMAGE_ROW, card.getId(), FalkyeGameSession.CardRow.SIEGE, 2);
+    }
+    
+    /**
+     * Щит Природы - усиливает все карты места в выбранном ряду на 1 (по умолчанию осадный)
+     */
+    private static void natureShield(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        shieldRow(engine, seat, card, row != null ? row : FalkyeGameSession.CardRow.SIEGE);
+    }
+    
+    /**
+     * Разлом Пустоты - возвращает случайную карту из сброса в руку (SPELL карта)
+     */
+    private static void voidRift(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        returnRandomFromGraveyard(engine, seat, card);
+    }
+    
+    /**
+     * Призыв Мировой Души - возвращает случайную карту из сброса места на поле
+     * (в выбранный ряд, по умолчанию ближний); существо применяет свой эффект
+     */
+    private static void worldSoulCall(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        List<Card> graveyard = engine.getBoard().seat(seat).getGraveyard();
+        if (graveyard.isEmpty()) {
+            return;
+        }
+        Card randomCard = graveyard.remove(engine.getRandom().nextInt(graveyard.size()));
+        FalkyeGameSession.CardRow targetRow = row != null ? row : FalkyeGameSession.CardRow.MELEE;
+        engine.getBoard().seat(seat).getRow(targetRow).add(randomCard);
+
+        if (randomCard.getType() == Card.CardType.CREATURE) {
+            applyCardEffect(engine, seat, randomCard, targetRow);
+        }
+        engine.emit(seat, ActionLogCode.EFFECT_CARD_REVIVED, card.getId(), randomCard.getId(), targetRow);
+    }
+    
+    /**
+     * Пробуждение Мировой Души - возвращает все карты из сброса в руку
+     * Включает все карты: способности (SPELL, SPECIAL) и обычные карты (CREATURE), которые были уничтожены,
+     * а также карты с поля места
+     */
+    private static void worldSoulAwakening(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        SeatState state = engine.getBoard().seat(seat);
+        int returnedCount = state.getGraveyard().size();
+        state.getHand().addAll(state.getGraveyard());
+        state.getGraveyard().clear();
+
+        // Карты с поля тоже возвращаются в руку (не в сброс!)
+        for (Card fieldCard : engine.getFieldCards(seat)) {
+            engine.returnToHand(seat, fieldCard);
+            returnedCount++;
+        }
+
+        if (returnedCount > 0) {
+            engine.emit(seat, ActionLogCode.EFFECT_CARDS_RETURNED, card.getId(), returnedCount);
+        }
+    }
+    
+    /**
+     * Прозрение Дозора - показывает 3 случайные карты из руки противника
+     */
+    private static void watcherInsight(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        List<Card> opponentHand = new ArrayList<>(engine.getBoard().seat(seat.opponent()).getHand());
+        if (opponentHand.isEmpty()) {
+            return;
+        }
+        Collections.shuffle(opponentHand, engine.getRandom());
+        int cardsToShow = Math.min(3, opponentHand.size());
+        List<String> revealed = engine.getBoard().seat(seat).getRevealedCards();
+        revealed.clear();
+        for (int i = 0; i < cardsToShow; i++) {
+            revealed.add(opponentHand.get(i).getId());
+        }
+        engine.emit(seat, ActionLogCode.EFFECT_CARDS_REVEALED, card.getId(), cardsToShow);
+    }
+    
+    /**
+     * Благословение Рощи - лечит все ваши карты на 3 и усиливает их на 1 (если нечего лечить, просто усиливает)
+     */
+    private static void groveBlessing(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        if (hasDamagedCards(engine, seat, null)) {
+            healAll(engine, seat, 3);
+            engine.emit(seat, ActionLogCode.EFFECT_HEAL_ALL, card.getId(), 3);
+        }
+        // Всегда усиливаем (даже если нечего было лечить)
+        boostAll(engine, seat, 1);
+        engine.emit(seat, ActionLogCode.EFFECT_BOOST_ALL, card.getId(), 1);
+    }
+    
+    /**
+     * Ритуал Инферно - усиливает все карты Дома Пламени на 3
+     */
+    private static void infernoRitual(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        boostFaction(engine, seat, "Дом Пламени", 3);
+        engine.emit(seat, ActionLogCode.EFFECT_BOOST_FACTION, card.getId(), "Дом Пламени", 3);
+    }
+    
+    /**
+     * Огненный Барьер - защищает все карты от следующего урона (усиливает на 5 временно)
+     */
+    private static void flameBarrier(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        boostAll(engine, seat, 5);
+        engine.emit(seat, ActionLogCode.EFFECT_PROTECT_ALL, card.getId());
+    }
+    
+    /**
+     * Расплавленное Ядро - удваивает силу всех карт в ближнем ряду
+     */
+    private static void moltenCore(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        for (Card meleeCard : new ArrayList<>(engine.getBoard().seat(seat).getRow(FalkyeGameSession.CardRow.MELEE))) {
+            engine.addPowerModifier(seat, meleeCard, engine.getPower(seat, meleeCard));
+        }
+        engine.emit(seat, ActionLogCode.EFFECT_DOUBLE_ROW, card.getId(), FalkyeGameSession.CardRow.MELEE);
+    }
+    
+    /**
+     * Временной Сдвиг - возвращает случайную карту противника с поля в его руку
+     */
+    private static void temporalShift(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        Card randomCard = randomFieldCard(engine, seat.opponent());
+        if (randomCard != null && engine.returnToHand(seat.opponent(), randomCard)) {
+            engine.emit(seat, ActionLogCode.EFFECT_OPPONENT_CARD_RETURNED, card.getId(), randomCard.getId());
+        }
+    }
+    
+    /**
+     * Эхо Пустоты - копирует эффект последней сыгранной карты способности
+     * (упрощённо: усиливает все карты места на 2)
+     */
+    private static void voidEcho(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        boostAll(engine, seat, 2);
+        engine.emit(seat, ActionLogCode.EFFECT_COPY_ABILITY, card.getId());
+    }
+    
+    /**
+     * Печать Знания - показывает все карты в руке противника
+     */
+    private static void knowledgeSeal(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        List<Card> opponentHand = engine.getBoard().seat(seat.opponent()).getHand();
+        if (opponentHand.isEmpty()) {
+            return;
+        }
+        List<String> revealed = engine.getBoard().seat(seat).getRevealedCards();
+        revealed.clear();
+        for (Card handCard : opponentHand) {
+            revealed.add(handCard.getId());
+        }
+        engine.emit(seat, ActionLogCode.EFFECT_HAND_REVEALED, card.getId());
+    }
+    
+    /**
+     * Гнев Природы - наносит урон равный количеству ваших карт на поле
+     */
+    private static void natureWrath(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        int damage = engine.getFieldCards(seat).size();
+        damageAll(engine, seat.opponent(), damage);
+        engine.emit(seat, ActionLogCode.EFFECT_DAMAGE_ALL, card.getId(), damage);
+    }
+    
+    /**
+     * Пробуждение Рощи - усиливает все карты Детей Рощения на 2 и лечит их на 2 (если есть что лечить)
+     */
+    private static void groveAwakening(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        String faction = "Дети Рощения";
+        // ВСЕГДА усиливаем карты фракции
+        boostFaction(engine, seat, faction, 2);
+
+        if (hasDamagedCards(engine, seat, faction)) {
+            healFaction(engine, seat, faction, 2);
+            engine.emit(seat, ActionLogCode.EFFECT_BOOST_HEAL_FACTION, card.getId(), faction);
+        } else {
+            engine.emit(seat, ActionLogCode.EFFECT_BOOST_FACTION, card.getId(), faction, 2);
+        }
+    }
+    
+    /**
+     * Разлом Измерения - обменивает случайную карту из руки на карту из колоды противника
+     * (упрощённо: меняет случайную карту руки на случайную карту сброса)
+     */
+    private static void dimensionRift(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        SeatState state = engine.getBoard().seat(seat);
+        List<Card> graveyard = state.getGraveyard();
+        List<Card> hand = state.getHand();
+        if (graveyard.isEmpty() || hand.isEmpty()) {
+            return;
+        }
+        Card randomFromHand = hand.remove(engine.getRandom().nextInt(hand.size()));
+        Card randomFromGraveyard = graveyard.remove(engine.getRandom().nextInt(graveyard.size()));
+        hand.add(randomFromGraveyard);
+        graveyard.add(randomFromHand);
+        engine.emit(seat, ActionLogCode.EFFECT_CARDS_SWAPPED, card.getId());
+    }
+    
+    /**
+     * Весы Равновесия - выравнивает очки обоих игроков до среднего значения
+     * (упрощённо: усиливает карты места на четверть отставания)
+     */
+    private static void balanceScale(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        engine.recalculateScores();
+        int ownScore = engine.getBoard().seat(seat).getRoundScore();
+        int opponentScore = engine.getBoard().seat(seat.opponent()).getRoundScore();
+        if (opponentScore > 0 && ownScore < opponentScore) {
+            int boost = (opponentScore - ownScore) / 4;
+            if (boost > 0) {
+                boostAll(engine, seat, boost);
+                engine.emit(seat, ActionLogCode.EFFECT_SCORES_BALANCED, card.getId(), boost);
+            }
+        }
+    }
+    
+    /**
+     * Безмолвный Голод - иммунный ответ реальности (переработано: усиливает все ваши карты на 2, но снижает силу всех карт противника на 1)
+     */
+    private static void silentHunger(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        boostAll(engine, seat, 2);
+        boostAll(engine, seat.opponent(), -1);
+        engine.emit(seat, ActionLogCode.EFFECT_DRAIN, card.getId(), 2, 1);
+    }
+    
+    /**
+     * Трещина Реальности - разлом в матрице бытия (переработано: снижает силу всех карт противника на 2, но усиливает случайную вашу карту на 3)
+     */
+    private static void realityCrack(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        boostAll(engine, seat.opponent(), -2);
+        Card randomCard = randomFieldCard(engine, seat);
+        if (randomCard != null) {
+            engine.addPowerModifier(seat, randomCard, 3);
+            engine.emit(seat, ActionLogCode.EFFECT_WEAKEN_ALL_BOOST_CARD, card.getId(), 2, randomCard.getId(), 3);
+        } else {
+            engine.emit(seat, ActionLogCode.EFFECT_WEAKEN_ALL, card.getId(), 2);
+        }
+    }
+    
+    /**
+     * Пироритуал - возвращает случайную карту из сброса в руку
+     */
+    private static void pyroRitual(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        returnRandomFromGraveyard(engine, seat, card);
+    }
+    
+    /**
+     * Благословение Кузни - усиливает случайную карту на поле на 5
+     */
+    private static void forgeBlessing(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        Card randomCard = randomFieldCard(engine, seat);
+        if (randomCard != null) {
+            engine.addPowerModifier(seat, randomCard, 5);
+            engine.emit(seat, ActionLogCode.EFFECT_BOOST_CARD, card.getId(), randomCard.getId(), 5);
+        }
+    }
+    
+    /**
+     * Парадокс Времени - возвращает все карты из сброса в колоду и перемешивает (упрощённо: возвращает в руку)
+     */
+    private static void timeParadox(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        SeatState state = engine.getBoard().seat(seat);
+        if (state.getGraveyard().isEmpty()) {
+            return;
+        }
+        int returnedCount = state.getGraveyard().size();
+        state.getHand().addAll(state.getGraveyard());
+        state.getGraveyard().clear();
+        Collections.shuffle(state.getHand(), engine.getRandom());
+        engine.emit(seat, ActionLogCode.EFFECT_CARDS_RETURNED, card.getId(), returnedCount);
+    }
+    
+    /**
+     * Глацис, Хранитель Порога - замораживает все карты противника (переделано: снижает силу всех карт противника на 2)
+     */
+    private static void iceDragonGlacis(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        boostAll(engine, seat.opponent(), -2);
+        engine.emit(seat, ActionLogCode.EFFECT_WEAKEN_ALL, card.getId(), 2);
+    }
+    
+    /**
+     * Древнее Дерево - лечит все ваши карты на 3
+     */
+    private static void ancientTree(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        healAll(engine, seat, 3);
+        engine.emit(seat, ActionLogCode.EFFECT_HEAL_ALL, card.getId(), 3);
+    }
+    
+    /**
+     * Эльф Света - усиливает соседние карты на +1
+     * (выбранный ряд или ряд, в который сыграна карта)
+     */
+    private static void lightElf(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        FalkyeGameSession.CardRow targetRow = row != null ? row : engine.findRow(seat, card);
+        if (targetRow != null) {
+            boostRow(engine, seat, targetRow, 1);
+            engine.emit(seat, ActionLogCode.EFFECT_BOOST_ROW, card.getId(), targetRow, 1);
+        }
+    }
+    
+    /**
+     * Фульгур, Громовой Скипетр - усиливает все карты Детей Рощения на поле на +2
+     * Проверяем, что это именно Фульгур и что он должен усиливать только карты Детей Рощения
+     */
+    private static void lightningDragonFulgur(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        if (card.getDescription().toLowerCase().contains("детей рощения")) {
+            boostFaction(engine, seat, "Дети Рощения", 2);
+            engine.emit(seat, ActionLogCode.EFFECT_BOOST_FACTION, card.getId(), "Дети Рощения", 2);
+        } else {
+            // Старая логика для обратной совместимости - усиливаем все карты
+            boostAll(engine, seat, 2);
+            engine.emit(seat, ActionLogCode.EFFECT_BOOST_ALL, card.getId(), 2);
+        }
+    }
+    
+    /**
+     * Кристальный Змей - замедляет противника (переделано: снижает силу всех карт противника на 1)
+     */
+    private static void crystalSerpent(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        boostAll(engine, seat.opponent(), -1);
+        engine.emit(seat, ActionLogCode.EFFECT_WEAKEN_ALL, card.getId(), 1);
+    }
+    
+    /**
+     * Певун Деревьев - лечит все карты на 1 при разыгрывании
+     */
+    private static void treeSinger(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        healAll(engine, seat, 1);
+        engine.emit(seat, ActionLogCode.EFFECT_HEAL_ALL, card.getId(), 1);
+    }
+    
+    /**
+     * Страж Чертогов - усиливает все карты в дальнем ряду на +1
+     */
+    private static void libraryGuardian(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        boostRow(engine, seat, FalkyeGameSession.CardRow.RANGED, 1);
+        engine.emit(seat, ActionLogCode.EFFECT_BOOST_ROW, card.getId(), FalkyeGameSession.CardRow.RANGED, 1);
+    }
+    
+    /**
+     * Хранитель Рощи - усиливает все карты в осадном ряду на +1
+     */
+    private static void groveKeeper(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        boostRow(engine, seat, FalkyeGameSession.CardRow.SIEGE, 1);
+        engine.emit(seat, ActionLogCode.EFFECT_BOOST_ROW, card.getId(), FalkyeGameSession.CardRow.SIEGE, 1);
+    }
+    
+    /**
+     * Игнисар, Вечный Горн - усиливает все карты Дома Пламени на поле на +2
+     */
+    private static void fireDragonIgnisar(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        boostFaction(engine, seat, "Дом Пламени", 2);
+        engine.emit(seat, ActionLogCode.EFFECT_BOOST_FACTION, card.getId(), "Дом Пламени", 2);
+    }
+    
+    /**
+     * Пирофеникс - наносит 3 урона случайной карте противника
+     */
+    private static void pyroPhoenix(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        Card randomCard = randomFieldCard(engine, seat.opponent());
+        if (randomCard != null) {
+            engine.damage(seat.opponent(), randomCard, 3);
+            engine.emit(seat, ActionLogCode.EFFECT_DAMAGE_CARD, card.getId(), randomCard.getId(), 3);
+        }
+    }
+    
+    /**
+     * Пиромант - наносит 2 урона ближайшей карте противника (первой в ближнем ряду)
+     */
+    private static void pyroMaster(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        List<Card> meleeRow = engine.getBoard().seat(seat.opponent()).getRow(FalkyeGameSession.CardRow.MELEE);
+        if (!meleeRow.isEmpty()) {
+            Card targetCard = meleeRow.get(0);
+            engine.damage(seat.opponent(), targetCard, 2);
+            engine.emit(seat, ActionLogCode.EFFECT_DAMAGE_CARD, card.getId(), targetCard.getId(), 2);
+        }
+    }
+    
+    /**
+     * Мастер Кузни - усиливает все карты в ближнем ряду на +1
+     */
+    private static void forgeMaster(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        boostRow(engine, seat, FalkyeGameSession.CardRow.MELEE, 1);
+        engine.emit(seat, ActionLogCode.EFFECT_BOOST_ROW, card.getId(), FalkyeGameSession.CardRow.MELEE, 1);
+    }
+    
+    /**
+     * Странник Пустоты - берёт карту из колоды противника (упрощённо: возвращает случайную карту из сброса)
+     */
+    private static void voidWalker(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        returnRandomFromGraveyard(engine, seat, card);
+    }
+    
+    /**
+     * Исследователь Пустоты - берёт карту из колоды (упрощённо: возвращает случайную карту из сброса)
+     */
+    private static void voidResearcher(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        returnRandomFromGraveyard(engine, seat, card);
+    }
+
+    /**
+     * Странник Снов - при уходе в сброс возвращает в руку случайную другую карту из сброса
+     */
+    private static void dreamWalkerOnDiscard(RulesEngine engine, Seat seat, Card discardedCard) {
+        if (discardedCard == null || !discardedCard.getId().equals("dream_walker")) {
+            return;
+        }
+        List<Card> graveyard = engine.getBoard().seat(seat).getGraveyard();
+        List<Card> availableCards = new ArrayList<>();
+        for (Card graveyardCard : graveyard) {
+            if (!graveyardCard.getId().equals("dream_walker")) {
+                availableCards.add(graveyardCard);
+            }
+        }
+
+        if (availableCards.isEmpty()) {
+            engine.emit(seat, ActionLogCode.EFFECT_NOTHING_TO_RETURN, discardedCard.getId());
+            return;
+        }
+        Card randomCard = availableCards.get(engine.getRandom().nextInt(availableCards.size()));
+        graveyard.remove(randomCard);
+        engine.getBoard().seat(seat).getHand().add(randomCard);
+        engine.emit(seat, ActionLogCode.EFFECT_CARD_RETURNED, discardedCard.getId(), randomCard.getId());
+    }
+    
+    // ========== Вспомогательные методы ==========
+
+    /**
+     * Усиливает все карты места на поле (отрицательное значение - ослабляет)
+     * ВАЖНО: Модификатор применяется только к картам указанного места
+     */
+    private static void boostAll(RulesEngine engine, Seat seat, int boost) {
+        for (Card card : engine.getFieldCards(seat)) {
+            engine.addPowerModifier(seat, card, boost);
+        }
+    }
+
+    /**
+     * Наносит урон всем картам места на поле: карта с силой не выше урона уничтожается
+     * ВАЖНО: Используется для нанесения вреда оппоненту, поэтому seat здесь - место оппонента
+     */
+    public static void damageAll(RulesEngine engine, Seat seat, int damage) {
+        for (Card card : engine.getFieldCards(seat)) {
+            engine.damage(seat, card, damage);
+        }
+    }
+
+    /**
+     * Лечит все карты места на поле (восстанавливает урон, но не выше базовой силы)
+     */
+    public static void healAll(RulesEngine engine, Seat seat, int healAmount) {
+        healFaction(engine, seat, null, healAmount);
+    }
+
+    /**
+     * Лечит карты фракции места на поле (null - все карты), но не выше базовой силы
+     */
+    private static void healFaction(RulesEngine engine, Seat seat, String faction, int healAmount) {
+        for (Card card : engine.getFieldCards(seat)) {
+            if (faction != null && !card.getFaction().equals(faction)) {
+                continue;
+            }
+            int currentPower = engine.getPower(seat, card);
+            if (currentPower < card.getPower()) {
+                engine.addPowerModifier(seat, card, Math.min(healAmount, card.getPower() - currentPower));
+            }
+        }
+    }
+
+    /**
+     * Есть ли на поле места карты фракции (null - любые) с силой ниже базовой
+     */
+    private static boolean hasDamagedCards(RulesEngine engine, Seat seat, String faction) {
+        for (Card card : engine.getFieldCards(seat)) {
+            if ((faction == null || card.getFaction().equals(faction)) && engine.getPower(seat, card) < card.getPower()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Усиливает все карты определённой фракции места на поле
+     */
+    private static void boostFaction(RulesEngine engine, Seat seat, String faction, int boost) {
+        for (Card card : engine.getFieldCards(seat)) {
+            if (card.getFaction().equals(faction)) {
+                engine.addPowerModifier(seat, card, boost);
+            }
+        }
+    }
+
+    /**
+     * Усиливает все карты в определённом ряду места
+     */
+    private static void boostRow(RulesEngine engine, Seat seat, FalkyeGameSession.CardRow row, int boost) {
+        for (Card card : new ArrayList<>(engine.getBoard().seat(seat).getRow(row))) {
+            engine.addPowerModifier(seat, card, boost);
+        }
+    }
+
+    /**
+     * Щит на ряд: усиливает карты места в ряду на 1
+     */
+    private static void shieldRow(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow targetRow) {
+        boostRow(engine, seat, targetRow, 1);
+        engine.emit(seat, ActionLogCode.EFFECT_BOOST_ROW, card.getId(), targetRow, 1);
+    }
+
+    /**
+     * Наносит урон всем картам в указанном ряду места
+     * ВАЖНО: Используется для нанесения вреда оппоненту, поэтому seat здесь - место оппонента
+     */
+    private static void damageRow(RulesEngine engine, Seat seat, FalkyeGameSession.CardRow row, int damage) {
+        for (Card card : new ArrayList<>(engine.getBoard().seat(seat).getRow(row))) {
+            engine.damage(seat, card, damage);
+        }
+    }
+
+    /**
+     * Снижает силу всех карт ряда места до 1 (погода)
+     */
+    private static void reduceRowTo1(RulesEngine engine, Seat seat, FalkyeGameSession.CardRow row) {
+        for (Card card : engine.getBoard().seat(seat).getRow(row)) {
+            int currentPower = engine.getPower(seat, card);
+            if (currentPower > 1) {
+                engine.addPowerModifier(seat, card, -(currentPower - 1));
+            }
+        }
+    }
+
+    /**
+     * Случайная карта поля места или null
+     */
+    private static Card randomFieldCard(RulesEngine engine, Seat seat) {
+        List<Card> cards = engine.getFieldCards(seat);
+        return cards.isEmpty() ? null : cards.get(engine.getRandom().nextInt(cards.size()));
+    }
+
+    /**
+     * Возвращает случайную карту из сброса места в руку
+     */
+    private static void returnRandomFromGraveyard(RulesEngine engine, Seat seat, Card card) {
+        List<Card> graveyard = engine.getBoard().seat(seat).getGraveyard();
+        if (graveyard.isEmpty()) {
+            return;
+        }
+        Card randomCard = graveyard.remove(engine.getRandom().nextInt(graveyard.size()));
+        engine.getBoard().seat(seat).getHand().add(randomCard);
+        engine.emit(seat, ActionLogCode.EFFECT_CARD_RETURNED, card.getId(), randomCard.getId());
+    }
+}
@@ -0,0 +1,195 @@
+package com.bmfalkye.game.core;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.network.ActionLogCode;
+
+import java.util.*;
+
+/**
+ * Система комбо-эффектов и синергий между картами.
+ *
+ * <p>Работает через {@link RulesEngine}, поэтому комбо срабатывают одинаково в живой
+ * сессии и в симуляциях. Собранные за раунд комбо хранятся в {@link SeatState#getCollectedCombos()}.
+ */
+public class ComboSystem {
+
+    /**
+     * Проверяет и применяет комбо-эффекты при разыгрывании карты
+     * ВАЖНО: Вызывается ПОСЛЕ того, как карта уже добавлена на поле
+     * ВАЖНО: Комбо применяются ТОЛЬКО к картам того места, которое их собрало
+     */
+    public static void checkAndApplyCombos(RulesEngine engine, Seat seat, Card playedCard) {
+        // Все карты на поле ТОЛЬКО этого места (включая только что сыгранную)
+        List<Card> fieldCards = engine.getFieldCards(seat);
+
+        // Убеждаемся, что сыгранная карта включена в список (она уже должна быть на поле)
+        boolean playedCardInField = false;
+        for (Card card : fieldCards) {
+            if (card.getId().equals(playedCard.getId())) {
+                playedCardInField = true;
+                break;
+            }
+        }
+
+        // Если карта еще не на поле, добавляем её в список для проверки комбо
+        // (на случай, если метод вызван до добавления карты на поле)
+        if (!playedCardInField) {
+            fieldCards.add(playedCard);
+        }
+
+        // Проверяем различные типы комбо
+        checkFactionCombo(engine, seat, playedCard, fieldCards);
+        checkRarityCombo(engine, seat, fieldCards);
+        checkTypeCombo(engine, seat, fieldCards);
+        checkPowerCombo(engine, seat, fieldCards);
+    }
+
+    /**
+     * Комбо одной фракции - если на поле 3+ карты одной фракции, усиливаем все
+     * ВАЖНО: Комбо применяется ТОЛЬКО к картам того места, которое его собрало
+     * @return true если комбо было применено
+     */
+    private static boolean checkFactionCombo(RulesEngine engine, Seat seat, Card playedCard, List<Card> fieldCards) {
+        Set<String> collected = engine.getBoard().seat(seat).getCollectedCombos();
+
+        // Если комбо для фракции сыгранной карты уже собрано, не проверяем снова
+        if (collected.contains("faction_" + playedCard.getFaction())) {
+            return false;
+        }
+
+        Map<String, Integer> factionCount = new HashMap<>();
+        for (Card card : fieldCards) {
+            factionCount.put(card.getFaction(),
+                factionCount.getOrDefault(card.getFaction(), 0) + 1);
+        }
+
+        boolean comboApplied = false;
+        for (Map.Entry<String, Integer> entry : factionCount.entrySet()) {
+            if (entry.getValue() >= 3) {
+                String faction = entry.getKey();
+                String comboId = "faction_" + faction;
+
+                // Проверяем, было ли это комбо уже собрано в этом раунде
+                if (collected.contains(comboId)) {
+                    continue;
+                }
+
+                // Комбо активировано!
+                int boost = entry.getValue() - 2; // +1 за каждую карту сверх 2
+
+                // ВАЖНО: Отмечаем комбо как собранное ПЕРЕД применением эффекта,
+                // чтобы предотвратить повторное срабатывание
+                collected.add(comboId);
+
+                for (Card card : engine.getFieldCards(seat)) {
+                    if (card.getFaction().equals(faction)) {
+                        engine.addPowerModifier(seat, card, boost);
+                    }
+                }
+
+                // Лог действий обоих игроков (оппонент видит "противник активировал комбо")
+                engine.emit(seat, ActionLogCode.FACTION_COMBO, faction, boost);
+
+                comboApplied = true;
+            }
+        }
+        return comboApplied;
+    }
+
+    /**
+     * Комбо редкости - если на поле 2+ легендарных карты, особый эффект
+     * ВАЖНО: Комбо применяется ТОЛЬКО к картам того места, которое его собрало
+     * @return true если комбо было применено
+     */
+    private static boolean checkRarityCombo(RulesEngine engine, Seat seat, List<Card> fieldCards) {
+        Set<String> collected = engine.getBoard().seat(seat).getCollectedCombos();
+        Map<com.bmfalkye.cards.CardRarity, Integer> rarityCount = new HashMap<>();
+        for (Card card : fieldCards) {
+            rarityCount.put(card.getRarity(),
+                rarityCount.getOrDefault(card.getRarity(), 0) + 1);
+        }
+
+        boolean comboApplied = false;
+
+        // Легендарное комбо: все карты усилены на 5
+        if (rarityCount.getOrDefault(com.bmfalkye.cards.CardRarity.LEGENDARY, 0) >= 2 && collected.add("legendary")) {
+            for (Card card : engine.getFieldCards(seat)) {
+                engine.addPowerModifier(seat, card, 5);
+            }
+            engine.emit(seat, ActionLogCode.LEGENDARY_COMBO, 5);
+            comboApplied = true;
+        }
+
+        // Эпическое комбо: все карты исцелены на 3
+        if (rarityCount.getOrDefault(com.bmfalkye.cards.CardRarity.EPIC, 0) >= 3 && collected.add("epic")) {
+            CardEffects.healAll(engine, seat, 3);
+            engine.emit(seat, ActionLogCode.EPIC_COMBO, 3);
+            comboApplied = true;
+        }
+
+        return comboApplied;
+    }
+
+    /**
+     * Комбо типа - если на поле 3+ заклинания, особый эффект
+     * ВАЖНО: Комбо применяется ТОЛЬКО к картам того места, которое его собрало
+     * (кроме комбо заклинаний, которое наносит урон противнику)
+     * @return true если комбо было применено
+     */
+    private static boolean checkTypeCombo(RulesEngine engine, Seat seat, List<Card> fieldCards) {
+        Set<String> collected = engine.getBoard().seat(seat).getCollectedCombos();
+        int spellCount = 0;
+        int creatureCount = 0;
+        for (Card card : fieldCards) {
+            switch (card.getType()) {
+                case SPELL -> spellCount++;
+                case CREATURE -> creatureCount++;
+                case SPECIAL -> {} // Специальные карты не учитываются в комбо типа
+            }
+        }
+
+        boolean comboApplied = false;
+
+        // Комбо заклинаний: урон всем картам противника по числу заклинаний
+        if (spellCount >= 3 && collected.add("spell")) {
+            CardEffects.damageAll(engine, seat.opponent(), spellCount);
+            engine.emit(seat, ActionLogCode.SPELL_COMBO, spellCount);
+            comboApplied = true;
+        }
+
+        // Комбо существ: все существа усилены на 2
+        if (creatureCount >= 5 && collected.add("creature")) {
+            for (Card card : engine.getFieldCards(seat)) {
+                if (card.getType() == Card.CardType.CREATURE) {
+                    engine.addPowerModifier(seat, card, 2);
+                }
+            }
+            engine.emit(seat, ActionLogCode.CREATURE_COMBO, 2);
+            comboApplied = true;
+        }
+
+        return comboApplied;
+    }
+
+    /**
+     * Комбо силы - если общая сила на поле превышает порог, сила всех карт удваивается
+     * ВАЖНО: Комбо применяется ТОЛЬКО к картам того места, которое его собрало
+     * @return true если комбо было применено
+     */
+    private static boolean checkPowerCombo(RulesEngine engine, Seat seat, List<Card> fieldCards) {
+        int totalPower = 0;
+        for (Card card : fieldCards) {
+            totalPower += engine.getPower(seat, card);
+        }
+
+        if (totalPower < 50 || !engine.getBoard().seat(seat).getCollectedCombos().add("power")) {
+            return false;
+        }
+
+        for (Card card : engine.getFieldCards(seat)) {
+            engine.addPowerModifier(seat, card, engine.getPower(seat, card));
+        }
+        engine.emit(seat, ActionLogCode.POWER_COMBO);
+        return true;
+    }
+}
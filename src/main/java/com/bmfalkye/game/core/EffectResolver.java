@@ -0,0 +1,29 @@
+package com.bmfalkye.game.core;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.game.FalkyeGameSession;
+
+/**
+ * Применение эффекта сыгранной карты к доске.
+ *
+ * <p>Эффект меняет партию только через {@link RulesEngine} (урон, модификаторы силы,
+ * перемещение карт, погода), поэтому одна и та же реализация работает и в живой сессии,
+ * и в симуляциях. Стандартные эффекты карт - {@link CardEffects#RESOLVER}.
+ */
+@FunctionalInterface
+public interface EffectResolver {
+    /** Эффекты не применяются: карта только ложится на поле или в сброс */
+    EffectResolver NONE = (engine, seat, card, row) -> { };
+
+    /**
+     * Эффект сыгранной карты. Обычная карта к этому моменту уже лежит в ряду,
+     * способность ещё не ушла в сброс.
+     */
+    void apply(RulesEngine engine, Seat seat, Card card, FalkyeGameSession.CardRow row);
+
+    /**
+     * Карта места ушла в сброс (способность после применения или уничтоженная карта поля)
+     */
+    default void onDiscarded(RulesEngine engine, Seat seat, Card card) {
+    }
+}
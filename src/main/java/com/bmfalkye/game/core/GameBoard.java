@@ -0,0 +1,139 @@
+package com.bmfalkye.game.core;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.CardDeck;
+import com.bmfalkye.game.FalkyeGameSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Состояние партии без привязки к серверу: два места, погода, раунд и чей ход.
+ *
+ * <p>Доска не знает о ServerPlayer, сети и таймерах, поэтому её можно создавать
+ * в JUnit/JMH и на рабочих потоках. Живые сессии ({@link FalkyeGameSession},
+ * {@link com.bmfalkye.team.TeamGameSession}) хранят своё игровое состояние здесь.
+ */
+public class GameBoard {
+
+    /**
+     * Создаёт список для ряда места. Сессия подставляет свои ряды
+     * (например, с индексом поля), по умолчанию - обычный ArrayList.
+     */
+    @FunctionalInterface
+    public interface LaneFactory {
+        List<Card> create(Seat seat, int lane);
+    }
+
+    public static final LaneFactory DEFAULT_LANES = (seat, lane) -> new ArrayList<>();
+
+    private final SeatState first;
+    private final SeatState second;
+
+    private FalkyeGameSession.WeatherType weather = FalkyeGameSession.WeatherType.NONE;
+    private Seat currentSeat = Seat.FIRST;
+    private int currentRound = 1;
+    private boolean roundEnded;
+    private boolean gameEnded;
+
+    /**
+     * Доска классической партии: три ряда (ближний бой, дальний бой, осада) на место
+     */
+    public GameBoard(CardDeck deck1, CardDeck deck2) {
+        this(FalkyeGameSession.CardRow.values().length, deck1, deck2, DEFAULT_LANES);
+    }
+
+    public GameBoard(int laneCount, CardDeck deck1, CardDeck deck2, LaneFactory laneFactory) {
+        this.first = new SeatState(Seat.FIRST, deck1, laneCount, laneFactory);
+        this.second = new SeatState(Seat.SECOND, deck2, laneCount, laneFactory);
+    }
+
+    public SeatState seat(Seat seat) {
+        return seat == Seat.FIRST ? first : second;
+    }
+
+    public FalkyeGameSession.WeatherType getWeather() {
+        return weather;
+    }
+
+    public void setWeather(FalkyeGameSession.WeatherType weather) {
+        this.weather = weather != null ? weather : FalkyeGameSession.WeatherType.NONE;
+    }
+
+    /**
+     * Место, которое сейчас ходит (null - ход никому не принадлежит)
+     */
+    public Seat getCurrentSeat() {
+        return currentSeat;
+    }
+
+    public void setCurrentSeat(Seat currentSeat) {
+        this.currentSeat = currentSeat;
+    }
+
+    public int getCurrentRound() {
+        return currentRound;
+    }
+
+    public void setCurrentRound(int currentRound) {
+        this.currentRound = currentRound;
+    }
+
+    public boolean isRoundEnded() {
+        return roundEnded;
+    }
+
+    public void setRoundEnded(boolean roundEnded) {
+        this.roundEnded = roundEnded;
+    }
+
+    public boolean isGameEnded() {
+        return gameEnded;
+    }
+
+    public void setGameEnded(boolean gameEnded) {
+        this.gameEnded = gameEnded;
+    }
+
+    /**
+     * Снимок текущего состояния (для fork/undo в симуляциях)
+     */
+    public BoardSnapshot snapshot() {
+        return new BoardSnapshot(this);
+    }
+
+    /**
+     * Возвращает доску к снимку. Списки рядов не пересоздаются, поэтому
+     * ряды сессии (например, с индексом поля) остаются на месте.
+     */
+    public void restore(BoardSnapshot snapshot) {
+        for (Seat seat : Seat.values()) {
+            snapshot.seat(seat).restoreInto(seat(seat));
+        }
+        this.weather = snapshot.getWeather();
+        this.currentSeat = snapshot.getCurrentSeat();
+        this.currentRound = snapshot.getCurrentRound();
+        this.roundEnded = snapshot.isRoundEnded();
+        this.gameEnded = snapshot.isGameEnded();
+    }
+
+    /**
+     * Сбрасывает состояние раунда перед началом следующего: пасы, флаги ходов,
+     * очки, погоду, модификаторы силы, открытые карты и собранные комбинации.
+     * Карты с поля убирает движок.
+     */
+    public void resetForNextRound() {
+        currentRound++;
+        roundEnded = false;
+        weather = FalkyeGameSession.WeatherType.NONE;
+        for (Seat seat : Seat.values()) {
+            SeatState state = seat(seat);
+            state.setPassed(false);
+            state.resetTurnFlags();
+            state.setRoundScore(0);
+            state.getPowerModifiers().clear();
+            state.getRevealedCards().clear();
+            state.getCollectedCombos().clear();
+        }
+    }
+}
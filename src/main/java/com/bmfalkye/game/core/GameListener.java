@@ -0,0 +1,84 @@
+package com.bmfalkye.game.core;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.LeaderCard;
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.network.ActionLogCode;
+
+/**
+ * Наблюдатель за событиями {@link RulesEngine}.
+ *
+ * <p>Ядро не шлёт пакетов и не пишет логов - всё это делает слушатель.
+ * Все методы по умолчанию пустые.
+ */
+public interface GameListener {
+    GameListener NONE = new GameListener() { };
+
+    default void onCardPlayed(Seat seat, Card card, FalkyeGameSession.CardRow row) {
+    }
+
+    default void onPassed(Seat seat) {
+    }
+
+    /**
+     * Место отказалось от карты способности после обычной карты
+     */
+    default void onAbilityDeclined(Seat seat) {
+    }
+
+    /**
+     * Ход места заканчивается (вызывается до смены текущего места)
+     */
+    default void onTurnEnded(Seat seat) {
+    }
+
+    default void onTurnChanged(Seat seat) {
+    }
+
+    default void onLeaderUsed(Seat seat, LeaderCard leader) {
+    }
+
+    /**
+     * Событие эффекта карты, комбинации или лидера для журнала партии
+     *
+     * @param actor место, чьё действие вызвало событие (null - без автора)
+     */
+    default void onEffect(Seat actor, ActionLogCode code, Object... args) {
+    }
+
+    /**
+     * Изменился модификатор силы карты места
+     */
+    default void onPowerChanged(Seat seat, Card card) {
+    }
+
+    default void onCardDestroyed(Seat seat, Card card, FalkyeGameSession.CardRow row) {
+    }
+
+    default void onCardDamaged(Seat seat, Card card, int damage, int newPower) {
+    }
+
+    /**
+     * Итог битвы рядов одного типа (сила рядов до урона)
+     */
+    default void onRowBattle(FalkyeGameSession.CardRow row, int power1, int power2) {
+    }
+
+    /**
+     * Раунд заканчивается: вызывается до подсчёта итогов
+     */
+    default void onRoundEnding() {
+    }
+
+    default void onRoundEnded(GameRules.RoundResult result) {
+    }
+
+    /**
+     * Начался следующий раунд, карты розданы
+     */
+    default void onRoundStarted(int round, Seat firstSeat) {
+    }
+
+    default void onGameEnded(Seat winner) {
+    }
+}
@@ -0,0 +1,307 @@
+package com.bmfalkye.game.core;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.game.FalkyeGameSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Правила Falkye без побочных эффектов.
+ *
+ * <p>Здесь принимаются все решения партии: можно ли сыграть карту, кому переходит ход,
+ * как погода влияет на ряд, кто выиграл раунд и как распределяется урон в битве рядов.
+ * Живая сессия и {@link RulesEngine} используют одни и те же методы, поэтому
+ * симуляция и сервер не расходятся в правилах.
+ */
+public final class GameRules {
+    /** Карт в руке в начале раунда */
+    public static final int HAND_SIZE = 10;
+    /** Раундов для победы в партии */
+    public static final int ROUNDS_TO_WIN = 2;
+    /** Максимум раундов в партии */
+    public static final int MAX_ROUNDS = 3;
+
+    private GameRules() {
+    }
+
+    /**
+     * Результат проверки хода
+     */
+    public enum PlayCheck {
+        OK,
+        GAME_OVER,
+        ALREADY_PASSED,
+        NOT_YOUR_TURN,
+        NOT_IN_HAND,
+        NORMAL_ALREADY_PLAYED,
+        ABILITY_ALREADY_PLAYED,
+        NORMAL_AFTER_ABILITY
+    }
+
+    public static boolean isAbilityCard(Card card) {
+        return card.getType() == Card.CardType.SPELL || card.getType() == Card.CardType.SPECIAL;
+    }
+
+    public static boolean isNormalCard(Card card) {
+        return card.getType() == Card.CardType.CREATURE;
+    }
+
+    /**
+     * Полная проверка хода места: состояние партии, пас, очередь, рука и лимиты хода
+     */
+    public static PlayCheck checkPlay(GameBoard board, Seat seat, Card card) {
+        if (board.isRoundEnded() || board.isGameEnded()) {
+            return PlayCheck.GAME_OVER;
+        }
+        SeatState state = board.seat(seat);
+        if (state.isPassed()) {
+            return PlayCheck.ALREADY_PASSED;
+        }
+        if (board.getCurrentSeat() != seat) {
+            return PlayCheck.NOT_YOUR_TURN;
+        }
+        if (card == null || state.findInHand(card.getId()) == null) {
+            return PlayCheck.NOT_IN_HAND;
+        }
+        return checkTurnLimits(state, card);
+    }
+
+    /**
+     * Лимиты одного хода: одна обычная карта, одна карта способности,
+     * обычную карту нельзя играть после способности
+     */
+    public static PlayCheck checkTurnLimits(SeatState state, Card card) {
+        boolean ability = isAbilityCard(card);
+        boolean normal = isNormalCard(card);
+        if (normal && state.isPlayedNormalCard()) {
+            return PlayCheck.NORMAL_ALREADY_PLAYED;
+        }
+        if (ability && state.isPlayedAbilityCard()) {
+            return PlayCheck.ABILITY_ALREADY_PLAYED;
+        }
+        if (normal && state.isPlayedAbilityCard()) {
+            return PlayCheck.NORMAL_AFTER_ABILITY;
+        }
+        return PlayCheck.OK;
+    }
+
+    /**
+     * Переходит ли ход после сыгранной карты.
+     * После обычной карты ход остаётся, если в руке есть карта способности
+     * (её можно сыграть или отказаться пасом). После способности ход переходит всегда.
+     */
+    public static boolean shouldSwitchTurnAfterPlay(SeatState state, Card played) {
+        return !(isNormalCard(played) && state.hasAbilityCardInHand());
+    }
+
+    /**
+     * Пас после обычной карты при наличии способности в руке - это отказ от способности,
+     * а не пас на весь раунд
+     */
+    public static boolean isAbilityDecline(SeatState state) {
+        return state.isPlayedNormalCard() && state.hasAbilityCardInHand() && !state.isPlayedAbilityCard();
+    }
+
+    /**
+     * Битва карт: оба спасовали и ни один не сыграл карт за свой ход
+     */
+    public static boolean isCardBattleTriggered(GameBoard board) {
+        SeatState first = board.seat(Seat.FIRST);
+        SeatState second = board.seat(Seat.SECOND);
+        return first.isPassed() && second.isPassed() && !first.hasPlayedCards() && !second.hasPlayedCards();
+    }
+
+    /**
+     * Кому переходит ход. Спасовавший на весь раунд больше не ходит.
+     */
+    public static Seat nextTurn(GameBoard board) {
+        Seat current = board.getCurrentSeat();
+        if (current == null) {
+            return Seat.FIRST;
+        }
+        boolean firstPassed = board.seat(Seat.FIRST).isPassed();
+        boolean secondPassed = board.seat(Seat.SECOND).isPassed();
+        if (firstPassed && !secondPassed) {
+            return Seat.SECOND;
+        }
+        if (secondPassed && !firstPassed) {
+            return Seat.FIRST;
+        }
+        return current.opponent();
+    }
+
+    /**
+     * Кто ходит первым в следующем раунде: лидер по раундам,
+     * при равенстве - тот, кто ходил вторым
+     */
+    public static Seat firstTurnOfNextRound(GameBoard board) {
+        int won1 = board.seat(Seat.FIRST).getRoundsWon();
+        int won2 = board.seat(Seat.SECOND).getRoundsWon();
+        if (won1 > won2) {
+            return Seat.FIRST;
+        }
+        if (won2 > won1) {
+            return Seat.SECOND;
+        }
+        Seat current = board.getCurrentSeat();
+        return current != null ? current.opponent() : Seat.FIRST;
+    }
+
+    public static boolean isRowAffectedByWeather(FalkyeGameSession.WeatherType weather, FalkyeGameSession.CardRow row) {
+        if (weather == null) {
+            return false;
+        }
+        switch (weather) {
+            case FROST: return row == FalkyeGameSession.CardRow.MELEE;
+            case FOG: return row == FalkyeGameSession.CardRow.RANGED;
+            case RAIN: return row == FalkyeGameSession.CardRow.SIEGE;
+            default: return false;
+        }
+    }
+
+    /**
+     * Очки ряда с учётом погоды: погода снижает силу каждой карты своего ряда до 1
+     */
+    public static int rowScore(FalkyeGameSession.WeatherType weather, FalkyeGameSession.CardRow row,
+                               int cardCount, int rowPower) {
+        return isRowAffectedByWeather(weather, row) ? cardCount : rowPower;
+    }
+
+    public static boolean isMatchDecided(GameBoard board) {
+        return getMatchWinner(board) != null;
+    }
+
+    /**
+     * Победитель партии или null, если партия не решена
+     */
+    public static Seat getMatchWinner(GameBoard board) {
+        if (board.seat(Seat.FIRST).getRoundsWon() >= ROUNDS_TO_WIN) {
+            return Seat.FIRST;
+        }
+        if (board.seat(Seat.SECOND).getRoundsWon() >= ROUNDS_TO_WIN) {
+            return Seat.SECOND;
+        }
+        return null;
+    }
+
+    /**
+     * Итог раунда
+     */
+    public static final class RoundResult {
+        /** Победитель раунда или null при ничьей */
+        public final Seat winner;
+        public final int rowsWon1;
+        public final int rowsWon2;
+        /** Ничья по рядам, победитель определён общими очками */
+        public final boolean decidedByTotal;
+        /** Очки рядов мест с учётом погоды, по порядку {@link FalkyeGameSession.CardRow} */
+        public final int[] rowScores1;
+        public final int[] rowScores2;
+
+        RoundResult(Seat winner, int rowsWon1, int rowsWon2, boolean decidedByTotal,
+                    int[] rowScores1, int[] rowScores2) {
+            this.winner = winner;
+            this.rowsWon1 = rowsWon1;
+            this.rowsWon2 = rowsWon2;
+            this.decidedByTotal = decidedByTotal;
+            this.rowScores1 = rowScores1;
+            this.rowScores2 = rowScores2;
+        }
+    }
+
+    /**
+     * Определяет победителя раунда по числу выигранных рядов,
+     * при равенстве - по общим очкам
+     *
+     * @param rowScores1 очки рядов первого места (с учётом погоды), по порядку {@link FalkyeGameSession.CardRow}
+     * @param rowScores2 очки рядов второго места
+     */
+    public static RoundResult resolveRound(int[] rowScores1, int[] rowScores2, int total1, int total2) {
+        int rowsWon1 = 0;
+        int rowsWon2 = 0;
+        for (int i = 0; i < rowScores1.length; i++) {
+            if (rowScores1[i] > rowScores2[i]) {
+                rowsWon1++;
+            } else if (rowScores2[i] > rowScores1[i]) {
+                rowsWon2++;
+            }
+        }
+        if (rowsWon1 > rowsWon2) {
+            return new RoundResult(Seat.FIRST, rowsWon1, rowsWon2, false, rowScores1, rowScores2);
+        }
+        if (rowsWon2 > rowsWon1) {
+            return new RoundResult(Seat.SECOND, rowsWon1, rowsWon2, false, rowScores1, rowScores2);
+        }
+        Seat winner = total1 > total2 ? Seat.FIRST : (total2 > total1 ? Seat.SECOND : null);
+        return new RoundResult(winner, rowsWon1, rowsWon2, winner != null, rowScores1, rowScores2);
+    }
+
+    /**
+     * Урон в битве рядов: проигравший ряд получает урон, равный своей силе,
+     * при ничьей урон получают оба
+     *
+     * @return {урон ряду первого места, урон ряду второго места}
+     */
+    public static int[] rowBattleDamage(int power1, int power2) {
+        if (power1 > power2) {
+            return new int[] {0, power2};
+        }
+        if (power2 > power1) {
+            return new int[] {power1, 0};
+        }
+        return new int[] {power1, power2};
+    }
+
+    /**
+     * Распределение урона по ряду
+     */
+    public static final class DamagePlan {
+        /** Уничтоженные карты, от слабой к сильной */
+        public final List<Card> destroyed;
+        /** Карта, получившая урон без уничтожения, или null */
+        public final Card damaged;
+        /** Сила повреждённой карты после урона */
+        public final int damagedPower;
+        /** Урон, оставшийся после уничтожения всех карт */
+        public final int remainingDamage;
+
+        DamagePlan(List<Card> destroyed, Card damaged, int damagedPower, int remainingDamage) {
+            this.destroyed = destroyed;
+            this.damaged = damaged;
+            this.damagedPower = damagedPower;
+            this.remainingDamage = remainingDamage;
+        }
+    }
+
+    /**
+     * Распределяет урон по ряду: слабейшие карты уничтожаются первыми,
+     * остаток урона снижает силу следующей карты
+     */
+    public static DamagePlan planRowDamage(List<Card> row, int damage, ToIntFunction<Card> power) {
+        if (row.isEmpty() || damage <= 0) {
+            return new DamagePlan(Collections.emptyList(), null, 0, Math.max(0, damage));
+        }
+        List<Card> ordered = new ArrayList<>(row);
+        ordered.sort(Comparator.comparingInt(power));
+
+        int remaining = damage;
+        List<Card> destroyed = new ArrayList<>();
+        for (Card card : ordered) {
+            if (remaining <= 0) {
+                break;
+            }
+            int cardPower = power.applyAsInt(card);
+            if (remaining >= cardPower) {
+                destroyed.add(card);
+                remaining -= cardPower;
+            } else {
+                return new DamagePlan(destroyed, card, cardPower - remaining, 0);
+            }
+        }
+        return new DamagePlan(destroyed, null, 0, remaining);
+    }
+}
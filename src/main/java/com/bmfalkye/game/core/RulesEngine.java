@@ -0,0 +1,624 @@
+package com.bmfalkye.game.core;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.LeaderCard;
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.network.ActionLogCode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Безголовый движок партии: разыгрывает ходы на {@link GameBoard} по {@link GameRules}.
+ *
+ * <p>Не требует сервера Minecraft и не делает побочных эффектов (пакеты, логи, таймеры,
+ * награды) - о событиях узнаёт {@link GameListener}. Эффекты карт применяет переданный
+ * {@link EffectResolver}, силу карт считает {@link PowerFunction}.
+ * Используется для симуляций, тестов и бенчмарков.
+ *
+ * <p>Для поиска ходов движок умеет ветвиться: {@link #fork()} даёт независимую копию
+ * партии без слушателя, {@link #apply(Move)} запоминает снимок доски, {@link #undo()}
+ * откатывает последний ход.
+ *
+ * <p>Живая сессия ({@link FalkyeGameSession}) разыгрывает ходы, пасы, лидеров и смену раундов
+ * через этот же движок, поэтому симуляции идут по тем же правилам и с теми же эффектами карт.
+ * Эффекты и лидеры меняют партию через методы движка ({@link #addPowerModifier},
+ * {@link #destroy}, {@link #returnToHand}, {@link #emit} и др.), чтобы слушатель узнавал
+ * о каждом изменении.
+ */
+public class RulesEngine {
+
+    /**
+     * Эффективная сила карты места
+     */
+    @FunctionalInterface
+    public interface PowerFunction {
+        int getPower(GameBoard board, Seat seat, Card card);
+
+        /**
+         * Сумма силы карт ряда места (без погоды). Сессия переопределяет,
+         * чтобы пересчитывать только изменившиеся ряды.
+         */
+        default int getRowPower(GameBoard board, Seat seat, FalkyeGameSession.CardRow row) {
+            int total = 0;
+            for (Card card : board.seat(seat).getRow(row)) {
+                total += getPower(board, seat, card);
+            }
+            return total;
+        }
+    }
+
+    /** Базовая сила карты плюс модификаторы её места */
+    public static final PowerFunction BASE_POWER = (board, seat, card) ->
+        Math.max(0, card.getPower() + board.seat(seat).getPowerModifier(card));
+
+    private final GameBoard board;
+    private final EffectResolver effects;
+    private final GameListener listener;
+    private final PowerFunction power;
+    // Снимки доски перед ходами (для undo); пишутся только при включённой истории
+    private final Deque<BoardSnapshot> history = new ArrayDeque<>();
+    private boolean recordHistory;
+    // Случайность эффектов карт (случайная цель, случайная карта из сброса)
+    private Random random = new Random();
+
+    public RulesEngine(GameBoard board) {
+        this(board, EffectResolver.NONE, GameListener.NONE, BASE_POWER);
+    }
+
+    public RulesEngine(GameBoard board, EffectResolver effects, GameListener listener, PowerFunction power) {
+        this.board = board;
+        this.effects = effects;
+        this.listener = listener;
+        this.power = power;
+    }
+
+    public GameBoard getBoard() {
+        return board;
+    }
+
+    public Random getRandom() {
+        return random;
+    }
+
+    /**
+     * Подменяет источник случайности эффектов (для воспроизводимых тестов и симуляций)
+     */
+    public void setRandom(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Независимая копия партии для симуляции: те же эффекты и сила карт,
+     * без слушателя (никаких пакетов, логов и наград), с включённой историей ходов
+     */
+    public RulesEngine fork() {
+        RulesEngine fork = new RulesEngine(board.snapshot().toBoard(), effects, GameListener.NONE, power);
+        fork.recordHistory = true;
+        fork.random = new Random(random.nextLong());
+        return fork;
+    }
+
+    /**
+     * Включает запись снимков перед ходами. Для случайных доигрываний, где откат не нужен,
+     * историю лучше выключить - это экономит снимок на каждый ход.
+     */
+    public void setRecordHistory(boolean recordHistory) {
+        this.recordHistory = recordHistory;
+        if (!recordHistory) {
+            history.clear();
+        }
+    }
+
+    /**
+     * Откатывает последний применённый ход
+     *
+     * @return false, если откатывать нечего
+     */
+    public boolean undo() {
+        BoardSnapshot previous = history.pollLast();
+        if (previous == null) {
+            return false;
+        }
+        board.restore(previous);
+        return true;
+    }
+
+    public int getHistorySize() {
+        return history.size();
+    }
+
+    /**
+     * Раздаёт начальные руки из колод мест
+     */
+    public void dealInitialHands() {
+        for (Seat seat : Seat.values()) {
+            board.seat(seat).draw(GameRules.HAND_SIZE);
+        }
+    }
+
+    /**
+     * Разыгрывает карту из руки места
+     *
+     * @return {@link GameRules.PlayCheck#OK} или причина отказа (доска не меняется)
+     */
+    public GameRules.PlayCheck playCard(Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        GameRules.PlayCheck check = GameRules.checkPlay(board, seat, card);
+        if (check != GameRules.PlayCheck.OK) {
+            return check;
+        }
+
+        SeatState state = board.seat(seat);
+        Card cardInHand = state.findInHand(card.getId());
+        state.getHand().remove(cardInHand);
+        // Сыгранная карта больше не в руке - оппонент перестаёт её «видеть»
+        board.seat(seat.opponent()).getRevealedCards().remove(cardInHand.getId());
+
+        if (GameRules.isAbilityCard(cardInHand)) {
+            // Способность применяет эффект и уходит в сброс
+            effects.apply(this, seat, cardInHand, row);
+            state.getGraveyard().add(cardInHand);
+            state.setPlayedAbilityCard(true);
+            effects.onDiscarded(this, seat, cardInHand);
+        } else {
+            state.getRow(row).add(cardInHand);
+            effects.apply(this, seat, cardInHand, row);
+            state.setPlayedNormalCard(true);
+        }
+        listener.onCardPlayed(seat, cardInHand, row);
+        recalculateScores();
+
+        if (GameRules.shouldSwitchTurnAfterPlay(state, cardInHand)) {
+            switchTurn();
+        }
+        return GameRules.PlayCheck.OK;
+    }
+
+    /**
+     * Пас места. После обычной карты при наличии способности в руке - отказ от способности.
+     *
+     * @return false, если пас сейчас невозможен
+     */
+    public boolean pass(Seat seat) {
+        if (board.isRoundEnded() || board.isGameEnded() || board.getCurrentSeat() != seat) {
+            return false;
+        }
+        SeatState state = board.seat(seat);
+        if (GameRules.isAbilityDecline(state)) {
+            listener.onAbilityDeclined(seat);
+            switchTurn();
+            return true;
+        }
+        if (state.isPassed()) {
+            return false;
+        }
+
+        state.setPassed(true);
+        listener.onPassed(seat);
+
+        if (GameRules.isCardBattleTriggered(board)) {
+            resolveCardBattles();
+            endRound();
+        } else if (board.seat(seat.opponent()).isPassed()) {
+            endRound();
+        } else {
+            switchTurn();
+        }
+        return true;
+    }
+
+    /**
+     * Все допустимые ходы места: каждая карта руки в каждый ряд
+     * (для способностей ряд - цель эффекта)
+     */
+    public List<Move> getLegalMoves(Seat seat) {
+        List<Move> moves = new ArrayList<>();
+        if (board.isRoundEnded() || board.isGameEnded() || board.getCurrentSeat() != seat) {
+            return moves;
+        }
+        SeatState state = board.seat(seat);
+        for (Card card : state.getHand()) {
+            if (GameRules.checkTurnLimits(state, card) == GameRules.PlayCheck.OK) {
+                for (FalkyeGameSession.CardRow row : FalkyeGameSession.CardRow.values()) {
+                    moves.add(Move.play(card, row));
+                }
+            }
+        }
+        if (!state.isPassed() || GameRules.isAbilityDecline(state)) {
+            moves.add(Move.PASS);
+        }
+        return moves;
+    }
+
+    /**
+     * Ход места: карта в ряд или пас
+     */
+    public static final class Move {
+        public static final Move PASS = new Move(null, null);
+
+        public final Card card;
+        public final FalkyeGameSession.CardRow row;
+
+        private Move(Card card, FalkyeGameSession.CardRow row) {
+            this.card = card;
+            this.row = row;
+        }
+
+        public static Move play(Card card, FalkyeGameSession.CardRow row) {
+            return new Move(card, row);
+        }
+
+        public boolean isPass() {
+            return card == null;
+        }
+    }
+
+    /**
+     * Применяет ход текущего места. При включённой истории ход можно откатить через {@link #undo()}.
+     */
+    public boolean apply(Move move) {
+        Seat seat = board.getCurrentSeat();
+        if (seat == null) {
+            return false;
+        }
+        if (recordHistory) {
+            history.addLast(board.snapshot());
+        }
+        boolean applied = move.isPass() ? pass(seat) : playCard(seat, move.card, move.row) == GameRules.PlayCheck.OK;
+        if (!applied && recordHistory) {
+            // Отклонённый ход доску не менял
+            history.pollLast();
+        }
+        return applied;
+    }
+
+    /**
+     * Применяет лидера места: способность, пересчёт очков и передача хода
+     *
+     * @return false, если сейчас не ход места или лидер уже использован
+     */
+    public boolean useLeader(Seat seat, LeaderCard leader) {
+        if (leader == null || leader.isUsed() || board.isRoundEnded() || board.isGameEnded()
+            || board.getCurrentSeat() != seat) {
+            return false;
+        }
+        leader.use(this, seat);
+        listener.onLeaderUsed(seat, leader);
+        recalculateScores();
+        switchTurn();
+        return true;
+    }
+
+    /**
+     * Кладёт карту из руки в ряд по номеру без лимитов хода и эффектов
+     * (для режимов со своей очерёдностью, например 2v2)
+     *
+     * @return false, если карты нет в руке или ряда нет
+     */
+    public boolean placeCard(Seat seat, Card card, int lane) {
+        SeatState state = board.seat(seat);
+        if (card == null || lane < 0 || lane >= state.getLaneCount() || !state.getHand().remove(card)) {
+            return false;
+        }
+        state.getLane(lane).add(card);
+        listener.onCardPlayed(seat, card, null);
+        return true;
+    }
+
+    /**
+     * Завершает ход текущего места (для режимов со своей очерёдностью)
+     */
+    public void endTurn() {
+        switchTurn();
+    }
+
+    // --- Операции для эффектов карт и лидеров ---
+
+    /**
+     * Эффективная сила карты места
+     */
+    public int getPower(Seat seat, Card card) {
+        return power.getPower(board, seat, card);
+    }
+
+    /**
+     * Изменяет модификатор силы карты места (действует до конца раунда)
+     */
+    public void addPowerModifier(Seat seat, Card card, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        board.seat(seat).addPowerModifier(card, delta);
+        listener.onPowerChanged(seat, card);
+    }
+
+    /**
+     * Ряд поля, в котором лежит карта места (по ID), или null
+     */
+    public FalkyeGameSession.CardRow findRow(Seat seat, Card card) {
+        SeatState state = board.seat(seat);
+        for (FalkyeGameSession.CardRow row : FalkyeGameSession.CardRow.values()) {
+            for (Card onField : state.getRow(row)) {
+                if (onField == card || onField.getId().equals(card.getId())) {
+                    return row;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Все карты поля места (новый список)
+     */
+    public List<Card> getFieldCards(Seat seat) {
+        SeatState state = board.seat(seat);
+        List<Card> cards = new ArrayList<>();
+        for (FalkyeGameSession.CardRow row : FalkyeGameSession.CardRow.values()) {
+            cards.addAll(state.getRow(row));
+        }
+        return cards;
+    }
+
+    /**
+     * Самая сильная карта поля места или null
+     */
+    public Card findStrongest(Seat seat) {
+        Card strongest = null;
+        int maxPower = -1;
+        for (Card card : getFieldCards(seat)) {
+            int cardPower = getPower(seat, card);
+            if (cardPower > maxPower) {
+                maxPower = cardPower;
+                strongest = card;
+            }
+        }
+        return strongest;
+    }
+
+    /**
+     * Самая слабая карта поля места или null
+     */
+    public Card findWeakest(Seat seat) {
+        Card weakest = null;
+        int minPower = Integer.MAX_VALUE;
+        for (Card card : getFieldCards(seat)) {
+            int cardPower = getPower(seat, card);
+            if (cardPower < minPower) {
+                minPower = cardPower;
+                weakest = card;
+            }
+        }
+        return weakest;
+    }
+
+    /**
+     * Уничтожает карту поля места: карта уходит в сброс, её модификаторы снимаются
+     *
+     * @return false, если карты нет на поле
+     */
+    public boolean destroy(Seat seat, Card card) {
+        FalkyeGameSession.CardRow row = findRow(seat, card);
+        if (row == null) {
+            return false;
+        }
+        discardFromField(seat, removeFromRow(seat, row, card), row);
+        return true;
+    }
+
+    /**
+     * Наносит урон карте поля: при силе не выше урона карта уничтожается, иначе теряет силу
+     */
+    public void damage(Seat seat, Card card, int amount) {
+        int current = getPower(seat, card);
+        if (current <= amount) {
+            destroy(seat, card);
+        } else {
+            addPowerModifier(seat, card, -amount);
+        }
+    }
+
+    /**
+     * Возвращает карту с поля места в руку владельца, модификаторы снимаются
+     *
+     * @return false, если карты нет на поле
+     */
+    public boolean returnToHand(Seat seat, Card card) {
+        FalkyeGameSession.CardRow row = findRow(seat, card);
+        if (row == null) {
+            return false;
+        }
+        Card removed = removeFromRow(seat, row, card);
+        SeatState state = board.seat(seat);
+        state.getPowerModifiers().remove(removed);
+        state.getHand().add(removed);
+        return true;
+    }
+
+    public void setWeather(FalkyeGameSession.WeatherType weather) {
+        board.setWeather(weather);
+    }
+
+    /**
+     * Принудительный пас места до конца раунда (ход не передаётся)
+     */
+    public void forcePass(Seat seat) {
+        SeatState state = board.seat(seat);
+        if (!state.isPassed()) {
+            state.setPassed(true);
+            listener.onPassed(seat);
+        }
+    }
+
+    /**
+     * Событие для журнала партии (эффекты карт, комбинации, лидеры)
+     */
+    public void emit(Seat actor, ActionLogCode code, Object... args) {
+        listener.onEffect(actor, code, args);
+    }
+
+    private Card removeFromRow(Seat seat, FalkyeGameSession.CardRow row, Card card) {
+        List<Card> cards = board.seat(seat).getRow(row);
+        for (int i = 0; i < cards.size(); i++) {
+            Card onField = cards.get(i);
+            if (onField == card || onField.getId().equals(card.getId())) {
+                return cards.remove(i);
+            }
+        }
+        return card;
+    }
+
+    private void discardFromField(Seat seat, Card card, FalkyeGameSession.CardRow row) {
+        SeatState state = board.seat(seat);
+        state.getGraveyard().add(card);
+        state.getPowerModifiers().remove(card);
+        listener.onCardDestroyed(seat, card, row);
+        effects.onDiscarded(this, seat, card);
+    }
+
+    // --- Очки ---
+
+    public int getRowPower(Seat seat, FalkyeGameSession.CardRow row) {
+        return power.getRowPower(board, seat, row);
+    }
+
+    /**
+     * Сила ряда по номеру (для режимов со своим набором рядов)
+     */
+    public int getLanePower(Seat seat, int lane) {
+        int total = 0;
+        for (Card card : board.seat(seat).getLane(lane)) {
+            total += power.getPower(board, seat, card);
+        }
+        return total;
+    }
+
+    /**
+     * Очки ряда с учётом погоды
+     */
+    public int getRowScore(Seat seat, FalkyeGameSession.CardRow row) {
+        return GameRules.rowScore(board.getWeather(), row, board.seat(seat).getRow(row).size(), getRowPower(seat, row));
+    }
+
+    public int calculateScore(Seat seat) {
+        int score = 0;
+        for (FalkyeGameSession.CardRow row : FalkyeGameSession.CardRow.values()) {
+            score += getRowScore(seat, row);
+        }
+        return score;
+    }
+
+    public void recalculateScores() {
+        for (Seat seat : Seat.values()) {
+            board.seat(seat).setRoundScore(calculateScore(seat));
+        }
+    }
+
+    private void switchTurn() {
+        Seat current = board.getCurrentSeat();
+        if (current != null) {
+            board.seat(current).resetTurnFlags();
+            listener.onTurnEnded(current);
+        }
+        Seat next = GameRules.nextTurn(board);
+        board.setCurrentSeat(next);
+        listener.onTurnChanged(next);
+    }
+
+    /**
+     * Битва рядов одного типа боя
+     */
+    public void resolveCardBattles() {
+        for (FalkyeGameSession.CardRow row : FalkyeGameSession.CardRow.values()) {
+            List<Card> row1 = board.seat(Seat.FIRST).getRow(row);
+            List<Card> row2 = board.seat(Seat.SECOND).getRow(row);
+            if (row1.isEmpty() && row2.isEmpty()) {
+                continue;
+            }
+            int power1 = getRowPower(Seat.FIRST, row);
+            int power2 = getRowPower(Seat.SECOND, row);
+            if (power1 == 0 && power2 == 0) {
+                continue;
+            }
+            int[] damage = GameRules.rowBattleDamage(power1, power2);
+            applyRowDamage(Seat.FIRST, row, damage[0]);
+            applyRowDamage(Seat.SECOND, row, damage[1]);
+            listener.onRowBattle(row, power1, power2);
+        }
+        recalculateScores();
+    }
+
+    private void applyRowDamage(Seat seat, FalkyeGameSession.CardRow row, int damage) {
+        SeatState state = board.seat(seat);
+        List<Card> cards = state.getRow(row);
+        GameRules.DamagePlan plan = GameRules.planRowDamage(cards, damage, card -> power.getPower(board, seat, card));
+        if (plan.damaged != null) {
+            int before = power.getPower(board, seat, plan.damaged);
+            addPowerModifier(seat, plan.damaged, plan.damagedPower - before);
+            listener.onCardDamaged(seat, plan.damaged, before - plan.damagedPower, plan.damagedPower);
+        }
+        for (Card destroyed : plan.destroyed) {
+            cards.remove(destroyed);
+            discardFromField(seat, destroyed, row);
+        }
+    }
+
+    /**
+     * Завершает раунд: победитель по рядам, затем следующий раунд или конец партии
+     */
+    public void endRound() {
+        listener.onRoundEnding();
+        recalculateScores();
+        board.setRoundEnded(true);
+
+        FalkyeGameSession.CardRow[] rows = FalkyeGameSession.CardRow.values();
+        int[] scores1 = new int[rows.length];
+        int[] scores2 = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            scores1[i] = getRowScore(Seat.FIRST, rows[i]);
+            scores2[i] = getRowScore(Seat.SECOND, rows[i]);
+        }
+        GameRules.RoundResult result = GameRules.resolveRound(scores1, scores2,
+            board.seat(Seat.FIRST).getRoundScore(), board.seat(Seat.SECOND).getRoundScore());
+        if (result.winner != null) {
+            board.seat(result.winner).incrementRoundsWon();
+        }
+        listener.onRoundEnded(result);
+
+        if (GameRules.isMatchDecided(board) || board.getCurrentRound() >= GameRules.MAX_ROUNDS) {
+            endGame();
+        } else {
+            startNextRound();
+        }
+    }
+
+    private void startNextRound() {
+        Seat firstTurn = GameRules.firstTurnOfNextRound(board);
+        board.resetForNextRound();
+        for (Seat seat : Seat.values()) {
+            SeatState state = board.seat(seat);
+            for (FalkyeGameSession.CardRow row : FalkyeGameSession.CardRow.values()) {
+                state.getGraveyard().addAll(state.getRow(row));
+                state.getRow(row).clear();
+            }
+            if (state.getDeck() != null) {
+                for (Card card : state.getGraveyard()) {
+                    state.getDeck().returnCardToDeck(card);
+                }
+                state.getDeck().shuffle();
+            }
+            state.getGraveyard().clear();
+            state.draw(GameRules.HAND_SIZE);
+        }
+        board.setCurrentSeat(firstTurn);
+        listener.onRoundStarted(board.getCurrentRound(), firstTurn);
+    }
+
+    private void endGame() {
+        board.setGameEnded(true);
+        board.setRoundEnded(true);
+        listener.onGameEnded(GameRules.getMatchWinner(board));
+    }
+}
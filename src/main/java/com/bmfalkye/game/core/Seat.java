@@ -0,0 +1,40 @@
+package com.bmfalkye.game.core;
+
+/**
+ * Место за игровым столом.
+ *
+ * <p>Ядро правил работает с местами, а не с игроками: кто сидит на месте
+ * (ServerPlayer, житель, команда или симуляция), решает адаптер сессии.
+ */
+public enum Seat {
+    FIRST(1),
+    SECOND(2);
+
+    private final int side;
+
+    Seat(int side) {
+        this.side = side;
+    }
+
+    /**
+     * Номер стороны поля (1 или 2), совпадает с нумерацией сторон в индексе поля
+     */
+    public int getSide() {
+        return side;
+    }
+
+    public Seat opponent() {
+        return this == FIRST ? SECOND : FIRST;
+    }
+
+    /**
+     * Место по номеру стороны или null, если сторона неизвестна
+     */
+    public static Seat fromSide(int side) {
+        switch (side) {
+            case 1: return FIRST;
+            case 2: return SECOND;
+            default: return null;
+        }
+    }
+}
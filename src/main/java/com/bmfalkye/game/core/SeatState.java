@@ -0,0 +1,217 @@
+package com.bmfalkye.game.core;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.CardDeck;
+import com.bmfalkye.cards.CardIntMap;
+import com.bmfalkye.game.FalkyeGameSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Состояние одного места: рука, ряды поля, сброс, счёт и флаги текущего хода.
+ *
+ * <p>Списки живые: адаптеры сессий и эффекты карт меняют их напрямую,
+ * как раньше меняли поля сессии.
+ */
+public final class SeatState {
+    private final Seat seat;
+    private final CardDeck deck;
+    private final List<Card> hand = new ArrayList<>();
+    private final List<Card> graveyard = new ArrayList<>();
+    private final List<List<Card>> lanes;
+    // Карта -> модификатор силы (действует до конца раунда), по числовому ID карты
+    private final CardIntMap powerModifiers = new CardIntMap();
+    // ID карт руки оппонента, которые это место видит (до конца раунда)
+    private final List<String> revealedCards = new ArrayList<>();
+    // Комбинации, уже собранные местом в этом раунде
+    private final Set<String> collectedCombos = new HashSet<>();
+
+    private boolean passed;
+    private boolean playedNormalCard;
+    private boolean playedAbilityCard;
+    private int roundsWon;
+    private int roundScore;
+
+    SeatState(Seat seat, CardDeck deck, int laneCount, GameBoard.LaneFactory laneFactory) {
+        this.seat = seat;
+        this.deck = deck;
+        List<List<Card>> created = new ArrayList<>(laneCount);
+        for (int lane = 0; lane < laneCount; lane++) {
+            created.add(laneFactory.create(seat, lane));
+        }
+        this.lanes = Collections.unmodifiableList(created);
+    }
+
+    public Seat getSeat() {
+        return seat;
+    }
+
+    /**
+     * Колода места (может быть null, если карты раздаются адаптером)
+     */
+    public CardDeck getDeck() {
+        return deck;
+    }
+
+    public List<Card> getHand() {
+        return hand;
+    }
+
+    public List<Card> getGraveyard() {
+        return graveyard;
+    }
+
+    public List<Card> getRow(FalkyeGameSession.CardRow row) {
+        return lanes.get(row.ordinal());
+    }
+
+    /**
+     * Ряд по номеру (для режимов со своим набором рядов, например 2v2)
+     */
+    public List<Card> getLane(int lane) {
+        return lanes.get(lane);
+    }
+
+    public List<List<Card>> getLanes() {
+        return lanes;
+    }
+
+    public int getLaneCount() {
+        return lanes.size();
+    }
+
+    /**
+     * Ищет карту в руке по ID (Card не переопределяет equals)
+     */
+    public Card findInHand(String cardId) {
+        for (Card card : hand) {
+            if (card.getId().equals(cardId)) {
+                return card;
+            }
+        }
+        return null;
+    }
+
+    public boolean hasAbilityCardInHand() {
+        for (Card card : hand) {
+            if (GameRules.isAbilityCard(card)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Добирает карты из колоды в руку
+     *
+     * @return сколько карт удалось взять
+     */
+    public int draw(int count) {
+        if (deck == null) {
+            return 0;
+        }
+        int drawn = 0;
+        for (int i = 0; i < count; i++) {
+            Card card = deck.drawCard();
+            if (card != null) {
+                hand.add(card);
+                drawn++;
+            }
+        }
+        return drawn;
+    }
+
+    public CardIntMap getPowerModifiers() {
+        return powerModifiers;
+    }
+
+    public int getPowerModifier(Card card) {
+        return powerModifiers.get(card);
+    }
+
+    public int getPowerModifier(String cardId) {
+        return powerModifiers.get(cardId);
+    }
+
+    public void addPowerModifier(Card card, int modifier) {
+        powerModifiers.add(card, modifier);
+    }
+
+    public void addPowerModifier(String cardId, int modifier) {
+        powerModifiers.add(cardId, modifier);
+    }
+
+    /**
+     * ID открытых этому месту карт руки оппонента
+     */
+    public List<String> getRevealedCards() {
+        return revealedCards;
+    }
+
+    public Set<String> getCollectedCombos() {
+        return collectedCombos;
+    }
+
+    public boolean isPassed() {
+        return passed;
+    }
+
+    public void setPassed(boolean passed) {
+        this.passed = passed;
+    }
+
+    public boolean isPlayedNormalCard() {
+        return playedNormalCard;
+    }
+
+    public void setPlayedNormalCard(boolean playedNormalCard) {
+        this.playedNormalCard = playedNormalCard;
+    }
+
+    public boolean isPlayedAbilityCard() {
+        return playedAbilityCard;
+    }
+
+    public void setPlayedAbilityCard(boolean playedAbilityCard) {
+        this.playedAbilityCard = playedAbilityCard;
+    }
+
+    /**
+     * Сыграл ли игрок хоть одну карту за текущий ход
+     */
+    public boolean hasPlayedCards() {
+        return playedNormalCard || playedAbilityCard;
+    }
+
+    /**
+     * Сбрасывает флаги сыгранных карт (ход перешёл к оппоненту)
+     */
+    public void resetTurnFlags() {
+        playedNormalCard = false;
+        playedAbilityCard = false;
+    }
+
+    public int getRoundsWon() {
+        return roundsWon;
+    }
+
+    public void setRoundsWon(int roundsWon) {
+        this.roundsWon = roundsWon;
+    }
+
+    public void incrementRoundsWon() {
+        roundsWon++;
+    }
+
+    public int getRoundScore() {
+        return roundScore;
+    }
+
+    public void setRoundScore(int roundScore) {
+        this.roundScore = roundScore;
+    }
+}
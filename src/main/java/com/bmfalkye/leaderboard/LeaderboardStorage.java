@@ -1,10 +1,10 @@
 package com.bmfalkye.leaderboard;
 
+import com.bmfalkye.storage.AsyncSavedData;
 import com.bmfalkye.util.ModLogger;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -12,7 +12,7 @@ import java.util.*;
 /**
  * Хранилище лидербордов (еженедельных и общих)
  */
-public class LeaderboardStorage extends SavedData {
+public class LeaderboardStorage extends AsyncSavedData {
     // Еженедельный рейтинг: неделя -> список игроков
     private final Map<String, List<LeaderboardEntry>> weeklyLeaderboards = new HashMap<>();
     
@@ -120,6 +120,7 @@ public class LeaderboardStorage extends SavedData {
             weeklyLeaderboards.put(currentWeek, new ArrayList<>());
             
             setDirty();
+            com.bmfalkye.network.ResponseCache.invalidate(com.bmfalkye.network.ResponseCache.ResponseType.LEADERBOARD);
         }
     }
     
@@ -166,6 +167,7 @@ public class LeaderboardStorage extends SavedData {
         }
         
         setDirty();
+        com.bmfalkye.network.ResponseCache.invalidate(com.bmfalkye.network.ResponseCache.ResponseType.LEADERBOARD);
     }
     
     /**
@@ -203,6 +205,7 @@ public class LeaderboardStorage extends SavedData {
         
         hallOfFame.add(new HallOfFameEntry(playerUUID, playerName, season));
         setDirty();
+        com.bmfalkye.network.ResponseCache.invalidate(com.bmfalkye.network.ResponseCache.ResponseType.LEADERBOARD);
     }
     
     /**
@@ -149,25 +149,12 @@ public class MemoryOptimizer {
      * Оптимизирует память revealedCards
      */
     private static void optimizeRevealedCardsMemory(FalkyeGameSession session) {
-        try {
-            java.lang.reflect.Field field = FalkyeGameSession.class.getDeclaredField("revealedCards");
-            field.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            Map<UUID, java.util.List<String>> revealedCards = 
-                (Map<UUID, java.util.List<String>>) field.get(session);
-            
-            for (Map.Entry<UUID, java.util.List<String>> entry : revealedCards.entrySet()) {
-                java.util.List<String> cards = entry.getValue();
-                if (cards.size() > MAX_REVEALED_CARDS_SIZE) {
-                    // Оставляем только последние карты
-                    int removeCount = cards.size() - MAX_REVEALED_CARDS_SIZE;
-                    for (int i = 0; i < removeCount; i++) {
-                        cards.remove(0);
-                    }
-                }
+        for (com.bmfalkye.game.core.Seat seat : com.bmfalkye.game.core.Seat.values()) {
+            java.util.List<String> cards = session.getBoard().seat(seat).getRevealedCards();
+            if (cards.size() > MAX_REVEALED_CARDS_SIZE) {
+                // Оставляем только последние карты
+                cards.subList(0, cards.size() - MAX_REVEALED_CARDS_SIZE).clear();
             }
-        } catch (Exception e) {
-            ModLogger.error("Failed to optimize revealedCards memory", "error", e.getMessage());
         }
     }
     
@@ -177,57 +164,7 @@ public class MemoryOptimizer {
      */
     private static void optimizePowerModifiersMemory(FalkyeGameSession session) {
         try {
-            java.lang.reflect.Field field = FalkyeGameSession.class.getDeclaredField("powerModifiers");
-            field.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            Map<UUID, Map<String, Integer>> powerModifiers = 
-                (Map<UUID, Map<String, Integer>>) field.get(session);
-            
-            // Получаем все карты на поле
-            java.util.Set<String> cardsOnField = new java.util.HashSet<>();
-            
-            // Карты игрока 1
-            for (com.bmfalkye.cards.Card card : session.getMeleeRow(session.getPlayer1())) {
-                cardsOnField.add(card.getId());
-            }
-            for (com.bmfalkye.cards.Card card : session.getRangedRow(session.getPlayer1())) {
-                cardsOnField.add(card.getId());
-            }
-            for (com.bmfalkye.cards.Card card : session.getSiegeRow(session.getPlayer1())) {
-                cardsOnField.add(card.getId());
-            }
-            
-            // Карты игрока 2
-            if (session.getPlayer2() != null) {
-                for (com.bmfalkye.cards.Card card : session.getMeleeRow(session.getPlayer2())) {
-                    cardsOnField.add(card.getId());
-                }
-                for (com.bmfalkye.cards.Card card : session.getRangedRow(session.getPlayer2())) {
-                    cardsOnField.add(card.getId());
-                }
-                for (com.bmfalkye.cards.Card card : session.getSiegeRow(session.getPlayer2())) {
-                    cardsOnField.add(card.getId());
-                }
-            } else if (session.isPlayingWithVillager()) {
-                for (com.bmfalkye.cards.Card card : session.getMeleeRow(null)) {
-                    cardsOnField.add(card.getId());
-                }
-                for (com.bmfalkye.cards.Card card : session.getRangedRow(null)) {
-                    cardsOnField.add(card.getId());
-                }
-                for (com.bmfalkye.cards.Card card : session.getSiegeRow(null)) {
-                    cardsOnField.add(card.getId());
-                }
-            }
-            
-            // Удаляем модификаторы для карт, которых нет на поле
-            for (Map<String, Integer> playerModifiers : powerModifiers.values()) {
-                playerModifiers.entrySet().removeIf(entry -> !cardsOnField.contains(entry.getKey()));
-            }
-            
-            // Удаляем пустые записи игроков
-            powerModifiers.entrySet().removeIf(entry -> entry.getValue().isEmpty());
-            
+            session.prunePowerModifiers();
         } catch (Exception e) {
             ModLogger.error("Failed to optimize powerModifiers memory", "error", e.getMessage());
         }
@@ -239,17 +176,14 @@ public class MemoryOptimizer {
      */
     private static void optimizeCardBuffsMemory(FalkyeGameSession session) {
         try {
-            java.lang.reflect.Field field = FalkyeGameSession.class.getDeclaredField("cardBuffs");
-            field.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            Map<UUID, Map<String, java.util.List<com.bmfalkye.cards.CardBuff>>> cardBuffs = 
-                (Map<UUID, Map<String, java.util.List<com.bmfalkye.cards.CardBuff>>>) field.get(session);
+            Map<UUID, com.bmfalkye.cards.CardIdMap<java.util.List<com.bmfalkye.cards.CardBuff>>> cardBuffs =
+                session.getCardBuffs();
             
             long currentTime = System.currentTimeMillis();
             
             // Удаляем истёкшие баффы
-            for (Map<String, java.util.List<com.bmfalkye.cards.CardBuff>> playerBuffs : cardBuffs.values()) {
-                for (java.util.List<com.bmfalkye.cards.CardBuff> buffs : playerBuffs.values()) {
+            for (com.bmfalkye.cards.CardIdMap<java.util.List<com.bmfalkye.cards.CardBuff>> playerBuffs : cardBuffs.values()) {
+                playerBuffs.forEachValue(buffs -> {
                     buffs.removeIf(buff -> {
                         // Проверяем, истёк ли бафф (если есть метод для проверки)
                         // Пока просто проверяем наличие метода getExpirationTime
@@ -262,10 +196,10 @@ public class MemoryOptimizer {
                             return false;
                         }
                     });
-                }
+                });
                 
                 // Удаляем пустые списки баффов
-                playerBuffs.entrySet().removeIf(entry -> entry.getValue().isEmpty());
+                playerBuffs.removeValuesIf(java.util.List::isEmpty);
             }
             
             // Удаляем пустые записи игроков
@@ -325,37 +259,17 @@ public class MemoryOptimizer {
         
         // Очищаем все временные данные
         try {
-            // Очищаем revealedCards
-            java.lang.reflect.Field revealedField = FalkyeGameSession.class.getDeclaredField("revealedCards");
-            revealedField.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            Map<UUID, java.util.List<String>> revealedCards = 
-                (Map<UUID, java.util.List<String>>) revealedField.get(session);
-            revealedCards.clear();
-            
-            // Очищаем collectedCombos
-            java.lang.reflect.Field combosField = FalkyeGameSession.class.getDeclaredField("collectedCombos");
-            combosField.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            Map<UUID, java.util.Set<String>> collectedCombos = 
-                (Map<UUID, java.util.Set<String>>) combosField.get(session);
-            collectedCombos.clear();
+            // Очищаем показанные карты и собранные комбо
+            for (com.bmfalkye.game.core.Seat seat : com.bmfalkye.game.core.Seat.values()) {
+                session.getBoard().seat(seat).getRevealedCards().clear();
+                session.getBoard().seat(seat).getCollectedCombos().clear();
+            }
             
             // Очищаем powerModifiers
-            java.lang.reflect.Field modifiersField = FalkyeGameSession.class.getDeclaredField("powerModifiers");
-            modifiersField.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            Map<UUID, Map<String, Integer>> powerModifiers = 
-                (Map<UUID, Map<String, Integer>>) modifiersField.get(session);
-            powerModifiers.clear();
+            session.clearPowerModifiers();
             
             // Очищаем cardBuffs
-            java.lang.reflect.Field buffsField = FalkyeGameSession.class.getDeclaredField("cardBuffs");
-            buffsField.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            Map<UUID, Map<String, java.util.List<com.bmfalkye.cards.CardBuff>>> cardBuffs = 
-                (Map<UUID, Map<String, java.util.List<com.bmfalkye.cards.CardBuff>>>) buffsField.get(session);
-            cardBuffs.clear();
+            session.getCardBuffs().clear();
             
             ModLogger.logGameEvent("Finished session memory cleaned up");
         } catch (Exception e) {
@@ -0,0 +1,149 @@
+package com.bmfalkye.network;
+
+import java.util.Locale;
+
+/**
+ * Коды событий лога действий.
+ *
+ * <p>Сервер передаёт код события и компактные аргументы ({@link ActionLogEventPacket}),
+ * текст собирается и локализуется на клиенте ({@code log.bm_falkye.<код>} в файлах языков).
+ * Порядок констант - часть протокола: новые коды добавляются в конец.
+ */
+public enum ActionLogCode {
+    FIRST_TURN(Perspective.ACTOR),
+    TURN_START(Perspective.ACTOR),
+    ROUND_TURN_START(Perspective.ACTOR, ArgType.NUMBER),
+    PASSED(Perspective.ACTOR),
+    ROUND_WON_ROWS(Perspective.ACTOR, ArgType.NUMBER),
+    ROUND_WON_TOTAL(Perspective.ACTOR),
+    ROUND_DRAW(Perspective.NONE),
+    ROW_SCORES(Perspective.SCORE_PAIRS, ArgType.NUMBER, ArgType.NUMBER, ArgType.NUMBER,
+        ArgType.NUMBER, ArgType.NUMBER, ArgType.NUMBER),
+    ROUND_SCORE(Perspective.SCORE_PAIRS, ArgType.NUMBER, ArgType.NUMBER),
+    WEATHER_FROST(Perspective.ACTOR),
+    WEATHER_FOG(Perspective.ACTOR),
+    WEATHER_RAIN(Perspective.ACTOR),
+    WEATHER_CLEAR(Perspective.ACTOR),
+    FLAME_STORM(Perspective.ACTOR, ArgType.NUMBER),
+    FACTION_COMBO(Perspective.ACTOR, ArgType.TEXT, ArgType.NUMBER),
+    CARDS_LOST(Perspective.NONE, ArgType.NUMBER),
+    CARD_LOST(Perspective.NONE, ArgType.CARD),
+    CARDS_GAINED(Perspective.NONE, ArgType.NUMBER),
+    CARD_GAINED(Perspective.NONE, ArgType.CARD),
+    CARD_PLAYED(Perspective.ACTOR, ArgType.CARD, ArgType.ROW),
+    ABILITY_CARD_USED(Perspective.ACTOR, ArgType.CARD),
+    CAN_PLAY_ABILITY_OR_PASS(Perspective.NONE),
+    // Эффекты карт: первый аргумент - карта, эффект которой сработал
+    EFFECT_BOOST_ALL(Perspective.ACTOR, ArgType.CARD, ArgType.NUMBER),
+    EFFECT_HEAL_ALL(Perspective.ACTOR, ArgType.CARD, ArgType.NUMBER),
+    EFFECT_BOOST_ROW(Perspective.ACTOR, ArgType.CARD, ArgType.ROW, ArgType.NUMBER),
+    EFFECT_DAMAGE_ROW(Perspective.ACTOR, ArgType.CARD, ArgType.ROW, ArgType.NUMBER),
+    EFFECT_DAMAGE_ALL(Perspective.ACTOR, ArgType.CARD, ArgType.NUMBER),
+    EFFECT_WEAKEN_ALL(Perspective.ACTOR, ArgType.CARD, ArgType.NUMBER),
+    EFFECT_BOOST_FACTION(Perspective.ACTOR, ArgType.CARD, ArgType.TEXT, ArgType.NUMBER),
+    EFFECT_BOOST_HEAL_FACTION(Perspective.ACTOR, ArgType.CARD, ArgType.TEXT),
+    EFFECT_DOUBLE_ROW(Perspective.ACTOR, ArgType.CARD, ArgType.ROW),
+    EFFECT_DESTROY_WEAKEST(Perspective.ACTOR, ArgType.CARD),
+    EFFECT_PROTECT_ALL(Perspective.ACTOR, ArgType.CARD),
+    EFFECT_SKIP_TURN(Perspective.ACTOR, ArgType.CARD),
+    EFFECT_CARD_RETURNED(Perspective.ACTOR, ArgType.CARD, ArgType.CARD),
+    EFFECT_CARD_REVIVED(Perspective.ACTOR, ArgType.CARD, ArgType.CARD, ArgType.ROW),
+    EFFECT_CARDS_RETURNED(Perspective.ACTOR, ArgType.CARD, ArgType.NUMBER),
+    EFFECT_NOTHING_TO_RETURN(Perspective.NONE, ArgType.CARD),
+    EFFECT_OPPONENT_CARD_RETURNED(Perspective.ACTOR, ArgType.CARD, ArgType.CARD),
+    EFFECT_CARDS_REVEALED(Perspective.ACTOR, ArgType.CARD, ArgType.NUMBER),
+    EFFECT_HAND_REVEALED(Perspective.ACTOR, ArgType.CARD),
+    EFFECT_COPY_ABILITY(Perspective.ACTOR, ArgType.CARD),
+    EFFECT_CARDS_SWAPPED(Perspective.ACTOR, ArgType.CARD),
+    EFFECT_SCORES_BALANCED(Perspective.ACTOR, ArgType.CARD, ArgType.NUMBER),
+    EFFECT_DRAIN(Perspective.ACTOR, ArgType.CARD, ArgType.NUMBER, ArgType.NUMBER),
+    EFFECT_BOOST_CARD(Perspective.ACTOR, ArgType.CARD, ArgType.CARD, ArgType.NUMBER),
+    EFFECT_DAMAGE_CARD(Perspective.ACTOR, ArgType.CARD, ArgType.CARD, ArgType.NUMBER),
+    EFFECT_WEAKEN_ALL_BOOST_CARD(Perspective.ACTOR, ArgType.CARD, ArgType.NUMBER, ArgType.CARD, ArgType.NUMBER),
+    // Комбо
+    LEGENDARY_COMBO(Perspective.ACTOR, ArgType.NUMBER),
+    EPIC_COMBO(Perspective.ACTOR, ArgType.NUMBER),
+    SPELL_COMBO(Perspective.ACTOR, ArgType.NUMBER),
+    CREATURE_COMBO(Perspective.ACTOR, ArgType.NUMBER),
+    POWER_COMBO(Perspective.ACTOR),
+    // Ход и битва рядов
+    ABILITY_DECLINED(Perspective.ACTOR),
+    // Аргументы: ряд, сила победителя, сила проигравшего
+    ROW_BATTLE_WON(Perspective.ACTOR, ArgType.ROW, ArgType.NUMBER, ArgType.NUMBER),
+    ROW_BATTLE_DRAW(Perspective.NONE, ArgType.ROW),
+    CARD_DESTROYED(Perspective.NONE, ArgType.CARD, ArgType.ROW),
+    CARD_DAMAGED(Perspective.NONE, ArgType.CARD, ArgType.NUMBER, ArgType.NUMBER),
+    ROUND_DRAW_NO_CARDS(Perspective.NONE),
+    // Конец игры и события вне хода
+    GAME_WON(Perspective.NONE),
+    GAME_LOST(Perspective.NONE),
+    XP_GAINED(Perspective.NONE, ArgType.NUMBER),
+    BET_WON(Perspective.NONE, ArgType.NUMBER),
+    BET_LOST(Perspective.NONE, ArgType.NUMBER),
+    OPPONENT_DIED(Perspective.NONE),
+    PLAYER_DIED(Perspective.NONE),
+    OPPONENT_ZOMBIFIED(Perspective.NONE),
+    GAME_RESTORED(Perspective.NONE),
+    OPPONENT_DISCONNECTED(Perspective.NONE),
+    OPPONENT_RECONNECTED(Perspective.NONE),
+    RANK_UP(Perspective.NONE, ArgType.TEXT),
+    RANK_CHANGED(Perspective.NONE, ArgType.TEXT),
+    RANDOM_EVENT_CARD(Perspective.NONE, ArgType.CARD),
+    // Аргумент: имя лидера
+    LEADER_USED(Perspective.ACTOR, ArgType.TEXT);
+
+    /**
+     * Как событие зависит от того, кто его читает
+     */
+    public enum Perspective {
+        // Одинаковый текст для всех
+        NONE,
+        // Текст зависит от того, совершил ли действие сам читатель (.self / .opponent / .villager)
+        ACTOR,
+        // Аргументы - пары значений (первое место, второе место); читатель видит своё значение первым
+        SCORE_PAIRS
+    }
+
+    /**
+     * Тип аргумента события
+     */
+    public enum ArgType {
+        // Целое число (varint)
+        NUMBER,
+        // ID карты (плотный числовой ID через CardIdCodec), на клиенте - название карты
+        CARD,
+        // Короткая строка (например, фракция)
+        TEXT,
+        // Ряд поля (FalkyeGameSession.CardRow), на клиенте - название ряда
+        ROW
+    }
+
+    private final Perspective perspective;
+    private final ArgType[] argTypes;
+    private final String translationKey;
+
+    ActionLogCode(Perspective perspective, ArgType... argTypes) {
+        this.perspective = perspective;
+        this.argTypes = argTypes;
+        this.translationKey = "log.bm_falkye." + name().toLowerCase(Locale.ROOT);
+    }
+
+    public Perspective getPerspective() {
+        return perspective;
+    }
+
+    public int getArgCount() {
+        return argTypes.length;
+    }
+
+    public ArgType getArgType(int index) {
+        return argTypes[index];
+    }
+
+    /**
+     * Базовый ключ локализации (для {@link Perspective#ACTOR} дополняется суффиксом)
+     */
+    public String getTranslationKey() {
+        return translationKey;
+    }
+}
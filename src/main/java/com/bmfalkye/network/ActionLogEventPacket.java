@@ -0,0 +1,100 @@
+package com.bmfalkye.network;
+
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.game.core.Seat;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Событие лога действий: код, место совершившего действие и компактные аргументы.
+ *
+ * <p>Сервер не передаёт готовых строк: текст события собирается на клиенте
+ * ({@link com.bmfalkye.client.gui.ActionLogRenderer#format}) на языке клиента. Событие не зависит от получателя, поэтому один пакет отправляется обоим игрокам:
+ * клиент сам выбирает вариант "вы" или "противник" по месту из события.
+ */
+public class ActionLogEventPacket {
+    private static final int MAX_TEXT_LENGTH = 64;
+
+    private final ActionLogCode code;
+    // Место совершившего действие (null - событие без действующего лица)
+    private final Seat seat;
+    // Integer для NUMBER, ID карты для CARD, строка для TEXT, CardRow для ROW
+    private final Object[] args;
+
+    public ActionLogEventPacket(ActionLogCode code, Seat seat, Object... args) {
+        if (args.length != code.getArgCount()) {
+            throw new IllegalArgumentException("Action log event " + code + " expects "
+                + code.getArgCount() + " arguments, got " + args.length);
+        }
+        for (int i = 0; i < args.length; i++) {
+            boolean valid = switch (code.getArgType(i)) {
+                case NUMBER -> args[i] instanceof Integer;
+                case ROW -> args[i] instanceof FalkyeGameSession.CardRow;
+                default -> args[i] instanceof String;
+            };
+            if (!valid) {
+                throw new IllegalArgumentException("Invalid argument " + i + " for action log event " + code
+                    + ": " + args[i]);
+            }
+        }
+        this.code = code;
+        this.seat = code.getPerspective() == ActionLogCode.Perspective.ACTOR ? seat : null;
+        this.args = args;
+    }
+
+    public static void encode(ActionLogEventPacket msg, FriendlyByteBuf buffer) {
+        buffer.writeEnum(msg.code);
+        buffer.writeByte(msg.seat != null ? msg.seat.getSide() : 0);
+        for (int i = 0; i < msg.args.length; i++) {
+            switch (msg.code.getArgType(i)) {
+                case NUMBER -> buffer.writeVarInt((Integer) msg.args[i]);
+                case CARD -> CardIdCodec.writeCardId(buffer, (String) msg.args[i]);
+                case TEXT -> buffer.writeUtf((String) msg.args[i], MAX_TEXT_LENGTH);
+                case ROW -> buffer.writeEnum((FalkyeGameSession.CardRow) msg.args[i]);
+            }
+        }
+    }
+
+    public static ActionLogEventPacket decode(FriendlyByteBuf buffer) {
+        ActionLogCode code = buffer.readEnum(ActionLogCode.class);
+        Seat seat = Seat.fromSide(buffer.readByte());
+        Object[] args = new Object[code.getArgCount()];
+        for (int i = 0; i < args.length; i++) {
+            switch (code.getArgType(i)) {
+                case NUMBER -> args[i] = buffer.readVarInt();
+                case CARD -> args[i] = CardIdCodec.readCardId(buffer);
+                case TEXT -> args[i] = buffer.readUtf(MAX_TEXT_LENGTH);
+                case ROW -> args[i] = buffer.readEnum(FalkyeGameSession.CardRow.class);
+            }
+        }
+        return new ActionLogEventPacket(code, seat, args);
+    }
+
+    public static void handle(ActionLogEventPacket msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> {
+            DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
+                if (net.minecraft.client.Minecraft.getInstance().screen instanceof
+                    com.bmfalkye.client.FalkyeGameScreen gameScreen) {
+                    gameScreen.addActionLog(msg);
+                }
+            });
+        });
+        ctx.get().setPacketHandled(true);
+    }
+
+    public ActionLogCode getCode() {
+        return code;
+    }
+
+    public Seat getSeat() {
+        return seat;
+    }
+
+    public Object getArg(int index) {
+        return args[index];
+    }
+}
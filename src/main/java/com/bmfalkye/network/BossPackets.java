@@ -22,25 +22,11 @@ public class BossPackets {
             ctx.get().enqueueWork(() -> {
                 net.minecraft.server.level.ServerPlayer player = ctx.get().getSender();
                 if (player != null) {
-                    java.util.List<com.bmfalkye.npc.BossSystem.Boss> availableBosses = 
-                        com.bmfalkye.npc.BossSystem.getAvailableBosses(player);
-                    java.util.List<String> bossIds = new java.util.ArrayList<>();
-                    java.util.List<String> bossNames = new java.util.ArrayList<>();
-                    java.util.List<String> bossDescriptions = new java.util.ArrayList<>();
-                    java.util.List<Integer> bossDifficulties = new java.util.ArrayList<>();
-                    java.util.List<Boolean> bossUnlocked = new java.util.ArrayList<>();
-                    
-                    for (com.bmfalkye.npc.BossSystem.Boss boss : availableBosses) {
-                        bossIds.add(boss.getId());
-                        bossNames.add(boss.getName());
-                        bossDescriptions.add(boss.getDescription());
-                        bossDifficulties.add(boss.getDifficulty());
-                        bossUnlocked.add(boss.isUnlocked(player));
-                    }
-                    
+                    // Ответ кэшируется до изменения прогресса игрока
+                    FriendlyByteBuf data = ResponseCache.get(ResponseCache.ResponseType.BOSSES, player,
+                        out -> SendBossesPacket.encode(createBosses(player), out));
                     com.bmfalkye.network.NetworkHandler.INSTANCE.sendTo(
-                        new SendBossesPacket(bossIds, bossNames, bossDescriptions, 
-                            bossDifficulties, bossUnlocked),
+                        SendBossesPacket.preEncoded(data),
                         player.connection.connection,
                         net.minecraftforge.network.NetworkDirection.PLAY_TO_CLIENT
                     );
@@ -48,6 +34,26 @@ public class BossPackets {
             });
             ctx.get().setPacketHandled(true);
         }
+        
+        private static SendBossesPacket createBosses(net.minecraft.server.level.ServerPlayer player) {
+            java.util.List<com.bmfalkye.npc.BossSystem.Boss> availableBosses = 
+                com.bmfalkye.npc.BossSystem.getAvailableBosses(player);
+            java.util.List<String> bossIds = new java.util.ArrayList<>();
+            java.util.List<String> bossNames = new java.util.ArrayList<>();
+            java.util.List<String> bossDescriptions = new java.util.ArrayList<>();
+            java.util.List<Integer> bossDifficulties = new java.util.ArrayList<>();
+            java.util.List<Boolean> bossUnlocked = new java.util.ArrayList<>();
+            
+            for (com.bmfalkye.npc.BossSystem.Boss boss : availableBosses) {
+                bossIds.add(boss.getId());
+                bossNames.add(boss.getName());
+                bossDescriptions.add(boss.getDescription());
+                bossDifficulties.add(boss.getDifficulty());
+                bossUnlocked.add(boss.isUnlocked(player));
+            }
+            
+            return new SendBossesPacket(bossIds, bossNames, bossDescriptions, bossDifficulties, bossUnlocked);
+        }
     }
     
     public static class ChallengeBossPacket {
@@ -115,6 +121,8 @@ public class BossPackets {
         private final java.util.List<String> bossDescriptions;
         private final java.util.List<Integer> bossDifficulties;
         private final java.util.List<Boolean> bossUnlocked;
+        // Готовые байты пакета из ResponseCache (на сервере)
+        private final FriendlyByteBuf encoded;
         
         public SendBossesPacket(java.util.List<String> bossIds, java.util.List<String> bossNames, 
                               java.util.List<String> bossDescriptions, java.util.List<Integer> bossDifficulties,
@@ -124,9 +132,30 @@ public class BossPackets {
             this.bossDescriptions = bossDescriptions;
             this.bossDifficulties = bossDifficulties;
             this.bossUnlocked = bossUnlocked;
+            this.encoded = null;
+        }
+        
+        private SendBossesPacket(FriendlyByteBuf encoded) {
+            this.bossIds = null;
+            this.bossNames = null;
+            this.bossDescriptions = null;
+            this.bossDifficulties = null;
+            this.bossUnlocked = null;
+            this.encoded = encoded;
+        }
+        
+        /**
+         * Пакет из байтов, уже закодированных {@link #encode}
+         */
+        static SendBossesPacket preEncoded(FriendlyByteBuf encoded) {
+            return new SendBossesPacket(encoded);
         }
         
         public static void encode(SendBossesPacket msg, FriendlyByteBuf buffer) {
+            if (msg.encoded != null) {
+                buffer.writeBytes(msg.encoded, msg.encoded.readerIndex(), msg.encoded.readableBytes());
+                return;
+            }
             buffer.writeInt(msg.bossIds.size());
             for (int i = 0; i < msg.bossIds.size(); i++) {
                 buffer.writeUtf(msg.bossIds.get(i));
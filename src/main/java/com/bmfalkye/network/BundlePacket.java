@@ -0,0 +1,146 @@
+package com.bmfalkye.network;
+
+import com.bmfalkye.util.ModLogger;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Пакет-связка: несколько сообщений канала в одном кадре (сервер -> клиент).
+ *
+ * <p>Каждое вложенное сообщение кодируется своим кодеком под дискриминатором канала
+ * и длиной, на клиенте декодируется и обрабатывается своим обработчиком в исходном порядке.
+ * Кодеки заполняются при регистрации пакетов в {@link NetworkHandler}, поэтому вложить
+ * можно любой зарегистрированный пакет, кроме самой связки.
+ *
+ * <p>Используется {@link PacketBatcher}: сообщения, накопленные за тик, уходят игроку
+ * одним пакетом - одна рамка и один flush Netty вместо нескольких.
+ */
+public class BundlePacket {
+
+    /**
+     * Кодек и обработчик вложенного сообщения
+     */
+    private static final class MessageCodec<MSG> {
+        final int id;
+        final BiConsumer<MSG, FriendlyByteBuf> encoder;
+        final Function<FriendlyByteBuf, MSG> decoder;
+        final BiConsumer<MSG, Supplier<NetworkEvent.Context>> handler;
+
+        MessageCodec(int id, BiConsumer<MSG, FriendlyByteBuf> encoder, Function<FriendlyByteBuf, MSG> decoder,
+                     BiConsumer<MSG, Supplier<NetworkEvent.Context>> handler) {
+            this.id = id;
+            this.encoder = encoder;
+            this.decoder = decoder;
+            this.handler = handler;
+        }
+
+        @SuppressWarnings("unchecked")
+        void encode(Object message, FriendlyByteBuf buffer) {
+            encoder.accept((MSG) message, buffer);
+        }
+
+        @SuppressWarnings("unchecked")
+        void handle(Object message, Supplier<NetworkEvent.Context> ctx) {
+            handler.accept((MSG) message, ctx);
+        }
+    }
+
+    // Минимальный размер вложенного сообщения: дискриминатор (varint) и длина
+    private static final int MIN_ENTRY_BYTES = 5;
+
+    // Кодеки по классу сообщения (отправка) и по дискриминатору (приём)
+    private static final Map<Class<?>, MessageCodec<?>> codecsByType = new ConcurrentHashMap<>();
+    private static final Map<Integer, MessageCodec<?>> codecsById = new ConcurrentHashMap<>();
+
+    private final List<Object> messages;
+
+    public BundlePacket(List<Object> messages) {
+        this.messages = messages;
+    }
+
+    /**
+     * Регистрирует кодек сообщения для вложения в связку
+     */
+    static <MSG> void registerCodec(int id, Class<MSG> type, BiConsumer<MSG, FriendlyByteBuf> encoder,
+                                    Function<FriendlyByteBuf, MSG> decoder,
+                                    BiConsumer<MSG, Supplier<NetworkEvent.Context>> handler) {
+        if (type == BundlePacket.class) {
+            return;
+        }
+        MessageCodec<MSG> codec = new MessageCodec<>(id, encoder, decoder, handler);
+        codecsByType.put(type, codec);
+        codecsById.put(id, codec);
+    }
+
+    /**
+     * Можно ли вложить сообщение в связку
+     */
+    public static boolean canBundle(Object message) {
+        return message != null && codecsByType.containsKey(message.getClass());
+    }
+
+    public static void encode(BundlePacket msg, FriendlyByteBuf buffer) {
+        buffer.writeVarInt(msg.messages.size());
+        for (Object message : msg.messages) {
+            MessageCodec<?> codec = codecsByType.get(message.getClass());
+            buffer.writeVarInt(codec.id);
+            // Длина пишется после кодирования, чтобы клиент мог пропустить неизвестное сообщение
+            int lengthIndex = buffer.writerIndex();
+            buffer.writeInt(0);
+            int start = buffer.writerIndex();
+            codec.encode(message, buffer);
+            buffer.setInt(lengthIndex, buffer.writerIndex() - start);
+        }
+    }
+
+    public static BundlePacket decode(FriendlyByteBuf buffer) {
+        int count = buffer.readVarInt();
+        // Число сообщений не может превышать то, что помещается в оставшихся байтах
+        if (count < 0 || count > buffer.readableBytes() / MIN_ENTRY_BYTES) {
+            throw new IllegalStateException("Bad bundle message count " + count
+                + " for " + buffer.readableBytes() + " bytes");
+        }
+        List<Object> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int id = buffer.readVarInt();
+            int length = buffer.readInt();
+            FriendlyByteBuf payload = new FriendlyByteBuf(buffer.readSlice(length));
+            MessageCodec<?> codec = codecsById.get(id);
+            if (codec == null) {
+                ModLogger.warn("Skipping unknown message {} in bundle", id);
+                continue;
+            }
+            messages.add(codec.decoder.apply(payload));
+        }
+        return new BundlePacket(messages);
+    }
+
+    public static void handle(BundlePacket msg, Supplier<NetworkEvent.Context> ctx) {
+        if (ctx.get().getDirection().getReceptionSide().isServer()) {
+            // Связка идёт только к клиенту - вложенные сообщения от клиента обходили бы лимит частоты
+            ctx.get().setPacketHandled(true);
+            return;
+        }
+        // Обработчики вложенных сообщений сами ставят работу в очередь клиента - порядок сохраняется
+        for (Object message : msg.messages) {
+            MessageCodec<?> codec = codecsByType.get(message.getClass());
+            if (codec != null) {
+                codec.handle(message, ctx);
+            }
+        }
+        ctx.get().setPacketHandled(true);
+    }
+
+    public List<Object> getMessages() {
+        return Collections.unmodifiableList(messages);
+    }
+}
@@ -0,0 +1,221 @@
+package com.bmfalkye.network;
+
+import com.bmfalkye.cards.CardDictionary;
+import com.bmfalkye.cards.CardRegistry;
+import com.bmfalkye.cards.LeaderRegistry;
+import com.bmfalkye.util.ModLogger;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Кодирование ID карт и лидеров в пакетах через плотные числовые ID (varint).
+ *
+ * <p>По умолчанию используются словари локальных реестров. Клиент при входе получает
+ * словари сервера ({@link SyncCardDictionaryPacket}); если хэш содержимого отличается
+ * от локального, клиент переключается на серверную нумерацию. Серверная сторона (в том числе
+ * встроенный сервер одиночной игры) всегда пишет и читает по локальным реестрам. Словари
+ * сервера сбрасываются при выходе клиента с сервера ({@link #clearRemoteDictionaries()}).
+ *
+ * <p>ID, которого нет в словаре, передаётся как varint 0 и строка.
+ */
+public class CardIdCodec {
+    // Словари сервера, если они отличаются от локальных (только на клиенте)
+    private static volatile CardDictionary remoteCards = null;
+    private static volatile CardDictionary remoteLeaders = null;
+
+    private static CardDictionary cards() {
+        CardDictionary remote = remoteCards;
+        return remote != null && isLogicalClient() ? remote : CardRegistry.getDictionary();
+    }
+
+    private static CardDictionary leaders() {
+        CardDictionary remote = remoteLeaders;
+        return remote != null && isLogicalClient() ? remote : LeaderRegistry.getDictionary();
+    }
+
+    /**
+     * Пакет кодируется на стороне клиента (поток клиента или его сетевой поток).
+     * Серверные потоки, включая встроенный сервер, относятся к стороне сервера
+     */
+    private static boolean isLogicalClient() {
+        return net.minecraftforge.fml.util.thread.EffectiveSide.get().isClient();
+    }
+
+    public static void writeCardId(FriendlyByteBuf buffer, String cardId) {
+        writeId(buffer, cards(), cardId);
+    }
+
+    public static String readCardId(FriendlyByteBuf buffer) {
+        return readId(buffer, cards());
+    }
+
+    public static void writeLeaderId(FriendlyByteBuf buffer, String leaderId) {
+        writeId(buffer, leaders(), leaderId);
+    }
+
+    public static String readLeaderId(FriendlyByteBuf buffer) {
+        return readId(buffer, leaders());
+    }
+
+    public static void writeCardIdList(FriendlyByteBuf buffer, List<String> cardIds) {
+        CardDictionary dictionary = cards();
+        buffer.writeVarInt(cardIds.size());
+        for (String cardId : cardIds) {
+            writeId(buffer, dictionary, cardId);
+        }
+    }
+
+    public static List<String> readCardIdList(FriendlyByteBuf buffer) {
+        CardDictionary dictionary = cards();
+        int size = buffer.readVarInt();
+        List<String> list = new ArrayList<>(Math.min(size, 256));
+        for (int i = 0; i < size; i++) {
+            list.add(readId(buffer, dictionary));
+        }
+        return list;
+    }
+
+    private static void writeId(FriendlyByteBuf buffer, CardDictionary dictionary, String id) {
+        int numericId = dictionary != null ? dictionary.getNumericId(id) : CardDictionary.UNKNOWN;
+        buffer.writeVarInt(numericId);
+        if (numericId == CardDictionary.UNKNOWN) {
+            String safeId = id != null ? id : "";
+            if (safeId.length() > 32767) {
+                safeId = safeId.substring(0, 32767);
+            }
+            buffer.writeUtf(safeId);
+        }
+    }
+
+    private static String readId(FriendlyByteBuf buffer, CardDictionary dictionary) {
+        int numericId = buffer.readVarInt();
+        if (numericId == CardDictionary.UNKNOWN) {
+            return buffer.readUtf();
+        }
+        String id = dictionary != null ? dictionary.getId(numericId) : null;
+        if (id == null) {
+            ModLogger.warn("Unknown numeric card id {} (dictionary not synchronized?)", numericId);
+            return "";
+        }
+        return id;
+    }
+
+    /**
+     * Устанавливает словари, полученные от сервера.
+     * Если содержимое совпадает с локальными реестрами, используется локальная нумерация.
+     */
+    static void installRemoteDictionaries(CardDictionary serverCards, CardDictionary serverLeaders) {
+        CardDictionary localCards = CardRegistry.getDictionary();
+        CardDictionary localLeaders = LeaderRegistry.getDictionary();
+        boolean cardsMatch = localCards != null && localCards.getContentHash() == serverCards.getContentHash();
+        boolean leadersMatch = localLeaders != null && localLeaders.getContentHash() == serverLeaders.getContentHash();
+        remoteCards = cardsMatch ? null : serverCards;
+        remoteLeaders = leadersMatch ? null : serverLeaders;
+        if (!cardsMatch || !leadersMatch) {
+            ModLogger.warn("Card registry differs from server ({} cards / {} leaders on server), using server numbering",
+                serverCards.size(), serverLeaders.size());
+        }
+    }
+
+    /**
+     * Сбрасывает словари сервера (при выходе клиента с сервера), чтобы они не применялись
+     * к следующему серверу или к одиночной игре
+     */
+    public static void clearRemoteDictionaries() {
+        remoteCards = null;
+        remoteLeaders = null;
+    }
+
+    /**
+     * Хэш содержимого словарей (карты и лидеры) для сверки клиента и сервера
+     */
+    public static long getContentHash(CardDictionary cardDictionary, CardDictionary leaderDictionary) {
+        return cardDictionary.getContentHash() * 31 + leaderDictionary.getContentHash();
+    }
+
+    /**
+     * Пакет со словарями числовых ID сервера и словарём сжатия
+     * ({@link PacketCompression}) (сервер -> клиент, один раз при входе)
+     */
+    public static class SyncCardDictionaryPacket {
+        private final List<String> cardIds;
+        private final List<String> leaderIds;
+        private final long contentHash;
+        private final byte[] compressionDictionary;
+
+        public SyncCardDictionaryPacket(CardDictionary cards, CardDictionary leaders) {
+            this(cards.getOrderedIds(), leaders.getOrderedIds(), getContentHash(cards, leaders),
+                PacketCompression.getDictionaryBytes());
+        }
+
+        private SyncCardDictionaryPacket(List<String> cardIds, List<String> leaderIds, long contentHash,
+                                         byte[] compressionDictionary) {
+            this.cardIds = cardIds;
+            this.leaderIds = leaderIds;
+            this.contentHash = contentHash;
+            this.compressionDictionary = compressionDictionary;
+        }
+
+        public static void encode(SyncCardDictionaryPacket msg, FriendlyByteBuf buffer) {
+            buffer.writeLong(msg.contentHash);
+            writeStrings(buffer, msg.cardIds);
+            writeStrings(buffer, msg.leaderIds);
+            buffer.writeByteArray(msg.compressionDictionary);
+        }
+
+        public static SyncCardDictionaryPacket decode(FriendlyByteBuf buffer) {
+            long contentHash = buffer.readLong();
+            List<String> cardIds = readStrings(buffer);
+            List<String> leaderIds = readStrings(buffer);
+            byte[] compressionDictionary = buffer.readByteArray(64 * 1024);
+            return new SyncCardDictionaryPacket(cardIds, leaderIds, contentHash, compressionDictionary);
+        }
+
+        public static void handle(SyncCardDictionaryPacket msg, java.util.function.Supplier<net.minecraftforge.network.NetworkEvent.Context> ctx) {
+            // Устанавливаем словари сразу в сетевом потоке (без enqueueWork): следующие пакеты
+            // декодируются в этом же потоке и уже должны видеть серверную нумерацию
+            CardDictionary cards = CardDictionary.ordered(msg.cardIds);
+            CardDictionary leaders = CardDictionary.ordered(msg.leaderIds);
+            if (getContentHash(cards, leaders) != msg.contentHash) {
+                ModLogger.warn("Card dictionary hash mismatch, dictionary packet corrupted?");
+            }
+            installRemoteDictionaries(cards, leaders);
+            PacketCompression.installRemoteDictionary(msg.compressionDictionary);
+            ctx.get().setPacketHandled(true);
+        }
+
+        private static void writeStrings(FriendlyByteBuf buffer, List<String> values) {
+            buffer.writeVarInt(values.size());
+            for (String value : values) {
+                buffer.writeUtf(value);
+            }
+        }
+
+        private static List<String> readStrings(FriendlyByteBuf buffer) {
+            int size = buffer.readVarInt();
+            List<String> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(buffer.readUtf());
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Отправляет игроку словари числовых ID (при входе на сервер)
+     */
+    public static void sendDictionary(net.minecraft.server.level.ServerPlayer player) {
+        CardDictionary cards = CardRegistry.getDictionary();
+        CardDictionary leaders = LeaderRegistry.getDictionary();
+        if (cards == null || leaders == null) {
+            // Реестры ещё не заморожены - пакеты будут использовать строковые ID
+            return;
+        }
+        NetworkErrorHandler.sendPacketSafely(NetworkHandler.INSTANCE,
+            new SyncCardDictionaryPacket(cards, leaders), player,
+            net.minecraftforge.network.NetworkDirection.PLAY_TO_CLIENT,
+            NetworkErrorHandler.PacketPriority.CRITICAL);
+    }
+}
@@ -0,0 +1,331 @@
+package com.bmfalkye.network;
+
+import com.bmfalkye.game.ClientFalkyeGameSession;
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.game.LocationEffect;
+import com.bmfalkye.settings.GameModeSettings;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Дельта состояния игры между двумя снимками {@link ClientFalkyeGameSession}.
+ *
+ * <p>Содержит только изменившиеся секции (очки, ход, погода, руки, ряды, модификаторы,
+ * показанные карты, локация, режим игры). Каждая секция помечается битом в маске,
+ * поэтому неизменившиеся части состояния не попадают в пакет.
+ *
+ * <p>Дельта всегда вычисляется относительно снимка, подтверждённого клиентом
+ * ({@code baseSequence}), и применяется на клиенте к снимку с тем же номером.
+ */
+public class GameStateDelta {
+    // Биты секций
+    static final int SCORES = 1;
+    static final int TURN = 1 << 1;
+    static final int WEATHER = 1 << 2;
+    static final int HAND1 = 1 << 3;
+    static final int HAND2 = 1 << 4;
+    static final int MELEE1 = 1 << 5;
+    static final int RANGED1 = 1 << 6;
+    static final int SIEGE1 = 1 << 7;
+    static final int MELEE2 = 1 << 8;
+    static final int RANGED2 = 1 << 9;
+    static final int SIEGE2 = 1 << 10;
+    static final int MODIFIERS = 1 << 11;
+    static final int REVEALED = 1 << 12;
+    static final int LOCATION = 1 << 13;
+    static final int GAME_MODE = 1 << 14;
+
+    private final int sequence;
+    private final int baseSequence;
+    private final int mask;
+
+    private int currentRound, roundsWon1, roundsWon2, roundScore1, roundScore2;
+    private UUID currentPlayerUUID;
+    private boolean player1Passed, player2Passed;
+    private int remainingTime, timeoutCount;
+    private FalkyeGameSession.WeatherType weather;
+    private final List<List<String>> rows = new ArrayList<>(8);
+    private final Map<String, Integer> changedModifiers = new HashMap<>();
+    private final List<String> removedModifiers = new ArrayList<>();
+    private List<String> revealedCards;
+    private LocationEffect.LocationType locationType;
+    private GameModeSettings.GameMode gameMode;
+
+    private GameStateDelta(int sequence, int baseSequence, int mask) {
+        this.sequence = sequence;
+        this.baseSequence = baseSequence;
+        this.mask = mask;
+        for (int i = 0; i < 8; i++) {
+            rows.add(null);
+        }
+    }
+
+    /**
+     * Вычисляет дельту между подтверждённым клиентом снимком и новым состоянием
+     */
+    public static GameStateDelta compute(ClientFalkyeGameSession base, ClientFalkyeGameSession target,
+                                         int baseSequence, int sequence) {
+        int mask = 0;
+        if (base.getCurrentRound() != target.getCurrentRound()
+            || base.getRoundsWon1() != target.getRoundsWon1()
+            || base.getRoundsWon2() != target.getRoundsWon2()
+            || base.getRoundScore1() != target.getRoundScore1()
+            || base.getRoundScore2() != target.getRoundScore2()) {
+            mask |= SCORES;
+        }
+        if (!Objects.equals(base.getCurrentPlayerUUID(), target.getCurrentPlayerUUID())
+            || base.getPlayer1Passed() != target.getPlayer1Passed()
+            || base.getPlayer2Passed() != target.getPlayer2Passed()
+            || base.getRemainingTime() != target.getRemainingTime()
+            || base.getTimeoutCount() != target.getTimeoutCount()) {
+            mask |= TURN;
+        }
+        if (base.getWeather() != target.getWeather()) {
+            mask |= WEATHER;
+        }
+        List<List<String>> baseRows = rowsOf(base);
+        List<List<String>> targetRows = rowsOf(target);
+        for (int i = 0; i < 8; i++) {
+            if (!baseRows.get(i).equals(targetRows.get(i))) {
+                mask |= HAND1 << i;
+            }
+        }
+        Map<String, Integer> baseModifiers = base.getPowerModifiers();
+        Map<String, Integer> targetModifiers = target.getPowerModifiers();
+        if (!baseModifiers.equals(targetModifiers)) {
+            mask |= MODIFIERS;
+        }
+        if (!base.getRevealedCards().equals(target.getRevealedCards())) {
+            mask |= REVEALED;
+        }
+        if (base.getLocationType() != target.getLocationType()) {
+            mask |= LOCATION;
+        }
+        if (base.getGameMode() != target.getGameMode()) {
+            mask |= GAME_MODE;
+        }
+
+        GameStateDelta delta = new GameStateDelta(sequence, baseSequence, mask);
+        delta.currentRound = target.getCurrentRound();
+        delta.roundsWon1 = target.getRoundsWon1();
+        delta.roundsWon2 = target.getRoundsWon2();
+        delta.roundScore1 = target.getRoundScore1();
+        delta.roundScore2 = target.getRoundScore2();
+        delta.currentPlayerUUID = target.getCurrentPlayerUUID();
+        delta.player1Passed = target.getPlayer1Passed();
+        delta.player2Passed = target.getPlayer2Passed();
+        delta.remainingTime = target.getRemainingTime();
+        delta.timeoutCount = target.getTimeoutCount();
+        delta.weather = target.getWeather();
+        for (int i = 0; i < 8; i++) {
+            if ((mask & (HAND1 << i)) != 0) {
+                delta.rows.set(i, targetRows.get(i));
+            }
+        }
+        if ((mask & MODIFIERS) != 0) {
+            for (Map.Entry<String, Integer> entry : targetModifiers.entrySet()) {
+                if (!entry.getValue().equals(baseModifiers.get(entry.getKey()))) {
+                    delta.changedModifiers.put(entry.getKey(), entry.getValue());
+                }
+            }
+            for (String cardId : baseModifiers.keySet()) {
+                if (!targetModifiers.containsKey(cardId)) {
+                    delta.removedModifiers.add(cardId);
+                }
+            }
+        }
+        delta.revealedCards = target.getRevealedCards();
+        delta.locationType = target.getLocationType();
+        delta.gameMode = target.getGameMode();
+        return delta;
+    }
+
+    /**
+     * Применяет дельту к базовому снимку и возвращает новое состояние
+     */
+    public ClientFalkyeGameSession applyTo(ClientFalkyeGameSession base) {
+        List<List<String>> baseRows = rowsOf(base);
+        List<List<String>> newRows = new ArrayList<>(8);
+        for (int i = 0; i < 8; i++) {
+            newRows.add(has(HAND1 << i) ? rows.get(i) : baseRows.get(i));
+        }
+
+        Map<String, Integer> modifiers = base.getPowerModifiers();
+        if (has(MODIFIERS)) {
+            for (String cardId : removedModifiers) {
+                modifiers.remove(cardId);
+            }
+            modifiers.putAll(changedModifiers);
+        }
+
+        boolean scores = has(SCORES);
+        boolean turn = has(TURN);
+        return new ClientFalkyeGameSession(
+            base.getPlayer1UUID(), base.getPlayer2UUID(),
+            scores ? roundScore1 : base.getRoundScore1(),
+            scores ? roundScore2 : base.getRoundScore2(),
+            scores ? currentRound : base.getCurrentRound(),
+            turn ? currentPlayerUUID : base.getCurrentPlayerUUID(),
+            newRows.get(0), newRows.get(1),
+            newRows.get(2), newRows.get(3), newRows.get(4),
+            newRows.get(5), newRows.get(6), newRows.get(7),
+            base.getGraveyard1Ids(), base.getGraveyard2Ids(),
+            has(WEATHER) ? weather : base.getWeather(),
+            base.getLeader1Id(), base.getLeader2Id(),
+            scores ? roundsWon1 : base.getRoundsWon1(),
+            scores ? roundsWon2 : base.getRoundsWon2(),
+            turn ? player1Passed : base.getPlayer1Passed(),
+            turn ? player2Passed : base.getPlayer2Passed(),
+            base.getIsPlayer2AI(),
+            turn ? remainingTime : base.getRemainingTime(),
+            turn ? timeoutCount : base.getTimeoutCount(),
+            modifiers,
+            has(REVEALED) ? revealedCards : base.getRevealedCards(),
+            has(LOCATION) ? locationType : base.getLocationType(),
+            has(GAME_MODE) ? gameMode : base.getGameMode()
+        );
+    }
+
+    public static void encode(GameStateDelta delta, FriendlyByteBuf buffer) {
+        buffer.writeVarInt(delta.sequence);
+        buffer.writeVarInt(delta.baseSequence);
+        buffer.writeVarInt(delta.mask);
+        if (delta.has(SCORES)) {
+            buffer.writeVarInt(delta.currentRound);
+            buffer.writeVarInt(delta.roundsWon1);
+            buffer.writeVarInt(delta.roundsWon2);
+            buffer.writeVarInt(delta.roundScore1);
+            buffer.writeVarInt(delta.roundScore2);
+        }
+        if (delta.has(TURN)) {
+            buffer.writeBoolean(delta.currentPlayerUUID != null);
+            if (delta.currentPlayerUUID != null) {
+                buffer.writeUUID(delta.currentPlayerUUID);
+            }
+            buffer.writeBoolean(delta.player1Passed);
+            buffer.writeBoolean(delta.player2Passed);
+            buffer.writeVarInt(Math.max(0, delta.remainingTime));
+            buffer.writeVarInt(Math.max(0, delta.timeoutCount));
+        }
+        if (delta.has(WEATHER)) {
+            buffer.writeByte(delta.weather.ordinal());
+        }
+        for (int i = 0; i < 8; i++) {
+            if (delta.has(HAND1 << i)) {
+                writeIdList(buffer, delta.rows.get(i));
+            }
+        }
+        if (delta.has(MODIFIERS)) {
+            buffer.writeVarInt(delta.changedModifiers.size());
+            for (Map.Entry<String, Integer> entry : delta.changedModifiers.entrySet()) {
+                CardIdCodec.writeCardId(buffer, entry.getKey());
+                buffer.writeInt(entry.getValue());
+            }
+            writeIdList(buffer, delta.removedModifiers);
+        }
+        if (delta.has(REVEALED)) {
+            writeIdList(buffer, delta.revealedCards);
+        }
+        if (delta.has(LOCATION)) {
+            buffer.writeVarInt(delta.locationType.ordinal());
+        }
+        if (delta.has(GAME_MODE)) {
+            buffer.writeVarInt(delta.gameMode.ordinal());
+        }
+    }
+
+    public static GameStateDelta decode(FriendlyByteBuf buffer) {
+        GameStateDelta delta = new GameStateDelta(buffer.readVarInt(), buffer.readVarInt(), buffer.readVarInt());
+        if (delta.has(SCORES)) {
+            delta.currentRound = buffer.readVarInt();
+            delta.roundsWon1 = buffer.readVarInt();
+            delta.roundsWon2 = buffer.readVarInt();
+            delta.roundScore1 = buffer.readVarInt();
+            delta.roundScore2 = buffer.readVarInt();
+        }
+        if (delta.has(TURN)) {
+            delta.currentPlayerUUID = buffer.readBoolean() ? buffer.readUUID() : null;
+            delta.player1Passed = buffer.readBoolean();
+            delta.player2Passed = buffer.readBoolean();
+            delta.remainingTime = buffer.readVarInt();
+            delta.timeoutCount = buffer.readVarInt();
+        }
+        if (delta.has(WEATHER)) {
+            FalkyeGameSession.WeatherType[] values = FalkyeGameSession.WeatherType.values();
+            int ordinal = buffer.readByte();
+            delta.weather = ordinal >= 0 && ordinal < values.length ? values[ordinal] : FalkyeGameSession.WeatherType.NONE;
+        }
+        for (int i = 0; i < 8; i++) {
+            if (delta.has(HAND1 << i)) {
+                delta.rows.set(i, readIdList(buffer));
+            }
+        }
+        if (delta.has(MODIFIERS)) {
+            int changed = buffer.readVarInt();
+            for (int i = 0; i < changed; i++) {
+                delta.changedModifiers.put(CardIdCodec.readCardId(buffer), buffer.readInt());
+            }
+            delta.removedModifiers.addAll(readIdList(buffer));
+        }
+        if (delta.has(REVEALED)) {
+            delta.revealedCards = readIdList(buffer);
+        }
+        if (delta.has(LOCATION)) {
+            LocationEffect.LocationType[] values = LocationEffect.LocationType.values();
+            int ordinal = buffer.readVarInt();
+            delta.locationType = ordinal < values.length ? values[ordinal] : LocationEffect.LocationType.NONE;
+        }
+        if (delta.has(GAME_MODE)) {
+            GameModeSettings.GameMode[] values = GameModeSettings.GameMode.values();
+            int ordinal = buffer.readVarInt();
+            delta.gameMode = ordinal < values.length ? values[ordinal] : GameModeSettings.GameMode.MODE_2D;
+        }
+        return delta;
+    }
+
+    /**
+     * Руки и ряды в порядке битов HAND1..SIEGE2
+     */
+    private static List<List<String>> rowsOf(ClientFalkyeGameSession session) {
+        List<List<String>> result = new ArrayList<>(8);
+        result.add(session.getHand1Ids());
+        result.add(session.getHand2Ids());
+        result.add(session.getMelee1Ids());
+        result.add(session.getRanged1Ids());
+        result.add(session.getSiege1Ids());
+        result.add(session.getMelee2Ids());
+        result.add(session.getRanged2Ids());
+        result.add(session.getSiege2Ids());
+        return result;
+    }
+
+    private static void writeIdList(FriendlyByteBuf buffer, List<String> ids) {
+        CardIdCodec.writeCardIdList(buffer, ids);
+    }
+
+    private static List<String> readIdList(FriendlyByteBuf buffer) {
+        return CardIdCodec.readCardIdList(buffer);
+    }
+
+    private boolean has(int bit) {
+        return (mask & bit) != 0;
+    }
+
+    public boolean isEmpty() {
+        return mask == 0;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public int getBaseSequence() {
+        return baseSequence;
+    }
+}
@@ -0,0 +1,155 @@
+package com.bmfalkye.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Сетевые пакеты дельта-синхронизации состояния игры
+ */
+public class GameStatePackets {
+
+    /**
+     * Дельта состояния игры относительно подтверждённого клиентом снимка (сервер -> клиент)
+     */
+    public static class GameStateDeltaPacket {
+        private final GameStateDelta delta;
+        private final int actionSequence; // Последнее обработанное действие игрока (см. GameStateSync.recordAction)
+
+        public GameStateDeltaPacket(GameStateDelta delta, int actionSequence) {
+            this.delta = delta;
+            this.actionSequence = actionSequence;
+        }
+
+        public static void encode(GameStateDeltaPacket msg, FriendlyByteBuf buffer) {
+            GameStateDelta.encode(msg.delta, buffer);
+            buffer.writeVarInt(msg.actionSequence);
+        }
+
+        public static GameStateDeltaPacket decode(FriendlyByteBuf buffer) {
+            GameStateDelta delta = GameStateDelta.decode(buffer);
+            return new GameStateDeltaPacket(delta, buffer.readVarInt());
+        }
+
+        public static void handle(GameStateDeltaPacket msg, Supplier<NetworkEvent.Context> ctx) {
+            ctx.get().enqueueWork(() -> {
+                DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
+                    com.bmfalkye.client.network.ClientGameStateTracker.getInstance().onDelta(msg.delta, msg.actionSequence);
+                });
+            });
+            ctx.get().setPacketHandled(true);
+        }
+
+        public GameStateDelta getDelta() {
+            return delta;
+        }
+
+        public int getActionSequence() {
+            return actionSequence;
+        }
+    }
+
+    /**
+     * Подтверждение получения состояния игры (клиент -> сервер)
+     */
+    public static class GameStateAckPacket {
+        private final int sequence;
+
+        public GameStateAckPacket(int sequence) {
+            this.sequence = sequence;
+        }
+
+        public static void encode(GameStateAckPacket msg, FriendlyByteBuf buffer) {
+            buffer.writeVarInt(msg.sequence);
+        }
+
+        public static GameStateAckPacket decode(FriendlyByteBuf buffer) {
+            return new GameStateAckPacket(buffer.readVarInt());
+        }
+
+        public static void handle(GameStateAckPacket msg, Supplier<NetworkEvent.Context> ctx) {
+            ctx.get().enqueueWork(() -> {
+                net.minecraft.server.level.ServerPlayer player = ctx.get().getSender();
+                if (player != null) {
+                    GameStateSync.acknowledge(player, msg.sequence);
+                }
+            });
+            ctx.get().setPacketHandled(true);
+        }
+    }
+
+    /**
+     * Запрос полного снимка состояния игры после рассинхронизации (клиент -> сервер)
+     */
+    public static class RequestFullGameStatePacket {
+        public RequestFullGameStatePacket() {}
+
+        public static void encode(RequestFullGameStatePacket msg, FriendlyByteBuf buffer) {}
+
+        public static RequestFullGameStatePacket decode(FriendlyByteBuf buffer) {
+            return new RequestFullGameStatePacket();
+        }
+
+        public static void handle(RequestFullGameStatePacket msg, Supplier<NetworkEvent.Context> ctx) {
+            ctx.get().enqueueWork(() -> {
+                net.minecraft.server.level.ServerPlayer player = ctx.get().getSender();
+                if (player != null) {
+                    com.bmfalkye.game.FalkyeGameSession session = com.bmfalkye.game.GameManager.getActiveGame(player);
+                    GameStateSync.reset(player);
+                    if (session != null) {
+                        NetworkHandler.updateGameStateImmediate(player, session);
+                    }
+                }
+            });
+            ctx.get().setPacketHandled(true);
+        }
+    }
+
+    /**
+     * Кадр трансляции матча для зрителей (сервер -> клиент).
+     *
+     * <p>Содержит уже закодированное состояние игры: кадр кодируется один раз
+     * ({@link SpectatorBroadcast}), и один и тот же пакет отправляется всем зрителям -
+     * при отправке данные только копируются. Зрители не подтверждают кадры и не
+     * участвуют в дельта-синхронизации.
+     */
+    public static class SpectatorFramePacket {
+        private final io.netty.buffer.ByteBuf frame; // на сервере
+        private final com.bmfalkye.game.ClientFalkyeGameSession session; // на клиенте
+
+        SpectatorFramePacket(io.netty.buffer.ByteBuf frame) {
+            this.frame = frame;
+            this.session = null;
+        }
+
+        private SpectatorFramePacket(com.bmfalkye.game.ClientFalkyeGameSession session) {
+            this.frame = null;
+            this.session = session;
+        }
+
+        public static void encode(SpectatorFramePacket msg, FriendlyByteBuf buffer) {
+            // Индексы кадра не меняются - пакет можно кодировать параллельно для разных зрителей
+            buffer.writeBytes(msg.frame, msg.frame.readerIndex(), msg.frame.readableBytes());
+        }
+
+        public static SpectatorFramePacket decode(FriendlyByteBuf buffer) {
+            return new SpectatorFramePacket(NetworkHandler.decodeFalkyeGameSession(buffer));
+        }
+
+        public static void handle(SpectatorFramePacket msg, Supplier<NetworkEvent.Context> ctx) {
+            ctx.get().enqueueWork(() -> {
+                DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
+                    com.bmfalkye.client.ClientPacketHandler.handleUpdateFalkyeGameState(msg.session);
+                });
+            });
+            ctx.get().setPacketHandled(true);
+        }
+
+        public int getFrameSize() {
+            return frame != null ? frame.readableBytes() : 0;
+        }
+    }
+}
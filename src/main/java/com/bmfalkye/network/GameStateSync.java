@@ -0,0 +1,258 @@
+package com.bmfalkye.network;
+
+import com.bmfalkye.game.ClientFalkyeGameSession;
+import com.bmfalkye.util.ModLogger;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkDirection;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Серверная часть дельта-синхронизации состояния игры.
+ *
+ * <p>Для каждого игрока хранит последний подтверждённый клиентом снимок и снимки,
+ * отправленные, но ещё не подтверждённые. Новое состояние отправляется дельтой
+ * относительно подтверждённого снимка; полный снимок отправляется, если подтверждённого
+ * снимка нет (начало игры, переподключение, запрос клиента после рассинхронизации)
+ * или клиент слишком долго не подтверждает обновления.
+ *
+ * <p>Доставка надёжная: если последнее состояние не подтверждено за тайм-аут
+ * ({@link RttEstimator}), оно отправляется заново из тикового цикла под новым номером.
+ * Повторяется только последнее состояние - более старые неподтверждённые снимки
+ * вытесняются им и заново не отправляются. Если несколько повторов подряд остались без
+ * подтверждения, база сбрасывается и следующий повтор - полный снимок; после
+ * {@link #MAX_RETRANSMITS} повторов отправка прекращается до следующего изменения состояния.
+ */
+public class GameStateSync {
+    // Максимум неподтверждённых снимков, после которого отправляется полный снимок
+    private static final int MAX_IN_FLIGHT = 32;
+    // Повторов подряд без подтверждения, после которых повтор отправляется полным снимком
+    private static final int RESYNC_AFTER_RETRANSMITS = 3;
+    // Повторов подряд без подтверждения, после которых повторная отправка прекращается
+    private static final int MAX_RETRANSMITS = 8;
+
+    private static final Map<UUID, PlayerSyncState> states = new ConcurrentHashMap<>();
+
+    private static class PlayerSyncState {
+        int nextSequence = 0;
+        int ackedSequence = -1;
+        ClientFalkyeGameSession ackedState;
+        ClientFalkyeGameSession lastSentState;
+        int lastSentSequence = -1;
+        long lastSendTime;
+        // Номер последнего обработанного действия игрока (0 - действий с номером не было)
+        int processedAction = 0;
+        int lastSentAction = 0;
+        // Повторных отправок подряд без подтверждения
+        int retransmits = 0;
+        final TreeMap<Integer, InFlightState> inFlight = new TreeMap<>();
+    }
+
+    /**
+     * Отправленный, но не подтверждённый снимок
+     */
+    private static class InFlightState {
+        final ClientFalkyeGameSession state;
+        final long sentAt;
+        // Повторная отправка - RTT по её подтверждению не замеряется
+        final boolean retransmission;
+
+        InFlightState(ClientFalkyeGameSession state, long sentAt, boolean retransmission) {
+            this.state = state;
+            this.sentAt = sentAt;
+            this.retransmission = retransmission;
+        }
+    }
+
+    /**
+     * Отправляет игроку новое состояние игры (дельтой или полным снимком)
+     */
+    public static void send(ServerPlayer player, ClientFalkyeGameSession clientSession) {
+        if (player == null || clientSession == null) {
+            return;
+        }
+
+        PlayerSyncState state = states.computeIfAbsent(player.getUUID(), k -> new PlayerSyncState());
+        Object packet;
+        synchronized (state) {
+            // Состояние не изменилось с последней отправки - пакет не нужен
+            // (если только не нужно сообщить клиенту об обработанном действии)
+            if (state.lastSentState != null && state.lastSentAction == state.processedAction
+                && samePlayers(state.lastSentState, clientSession)
+                && GameStateDelta.compute(state.lastSentState, clientSession, 0, 0).isEmpty()) {
+                return;
+            }
+            // Новое состояние - отсчёт повторов начинается заново
+            state.retransmits = 0;
+            packet = preparePacket(state, clientSession, false);
+        }
+        deliver(player, packet);
+    }
+
+    /**
+     * Присваивает состоянию номер и строит пакет (дельту или полный снимок)
+     */
+    private static Object preparePacket(PlayerSyncState state, ClientFalkyeGameSession clientSession,
+                                        boolean retransmission) {
+        int sequence = state.nextSequence++;
+        boolean full = state.ackedState == null
+            || state.inFlight.size() >= MAX_IN_FLIGHT
+            || !samePlayers(state.ackedState, clientSession);
+
+        Object packet;
+        if (full) {
+            // Полный снимок становится новой базой - старые неподтверждённые снимки не нужны
+            state.inFlight.clear();
+            packet = new NetworkHandler.UpdateGameStatePacket(sequence, state.processedAction, clientSession);
+        } else {
+            packet = new GameStatePackets.GameStateDeltaPacket(
+                GameStateDelta.compute(state.ackedState, clientSession, state.ackedSequence, sequence),
+                state.processedAction);
+        }
+        state.lastSentAction = state.processedAction;
+        long now = System.currentTimeMillis();
+        state.inFlight.put(sequence, new InFlightState(clientSession, now, retransmission));
+        state.lastSentState = clientSession;
+        state.lastSentSequence = sequence;
+        state.lastSendTime = now;
+        return packet;
+    }
+
+    private static void deliver(ServerPlayer player, Object packet) {
+        // Повторная отправка - по подтверждениям (см. retransmitUnacknowledged), а не по таймеру
+        // отправителя. Накопленные за тик пакеты игрока (логи, эмоции) уходят в той же связке
+        NetworkErrorHandler.SendResult result = PacketBatcher.sendNow(
+            NetworkHandler.INSTANCE, packet, player, NetworkDirection.PLAY_TO_CLIENT,
+            NetworkErrorHandler.PacketPriority.CRITICAL,
+            null
+        );
+
+        if (result != NetworkErrorHandler.SendResult.SUCCESS) {
+            ModLogger.warn("Failed to send game state to {} (packet: {}, result: {})",
+                player.getName().getString(), packet.getClass().getSimpleName(), result.name());
+        }
+    }
+
+    /**
+     * Запоминает номер действия игрока (розыгрыш карты, пас), обработанного сервером.
+     * Номер уходит клиенту со следующим состоянием игры: по нему клиент снимает
+     * или откатывает предсказанный ход (см. {@code ClientPrediction}).
+     */
+    public static void recordAction(ServerPlayer player, int actionSequence) {
+        if (player == null || actionSequence <= 0) {
+            return;
+        }
+        PlayerSyncState state = states.computeIfAbsent(player.getUUID(), k -> new PlayerSyncState());
+        synchronized (state) {
+            // Отброшенный лимитом ход отмечается из сетевого потока раньше, чем серверный поток
+            // обработает предыдущий - номер не уменьшается
+            state.processedAction = Math.max(state.processedAction, actionSequence);
+        }
+    }
+
+    /**
+     * Клиент подтвердил получение состояния с указанным номером
+     */
+    public static void acknowledge(ServerPlayer player, int sequence) {
+        PlayerSyncState state = states.get(player.getUUID());
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            InFlightState acked = state.inFlight.get(sequence);
+            if (acked == null || sequence <= state.ackedSequence) {
+                // Устаревшее или неизвестное подтверждение
+                return;
+            }
+            if (!acked.retransmission) {
+                RttEstimator.forPlayer(player.getUUID()).onSample(System.currentTimeMillis() - acked.sentAt);
+            }
+            state.ackedSequence = sequence;
+            state.ackedState = acked.state;
+            state.retransmits = 0;
+            state.inFlight.headMap(sequence, true).clear();
+        }
+    }
+
+    /**
+     * Повторно отправляет последнее состояние игрокам, не подтвердившим его за тайм-аут.
+     * Вызывается из тикового цикла сервера.
+     */
+    public static void retransmitUnacknowledged(MinecraftServer server) {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<UUID, PlayerSyncState> entry : states.entrySet()) {
+            PlayerSyncState state = entry.getValue();
+            ServerPlayer player = server.getPlayerList().getPlayer(entry.getKey());
+            if (player == null) {
+                continue;
+            }
+            RttEstimator rtt = RttEstimator.forPlayer(entry.getKey());
+            Object packet;
+            synchronized (state) {
+                if (state.lastSentState == null || state.lastSentSequence <= state.ackedSequence
+                    || state.retransmits >= MAX_RETRANSMITS
+                    || now - state.lastSendTime < rtt.getRetransmitTimeoutMs()) {
+                    continue;
+                }
+                state.retransmits++;
+                if (state.retransmits == RESYNC_AFTER_RETRANSMITS) {
+                    // База на клиенте могла потеряться - повторяем полным снимком
+                    state.ackedSequence = -1;
+                    state.ackedState = null;
+                }
+                rtt.onRetransmit();
+                packet = preparePacket(state, state.lastSentState, true);
+                ModLogger.logNetwork("Retransmitting game state",
+                    "player", player.getName().getString(),
+                    "sequence", state.lastSentSequence,
+                    "attempt", state.retransmits,
+                    "timeoutMs", rtt.getRetransmitTimeoutMs());
+                if (state.retransmits == MAX_RETRANSMITS) {
+                    ModLogger.warn("Game state for {} not acknowledged after {} retransmits, waiting for the next update",
+                        player.getName().getString(), MAX_RETRANSMITS);
+                }
+            }
+            deliver(player, packet);
+        }
+    }
+
+    /**
+     * Сбрасывает базу синхронизации: следующее обновление будет полным снимком.
+     * Вызывается при открытии игрового экрана и при запросе полного состояния клиентом.
+     */
+    public static void reset(ServerPlayer player) {
+        if (player == null) {
+            return;
+        }
+        PlayerSyncState state = states.get(player.getUUID());
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            state.ackedSequence = -1;
+            state.ackedState = null;
+            state.lastSentState = null;
+            state.lastSentSequence = -1;
+            state.retransmits = 0;
+            state.inFlight.clear();
+        }
+    }
+
+    /**
+     * Очищает данные синхронизации игрока (при отключении)
+     */
+    public static void clearPlayer(UUID playerUUID) {
+        states.remove(playerUUID);
+    }
+
+    private static boolean samePlayers(ClientFalkyeGameSession a, ClientFalkyeGameSession b) {
+        return Objects.equals(a.getPlayer1UUID(), b.getPlayer1UUID())
+            && Objects.equals(a.getPlayer2UUID(), b.getPlayer2UUID())
+            && a.getIsPlayer2AI() == b.getIsPlayer2AI();
+    }
+}
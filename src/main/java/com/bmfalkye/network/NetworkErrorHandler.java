@@ -8,27 +8,24 @@ import net.minecraftforge.network.simple.SimpleChannel;
 
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
  * Обработчик ошибок сети и потери пакетов
  * Предоставляет безопасную отправку пакетов с обработкой ошибок и механизм повторной отправки
+ *
+ * <p>Повторные попытки выполняются из тикового цикла сервера ({@link #processRetries()}) с интервалом
+ * по тайм-ауту {@link RttEstimator} игрока, удваивающимся с каждой попыткой. В очереди хранится
+ * только последний пакет каждого типа для игрока: новый пакет того же типа вытесняет устаревший.
+ * Состояние игры сюда не попадает - его доставку по подтверждениям обеспечивает {@link GameStateSync}.
  */
 public class NetworkErrorHandler {
-    private static final ScheduledExecutorService retryExecutor = Executors.newScheduledThreadPool(2);
-    
     // Хранилище пакетов для повторной отправки
     private static final ConcurrentHashMap<UUID, PendingPacket> pendingPackets = new ConcurrentHashMap<>();
     
     // Максимальное количество попыток повторной отправки
     private static final int MAX_RETRY_ATTEMPTS = 3;
     
-    // Интервал между попытками повторной отправки (в миллисекундах)
-    private static final long RETRY_DELAY_MS = 1000;
-    
     // Максимальное время хранения пакета в очереди (в миллисекундах)
     private static final long MAX_PACKET_AGE_MS = 10000;
     
@@ -56,16 +53,19 @@ public class NetworkErrorHandler {
      * Информация о пакете в очереди повторной отправки
      */
     private static class PendingPacket {
+        final SimpleChannel channel;
         final Object packet;
         final ServerPlayer player;
         final NetworkDirection direction;
         final PacketPriority priority;
         final long timestamp;
         int retryCount;
+        long nextAttemptTime; // Время следующей попытки
         final Supplier<Object> packetSupplier; // Для создания нового экземпляра пакета при повторной отправке
         
-        PendingPacket(Object packet, ServerPlayer player, NetworkDirection direction, 
+        PendingPacket(SimpleChannel channel, Object packet, ServerPlayer player, NetworkDirection direction, 
                      PacketPriority priority, Supplier<Object> packetSupplier) {
+            this.channel = channel;
             this.packet = packet;
             this.player = player;
             this.direction = direction;
@@ -82,6 +82,14 @@ public class NetworkErrorHandler {
         boolean canRetry() {
             return retryCount < MAX_RETRY_ATTEMPTS && !isExpired();
         }
+        
+        /**
+         * Планирует следующую попытку: тайм-аут по RTT игрока, удвоенный за каждую попытку
+         */
+        void scheduleNextAttempt() {
+            long timeout = RttEstimator.forPlayer(player.getUUID()).getRetransmitTimeoutMs() << retryCount;
+            nextAttemptTime = System.currentTimeMillis() + Math.min(timeout, RttEstimator.MAX_TIMEOUT_MS);
+        }
     }
     
     /**
@@ -137,6 +145,11 @@ public class NetworkErrorHandler {
             // Пытаемся отправить пакет
             channel.sendTo(packet, player.connection.connection, direction);
             
+            // Ожидающий повтора пакет того же типа устарел - его вытесняет этот
+            if (!pendingPackets.isEmpty()) {
+                pendingPackets.remove(pendingKey(player.getUUID(), packet));
+            }
+            
             ModLogger.logNetwork("Packet sent successfully", 
                 "player", player.getName().getString(),
                 "priority", priority.name(),
@@ -186,23 +199,24 @@ public class NetworkErrorHandler {
         }
     }
     
+    /**
+     * Ключ очереди повторной отправки: игрок и тип пакета
+     */
+    private static UUID pendingKey(UUID playerUUID, Object packet) {
+        String packetKey = playerUUID.toString() + "_" + packet.getClass().getSimpleName();
+        return UUID.nameUUIDFromBytes(packetKey.getBytes());
+    }
+    
     /**
      * Планирует повторную отправку пакета
      */
     private static void scheduleRetry(SimpleChannel channel, Object packet, ServerPlayer player,
                                      NetworkDirection direction, PacketPriority priority,
                                      Supplier<Object> packetSupplier) {
-        UUID playerUUID = player.getUUID();
-        String packetKey = playerUUID.toString() + "_" + packet.getClass().getSimpleName();
-        
-        // Создаём запись о пакете
-        PendingPacket pendingPacket = new PendingPacket(packet, player, direction, priority, packetSupplier);
-        pendingPackets.put(UUID.nameUUIDFromBytes(packetKey.getBytes()), pendingPacket);
-        
-        // Планируем повторную попытку
-        retryExecutor.schedule(() -> {
-            retryPacket(channel, pendingPacket);
-        }, RETRY_DELAY_MS, TimeUnit.MILLISECONDS);
+        // Создаём запись о пакете (заменяет устаревший пакет того же типа)
+        PendingPacket pendingPacket = new PendingPacket(channel, packet, player, direction, priority, packetSupplier);
+        pendingPacket.scheduleNextAttempt();
+        pendingPackets.put(pendingKey(player.getUUID(), packet), pendingPacket);
         
         ModLogger.logNetwork("Scheduled packet retry", 
             "player", player.getName().getString(),
@@ -211,10 +225,26 @@ public class NetworkErrorHandler {
             "retryCount", String.valueOf(pendingPacket.retryCount + 1));
     }
     
+    /**
+     * Выполняет повторные попытки, время которых наступило.
+     * Вызывается из тикового цикла сервера.
+     */
+    public static void processRetries() {
+        if (pendingPackets.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (PendingPacket pendingPacket : pendingPackets.values()) {
+            if (now >= pendingPacket.nextAttemptTime) {
+                retryPacket(pendingPacket);
+            }
+        }
+    }
+    
     /**
      * Повторная попытка отправки пакета
      */
-    private static void retryPacket(SimpleChannel channel, PendingPacket pendingPacket) {
+    private static void retryPacket(PendingPacket pendingPacket) {
         // Проверяем, не истёк ли пакет
         if (pendingPacket.isExpired()) {
             ModLogger.warn("Packet expired, removing from retry queue",
@@ -239,8 +269,7 @@ public class NetworkErrorHandler {
             // Игрок офлайн, но пакет критичный - попробуем ещё раз позже
             if (pendingPacket.priority == PacketPriority.CRITICAL && pendingPacket.canRetry()) {
                 pendingPacket.retryCount++;
-                retryExecutor.schedule(() -> retryPacket(channel, pendingPacket), 
-                    RETRY_DELAY_MS, TimeUnit.MILLISECONDS);
+                pendingPacket.scheduleNextAttempt();
             } else {
                 removePendingPacket(pendingPacket);
             }
@@ -252,7 +281,7 @@ public class NetworkErrorHandler {
             ? pendingPacket.packetSupplier.get() 
             : pendingPacket.packet;
         
-        SendResult result = sendPacketSafely(channel, packetToSend, pendingPacket.player, 
+        SendResult result = sendPacketSafely(pendingPacket.channel, packetToSend, pendingPacket.player, 
             pendingPacket.direction, pendingPacket.priority, null); // Не используем повторную отправку для повторных попыток
         
         if (result == SendResult.SUCCESS) {
@@ -265,8 +294,7 @@ public class NetworkErrorHandler {
             // Не удалось отправить, увеличиваем счётчик и планируем следующую попытку
             pendingPacket.retryCount++;
             if (pendingPacket.canRetry()) {
-                retryExecutor.schedule(() -> retryPacket(channel, pendingPacket), 
-                    RETRY_DELAY_MS, TimeUnit.MILLISECONDS);
+                pendingPacket.scheduleNextAttempt();
             } else {
                 ModLogger.error("Failed to send packet after all retry attempts",
                     null,
@@ -282,10 +310,8 @@ public class NetworkErrorHandler {
      * Удаляет пакет из очереди повторной отправки
      */
     private static void removePendingPacket(PendingPacket pendingPacket) {
-        UUID playerUUID = pendingPacket.player.getUUID();
-        String packetKey = playerUUID.toString() + "_" + pendingPacket.packet.getClass().getSimpleName();
-        UUID key = UUID.nameUUIDFromBytes(packetKey.getBytes());
-        pendingPackets.remove(key);
+        // Удаляем только эту запись - её мог уже вытеснить более новый пакет того же типа
+        pendingPackets.remove(pendingKey(pendingPacket.player.getUUID(), pendingPacket.packet), pendingPacket);
     }
     
     /**
@@ -341,15 +367,6 @@ public class NetworkErrorHandler {
      * Останавливает обработчик (вызывается при выключении сервера)
      */
     public static void shutdown() {
-        retryExecutor.shutdown();
-        try {
-            if (!retryExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                retryExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            retryExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
         pendingPackets.clear();
         ModLogger.info("NetworkErrorHandler shutdown complete");
     }
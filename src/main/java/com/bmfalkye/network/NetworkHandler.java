@@ -18,7 +18,7 @@ import java.util.UUID;
 import java.util.function.Supplier;
 
 public class NetworkHandler {
-    private static final String PROTOCOL_VERSION = "1";
+    private static final String PROTOCOL_VERSION = "10";
     public static final SimpleChannel INSTANCE = NetworkRegistry.newSimpleChannel(
         new ResourceLocation(BMFalkye.MOD_ID, "main"),
         () -> PROTOCOL_VERSION,
@@ -28,474 +28,532 @@ public class NetworkHandler {
     
     private static int packetId = 0;
     
-    // Дебаунсинг для updateGameState - предотвращает слишком частую отправку пакетов
-    private static final java.util.Map<UUID, Long> lastUpdateTime = new java.util.concurrent.ConcurrentHashMap<>();
-    private static final long UPDATE_DEBOUNCE_MS = 33; // Минимум 33мс между обновлениями (примерно 30 FPS для обновлений)
+    // Игроки, состояние игры которых изменилось за текущий тик (отправляется в конце тика)
+    private static final java.util.Map<UUID, PendingStateUpdate> pendingStateUpdates = new java.util.concurrent.ConcurrentHashMap<>();
     
     public static void register() {
         ModLogger.info("Registering network packets");
-        INSTANCE.registerMessage(packetId++, OpenGameScreenPacket.class,
+        registerMessage(packetId++, OpenGameScreenPacket.class,
             OpenGameScreenPacket::encode,
             OpenGameScreenPacket::decode,
             OpenGameScreenPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, PlayCardPacket.class,
+        registerMessage(packetId++, PlayCardPacket.class,
             PlayCardPacket::encode,
             PlayCardPacket::decode,
             PlayCardPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, PassPacket.class,
+        registerMessage(packetId++, PassPacket.class,
             PassPacket::encode,
             PassPacket::decode,
             PassPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, UseLeaderPacket.class,
+        registerMessage(packetId++, UseLeaderPacket.class,
             UseLeaderPacket::encode,
             UseLeaderPacket::decode,
             UseLeaderPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SurrenderPacket.class,
+        registerMessage(packetId++, SurrenderPacket.class,
             SurrenderPacket::encode,
             SurrenderPacket::decode,
             SurrenderPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, UpdateGameStatePacket.class,
+        registerMessage(packetId++, UpdateGameStatePacket.class,
             UpdateGameStatePacket::encode,
             UpdateGameStatePacket::decode,
             UpdateGameStatePacket::handle);
         
-        INSTANCE.registerMessage(packetId++, OpenPreMatchScreenPacket.class,
+        registerMessage(packetId++, OpenPreMatchScreenPacket.class,
             OpenPreMatchScreenPacket::encode,
             OpenPreMatchScreenPacket::decode,
             OpenPreMatchScreenPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, StartMatchPacket.class,
+        registerMessage(packetId++, StartMatchPacket.class,
             StartMatchPacket::encode,
             StartMatchPacket::decode,
             StartMatchPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, RequestCardCollectionPacket.class,
+        registerMessage(packetId++, RequestCardCollectionPacket.class,
             RequestCardCollectionPacket::encode,
             RequestCardCollectionPacket::decode,
             RequestCardCollectionPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendCardCollectionPacket.class,
+        registerMessage(packetId++, SendCardCollectionPacket.class,
             SendCardCollectionPacket::encode,
             SendCardCollectionPacket::decode,
             SendCardCollectionPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, OpenEncyclopediaPacket.class,
+        registerMessage(packetId++, OpenEncyclopediaPacket.class,
             OpenEncyclopediaPacket::encode,
             OpenEncyclopediaPacket::decode,
             OpenEncyclopediaPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, OpenDeckEditorPacket.class,
+        registerMessage(packetId++, OpenDeckEditorPacket.class,
             OpenDeckEditorPacket::encode,
             OpenDeckEditorPacket::decode,
             OpenDeckEditorPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SaveDeckPacket.class,
+        registerMessage(packetId++, SaveDeckPacket.class,
             SaveDeckPacket::encode,
             SaveDeckPacket::decode,
             SaveDeckPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, LoadDeckPacket.class,
+        registerMessage(packetId++, LoadDeckPacket.class,
             LoadDeckPacket::encode,
             LoadDeckPacket::decode,
             LoadDeckPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, RequestDecksPacket.class,
+        registerMessage(packetId++, RequestDecksPacket.class,
             RequestDecksPacket::encode,
             RequestDecksPacket::decode,
             RequestDecksPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendDecksPacket.class,
+        registerMessage(packetId++, SendDecksPacket.class,
             SendDecksPacket::encode,
             SendDecksPacket::decode,
             SendDecksPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendDeckDataPacket.class,
+        registerMessage(packetId++, SendDeckDataPacket.class,
             SendDeckDataPacket::encode,
             SendDeckDataPacket::decode,
             SendDeckDataPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, ActionLogPacket.class,
-            ActionLogPacket::encode,
-            ActionLogPacket::decode,
-            ActionLogPacket::handle);
+        registerMessage(packetId++, ActionLogEventPacket.class,
+            ActionLogEventPacket::encode,
+            ActionLogEventPacket::decode,
+            ActionLogEventPacket::handle);
+        
+        // Постраничная загрузка списков
+        registerMessage(packetId++, PagePackets.RequestPagePacket.class,
+            PagePackets.RequestPagePacket::encode,
+            PagePackets.RequestPagePacket::decode,
+            PagePackets.RequestPagePacket::handle);
+        
+        registerMessage(packetId++, PagePackets.PagePacket.class,
+            PagePackets.PagePacket::encode,
+            PagePackets.PagePacket::decode,
+            PagePackets.PagePacket::handle);
         
         // Админ-панель пакеты
-        INSTANCE.registerMessage(packetId++, OpenAdminPanelPacket.class,
+        registerMessage(packetId++, OpenAdminPanelPacket.class,
             OpenAdminPanelPacket::encode,
             OpenAdminPanelPacket::decode,
             OpenAdminPanelPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, AdminGiveCardPacket.class,
+        registerMessage(packetId++, AdminGiveCardPacket.class,
             AdminGiveCardPacket::encode,
             AdminGiveCardPacket::decode,
             AdminGiveCardPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, AdminGiveXPPacket.class,
+        registerMessage(packetId++, AdminGiveXPPacket.class,
             AdminGiveXPPacket::encode,
             AdminGiveXPPacket::decode,
             AdminGiveXPPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, AdminSetLevelPacket.class,
+        registerMessage(packetId++, AdminSetLevelPacket.class,
             AdminSetLevelPacket::encode,
             AdminSetLevelPacket::decode,
             AdminSetLevelPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, AdminUnlockAllPacket.class,
+        registerMessage(packetId++, AdminUnlockAllPacket.class,
             AdminUnlockAllPacket::encode,
             AdminUnlockAllPacket::decode,
             AdminUnlockAllPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, AdminShowStatsPacket.class,
+        registerMessage(packetId++, AdminShowStatsPacket.class,
             AdminShowStatsPacket::encode,
             AdminShowStatsPacket::decode,
             AdminShowStatsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, AdminStatsResponsePacket.class,
+        registerMessage(packetId++, AdminStatsResponsePacket.class,
             AdminStatsResponsePacket::encode,
             AdminStatsResponsePacket::decode,
             AdminStatsResponsePacket::handle);
         
-        INSTANCE.registerMessage(packetId++, AdminDeleteReplayPacket.class,
+        registerMessage(packetId++, AdminDeleteReplayPacket.class,
             AdminDeleteReplayPacket::encode,
             AdminDeleteReplayPacket::decode,
             AdminDeleteReplayPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, AdminDeleteAllReplaysPacket.class,
+        registerMessage(packetId++, AdminDeleteAllReplaysPacket.class,
             AdminDeleteAllReplaysPacket::encode,
             AdminDeleteAllReplaysPacket::decode,
             AdminDeleteAllReplaysPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, AdminGiveCoinsPacket.class,
+        registerMessage(packetId++, AdminGiveCoinsPacket.class,
             AdminGiveCoinsPacket::encode,
             AdminGiveCoinsPacket::decode,
             AdminGiveCoinsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, AdminGiveAchievementPacket.class,
+        registerMessage(packetId++, AdminGiveAchievementPacket.class,
             AdminGiveAchievementPacket::encode,
             AdminGiveAchievementPacket::decode,
             AdminGiveAchievementPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, DenyChallengePacket.class,
+        registerMessage(packetId++, DenyChallengePacket.class,
             DenyChallengePacket::encode,
             DenyChallengePacket::decode,
             DenyChallengePacket::handle);
         
-        INSTANCE.registerMessage(packetId++, CancelChallengePacket.class,
+        registerMessage(packetId++, CancelChallengePacket.class,
             CancelChallengePacket::encode,
             CancelChallengePacket::decode,
             CancelChallengePacket::handle);
         
-        INSTANCE.registerMessage(packetId++, ClosePreMatchScreenPacket.class,
+        registerMessage(packetId++, ClosePreMatchScreenPacket.class,
             ClosePreMatchScreenPacket::encode,
             ClosePreMatchScreenPacket::decode,
             ClosePreMatchScreenPacket::handle);
         
         // Пакеты для синхронизации систем
-        INSTANCE.registerMessage(packetId++, RequestStatisticsPacket.class,
+        registerMessage(packetId++, RequestStatisticsPacket.class,
             RequestStatisticsPacket::encode,
             RequestStatisticsPacket::decode,
             RequestStatisticsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendStatisticsPacket.class,
+        registerMessage(packetId++, SendStatisticsPacket.class,
             SendStatisticsPacket::encode,
             SendStatisticsPacket::decode,
             SendStatisticsPacket::handle);
         
         // Пакеты для системы эволюции карт
-        INSTANCE.registerMessage(packetId++, RequestCardEvolutionPacket.class,
+        registerMessage(packetId++, RequestCardEvolutionPacket.class,
             RequestCardEvolutionPacket::encode,
             RequestCardEvolutionPacket::decode,
             RequestCardEvolutionPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendCardEvolutionPacket.class,
+        registerMessage(packetId++, SendCardEvolutionPacket.class,
             SendCardEvolutionPacket::encode,
             SendCardEvolutionPacket::decode,
             SendCardEvolutionPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, UnlockBranchPacket.class,
+        registerMessage(packetId++, UnlockBranchPacket.class,
             UnlockBranchPacket::encode,
             UnlockBranchPacket::decode,
             UnlockBranchPacket::handle);
         
         // Пакеты для системы квестов
-        INSTANCE.registerMessage(packetId++, RequestQuestsPacket.class,
+        registerMessage(packetId++, RequestQuestsPacket.class,
             RequestQuestsPacket::encode,
             RequestQuestsPacket::decode,
             RequestQuestsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendQuestsPacket.class,
+        registerMessage(packetId++, SendQuestsPacket.class,
             SendQuestsPacket::encode,
             SendQuestsPacket::decode,
             SendQuestsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, StartQuestPacket.class,
+        registerMessage(packetId++, StartQuestPacket.class,
             StartQuestPacket::encode,
             StartQuestPacket::decode,
             StartQuestPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, OpenMainMenuPacket.class,
+        registerMessage(packetId++, OpenMainMenuPacket.class,
             OpenMainMenuPacket::encode,
             OpenMainMenuPacket::decode,
             OpenMainMenuPacket::handle);
         
         // Пакеты для системы драфта
-        INSTANCE.registerMessage(packetId++, RequestDraftDataPacket.class,
+        registerMessage(packetId++, RequestDraftDataPacket.class,
             RequestDraftDataPacket::encode,
             RequestDraftDataPacket::decode,
             RequestDraftDataPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendDraftDataPacket.class,
+        registerMessage(packetId++, SendDraftDataPacket.class,
             SendDraftDataPacket::encode,
             SendDraftDataPacket::decode,
             SendDraftDataPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SelectDraftCardPacket.class,
+        registerMessage(packetId++, SelectDraftCardPacket.class,
             SelectDraftCardPacket::encode,
             SelectDraftCardPacket::decode,
             SelectDraftCardPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, StartDraftPacket.class,
+        registerMessage(packetId++, StartDraftPacket.class,
             StartDraftPacket::encode,
             StartDraftPacket::decode,
             StartDraftPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, OpenDraftScreenPacket.class,
+        registerMessage(packetId++, OpenDraftScreenPacket.class,
             OpenDraftScreenPacket::encode,
             OpenDraftScreenPacket::decode,
             OpenDraftScreenPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, StartArenaPacket.class,
+        registerMessage(packetId++, StartArenaPacket.class,
             StartArenaPacket::encode,
             StartArenaPacket::decode,
             StartArenaPacket::handle);
         
         // Пакеты для пользовательских турниров
-        INSTANCE.registerMessage(packetId++, RequestCustomTournamentsPacket.class,
+        registerMessage(packetId++, RequestCustomTournamentsPacket.class,
             RequestCustomTournamentsPacket::encode,
             RequestCustomTournamentsPacket::decode,
             RequestCustomTournamentsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendCustomTournamentsPacket.class,
+        registerMessage(packetId++, SendCustomTournamentsPacket.class,
             SendCustomTournamentsPacket::encode,
             SendCustomTournamentsPacket::decode,
             SendCustomTournamentsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, CreateCustomTournamentPacket.class,
+        registerMessage(packetId++, CreateCustomTournamentPacket.class,
             CreateCustomTournamentPacket::encode,
             CreateCustomTournamentPacket::decode,
             CreateCustomTournamentPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, RegisterForCustomTournamentPacket.class,
+        registerMessage(packetId++, RegisterForCustomTournamentPacket.class,
             RegisterForCustomTournamentPacket::encode,
             RegisterForCustomTournamentPacket::decode,
             RegisterForCustomTournamentPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, StartCustomTournamentPacket.class,
+        registerMessage(packetId++, StartCustomTournamentPacket.class,
             StartCustomTournamentPacket::encode,
             StartCustomTournamentPacket::decode,
             StartCustomTournamentPacket::handle);
         
         // Пакеты для трансляции турниров
-        INSTANCE.registerMessage(packetId++, AddTournamentSpectatorPacket.class,
+        registerMessage(packetId++, AddTournamentSpectatorPacket.class,
             AddTournamentSpectatorPacket::encode,
             AddTournamentSpectatorPacket::decode,
             AddTournamentSpectatorPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, OpenTournamentSpectatorPacket.class,
+        registerMessage(packetId++, OpenTournamentSpectatorPacket.class,
             OpenTournamentSpectatorPacket::encode,
             OpenTournamentSpectatorPacket::decode,
             OpenTournamentSpectatorPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, RequestTournamentMatchesPacket.class,
+        registerMessage(packetId++, RequestTournamentMatchesPacket.class,
             RequestTournamentMatchesPacket::encode,
             RequestTournamentMatchesPacket::decode,
             RequestTournamentMatchesPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendTournamentMatchesPacket.class,
+        registerMessage(packetId++, SendTournamentMatchesPacket.class,
             SendTournamentMatchesPacket::encode,
             SendTournamentMatchesPacket::decode,
             SendTournamentMatchesPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, WatchTournamentMatchPacket.class,
+        registerMessage(packetId++, WatchTournamentMatchPacket.class,
             WatchTournamentMatchPacket::encode,
             WatchTournamentMatchPacket::decode,
             WatchTournamentMatchPacket::handle);
         
         // Пакеты для лидербордов
-        INSTANCE.registerMessage(packetId++, RequestLeaderboardPacket.class,
+        registerMessage(packetId++, RequestLeaderboardPacket.class,
             RequestLeaderboardPacket::encode,
             RequestLeaderboardPacket::decode,
             RequestLeaderboardPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendLeaderboardPacket.class,
+        registerMessage(packetId++, SendLeaderboardPacket.class,
             SendLeaderboardPacket::encode,
             SendLeaderboardPacket::decode,
             SendLeaderboardPacket::handle);
         
         // Пакеты для косметики и эмоций
-        INSTANCE.registerMessage(packetId++, SendEmotePacket.class,
+        registerMessage(packetId++, SendEmotePacket.class,
             SendEmotePacket::encode,
             SendEmotePacket::decode,
             SendEmotePacket::handle);
         
-        INSTANCE.registerMessage(packetId++, RequestTournamentsPacket.class,
+        registerMessage(packetId++, RequestTournamentsPacket.class,
             RequestTournamentsPacket::encode,
             RequestTournamentsPacket::decode,
             RequestTournamentsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendTournamentsPacket.class,
+        registerMessage(packetId++, SendTournamentsPacket.class,
             SendTournamentsPacket::encode,
             SendTournamentsPacket::decode,
             SendTournamentsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, RequestSeasonPacket.class,
+        registerMessage(packetId++, RequestSeasonPacket.class,
             RequestSeasonPacket::encode,
             RequestSeasonPacket::decode,
             RequestSeasonPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendSeasonPacket.class,
+        registerMessage(packetId++, SendSeasonPacket.class,
             SendSeasonPacket::encode,
             SendSeasonPacket::decode,
             SendSeasonPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, RequestDailyRewardsPacket.class,
+        registerMessage(packetId++, RequestDailyRewardsPacket.class,
             RequestDailyRewardsPacket::encode,
             RequestDailyRewardsPacket::decode,
             RequestDailyRewardsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendDailyRewardsPacket.class,
+        registerMessage(packetId++, SendDailyRewardsPacket.class,
             SendDailyRewardsPacket::encode,
             SendDailyRewardsPacket::decode,
             SendDailyRewardsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, RequestReplaysPacket.class,
+        registerMessage(packetId++, RequestReplaysPacket.class,
             RequestReplaysPacket::encode,
             RequestReplaysPacket::decode,
             RequestReplaysPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendReplaysPacket.class,
+        registerMessage(packetId++, SendReplaysPacket.class,
             SendReplaysPacket::encode,
             SendReplaysPacket::decode,
             SendReplaysPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, RequestReplayPacket.class,
+        registerMessage(packetId++, RequestReplayPacket.class,
             RequestReplayPacket::encode,
             RequestReplayPacket::decode,
             RequestReplayPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendReplayPacket.class,
+        registerMessage(packetId++, SendReplayPacket.class,
             SendReplayPacket::encode,
             SendReplayPacket::decode,
             SendReplayPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, RequestEventsPacket.class,
+        registerMessage(packetId++, RequestEventsPacket.class,
             RequestEventsPacket::encode,
             RequestEventsPacket::decode,
             RequestEventsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, SendEventsPacket.class,
+        registerMessage(packetId++, SendEventsPacket.class,
             SendEventsPacket::encode,
             SendEventsPacket::decode,
             SendEventsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, ParticipateInEventPacket.class,
+        registerMessage(packetId++, ParticipateInEventPacket.class,
             ParticipateInEventPacket::encode,
             ParticipateInEventPacket::decode,
             ParticipateInEventPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, RegisterForTournamentPacket.class,
+        registerMessage(packetId++, RegisterForTournamentPacket.class,
             RegisterForTournamentPacket::encode,
             RegisterForTournamentPacket::decode,
             RegisterForTournamentPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, ClaimDailyRewardPacket.class,
+        registerMessage(packetId++, ClaimDailyRewardPacket.class,
             ClaimDailyRewardPacket::encode,
             ClaimDailyRewardPacket::decode,
             ClaimDailyRewardPacket::handle);
         
         // Пакеты для системы друзей
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.FriendsPackets.RequestFriendsPacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.FriendsPackets.RequestFriendsPacket.class,
             com.bmfalkye.network.FriendsPackets.RequestFriendsPacket::encode,
             com.bmfalkye.network.FriendsPackets.RequestFriendsPacket::decode,
             com.bmfalkye.network.FriendsPackets.RequestFriendsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.FriendsPackets.SendFriendsPacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.FriendsPackets.SendFriendsPacket.class,
             com.bmfalkye.network.FriendsPackets.SendFriendsPacket::encode,
             com.bmfalkye.network.FriendsPackets.SendFriendsPacket::decode,
             com.bmfalkye.network.FriendsPackets.SendFriendsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.FriendsPackets.AddFriendPacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.FriendsPackets.AddFriendPacket.class,
             com.bmfalkye.network.FriendsPackets.AddFriendPacket::encode,
             com.bmfalkye.network.FriendsPackets.AddFriendPacket::decode,
             com.bmfalkye.network.FriendsPackets.AddFriendPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.FriendsPackets.RemoveFriendPacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.FriendsPackets.RemoveFriendPacket.class,
             com.bmfalkye.network.FriendsPackets.RemoveFriendPacket::encode,
             com.bmfalkye.network.FriendsPackets.RemoveFriendPacket::decode,
             com.bmfalkye.network.FriendsPackets.RemoveFriendPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.FriendsPackets.AddFriendByNamePacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.FriendsPackets.AddFriendByNamePacket.class,
             com.bmfalkye.network.FriendsPackets.AddFriendByNamePacket::encode,
             com.bmfalkye.network.FriendsPackets.AddFriendByNamePacket::decode,
             com.bmfalkye.network.FriendsPackets.AddFriendByNamePacket::handle);
         
         // Пакеты для системы гильдий
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.GuildPackets.RequestGuildInfoPacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.GuildPackets.RequestGuildInfoPacket.class,
             com.bmfalkye.network.GuildPackets.RequestGuildInfoPacket::encode,
             com.bmfalkye.network.GuildPackets.RequestGuildInfoPacket::decode,
             com.bmfalkye.network.GuildPackets.RequestGuildInfoPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.GuildPackets.SendGuildInfoPacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.GuildPackets.SendGuildInfoPacket.class,
             com.bmfalkye.network.GuildPackets.SendGuildInfoPacket::encode,
             com.bmfalkye.network.GuildPackets.SendGuildInfoPacket::decode,
             com.bmfalkye.network.GuildPackets.SendGuildInfoPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.GuildPackets.CreateGuildPacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.GuildPackets.CreateGuildPacket.class,
             com.bmfalkye.network.GuildPackets.CreateGuildPacket::encode,
             com.bmfalkye.network.GuildPackets.CreateGuildPacket::decode,
             com.bmfalkye.network.GuildPackets.CreateGuildPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.GuildPackets.LeaveGuildPacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.GuildPackets.LeaveGuildPacket.class,
             com.bmfalkye.network.GuildPackets.LeaveGuildPacket::encode,
             com.bmfalkye.network.GuildPackets.LeaveGuildPacket::decode,
             com.bmfalkye.network.GuildPackets.LeaveGuildPacket::handle);
         
         // Пакеты для системы боссов
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.BossPackets.RequestBossesPacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.BossPackets.RequestBossesPacket.class,
             com.bmfalkye.network.BossPackets.RequestBossesPacket::encode,
             com.bmfalkye.network.BossPackets.RequestBossesPacket::decode,
             com.bmfalkye.network.BossPackets.RequestBossesPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.BossPackets.SendBossesPacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.BossPackets.SendBossesPacket.class,
             com.bmfalkye.network.BossPackets.SendBossesPacket::encode,
             com.bmfalkye.network.BossPackets.SendBossesPacket::decode,
             com.bmfalkye.network.BossPackets.SendBossesPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.BossPackets.ChallengeBossPacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.BossPackets.ChallengeBossPacket.class,
             com.bmfalkye.network.BossPackets.ChallengeBossPacket::encode,
             com.bmfalkye.network.BossPackets.ChallengeBossPacket::decode,
             com.bmfalkye.network.BossPackets.ChallengeBossPacket::handle);
         
         // Пакеты для магазина карт
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.ShopPackets.RequestShopItemsPacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.ShopPackets.RequestShopItemsPacket.class,
             com.bmfalkye.network.ShopPackets.RequestShopItemsPacket::encode,
             com.bmfalkye.network.ShopPackets.RequestShopItemsPacket::decode,
             com.bmfalkye.network.ShopPackets.RequestShopItemsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.ShopPackets.SendShopItemsPacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.ShopPackets.SendShopItemsPacket.class,
             com.bmfalkye.network.ShopPackets.SendShopItemsPacket::encode,
             com.bmfalkye.network.ShopPackets.SendShopItemsPacket::decode,
             com.bmfalkye.network.ShopPackets.SendShopItemsPacket::handle);
         
-        INSTANCE.registerMessage(packetId++, com.bmfalkye.network.ShopPackets.BuyCardPacket.class,
+        registerMessage(packetId++, com.bmfalkye.network.ShopPackets.BuyCardPacket.class,
             com.bmfalkye.network.ShopPackets.BuyCardPacket::encode,
             com.bmfalkye.network.ShopPackets.BuyCardPacket::decode,
             com.bmfalkye.network.ShopPackets.BuyCardPacket::handle);
+        
+        // Пакеты дельта-синхронизации состояния игры
+        registerMessage(packetId++, com.bmfalkye.network.GameStatePackets.GameStateDeltaPacket.class,
+            com.bmfalkye.network.GameStatePackets.GameStateDeltaPacket::encode,
+            com.bmfalkye.network.GameStatePackets.GameStateDeltaPacket::decode,
+            com.bmfalkye.network.GameStatePackets.GameStateDeltaPacket::handle);
+        
+        registerMessage(packetId++, com.bmfalkye.network.GameStatePackets.GameStateAckPacket.class,
+            com.bmfalkye.network.GameStatePackets.GameStateAckPacket::encode,
+            com.bmfalkye.network.GameStatePackets.GameStateAckPacket::decode,
+            com.bmfalkye.network.GameStatePackets.GameStateAckPacket::handle);
+        
+        registerMessage(packetId++, com.bmfalkye.network.GameStatePackets.RequestFullGameStatePacket.class,
+            com.bmfalkye.network.GameStatePackets.RequestFullGameStatePacket::encode,
+            com.bmfalkye.network.GameStatePackets.RequestFullGameStatePacket::decode,
+            com.bmfalkye.network.GameStatePackets.RequestFullGameStatePacket::handle);
+        
+        registerMessage(packetId++, com.bmfalkye.network.GameStatePackets.SpectatorFramePacket.class,
+            com.bmfalkye.network.GameStatePackets.SpectatorFramePacket::encode,
+            com.bmfalkye.network.GameStatePackets.SpectatorFramePacket::decode,
+            com.bmfalkye.network.GameStatePackets.SpectatorFramePacket::handle);
+        
+        // Словарь числовых ID карт (отправляется при входе)
+        registerMessage(packetId++, com.bmfalkye.network.CardIdCodec.SyncCardDictionaryPacket.class,
+            com.bmfalkye.network.CardIdCodec.SyncCardDictionaryPacket::encode,
+            com.bmfalkye.network.CardIdCodec.SyncCardDictionaryPacket::decode,
+            com.bmfalkye.network.CardIdCodec.SyncCardDictionaryPacket::handle);
+        
+        // Пакет-связка для батчинга (несколько сообщений в одном кадре).
+        // Только сервер -> клиент: связку от клиента Forge отклоняет до декодирования
+        INSTANCE.registerMessage(packetId++, BundlePacket.class,
+            BundlePacket::encode,
+            BundlePacket::decode,
+            BundlePacket::handle,
+            java.util.Optional.of(NetworkDirection.PLAY_TO_CLIENT));
+    }
+    
+    /**
+     * Регистрирует пакет в канале и его кодек для вложения в {@link BundlePacket}.
+     * Пакеты от клиента проходят лимит частоты ({@link PacketRateLimiter}) до обработчика.
+     */
+    private static <MSG> void registerMessage(int id, Class<MSG> type,
+                                              java.util.function.BiConsumer<MSG, FriendlyByteBuf> encoder,
+                                              java.util.function.Function<FriendlyByteBuf, MSG> decoder,
+                                              java.util.function.BiConsumer<MSG, Supplier<NetworkEvent.Context>> handler) {
+        java.util.function.BiConsumer<MSG, Supplier<NetworkEvent.Context>> guarded = PacketRateLimiter.guard(type, handler);
+        INSTANCE.registerMessage(id, type, encoder, decoder, guarded);
+        BundlePacket.registerCodec(id, type, encoder, decoder, guarded);
     }
     
     public static void openGameScreen(ServerPlayer player, FalkyeGameSession session) {
@@ -541,6 +599,9 @@ public class NetworkHandler {
             session.getLocationType(), // Передаём тип локации
             session.getMatchConfig() != null ? session.getMatchConfig().getGameMode() : com.bmfalkye.settings.GameModeSettings.GameMode.MODE_2D // Передаём режим игры
         );
+        // Новый экран - следующее обновление состояния будет полным снимком
+        GameStateSync.reset(player);
+        
         // Используем безопасную отправку с обработкой ошибок для критичного пакета
         OpenGameScreenPacket packet = new OpenGameScreenPacket(clientSession);
         NetworkErrorHandler.SendResult result = NetworkErrorHandler.sendPacketSafely(
@@ -557,53 +618,103 @@ public class NetworkHandler {
     }
     
     /**
-     * Немедленное обновление состояния игры (без дебаунсинга) для критичных событий
+     * Ожидающее отправки обновление состояния игры
+     */
+    private static class PendingStateUpdate {
+        final ServerPlayer player;
+        final FalkyeGameSession session;
+        
+        PendingStateUpdate(ServerPlayer player, FalkyeGameSession session) {
+            this.player = player;
+            this.session = session;
+        }
+    }
+    
+    /**
+     * Обновление состояния игры для критичных событий.
+     * Состояние помечается изменённым и отправляется в конце тика ({@link #flushGameStateUpdates()}):
+     * несколько изменений за тик (эффекты карт, комбо, ход AI) дают одно сообщение игроку.
      */
     public static void updateGameStateImmediate(ServerPlayer player, FalkyeGameSession session) {
         if (player == null || session == null) {
             return;
         }
         
-        // Обновляем время последнего обновления, но не блокируем
-        UUID playerUUID = player.getUUID();
-        lastUpdateTime.put(playerUUID, System.currentTimeMillis());
-        
-        // Вызываем основной метод обновления
-        updateGameStateInternal(player, session);
+        pendingStateUpdates.put(player.getUUID(), new PendingStateUpdate(player, session));
     }
     
     /**
-     * Обновление состояния игры с дебаунсингом (для периодических обновлений)
+     * Отмечает действие игрока (розыгрыш карты, пас) обработанным. Номер действия уходит клиенту
+     * с состоянием игры в конце тика; состояние отправляется и тогда, когда действие отклонено
+     * и ничего не изменилось - по нему клиент откатывает предсказанный ход.
+     * Вызывается и для ходов, отброшенных лимитом частоты ({@link PacketRateLimiter}).
      */
-    public static void updateGameState(ServerPlayer player, FalkyeGameSession session) {
+    static void acknowledgeAction(ServerPlayer player, int actionSequence) {
+        if (actionSequence <= 0) {
+            return;
+        }
+        GameStateSync.recordAction(player, actionSequence);
+        updateGameStateImmediate(player, com.bmfalkye.game.GameManager.getActiveGame(player));
+    }
+    
+    /**
+     * Отправляет состояние игры сразу, не дожидаясь конца тика (начало хода, конец раунда)
+     */
+    public static void sendGameStateNow(ServerPlayer player, FalkyeGameSession session) {
         if (player == null || session == null) {
             return;
         }
         
-        // Дебаунсинг: проверяем, не слишком ли часто отправляем обновления
-        // НО: не блокируем обновления после важных событий (игра карты, пас, смена хода)
-        UUID playerUUID = player.getUUID();
-        long currentTime = System.currentTimeMillis();
-        Long lastUpdate = lastUpdateTime.get(playerUUID);
+        // Отправленное состояние актуально - отложенное обновление не нужно
+        pendingStateUpdates.remove(player.getUUID());
         
-        // Разрешаем обновление, если прошло достаточно времени ИЛИ это критичное обновление
-        // (критичные обновления обрабатываются через специальные методы без дебаунсинга)
-        if (lastUpdate != null && (currentTime - lastUpdate) < UPDATE_DEBOUNCE_MS) {
-            // Слишком часто - пропускаем обновление (но только для не-критичных обновлений)
-            // Критичные обновления должны вызываться через updateGameStateImmediate
+        updateGameStateInternal(player, session);
+    }
+    
+    /**
+     * Отправляет накопленные за тик обновления состояния (не больше одного на игрока).
+     * Вызывается в конце тика сервера.
+     */
+    public static void flushGameStateUpdates() {
+        if (pendingStateUpdates.isEmpty()) {
+            return;
+        }
+        for (UUID playerUUID : new java.util.ArrayList<>(pendingStateUpdates.keySet())) {
+            PendingStateUpdate update = pendingStateUpdates.remove(playerUUID);
+            // Игрок мог отключиться за тик
+            if (update != null && !update.player.hasDisconnected()) {
+                updateGameStateInternal(update.player, update.session);
+            }
+        }
+    }
+    
+    /**
+     * Обновление состояния игры (для периодических обновлений).
+     * Как и {@link #updateGameStateImmediate}, только помечает состояние изменённым: частые вызовы
+     * за один тик сливаются в одно сообщение в конце тика, последнее изменение не теряется.
+     */
+    public static void updateGameState(ServerPlayer player, FalkyeGameSession session) {
+        if (player == null || session == null) {
             return;
         }
         
-        lastUpdateTime.put(playerUUID, currentTime);
-        
-        updateGameStateInternal(player, session);
+        pendingStateUpdates.put(player.getUUID(), new PendingStateUpdate(player, session));
     }
     
     /**
-     * Внутренний метод обновления состояния игры (без дебаунсинга)
+     * Внутренний метод обновления состояния игры (отправка сразу)
      */
     private static void updateGameStateInternal(ServerPlayer player, FalkyeGameSession session) {
-        // Создаём ClientFalkyeGameSession из FalkyeGameSession
+        // Отправляем дельту относительно подтверждённого клиентом снимка (или полный снимок)
+        GameStateSync.send(player, createClientSession(session, player));
+    }
+    
+    /**
+     * Создаёт клиентское представление состояния игры
+     *
+     * @param viewer игрок, для которого строится состояние (null - зритель, без показанных карт)
+     */
+    static com.bmfalkye.game.ClientFalkyeGameSession createClientSession(FalkyeGameSession session, ServerPlayer viewer) {
         int remainingTime = com.bmfalkye.game.TurnTimer.getRemainingTime(session);
         UUID currentPlayerUUID = session.getCurrentPlayerUUID();
         int timeoutCount = currentPlayerUUID != null ? 
@@ -640,7 +751,7 @@ public class NetworkHandler {
                 session.getSiegeRow(session.getPlayer2()).stream().map(c -> c.getId()).collect(java.util.stream.Collectors.toList()) :
                 new java.util.ArrayList<>());
         
-        com.bmfalkye.game.ClientFalkyeGameSession clientSession = new com.bmfalkye.game.ClientFalkyeGameSession(
+        return new com.bmfalkye.game.ClientFalkyeGameSession(
             session.getPlayer1().getUUID(), 
             player2UUID,
             session.getRoundScore(session.getPlayer1()), 
@@ -667,39 +778,40 @@ public class NetworkHandler {
             remainingTime,
             timeoutCount,
             session.getPowerModifiers(), // Получаем модификаторы для ВСЕХ карт на поле, чтобы оба игрока видели изменения
-            session.getRevealedCards(player), // Передаём показанные карты для текущего игрока
+            session.getRevealedCards(viewer), // Передаём показанные карты для текущего игрока
             session.getLocationType(), // Передаём тип локации
             session.getMatchConfig() != null ? session.getMatchConfig().getGameMode() : com.bmfalkye.settings.GameModeSettings.GameMode.MODE_2D // Передаём режим игры
         );
-        // Используем безопасную отправку с обработкой ошибок для критичного пакета
-        UpdateGameStatePacket packet = new UpdateGameStatePacket(clientSession);
-        NetworkErrorHandler.SendResult result = NetworkErrorHandler.sendPacketSafely(
-            INSTANCE, packet, player, NetworkDirection.PLAY_TO_CLIENT,
-            NetworkErrorHandler.PacketPriority.CRITICAL,
-            () -> {
-                // Создаём новый пакет с актуальным состоянием для повторной отправки
-                return new UpdateGameStatePacket(clientSession);
-            }
-        );
-        
-        if (result != NetworkErrorHandler.SendResult.SUCCESS) {
-            ModLogger.warn("Failed to send UpdateGameStatePacket", 
-                "player", player.getName().getString(),
-                "result", result.name());
-        }
     }
     
     /**
-     * Добавляет сообщение в лог действий игрока (с батчингом)
+     * Добавляет событие в лог действий игрока (текст собирается на клиенте)
+     */
+    public static void addActionLog(ServerPlayer player, ActionLogCode code, Object... args) {
+        addActionLog(player, new ActionLogEventPacket(code, null, args));
+    }
+    
+    /**
+     * Добавляет событие в лог действий обоих игроков сессии.
+     * Один и тот же пакет уходит обоим: формулировку "вы/противник" выбирает клиент по месту.
+     * 
+     * @param actor место совершившего действие (для событий без действующего лица - null)
      */
-    public static void addActionLog(ServerPlayer player, String message) {
+    public static void logEvent(FalkyeGameSession session, com.bmfalkye.game.core.Seat actor,
+                                ActionLogCode code, Object... args) {
+        if (session == null) return;
+        
+        ActionLogEventPacket packet = new ActionLogEventPacket(code, actor, args);
+        addActionLog(session.getPlayer1(), packet);
+        addActionLog(session.getPlayer2(), packet);
+    }
+    
+    private static void addActionLog(ServerPlayer player, ActionLogEventPacket packet) {
         if (player == null) return;
         
-        // Используем батчинг для логов действий (низкий приоритет)
-        ActionLogPacket packet = new ActionLogPacket(message);
         PacketBatcher.addToBatch(INSTANCE, packet, player, NetworkDirection.PLAY_TO_CLIENT,
             NetworkErrorHandler.PacketPriority.LOW,
-            () -> new ActionLogPacket(message));
+            () -> packet);
     }
     
     public static void openPreMatchScreen(ServerPlayer player, UUID opponentUUID, String opponentName, boolean isNPC) {
@@ -759,6 +871,7 @@ public class NetworkHandler {
             ctx.get().enqueueWork(() -> {
                 DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
                     // На клиенте используем ClientFalkyeGameSession напрямую
+                    com.bmfalkye.client.network.ClientGameStateTracker.getInstance().reset();
                     net.minecraft.client.Minecraft.getInstance().execute(() -> {
                         net.minecraft.client.Minecraft.getInstance().setScreen(
                             new com.bmfalkye.client.FalkyeGameScreen(msg.session));
@@ -773,27 +886,42 @@ public class NetworkHandler {
         }
     }
     
+    /**
+     * Действие игрока, которое клиент мог показать заранее (см. {@code ClientPrediction})
+     */
+    interface PredictedAction {
+        int getActionSequence();
+    }
+    
     // Пакет для игры картой
-    public static class PlayCardPacket {
+    public static class PlayCardPacket implements PredictedAction {
         private final String cardId;
         private final int row; // 0 = ближний, 1 = дальний, 2 = осада
+        private final int actionSequence; // Номер действия клиента (0 - ход не предсказывался)
         
         public PlayCardPacket(String cardId, int row) {
+            this(cardId, row, 0);
+        }
+        
+        public PlayCardPacket(String cardId, int row, int actionSequence) {
             this.cardId = cardId;
             this.row = row;
+            this.actionSequence = actionSequence;
+        }
+        
+        @Override
+        public int getActionSequence() {
+            return actionSequence;
         }
         
         public static void encode(PlayCardPacket msg, FriendlyByteBuf buffer) {
-            String cardId = msg.cardId != null ? msg.cardId : "";
-            if (cardId.length() > 32767) {
-                cardId = cardId.substring(0, 32767);
-            }
-            buffer.writeUtf(cardId);
+            CardIdCodec.writeCardId(buffer, msg.cardId);
             buffer.writeInt(msg.row);
+            buffer.writeVarInt(msg.actionSequence);
         }
         
         public static PlayCardPacket decode(FriendlyByteBuf buffer) {
-            return new PlayCardPacket(buffer.readUtf(), buffer.readInt());
+            return new PlayCardPacket(CardIdCodec.readCardId(buffer), buffer.readInt(), buffer.readVarInt());
         }
         
         public static void handle(PlayCardPacket msg, Supplier<NetworkEvent.Context> ctx) {
@@ -802,6 +930,8 @@ public class NetworkHandler {
                 if (player == null || !com.bmfalkye.util.InputValidator.isPlayerValid(player)) {
                     return;
                 }
+                // Клиент узнает об обработке хода из ближайшего состояния игры, даже если ход отклонён
+                acknowledgeAction(player, msg.actionSequence);
                 
                 // Валидация входных данных
                 if (!com.bmfalkye.util.InputValidator.isValidCardId(msg.cardId)) {
@@ -897,19 +1027,36 @@ public class NetworkHandler {
     }
     
     // Пакет для паса
-    public static class PassPacket {
+    public static class PassPacket implements PredictedAction {
+        private final int actionSequence; // Номер действия клиента (0 - пас не предсказывался)
+        
+        public PassPacket() {
+            this(0);
+        }
+        
+        public PassPacket(int actionSequence) {
+            this.actionSequence = actionSequence;
+        }
+        
+        @Override
+        public int getActionSequence() {
+            return actionSequence;
+        }
+        
         public static void encode(PassPacket msg, FriendlyByteBuf buffer) {
-            // Пустой пакет
+            buffer.writeVarInt(msg.actionSequence);
         }
         
         public static PassPacket decode(FriendlyByteBuf buffer) {
-            return new PassPacket();
+            return new PassPacket(buffer.readVarInt());
         }
         
         public static void handle(PassPacket msg, Supplier<NetworkEvent.Context> ctx) {
             ctx.get().enqueueWork(() -> {
                 ServerPlayer player = ctx.get().getSender();
                 if (player != null) {
+                    acknowledgeAction(player, msg.actionSequence);
+                    
                     com.bmfalkye.util.ModLogger.logNetwork("PassPacket received", 
                         "player", player.getName().getString());
                     
@@ -1110,31 +1257,48 @@ public class NetworkHandler {
     
     // Пакет для обновления состояния игры
     static class UpdateGameStatePacket {
+        private final int sequence; // Номер снимка для дельта-синхронизации (см. GameStateSync)
+        private final int actionSequence; // Последнее обработанное действие игрока (см. GameStateSync.recordAction)
         private final com.bmfalkye.game.ClientFalkyeGameSession session;
         
-        public UpdateGameStatePacket(com.bmfalkye.game.ClientFalkyeGameSession session) {
+        public UpdateGameStatePacket(int sequence, int actionSequence, com.bmfalkye.game.ClientFalkyeGameSession session) {
+            this.sequence = sequence;
+            this.actionSequence = actionSequence;
             this.session = session;
         }
         
         public static void encode(UpdateGameStatePacket msg, FriendlyByteBuf buffer) {
+            buffer.writeVarInt(msg.sequence);
+            buffer.writeVarInt(msg.actionSequence);
             // Используем тот же метод, что и для OpenGameScreenPacket
             encodeFalkyeGameSessionForClient(msg.session, buffer);
         }
         
         public static UpdateGameStatePacket decode(FriendlyByteBuf buffer) {
+            int sequence = buffer.readVarInt();
+            int actionSequence = buffer.readVarInt();
             com.bmfalkye.game.ClientFalkyeGameSession session = decodeFalkyeGameSession(buffer);
-            return new UpdateGameStatePacket(session);
+            return new UpdateGameStatePacket(sequence, actionSequence, session);
         }
         
         public static void handle(UpdateGameStatePacket msg, Supplier<NetworkEvent.Context> ctx) {
             ctx.get().enqueueWork(() -> {
                 DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
-                    com.bmfalkye.client.ClientPacketHandler.handleUpdateFalkyeGameState(msg.session);
+                    com.bmfalkye.client.network.ClientGameStateTracker.getInstance()
+                        .onFullState(msg.sequence, msg.actionSequence, msg.session);
                 });
             });
             ctx.get().setPacketHandled(true);
         }
         
+        public int getSequence() {
+            return sequence;
+        }
+        
+        public int getActionSequence() {
+            return actionSequence;
+        }
+        
         public com.bmfalkye.game.ClientFalkyeGameSession getSession() {
             return session;
         }
@@ -1196,7 +1360,7 @@ public class NetworkHandler {
         }
     }
     
-    private static com.bmfalkye.game.ClientFalkyeGameSession decodeFalkyeGameSession(FriendlyByteBuf buffer) {
+    static com.bmfalkye.game.ClientFalkyeGameSession decodeFalkyeGameSession(FriendlyByteBuf buffer) {
         // Читаем UUID игроков
         UUID player1UUID = buffer.readUUID();
         UUID player2UUID = buffer.readUUID();
@@ -1253,7 +1417,7 @@ public class NetworkHandler {
             try {
                 int modifiersSize = buffer.readInt();
                 for (int i = 0; i < modifiersSize; i++) {
-                    String cardId = buffer.readUtf();
+                    String cardId = CardIdCodec.readCardId(buffer);
                     int modifier = buffer.readInt();
                     powerModifiers.put(cardId, modifier);
                 }
@@ -1267,10 +1431,7 @@ public class NetworkHandler {
         List<String> revealedCards = new java.util.ArrayList<>();
         if (buffer.isReadable()) {
             try {
-                int revealedSize = buffer.readInt();
-                for (int i = 0; i < revealedSize; i++) {
-                    revealedCards.add(buffer.readUtf());
-                }
+                revealedCards = readCardIdList(buffer);
             } catch (Exception e) {
                 // Игнорируем, если поле отсутствует (обратная совместимость)
                 revealedCards = new java.util.ArrayList<>();
@@ -1318,26 +1479,15 @@ public class NetworkHandler {
     }
     
     private static List<String> readCardIdList(FriendlyByteBuf buffer) {
-        int size = buffer.readInt();
-        List<String> list = new java.util.ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            list.add(buffer.readUtf());
-        }
-        return list;
+        // ID карт передаются плотными числовыми ID (varint), см. CardIdCodec
+        return CardIdCodec.readCardIdList(buffer);
     }
     
     private static void writeCardIdList(FriendlyByteBuf buffer, List<String> cardIds) {
-        buffer.writeInt(cardIds.size());
-        for (String id : cardIds) {
-            String safeId = id != null ? id : "";
-            if (safeId.length() > 32767) {
-                safeId = safeId.substring(0, 32767);
-            }
-            buffer.writeUtf(safeId);
-        }
+        CardIdCodec.writeCardIdList(buffer, cardIds);
     }
     
-    private static void encodeFalkyeGameSessionForClient(com.bmfalkye.game.ClientFalkyeGameSession session, FriendlyByteBuf buffer) {
+    static void encodeFalkyeGameSessionForClient(com.bmfalkye.game.ClientFalkyeGameSession session, FriendlyByteBuf buffer) {
         buffer.writeUUID(session.getPlayer1UUID());
         buffer.writeUUID(session.getPlayer2UUID());
         buffer.writeInt(session.getCurrentRound());
@@ -1367,16 +1517,12 @@ public class NetworkHandler {
         java.util.Map<String, Integer> powerModifiers = session.getPowerModifiers();
         buffer.writeInt(powerModifiers.size());
         for (java.util.Map.Entry<String, Integer> entry : powerModifiers.entrySet()) {
-            buffer.writeUtf(entry.getKey());
+            CardIdCodec.writeCardId(buffer, entry.getKey());
             buffer.writeInt(entry.getValue());
         }
         
         // Записываем показанные карты
-        List<String> revealedCards = session.getRevealedCards();
-        buffer.writeInt(revealedCards.size());
-        for (String cardId : revealedCards) {
-            buffer.writeUtf(cardId);
-        }
+        writeCardIdList(buffer, session.getRevealedCards());
         
         // Записываем тип локации
         buffer.writeInt(session.getLocationType().ordinal());
@@ -1573,17 +1719,20 @@ public class NetworkHandler {
         }
         
         public static void encode(SendCardCollectionPacket msg, FriendlyByteBuf buffer) {
-            buffer.writeInt(msg.cardIds.size());
-            for (String cardId : msg.cardIds) {
-                String safeId = cardId != null ? cardId : "";
-                if (safeId.length() > 32767) {
-                    safeId = safeId.substring(0, 32767);
+            PacketCompression.write(buffer, "card_collection", out -> {
+                out.writeInt(msg.cardIds.size());
+                for (String cardId : msg.cardIds) {
+                    String safeId = cardId != null ? cardId : "";
+                    if (safeId.length() > 32767) {
+                        safeId = safeId.substring(0, 32767);
+                    }
+                    out.writeUtf(safeId);
                 }
-                buffer.writeUtf(safeId);
-            }
+            });
         }
         
-        public static SendCardCollectionPacket decode(FriendlyByteBuf buffer) {
+        public static SendCardCollectionPacket decode(FriendlyByteBuf packetBuffer) {
+            FriendlyByteBuf buffer = PacketCompression.read(packetBuffer, "card_collection");
             int size = buffer.readInt();
             List<String> cardIds = new java.util.ArrayList<>();
             for (int i = 0; i < size; i++) {
@@ -1705,22 +1854,15 @@ public class NetworkHandler {
         
         public static void encode(SaveDeckPacket msg, FriendlyByteBuf buffer) {
             buffer.writeUtf(msg.deckName);
-            buffer.writeInt(msg.cardIds.size());
-            for (String cardId : msg.cardIds) {
-                buffer.writeUtf(cardId);
-            }
-            buffer.writeUtf(msg.leaderId != null ? msg.leaderId : "");
+            writeCardIdList(buffer, msg.cardIds);
+            CardIdCodec.writeLeaderId(buffer, msg.leaderId != null ? msg.leaderId : "");
             buffer.writeInt(msg.slotIndex);
         }
         
         public static SaveDeckPacket decode(FriendlyByteBuf buffer) {
             String deckName = buffer.readUtf();
-            int cardCount = buffer.readInt();
-            java.util.List<String> cardIds = new java.util.ArrayList<>();
-            for (int i = 0; i < cardCount; i++) {
-                cardIds.add(buffer.readUtf());
-            }
-            String leaderId = buffer.readUtf();
+            java.util.List<String> cardIds = readCardIdList(buffer);
+            String leaderId = CardIdCodec.readLeaderId(buffer);
             if (leaderId.isEmpty()) leaderId = null;
             int slotIndex = buffer.readInt();
             return new SaveDeckPacket(deckName, cardIds, leaderId, slotIndex);
@@ -1879,11 +2021,8 @@ public class NetworkHandler {
             buffer.writeInt(msg.decks.size());
             for (com.bmfalkye.storage.PlayerDeckStorage.PlayerDeckData deck : msg.decks) {
                 buffer.writeUtf(deck.getDeckName());
-                buffer.writeInt(deck.getCardIds().size());
-                for (String cardId : deck.getCardIds()) {
-                    buffer.writeUtf(cardId);
-                }
-                buffer.writeUtf(deck.getLeaderId() != null ? deck.getLeaderId() : "");
+                writeCardIdList(buffer, deck.getCardIds());
+                CardIdCodec.writeLeaderId(buffer, deck.getLeaderId() != null ? deck.getLeaderId() : "");
             }
         }
         
@@ -1894,12 +2033,8 @@ public class NetworkHandler {
             
             for (int i = 0; i < deckCount; i++) {
                 String deckName = buffer.readUtf();
-                int cardCount = buffer.readInt();
-                java.util.List<String> cardIds = new java.util.ArrayList<>();
-                for (int j = 0; j < cardCount; j++) {
-                    cardIds.add(buffer.readUtf());
-                }
-                String leaderId = buffer.readUtf();
+                java.util.List<String> cardIds = readCardIdList(buffer);
+                String leaderId = CardIdCodec.readLeaderId(buffer);
                 if (leaderId.isEmpty()) leaderId = null;
                 
                 com.bmfalkye.storage.PlayerDeckStorage.PlayerDeckData deckData = 
@@ -1935,21 +2070,14 @@ public class NetworkHandler {
         
         public static void encode(SendDeckDataPacket msg, FriendlyByteBuf buffer) {
             buffer.writeUtf(msg.deckData.getDeckName());
-            buffer.writeInt(msg.deckData.getCardIds().size());
-            for (String cardId : msg.deckData.getCardIds()) {
-                buffer.writeUtf(cardId);
-            }
-            buffer.writeUtf(msg.deckData.getLeaderId() != null ? msg.deckData.getLeaderId() : "");
+            writeCardIdList(buffer, msg.deckData.getCardIds());
+            CardIdCodec.writeLeaderId(buffer, msg.deckData.getLeaderId() != null ? msg.deckData.getLeaderId() : "");
         }
         
         public static SendDeckDataPacket decode(FriendlyByteBuf buffer) {
             String deckName = buffer.readUtf();
-            int cardCount = buffer.readInt();
-            java.util.List<String> cardIds = new java.util.ArrayList<>();
-            for (int i = 0; i < cardCount; i++) {
-                cardIds.add(buffer.readUtf());
-            }
-            String leaderId = buffer.readUtf();
+            java.util.List<String> cardIds = readCardIdList(buffer);
+            String leaderId = CardIdCodec.readLeaderId(buffer);
             if (leaderId.isEmpty()) leaderId = null;
             
             com.bmfalkye.storage.PlayerDeckStorage.PlayerDeckData deckData = 
@@ -1971,39 +2099,6 @@ public class NetworkHandler {
         }
     }
     
-    /**
-     * Пакет для добавления сообщения в лог действий
-     */
-    public static class ActionLogPacket {
-        private final String message;
-        
-        public ActionLogPacket(String message) {
-            this.message = message;
-        }
-        
-        public static void encode(ActionLogPacket msg, FriendlyByteBuf buffer) {
-            buffer.writeUtf(msg.message);
-        }
-        
-        public static ActionLogPacket decode(FriendlyByteBuf buffer) {
-            return new ActionLogPacket(buffer.readUtf());
-        }
-        
-        public static void handle(ActionLogPacket msg, Supplier<NetworkEvent.Context> ctx) {
-            ctx.get().enqueueWork(() -> {
-                DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
-                    net.minecraft.client.Minecraft.getInstance().execute(() -> {
-                        if (net.minecraft.client.Minecraft.getInstance().screen instanceof 
-                            com.bmfalkye.client.FalkyeGameScreen gameScreen) {
-                            gameScreen.addActionLog(msg.message);
-                        }
-                    });
-                });
-            });
-            ctx.get().setPacketHandled(true);
-        }
-    }
-    
     /**
      * Пакет для открытия админ-панели
      */
@@ -2600,37 +2695,39 @@ public class NetworkHandler {
             ctx.get().enqueueWork(() -> {
                 ServerPlayer player = ctx.get().getSender();
                 if (player != null) {
-                    com.bmfalkye.statistics.StatisticsSystem.PlayerStatistics stats = 
-                        com.bmfalkye.statistics.StatisticsSystem.getPlayerStatistics(player);
-                    
-                    // Сериализуем статистику
-                    FriendlyByteBuf data = new FriendlyByteBuf(
-                        io.netty.buffer.Unpooled.buffer());
-                    data.writeInt(stats.getTotalGames());
-                    data.writeInt(stats.getWins());
-                    data.writeInt(stats.getLosses());
-                    data.writeDouble(stats.getWinRate());
-                    data.writeInt(stats.getRoundsWon());
-                    data.writeInt(stats.getRoundsLost());
-                    data.writeDouble(stats.getRoundWinRate());
-                    data.writeInt(stats.getRating());
-                    data.writeInt(stats.getRank().ordinal());
-                    data.writeInt(stats.getLevel());
-                    data.writeUtf(stats.getMostPlayedCard());
-                    
-                    // Фракции
-                    data.writeInt(stats.getFactionWins().size());
-                    for (java.util.Map.Entry<String, Integer> entry : stats.getFactionWins().entrySet()) {
-                        data.writeUtf(entry.getKey());
-                        data.writeInt(entry.getValue());
-                    }
-                    
+                    // Ответ кэшируется до изменения прогресса игрока
+                    FriendlyByteBuf data = ResponseCache.get(ResponseCache.ResponseType.STATISTICS, player,
+                        out -> writeStatistics(player, out));
                     INSTANCE.sendTo(new SendStatisticsPacket(data), 
                         player.connection.connection, NetworkDirection.PLAY_TO_CLIENT);
                 }
             });
             ctx.get().setPacketHandled(true);
         }
+        
+        private static void writeStatistics(ServerPlayer player, FriendlyByteBuf data) {
+            com.bmfalkye.statistics.StatisticsSystem.PlayerStatistics stats = 
+                com.bmfalkye.statistics.StatisticsSystem.getPlayerStatistics(player);
+            
+            data.writeInt(stats.getTotalGames());
+            data.writeInt(stats.getWins());
+            data.writeInt(stats.getLosses());
+            data.writeDouble(stats.getWinRate());
+            data.writeInt(stats.getRoundsWon());
+            data.writeInt(stats.getRoundsLost());
+            data.writeDouble(stats.getRoundWinRate());
+            data.writeInt(stats.getRating());
+            data.writeInt(stats.getRank().ordinal());
+            data.writeInt(stats.getLevel());
+            data.writeUtf(stats.getMostPlayedCard());
+            
+            // Фракции
+            data.writeInt(stats.getFactionWins().size());
+            for (java.util.Map.Entry<String, Integer> entry : stats.getFactionWins().entrySet()) {
+                data.writeUtf(entry.getKey());
+                data.writeInt(entry.getValue());
+            }
+        }
     }
     
     /**
@@ -2644,7 +2741,8 @@ public class NetworkHandler {
         }
         
         public static void encode(SendStatisticsPacket msg, FriendlyByteBuf buffer) {
-            buffer.writeBytes(msg.data);
+            // Данные могут быть ответом из ResponseCache - индексы буфера не сдвигаются
+            buffer.writeBytes(msg.data, msg.data.readerIndex(), msg.data.readableBytes());
         }
         
         public static SendStatisticsPacket decode(FriendlyByteBuf buffer) {
@@ -2790,45 +2888,48 @@ public class NetworkHandler {
                         com.bmfalkye.season.SeasonSystem.initializeSeason(serverLevel);
                     }
                     
-                    com.bmfalkye.season.SeasonSystem.SeasonInfo info = 
-                        com.bmfalkye.season.SeasonSystem.getPlayerSeasonInfo(player);
-                    
-                    // Получаем рейтинговую таблицу текущего сезона
-                    java.util.List<com.bmfalkye.season.SeasonSystem.SeasonRankingEntry> ranking = 
-                        com.bmfalkye.season.SeasonSystem.getCurrentSeasonRanking();
-                    
-                    FriendlyByteBuf data = new FriendlyByteBuf(
-                        io.netty.buffer.Unpooled.buffer());
-                    data.writeInt(info.getSeasonNumber());
-                    data.writeInt(info.getSeasonLevel());
-                    data.writeInt(info.getSeasonXP());
-                    data.writeInt(info.getXPForNextLevel());
-                    data.writeInt((int) info.getDaysRemaining());
-                    
-                    // Добавляем рейтинговую таблицу (топ-10)
-                    int topCount = Math.min(10, ranking.size());
-                    data.writeInt(topCount);
-                    int playerRank = -1;
-                    for (int i = 0; i < topCount; i++) {
-                        com.bmfalkye.season.SeasonSystem.SeasonRankingEntry entry = ranking.get(i);
-                        if (entry.getPlayerUUID().equals(player.getUUID())) {
-                            playerRank = i + 1;
-                        }
-                        net.minecraft.server.level.ServerPlayer rankPlayer = 
-                            player.server.getPlayerList().getPlayer(entry.getPlayerUUID());
-                        String playerName = rankPlayer != null ? rankPlayer.getName().getString() : "Неизвестный";
-                        data.writeUtf(playerName);
-                        data.writeInt(entry.getLevel());
-                        data.writeInt(entry.getTotalXP());
-                    }
-                    data.writeInt(playerRank); // Место игрока в рейтинге
-                    
+                    // Ответ кэшируется до изменения прогресса сезона
+                    FriendlyByteBuf data = ResponseCache.get(ResponseCache.ResponseType.SEASON, player,
+                        out -> writeSeason(player, out));
                     INSTANCE.sendTo(new SendSeasonPacket(data), 
                         player.connection.connection, NetworkDirection.PLAY_TO_CLIENT);
                 }
             });
             ctx.get().setPacketHandled(true);
         }
+        
+        private static void writeSeason(ServerPlayer player, FriendlyByteBuf data) {
+            com.bmfalkye.season.SeasonSystem.SeasonInfo info = 
+                com.bmfalkye.season.SeasonSystem.getPlayerSeasonInfo(player);
+            
+            // Получаем рейтинговую таблицу текущего сезона
+            java.util.List<com.bmfalkye.season.SeasonSystem.SeasonRankingEntry> ranking = 
+                com.bmfalkye.season.SeasonSystem.getCurrentSeasonRanking();
+            
+            data.writeInt(info.getSeasonNumber());
+            data.writeInt(info.getSeasonLevel());
+            data.writeInt(info.getSeasonXP());
+            data.writeInt(info.getXPForNextLevel());
+            data.writeInt((int) info.getDaysRemaining());
+            
+            // Добавляем рейтинговую таблицу (топ-10)
+            int topCount = Math.min(10, ranking.size());
+            data.writeInt(topCount);
+            int playerRank = -1;
+            for (int i = 0; i < topCount; i++) {
+                com.bmfalkye.season.SeasonSystem.SeasonRankingEntry entry = ranking.get(i);
+                if (entry.getPlayerUUID().equals(player.getUUID())) {
+                    playerRank = i + 1;
+                }
+                net.minecraft.server.level.ServerPlayer rankPlayer = 
+                    player.server.getPlayerList().getPlayer(entry.getPlayerUUID());
+                String playerName = rankPlayer != null ? rankPlayer.getName().getString() : "Неизвестный";
+                data.writeUtf(playerName);
+                data.writeInt(entry.getLevel());
+                data.writeInt(entry.getTotalXP());
+            }
+            data.writeInt(playerRank); // Место игрока в рейтинге
+        }
     }
     
     /**
@@ -2842,7 +2943,8 @@ public class NetworkHandler {
         }
         
         public static void encode(SendSeasonPacket msg, FriendlyByteBuf buffer) {
-            buffer.writeBytes(msg.data);
+            // Данные могут быть ответом из ResponseCache - индексы буфера не сдвигаются
+            buffer.writeBytes(msg.data, msg.data.readerIndex(), msg.data.readableBytes());
         }
         
         public static SendSeasonPacket decode(FriendlyByteBuf buffer) {
@@ -2967,13 +3069,12 @@ public class NetworkHandler {
                         io.netty.buffer.Unpooled.buffer());
                     data.writeInt(replays.size());
                     for (com.bmfalkye.replay.ReplaySystem.ReplayInfo info : replays) {
-                        com.bmfalkye.replay.ReplaySystem.GameReplay replay = info.getReplay();
                         data.writeUtf(info.getReplayId()); // Добавляем replayId
-                        data.writeUtf(replay.getPlayer1Name());
-                        data.writeUtf(replay.getPlayer2Name());
-                        data.writeUtf(replay.getWinnerName());
-                        data.writeInt(replay.getRoundsWon1());
-                        data.writeInt(replay.getRoundsWon2());
+                        data.writeUtf(info.getPlayer1Name());
+                        data.writeUtf(info.getPlayer2Name());
+                        data.writeUtf(info.getWinnerName());
+                        data.writeInt(info.getRoundsWon1());
+                        data.writeInt(info.getRoundsWon2());
                         data.writeLong(info.getTimestamp());
                     }
                     
@@ -2996,11 +3097,11 @@ public class NetworkHandler {
         }
         
         public static void encode(SendReplaysPacket msg, FriendlyByteBuf buffer) {
-            buffer.writeBytes(msg.data);
+            PacketCompression.write(buffer, "replay_list", msg.data);
         }
         
         public static SendReplaysPacket decode(FriendlyByteBuf buffer) {
-            return new SendReplaysPacket(buffer);
+            return new SendReplaysPacket(PacketCompression.read(buffer, "replay_list"));
         }
         
         public static void handle(SendReplaysPacket msg, Supplier<NetworkEvent.Context> ctx) {
@@ -3099,11 +3200,11 @@ public class NetworkHandler {
         }
         
         public static void encode(SendReplayPacket msg, FriendlyByteBuf buffer) {
-            buffer.writeBytes(msg.data);
+            PacketCompression.write(buffer, "replay", msg.data);
         }
         
         public static SendReplayPacket decode(FriendlyByteBuf buffer) {
-            return new SendReplayPacket(buffer);
+            return new SendReplayPacket(PacketCompression.read(buffer, "replay"));
         }
         
         public static void handle(SendReplayPacket msg, Supplier<NetworkEvent.Context> ctx) {
@@ -3139,59 +3240,62 @@ public class NetworkHandler {
             ctx.get().enqueueWork(() -> {
                 ServerPlayer player = ctx.get().getSender();
                 if (player != null) {
-                    java.util.List<com.bmfalkye.events.EventSystem.GameEvent> events = 
-                        com.bmfalkye.events.EventSystem.getActiveEvents();
-                    
-                    FriendlyByteBuf data = new FriendlyByteBuf(
-                        io.netty.buffer.Unpooled.buffer());
-                    data.writeInt(events.size());
-                    for (com.bmfalkye.events.EventSystem.GameEvent event : events) {
-                        data.writeUtf(event.getId());
-                        data.writeUtf(event.getName());
-                        data.writeUtf(event.getDescription());
-                        data.writeUtf(event.getType().getDisplayName());
-                        data.writeBoolean(event.hasPlayerParticipated(player));
-                        // Используем реальное оставшееся время
-                        long timeRemaining = Math.max(0, event.getTimeRemaining());
-                        data.writeLong(timeRemaining);
-                        
-                        // Извлекаем награды из Map
-                        java.util.Map<String, Object> rewards = event.getRewards();
-                        int rewardXP = rewards.containsKey("xp") ? (Integer) rewards.get("xp") : 0;
-                        int rewardCoins = rewards.containsKey("coins") ? (Integer) rewards.get("coins") : 0;
-                        data.writeInt(rewardXP);
-                        data.writeInt(rewardCoins);
-                        
-                        // Добавляем информацию о квастах события
-                        java.util.List<com.bmfalkye.events.EventSystem.EventQuest> quests = event.getQuests();
-                        data.writeInt(quests.size());
-                        for (com.bmfalkye.events.EventSystem.EventQuest quest : quests) {
-                            data.writeUtf(quest.getType().getDisplayName());
-                            data.writeInt(quest.getTarget());
-                            
-                            // Получаем прогресс игрока
-                            com.bmfalkye.events.EventSystem.EventProgress progress = 
-                                com.bmfalkye.events.EventSystem.getPlayerEventProgress(player, event.getId());
-                            int questProgress = progress.getProgress(quest.getType());
-                            data.writeInt(questProgress);
-                            data.writeBoolean(progress.isQuestCompleted(quest.getType()));
-                            
-                            data.writeInt(quest.getRewardXP());
-                            data.writeInt(quest.getRewardCoins());
-                            data.writeBoolean(quest.getRewardCard() != null);
-                            if (quest.getRewardCard() != null) {
-                                data.writeUtf(quest.getRewardCard().getId());
-                                data.writeUtf(quest.getRewardCard().getName());
-                            }
-                        }
-                    }
-                    
+                    // Ответ кэшируется до изменения событий или прогресса игрока в них
+                    FriendlyByteBuf data = ResponseCache.get(ResponseCache.ResponseType.EVENTS, player,
+                        out -> writeEvents(player, out));
                     INSTANCE.sendTo(new SendEventsPacket(data), 
                         player.connection.connection, NetworkDirection.PLAY_TO_CLIENT);
                 }
             });
             ctx.get().setPacketHandled(true);
         }
+        
+        private static void writeEvents(ServerPlayer player, FriendlyByteBuf data) {
+            java.util.List<com.bmfalkye.events.EventSystem.GameEvent> events = 
+                com.bmfalkye.events.EventSystem.getActiveEvents();
+            
+            data.writeInt(events.size());
+            for (com.bmfalkye.events.EventSystem.GameEvent event : events) {
+                data.writeUtf(event.getId());
+                data.writeUtf(event.getName());
+                data.writeUtf(event.getDescription());
+                data.writeUtf(event.getType().getDisplayName());
+                data.writeBoolean(event.hasPlayerParticipated(player));
+                // Используем реальное оставшееся время
+                long timeRemaining = Math.max(0, event.getTimeRemaining());
+                data.writeLong(timeRemaining);
+                
+                // Извлекаем награды из Map
+                java.util.Map<String, Object> rewards = event.getRewards();
+                int rewardXP = rewards.containsKey("xp") ? (Integer) rewards.get("xp") : 0;
+                int rewardCoins = rewards.containsKey("coins") ? (Integer) rewards.get("coins") : 0;
+                data.writeInt(rewardXP);
+                data.writeInt(rewardCoins);
+                
+                // Добавляем информацию о квастах события
+                java.util.List<com.bmfalkye.events.EventSystem.EventQuest> quests = event.getQuests();
+                data.writeInt(quests.size());
+                for (com.bmfalkye.events.EventSystem.EventQuest quest : quests) {
+                    data.writeUtf(quest.getType().getDisplayName());
+                    data.writeInt(quest.getTarget());
+                    
+                    // Получаем прогресс игрока
+                    com.bmfalkye.events.EventSystem.EventProgress progress = 
+                        com.bmfalkye.events.EventSystem.getPlayerEventProgress(player, event.getId());
+                    int questProgress = progress.getProgress(quest.getType());
+                    data.writeInt(questProgress);
+                    data.writeBoolean(progress.isQuestCompleted(quest.getType()));
+                    
+                    data.writeInt(quest.getRewardXP());
+                    data.writeInt(quest.getRewardCoins());
+                    data.writeBoolean(quest.getRewardCard() != null);
+                    if (quest.getRewardCard() != null) {
+                        data.writeUtf(quest.getRewardCard().getId());
+                        data.writeUtf(quest.getRewardCard().getName());
+                    }
+                }
+            }
+        }
     }
     
     /**
@@ -3205,7 +3309,8 @@ public class NetworkHandler {
         }
         
         public static void encode(SendEventsPacket msg, FriendlyByteBuf buffer) {
-            buffer.writeBytes(msg.data);
+            // Данные могут быть ответом из ResponseCache - индексы буфера не сдвигаются
+            buffer.writeBytes(msg.data, msg.data.readerIndex(), msg.data.readableBytes());
         }
         
         public static SendEventsPacket decode(FriendlyByteBuf buffer) {
@@ -4470,37 +4575,44 @@ public class NetworkHandler {
             ctx.get().enqueueWork(() -> {
                 ServerPlayer player = ctx.get().getSender();
                 if (player != null && player.level() instanceof net.minecraft.server.level.ServerLevel serverLevel) {
-                    // Получаем Зал Славы
-                    com.bmfalkye.leaderboard.LeaderboardStorage storage = 
-                        com.bmfalkye.leaderboard.LeaderboardStorage.get(serverLevel);
-                    java.util.List<com.bmfalkye.leaderboard.LeaderboardStorage.HallOfFameEntry> hallOfFame = 
-                        storage.getHallOfFame();
-                    
-                    // Получаем еженедельный рейтинг
-                    java.util.List<com.bmfalkye.leaderboard.LeaderboardStorage.LeaderboardEntry> weekly = 
-                        com.bmfalkye.leaderboard.WeeklyLeaderboardSystem.getWeeklyLeaderboard(serverLevel);
-                    
-                    // Конвертируем в клиентские форматы
-                    java.util.List<com.bmfalkye.client.HallOfFameScreen.HallOfFameEntry> hallOfFameEntries = 
-                        new java.util.ArrayList<>();
-                    for (com.bmfalkye.leaderboard.LeaderboardStorage.HallOfFameEntry entry : hallOfFame) {
-                        hallOfFameEntries.add(new com.bmfalkye.client.HallOfFameScreen.HallOfFameEntry(
-                            entry.playerUUID, entry.playerName, entry.season));
-                    }
-                    
-                    java.util.List<com.bmfalkye.client.HallOfFameScreen.LeaderboardEntry> weeklyEntries = 
-                        new java.util.ArrayList<>();
-                    for (com.bmfalkye.leaderboard.LeaderboardStorage.LeaderboardEntry entry : weekly) {
-                        weeklyEntries.add(new com.bmfalkye.client.HallOfFameScreen.LeaderboardEntry(
-                            entry.playerUUID, entry.playerName, entry.rating));
-                    }
-                    
-                    INSTANCE.sendTo(new SendLeaderboardPacket(hallOfFameEntries, weeklyEntries),
+                    // Рейтинги общие для всех игроков - ответ кодируется и сжимается один раз
+                    FriendlyByteBuf data = ResponseCache.get(ResponseCache.ResponseType.LEADERBOARD, player,
+                        out -> SendLeaderboardPacket.encode(createLeaderboard(serverLevel), out));
+                    INSTANCE.sendTo(SendLeaderboardPacket.preEncoded(data),
                         player.connection.connection, NetworkDirection.PLAY_TO_CLIENT);
                 }
             });
             ctx.get().setPacketHandled(true);
         }
+        
+        private static SendLeaderboardPacket createLeaderboard(net.minecraft.server.level.ServerLevel serverLevel) {
+            // Получаем Зал Славы
+            com.bmfalkye.leaderboard.LeaderboardStorage storage = 
+                com.bmfalkye.leaderboard.LeaderboardStorage.get(serverLevel);
+            java.util.List<com.bmfalkye.leaderboard.LeaderboardStorage.HallOfFameEntry> hallOfFame = 
+                storage.getHallOfFame();
+            
+            // Получаем еженедельный рейтинг
+            java.util.List<com.bmfalkye.leaderboard.LeaderboardStorage.LeaderboardEntry> weekly = 
+                com.bmfalkye.leaderboard.WeeklyLeaderboardSystem.getWeeklyLeaderboard(serverLevel);
+            
+            // Конвертируем в клиентские форматы
+            java.util.List<com.bmfalkye.client.HallOfFameScreen.HallOfFameEntry> hallOfFameEntries = 
+                new java.util.ArrayList<>();
+            for (com.bmfalkye.leaderboard.LeaderboardStorage.HallOfFameEntry entry : hallOfFame) {
+                hallOfFameEntries.add(new com.bmfalkye.client.HallOfFameScreen.HallOfFameEntry(
+                    entry.playerUUID, entry.playerName, entry.season));
+            }
+            
+            java.util.List<com.bmfalkye.client.HallOfFameScreen.LeaderboardEntry> weeklyEntries = 
+                new java.util.ArrayList<>();
+            for (com.bmfalkye.leaderboard.LeaderboardStorage.LeaderboardEntry entry : weekly) {
+                weeklyEntries.add(new com.bmfalkye.client.HallOfFameScreen.LeaderboardEntry(
+                    entry.playerUUID, entry.playerName, entry.rating));
+            }
+            
+            return new SendLeaderboardPacket(hallOfFameEntries, weeklyEntries);
+        }
     }
     
     /**
@@ -4509,14 +4621,38 @@ public class NetworkHandler {
     public static class SendLeaderboardPacket {
         private final java.util.List<com.bmfalkye.client.HallOfFameScreen.HallOfFameEntry> hallOfFame;
         private final java.util.List<com.bmfalkye.client.HallOfFameScreen.LeaderboardEntry> weeklyLeaderboard;
+        // Готовые байты пакета из ResponseCache (на сервере)
+        private final FriendlyByteBuf encoded;
         
         public SendLeaderboardPacket(java.util.List<com.bmfalkye.client.HallOfFameScreen.HallOfFameEntry> hallOfFame,
                                     java.util.List<com.bmfalkye.client.HallOfFameScreen.LeaderboardEntry> weeklyLeaderboard) {
             this.hallOfFame = hallOfFame;
             this.weeklyLeaderboard = weeklyLeaderboard;
+            this.encoded = null;
+        }
+        
+        private SendLeaderboardPacket(FriendlyByteBuf encoded) {
+            this.hallOfFame = null;
+            this.weeklyLeaderboard = null;
+            this.encoded = encoded;
+        }
+        
+        /**
+         * Пакет из байтов, уже закодированных {@link #encode}
+         */
+        static SendLeaderboardPacket preEncoded(FriendlyByteBuf encoded) {
+            return new SendLeaderboardPacket(encoded);
         }
         
         public static void encode(SendLeaderboardPacket msg, FriendlyByteBuf buffer) {
+            if (msg.encoded != null) {
+                buffer.writeBytes(msg.encoded, msg.encoded.readerIndex(), msg.encoded.readableBytes());
+                return;
+            }
+            PacketCompression.write(buffer, "leaderboard", out -> writeLeaderboard(msg, out));
+        }
+        
+        private static void writeLeaderboard(SendLeaderboardPacket msg, FriendlyByteBuf buffer) {
             buffer.writeInt(msg.hallOfFame.size());
             for (com.bmfalkye.client.HallOfFameScreen.HallOfFameEntry entry : msg.hallOfFame) {
                 String safeName = entry.playerName != null ? entry.playerName : "";
@@ -4536,7 +4672,8 @@ public class NetworkHandler {
             }
         }
         
-        public static SendLeaderboardPacket decode(FriendlyByteBuf buffer) {
+        public static SendLeaderboardPacket decode(FriendlyByteBuf packetBuffer) {
+            FriendlyByteBuf buffer = PacketCompression.read(packetBuffer, "leaderboard");
             int hallOfFameSize = buffer.readInt();
             java.util.List<com.bmfalkye.client.HallOfFameScreen.HallOfFameEntry> hallOfFame = 
                 new java.util.ArrayList<>();
@@ -82,7 +82,7 @@ public class PacketBatcher {
     
     /**
      * Добавляет пакет в батч для игрока
-     * Критичные пакеты отправляются немедленно, остальные батчатся
+     * Критичные пакеты отправляются немедленно (вместе с уже накопленными), остальные батчатся
      */
     public static void addToBatch(SimpleChannel channel, Object packet, ServerPlayer player,
                                   NetworkDirection direction, NetworkErrorHandler.PacketPriority priority,
@@ -93,16 +93,18 @@ public class PacketBatcher {
         
         UUID playerUUID = player.getUUID();
         
-        // Критичные пакеты отправляем сразу без батчинга
+        // Критичные пакеты отправляем сразу без ожидания
         if (priority == NetworkErrorHandler.PacketPriority.CRITICAL) {
-            NetworkErrorHandler.sendPacketSafely(channel, packet, player, direction, priority, packetSupplier);
+            sendNow(channel, packet, player, direction, priority, packetSupplier);
             return;
         }
         
         // Добавляем пакет в батч
         PacketBatch batch = playerBatches.computeIfAbsent(playerUUID, k -> new PacketBatch());
-        batch.addPacket(new BatchedPacket(packet, direction, priority, packetSupplier));
-        batch.lastFlushTime = System.currentTimeMillis();
+        synchronized (batch) {
+            batch.addPacket(new BatchedPacket(packet, direction, priority, packetSupplier));
+            batch.lastFlushTime = System.currentTimeMillis();
+        }
         
         // Если батч достиг максимального размера, отправляем его
         if (batch.size() >= MAX_BATCH_SIZE) {
@@ -111,57 +113,154 @@ public class PacketBatcher {
     }
     
     /**
-     * Отправляет батч пакетов для игрока
+     * Отправляет пакет немедленно. Если у игрока есть накопленные пакеты, они уходят
+     * вместе с этим в одной связке {@link BundlePacket} (этот пакет - последним).
      */
-    public static void flushBatch(SimpleChannel channel, UUID playerUUID, ServerPlayer player) {
+    public static NetworkErrorHandler.SendResult sendNow(SimpleChannel channel, Object packet, ServerPlayer player,
+                                                         NetworkDirection direction,
+                                                         NetworkErrorHandler.PacketPriority priority,
+                                                         Supplier<Object> packetSupplier) {
+        if (player == null || packet == null) {
+            return NetworkErrorHandler.SendResult.PLAYER_OFFLINE;
+        }
+        PacketBatch batch = playerBatches.get(player.getUUID());
+        if (batch == null || batch.isEmpty()) {
+            return NetworkErrorHandler.sendPacketSafely(channel, packet, player, direction, priority, packetSupplier);
+        }
+        synchronized (batch) {
+            batch.addPacket(new BatchedPacket(packet, direction, priority, packetSupplier));
+        }
+        return flushBatch(channel, player.getUUID(), player);
+    }
+    
+    /**
+     * Отправляет батч пакетов для игрока.
+     * Пакеты сервер -> клиент уходят одной связкой {@link BundlePacket}: одна рамка и один flush.
+     *
+     * @return результат отправки связки (или последнего отправленного отдельно пакета)
+     */
+    public static NetworkErrorHandler.SendResult flushBatch(SimpleChannel channel, UUID playerUUID, ServerPlayer player) {
         if (playerUUID == null || player == null) {
-            return;
+            return NetworkErrorHandler.SendResult.PLAYER_OFFLINE;
         }
         
         PacketBatch batch = playerBatches.get(playerUUID);
-        if (batch == null || batch.isEmpty()) {
-            return;
+        if (batch == null) {
+            return NetworkErrorHandler.SendResult.SUCCESS;
+        }
+        
+        List<BatchedPacket> sortedPackets;
+        synchronized (batch) {
+            if (batch.isEmpty()) {
+                return NetworkErrorHandler.SendResult.SUCCESS;
+            }
+            sortedPackets = new ArrayList<>(batch.packets);
+            batch.clear();
         }
         
-        // Сортируем пакеты по приоритету (HIGH -> NORMAL -> LOW)
-        List<BatchedPacket> sortedPackets = new ArrayList<>(batch.packets);
+        // Сортируем пакеты по приоритету (HIGH -> NORMAL -> LOW, критичные последними);
+        // сортировка устойчивая - внутри приоритета сохраняется порядок добавления
         sortedPackets.sort((a, b) -> {
             int priorityOrderA = getPriorityOrder(a.priority);
             int priorityOrderB = getPriorityOrder(b.priority);
             return Integer.compare(priorityOrderA, priorityOrderB);
         });
         
-        // Отправляем пакеты в порядке приоритета
+        // Пакеты, которые можно вложить в связку, и остальные (отправляются по отдельности)
+        List<BatchedPacket> bundled = new ArrayList<>();
+        List<BatchedPacket> separate = new ArrayList<>();
+        for (BatchedPacket batchedPacket : sortedPackets) {
+            if (batchedPacket.direction == NetworkDirection.PLAY_TO_CLIENT && BundlePacket.canBundle(batchedPacket.packet)) {
+                bundled.add(batchedPacket);
+            } else {
+                separate.add(batchedPacket);
+            }
+        }
+        
         int sentCount = 0;
         int failedCount = 0;
+        NetworkErrorHandler.SendResult lastResult = NetworkErrorHandler.SendResult.SUCCESS;
         
-        for (BatchedPacket batchedPacket : sortedPackets) {
-            try {
-                NetworkErrorHandler.SendResult result = NetworkErrorHandler.sendPacketSafely(
-                    channel, batchedPacket.packet, player, batchedPacket.direction,
-                    batchedPacket.priority, batchedPacket.packetSupplier);
-                
-                if (result == NetworkErrorHandler.SendResult.SUCCESS) {
-                    sentCount++;
-                } else {
-                    failedCount++;
-                }
-            } catch (Exception e) {
-                ModLogger.error("Error sending batched packet", 
-                    "player", player.getName().getString(),
-                    "error", e.getMessage());
+        for (BatchedPacket batchedPacket : separate) {
+            lastResult = sendSeparately(channel, player, batchedPacket);
+            if (lastResult == NetworkErrorHandler.SendResult.SUCCESS) {
+                sentCount++;
+            } else {
                 failedCount++;
             }
         }
         
+        if (bundled.size() == 1) {
+            lastResult = sendSeparately(channel, player, bundled.get(0));
+        } else if (!bundled.isEmpty()) {
+            lastResult = sendBundle(channel, player, bundled);
+        }
+        if (!bundled.isEmpty()) {
+            if (lastResult == NetworkErrorHandler.SendResult.SUCCESS) {
+                sentCount += bundled.size();
+            } else {
+                failedCount += bundled.size();
+            }
+        }
+        
         ModLogger.logNetwork("Batch flushed", 
             "player", player.getName().getString(),
             "totalPackets", sortedPackets.size(),
+            "bundled", bundled.size(),
             "sent", sentCount,
             "failed", failedCount);
+        return lastResult;
+    }
+    
+    private static NetworkErrorHandler.SendResult sendSeparately(SimpleChannel channel, ServerPlayer player,
+                                                                 BatchedPacket batchedPacket) {
+        try {
+            return NetworkErrorHandler.sendPacketSafely(
+                channel, batchedPacket.packet, player, batchedPacket.direction,
+                batchedPacket.priority, batchedPacket.packetSupplier);
+        } catch (Exception e) {
+            ModLogger.error("Error sending batched packet", 
+                "player", player.getName().getString(),
+                "error", e.getMessage());
+            return NetworkErrorHandler.SendResult.FAILED;
+        }
+    }
+    
+    /**
+     * Отправляет пакеты одной связкой с наивысшим приоритетом среди вложенных.
+     * При повторной отправке связка собирается только из пакетов, у которых есть поставщик.
+     */
+    private static NetworkErrorHandler.SendResult sendBundle(SimpleChannel channel, ServerPlayer player,
+                                                             List<BatchedPacket> packets) {
+        List<Object> messages = new ArrayList<>(packets.size());
+        NetworkErrorHandler.PacketPriority priority = NetworkErrorHandler.PacketPriority.LOW;
+        boolean retryable = false;
+        for (BatchedPacket batchedPacket : packets) {
+            messages.add(batchedPacket.packet);
+            if (batchedPacket.priority.ordinal() < priority.ordinal()) {
+                priority = batchedPacket.priority;
+            }
+            retryable |= batchedPacket.packetSupplier != null;
+        }
+        Supplier<Object> bundleSupplier = retryable ? () -> {
+            List<Object> retried = new ArrayList<>();
+            for (BatchedPacket batchedPacket : packets) {
+                if (batchedPacket.packetSupplier != null) {
+                    retried.add(batchedPacket.packetSupplier.get());
+                }
+            }
+            return new BundlePacket(retried);
+        } : null;
         
-        // Очищаем батч
-        batch.clear();
+        try {
+            return NetworkErrorHandler.sendPacketSafely(channel, new BundlePacket(messages), player,
+                NetworkDirection.PLAY_TO_CLIENT, priority, bundleSupplier);
+        } catch (Exception e) {
+            ModLogger.error("Error sending packet bundle", 
+                "player", player.getName().getString(),
+                "error", e.getMessage());
+            return NetworkErrorHandler.SendResult.FAILED;
+        }
     }
     
     /**
@@ -172,7 +271,7 @@ public class PacketBatcher {
             case HIGH: return 1;
             case NORMAL: return 2;
             case LOW: return 3;
-            default: return 4;
+            default: return 4; // CRITICAL - последним, после накопленных до него пакетов
         }
     }
     
@@ -1,67 +1,363 @@
 package com.bmfalkye.network;
 
-import java.io.ByteArrayInputStream;
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.CardDictionary;
+import com.bmfalkye.cards.CardRegistry;
+import com.bmfalkye.cards.LeaderRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+
 import java.io.ByteArrayOutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 /**
- * Утилита для сжатия пакетов
+ * Сжатие больших полезных нагрузок пакетов (коллекции, лидерборды, реплеи).
+ *
+ * <p>Deflater/Inflater и промежуточный буфер переиспользуются в каждом потоке, сжатые
+ * данные пишутся прямо в {@link FriendlyByteBuf} пакета. Поток сжимается с предустановленным
+ * словарём из реестра карт (ID, имена, фракции), поэтому даже короткие списки карт
+ * сжимаются хорошо. Словарь сервера передаётся клиенту при входе вместе со словарём
+ * числовых ID ({@link CardIdCodec.SyncCardDictionaryPacket}).
+ *
+ * <p>Формат: varint режима ({@link #MODE_RAW}, {@link #MODE_DEFLATE}, {@link #MODE_DEFLATE_DICTIONARY}),
+ * varint исходной длины, затем сами данные (для сжатых - int длины и поток zlib).
  */
 public class PacketCompression {
     private static final int COMPRESSION_THRESHOLD = 1024; // Сжимаем пакеты больше 1KB
-    
+    // Ограничение распакованного размера (защита от "zip-бомб")
+    private static final int MAX_DECOMPRESSED_SIZE = 16 * 1024 * 1024;
+    // Окно deflate - больше словаря не используется
+    private static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+    // Промежуточный буфер больше этого размера не удерживается потоком
+    private static final int MAX_RETAINED_SCRATCH = 1024 * 1024;
+
+    static final int MODE_RAW = 0;
+    static final int MODE_DEFLATE = 1;
+    static final int MODE_DEFLATE_DICTIONARY = 2;
+
+    /**
+     * Переиспользуемые объекты сжатия одного потока
+     */
+    private static final class Codec {
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        final Inflater inflater = new Inflater();
+        FriendlyByteBuf scratch = new FriendlyByteBuf(Unpooled.buffer(4096));
+    }
+
+    private static final ThreadLocal<Codec> CODECS = ThreadLocal.withInitial(Codec::new);
+
+    // Словарь этой стороны (строится из реестров после заморозки)
+    private static volatile Dictionary localDictionary = null;
+    // Словарь сервера (только на клиенте)
+    private static volatile Dictionary remoteDictionary = null;
+
+    // Метрики по типу пакета
+    private static final Map<String, CompressionStats> stats = new ConcurrentHashMap<>();
+
     /**
-     * Сжимает данные, если они превышают порог
+     * Словарь сжатия и его контрольная сумма (Adler-32, как в заголовке zlib)
      */
-    public static byte[] compressIfNeeded(byte[] data) {
-        if (data == null || data.length < COMPRESSION_THRESHOLD) {
-            return data; // Не сжимаем маленькие пакеты
+    private static final class Dictionary {
+        final byte[] bytes;
+        final int adler;
+        final CardDictionary source;
+
+        Dictionary(byte[] bytes, CardDictionary source) {
+            this.bytes = bytes;
+            this.source = source;
+            Adler32 adler32 = new Adler32();
+            adler32.update(bytes);
+            this.adler = (int) adler32.getValue();
         }
-        
+    }
+
+    /**
+     * Записывает данные, сформированные writer, со сжатием, если они превышают порог
+     *
+     * @param buffer буфер пакета
+     * @param packetType тип пакета для метрик
+     * @param writer запись полезной нагрузки (не должна сама вызывать {@code write})
+     */
+    public static void write(FriendlyByteBuf buffer, String packetType, Consumer<FriendlyByteBuf> writer) {
+        Codec codec = CODECS.get();
+        FriendlyByteBuf scratch = codec.scratch;
+        scratch.clear();
         try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            try (GZIPOutputStream gzos = new GZIPOutputStream(baos)) {
-                gzos.write(data);
+            writer.accept(scratch);
+            writeData(buffer, packetType, scratch, codec, encodeDictionary());
+        } finally {
+            if (scratch.capacity() > MAX_RETAINED_SCRATCH) {
+                codec.scratch = new FriendlyByteBuf(Unpooled.buffer(4096));
             }
-            byte[] compressed = baos.toByteArray();
-            
-            // Возвращаем сжатые данные только если сжатие эффективно (уменьшило размер)
-            if (compressed.length < data.length) {
-                return compressed;
+        }
+    }
+
+    /**
+     * Записывает готовые данные (читаемую часть data, индексы data не меняются)
+     */
+    public static void write(FriendlyByteBuf buffer, String packetType, ByteBuf data) {
+        writeData(buffer, packetType, data, CODECS.get(), encodeDictionary());
+    }
+
+    private static void writeData(FriendlyByteBuf buffer, String packetType, ByteBuf data,
+                                  Codec codec, Dictionary dictionary) {
+        long start = System.nanoTime();
+        int rawLength = data.readableBytes();
+        int modeIndex = buffer.writerIndex();
+        if (rawLength >= COMPRESSION_THRESHOLD) {
+            buffer.writeVarInt(dictionary != null ? MODE_DEFLATE_DICTIONARY : MODE_DEFLATE);
+            buffer.writeVarInt(rawLength);
+            int lengthIndex = buffer.writerIndex();
+            buffer.writeInt(0);
+            int compressedStart = buffer.writerIndex();
+            deflate(codec.deflater, dictionary, data, buffer);
+            int compressedLength = buffer.writerIndex() - compressedStart;
+
+            // Сжатие выгодно - оставляем, иначе переписываем как есть
+            if (compressedLength < rawLength) {
+                buffer.setInt(lengthIndex, compressedLength);
+                record(packetType, rawLength, buffer.writerIndex() - modeIndex, System.nanoTime() - start, 0);
+                return;
             }
-            return data;
-        } catch (Exception e) {
-            com.bmfalkye.util.ModLogger.warn("Failed to compress packet data: {}", e.getMessage());
-            return data; // Возвращаем несжатые данные в случае ошибки
+            buffer.writerIndex(modeIndex);
         }
+        buffer.writeVarInt(MODE_RAW);
+        buffer.writeVarInt(rawLength);
+        buffer.writeBytes(data, data.readerIndex(), rawLength);
+        record(packetType, rawLength, buffer.writerIndex() - modeIndex, System.nanoTime() - start, 0);
     }
-    
+
+    private static void deflate(Deflater deflater, Dictionary dictionary, ByteBuf data, FriendlyByteBuf out) {
+        deflater.reset();
+        if (dictionary != null) {
+            deflater.setDictionary(dictionary.bytes);
+        }
+        deflater.setInput(data.nioBuffer(data.readerIndex(), data.readableBytes()));
+        deflater.finish();
+        while (!deflater.finished()) {
+            out.ensureWritable(Math.max(256, data.readableBytes() / 4));
+            ByteBuffer target = out.nioBuffer(out.writerIndex(), out.writableBytes());
+            int written = deflater.deflate(target);
+            out.writerIndex(out.writerIndex() + written);
+        }
+    }
+
     /**
-     * Распаковывает данные
+     * Читает данные, записанные {@link #write}
+     *
+     * @return новый буфер с распакованными данными
      */
-    public static byte[] decompress(byte[] data) {
-        if (data == null) {
-            return null;
+    public static FriendlyByteBuf read(FriendlyByteBuf buffer, String packetType) {
+        long start = System.nanoTime();
+        int wireStart = buffer.readerIndex();
+        int mode = buffer.readVarInt();
+        int rawLength = buffer.readVarInt();
+        if (rawLength < 0 || rawLength > MAX_DECOMPRESSED_SIZE) {
+            throw new IllegalStateException("Packet payload too large: " + rawLength);
         }
-        
+
+        FriendlyByteBuf result;
+        if (mode == MODE_RAW) {
+            result = new FriendlyByteBuf(Unpooled.buffer(rawLength, rawLength));
+            buffer.readBytes(result, rawLength);
+        } else if (mode == MODE_DEFLATE || mode == MODE_DEFLATE_DICTIONARY) {
+            int compressedLength = buffer.readInt();
+            ByteBuffer source = buffer.nioBuffer(buffer.readerIndex(), compressedLength);
+            buffer.skipBytes(compressedLength);
+            result = new FriendlyByteBuf(Unpooled.buffer(rawLength, rawLength));
+            inflate(CODECS.get().inflater, source, result, rawLength);
+        } else {
+            throw new IllegalStateException("Unknown packet compression mode: " + mode);
+        }
+        record(packetType, rawLength, buffer.readerIndex() - wireStart, 0, System.nanoTime() - start);
+        return result;
+    }
+
+    private static void inflate(Inflater inflater, ByteBuffer source, FriendlyByteBuf out, int rawLength) {
+        inflater.reset();
+        inflater.setInput(source);
+        ByteBuffer target = out.nioBuffer(0, rawLength);
         try {
-            ByteArrayInputStream bais = new ByteArrayInputStream(data);
-            try (GZIPInputStream gzis = new GZIPInputStream(bais)) {
-                ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                byte[] buffer = new byte[1024];
-                int len;
-                while ((len = gzis.read(buffer)) != -1) {
-                    baos.write(buffer, 0, len);
+            while (target.hasRemaining() && !inflater.finished()) {
+                int read = inflater.inflate(target);
+                if (read == 0) {
+                    if (inflater.needsDictionary()) {
+                        Dictionary dictionary = decodeDictionary(inflater.getAdler());
+                        inflater.setDictionary(dictionary.bytes);
+                    } else if (inflater.needsInput()) {
+                        break;
+                    }
                 }
-                return baos.toByteArray();
             }
-        } catch (Exception e) {
-            // Если распаковка не удалась, возможно данные не были сжаты
-            return data;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted compressed packet payload", e);
+        }
+        if (target.position() != rawLength) {
+            throw new IllegalStateException("Compressed payload size mismatch: expected "
+                + rawLength + ", got " + target.position());
         }
+        out.writerIndex(rawLength);
     }
-    
+
+    // ==================== СЛОВАРЬ ====================
+
+    /**
+     * Словарь для отправки: всегда собственный (сервер сжимает своим словарём)
+     */
+    private static Dictionary encodeDictionary() {
+        CardDictionary cards = CardRegistry.getDictionary();
+        if (cards == null) {
+            // Реестр ещё не заморожен - сжимаем без словаря
+            return null;
+        }
+        Dictionary dictionary = localDictionary;
+        if (dictionary == null || dictionary.source != cards) {
+            dictionary = new Dictionary(buildDictionary(cards, LeaderRegistry.getDictionary()), cards);
+            localDictionary = dictionary;
+        }
+        return dictionary;
+    }
+
+    /**
+     * Словарь для приёма: серверный, если получен, иначе собственный
+     */
+    private static Dictionary decodeDictionary(int adler) {
+        Dictionary remote = remoteDictionary;
+        if (remote != null && remote.adler == adler) {
+            return remote;
+        }
+        Dictionary local = encodeDictionary();
+        if (local != null && local.adler == adler) {
+            return local;
+        }
+        throw new IllegalStateException("Compression dictionary not synchronized with server");
+    }
+
+    /**
+     * Байты словаря этой стороны для передачи клиенту (пустой массив, если реестр не заморожен)
+     */
+    public static byte[] getDictionaryBytes() {
+        Dictionary dictionary = encodeDictionary();
+        return dictionary != null ? dictionary.bytes : new byte[0];
+    }
+
+    /**
+     * Устанавливает словарь, полученный от сервера
+     */
+    static void installRemoteDictionary(byte[] bytes) {
+        remoteDictionary = bytes.length > 0 ? new Dictionary(bytes, null) : null;
+    }
+
+    /**
+     * Строит словарь из реестров: строки в том виде, в каком они встречаются в пакетах
+     * (UTF-8). Deflate лучше находит совпадения ближе к концу словаря, поэтому частые
+     * строки (ID карт) идут последними; при переполнении отбрасывается начало.
+     */
+    static byte[] buildDictionary(CardDictionary cards, CardDictionary leaders) {
+        Set<String> factions = new LinkedHashSet<>();
+        StringBuilder names = new StringBuilder();
+        StringBuilder ids = new StringBuilder();
+        if (leaders != null) {
+            for (String leaderId : leaders.getOrderedIds()) {
+                ids.append(leaderId).append('\n');
+            }
+        }
+        for (String cardId : cards.getOrderedIds()) {
+            Card card = CardRegistry.getCard(cardId);
+            if (card != null) {
+                names.append(card.getName()).append('\n');
+                if (card.getFaction() != null) {
+                    factions.add(card.getFaction());
+                }
+            }
+            ids.append(cardId).append('\n');
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(String.join("\n", factions).getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(names.toString().getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(ids.toString().getBytes(StandardCharsets.UTF_8));
+        byte[] bytes = out.toByteArray();
+        if (bytes.length > MAX_DICTIONARY_SIZE) {
+            bytes = Arrays.copyOfRange(bytes, bytes.length - MAX_DICTIONARY_SIZE, bytes.length);
+        }
+        return bytes;
+    }
+
+    // ==================== МЕТРИКИ ====================
+
+    private static void record(String packetType, int rawBytes, int wireBytes, long compressNanos, long decompressNanos) {
+        CompressionStats packetStats = stats.computeIfAbsent(packetType, k -> new CompressionStats());
+        packetStats.packets.increment();
+        packetStats.rawBytes.add(rawBytes);
+        packetStats.wireBytes.add(wireBytes);
+        packetStats.compressNanos.add(compressNanos);
+        packetStats.decompressNanos.add(decompressNanos);
+    }
+
+    /**
+     * Метрики сжатия по типам пакетов (отсортированы по имени)
+     */
+    public static Map<String, CompressionStats> getStats() {
+        return Collections.unmodifiableMap(new TreeMap<>(stats));
+    }
+
+    public static void resetStats() {
+        stats.clear();
+    }
+
+    /**
+     * Метрики сжатия одного типа пакетов
+     */
+    public static class CompressionStats {
+        private final LongAdder packets = new LongAdder();
+        private final LongAdder rawBytes = new LongAdder();
+        private final LongAdder wireBytes = new LongAdder();
+        private final LongAdder compressNanos = new LongAdder();
+        private final LongAdder decompressNanos = new LongAdder();
+
+        public long getPackets() { return packets.sum(); }
+        public long getRawBytes() { return rawBytes.sum(); }
+        public long getWireBytes() { return wireBytes.sum(); }
+
+        /**
+         * Отношение переданного размера к исходному (меньше - лучше)
+         */
+        public double getRatio() {
+            long raw = rawBytes.sum();
+            return raw > 0 ? (double) wireBytes.sum() / raw : 1.0;
+        }
+
+        /**
+         * Среднее время сжатия и распаковки на пакет в микросекундах
+         */
+        public double getAverageMicros() {
+            long count = packets.sum();
+            return count > 0 ? (compressNanos.sum() + decompressNanos.sum()) / 1000.0 / count : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("packets=%d, raw=%d, wire=%d, ratio=%.2f, avg=%.1fus",
+                getPackets(), getRawBytes(), getWireBytes(), getRatio(), getAverageMicros());
+        }
+    }
+
     /**
      * Проверяет, нужно ли сжимать данные
      */
@@ -69,4 +365,3 @@ public class PacketCompression {
         return data != null && data.length >= COMPRESSION_THRESHOLD;
     }
 }
-
@@ -0,0 +1,175 @@
+package com.bmfalkye.network;
+
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Ограничение частоты пакетов от клиента до постановки в очередь серверного потока.
+ *
+ * <p>Для каждого игрока и типа пакета ведётся корзина токенов: пакет проходит, если в корзине
+ * есть токен, иначе отбрасывается прямо в сетевом потоке - без {@code enqueueWork}, поэтому
+ * поток пакетов не занимает время тика. Отброшенные пакеты только считаются; раз в секунду
+ * счётчики передаются в {@link com.bmfalkye.anticheat.AntiCheatSystem} ({@link #reportDrops()}).
+ * Отброшенный ход, который клиент уже показал, отмечается обработанным: клиент получает
+ * состояние сервера и откатывает предсказание.
+ *
+ * <p>Лимиты заданы с запасом над темпом живого игрока: частые действия (подтверждения состояния)
+ * получают большие корзины, ходы и запросы экранов - небольшие.
+ */
+public class PacketRateLimiter {
+
+    /**
+     * Лимит типа пакета: размер корзины (допустимая пачка) и пополнение в секунду
+     */
+    static class Limit {
+        final int burst;
+        final double perSecond;
+
+        Limit(int burst, double perSecond) {
+            this.burst = burst;
+            this.perSecond = perSecond;
+        }
+    }
+
+    // Лимит пакетов, для которых не задан свой
+    private static final Limit DEFAULT_LIMIT = new Limit(20, 10);
+    private static final Map<Class<?>, Limit> LIMITS = new HashMap<>();
+
+    static {
+        // Ходы в партии
+        LIMITS.put(NetworkHandler.PlayCardPacket.class, new Limit(5, 3));
+        LIMITS.put(NetworkHandler.PassPacket.class, new Limit(3, 1));
+        LIMITS.put(NetworkHandler.UseLeaderPacket.class, new Limit(3, 1));
+        LIMITS.put(NetworkHandler.SurrenderPacket.class, new Limit(2, 0.5));
+        LIMITS.put(NetworkHandler.SendEmotePacket.class, new Limit(5, 1));
+        // Синхронизация состояния: подтверждение на каждое сообщение состояния
+        LIMITS.put(GameStatePackets.GameStateAckPacket.class, new Limit(60, 40));
+        LIMITS.put(GameStatePackets.RequestFullGameStatePacket.class, new Limit(3, 0.5));
+        // Запросы экранов
+        LIMITS.put(PagePackets.RequestPagePacket.class, new Limit(10, 5));
+        LIMITS.put(NetworkHandler.RequestStatisticsPacket.class, new Limit(5, 1));
+        LIMITS.put(NetworkHandler.RequestLeaderboardPacket.class, new Limit(5, 1));
+        LIMITS.put(NetworkHandler.RequestSeasonPacket.class, new Limit(5, 1));
+        LIMITS.put(NetworkHandler.RequestEventsPacket.class, new Limit(5, 1));
+        LIMITS.put(NetworkHandler.RequestReplaysPacket.class, new Limit(5, 1));
+        LIMITS.put(BossPackets.RequestBossesPacket.class, new Limit(5, 1));
+        LIMITS.put(ShopPackets.RequestShopItemsPacket.class, new Limit(5, 1));
+        LIMITS.put(ShopPackets.BuyCardPacket.class, new Limit(5, 2));
+    }
+
+    /**
+     * Корзина токенов одного типа пакета. Пакеты одного соединения обрабатывает один
+     * сетевой поток, поэтому синхронизация почти не конкурирует.
+     */
+    static class TokenBucket {
+        private final Limit limit;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(Limit limit, long now) {
+            this.limit = limit;
+            this.tokens = limit.burst;
+            this.lastRefill = now;
+        }
+
+        synchronized boolean tryAcquire(long now) {
+            if (now > lastRefill) {
+                tokens = Math.min(limit.burst, tokens + (now - lastRefill) * limit.perSecond / 1_000_000_000.0);
+                lastRefill = now;
+            }
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Корзины игрока и число отброшенных пакетов с последнего отчёта
+     */
+    private static class PlayerBuckets {
+        final Map<Class<?>, TokenBucket> buckets = new ConcurrentHashMap<>();
+        final AtomicInteger unreportedDrops = new AtomicInteger();
+    }
+
+    private static final Map<UUID, PlayerBuckets> players = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, LongAdder> droppedByType = new ConcurrentHashMap<>();
+
+    /**
+     * Оборачивает обработчик пакета проверкой лимита. Пакеты от сервера (на клиенте
+     * отправителя нет) проходят без проверки.
+     */
+    static <MSG> BiConsumer<MSG, Supplier<NetworkEvent.Context>> guard(
+            Class<MSG> type, BiConsumer<MSG, Supplier<NetworkEvent.Context>> handler) {
+        return (msg, ctx) -> {
+            net.minecraft.server.level.ServerPlayer sender = ctx.get().getSender();
+            if (sender != null && !tryAcquire(sender.getUUID(), type, System.nanoTime())) {
+                // Пакет не доходит до серверного потока
+                if (msg instanceof NetworkHandler.PredictedAction action) {
+                    NetworkHandler.acknowledgeAction(sender, action.getActionSequence());
+                }
+                ctx.get().setPacketHandled(true);
+                return;
+            }
+            handler.accept(msg, ctx);
+        };
+    }
+
+    /**
+     * Забирает токен из корзины игрока для типа пакета
+     *
+     * @return true, если пакет можно обработать
+     */
+    static boolean tryAcquire(UUID playerUUID, Class<?> type, long nowNanos) {
+        PlayerBuckets buckets = players.computeIfAbsent(playerUUID, k -> new PlayerBuckets());
+        TokenBucket bucket = buckets.buckets.computeIfAbsent(type,
+            k -> new TokenBucket(LIMITS.getOrDefault(k, DEFAULT_LIMIT), nowNanos));
+        if (bucket.tryAcquire(nowNanos)) {
+            return true;
+        }
+        buckets.unreportedDrops.incrementAndGet();
+        droppedByType.computeIfAbsent(type, k -> new LongAdder()).increment();
+        return false;
+    }
+
+    /**
+     * Передаёт античиту число отброшенных пакетов по игрокам. Вызывается раз в секунду
+     * из тика сервера, чтобы нарушение записывалось одно на всплеск, а не на каждый пакет.
+     */
+    public static void reportDrops() {
+        for (Map.Entry<UUID, PlayerBuckets> entry : players.entrySet()) {
+            int dropped = entry.getValue().unreportedDrops.getAndSet(0);
+            if (dropped > 0) {
+                com.bmfalkye.anticheat.AntiCheatSystem.recordPacketFlood(entry.getKey(), dropped);
+            }
+        }
+    }
+
+    /**
+     * Удаляет корзины игрока (при отключении)
+     */
+    public static void clearPlayer(UUID playerUUID) {
+        players.remove(playerUUID);
+    }
+
+    /**
+     * Число отброшенных пакетов по типам с запуска сервера
+     */
+    public static Map<String, Long> getDroppedStats() {
+        Map<String, Long> stats = new HashMap<>();
+        for (Map.Entry<Class<?>, LongAdder> entry : droppedByType.entrySet()) {
+            stats.put(entry.getKey().getSimpleName(), entry.getValue().sum());
+        }
+        return Collections.unmodifiableMap(stats);
+    }
+}
@@ -0,0 +1,132 @@
+package com.bmfalkye.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkDirection;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Сетевые пакеты постраничной загрузки списков
+ */
+public class PagePackets {
+
+    /**
+     * Запрос страницы списка (клиент -> сервер).
+     *
+     * <p>Курсор 0 начинает новый просмотр: сервер снимает снимок списка и возвращает новый
+     * курсор. Следующие страницы запрашиваются с этим курсором и смещением, поэтому список
+     * не "съезжает" между страницами. Размер страницы - пожелание клиента, сервер его ограничивает.
+     */
+    public static class RequestPagePacket {
+        private final PagedListType type;
+        private final int cursor;
+        private final int offset;
+        private final int pageSize;
+
+        public RequestPagePacket(PagedListType type, int cursor, int offset, int pageSize) {
+            this.type = type;
+            this.cursor = cursor;
+            this.offset = offset;
+            this.pageSize = pageSize;
+        }
+
+        public static void encode(RequestPagePacket msg, FriendlyByteBuf buffer) {
+            buffer.writeEnum(msg.type);
+            buffer.writeVarInt(msg.cursor);
+            buffer.writeVarInt(msg.offset);
+            buffer.writeVarInt(msg.pageSize);
+        }
+
+        public static RequestPagePacket decode(FriendlyByteBuf buffer) {
+            return new RequestPagePacket(buffer.readEnum(PagedListType.class), buffer.readVarInt(),
+                buffer.readVarInt(), buffer.readVarInt());
+        }
+
+        public static void handle(RequestPagePacket msg, Supplier<NetworkEvent.Context> ctx) {
+            ctx.get().enqueueWork(() -> {
+                ServerPlayer player = ctx.get().getSender();
+                if (player != null) {
+                    PagePacket page = PagedQueries.getPage(player, msg.type, msg.cursor, msg.offset, msg.pageSize);
+                    if (page != null) {
+                        NetworkHandler.INSTANCE.sendTo(page, player.connection.connection,
+                            NetworkDirection.PLAY_TO_CLIENT);
+                    }
+                }
+            });
+            ctx.get().setPacketHandled(true);
+        }
+
+        public PagedListType getType() { return type; }
+        public int getCursor() { return cursor; }
+        public int getOffset() { return offset; }
+        public int getPageSize() { return pageSize; }
+    }
+
+    /**
+     * Страница списка (сервер -> клиент)
+     */
+    public static class PagePacket {
+        private final PagedListType type;
+        private final int cursor;
+        private final int offset;
+        // Размер всего списка в снимке курсора
+        private final int total;
+        private final List<Object> items;
+
+        public PagePacket(PagedListType type, int cursor, int offset, int total, List<Object> items) {
+            this.type = type;
+            this.cursor = cursor;
+            this.offset = offset;
+            this.total = total;
+            this.items = items;
+        }
+
+        public static void encode(PagePacket msg, FriendlyByteBuf buffer) {
+            buffer.writeEnum(msg.type);
+            buffer.writeVarInt(msg.cursor);
+            buffer.writeVarInt(msg.offset);
+            buffer.writeVarInt(msg.total);
+            PacketCompression.write(buffer, msg.type.getStatsName(), out -> {
+                out.writeVarInt(msg.items.size());
+                for (Object item : msg.items) {
+                    msg.type.writeItem(out, item);
+                }
+            });
+        }
+
+        public static PagePacket decode(FriendlyByteBuf buffer) {
+            PagedListType type = buffer.readEnum(PagedListType.class);
+            int cursor = buffer.readVarInt();
+            int offset = buffer.readVarInt();
+            int total = buffer.readVarInt();
+            FriendlyByteBuf data = PacketCompression.read(buffer, type.getStatsName());
+            int size = data.readVarInt();
+            List<Object> items = new ArrayList<>(Math.min(size, PagedQueries.MAX_PAGE_SIZE));
+            for (int i = 0; i < size; i++) {
+                items.add(type.readItem(data));
+            }
+            return new PagePacket(type, cursor, offset, total, items);
+        }
+
+        public static void handle(PagePacket msg, Supplier<NetworkEvent.Context> ctx) {
+            ctx.get().enqueueWork(() -> {
+                DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
+                    com.bmfalkye.client.ClientPacketHandler.handlePage(msg);
+                });
+            });
+            ctx.get().setPacketHandled(true);
+        }
+
+        public PagedListType getType() { return type; }
+        public int getCursor() { return cursor; }
+        public int getOffset() { return offset; }
+        public int getTotal() { return total; }
+        public List<Object> getItems() { return items; }
+    }
+}
@@ -0,0 +1,96 @@
+package com.bmfalkye.network;
+
+import com.bmfalkye.client.HallOfFameScreen;
+import com.bmfalkye.client.ReplayScreen;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.util.Locale;
+
+/**
+ * Списки, которые клиент получает постранично ({@link PagePackets}).
+ *
+ * <p>Каждый тип задаёт кодирование одного элемента страницы. Источник данных на сервере
+ * задаётся в {@link PagedQueries}. Порядок констант - часть протокола.
+ */
+public enum PagedListType {
+    /** Коллекция карт игрока (ID карт) */
+    CARD_COLLECTION {
+        @Override
+        void writeItem(FriendlyByteBuf buffer, Object item) {
+            CardIdCodec.writeCardId(buffer, (String) item);
+        }
+
+        @Override
+        Object readItem(FriendlyByteBuf buffer) {
+            return CardIdCodec.readCardId(buffer);
+        }
+    },
+    /** Зал Славы */
+    HALL_OF_FAME {
+        @Override
+        void writeItem(FriendlyByteBuf buffer, Object item) {
+            HallOfFameScreen.HallOfFameEntry entry = (HallOfFameScreen.HallOfFameEntry) item;
+            buffer.writeUUID(entry.playerUUID);
+            buffer.writeUtf(entry.playerName != null ? entry.playerName : "", MAX_NAME_LENGTH);
+            buffer.writeVarInt(entry.season);
+        }
+
+        @Override
+        Object readItem(FriendlyByteBuf buffer) {
+            return new HallOfFameScreen.HallOfFameEntry(buffer.readUUID(), buffer.readUtf(MAX_NAME_LENGTH),
+                buffer.readVarInt());
+        }
+    },
+    /** Еженедельный рейтинг */
+    WEEKLY_LEADERBOARD {
+        @Override
+        void writeItem(FriendlyByteBuf buffer, Object item) {
+            HallOfFameScreen.LeaderboardEntry entry = (HallOfFameScreen.LeaderboardEntry) item;
+            buffer.writeUUID(entry.playerUUID);
+            buffer.writeUtf(entry.playerName != null ? entry.playerName : "", MAX_NAME_LENGTH);
+            buffer.writeVarInt(entry.rating);
+        }
+
+        @Override
+        Object readItem(FriendlyByteBuf buffer) {
+            return new HallOfFameScreen.LeaderboardEntry(buffer.readUUID(), buffer.readUtf(MAX_NAME_LENGTH),
+                buffer.readVarInt());
+        }
+    },
+    /** Сохранённые реплеи (новые первыми) */
+    REPLAYS {
+        @Override
+        void writeItem(FriendlyByteBuf buffer, Object item) {
+            ReplayScreen.ReplayInfo info = (ReplayScreen.ReplayInfo) item;
+            buffer.writeUtf(info.replayId);
+            buffer.writeUtf(info.player1Name, MAX_NAME_LENGTH);
+            buffer.writeUtf(info.player2Name, MAX_NAME_LENGTH);
+            buffer.writeUtf(info.winnerName, MAX_NAME_LENGTH);
+            buffer.writeVarInt(info.roundsWon1);
+            buffer.writeVarInt(info.roundsWon2);
+            buffer.writeLong(info.timestamp);
+        }
+
+        @Override
+        Object readItem(FriendlyByteBuf buffer) {
+            return new ReplayScreen.ReplayInfo(buffer.readUtf(), buffer.readUtf(MAX_NAME_LENGTH),
+                buffer.readUtf(MAX_NAME_LENGTH), buffer.readUtf(MAX_NAME_LENGTH),
+                buffer.readVarInt(), buffer.readVarInt(), buffer.readLong());
+        }
+    };
+
+    private static final int MAX_NAME_LENGTH = 256;
+
+    private final String statsName = "page_" + name().toLowerCase(Locale.ROOT);
+
+    /**
+     * Имя типа пакета в статистике сжатия
+     */
+    String getStatsName() {
+        return statsName;
+    }
+
+    abstract void writeItem(FriendlyByteBuf buffer, Object item);
+
+    abstract Object readItem(FriendlyByteBuf buffer);
+}
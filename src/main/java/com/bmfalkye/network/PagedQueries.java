@@ -0,0 +1,159 @@
+package com.bmfalkye.network;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Серверные курсоры постраничной загрузки списков.
+ *
+ * <p>Первый запрос (курсор 0) снимает снимок списка и открывает курсор. Следующие страницы
+ * берутся из снимка, поэтому изменения списка во время прокрутки не сдвигают страницы;
+ * новые данные клиент получает при следующем открытии экрана или по кнопке обновления.
+ * У игрока открыт не больше одного курсора на тип списка, неиспользуемые курсоры истекают.
+ */
+public class PagedQueries {
+    static final int MIN_PAGE_SIZE = 10;
+    static final int MAX_PAGE_SIZE = 100;
+    // Курсор, к которому не обращались это время, удаляется
+    private static final long CURSOR_TTL_MS = 5 * 60 * 1000;
+
+    private static final AtomicInteger nextCursorId = new AtomicInteger(1);
+    private static final Map<UUID, Map<PagedListType, Cursor>> cursors = new ConcurrentHashMap<>();
+
+    /**
+     * Снимок списка для постраничной выдачи
+     */
+    private static class Cursor {
+        final int id;
+        final List<?> snapshot;
+        volatile long lastAccess;
+
+        Cursor(int id, List<?> snapshot) {
+            this.id = id;
+            this.snapshot = snapshot;
+            this.lastAccess = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Страница списка для игрока.
+     *
+     * @param cursorId курсор из предыдущей страницы или 0 для нового просмотра
+     * @param offset индекс первого элемента страницы
+     * @param requestedPageSize желаемый размер страницы (ограничивается сервером)
+     * @return страница или null, если список недоступен
+     */
+    public static PagePackets.PagePacket getPage(ServerPlayer player, PagedListType type, int cursorId,
+                                                 int offset, int requestedPageSize) {
+        Map<PagedListType, Cursor> playerCursors = cursors.computeIfAbsent(player.getUUID(),
+            k -> Collections.synchronizedMap(new EnumMap<>(PagedListType.class)));
+        Cursor cursor = playerCursors.get(type);
+        if (cursorId == 0 || cursor == null || cursor.id != cursorId) {
+            // Новый просмотр или курсор истёк - снимок заново, выдача с начала
+            List<?> snapshot = snapshot(player, type);
+            if (snapshot == null) {
+                return null;
+            }
+            cursor = new Cursor(nextCursorId.getAndIncrement(), snapshot);
+            playerCursors.put(type, cursor);
+            offset = 0;
+        }
+        cursor.lastAccess = System.currentTimeMillis();
+        return slice(type, cursor.id, cursor.snapshot, offset, requestedPageSize);
+    }
+
+    /**
+     * Вырезает страницу из снимка
+     */
+    static PagePackets.PagePacket slice(PagedListType type, int cursorId, List<?> snapshot, int offset,
+                                        int requestedPageSize) {
+        int total = snapshot.size();
+        int from = Math.max(0, Math.min(offset, total));
+        int to = Math.min(total, from + negotiatePageSize(requestedPageSize));
+        return new PagePackets.PagePacket(type, cursorId, from, total, new ArrayList<>(snapshot.subList(from, to)));
+    }
+
+    /**
+     * Размер страницы, который сервер готов отдать
+     */
+    static int negotiatePageSize(int requested) {
+        return Math.max(MIN_PAGE_SIZE, Math.min(MAX_PAGE_SIZE, requested));
+    }
+
+    /**
+     * Снимок списка указанного типа (элементы в формате {@link PagedListType})
+     */
+    private static List<?> snapshot(ServerPlayer player, PagedListType type) {
+        if (!(player.level() instanceof ServerLevel serverLevel)) {
+            return null;
+        }
+        switch (type) {
+            case CARD_COLLECTION: {
+                return new ArrayList<>(com.bmfalkye.storage.PlayerCardCollection.get(serverLevel)
+                    .getPlayerCollection(player));
+            }
+            case HALL_OF_FAME: {
+                List<com.bmfalkye.client.HallOfFameScreen.HallOfFameEntry> entries = new ArrayList<>();
+                for (com.bmfalkye.leaderboard.LeaderboardStorage.HallOfFameEntry entry :
+                        com.bmfalkye.leaderboard.LeaderboardStorage.get(serverLevel).getHallOfFame()) {
+                    entries.add(new com.bmfalkye.client.HallOfFameScreen.HallOfFameEntry(
+                        entry.playerUUID, entry.playerName, entry.season));
+                }
+                return entries;
+            }
+            case WEEKLY_LEADERBOARD: {
+                List<com.bmfalkye.client.HallOfFameScreen.LeaderboardEntry> entries = new ArrayList<>();
+                for (com.bmfalkye.leaderboard.LeaderboardStorage.LeaderboardEntry entry :
+                        com.bmfalkye.leaderboard.WeeklyLeaderboardSystem.getWeeklyLeaderboard(serverLevel)) {
+                    entries.add(new com.bmfalkye.client.HallOfFameScreen.LeaderboardEntry(
+                        entry.playerUUID, entry.playerName, entry.rating));
+                }
+                return entries;
+            }
+            case REPLAYS: {
+                List<com.bmfalkye.client.ReplayScreen.ReplayInfo> entries = new ArrayList<>();
+                for (com.bmfalkye.replay.ReplaySystem.ReplayInfo info :
+                        com.bmfalkye.replay.ReplaySystem.getAllReplays()) {
+                    entries.add(new com.bmfalkye.client.ReplayScreen.ReplayInfo(info.getReplayId(),
+                        nonNull(info.getPlayer1Name()), nonNull(info.getPlayer2Name()),
+                        nonNull(info.getWinnerName()), info.getRoundsWon1(), info.getRoundsWon2(),
+                        info.getTimestamp()));
+                }
+                return entries;
+            }
+            default:
+                return null;
+        }
+    }
+
+    private static String nonNull(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * Удаляет курсоры, к которым давно не обращались
+     */
+    public static void cleanupExpired() {
+        long now = System.currentTimeMillis();
+        for (Map<PagedListType, Cursor> playerCursors : cursors.values()) {
+            playerCursors.values().removeIf(cursor -> now - cursor.lastAccess > CURSOR_TTL_MS);
+        }
+        cursors.values().removeIf(Map::isEmpty);
+    }
+
+    /**
+     * Удаляет курсоры игрока (при отключении)
+     */
+    public static void clearPlayer(UUID playerUUID) {
+        cursors.remove(playerUUID);
+    }
+}
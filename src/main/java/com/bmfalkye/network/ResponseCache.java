@@ -0,0 +1,239 @@
+package com.bmfalkye.network;
+
+import com.bmfalkye.util.ModLogger;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Кэш ответов на запросы экранов, которые только читают данные: статистика, рейтинги,
+ * сезон, события, боссы и магазин.
+ *
+ * <p>Ответ кодируется один раз и хранится готовыми байтами. Повторное открытие экрана
+ * отправляет те же байты без обращения к SavedData и без повторного кодирования.
+ * Записи сбрасываются по событиям, которые меняют данные ответа (конец игры, прогресс,
+ * баланс, коллекция, рейтинг, сезон, события), а на случай пропущенного события - по TTL.
+ *
+ * <p>Хранимые буферы не меняются после кодирования: пакеты копируют их без сдвига индексов,
+ * поэтому один буфер можно отправлять нескольким игрокам параллельно.
+ */
+public class ResponseCache {
+    // Ограничение на число записей каждого типа (примерно по одной на игрока онлайн)
+    private static final int MAX_ENTRIES_PER_TYPE = 1024;
+    // Область общих для всех игроков ответов
+    private static final UUID GLOBAL_SCOPE = new UUID(0L, 0L);
+
+    /**
+     * Кэшируемые ответы
+     */
+    public enum ResponseType {
+        /** Статистика игрока */
+        STATISTICS(true, 60_000),
+        /** Зал Славы и еженедельный рейтинг (общий для всех) */
+        LEADERBOARD(false, 60_000),
+        /** Сезонный прогресс игрока и таблица сезона */
+        SEASON(true, 60_000),
+        /** Активные события с прогрессом игрока (TTL короче - ответ содержит оставшееся время) */
+        EVENTS(true, 30_000),
+        /** Доступные игроку боссы */
+        BOSSES(true, 60_000),
+        /** Магазин карт (зависит от баланса и коллекции игрока) */
+        SHOP_ITEMS(true, 60_000);
+
+        private final boolean perPlayer;
+        private final long ttlMs;
+
+        ResponseType(boolean perPlayer, long ttlMs) {
+            this.perPlayer = perPlayer;
+            this.ttlMs = ttlMs;
+        }
+
+        public boolean isPerPlayer() {
+            return perPlayer;
+        }
+    }
+
+    /**
+     * Закодированный ответ
+     */
+    private static class CachedResponse {
+        final FriendlyByteBuf bytes;
+        final long expiresAt;
+
+        CachedResponse(FriendlyByteBuf bytes, long expiresAt) {
+            this.bytes = bytes;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final Map<ResponseType, Map<UUID, CachedResponse>> responses = new EnumMap<>(ResponseType.class);
+    private static final Map<ResponseType, CacheStats> stats = new EnumMap<>(ResponseType.class);
+
+    static {
+        for (ResponseType type : ResponseType.values()) {
+            responses.put(type, new ConcurrentHashMap<>());
+            stats.put(type, new CacheStats());
+        }
+    }
+
+    /**
+     * Возвращает закодированный ответ из кэша или кодирует его.
+     *
+     * @param type тип ответа
+     * @param player игрок, запросивший ответ (для общих ответов не влияет на ключ)
+     * @param writer записывает тело ответа (вызывается только при промахе)
+     * @return байты ответа; буфер нельзя изменять
+     */
+    public static FriendlyByteBuf get(ResponseType type, ServerPlayer player, Consumer<FriendlyByteBuf> writer) {
+        return get(type, player.getUUID(), writer);
+    }
+
+    static FriendlyByteBuf get(ResponseType type, UUID playerUUID, Consumer<FriendlyByteBuf> writer) {
+        UUID scope = type.perPlayer ? playerUUID : GLOBAL_SCOPE;
+        Map<UUID, CachedResponse> typeResponses = responses.get(type);
+        CacheStats typeStats = stats.get(type);
+        long now = System.currentTimeMillis();
+
+        CachedResponse cached = typeResponses.get(scope);
+        if (cached != null && cached.expiresAt > now) {
+            typeStats.hits.increment();
+            return cached.bytes;
+        }
+        typeStats.misses.increment();
+
+        FriendlyByteBuf bytes = new FriendlyByteBuf(Unpooled.buffer());
+        writer.accept(bytes);
+        if (typeResponses.size() >= MAX_ENTRIES_PER_TYPE) {
+            typeResponses.values().removeIf(response -> response.expiresAt <= now);
+        }
+        if (typeResponses.size() < MAX_ENTRIES_PER_TYPE || typeResponses.containsKey(scope)) {
+            typeResponses.put(scope, new CachedResponse(bytes, now + type.ttlMs));
+        }
+        return bytes;
+    }
+
+    /**
+     * Сбрасывает все ответы указанного типа
+     */
+    public static void invalidate(ResponseType type) {
+        Map<UUID, CachedResponse> typeResponses = responses.get(type);
+        if (!typeResponses.isEmpty()) {
+            stats.get(type).invalidations.add(typeResponses.size());
+            typeResponses.clear();
+        }
+    }
+
+    /**
+     * Сбрасывает ответ указанного типа для игрока
+     */
+    public static void invalidatePlayer(ResponseType type, UUID playerUUID) {
+        if (!type.perPlayer) {
+            invalidate(type);
+            return;
+        }
+        if (responses.get(type).remove(playerUUID) != null) {
+            stats.get(type).invalidations.increment();
+        }
+    }
+
+    /**
+     * Сбрасывает все персональные ответы игрока (изменился его прогресс или он вышел)
+     */
+    public static void invalidatePlayer(UUID playerUUID) {
+        for (ResponseType type : ResponseType.values()) {
+            if (type.perPlayer) {
+                invalidatePlayer(type, playerUUID);
+            }
+        }
+    }
+
+    /**
+     * Сбрасывает ответы, которые меняются по итогам игры: персональные ответы участников,
+     * рейтинги и таблицу сезона
+     */
+    public static void onGameEnd(ServerPlayer player1, ServerPlayer player2) {
+        if (player1 != null) {
+            invalidatePlayer(player1.getUUID());
+        }
+        if (player2 != null) {
+            invalidatePlayer(player2.getUUID());
+        }
+        invalidate(ResponseType.LEADERBOARD);
+        invalidate(ResponseType.SEASON);
+    }
+
+    /**
+     * Удаляет истёкшие ответы и пишет метрики кэша в лог
+     */
+    public static void cleanupExpired() {
+        long now = System.currentTimeMillis();
+        for (Map<UUID, CachedResponse> typeResponses : responses.values()) {
+            typeResponses.values().removeIf(response -> response.expiresAt <= now);
+        }
+        for (Map.Entry<ResponseType, CacheStats> entry : stats.entrySet()) {
+            if (entry.getValue().getRequests() > 0) {
+                ModLogger.debug("Response cache {}: {}", entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    // ==================== МЕТРИКИ ====================
+
+    /**
+     * Метрики кэша по типам ответов
+     */
+    public static Map<ResponseType, CacheStats> getStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    public static void resetStats() {
+        for (CacheStats typeStats : stats.values()) {
+            typeStats.reset();
+        }
+    }
+
+    /**
+     * Метрики кэша одного типа ответов
+     */
+    public static class CacheStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder invalidations = new LongAdder();
+
+        public long getHits() { return hits.sum(); }
+        public long getMisses() { return misses.sum(); }
+        public long getInvalidations() { return invalidations.sum(); }
+
+        public long getRequests() {
+            return hits.sum() + misses.sum();
+        }
+
+        /**
+         * Доля запросов, обслуженных из кэша
+         */
+        public double getHitRate() {
+            long requests = getRequests();
+            return requests > 0 ? (double) hits.sum() / requests : 0.0;
+        }
+
+        private void reset() {
+            hits.reset();
+            misses.reset();
+            invalidations.reset();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d, hits=%d, misses=%d, hitRate=%.2f, invalidations=%d",
+                getRequests(), getHits(), getMisses(), getHitRate(), getInvalidations());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.bmfalkye.network;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Оценка времени приёма-передачи (RTT) соединения игрока и тайм-аута повторной отправки.
+ *
+ * <p>Сглаженное RTT и его разброс считаются по подтверждениям состояния игры
+ * (алгоритм Джекобсона, как в TCP): тайм-аут = SRTT + 4 * RTTVAR. Каждая повторная
+ * отправка без подтверждения удваивает тайм-аут, новый замер сбрасывает удвоение.
+ */
+public class RttEstimator {
+    // Тайм-аут до первого замера
+    static final long INITIAL_TIMEOUT_MS = 1000;
+    static final long MIN_TIMEOUT_MS = 200;
+    static final long MAX_TIMEOUT_MS = 8000;
+
+    private static final Map<UUID, RttEstimator> estimators = new ConcurrentHashMap<>();
+
+    private double smoothedRtt = -1;
+    private double rttVariance;
+    private int backoff;
+
+    /**
+     * Оценка для игрока (создаётся при первом обращении)
+     */
+    public static RttEstimator forPlayer(UUID playerUUID) {
+        return estimators.computeIfAbsent(playerUUID, k -> new RttEstimator());
+    }
+
+    /**
+     * Удаляет оценку игрока (при отключении)
+     */
+    public static void clearPlayer(UUID playerUUID) {
+        estimators.remove(playerUUID);
+    }
+
+    /**
+     * Учитывает замер RTT. Замеры по повторно отправленным сообщениям не учитываются
+     * (неизвестно, на какую из отправок пришло подтверждение).
+     */
+    public synchronized void onSample(long rttMs) {
+        if (rttMs < 0) {
+            return;
+        }
+        if (smoothedRtt < 0) {
+            smoothedRtt = rttMs;
+            rttVariance = rttMs / 2.0;
+        } else {
+            rttVariance = 0.75 * rttVariance + 0.25 * Math.abs(smoothedRtt - rttMs);
+            smoothedRtt = 0.875 * smoothedRtt + 0.125 * rttMs;
+        }
+        backoff = 0;
+    }
+
+    /**
+     * Повторная отправка не подтверждена - следующий тайм-аут вдвое больше
+     */
+    public synchronized void onRetransmit() {
+        if (backoff < 8) {
+            backoff++;
+        }
+    }
+
+    /**
+     * Текущий тайм-аут повторной отправки в миллисекундах
+     */
+    public synchronized long getRetransmitTimeoutMs() {
+        long timeout = smoothedRtt < 0 ? INITIAL_TIMEOUT_MS
+            : Math.round(smoothedRtt + 4 * rttVariance);
+        timeout = Math.max(MIN_TIMEOUT_MS, timeout) << backoff;
+        return Math.min(timeout, MAX_TIMEOUT_MS);
+    }
+
+    /**
+     * Сглаженное RTT в миллисекундах (-1, если замеров ещё не было)
+     */
+    public synchronized long getSmoothedRttMs() {
+        return smoothedRtt < 0 ? -1 : Math.round(smoothedRtt);
+    }
+}
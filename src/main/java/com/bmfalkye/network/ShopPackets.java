@@ -24,42 +24,11 @@ public class ShopPackets {
             ctx.get().enqueueWork(() -> {
                 net.minecraft.server.level.ServerPlayer player = ctx.get().getSender();
                 if (player != null && player.level() instanceof net.minecraft.server.level.ServerLevel level) {
-                    // Получаем баланс игрока
-                    com.bmfalkye.storage.PlayerCurrency currency = 
-                        com.bmfalkye.storage.PlayerCurrency.get(level);
-                    int playerCoins = currency.getCoins(player);
-                    
-                    // Получаем все карты из реестра
-                    java.util.List<com.bmfalkye.cards.Card> allCards = 
-                        com.bmfalkye.cards.CardRegistry.getAllCards();
-                    
-                    // Фильтруем карты, которые можно купить (исключаем уже имеющиеся)
-                    com.bmfalkye.storage.PlayerCardCollection collection = 
-                        com.bmfalkye.storage.PlayerCardCollection.get(level);
-                    java.util.List<String> playerCards = collection.getCards(player).stream()
-                        .map(com.bmfalkye.cards.Card::getId)
-                        .collect(java.util.stream.Collectors.toList());
-                    
-                    java.util.List<String> shopCardIds = new java.util.ArrayList<>();
-                    java.util.List<Integer> shopCardPrices = new java.util.ArrayList<>();
-                    
-                    for (com.bmfalkye.cards.Card card : allCards) {
-                        // Показываем только карты, которых у игрока нет
-                        if (!playerCards.contains(card.getId())) {
-                            shopCardIds.add(card.getId());
-                            // Цена зависит от редкости
-                            int price = switch (card.getRarity()) {
-                                case COMMON -> 50;
-                                case RARE -> 150;
-                                case EPIC -> 400;
-                                case LEGENDARY -> 1000;
-                            };
-                            shopCardPrices.add(price);
-                        }
-                    }
-                    
+                    // Ответ кэшируется до изменения баланса или коллекции игрока
+                    FriendlyByteBuf data = ResponseCache.get(ResponseCache.ResponseType.SHOP_ITEMS, player,
+                        out -> SendShopItemsPacket.encode(createShopItems(player, level), out));
                     com.bmfalkye.network.NetworkHandler.INSTANCE.sendTo(
-                        new SendShopItemsPacket(playerCoins, shopCardIds, shopCardPrices),
+                        SendShopItemsPacket.preEncoded(data),
                         player.connection.connection,
                         net.minecraftforge.network.NetworkDirection.PLAY_TO_CLIENT
                     );
@@ -67,6 +36,45 @@ public class ShopPackets {
             });
             ctx.get().setPacketHandled(true);
         }
+        
+        private static SendShopItemsPacket createShopItems(net.minecraft.server.level.ServerPlayer player,
+                                                           net.minecraft.server.level.ServerLevel level) {
+            // Получаем баланс игрока
+            com.bmfalkye.storage.PlayerCurrency currency = 
+                com.bmfalkye.storage.PlayerCurrency.get(level);
+            int playerCoins = currency.getCoins(player);
+            
+            // Получаем все карты из реестра
+            java.util.List<com.bmfalkye.cards.Card> allCards = 
+                com.bmfalkye.cards.CardRegistry.getAllCards();
+            
+            // Фильтруем карты, которые можно купить (исключаем уже имеющиеся)
+            com.bmfalkye.storage.PlayerCardCollection collection = 
+                com.bmfalkye.storage.PlayerCardCollection.get(level);
+            java.util.List<String> playerCards = collection.getCards(player).stream()
+                .map(com.bmfalkye.cards.Card::getId)
+                .collect(java.util.stream.Collectors.toList());
+            
+            java.util.List<String> shopCardIds = new java.util.ArrayList<>();
+            java.util.List<Integer> shopCardPrices = new java.util.ArrayList<>();
+            
+            for (com.bmfalkye.cards.Card card : allCards) {
+                // Показываем только карты, которых у игрока нет
+                if (!playerCards.contains(card.getId())) {
+                    shopCardIds.add(card.getId());
+                    // Цена зависит от редкости
+                    int price = switch (card.getRarity()) {
+                        case COMMON -> 50;
+                        case RARE -> 150;
+                        case EPIC -> 400;
+                        case LEGENDARY -> 1000;
+                    };
+                    shopCardPrices.add(price);
+                }
+            }
+            
+            return new SendShopItemsPacket(playerCoins, shopCardIds, shopCardPrices);
+        }
     }
     
     public static class BuyCardPacket {
@@ -115,14 +123,35 @@ public class ShopPackets {
         private final int playerCoins;
         private final List<String> cardIds;
         private final List<Integer> cardPrices;
+        // Готовые байты пакета из ResponseCache (на сервере)
+        private final FriendlyByteBuf encoded;
         
         public SendShopItemsPacket(int playerCoins, List<String> cardIds, List<Integer> cardPrices) {
             this.playerCoins = playerCoins;
             this.cardIds = cardIds;
             this.cardPrices = cardPrices;
+            this.encoded = null;
+        }
+        
+        private SendShopItemsPacket(FriendlyByteBuf encoded) {
+            this.playerCoins = 0;
+            this.cardIds = null;
+            this.cardPrices = null;
+            this.encoded = encoded;
+        }
+        
+        /**
+         * Пакет из байтов, уже закодированных {@link #encode}
+         */
+        static SendShopItemsPacket preEncoded(FriendlyByteBuf encoded) {
+            return new SendShopItemsPacket(encoded);
         }
         
         public static void encode(SendShopItemsPacket msg, FriendlyByteBuf buffer) {
+            if (msg.encoded != null) {
+                buffer.writeBytes(msg.encoded, msg.encoded.readerIndex(), msg.encoded.readableBytes());
+                return;
+            }
             buffer.writeInt(msg.playerCoins);
             buffer.writeInt(msg.cardIds.size());
             for (int i = 0; i < msg.cardIds.size(); i++) {
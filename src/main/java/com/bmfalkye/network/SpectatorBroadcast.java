@@ -0,0 +1,119 @@
+package com.bmfalkye.network;
+
+import com.bmfalkye.game.ClientFalkyeGameSession;
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.tournament.TournamentSpectatorManager;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkDirection;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Трансляция турнирных матчей зрителям.
+ *
+ * <p>Состояние матча кодируется в кадр один раз за интервал трансляции, и один и тот же
+ * {@link GameStatePackets.SpectatorFramePacket} отправляется всем зрителям матча - без
+ * построения и кодирования состояния для каждого зрителя, как в
+ * {@link NetworkHandler#updateGameState}. Кадр, совпадающий с предыдущим, не отправляется.
+ *
+ * <p>Игроки матча получают обновления сразу, зрители - реже: интервал растёт с числом
+ * зрителей и удваивается, когда сервер не успевает за тиками.
+ */
+public class SpectatorBroadcast {
+    // Базовый интервал кадров для зрителей (10 тиков = 2 кадра в секунду)
+    private static final int BASE_INTERVAL_TICKS = 10;
+    // Интервал увеличивается на шаг за каждые SPECTATORS_PER_STEP зрителей
+    private static final int SPECTATORS_PER_STEP = 16;
+    private static final int INTERVAL_STEP_TICKS = 5;
+    private static final int MAX_INTERVAL_TICKS = 40;
+    // Среднее время тика, после которого сервер считается перегруженным
+    private static final float OVERLOADED_TICK_MS = 45.0f;
+
+    private static final Map<String, MatchBroadcast> broadcasts = new ConcurrentHashMap<>();
+
+    /**
+     * Состояние трансляции одного матча
+     */
+    private static class MatchBroadcast {
+        ByteBuf lastFrame;
+        int lastFrameTick = Integer.MIN_VALUE / 2;
+    }
+
+    /**
+     * Вызывается каждый тик сервера
+     */
+    public static void tick(MinecraftServer server) {
+        Map<String, Set<UUID>> watched = TournamentSpectatorManager.getWatchedMatches();
+        // Трансляции матчей без зрителей больше не нужны
+        broadcasts.keySet().retainAll(watched.keySet());
+        if (watched.isEmpty()) {
+            return;
+        }
+
+        int tick = server.getTickCount();
+        boolean overloaded = server.getAverageTickTime() > OVERLOADED_TICK_MS;
+        for (Map.Entry<String, Set<UUID>> entry : watched.entrySet()) {
+            String matchKey = entry.getKey();
+            Set<UUID> spectators = entry.getValue();
+            MatchBroadcast broadcast = broadcasts.computeIfAbsent(matchKey, k -> new MatchBroadcast());
+            if (tick - broadcast.lastFrameTick < getInterval(spectators.size(), overloaded)) {
+                continue;
+            }
+
+            FalkyeGameSession session = TournamentSpectatorManager.findSessionForMatch(matchKey);
+            if (session == null) {
+                // Матч завершён
+                TournamentSpectatorManager.removeMatch(matchKey);
+                broadcasts.remove(matchKey);
+                continue;
+            }
+            broadcast.lastFrameTick = tick;
+
+            ByteBuf frame = encodeFrame(NetworkHandler.createClientSession(session, null));
+            if (broadcast.lastFrame != null && ByteBufUtil.equals(frame, broadcast.lastFrame)) {
+                continue;
+            }
+            // Предыдущий кадр не освобождается: он может ещё кодироваться в сетевом потоке
+            broadcast.lastFrame = frame;
+
+            GameStatePackets.SpectatorFramePacket packet = new GameStatePackets.SpectatorFramePacket(frame);
+            for (UUID spectatorUUID : spectators) {
+                ServerPlayer spectator = server.getPlayerList().getPlayer(spectatorUUID);
+                if (spectator == null) {
+                    TournamentSpectatorManager.removeSpectator(spectatorUUID);
+                    continue;
+                }
+                PacketBatcher.addToBatch(NetworkHandler.INSTANCE, packet, spectator,
+                    NetworkDirection.PLAY_TO_CLIENT, NetworkErrorHandler.PacketPriority.NORMAL, null);
+            }
+        }
+    }
+
+    /**
+     * Интервал между кадрами для матча с указанным числом зрителей
+     */
+    static int getInterval(int spectatorCount, boolean overloaded) {
+        int interval = BASE_INTERVAL_TICKS + (spectatorCount / SPECTATORS_PER_STEP) * INTERVAL_STEP_TICKS;
+        if (overloaded) {
+            interval *= 2;
+        }
+        return Math.min(interval, MAX_INTERVAL_TICKS);
+    }
+
+    /**
+     * Кодирует состояние матча в кадр (неизменяемый после создания)
+     */
+    static ByteBuf encodeFrame(ClientFalkyeGameSession clientSession) {
+        FriendlyByteBuf frame = new FriendlyByteBuf(Unpooled.buffer());
+        NetworkHandler.encodeFalkyeGameSessionForClient(clientSession, frame);
+        return frame;
+    }
+}
@@ -57,6 +57,8 @@ public class BossSystem {
      */
     public static void markBossDefeated(ServerPlayer player, String bossId) {
         defeatedBosses.computeIfAbsent(player.getUUID(), k -> new HashSet<>()).add(bossId);
+        com.bmfalkye.network.ResponseCache.invalidatePlayer(
+            com.bmfalkye.network.ResponseCache.ResponseType.BOSSES, player.getUUID());
     }
     
     /**
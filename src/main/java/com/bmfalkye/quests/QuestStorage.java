@@ -1,17 +1,17 @@
 package com.bmfalkye.quests;
 
+import com.bmfalkye.storage.AsyncSavedData;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.level.saveddata.SavedData;
 
 import java.util.*;
 
 /**
  * Хранилище прогресса квестов игроков
  */
-public class QuestStorage extends SavedData {
+public class QuestStorage extends AsyncSavedData {
     // UUID игрока -> Map<ID квеста, прогресс>
     private final Map<UUID, Map<String, QuestProgress>> playerQuests = new HashMap<>();
     
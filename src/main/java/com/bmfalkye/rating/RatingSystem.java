@@ -110,8 +110,8 @@ public class RatingSystem {
         if (!oldWinnerRank.equals(newWinnerRank)) {
             winner.sendSystemMessage(Component.literal(
                 "§a§lНОВЫЙ РАНГ! " + newWinnerRank.getColorCode() + newWinnerRank.getDisplayName()));
-            com.bmfalkye.network.NetworkHandler.addActionLog(winner, 
-                "§a§lНОВЫЙ РАНГ! " + newWinnerRank.getColorCode() + newWinnerRank.getDisplayName());
+            com.bmfalkye.network.NetworkHandler.addActionLog(winner,
+                com.bmfalkye.network.ActionLogCode.RANK_UP, newWinnerRank.getColorCode() + newWinnerRank.getDisplayName());
             
             // Проверяем достижение ранга Легенда
             if (newWinnerRank == Rank.LEGEND) {
@@ -122,8 +122,8 @@ public class RatingSystem {
         if (!oldLoserRank.equals(newLoserRank)) {
             loser.sendSystemMessage(Component.literal(
                 "§c§lИЗМЕНЕНИЕ РАНГА: " + newLoserRank.getColorCode() + newLoserRank.getDisplayName()));
-            com.bmfalkye.network.NetworkHandler.addActionLog(loser, 
-                "§c§lИЗМЕНЕНИЕ РАНГА: " + newLoserRank.getColorCode() + newLoserRank.getDisplayName());
+            com.bmfalkye.network.NetworkHandler.addActionLog(loser,
+                com.bmfalkye.network.ActionLogCode.RANK_CHANGED, newLoserRank.getColorCode() + newLoserRank.getDisplayName());
         }
         
         // Уведомляем об изменении рейтинга
@@ -167,15 +167,25 @@ public class RatingSystem {
         PlayerProgress progress = storage.getPlayerProgress(player);
         progress.getStatistics().put("rating", rating.getRating());
         storage.setPlayerProgress(player, progress);
+        com.bmfalkye.storage.PlayerIndex.get((net.minecraft.server.level.ServerLevel) player.level())
+            .updateRating(player.getUUID(), player.getName().getString(), rating.getRating());
     }
     
     /**
-     * Получает топ игроков по рейтингу
+     * Выгружает рейтинг игрока из памяти (он сохранён в прогрессе и индексе игроков)
+     */
+    public static void evictPlayer(UUID playerUUID) {
+        playerRatings.remove(playerUUID);
+    }
+    
+    /**
+     * Получает топ игроков по рейтингу (включая игроков не в сети - по индексу игроков)
      */
     public static List<RatingEntry> getTopPlayers(int count) {
         List<RatingEntry> entries = new ArrayList<>();
-        for (Map.Entry<UUID, PlayerRating> entry : playerRatings.entrySet()) {
-            entries.add(new RatingEntry(entry.getKey(), entry.getValue().getRating()));
+        for (com.bmfalkye.storage.PlayerIndex.Entry entry : com.bmfalkye.storage.PlayerIndex.getEntries()) {
+            PlayerRating loaded = playerRatings.get(entry.getPlayerUUID());
+            entries.add(new RatingEntry(entry.getPlayerUUID(), loaded != null ? loaded.getRating() : entry.getRating()));
         }
         entries.sort((a, b) -> Integer.compare(b.rating, a.rating));
         return entries.subList(0, Math.min(count, entries.size()));
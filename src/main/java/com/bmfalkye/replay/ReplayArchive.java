@@ -0,0 +1,748 @@
+package com.bmfalkye.replay;
+
+import com.bmfalkye.storage.SavePipeline;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.Tag;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Архив реплеев на диске.
+ *
+ * <p>Реплеи дописываются в конец файлов-сегментов ({@code replays-<n>.seg}): каждая запись -
+ * сжатый блок с CRC. Внутри записи строки (имена, действия, ID карт) собраны в таблицу,
+ * а ходы ссылаются на неё числовыми индексами; время хода хранится разницей с предыдущим.
+ * Таблица своя у каждой записи, поэтому номера не зависят от реестра карт и версии мода.
+ *
+ * <p>Индекс (ID реплея, игроки, дата, сегмент и смещение) держится в памяти и пишется в
+ * {@code index.dat} через {@link SavePipeline} не на каждый реплей, а периодически
+ * ({@link #flushIndex()}). Вместе с индексом сохраняется, до какого места он покрывает каждый
+ * сегмент: записи после этого места при открытии дочитываются из хвостов сегментов. Ходы читаются только при открытии реплея -
+ * из отображённого в память сегмента. Объём архива ограничен
+ * {@code -Dbmfalkye.replayArchiveMb} (по умолчанию 256 МБ): при превышении удаляется самый
+ * старый сегмент целиком.
+ *
+ * <p>Удаление реплея дописывает в сегмент запись-метку с его ID, поэтому восстановленный
+ * по сегментам индекс не возвращает удалённые реплеи.
+ */
+public class ReplayArchive {
+    private static final String SEGMENT_PREFIX = "replays-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_FILE = "index.dat";
+    private static final long SEGMENT_MAX_BYTES = 8L * 1024 * 1024;
+    private static final long DEFAULT_MAX_MB = 256;
+    private static final int FORMAT_VERSION = 1;
+    // Первый байт записи-метки удаления (вместо версии формата)
+    private static final int TOMBSTONE = 0xFF;
+    // Заголовок блока: длина и CRC сжатых данных
+    private static final int FRAME_HEADER = 8;
+    private static final int MAX_RECORD_BYTES = 16 * 1024 * 1024;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long segmentMaxBytes;
+    private final Map<String, ReplaySystem.ReplayInfo> index = new ConcurrentHashMap<>();
+    // Записи, ещё не дописанные потоком записи
+    private final Map<String, byte[]> unwritten = new ConcurrentHashMap<>();
+    private final Map<Integer, MappedByteBuffer> mappings = new ConcurrentHashMap<>();
+    // Номер сегмента -> размер (с учётом записей в очереди)
+    private final TreeMap<Integer, Long> segmentSizes = new TreeMap<>();
+    // Сегменты, поставленные в очередь на удаление (учитываются в размере, пока файл не удалён)
+    private final Set<Integer> deletingSegments = new HashSet<>();
+    private int currentSegment;
+    // Индекс в памяти изменился после последней записи index.dat
+    private boolean indexDirty;
+
+    public ReplayArchive(Path directory, long maxBytes) {
+        this(directory, maxBytes, SEGMENT_MAX_BYTES);
+    }
+
+    ReplayArchive(Path directory, long maxBytes, long segmentMaxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.segmentMaxBytes = segmentMaxBytes;
+    }
+
+    static long getMaxBytesFromProperty() {
+        return Math.max(1, Long.getLong("bmfalkye.replayArchiveMb", DEFAULT_MAX_MB)) * 1024 * 1024;
+    }
+
+    /**
+     * Читает индекс и размеры сегментов. Если индекса нет или он повреждён, он
+     * восстанавливается по заголовкам записей в сегментах
+     */
+    public synchronized void open() {
+        segmentSizes.clear();
+        deletingSegments.clear();
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+                for (Path file : files) {
+                    Integer segment = parseSegment(file.getFileName().toString());
+                    if (segment != null) {
+                        segmentSizes.put(segment, Files.size(file));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            com.bmfalkye.util.ModLogger.error("Error opening replay archive",
+                "directory", directory.toString(), "error", e.getMessage());
+        }
+        currentSegment = segmentSizes.isEmpty() ? 0 : segmentSizes.lastKey();
+
+        index.clear();
+        indexDirty = false;
+        if (!readIndex()) {
+            rebuildIndex();
+        }
+        flushIndex();
+        com.bmfalkye.util.ModLogger.info("Replay archive opened",
+            "replays", index.size(), "segments", segmentSizes.size(), "bytes", getTotalBytes());
+    }
+
+    /**
+     * Дописывает реплей в архив. Запись на диск идёт в потоке записи, до её окончания
+     * реплей читается из очереди
+     */
+    public synchronized ReplaySystem.ReplayInfo append(String replayId, ReplaySystem.GameReplay replay) {
+        byte[] frame = encodeFrame(replayId, replay);
+        long offset = allocate(frame.length);
+        int segment = currentSegment;
+
+        ReplaySystem.ReplayInfo info = new ReplaySystem.ReplayInfo(replayId, replay, segment, offset, frame.length);
+        index.put(replayId, info);
+        unwritten.put(replayId, frame);
+        Path file = segmentFile(segment);
+        long position = offset;
+        SavePipeline.submit(() -> {
+            try {
+                writeAt(file, position, frame);
+            } finally {
+                unwritten.remove(replayId, frame);
+            }
+        });
+
+        enforceRetention();
+        indexDirty = true;
+        return info;
+    }
+
+    /**
+     * Читает реплей с ходами
+     *
+     * @return реплей или null, если его нет в индексе или запись повреждена
+     */
+    public ReplaySystem.GameReplay read(String replayId) {
+        ReplaySystem.ReplayInfo info = index.get(replayId);
+        if (info == null) {
+            return null;
+        }
+        try {
+            byte[] frame = unwritten.get(replayId);
+            ReplaySystem.GameReplay replay = decodeFrame(frame != null ? ByteBuffer.wrap(frame) : readFrame(info)).replay;
+            if (replay == null) {
+                throw new IOException("Index points to a deletion mark");
+            }
+            return replay;
+        } catch (IOException | RuntimeException e) {
+            com.bmfalkye.util.ModLogger.error("Error reading replay",
+                "replayId", replayId, "segment", info.segment, "error", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Реплеи архива, новые первыми
+     */
+    public List<ReplaySystem.ReplayInfo> list() {
+        List<ReplaySystem.ReplayInfo> replays = new ArrayList<>(index.values());
+        replays.sort(Comparator.comparingLong(ReplaySystem.ReplayInfo::getTimestamp).reversed());
+        return replays;
+    }
+
+    /**
+     * Убирает реплей из индекса и дописывает метку удаления. Место в сегменте освобождается
+     * вместе с сегментом
+     */
+    public synchronized boolean delete(String replayId) {
+        if (index.remove(replayId) == null) {
+            return false;
+        }
+        byte[] frame = encodeTombstone(replayId);
+        long offset = allocate(frame.length);
+        Path file = segmentFile(currentSegment);
+        SavePipeline.submit(() -> writeAt(file, offset, frame));
+
+        enforceRetention();
+        indexDirty = true;
+        return true;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        long total = 0;
+        for (long size : segmentSizes.values()) {
+            total += size;
+        }
+        return total;
+    }
+
+    /**
+     * Ставит запись индекса в очередь, если он изменился с прошлой записи. Вызывается
+     * периодически и при закрытии архива: реплеи, дописанные после последней записи,
+     * восстанавливаются по хвостам сегментов
+     */
+    public synchronized void flushIndex() {
+        if (indexDirty) {
+            indexDirty = false;
+            writeIndex();
+        }
+    }
+
+    /**
+     * Записывает индекс и освобождает отображения сегментов (при остановке сервера)
+     */
+    public void close() {
+        flushIndex();
+        mappings.clear();
+    }
+
+    Path segmentFile(int segment) {
+        return directory.resolve(String.format(java.util.Locale.ROOT, "%s%06d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private static Integer parseSegment(String name) {
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Место под блок в конце текущего сегмента (при переполнении начинается новый сегмент)
+     *
+     * @return смещение блока в {@link #currentSegment}
+     */
+    private long allocate(int length) {
+        long offset = segmentSizes.getOrDefault(currentSegment, 0L);
+        if (offset > 0 && offset + length > segmentMaxBytes) {
+            currentSegment++;
+            offset = 0;
+        }
+        segmentSizes.put(currentSegment, offset + length);
+        return offset;
+    }
+
+    /**
+     * Удаляет самые старые сегменты, пока архив больше лимита. Сегмент перестаёт учитываться
+     * в размере только после удаления файла: если удалить не удалось (на Windows - пока сегмент
+     * ещё отображён в память), он остаётся в архиве и удаляется при следующей проверке
+     */
+    private void enforceRetention() {
+        while (true) {
+            long retained = 0;
+            Integer oldest = null;
+            for (Map.Entry<Integer, Long> segment : segmentSizes.entrySet()) {
+                if (!deletingSegments.contains(segment.getKey())) {
+                    retained += segment.getValue();
+                    if (oldest == null) {
+                        oldest = segment.getKey();
+                    }
+                }
+            }
+            if (retained <= maxBytes || oldest == null || oldest == currentSegment) {
+                return;
+            }
+            int segment = oldest;
+            deletingSegments.add(segment);
+            index.values().removeIf(info -> info.segment == segment);
+            mappings.remove(segment);
+            Path file = segmentFile(segment);
+            // После записей, поставленных в очередь раньше
+            SavePipeline.submit(() -> {
+                boolean deleted = false;
+                try {
+                    Files.deleteIfExists(file);
+                    deleted = true;
+                } catch (IOException e) {
+                    com.bmfalkye.util.ModLogger.error("Error deleting replay segment",
+                        "file", file.toString(), "error", e.getMessage());
+                }
+                synchronized (this) {
+                    deletingSegments.remove(segment);
+                    if (deleted) {
+                        segmentSizes.remove(segment);
+                    }
+                }
+            });
+        }
+    }
+
+    private static void writeAt(Path file, long position, byte[] frame) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            ByteBuffer data = ByteBuffer.wrap(frame);
+            long target = position;
+            while (data.hasRemaining()) {
+                target += channel.write(data, target);
+            }
+            if (SavePipeline.getFsyncPolicy() != SavePipeline.FsyncPolicy.NONE) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Error writing replay segment " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Блок записи из отображённого в память сегмента
+     */
+    private ByteBuffer readFrame(ReplaySystem.ReplayInfo info) throws IOException {
+        long end = info.offset + info.length;
+        MappedByteBuffer mapped = mappings.get(info.segment);
+        if (mapped == null || mapped.capacity() < end) {
+            // Сегмент вырос с момента отображения - отображаем заново
+            try (FileChannel channel = FileChannel.open(segmentFile(info.segment), StandardOpenOption.READ)) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            mappings.put(info.segment, mapped);
+        }
+        if (mapped.capacity() < end) {
+            throw new IOException("Replay record is beyond the end of segment");
+        }
+        ByteBuffer frame = mapped.duplicate();
+        frame.position((int) info.offset);
+        frame.limit((int) end);
+        return frame.slice();
+    }
+
+    // ========== ИНДЕКС ==========
+
+    private void writeIndex() {
+        ListTag replays = new ListTag();
+        for (ReplaySystem.ReplayInfo info : index.values()) {
+            CompoundTag entry = new CompoundTag();
+            entry.putString("id", info.getReplayId());
+            if (info.getPlayer1UUID() != null) {
+                entry.putString("player1", info.getPlayer1UUID().toString());
+            }
+            if (info.getPlayer2UUID() != null) {
+                entry.putString("player2", info.getPlayer2UUID().toString());
+            }
+            entry.putString("player1Name", info.getPlayer1Name());
+            entry.putString("player2Name", info.getPlayer2Name());
+            entry.putString("winner", info.getWinnerName());
+            entry.putInt("rounds1", info.getRoundsWon1());
+            entry.putInt("rounds2", info.getRoundsWon2());
+            entry.putLong("time", info.getTimestamp());
+            entry.putInt("segment", info.segment);
+            entry.putLong("offset", info.offset);
+            entry.putInt("length", info.length);
+            replays.add(entry);
+        }
+        // Докуда индекс покрывает сегменты: записи дальше дочитываются при открытии.
+        // Блоки в очереди пишутся раньше индекса, поэтому размеры уже учитывают их
+        ListTag segments = new ListTag();
+        for (Map.Entry<Integer, Long> segment : segmentSizes.entrySet()) {
+            CompoundTag entry = new CompoundTag();
+            entry.putInt("segment", segment.getKey());
+            entry.putLong("length", segment.getValue());
+            segments.add(entry);
+        }
+        CompoundTag root = new CompoundTag();
+        root.putInt("version", FORMAT_VERSION);
+        root.put("replays", replays);
+        root.put("segments", segments);
+        SavePipeline.write(directory.resolve(INDEX_FILE), root, null);
+    }
+
+    private boolean readIndex() {
+        Path file = directory.resolve(INDEX_FILE);
+        CompoundTag root = SavePipeline.getUnwrittenSnapshot(file);
+        try {
+            if (root == null) {
+                if (!Files.isRegularFile(file)) {
+                    return segmentSizes.isEmpty();
+                }
+                root = NbtIo.readCompressed(file.toFile());
+            }
+        } catch (IOException | RuntimeException e) {
+            com.bmfalkye.util.ModLogger.warn("Replay index unreadable, rebuilding from segments",
+                "file", file.toString(), "error", e.getMessage());
+            return false;
+        }
+        ListTag replays = root.getList("replays", Tag.TAG_COMPOUND);
+        for (int i = 0; i < replays.size(); i++) {
+            CompoundTag entry = replays.getCompound(i);
+            int segment = entry.getInt("segment");
+            long offset = entry.getLong("offset");
+            int length = entry.getInt("length");
+            // Запись могла не успеть попасть на диск перед сбоем
+            if (offset + length > segmentSizes.getOrDefault(segment, 0L)) {
+                continue;
+            }
+            String replayId = entry.getString("id");
+            index.put(replayId, new ReplaySystem.ReplayInfo(replayId,
+                entry.contains("player1") ? UUID.fromString(entry.getString("player1")) : null,
+                entry.contains("player2") ? UUID.fromString(entry.getString("player2")) : null,
+                entry.getString("player1Name"), entry.getString("player2Name"), entry.getString("winner"),
+                entry.getInt("rounds1"), entry.getInt("rounds2"), entry.getLong("time"),
+                segment, offset, length));
+        }
+
+        // Индекс старого формата без покрытия сегментов считается полным
+        if (root.contains("segments", Tag.TAG_LIST)) {
+            Map<Integer, Long> covered = new HashMap<>();
+            ListTag segments = root.getList("segments", Tag.TAG_COMPOUND);
+            for (int i = 0; i < segments.size(); i++) {
+                CompoundTag entry = segments.getCompound(i);
+                covered.put(entry.getInt("segment"), entry.getLong("length"));
+            }
+            int recovered = 0;
+            for (int segment : segmentSizes.keySet()) {
+                recovered += scanSegment(segment, covered.getOrDefault(segment, 0L));
+            }
+            if (recovered > 0) {
+                indexDirty = true;
+                com.bmfalkye.util.ModLogger.info("Replay index caught up from segment tails", "records", recovered);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Восстанавливает индекс, читая записи всех сегментов подряд
+     */
+    private void rebuildIndex() {
+        for (int segment : segmentSizes.keySet()) {
+            scanSegment(segment, 0);
+        }
+        indexDirty = true;
+        com.bmfalkye.util.ModLogger.info("Replay index rebuilt", "replays", index.size());
+    }
+
+    /**
+     * Применяет к индексу записи сегмента, начиная со смещения {@code from}
+     *
+     * @return число прочитанных записей
+     */
+    private int scanSegment(int segment, long from) {
+        ByteBuffer data;
+        try (FileChannel channel = FileChannel.open(segmentFile(segment), StandardOpenOption.READ)) {
+            if (from >= channel.size()) {
+                return 0;
+            }
+            data = ByteBuffer.allocate((int) (channel.size() - from));
+            long position = from;
+            while (data.hasRemaining() && channel.read(data, position) > 0) {
+                position = from + data.position();
+            }
+            data.flip();
+        } catch (IOException e) {
+            return 0;
+        }
+        int records = 0;
+        while (data.remaining() >= FRAME_HEADER) {
+            int start = data.position();
+            int length = data.getInt(start);
+            if (length <= 0 || length > MAX_RECORD_BYTES || start + FRAME_HEADER + length > data.limit()) {
+                break;
+            }
+            ByteBuffer frame = data.duplicate();
+            frame.limit(start + FRAME_HEADER + length);
+            try {
+                DecodedRecord record = decodeFrame(frame.slice());
+                if (record.replay == null) {
+                    // Метка удаления - реплей был удалён после записи
+                    index.remove(record.replayId);
+                } else {
+                    index.put(record.replayId, new ReplaySystem.ReplayInfo(record.replayId, record.replay,
+                        segment, from + start, FRAME_HEADER + length));
+                }
+            } catch (IOException | RuntimeException e) {
+                break;
+            }
+            records++;
+            data.position(start + FRAME_HEADER + length);
+        }
+        return records;
+    }
+
+    // ========== КОДИРОВАНИЕ ЗАПИСИ ==========
+
+    static byte[] encodeFrame(String replayId, ReplaySystem.GameReplay replay) {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(raw)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(replayId);
+            writeUUID(out, replay.getPlayer1UUID());
+            writeUUID(out, replay.getPlayer2UUID());
+            out.writeUTF(nonNull(replay.getPlayer1Name()));
+            out.writeUTF(nonNull(replay.getPlayer2Name()));
+            out.writeUTF(nonNull(replay.getWinnerName()));
+            writeVarInt(out, replay.getRoundsWon1());
+            writeVarInt(out, replay.getRoundsWon2());
+            out.writeLong(replay.getStartTime());
+            out.writeLong(replay.getTimestamp());
+            writeVarInt(out, replay.getDuration());
+
+            // Таблица строк записи: ходы ссылаются на неё числовыми индексами
+            List<String> strings = new ArrayList<>();
+            Map<String, Integer> stringIds = new HashMap<>();
+            List<ReplaySystem.ReplayMove> moves = replay.getMoves();
+            int[] encoded = new int[moves.size() * 3];
+            for (int i = 0; i < moves.size(); i++) {
+                ReplaySystem.ReplayMove move = moves.get(i);
+                encoded[i * 3] = intern(strings, stringIds, nonNull(move.getPlayerName()));
+                encoded[i * 3 + 1] = intern(strings, stringIds, nonNull(move.getAction()));
+                // 0 - хода без карты
+                encoded[i * 3 + 2] = move.getCardId() != null ? intern(strings, stringIds, move.getCardId()) + 1 : 0;
+            }
+            writeVarInt(out, strings.size());
+            for (String value : strings) {
+                out.writeUTF(value);
+            }
+
+            writeVarInt(out, moves.size());
+            long previous = replay.getStartTime();
+            for (int i = 0; i < moves.size(); i++) {
+                ReplaySystem.ReplayMove move = moves.get(i);
+                writeVarInt(out, encoded[i * 3]);
+                writeVarInt(out, encoded[i * 3 + 1]);
+                writeVarInt(out, encoded[i * 3 + 2]);
+                writeVarInt(out, move.getRound());
+                writeVarLong(out, Math.max(0, move.getTimestamp() - previous));
+                previous = Math.max(previous, move.getTimestamp());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return frame(raw.toByteArray());
+    }
+
+    /**
+     * Запись-метка удаления реплея
+     */
+    static byte[] encodeTombstone(String replayId) {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(raw)) {
+            out.writeByte(TOMBSTONE);
+            out.writeUTF(replayId);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return frame(raw.toByteArray());
+    }
+
+    /**
+     * Сжимает данные записи и добавляет заголовок блока
+     */
+    private static byte[] frame(byte[] data) {
+        byte[] compressed = deflate(data);
+        CRC32 crc = new CRC32();
+        crc.update(compressed);
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER + compressed.length);
+        frame.putInt(compressed.length);
+        frame.putInt((int) crc.getValue());
+        frame.put(compressed);
+        return frame.array();
+    }
+
+    /**
+     * Декодированная запись архива
+     */
+    static class DecodedRecord {
+        final String replayId;
+        // null - метка удаления
+        final ReplaySystem.GameReplay replay;
+
+        DecodedRecord(String replayId, ReplaySystem.GameReplay replay) {
+            this.replayId = replayId;
+            this.replay = replay;
+        }
+    }
+
+    static DecodedRecord decodeFrame(ByteBuffer frame) throws IOException {
+        int length = frame.getInt();
+        int checksum = frame.getInt();
+        if (length <= 0 || length > frame.remaining()) {
+            throw new IOException("Bad replay record length " + length);
+        }
+        byte[] compressed = new byte[length];
+        frame.get(compressed);
+        CRC32 crc = new CRC32();
+        crc.update(compressed);
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Replay record checksum mismatch");
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(inflate(compressed)));
+        int version = in.readUnsignedByte();
+        if (version == TOMBSTONE) {
+            return new DecodedRecord(in.readUTF(), null);
+        }
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported replay record version " + version);
+        }
+        String replayId = in.readUTF();
+        UUID player1UUID = readUUID(in);
+        UUID player2UUID = readUUID(in);
+        String player1Name = in.readUTF();
+        String player2Name = in.readUTF();
+        String winnerName = in.readUTF();
+        int roundsWon1 = readVarInt(in);
+        int roundsWon2 = readVarInt(in);
+        long startTime = in.readLong();
+        long timestamp = in.readLong();
+        int duration = readVarInt(in);
+
+        int stringCount = readVarInt(in);
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            strings[i] = in.readUTF();
+        }
+
+        int moveCount = readVarInt(in);
+        List<ReplaySystem.ReplayMove> moves = new ArrayList<>(Math.min(moveCount, 1024));
+        long time = startTime;
+        for (int i = 0; i < moveCount; i++) {
+            String playerName = strings[readVarInt(in)];
+            String action = strings[readVarInt(in)];
+            int cardIndex = readVarInt(in);
+            int round = readVarInt(in);
+            time += readVarLong(in);
+            moves.add(new ReplaySystem.ReplayMove(playerName, action,
+                cardIndex > 0 ? strings[cardIndex - 1] : null, round, time));
+        }
+
+        return new DecodedRecord(replayId, new ReplaySystem.GameReplay(player1UUID, player2UUID,
+            player1Name, player2Name, winnerName, roundsWon1, roundsWon2, startTime, timestamp, duration, moves));
+    }
+
+    private static int intern(List<String> strings, Map<String, Integer> ids, String value) {
+        return ids.computeIfAbsent(value, k -> {
+            strings.add(k);
+            return strings.size() - 1;
+        });
+    }
+
+    private static String nonNull(String value) {
+        return value != null ? value : "";
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated replay record");
+                }
+                out.write(buffer, 0, count);
+                if (out.size() > MAX_RECORD_BYTES) {
+                    throw new IOException("Replay record too large");
+                }
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted replay record", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeUUID(DataOutput out, UUID uuid) throws IOException {
+        out.writeBoolean(uuid != null);
+        if (uuid != null) {
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        }
+    }
+
+    private static UUID readUUID(DataInput in) throws IOException {
+        return in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("VarLong too long");
+    }
+}
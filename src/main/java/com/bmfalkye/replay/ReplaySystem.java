@@ -6,63 +6,82 @@ import net.minecraft.server.level.ServerPlayer;
 import java.util.*;
 
 /**
- * Система реплеев игр - сохранение и воспроизведение игр
+ * Система реплеев игр - сохранение и воспроизведение игр.
+ * Реплеи хранятся на диске в {@link ReplayArchive}, в памяти держится только индекс
  */
 public class ReplaySystem {
-    private static final Map<String, GameReplay> savedReplays = new HashMap<>();
-    private static final int MAX_REPLAYS = 100; // Максимум сохранённых реплеев
+    // Архив реплеев текущего мира (открывается при запуске сервера)
+    private static volatile ReplayArchive archive;
+    
+    /**
+     * Открывает архив реплеев мира
+     */
+    public static void openArchive(net.minecraft.server.MinecraftServer server) {
+        ReplayArchive opened = new ReplayArchive(
+            server.getWorldPath(net.minecraft.world.level.storage.LevelResource.ROOT)
+                .resolve("data").resolve("bm_falkye_replays"),
+            ReplayArchive.getMaxBytesFromProperty());
+        opened.open();
+        archive = opened;
+    }
+    
+    /**
+     * Закрывает архив (при остановке сервера)
+     */
+    public static void closeArchive() {
+        ReplayArchive current = archive;
+        archive = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+    
+    /**
+     * Записывает индекс архива, если он изменился (периодически из тика сервера)
+     */
+    public static void flushArchiveIndex() {
+        ReplayArchive current = archive;
+        if (current != null) {
+            current.flushIndex();
+        }
+    }
     
     /**
      * Сохраняет реплей игры
      */
     public static String saveReplay(FalkyeGameSession session) {
-        if (session == null || !session.isGameEnded()) {
+        ReplayArchive current = archive;
+        if (session == null || !session.isGameEnded() || current == null) {
             return null;
         }
         
         GameReplay replay = new GameReplay(session);
         String replayId = UUID.randomUUID().toString();
-        savedReplays.put(replayId, replay);
-        
-        // Ограничиваем количество реплеев
-        if (savedReplays.size() > MAX_REPLAYS) {
-            // Удаляем самый старый реплей
-            String oldestId = savedReplays.entrySet().stream()
-                .min(Comparator.comparing(e -> e.getValue().getTimestamp()))
-                .map(Map.Entry::getKey)
-                .orElse(null);
-            if (oldestId != null) {
-                savedReplays.remove(oldestId);
-            }
-        }
-        
+        current.append(replayId, replay);
         return replayId;
     }
     
     /**
-     * Получает реплей по ID
+     * Получает реплей по ID (читается из архива)
      */
     public static GameReplay getReplay(String replayId) {
-        return savedReplays.get(replayId);
+        ReplayArchive current = archive;
+        return current != null ? current.read(replayId) : null;
     }
     
     /**
-     * Получает список всех сохранённых реплеев
+     * Получает список всех сохранённых реплеев (по индексу архива, без чтения ходов)
      */
     public static List<ReplayInfo> getAllReplays() {
-        List<ReplayInfo> replays = new ArrayList<>();
-        for (Map.Entry<String, GameReplay> entry : savedReplays.entrySet()) {
-            replays.add(new ReplayInfo(entry.getKey(), entry.getValue()));
-        }
-        replays.sort(Comparator.comparing(ReplayInfo::getTimestamp).reversed());
-        return replays;
+        ReplayArchive current = archive;
+        return current != null ? current.list() : new ArrayList<>();
     }
     
     /**
      * Воспроизводит реплей для игрока
      */
     public static void playReplay(ServerPlayer player, String replayId) {
-        GameReplay replay = savedReplays.get(replayId);
+        GameReplay replay = getReplay(replayId);
         if (replay == null) {
             player.sendSystemMessage(net.minecraft.network.chat.Component.literal("§cРеплей не найден!"));
             return;
@@ -154,23 +173,29 @@ public class ReplaySystem {
      * Удаляет реплей
      */
     public static boolean deleteReplay(String replayId) {
-        return savedReplays.remove(replayId) != null;
+        ReplayArchive current = archive;
+        return current != null && current.delete(replayId);
     }
     
     /**
      * Класс реплея игры
      */
     public static class GameReplay {
+        private final UUID player1UUID;
+        private final UUID player2UUID;
         private final String player1Name;
         private final String player2Name;
         private final String winnerName;
         private final int roundsWon1;
         private final int roundsWon2;
+        private final long startTime;
         private final long timestamp;
         private final int duration;
-        private final List<ReplayMove> moves = new ArrayList<>();
+        private final List<ReplayMove> moves;
         
         public GameReplay(FalkyeGameSession session) {
+            this.player1UUID = session.getPlayer1() != null ? session.getPlayer1().getUUID() : null;
+            this.player2UUID = session.getPlayer2() != null ? session.getPlayer2().getUUID() : null;
             this.player1Name = session.getPlayer1() != null ? 
                 session.getPlayer1().getName().getString() : "Unknown";
             this.player2Name = session.getPlayer2() != null ? 
@@ -180,17 +205,35 @@ public class ReplaySystem {
                 session.getWinner().getName().getString() : "Draw";
             this.roundsWon1 = session.getRoundsWon(session.getPlayer1());
             this.roundsWon2 = session.getRoundsWon(session.getPlayer2());
+            this.startTime = session.getGameStartTime();
             this.timestamp = System.currentTimeMillis();
-            this.duration = 0; // TODO: Вычислять из сессии
-            
-            // TODO: Сохранять все ходы из сессии
+            this.duration = (int) Math.max(0, (timestamp - startTime) / 1000);
+            this.moves = session.getRecordedMoves();
         }
         
+        GameReplay(UUID player1UUID, UUID player2UUID, String player1Name, String player2Name, String winnerName,
+                   int roundsWon1, int roundsWon2, long startTime, long timestamp, int duration, List<ReplayMove> moves) {
+            this.player1UUID = player1UUID;
+            this.player2UUID = player2UUID;
+            this.player1Name = player1Name;
+            this.player2Name = player2Name;
+            this.winnerName = winnerName;
+            this.roundsWon1 = roundsWon1;
+            this.roundsWon2 = roundsWon2;
+            this.startTime = startTime;
+            this.timestamp = timestamp;
+            this.duration = duration;
+            this.moves = moves;
+        }
+        
+        public UUID getPlayer1UUID() { return player1UUID; }
+        public UUID getPlayer2UUID() { return player2UUID; }
         public String getPlayer1Name() { return player1Name; }
         public String getPlayer2Name() { return player2Name; }
         public String getWinnerName() { return winnerName; }
         public int getRoundsWon1() { return roundsWon1; }
         public int getRoundsWon2() { return roundsWon2; }
+        public long getStartTime() { return startTime; }
         public long getTimestamp() { return timestamp; }
         public int getDuration() { return duration; }
         public List<ReplayMove> getMoves() { return moves; }
@@ -207,11 +250,15 @@ public class ReplaySystem {
         private final long timestamp;
         
         public ReplayMove(String playerName, String action, String cardId, int round) {
+            this(playerName, action, cardId, round, System.currentTimeMillis());
+        }
+        
+        public ReplayMove(String playerName, String action, String cardId, int round, long timestamp) {
             this.playerName = playerName;
             this.action = action;
             this.cardId = cardId;
             this.round = round;
-            this.timestamp = System.currentTimeMillis();
+            this.timestamp = timestamp;
         }
         
         public String getPlayerName() { return playerName; }
@@ -222,20 +269,54 @@ public class ReplaySystem {
     }
     
     /**
-     * Информация о реплее
+     * Информация о реплее - запись индекса архива (без ходов)
      */
     public static class ReplayInfo {
         private final String replayId;
-        private final GameReplay replay;
+        private final UUID player1UUID;
+        private final UUID player2UUID;
+        private final String player1Name;
+        private final String player2Name;
+        private final String winnerName;
+        private final int roundsWon1;
+        private final int roundsWon2;
+        private final long timestamp;
+        // Положение записи в архиве
+        final int segment;
+        final long offset;
+        final int length;
+        
+        ReplayInfo(String replayId, GameReplay replay, int segment, long offset, int length) {
+            this(replayId, replay.getPlayer1UUID(), replay.getPlayer2UUID(), replay.getPlayer1Name(),
+                replay.getPlayer2Name(), replay.getWinnerName(), replay.getRoundsWon1(), replay.getRoundsWon2(),
+                replay.getTimestamp(), segment, offset, length);
+        }
         
-        public ReplayInfo(String replayId, GameReplay replay) {
+        ReplayInfo(String replayId, UUID player1UUID, UUID player2UUID, String player1Name, String player2Name,
+                   String winnerName, int roundsWon1, int roundsWon2, long timestamp,
+                   int segment, long offset, int length) {
             this.replayId = replayId;
-            this.replay = replay;
+            this.player1UUID = player1UUID;
+            this.player2UUID = player2UUID;
+            this.player1Name = player1Name;
+            this.player2Name = player2Name;
+            this.winnerName = winnerName;
+            this.roundsWon1 = roundsWon1;
+            this.roundsWon2 = roundsWon2;
+            this.timestamp = timestamp;
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
         }
         
         public String getReplayId() { return replayId; }
-        public GameReplay getReplay() { return replay; }
-        public long getTimestamp() { return replay.getTimestamp(); }
+        public UUID getPlayer1UUID() { return player1UUID; }
+        public UUID getPlayer2UUID() { return player2UUID; }
+        public String getPlayer1Name() { return player1Name; }
+        public String getPlayer2Name() { return player2Name; }
+        public String getWinnerName() { return winnerName; }
+        public int getRoundsWon1() { return roundsWon1; }
+        public int getRoundsWon2() { return roundsWon2; }
+        public long getTimestamp() { return timestamp; }
     }
 }
-
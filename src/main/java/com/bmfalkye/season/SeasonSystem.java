@@ -78,6 +78,7 @@ public class SeasonSystem {
         
         // Очищаем прогресс игроков для нового сезона
         playerSeasonProgress.clear();
+        com.bmfalkye.network.ResponseCache.invalidate(com.bmfalkye.network.ResponseCache.ResponseType.SEASON);
         
         // Уведомляем всех онлайн игроков
         for (net.minecraft.server.level.ServerPlayer player : level.getServer().getPlayerList().getPlayers()) {
@@ -125,14 +126,22 @@ public class SeasonSystem {
     private static List<SeasonRankingEntry> buildSeasonRanking() {
         List<SeasonRankingEntry> ranking = new ArrayList<>();
         
-        for (Map.Entry<UUID, SeasonProgress> entry : playerSeasonProgress.entrySet()) {
-            UUID playerUUID = entry.getKey();
-            SeasonProgress progress = entry.getValue();
+        // Индекс игроков покрывает и тех, чей прогресс уже выгружен из памяти
+        for (com.bmfalkye.storage.PlayerIndex.Entry entry : com.bmfalkye.storage.PlayerIndex.getEntries()) {
+            if (currentSeason == null || entry.getSeasonNumber() != currentSeason.getNumber()) {
+                continue;
+            }
+            UUID playerUUID = entry.getPlayerUUID();
+            SeasonProgress progress = playerSeasonProgress.get(playerUUID);
             
             // Получаем дополнительную статистику игрока
             // TODO: Можно добавить больше критериев для рейтинга
             
-            ranking.add(new SeasonRankingEntry(playerUUID, progress.getLevel(), progress.getTotalXP()));
+            if (progress != null) {
+                ranking.add(new SeasonRankingEntry(playerUUID, progress.getLevel(), progress.getTotalXP()));
+            } else {
+                ranking.add(new SeasonRankingEntry(playerUUID, entry.getSeasonLevel(), entry.getSeasonXP()));
+            }
         }
         
         // Сортируем по уровню, затем по опыту
@@ -330,7 +339,7 @@ public class SeasonSystem {
         }
         
         SeasonProgress progress = playerSeasonProgress.computeIfAbsent(
-            player.getUUID(), k -> new SeasonProgress(currentSeason.getNumber()));
+            player.getUUID(), k -> loadSeasonProgress(player));
         
         progress.addXP(xpGained);
         
@@ -343,6 +352,8 @@ public class SeasonSystem {
         
         // Сохраняем прогресс
         saveSeasonProgress(player, progress);
+        // Опыт игрока меняет и его прогресс, и общую таблицу сезона
+        com.bmfalkye.network.ResponseCache.invalidate(com.bmfalkye.network.ResponseCache.ResponseType.SEASON);
     }
     
     /**
@@ -403,6 +414,30 @@ public class SeasonSystem {
         playerProgress.getStatistics().put("season_" + progress.getSeasonNumber() + "_xp", progress.getTotalXP());
         playerProgress.getStatistics().put("season_" + progress.getSeasonNumber() + "_level", progress.getLevel());
         storage.setPlayerProgress(player, playerProgress);
+        com.bmfalkye.storage.PlayerIndex.get((net.minecraft.server.level.ServerLevel) player.level())
+            .updateSeason(player.getUUID(), player.getName().getString(),
+                progress.getSeasonNumber(), progress.getLevel(), progress.getTotalXP());
+    }
+    
+    /**
+     * Читает прогресс текущего сезона из сохранённого прогресса игрока
+     */
+    private static SeasonProgress loadSeasonProgress(ServerPlayer player) {
+        SeasonProgress progress = new SeasonProgress(currentSeason.getNumber());
+        PlayerProgressStorage storage = PlayerProgressStorage.get(
+            (net.minecraft.server.level.ServerLevel) player.level());
+        Map<String, Integer> stats = storage.getPlayerProgress(player).getStatistics();
+        String prefix = "season_" + currentSeason.getNumber();
+        progress.addXP(stats.getOrDefault(prefix + "_xp", 0));
+        progress.setLevel(stats.getOrDefault(prefix + "_level", 1));
+        return progress;
+    }
+    
+    /**
+     * Выгружает прогресс сезона игрока из памяти (он сохранён в прогрессе и индексе игроков)
+     */
+    public static void evictPlayer(UUID playerUUID) {
+        playerSeasonProgress.remove(playerUUID);
     }
     
     /**
@@ -418,7 +453,7 @@ public class SeasonSystem {
             return new SeasonProgress(1);
         }
         return playerSeasonProgress.computeIfAbsent(
-            player.getUUID(), k -> new SeasonProgress(currentSeason.getNumber()));
+            player.getUUID(), k -> loadSeasonProgress(player));
     }
     
     /**
@@ -0,0 +1,33 @@
+package com.bmfalkye.storage;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.world.level.saveddata.SavedData;
+
+import java.io.File;
+
+/**
+ * SavedData, которое сохраняется через {@link SavePipeline}: при сохранении мира на серверном
+ * потоке строится только дерево NBT, а сжатие и запись файла выполняются в фоне.
+ *
+ * <p>Формат файла совпадает с ванильным ({@code data} + версия данных), поэтому существующие
+ * файлы читаются без изменений.
+ */
+public abstract class AsyncSavedData extends SavedData {
+
+    @Override
+    public void save(File file) {
+        if (!isDirty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        CompoundTag root = new CompoundTag();
+        root.put("data", save(new CompoundTag()));
+        NbtUtils.addCurrentDataVersion(root);
+        SavePipeline.recordSnapshot(System.nanoTime() - start);
+
+        setDirty(false);
+        // Если запись не удалась, данные попадут в следующее сохранение
+        SavePipeline.write(file.toPath(), root, this::setDirty);
+    }
+}
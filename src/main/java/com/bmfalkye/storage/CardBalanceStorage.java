@@ -3,12 +3,11 @@ package com.bmfalkye.storage;
 import com.bmfalkye.balance.CardBalanceSystem;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.saveddata.SavedData;
 
 /**
  * Хранилище статистики балансировки карт
  */
-public class CardBalanceStorage extends SavedData {
+public class CardBalanceStorage extends AsyncSavedData {
     
     public static CardBalanceStorage get(ServerLevel level) {
         return level.getDataStorage().computeIfAbsent(
@@ -4,7 +4,6 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.level.saveddata.SavedData;
 
 import java.util.*;
 
@@ -17,21 +16,25 @@ import java.util.*;
  *   <li>Опыт карты</li>
  *   <li>Открытые ветки улучшений</li>
  * </ul>
+ * 
+ * <p>Данные хранятся файлом на игрока, см. {@link ShardedSavedData}.
  */
-public class CardEvolutionStorage extends SavedData {
-    // UUID игрока -> Map<ID карты, данные эволюции>
-    private final Map<UUID, Map<String, CardEvolutionData>> playerCardEvolutions = new HashMap<>();
+public class CardEvolutionStorage extends ShardedSavedData<Map<String, CardEvolutionStorage.CardEvolutionData>> {
+    private static final String DATA_NAME = "bm_falkye_card_evolutions";
+    
+    public CardEvolutionStorage() {
+        super(DATA_NAME, CardEvolutionStorage::readPlayerCards, CardEvolutionStorage::writePlayerCards, HashMap::new);
+    }
     
     public static CardEvolutionStorage get(ServerLevel level) {
-        return level.getDataStorage().computeIfAbsent(
-            CardEvolutionStorage::load,
-            CardEvolutionStorage::new,
-            "bm_falkye_card_evolutions"
-        );
+        return get(level, CardEvolutionStorage::load, CardEvolutionStorage::new, DATA_NAME);
     }
     
     public static CardEvolutionStorage load(CompoundTag tag) {
         CardEvolutionStorage storage = new CardEvolutionStorage();
+        if (isSharded(tag)) {
+            return storage;
+        }
         
         try {
             CompoundTag playersTag = tag.getCompound("players");
@@ -44,25 +47,9 @@ public class CardEvolutionStorage extends SavedData {
                 }
                 
                 try {
-                    CompoundTag playerCardsTag = playersTag.getCompound(key);
-                    Map<String, CardEvolutionData> cardEvolutions = new HashMap<>();
-                    
-                    for (String cardId : playerCardsTag.getAllKeys()) {
-                        if (!com.bmfalkye.util.DataLoadValidator.isValidCardId(cardId)) {
-                            com.bmfalkye.util.ModLogger.warn("Skipping invalid card ID during evolution load", 
-                                "cardId", cardId, "playerUUID", playerUUID.toString());
-                            continue;
-                        }
-                        
-                        CompoundTag cardDataTag = playerCardsTag.getCompound(cardId);
-                        CardEvolutionData data = CardEvolutionData.load(cardDataTag);
-                        if (data != null) {
-                            cardEvolutions.put(cardId, data);
-                        }
-                    }
-                    
+                    Map<String, CardEvolutionData> cardEvolutions = readPlayerCards(playersTag.getCompound(key));
                     if (!cardEvolutions.isEmpty()) {
-                        storage.playerCardEvolutions.put(playerUUID, cardEvolutions);
+                        storage.importLegacy(playerUUID, cardEvolutions);
                     }
                 } catch (Exception e) {
                     com.bmfalkye.util.ModLogger.error("Error loading card evolution for player", 
@@ -78,33 +65,41 @@ public class CardEvolutionStorage extends SavedData {
         return storage;
     }
     
-    @Override
-    public CompoundTag save(@org.jetbrains.annotations.NotNull CompoundTag tag) {
-        CompoundTag playersTag = new CompoundTag();
+    /**
+     * Читает эволюцию карт одного игрока: ID карты -> данные
+     */
+    private static Map<String, CardEvolutionData> readPlayerCards(CompoundTag playerCardsTag) {
+        Map<String, CardEvolutionData> cardEvolutions = new HashMap<>();
         
-        for (Map.Entry<UUID, Map<String, CardEvolutionData>> playerEntry : playerCardEvolutions.entrySet()) {
-            CompoundTag playerCardsTag = new CompoundTag();
-            
-            for (Map.Entry<String, CardEvolutionData> cardEntry : playerEntry.getValue().entrySet()) {
-                CompoundTag cardDataTag = cardEntry.getValue().save(new CompoundTag());
-                playerCardsTag.put(cardEntry.getKey(), cardDataTag);
+        for (String cardId : playerCardsTag.getAllKeys()) {
+            if (!com.bmfalkye.util.DataLoadValidator.isValidCardId(cardId)) {
+                com.bmfalkye.util.ModLogger.warn("Skipping invalid card ID during evolution load", "cardId", cardId);
+                continue;
             }
             
-            if (!playerCardsTag.isEmpty()) {
-                playersTag.put(playerEntry.getKey().toString(), playerCardsTag);
+            CompoundTag cardDataTag = playerCardsTag.getCompound(cardId);
+            CardEvolutionData data = CardEvolutionData.load(cardDataTag);
+            if (data != null) {
+                cardEvolutions.put(cardId, data);
             }
         }
         
-        tag.put("players", playersTag);
-        return tag;
+        return cardEvolutions;
+    }
+    
+    private static CompoundTag writePlayerCards(Map<String, CardEvolutionData> cardEvolutions) {
+        CompoundTag playerCardsTag = new CompoundTag();
+        for (Map.Entry<String, CardEvolutionData> cardEntry : cardEvolutions.entrySet()) {
+            playerCardsTag.put(cardEntry.getKey(), cardEntry.getValue().save(new CompoundTag()));
+        }
+        return playerCardsTag;
     }
     
     /**
      * Получить данные эволюции карты игрока
      */
     public CardEvolutionData getCardEvolution(ServerPlayer player, String cardId) {
-        Map<String, CardEvolutionData> playerEvolutions = playerCardEvolutions.computeIfAbsent(
-            player.getUUID(), k -> new HashMap<>());
+        Map<String, CardEvolutionData> playerEvolutions = store.get(player.getUUID());
         return playerEvolutions.computeIfAbsent(cardId, k -> new CardEvolutionData());
     }
     
@@ -112,10 +107,9 @@ public class CardEvolutionStorage extends SavedData {
      * Установить данные эволюции карты игрока
      */
     public void setCardEvolution(ServerPlayer player, String cardId, CardEvolutionData data) {
-        Map<String, CardEvolutionData> playerEvolutions = playerCardEvolutions.computeIfAbsent(
-            player.getUUID(), k -> new HashMap<>());
+        Map<String, CardEvolutionData> playerEvolutions = store.get(player.getUUID());
         playerEvolutions.put(cardId, data);
-        setDirty();
+        markDirty(player.getUUID());
     }
     
     /**
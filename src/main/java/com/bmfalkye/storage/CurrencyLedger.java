@@ -0,0 +1,292 @@
+package com.bmfalkye.storage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Журнал упреждающей записи для валюты игроков.
+ *
+ * <p>Каждое изменение баланса (монеты, Пыль Душ, залог ставки) добавляет запись с новым
+ * состоянием игрока. Записи копятся в пакете и раз в тик ({@link #commitAll()}) дописываются
+ * в конец файла-сегмента одним блоком с CRC и fsync по политике {@link SavePipeline}. Блок
+ * применяется при восстановлении целиком или не применяется вовсе, поэтому выплата победителю
+ * и снятие залога проигравшего не могут разойтись.
+ *
+ * <p>При сохранении мира начинается новый сегмент ({@link #beginCheckpoint(Collection)}), а старые
+ * удаляются после того, как файлы игроков записаны ({@link #completeCheckpoint()}). При запуске
+ * {@link #open()} читает оставшиеся сегменты и возвращает последнее состояние каждого игрока.
+ */
+public class CurrencyLedger {
+    private static final String SEGMENT_PREFIX = "ledger-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    // Запись: UUID (16 байт), монеты, Пыль Душ, залог
+    private static final int ENTRY_SIZE = 28;
+    // Защита от мусорной длины блока в повреждённом файле
+    private static final int MAX_FRAME_SIZE = 64 * 1024 * 1024;
+
+    // Открытые журналы текущего мира (для фиксации на границе тика)
+    private static final Set<CurrencyLedger> OPEN = ConcurrentHashMap.newKeySet();
+
+    private final Path directory;
+    private final List<Entry> batch = new ArrayList<>();
+    private long segment;
+    // Сегменты с номером меньше этого можно удалить после записи файлов игроков
+    private long checkpointSegment = -1;
+    private long checkpointFailures;
+
+    public CurrencyLedger(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Читает журнал и начинает новый сегмент
+     *
+     * @return последнее записанное состояние каждого игрока из журнала
+     */
+    public synchronized Map<UUID, Entry> open() {
+        Map<UUID, Entry> states = new LinkedHashMap<>();
+        long lastSegment = 0;
+        for (Map.Entry<Long, Path> file : listSegments().entrySet()) {
+            readSegment(file.getValue(), states);
+            lastSegment = file.getKey();
+        }
+        segment = lastSegment + 1;
+        OPEN.add(this);
+        return states;
+    }
+
+    /**
+     * Добавляет новое состояние игрока в текущий пакет
+     */
+    public synchronized void append(UUID playerId, int coins, int soulDust, int escrow) {
+        batch.add(new Entry(playerId, coins, soulDust, escrow));
+    }
+
+    /**
+     * Ставит текущий пакет в очередь записи одним блоком
+     */
+    public synchronized void commit() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        byte[] frame = encodeFrame(batch);
+        batch.clear();
+        Path file = segmentFile(segment);
+        SavePipeline.submit(() -> appendFrame(file, frame));
+    }
+
+    /**
+     * Фиксирует пакеты всех открытых журналов. Вызывается в конце серверного тика
+     */
+    public static void commitAll() {
+        for (CurrencyLedger ledger : OPEN) {
+            ledger.commit();
+        }
+    }
+
+    /**
+     * Закрывает журналы мира (при остановке сервера)
+     */
+    public static void closeAll() {
+        commitAll();
+        OPEN.clear();
+    }
+
+    /**
+     * Начинает новый сегмент перед записью файлов игроков.
+     *
+     * @param carryOver состояния, которые должны пережить удаление старых сегментов (игроки
+     *                  с незакрытым залогом - их залог не хранится в файлах игроков)
+     */
+    public synchronized void beginCheckpoint(Collection<Entry> carryOver) {
+        commit();
+        checkpointSegment = segment;
+        checkpointFailures = SavePipeline.getStats().getFailures();
+        segment++;
+        batch.addAll(carryOver);
+        commit();
+    }
+
+    /**
+     * Удаляет сегменты, начатые до {@link #beginCheckpoint(Collection)}, когда всё, что было
+     * поставлено в очередь до этого вызова, записано. Если запись где-то не удалась,
+     * сегменты остаются до следующего сохранения
+     */
+    public synchronized void completeCheckpoint() {
+        long obsolete = checkpointSegment;
+        long failures = checkpointFailures;
+        checkpointSegment = -1;
+        if (obsolete < 0) {
+            return;
+        }
+        SavePipeline.submit(() -> {
+            if (SavePipeline.getStats().getFailures() != failures) {
+                return;
+            }
+            for (Map.Entry<Long, Path> file : listSegments().entrySet()) {
+                if (file.getKey() > obsolete) {
+                    break;
+                }
+                try {
+                    Files.deleteIfExists(file.getValue());
+                } catch (IOException e) {
+                    com.bmfalkye.util.ModLogger.error("Error deleting currency ledger segment",
+                        "file", file.getValue().toString(), "error", e.getMessage());
+                }
+            }
+        });
+    }
+
+    Path segmentFile(long index) {
+        return directory.resolve(String.format(java.util.Locale.ROOT, "%s%08d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Сегменты журнала по возрастанию номера
+     */
+    private TreeMap<Long, Path> listSegments() {
+        TreeMap<Long, Path> segments = new TreeMap<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    segments.put(Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                        name.length() - SEGMENT_SUFFIX.length())), file);
+                } catch (NumberFormatException e) {
+                    // Чужой файл в каталоге журнала
+                }
+            }
+        } catch (IOException e) {
+            com.bmfalkye.util.ModLogger.error("Error listing currency ledger",
+                "directory", directory.toString(), "error", e.getMessage());
+        }
+        return segments;
+    }
+
+    private static byte[] encodeFrame(List<Entry> entries) {
+        ByteBuffer payload = ByteBuffer.allocate(4 + entries.size() * ENTRY_SIZE);
+        payload.putInt(entries.size());
+        for (Entry entry : entries) {
+            payload.putLong(entry.playerId.getMostSignificantBits());
+            payload.putLong(entry.playerId.getLeastSignificantBits());
+            payload.putInt(entry.coins);
+            payload.putInt(entry.soulDust);
+            payload.putInt(entry.escrow);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload.array());
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(payload.capacity() + 8);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(payload.capacity());
+            out.writeInt((int) crc.getValue());
+            out.write(payload.array());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void appendFrame(Path file, byte[] frame) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer data = ByteBuffer.wrap(frame);
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                if (SavePipeline.getFsyncPolicy() != SavePipeline.FsyncPolicy.NONE) {
+                    channel.force(false);
+                }
+            }
+        } catch (IOException e) {
+            // Изменения остаются в памяти и попадут в файлы игроков при следующем сохранении
+            throw new IllegalStateException("Error appending currency ledger " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void readSegment(Path file, Map<UUID, Entry> states) {
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    return;
+                }
+                int checksum = in.readInt();
+                if (length < 4 || length > MAX_FRAME_SIZE) {
+                    throw new IOException("Bad frame length " + length);
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    throw new IOException("Checksum mismatch");
+                }
+                ByteBuffer data = ByteBuffer.wrap(payload);
+                int count = data.getInt();
+                if (count < 0 || count * ENTRY_SIZE != length - 4) {
+                    throw new IOException("Bad entry count " + count);
+                }
+                for (int i = 0; i < count; i++) {
+                    UUID playerId = new UUID(data.getLong(), data.getLong());
+                    states.put(playerId, new Entry(playerId, data.getInt(), data.getInt(), data.getInt()));
+                }
+            }
+        } catch (IOException e) {
+            // Оборванный при сбое последний блок не применяется, предыдущие уже учтены
+            com.bmfalkye.util.ModLogger.warn("Currency ledger segment ends with an incomplete frame",
+                "file", file.toString(), "error", e.getMessage());
+        }
+    }
+
+    /**
+     * Состояние валюты игрока после изменения
+     */
+    public static class Entry {
+        private final UUID playerId;
+        private final int coins;
+        private final int soulDust;
+        private final int escrow;
+
+        public Entry(UUID playerId, int coins, int soulDust, int escrow) {
+            this.playerId = playerId;
+            this.coins = coins;
+            this.soulDust = soulDust;
+            this.escrow = escrow;
+        }
+
+        public UUID getPlayerId() { return playerId; }
+        public int getCoins() { return coins; }
+        public int getSoulDust() { return soulDust; }
+        public int getEscrow() { return escrow; }
+    }
+}
@@ -8,27 +8,30 @@ import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.StringTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.level.saveddata.SavedData;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
- * Коллекция карт игрока (все карты, которые у него есть)
+ * Коллекция карт игрока (все карты, которые у него есть).
+ * Хранится файлом на игрока, см. {@link ShardedSavedData}
  */
-public class PlayerCardCollection extends SavedData {
-    private final Map<UUID, Set<String>> playerCollections = new HashMap<>();
+public class PlayerCardCollection extends ShardedSavedData<Set<String>> {
+    private static final String DATA_NAME = "bm_falkye_card_collections";
+    
+    public PlayerCardCollection() {
+        super(DATA_NAME, PlayerCardCollection::readCards, PlayerCardCollection::writeCards, HashSet::new);
+    }
     
     public static PlayerCardCollection get(ServerLevel level) {
-        return level.getDataStorage().computeIfAbsent(
-            PlayerCardCollection::load,
-            PlayerCardCollection::new,
-            "bm_falkye_card_collections"
-        );
+        return get(level, PlayerCardCollection::load, PlayerCardCollection::new, DATA_NAME);
     }
     
     public static PlayerCardCollection load(CompoundTag tag) {
         PlayerCardCollection collection = new PlayerCardCollection();
+        if (isSharded(tag)) {
+            return collection;
+        }
         
         try {
             CompoundTag collectionsTag = tag.getCompound("collections");
@@ -57,7 +60,7 @@ public class PlayerCardCollection extends SavedData {
                     }
                     
                     // Очищаем дубликаты (на всякий случай, хотя Set уже это делает)
-                    collection.playerCollections.put(playerUUID, cardIds);
+                    collection.importLegacy(playerUUID, cardIds);
                 } catch (Exception e) {
                     com.bmfalkye.util.ModLogger.error("Error loading card collection for player", 
                         "uuid", playerUUID.toString(), "error", e.getMessage());
@@ -74,19 +77,28 @@ public class PlayerCardCollection extends SavedData {
         return collection;
     }
     
-    @Override
-    public CompoundTag save(CompoundTag tag) {
-        CompoundTag collectionsTag = new CompoundTag();
-        
-        for (Map.Entry<UUID, Set<String>> entry : playerCollections.entrySet()) {
-            ListTag cardsTag = new ListTag();
-            for (String cardId : entry.getValue()) {
-                cardsTag.add(StringTag.valueOf(cardId));
+    /**
+     * Читает коллекцию из файла игрока
+     */
+    private static Set<String> readCards(CompoundTag tag) {
+        ListTag cardsTag = tag.getList("cards", 8); // 8 = String tag type
+        Set<String> cardIds = new HashSet<>();
+        for (int i = 0; i < cardsTag.size(); i++) {
+            String cardId = cardsTag.getString(i);
+            if (com.bmfalkye.util.DataLoadValidator.isValidCardId(cardId)) {
+                cardIds.add(cardId);
             }
-            collectionsTag.put(entry.getKey().toString(), cardsTag);
         }
-        
-        tag.put("collections", collectionsTag);
+        return cardIds;
+    }
+    
+    private static CompoundTag writeCards(Set<String> cardIds) {
+        ListTag cardsTag = new ListTag();
+        for (String cardId : cardIds) {
+            cardsTag.add(StringTag.valueOf(cardId));
+        }
+        CompoundTag tag = new CompoundTag();
+        tag.put("cards", cardsTag);
         return tag;
     }
     
@@ -95,7 +107,7 @@ public class PlayerCardCollection extends SavedData {
      * Set автоматически предотвращает дубликаты
      */
     public Set<String> getPlayerCollection(ServerPlayer player) {
-        return playerCollections.computeIfAbsent(player.getUUID(), k -> new HashSet<>());
+        return store.get(player.getUUID());
     }
     
     /**
@@ -105,7 +117,7 @@ public class PlayerCardCollection extends SavedData {
         Set<String> collection = getPlayerCollection(player);
         boolean added = collection.add(cardId);
         if (added) {
-            setDirty();
+            markChanged(player);
         }
         return added;
     }
@@ -117,7 +129,7 @@ public class PlayerCardCollection extends SavedData {
         Set<String> collection = getPlayerCollection(player);
         boolean removed = collection.remove(cardId);
         if (removed) {
-            setDirty();
+            markChanged(player);
         }
         return removed;
     }
@@ -183,7 +195,7 @@ public class PlayerCardCollection extends SavedData {
         }
         
         if (!removed.isEmpty()) {
-            setDirty();
+            markChanged(player);
         }
         
         return removed;
@@ -246,17 +258,26 @@ public class PlayerCardCollection extends SavedData {
             }
         }
         if (changed) {
-            setDirty();
+            markChanged(player);
         }
     }
     
+    /**
+     * Отмечает изменение коллекции игрока: данные сохраняются, кэшированный ответ магазина сбрасывается
+     */
+    private void markChanged(ServerPlayer player) {
+        markDirty(player.getUUID());
+        com.bmfalkye.network.ResponseCache.invalidatePlayer(
+            com.bmfalkye.network.ResponseCache.ResponseType.SHOP_ITEMS, player.getUUID());
+    }
+    
     /**
      * Проверить, является ли это первым входом игрока
      */
     public boolean isFirstJoin(ServerPlayer player) {
         UUID playerUUID = player.getUUID();
         // Проверяем, есть ли запись для игрока
-        if (!playerCollections.containsKey(playerUUID)) {
+        if (!store.exists(playerUUID)) {
             return true;
         }
         // Проверяем, пуста ли коллекция (после очистки дубликатов)
@@ -270,17 +291,16 @@ public class PlayerCardCollection extends SavedData {
      */
     public boolean removeDuplicates(ServerPlayer player) {
         UUID playerUUID = player.getUUID();
-        if (!playerCollections.containsKey(playerUUID)) {
+        if (!store.exists(playerUUID)) {
             return false;
         }
         
-        Set<String> oldCollection = playerCollections.get(playerUUID);
+        Set<String> oldCollection = store.get(playerUUID);
         Set<String> newCollection = new HashSet<>(oldCollection);
         
         // Если размер изменился, значит были дубликаты
         if (oldCollection.size() != newCollection.size()) {
-            playerCollections.put(playerUUID, newCollection);
-            setDirty();
+            store.put(playerUUID, newCollection);
             return true;
         }
         
@@ -3,83 +3,135 @@ package com.bmfalkye.storage;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.level.saveddata.SavedData;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Система валюты игроков (монеты и Пыль Душ)
+ * Система валюты игроков (монеты и Пыль Душ).
+ * Хранится файлом на игрока, см. {@link ShardedSavedData}; каждое изменение сразу попадает
+ * в {@link CurrencyLedger}, поэтому сбой между сохранениями мира не теряет и не удваивает монеты
  */
-public class PlayerCurrency extends SavedData {
+public class PlayerCurrency extends ShardedSavedData<PlayerCurrency.Balance> {
+    private static final String DATA_NAME = "bm_falkye_currency";
     private static final int STARTING_COINS = 800;
     private static final int STARTING_SOUL_DUST = 0;
-    private final Map<UUID, Integer> playerCoins = new HashMap<>();
-    private final Map<UUID, Integer> playerSoulDust = new HashMap<>();
+    
+    // Монеты, снятые в залог ставки: UUID игрока -> сумма. В файлы игроков не пишутся - живут в журнале
+    private final Map<UUID, Integer> escrow = new ConcurrentHashMap<>();
+    private CurrencyLedger ledger;
+    
+    public PlayerCurrency() {
+        super(DATA_NAME, Balance::load, Balance::save, Balance::new);
+    }
     
     public static PlayerCurrency get(ServerLevel level) {
-        return level.getDataStorage().computeIfAbsent(
-            PlayerCurrency::load,
-            PlayerCurrency::new,
-            "bm_falkye_currency"
-        );
+        PlayerCurrency currency = get(level, PlayerCurrency::load, PlayerCurrency::new, DATA_NAME);
+        if (currency.ledger == null) {
+            currency.openLedger();
+        }
+        return currency;
+    }
+    
+    /**
+     * Открывает журнал и применяет изменения, не попавшие в файлы игроков до остановки сервера
+     */
+    private void openLedger() {
+        ledger = new CurrencyLedger(store.getDirectory().resolve("ledger"));
+        int restored = 0;
+        for (CurrencyLedger.Entry entry : ledger.open().values()) {
+            Balance balance = store.get(entry.getPlayerId());
+            balance.coins = entry.getCoins();
+            balance.soulDust = entry.getSoulDust();
+            if (entry.getEscrow() > 0) {
+                // Матч со ставкой прерван перезапуском - возвращаем залог
+                balance.coins += entry.getEscrow();
+                com.bmfalkye.util.ModLogger.info("Refunded bet escrow interrupted by restart",
+                    "uuid", entry.getPlayerId().toString(), "amount", entry.getEscrow());
+            }
+            markDirty(entry.getPlayerId());
+            ledger.append(entry.getPlayerId(), balance.coins, balance.soulDust, 0);
+            restored++;
+        }
+        if (restored > 0) {
+            com.bmfalkye.util.ModLogger.info("Currency ledger replayed", "players", restored);
+        }
+    }
+    
+    /**
+     * Записывает текущее состояние игрока в журнал
+     */
+    private void record(UUID playerId) {
+        if (ledger != null) {
+            Balance balance = store.get(playerId);
+            ledger.append(playerId, balance.coins, balance.soulDust, escrow.getOrDefault(playerId, 0));
+        }
+    }
+    
+    @Override
+    public void save(File file) {
+        if (ledger == null) {
+            super.save(file);
+            return;
+        }
+        // Незакрытые залоги переносятся в новый сегмент: старые удаляются после записи файлов игроков
+        List<CurrencyLedger.Entry> carryOver = new ArrayList<>();
+        escrow.forEach((playerId, amount) -> {
+            Balance balance = store.get(playerId);
+            carryOver.add(new CurrencyLedger.Entry(playerId, balance.coins, balance.soulDust, amount));
+        });
+        ledger.beginCheckpoint(carryOver);
+        super.save(file);
+        if (!store.isDirty()) {
+            ledger.completeCheckpoint();
+        }
     }
     
     public static PlayerCurrency load(CompoundTag tag) {
         PlayerCurrency currency = new PlayerCurrency();
+        if (isSharded(tag)) {
+            return currency;
+        }
         CompoundTag coinsTag = tag.getCompound("coins");
         CompoundTag soulDustTag = tag.getCompound("soulDust");
+        Map<UUID, Balance> balances = new HashMap<>();
         
         for (String key : coinsTag.getAllKeys()) {
             UUID playerUUID = UUID.fromString(key);
-            int coins = coinsTag.getInt(key);
-            currency.playerCoins.put(playerUUID, coins);
+            balances.computeIfAbsent(playerUUID, k -> new Balance()).coins = coinsTag.getInt(key);
         }
         
         for (String key : soulDustTag.getAllKeys()) {
             UUID playerUUID = UUID.fromString(key);
-            int soulDust = soulDustTag.getInt(key);
-            currency.playerSoulDust.put(playerUUID, soulDust);
+            balances.computeIfAbsent(playerUUID, k -> new Balance()).soulDust = soulDustTag.getInt(key);
         }
         
+        balances.forEach(currency::importLegacy);
         return currency;
     }
     
-    @Override
-    public CompoundTag save(CompoundTag tag) {
-        CompoundTag coinsTag = new CompoundTag();
-        CompoundTag soulDustTag = new CompoundTag();
-        
-        for (Map.Entry<UUID, Integer> entry : playerCoins.entrySet()) {
-            coinsTag.putInt(entry.getKey().toString(), entry.getValue());
-        }
-        
-        for (Map.Entry<UUID, Integer> entry : playerSoulDust.entrySet()) {
-            soulDustTag.putInt(entry.getKey().toString(), entry.getValue());
-        }
-        
-        tag.put("coins", coinsTag);
-        tag.put("soulDust", soulDustTag);
-        return tag;
-    }
-    
     /**
      * Получить баланс игрока (или начальный баланс, если игрок новый)
      */
     public int getCoins(ServerPlayer player) {
-        return playerCoins.computeIfAbsent(player.getUUID(), k -> {
-            setDirty();
-            return STARTING_COINS;
-        });
+        return store.get(player.getUUID()).coins;
     }
     
     /**
      * Установить баланс игрока
      */
     public void setCoins(ServerPlayer player, int coins) {
-        playerCoins.put(player.getUUID(), Math.max(0, coins));
-        setDirty();
+        store.get(player.getUUID()).coins = Math.max(0, coins);
+        markDirty(player.getUUID());
+        record(player.getUUID());
+        // Баланс показывается в магазине
+        com.bmfalkye.network.ResponseCache.invalidatePlayer(
+            com.bmfalkye.network.ResponseCache.ResponseType.SHOP_ITEMS, player.getUUID());
     }
     
     /**
@@ -110,24 +162,71 @@ public class PlayerCurrency extends SavedData {
         return getCoins(player) >= amount;
     }
     
+    // ========== ЗАЛОГ СТАВОК ==========
+    
+    /**
+     * Переводит монеты игрока в залог ставки
+     * @return true если успешно, false если недостаточно монет или у игрока уже есть залог
+     */
+    public boolean escrowCoins(ServerPlayer player, int amount) {
+        UUID playerId = player.getUUID();
+        Balance balance = store.get(playerId);
+        if (escrow.containsKey(playerId)) {
+            // Одна ставка на игрока: старый залог должен быть закрыт раньше
+            com.bmfalkye.util.ModLogger.warn("Player already has bet escrow",
+                "uuid", playerId.toString(), "escrow", escrow.get(playerId), "amount", amount);
+            return false;
+        }
+        if (balance.coins < amount) {
+            return false;
+        }
+        balance.coins -= amount;
+        escrow.put(playerId, amount);
+        markDirty(playerId);
+        record(playerId);
+        com.bmfalkye.network.ResponseCache.invalidatePlayer(
+            com.bmfalkye.network.ResponseCache.ResponseType.SHOP_ITEMS, playerId);
+        return true;
+    }
+    
+    /**
+     * Закрывает залог игрока и начисляет выплату одной записью журнала
+     * @param payout сколько монет вернуть игроку (возврат ставки, выигрыш или 0 при проигрыше)
+     */
+    public void releaseEscrow(ServerPlayer player, int payout) {
+        UUID playerId = player.getUUID();
+        Balance balance = store.get(playerId);
+        escrow.remove(playerId);
+        balance.coins = Math.max(0, balance.coins + payout);
+        markDirty(playerId);
+        record(playerId);
+        com.bmfalkye.network.ResponseCache.invalidatePlayer(
+            com.bmfalkye.network.ResponseCache.ResponseType.SHOP_ITEMS, playerId);
+    }
+    
+    /**
+     * Сумма монет игрока в залоге
+     */
+    public int getEscrow(ServerPlayer player) {
+        return escrow.getOrDefault(player.getUUID(), 0);
+    }
+    
     // ========== ПЫЛЬ ДУШ ==========
     
     /**
      * Получить количество Пыли Душ игрока (или начальное количество, если игрок новый)
      */
     public int getSoulDust(ServerPlayer player) {
-        return playerSoulDust.computeIfAbsent(player.getUUID(), k -> {
-            setDirty();
-            return STARTING_SOUL_DUST;
-        });
+        return store.get(player.getUUID()).soulDust;
     }
     
     /**
      * Установить количество Пыли Душ игрока
      */
     public void setSoulDust(ServerPlayer player, int soulDust) {
-        playerSoulDust.put(player.getUUID(), Math.max(0, soulDust));
-        setDirty();
+        store.get(player.getUUID()).soulDust = Math.max(0, soulDust);
+        markDirty(player.getUUID());
+        record(player.getUUID());
     }
     
     /**
@@ -157,5 +256,28 @@ public class PlayerCurrency extends SavedData {
     public boolean hasEnoughSoulDust(ServerPlayer player, int amount) {
         return getSoulDust(player) >= amount;
     }
+    
+    /**
+     * Баланс одного игрока
+     */
+    public static class Balance {
+        private int coins = STARTING_COINS;
+        private int soulDust = STARTING_SOUL_DUST;
+        
+        public static Balance load(CompoundTag tag) {
+            Balance balance = new Balance();
+            if (tag.contains("coins")) {
+                balance.coins = tag.getInt("coins");
+            }
+            balance.soulDust = tag.getInt("soulDust");
+            return balance;
+        }
+        
+        public CompoundTag save() {
+            CompoundTag tag = new CompoundTag();
+            tag.putInt("coins", coins);
+            tag.putInt("soulDust", soulDust);
+            return tag;
+        }
+    }
 }
-
@@ -0,0 +1,108 @@
+package com.bmfalkye.storage;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Жизненный цикл данных игрока в памяти.
+ *
+ * <p>При входе прогресс, коллекция, колода, валюта и эволюция карт игрока читаются из его
+ * файлов ({@link ShardedSavedData}), а запись в {@link PlayerIndex} обновляется. При выходе
+ * изменения сразу ставятся в очередь записи, а через {@link #EVICTION_GRACE_MS} после выхода
+ * данные выгружаются из хранилищ и статических систем (рейтинг, сезон, ежедневные награды,
+ * кампания, события). Если игрок вернулся раньше, выгрузка отменяется.
+ */
+public class PlayerDataCache {
+    // Сколько держать данные после выхода: быстрый перезаход не перечитывает файлы
+    private static final long EVICTION_GRACE_MS = 5 * 60 * 1000L;
+
+    // UUID игрока -> время выгрузки
+    private static final Map<UUID, Long> pendingEvictions = new ConcurrentHashMap<>();
+
+    /**
+     * Загружает данные вошедшего игрока
+     */
+    public static void onJoin(ServerPlayer player) {
+        pendingEvictions.remove(player.getUUID());
+        ServerLevel level = player.serverLevel();
+
+        PlayerProgressStorage progressStorage = PlayerProgressStorage.get(level);
+        progressStorage.getStore().load(player);
+        PlayerCardCollection.get(level).getStore().load(player);
+        PlayerDeckStorage.get(level).getStore().load(player);
+        PlayerCurrency.get(level).getStore().load(player);
+        CardEvolutionStorage.get(level).getStore().load(player);
+
+        // Имя и рейтинг в индексе для таблиц, которые видят игроков не в сети
+        int rating = com.bmfalkye.rating.RatingSystem.getPlayerRating(player).getRating();
+        PlayerIndex.get(level).updateRating(player.getUUID(), player.getName().getString(), rating);
+    }
+
+    /**
+     * Сохраняет данные вышедшего игрока и планирует выгрузку
+     */
+    public static void onLeave(ServerPlayer player) {
+        ServerLevel level = player.serverLevel();
+
+        // Системы без собственного хранилища переносят состояние в прогресс игрока
+        com.bmfalkye.daily.DailyRewardSystem.savePlayer(player);
+        com.bmfalkye.campaign.CampaignSystem.savePlayer(player);
+        com.bmfalkye.events.EventSystem.savePlayer(player);
+
+        PlayerProgressStorage.get(level).getStore().save(player);
+        PlayerCardCollection.get(level).getStore().save(player);
+        PlayerDeckStorage.get(level).getStore().save(player);
+        PlayerCurrency.get(level).getStore().save(player);
+        CardEvolutionStorage.get(level).getStore().save(player);
+
+        pendingEvictions.put(player.getUUID(), System.currentTimeMillis() + EVICTION_GRACE_MS);
+    }
+
+    /**
+     * Выгружает игроков, вышедших дольше {@link #EVICTION_GRACE_MS} назад. Вызывается из тика сервера
+     */
+    public static void evictExpired(MinecraftServer server) {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<UUID, Long>> iterator = pendingEvictions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Long> entry = iterator.next();
+            if (entry.getValue() > now) {
+                continue;
+            }
+            iterator.remove();
+            // Не выгружаем, если игрок снова в сети
+            if (server.getPlayerList().getPlayer(entry.getKey()) == null) {
+                evict(entry.getKey());
+            }
+        }
+    }
+
+    private static void evict(UUID playerUUID) {
+        com.bmfalkye.rating.RatingSystem.evictPlayer(playerUUID);
+        com.bmfalkye.season.SeasonSystem.evictPlayer(playerUUID);
+        com.bmfalkye.daily.DailyRewardSystem.evictPlayer(playerUUID);
+        com.bmfalkye.campaign.CampaignSystem.evictPlayer(playerUUID);
+        com.bmfalkye.events.EventSystem.evictPlayer(playerUUID);
+        ShardedSavedData.forEachAttached(data -> data.getStore().unload(playerUUID));
+    }
+
+    /**
+     * Число игроков, ожидающих выгрузки
+     */
+    public static int getPendingEvictionCount() {
+        return pendingEvictions.size();
+    }
+
+    /**
+     * Сбрасывает очередь выгрузки (при остановке сервера)
+     */
+    public static void clear() {
+        pendingEvictions.clear();
+    }
+}
@@ -3,14 +3,13 @@ package com.bmfalkye.storage;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.level.saveddata.SavedData;
 
 import java.util.*;
 
 /**
  * Менеджер колод игрока (до 10 слотов)
  */
-public class PlayerDeckManager extends SavedData {
+public class PlayerDeckManager extends AsyncSavedData {
     private static final int MAX_DECKS = 10;
     private final Map<UUID, List<PlayerDeckStorage.PlayerDeckData>> playerDecks = new HashMap<>();
     
@@ -11,22 +11,27 @@ import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.level.saveddata.SavedData;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 /**
- * Система сохранения колод игроков
+ * Система сохранения колод игроков (файл на игрока, см. {@link ShardedSavedData})
  */
-public class PlayerDeckStorage extends SavedData {
-    private final Map<UUID, PlayerDeckData> playerDecks = new HashMap<>();
+public class PlayerDeckStorage extends ShardedSavedData<PlayerDeckStorage.PlayerDeckData> {
+    private static final String DATA_NAME = "bm_falkye_decks";
+
+    public PlayerDeckStorage() {
+        super(DATA_NAME, PlayerDeckData::fromNBT, PlayerDeckData::toNBT, PlayerDeckData::new);
+    }
 
     public static PlayerDeckStorage load(CompoundTag tag) {
         PlayerDeckStorage storage = new PlayerDeckStorage();
+        if (isSharded(tag)) {
+            return storage;
+        }
         
         try {
             CompoundTag decksTag = tag.getCompound("decks");
@@ -37,7 +42,7 @@ public class PlayerDeckStorage extends SavedData {
             // Преобразуем в нужный формат
             for (Map.Entry<UUID, Object> entry : loadedDecks.entrySet()) {
                 if (entry.getValue() instanceof PlayerDeckData) {
-                    storage.playerDecks.put(entry.getKey(), (PlayerDeckData) entry.getValue());
+                    storage.importLegacy(entry.getKey(), (PlayerDeckData) entry.getValue());
                 }
             }
         } catch (Exception e) {
@@ -47,34 +52,16 @@ public class PlayerDeckStorage extends SavedData {
         return storage;
     }
 
-    @Override
-    public CompoundTag save(CompoundTag tag) {
-        CompoundTag decksTag = new CompoundTag();
-        
-        // Используем общий метод сохранения
-        @SuppressWarnings("unchecked")
-        Map<UUID, PlayerDeckData> typedMap = (Map<UUID, PlayerDeckData>) (Map<?, ?>) playerDecks;
-        DeckStorageHelper.saveDecksToNBT(decksTag, typedMap, true);
-        
-        tag.put("decks", decksTag);
-        return tag;
-    }
-
     public PlayerDeckData getPlayerDeck(ServerPlayer player) {
-        return playerDecks.computeIfAbsent(player.getUUID(), k -> new PlayerDeckData());
+        return store.get(player.getUUID());
     }
 
     public void setPlayerDeck(ServerPlayer player, PlayerDeckData deckData) {
-        playerDecks.put(player.getUUID(), deckData);
-        setDirty();
+        store.put(player.getUUID(), deckData);
     }
 
     public static PlayerDeckStorage get(ServerLevel level) {
-        return level.getDataStorage().computeIfAbsent(
-            PlayerDeckStorage::load,
-            PlayerDeckStorage::new,
-            "bm_falkye_decks"
-        );
+        return get(level, PlayerDeckStorage::load, PlayerDeckStorage::new, DATA_NAME);
     }
 
     /**
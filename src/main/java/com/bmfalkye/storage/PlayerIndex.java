@@ -0,0 +1,142 @@
+package com.bmfalkye.storage;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Лёгкий индекс всех игроков: имя, рейтинг и прогресс текущего сезона.
+ *
+ * <p>Полные данные игрока держатся в памяти только пока он в сети ({@link PlayerDataCache}),
+ * а рейтинги и таблицы сезона строятся по этому индексу - он занимает несколько десятков
+ * байт на игрока и покрывает игроков не в сети. Хранится одним файлом в мире (overworld).
+ */
+public class PlayerIndex extends AsyncSavedData {
+    private static final String DATA_NAME = "bm_falkye_player_index";
+
+    // Индекс текущего мира - для чтения там, где нет уровня под рукой
+    private static volatile PlayerIndex active;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    public static PlayerIndex get(ServerLevel level) {
+        PlayerIndex index = level.getServer().overworld().getDataStorage().computeIfAbsent(
+            PlayerIndex::load,
+            PlayerIndex::new,
+            DATA_NAME
+        );
+        active = index;
+        return index;
+    }
+
+    public static PlayerIndex load(CompoundTag tag) {
+        PlayerIndex index = new PlayerIndex();
+        CompoundTag playersTag = tag.getCompound("players");
+        for (String key : playersTag.getAllKeys()) {
+            UUID playerUUID = com.bmfalkye.util.DataLoadValidator.safeParseUUID(key);
+            if (playerUUID != null) {
+                index.entries.put(playerUUID, Entry.load(playerUUID, playersTag.getCompound(key)));
+            }
+        }
+        return index;
+    }
+
+    @Override
+    public CompoundTag save(CompoundTag tag) {
+        CompoundTag playersTag = new CompoundTag();
+        for (Entry entry : entries.values()) {
+            playersTag.put(entry.playerUUID.toString(), entry.save());
+        }
+        tag.put("players", playersTag);
+        return tag;
+    }
+
+    /**
+     * Записи индекса текущего мира (пусто, пока мир не загружен)
+     */
+    public static List<Entry> getEntries() {
+        PlayerIndex index = active;
+        return index != null ? new ArrayList<>(index.entries.values()) : Collections.emptyList();
+    }
+
+    /**
+     * Забывает индекс мира (при остановке сервера)
+     */
+    public static void clearActive() {
+        active = null;
+    }
+
+    private Entry entry(UUID playerUUID, String playerName) {
+        Entry entry = entries.computeIfAbsent(playerUUID, Entry::new);
+        if (playerName != null) {
+            entry.playerName = playerName;
+        }
+        return entry;
+    }
+
+    public void updateRating(UUID playerUUID, String playerName, int rating) {
+        entry(playerUUID, playerName).rating = rating;
+        setDirty();
+    }
+
+    public void updateSeason(UUID playerUUID, String playerName, int seasonNumber, int seasonLevel, int seasonXP) {
+        Entry entry = entry(playerUUID, playerName);
+        entry.seasonNumber = seasonNumber;
+        entry.seasonLevel = seasonLevel;
+        entry.seasonXP = seasonXP;
+        setDirty();
+    }
+
+    public Entry getEntry(UUID playerUUID) {
+        return entries.get(playerUUID);
+    }
+
+    /**
+     * Запись индекса одного игрока
+     */
+    public static class Entry {
+        private final UUID playerUUID;
+        private String playerName = "";
+        private int rating;
+        private int seasonNumber;
+        private int seasonLevel;
+        private int seasonXP;
+
+        Entry(UUID playerUUID) {
+            this.playerUUID = playerUUID;
+        }
+
+        static Entry load(UUID playerUUID, CompoundTag tag) {
+            Entry entry = new Entry(playerUUID);
+            entry.playerName = tag.getString("name");
+            entry.rating = tag.getInt("rating");
+            entry.seasonNumber = tag.getInt("season");
+            entry.seasonLevel = tag.getInt("seasonLevel");
+            entry.seasonXP = tag.getInt("seasonXP");
+            return entry;
+        }
+
+        CompoundTag save() {
+            CompoundTag tag = new CompoundTag();
+            tag.putString("name", playerName);
+            tag.putInt("rating", rating);
+            tag.putInt("season", seasonNumber);
+            tag.putInt("seasonLevel", seasonLevel);
+            tag.putInt("seasonXP", seasonXP);
+            return tag;
+        }
+
+        public UUID getPlayerUUID() { return playerUUID; }
+        public String getPlayerName() { return playerName; }
+        public int getRating() { return rating; }
+        public int getSeasonNumber() { return seasonNumber; }
+        public int getSeasonLevel() { return seasonLevel; }
+        public int getSeasonXP() { return seasonXP; }
+    }
+}
@@ -4,20 +4,24 @@ import com.bmfalkye.player.PlayerProgress;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.level.saveddata.SavedData;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 /**
- * Хранилище прогресса всех игроков
+ * Хранилище прогресса всех игроков (файл на игрока, см. {@link ShardedSavedData})
  */
-public class PlayerProgressStorage extends SavedData {
-    private final Map<UUID, PlayerProgress> playerProgress = new HashMap<>();
+public class PlayerProgressStorage extends ShardedSavedData<PlayerProgress> {
+    private static final String DATA_NAME = "bm_falkye_progress";
+
+    public PlayerProgressStorage() {
+        super(DATA_NAME, PlayerProgress::load, PlayerProgress::save, PlayerProgress::new);
+    }
 
     public static PlayerProgressStorage load(CompoundTag tag) {
         PlayerProgressStorage storage = new PlayerProgressStorage();
+        if (isSharded(tag)) {
+            return storage;
+        }
         
         try {
             CompoundTag progressTag = tag.getCompound("progress");
@@ -33,7 +37,7 @@ public class PlayerProgressStorage extends SavedData {
                 try {
                     CompoundTag playerTag = progressTag.getCompound(key);
                     PlayerProgress progress = PlayerProgress.load(playerTag);
-                    storage.playerProgress.put(playerUUID, progress);
+                    storage.importLegacy(playerUUID, progress);
                 } catch (Exception e) {
                     java.util.Map<String, Object> context = com.bmfalkye.util.ErrorContextCollector.collectContext(e,
                         "uuid", playerUUID.toString(),
@@ -55,33 +59,18 @@ public class PlayerProgressStorage extends SavedData {
         return storage;
     }
 
-    @Override
-    public CompoundTag save(CompoundTag tag) {
-        CompoundTag progressTag = new CompoundTag();
-        
-        for (Map.Entry<UUID, PlayerProgress> entry : playerProgress.entrySet()) {
-            progressTag.put(entry.getKey().toString(), entry.getValue().save());
-        }
-        
-        tag.put("progress", progressTag);
-        return tag;
-    }
-
     public PlayerProgress getPlayerProgress(ServerPlayer player) {
-        return playerProgress.computeIfAbsent(player.getUUID(), k -> new PlayerProgress());
+        return store.get(player.getUUID());
     }
 
     public void setPlayerProgress(ServerPlayer player, PlayerProgress progress) {
-        playerProgress.put(player.getUUID(), progress);
-        setDirty();
+        store.put(player.getUUID(), progress);
+        // Прогресс входит в ответы статистики, сезона и боссов
+        com.bmfalkye.network.ResponseCache.invalidatePlayer(player.getUUID());
     }
 
     public static PlayerProgressStorage get(ServerLevel level) {
-        return level.getDataStorage().computeIfAbsent(
-            PlayerProgressStorage::load,
-            PlayerProgressStorage::new,
-            "bm_falkye_progress"
-        );
+        return get(level, PlayerProgressStorage::load, PlayerProgressStorage::new, DATA_NAME);
     }
 }
 
@@ -0,0 +1,345 @@
+package com.bmfalkye.storage;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Фоновая запись данных мода на диск.
+ *
+ * <p>Серверный поток только строит снимок - новое дерево NBT, на которое больше никто не
+ * ссылается, - и ставит его в очередь. Кодирование, сжатие и запись выполняет отдельный
+ * поток: данные пишутся во временный файл рядом с целевым и переименовываются поверх него,
+ * поэтому на диске всегда лежит либо старая, либо новая версия целиком.
+ *
+ * <p>Если файл ещё ждёт записи, новый снимок заменяет старый в очереди - промежуточные
+ * версии не пишутся. Политика fsync задаётся {@code -Dbmfalkye.saveFsync=none|file|full}
+ * (по умолчанию {@code file}).
+ */
+public class SavePipeline {
+
+    /**
+     * Когда данные принудительно сбрасываются на диск
+     */
+    public enum FsyncPolicy {
+        /** Без fsync: быстрее всего, при сбое питания возможна потеря последних сохранений */
+        NONE,
+        /** fsync временного файла перед переименованием */
+        FILE,
+        /** fsync файла и каталога - переименование тоже переживает сбой питания */
+        FULL;
+
+        static FsyncPolicy fromProperty(String value) {
+            if (value == null) {
+                return FILE;
+            }
+            return switch (value.toLowerCase(java.util.Locale.ROOT)) {
+                case "none", "off", "false" -> NONE;
+                case "full" -> FULL;
+                default -> FILE;
+            };
+        }
+    }
+
+    private static volatile FsyncPolicy fsyncPolicy = FsyncPolicy.fromProperty(System.getProperty("bmfalkye.saveFsync"));
+
+    private static final ExecutorService IO_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "BM-Falkye save I/O");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Снимок, ожидающий записи
+     */
+    private static class PendingWrite {
+        final CompoundTag snapshot;
+        final Runnable onFailure;
+
+        PendingWrite(CompoundTag snapshot, Runnable onFailure) {
+            this.snapshot = snapshot;
+            this.onFailure = onFailure;
+        }
+    }
+
+    private static final Map<Path, PendingWrite> pending = new ConcurrentHashMap<>();
+    // Снимки, которые сейчас пишутся: файл на диске ещё старый
+    private static final Map<Path, PendingWrite> writing = new ConcurrentHashMap<>();
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final Object idleLock = new Object();
+
+    // Метрики
+    private static final AtomicLong snapshotCount = new AtomicLong();
+    private static final AtomicLong snapshotNanos = new AtomicLong();
+    private static final AtomicLong maxSnapshotNanos = new AtomicLong();
+    private static final AtomicLong writeCount = new AtomicLong();
+    private static final AtomicLong writeNanos = new AtomicLong();
+    private static final AtomicLong maxWriteNanos = new AtomicLong();
+    private static final AtomicLong bytesWritten = new AtomicLong();
+    private static final AtomicLong coalescedCount = new AtomicLong();
+    private static final AtomicLong failureCount = new AtomicLong();
+
+    /**
+     * Ставит снимок в очередь записи
+     *
+     * @param file целевой файл
+     * @param snapshot дерево NBT, которое больше не изменяется вызывающим кодом
+     * @param onFailure вызывается в потоке записи, если запись не удалась (например, чтобы снова
+     *                  отметить данные изменёнными)
+     */
+    public static void write(Path file, CompoundTag snapshot, Runnable onFailure) {
+        inFlight.incrementAndGet();
+        if (pending.put(file, new PendingWrite(snapshot, onFailure)) != null) {
+            // Предыдущий снимок ещё не записан - его задача запишет новый
+            coalescedCount.incrementAndGet();
+            finishOne();
+            return;
+        }
+        IO_EXECUTOR.execute(() -> {
+            try {
+                PendingWrite write;
+                while ((write = pending.get(file)) != null) {
+                    // Снимок виден читателям до конца записи: сначала в writing, потом из pending
+                    writing.put(file, write);
+                    if (!pending.remove(file, write)) {
+                        // Пока переносили, пришёл новый снимок - пишем его
+                        continue;
+                    }
+                    try {
+                        writeNow(file, write);
+                    } finally {
+                        writing.remove(file, write);
+                    }
+                }
+            } finally {
+                finishOne();
+            }
+        });
+    }
+
+    /**
+     * Выполняет задачу в потоке записи после всех уже поставленных в очередь снимков
+     * (например, дозапись журнала или удаление файлов, которые снимки делают ненужными)
+     */
+    public static void submit(Runnable task) {
+        inFlight.incrementAndGet();
+        IO_EXECUTOR.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                failureCount.incrementAndGet();
+                com.bmfalkye.util.ModLogger.error("Error in save I/O task", "error", e.getMessage());
+            } finally {
+                finishOne();
+            }
+        });
+    }
+
+    /**
+     * Последний снимок файла, ещё не записанный на диск. Чтение файла в это время вернуло бы
+     * устаревшие данные, поэтому читающий код должен сначала проверить очередь.
+     *
+     * @return снимок или null, если файл на диске актуален
+     */
+    public static CompoundTag getUnwrittenSnapshot(Path file) {
+        PendingWrite write = pending.get(file);
+        if (write == null) {
+            write = writing.get(file);
+        }
+        return write != null ? write.snapshot : null;
+    }
+
+    /**
+     * Учитывает время построения снимка на серверном потоке
+     */
+    public static void recordSnapshot(long nanos) {
+        snapshotCount.incrementAndGet();
+        snapshotNanos.addAndGet(nanos);
+        maxSnapshotNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private static void writeNow(Path file, PendingWrite write) {
+        long start = System.nanoTime();
+        try {
+            // Кодирование и сжатие
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            NbtIo.writeCompressed(write.snapshot, buffer);
+            byte[] bytes = buffer.toByteArray();
+
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = directory.resolve(file.getFileName() + ".tmp");
+            FsyncPolicy policy = fsyncPolicy;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer data = ByteBuffer.wrap(bytes);
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                if (policy != FsyncPolicy.NONE) {
+                    channel.force(true);
+                }
+            }
+            move(temp, file);
+            if (policy == FsyncPolicy.FULL) {
+                syncDirectory(directory);
+            }
+
+            long elapsed = System.nanoTime() - start;
+            writeCount.incrementAndGet();
+            writeNanos.addAndGet(elapsed);
+            maxWriteNanos.accumulateAndGet(elapsed, Math::max);
+            bytesWritten.addAndGet(bytes.length);
+        } catch (IOException | RuntimeException e) {
+            failureCount.incrementAndGet();
+            com.bmfalkye.util.ModLogger.error("Error writing save file",
+                "file", file.toString(), "error", e.getMessage());
+            if (write.onFailure != null) {
+                write.onFailure.run();
+            }
+        }
+    }
+
+    private static void move(Path temp, Path file) throws IOException {
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Не все системы позволяют открыть каталог (Windows) - переименование там уже надёжно
+        }
+    }
+
+    private static void finishOne() {
+        if (inFlight.decrementAndGet() == 0) {
+            synchronized (idleLock) {
+                idleLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Ждёт, пока все поставленные в очередь снимки будут записаны
+     *
+     * @return true, если очередь опустела до истечения времени
+     */
+    public static boolean awaitIdle(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (idleLock) {
+            while (inFlight.get() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(idleLock, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public static FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public static void setFsyncPolicy(FsyncPolicy policy) {
+        fsyncPolicy = policy;
+    }
+
+    /**
+     * Статистика сохранений с запуска сервера
+     */
+    public static SaveStats getStats() {
+        return new SaveStats(snapshotCount.get(), snapshotNanos.get(), maxSnapshotNanos.get(),
+            writeCount.get(), writeNanos.get(), maxWriteNanos.get(), bytesWritten.get(),
+            coalescedCount.get(), failureCount.get(), inFlight.get());
+    }
+
+    /**
+     * Снимок метрик: время на серверном потоке (снимки) против времени в потоке записи
+     */
+    public static class SaveStats {
+        private final long snapshots;
+        private final long snapshotNanos;
+        private final long maxSnapshotNanos;
+        private final long writes;
+        private final long writeNanos;
+        private final long maxWriteNanos;
+        private final long bytes;
+        private final long coalesced;
+        private final long failures;
+        private final int queued;
+
+        SaveStats(long snapshots, long snapshotNanos, long maxSnapshotNanos, long writes, long writeNanos,
+                  long maxWriteNanos, long bytes, long coalesced, long failures, int queued) {
+            this.snapshots = snapshots;
+            this.snapshotNanos = snapshotNanos;
+            this.maxSnapshotNanos = maxSnapshotNanos;
+            this.writes = writes;
+            this.writeNanos = writeNanos;
+            this.maxWriteNanos = maxWriteNanos;
+            this.bytes = bytes;
+            this.coalesced = coalesced;
+            this.failures = failures;
+            this.queued = queued;
+        }
+
+        public long getSnapshots() { return snapshots; }
+        public long getWrites() { return writes; }
+        public long getBytesWritten() { return bytes; }
+        public long getCoalesced() { return coalesced; }
+        public long getFailures() { return failures; }
+        public int getQueued() { return queued; }
+
+        public double getAverageSnapshotMillis() {
+            return snapshots == 0 ? 0 : snapshotNanos / 1_000_000.0 / snapshots;
+        }
+
+        public double getMaxSnapshotMillis() {
+            return maxSnapshotNanos / 1_000_000.0;
+        }
+
+        public double getAverageWriteMillis() {
+            return writes == 0 ? 0 : writeNanos / 1_000_000.0 / writes;
+        }
+
+        public double getMaxWriteMillis() {
+            return maxWriteNanos / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(java.util.Locale.ROOT,
+                "snapshots=%d (avg %.2f ms, max %.2f ms), writes=%d (avg %.2f ms, max %.2f ms), "
+                    + "bytes=%d, coalesced=%d, failures=%d, queued=%d",
+                snapshots, getAverageSnapshotMillis(), getMaxSnapshotMillis(),
+                writes, getAverageWriteMillis(), getMaxWriteMillis(), bytes, coalesced, failures, queued);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.bmfalkye.storage;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Хранилище данных игроков, разбитое по файлам: у каждого игрока свой файл
+ * {@code <каталог>/<первые два символа UUID>/<UUID>.dat}.
+ *
+ * <p>Данные игрока читаются с диска при первом обращении и остаются в памяти. Изменённые
+ * игроки отмечаются через {@link #markDirty(UUID)}, и при сохранении мира записываются
+ * только их файлы - объём записи зависит от числа активных игроков, а не от числа всех
+ * игроков, когда-либо заходивших на сервер.
+ *
+ * @param <T> тип данных одного игрока
+ */
+public class ShardedPlayerStore<T> implements IPlayerDataStorage<T> {
+    private final String name;
+    private final Function<CompoundTag, T> reader;
+    private final Function<T, CompoundTag> writer;
+    private final Supplier<T> factory;
+
+    private final Map<UUID, T> loaded = new ConcurrentHashMap<>();
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+    private volatile Path directory;
+
+    /**
+     * @param name имя хранилища для логов
+     * @param reader чтение данных игрока из NBT
+     * @param writer запись данных игрока в NBT
+     * @param factory данные нового игрока
+     */
+    public ShardedPlayerStore(String name, Function<CompoundTag, T> reader,
+                              Function<T, CompoundTag> writer, Supplier<T> factory) {
+        this.name = name;
+        this.reader = reader;
+        this.writer = writer;
+        this.factory = factory;
+    }
+
+    /**
+     * Привязывает хранилище к каталогу на диске. До привязки данные живут только в памяти
+     * (например, перенесённые из старого общего файла).
+     */
+    public void attach(Path directory) {
+        if (this.directory == null) {
+            this.directory = directory;
+        }
+    }
+
+    public boolean isAttached() {
+        return directory != null;
+    }
+
+    /**
+     * Каталог файлов игроков (null, пока хранилище не привязано)
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Данные игрока: из памяти, с диска или новые
+     */
+    public T get(UUID playerId) {
+        return loaded.computeIfAbsent(playerId, this::read);
+    }
+
+    /**
+     * Заменяет данные игрока и отмечает их для сохранения
+     */
+    public void put(UUID playerId, T data) {
+        loaded.put(playerId, data);
+        dirty.add(playerId);
+    }
+
+    /**
+     * Отмечает данные игрока для записи при следующем сохранении
+     */
+    public void markDirty(UUID playerId) {
+        if (loaded.containsKey(playerId)) {
+            dirty.add(playerId);
+        }
+    }
+
+    /**
+     * Отмечает для записи всех игроков в памяти (старый вызов {@code setDirty()} без указания игрока)
+     */
+    public void markAllDirty() {
+        dirty.addAll(loaded.keySet());
+    }
+
+    /**
+     * Выгружает данные игрока из памяти; несохранённые изменения сначала ставятся в очередь записи
+     */
+    public void unload(UUID playerId) {
+        if (dirty.contains(playerId) && !write(playerId)) {
+            return;
+        }
+        loaded.remove(playerId);
+    }
+
+    public boolean isLoaded(UUID playerId) {
+        return loaded.containsKey(playerId);
+    }
+
+    public boolean isDirty() {
+        return !dirty.isEmpty();
+    }
+
+    public int getLoadedCount() {
+        return loaded.size();
+    }
+
+    /**
+     * Ставит файлы изменённых игроков в очередь записи
+     *
+     * @return true, если снимки всех изменённых игроков поставлены в очередь
+     */
+    public boolean flush() {
+        if (directory == null || dirty.isEmpty()) {
+            return dirty.isEmpty();
+        }
+        boolean success = true;
+        for (UUID playerId : new ArrayList<>(dirty)) {
+            success &= write(playerId);
+        }
+        return success;
+    }
+
+    /**
+     * Снимает данные игрока и ставит файл в очередь записи ({@link SavePipeline})
+     */
+    private boolean write(UUID playerId) {
+        T data = loaded.get(playerId);
+        if (data == null || directory == null) {
+            dirty.remove(playerId);
+            return true;
+        }
+        // Снимаем отметку до снимка: изменение после него отметит игрока снова
+        dirty.remove(playerId);
+        try {
+            long start = System.nanoTime();
+            CompoundTag snapshot = writer.apply(data);
+            SavePipeline.recordSnapshot(System.nanoTime() - start);
+            // При ошибке записи возвращаем данные в память (игрок мог быть выгружен) для повтора
+            SavePipeline.write(fileFor(playerId), snapshot, () -> {
+                loaded.putIfAbsent(playerId, data);
+                dirty.add(playerId);
+            });
+            return true;
+        } catch (RuntimeException e) {
+            dirty.add(playerId);
+            com.bmfalkye.util.ModLogger.error("Error saving player shard",
+                "storage", name, "uuid", playerId.toString(), "error", e.getMessage());
+            return false;
+        }
+    }
+
+    private T read(UUID playerId) {
+        if (directory != null) {
+            Path file = fileFor(playerId);
+            CompoundTag unwritten = SavePipeline.getUnwrittenSnapshot(file);
+            if (unwritten != null) {
+                return reader.apply(unwritten);
+            }
+            if (Files.isRegularFile(file)) {
+                try {
+                    return reader.apply(NbtIo.readCompressed(file.toFile()));
+                } catch (IOException | RuntimeException e) {
+                    java.util.Map<String, Object> context = com.bmfalkye.util.ErrorContextCollector.collectContext(e,
+                        "storage", name,
+                        "uuid", playerId.toString(),
+                        "operation", "readPlayerShard");
+                    com.bmfalkye.util.ModLogger.error("Error loading player shard, using defaults", e, context);
+                }
+            }
+        }
+        return factory.get();
+    }
+
+    Path fileFor(UUID playerId) {
+        String id = playerId.toString();
+        return directory.resolve(id.substring(0, 2)).resolve(id + ".dat");
+    }
+
+    // ========== IPlayerDataStorage ==========
+
+    @Override
+    public T getData(ServerPlayer player) {
+        return get(player.getUUID());
+    }
+
+    @Override
+    public void setData(ServerPlayer player, T data) {
+        put(player.getUUID(), data);
+    }
+
+    @Override
+    public void load(ServerPlayer player) {
+        get(player.getUUID());
+    }
+
+    @Override
+    public void save(ServerPlayer player) {
+        if (dirty.contains(player.getUUID())) {
+            write(player.getUUID());
+        }
+    }
+
+    @Override
+    public void remove(UUID playerId) {
+        loaded.remove(playerId);
+        dirty.remove(playerId);
+        if (directory != null) {
+            try {
+                Files.deleteIfExists(fileFor(playerId));
+            } catch (IOException e) {
+                com.bmfalkye.util.ModLogger.error("Error deleting player shard",
+                    "storage", name, "uuid", playerId.toString(), "error", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean exists(UUID playerId) {
+        return loaded.containsKey(playerId) || (directory != null
+            && (Files.isRegularFile(fileFor(playerId)) || SavePipeline.getUnwrittenSnapshot(fileFor(playerId)) != null));
+    }
+}
@@ -0,0 +1,128 @@
+package com.bmfalkye.storage;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.storage.LevelResource;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Основа хранилищ данных игроков, которые пишутся по файлу на игрока ({@link ShardedPlayerStore}).
+ *
+ * <p>Объект по-прежнему регистрируется в {@code DimensionDataStorage}, чтобы мир сохранял его
+ * вместе с остальными данными, но общий файл {@code data/<имя>.dat} содержит только отметку
+ * о переходе на разбивку. Данные игроков лежат в каталоге {@code data/<имя>/}.
+ *
+ * <p>Старый общий файл читается наследником в {@code load(CompoundTag)}: записи переносятся через
+ * {@link #importLegacy(UUID, Object)}, при первом сохранении пишутся в файлы игроков, после чего
+ * общий файл заменяется отметкой.
+ *
+ * @param <T> тип данных одного игрока
+ */
+public abstract class ShardedSavedData<T> extends AsyncSavedData {
+    private static final String SHARDED_TAG = "sharded";
+    // Хранилища, привязанные к текущему миру (для выгрузки игроков из всех измерений)
+    private static final Set<ShardedSavedData<?>> ATTACHED = ConcurrentHashMap.newKeySet();
+
+    protected final ShardedPlayerStore<T> store;
+    private boolean legacyImported;
+
+    protected ShardedSavedData(String name, Function<CompoundTag, T> reader,
+                               Function<T, CompoundTag> writer, Supplier<T> factory) {
+        this.store = new ShardedPlayerStore<>(name, reader, writer, factory);
+    }
+
+    /**
+     * Получает хранилище уровня и привязывает его к каталогу файлов игроков
+     */
+    protected static <S extends ShardedSavedData<?>> S get(ServerLevel level, Function<CompoundTag, S> loader,
+                                                           Supplier<S> factory, String name) {
+        S data = level.getDataStorage().computeIfAbsent(loader, factory, name);
+        if (!data.store.isAttached()) {
+            Path worldRoot = level.getServer().getWorldPath(LevelResource.ROOT);
+            data.store.attach(DimensionType.getStorageFolder(level.dimension(), worldRoot)
+                .resolve("data").resolve(name));
+            ATTACHED.add(data);
+        }
+        return data;
+    }
+
+    /**
+     * Обходит хранилища игроков текущего мира
+     */
+    public static void forEachAttached(Consumer<ShardedSavedData<?>> action) {
+        ATTACHED.forEach(action);
+    }
+
+    /**
+     * Забывает хранилища мира (при остановке сервера)
+     */
+    public static void clearAttached() {
+        ATTACHED.clear();
+    }
+
+    /**
+     * Проверяет, записан ли общий файл уже после перехода на разбивку
+     */
+    protected static boolean isSharded(CompoundTag tag) {
+        return tag.getBoolean(SHARDED_TAG);
+    }
+
+    /**
+     * Переносит запись игрока из старого общего файла
+     */
+    protected void importLegacy(UUID playerId, T data) {
+        store.put(playerId, data);
+        legacyImported = true;
+    }
+
+    /**
+     * Хранилище файлов игроков
+     */
+    public ShardedPlayerStore<T> getStore() {
+        return store;
+    }
+
+    /**
+     * Отмечает данные игрока для записи при следующем сохранении мира
+     */
+    public void markDirty(UUID playerId) {
+        store.markDirty(playerId);
+    }
+
+    @Override
+    public CompoundTag save(CompoundTag tag) {
+        tag.putBoolean(SHARDED_TAG, true);
+        return tag;
+    }
+
+    @Override
+    public void save(File file) {
+        // setDirty() без указания игрока - сохраняем всех игроков в памяти
+        if (isDirty()) {
+            store.markAllDirty();
+        }
+        boolean flushed = store.flush();
+        if (legacyImported) {
+            // Общий файл переписывается отметкой, только когда перенесённые данные уже на диске.
+            // Перенос бывает один раз, поэтому здесь можно дождаться фоновой записи
+            flushed = flushed && SavePipeline.awaitIdle(30, TimeUnit.SECONDS) && !store.isDirty();
+            setDirty(flushed);
+            super.save(file);
+            if (flushed) {
+                legacyImported = false;
+            }
+        } else {
+            setDirty(false);
+        }
+    }
+}
@@ -8,14 +8,13 @@ import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.level.saveddata.SavedData;
 
 import java.util.*;
 
 /**
  * Хранилище просмотренных подсказок для игроков
  */
-public class TutorialHintStorage extends SavedData {
+public class TutorialHintStorage extends AsyncSavedData {
     // UUID игрока -> Set ID просмотренных подсказок
     private final Map<UUID, Set<String>> playerHints = new HashMap<>();
     
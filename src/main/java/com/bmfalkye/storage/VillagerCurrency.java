@@ -3,7 +3,6 @@ package com.bmfalkye.storage;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
-import net.minecraft.world.level.saveddata.SavedData;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -13,7 +12,7 @@ import java.util.UUID;
 /**
  * Система валюты для жителей (NPC)
  */
-public class VillagerCurrency extends SavedData {
+public class VillagerCurrency extends AsyncSavedData {
     private static final int MIN_COINS = 100;
     private static final int MAX_COINS = 10000;
     private final Map<UUID, Integer> villagerCoins = new HashMap<>();
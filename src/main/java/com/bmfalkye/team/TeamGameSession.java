@@ -3,13 +3,20 @@ package com.bmfalkye.team;
 import com.bmfalkye.cards.Card;
 import com.bmfalkye.cards.CardDeck;
 import com.bmfalkye.cards.LeaderCard;
+import com.bmfalkye.game.core.GameBoard;
+import com.bmfalkye.game.core.RulesEngine;
+import com.bmfalkye.game.core.Seat;
+import com.bmfalkye.game.core.SeatState;
 import net.minecraft.server.level.ServerPlayer;
 
 import java.util.*;
 
 /**
  * Игровая сессия для командного режима 2v2
- * Команды из двух игроков сражаются на общем поле
+ * Команды из двух игроков сражаются на общем поле.
+ * Состояние стола хранится в {@link GameBoard}: команда 1 - первое место, команда 2 - второе.
+ * Карты на стол кладёт и очередь ходов ведёт {@link RulesEngine}; сессия только сопоставляет
+ * игроков с командами и ждёт ходов обоих игроков команды.
  */
 public class TeamGameSession {
     // Команда 1
@@ -28,34 +35,11 @@ public class TeamGameSession {
     private final LeaderCard team2Leader1;
     private final LeaderCard team2Leader2;
     
-    // Руки команд (общие)
-    private final List<Card> team1Hand;
-    private final List<Card> team2Hand;
-    
-    // Поле (4 ряда: два ближних боя, два дальних)
-    private final List<Card> team1MeleeRow1;
-    private final List<Card> team1MeleeRow2;
-    private final List<Card> team1RangedRow1;
-    private final List<Card> team1RangedRow2;
-    
-    private final List<Card> team2MeleeRow1;
-    private final List<Card> team2MeleeRow2;
-    private final List<Card> team2RangedRow1;
-    private final List<Card> team2RangedRow2;
-    
-    // Сбросы
-    private final List<Card> team1Graveyard;
-    private final List<Card> team2Graveyard;
-    
-    // Текущий ход
-    private UUID currentTeam; // UUID первого игрока команды
-    private int currentRound = 1;
-    private boolean roundEnded = false;
-    private boolean gameEnded = false;
-    
-    // Счёт раундов
-    private int team1RoundsWon = 0;
-    private int team2RoundsWon = 0;
+    // Стол: руки команд (общие), 4 ряда на команду, сбросы, очередь и счёт раундов
+    private final GameBoard board;
+    private final SeatState team1;
+    private final SeatState team2;
+    private final RulesEngine engine;
     
     // Ожидание ходов от обоих игроков команды
     private final Map<UUID, Card> pendingPlays = new HashMap<>();
@@ -81,23 +65,11 @@ public class TeamGameSession {
         this.team2Leader1 = team2Leader1;
         this.team2Leader2 = team2Leader2;
         
-        this.team1Hand = new ArrayList<>();
-        this.team2Hand = new ArrayList<>();
-        
-        this.team1MeleeRow1 = new ArrayList<>();
-        this.team1MeleeRow2 = new ArrayList<>();
-        this.team1RangedRow1 = new ArrayList<>();
-        this.team1RangedRow2 = new ArrayList<>();
-        
-        this.team2MeleeRow1 = new ArrayList<>();
-        this.team2MeleeRow2 = new ArrayList<>();
-        this.team2RangedRow1 = new ArrayList<>();
-        this.team2RangedRow2 = new ArrayList<>();
-        
-        this.team1Graveyard = new ArrayList<>();
-        this.team2Graveyard = new ArrayList<>();
-        
-        this.currentTeam = team1Player1 != null ? team1Player1.getUUID() : null;
+        this.board = new GameBoard(TeamCardRow.values().length, null, null, GameBoard.DEFAULT_LANES);
+        this.team1 = board.seat(Seat.FIRST);
+        this.team2 = board.seat(Seat.SECOND);
+        this.engine = new RulesEngine(board);
+        board.setCurrentSeat(team1Player1 != null ? Seat.FIRST : null);
         
         // Раздаём начальные карты
         dealInitialCards();
@@ -109,18 +81,18 @@ public class TeamGameSession {
     private void dealInitialCards() {
         // Команда 1 получает карты из обеих колод
         for (int i = 0; i < 5 && i < team1Deck1.getCards().size(); i++) {
-            team1Hand.add(team1Deck1.getCards().get(i));
+            team1.getHand().add(team1Deck1.getCards().get(i));
         }
         for (int i = 0; i < 5 && i < team1Deck2.getCards().size(); i++) {
-            team1Hand.add(team1Deck2.getCards().get(i));
+            team1.getHand().add(team1Deck2.getCards().get(i));
         }
         
         // Команда 2 получает карты из обеих колод
         for (int i = 0; i < 5 && i < team2Deck1.getCards().size(); i++) {
-            team2Hand.add(team2Deck1.getCards().get(i));
+            team2.getHand().add(team2Deck1.getCards().get(i));
         }
         for (int i = 0; i < 5 && i < team2Deck2.getCards().size(); i++) {
-            team2Hand.add(team2Deck2.getCards().get(i));
+            team2.getHand().add(team2Deck2.getCards().get(i));
         }
     }
     
@@ -144,11 +116,12 @@ public class TeamGameSession {
      * Проверяет, чей ход
      */
     public boolean isTeamTurn(ServerPlayer player) {
-        if (currentTeam == null) return false;
+        Seat current = board.getCurrentSeat();
+        if (current == null) return false;
         if (isTeam1Player(player)) {
-            return currentTeam.equals(team1Player1 != null ? team1Player1.getUUID() : null);
+            return current == Seat.FIRST;
         } else if (isTeam2Player(player)) {
-            return currentTeam.equals(team2Player1 != null ? team2Player1.getUUID() : null);
+            return current == Seat.SECOND && team2Player1 != null;
         }
         return false;
     }
@@ -161,52 +134,21 @@ public class TeamGameSession {
             return false;
         }
         
-        // Определяем команду
-        List<Card> hand = isTeam1Player(player) ? team1Hand : team2Hand;
-        
-        // Проверяем, есть ли карта в руке
-        if (!hand.contains(card)) {
+        // Карта из руки команды ложится в ряд (без ряда - ход не засчитывается)
+        Seat seat = isTeam1Player(player) ? Seat.FIRST : Seat.SECOND;
+        if (row == null || !engine.placeCard(seat, card, row.ordinal())) {
             return false;
         }
         
         // Сохраняем ход
         pendingPlays.put(player.getUUID(), card);
         
-        // Удаляем карту из руки
-        hand.remove(card);
-        
-        // Размещаем на поле
-        List<Card> targetRow = getRow(isTeam1Player(player), row);
-        targetRow.add(card);
-        
         // Проверяем, все ли игроки команды сделали ход
         checkTeamTurnComplete(isTeam1Player(player));
         
         return true;
     }
     
-    /**
-     * Получает ряд для размещения карты
-     */
-    private List<Card> getRow(boolean isTeam1, TeamCardRow row) {
-        if (isTeam1) {
-            switch (row) {
-                case MELEE_1: return team1MeleeRow1;
-                case MELEE_2: return team1MeleeRow2;
-                case RANGED_1: return team1RangedRow1;
-                case RANGED_2: return team1RangedRow2;
-            }
-        } else {
-            switch (row) {
-                case MELEE_1: return team2MeleeRow1;
-                case MELEE_2: return team2MeleeRow2;
-                case RANGED_1: return team2RangedRow1;
-                case RANGED_2: return team2RangedRow2;
-            }
-        }
-        return new ArrayList<>();
-    }
-    
     /**
      * Проверяет, завершён ли ход команды
      */
@@ -235,10 +177,11 @@ public class TeamGameSession {
      * Переключает ход
      */
     private void switchTurn() {
-        if (currentTeam != null && currentTeam.equals(team1Player1 != null ? team1Player1.getUUID() : null)) {
-            currentTeam = team2Player1 != null ? team2Player1.getUUID() : null;
-        } else {
-            currentTeam = team1Player1 != null ? team1Player1.getUUID() : null;
+        engine.endTurn();
+        // Команда без первого игрока не ходит
+        Seat next = board.getCurrentSeat();
+        if (next != null && (next == Seat.FIRST ? team1Player1 : team2Player1) == null) {
+            board.setCurrentSeat(null);
         }
     }
     
@@ -258,17 +201,11 @@ public class TeamGameSession {
      * Вычисляет силу команды
      */
     public int calculateTeamPower(boolean isTeam1) {
+        Seat seat = isTeam1 ? Seat.FIRST : Seat.SECOND;
         int power = 0;
-        List<List<Card>> rows = isTeam1 ?
-            Arrays.asList(team1MeleeRow1, team1MeleeRow2, team1RangedRow1, team1RangedRow2) :
-            Arrays.asList(team2MeleeRow1, team2MeleeRow2, team2RangedRow1, team2RangedRow2);
-        
-        for (List<Card> row : rows) {
-            for (Card card : row) {
-                power += card.getPower();
-            }
+        for (TeamCardRow row : TeamCardRow.values()) {
+            power += engine.getLanePower(seat, row.ordinal());
         }
-        
         return power;
     }
     
@@ -280,11 +217,12 @@ public class TeamGameSession {
     }
     
     // Геттеры
-    public List<Card> getTeam1Hand() { return team1Hand; }
-    public List<Card> getTeam2Hand() { return team2Hand; }
-    public int getTeam1RoundsWon() { return team1RoundsWon; }
-    public int getTeam2RoundsWon() { return team2RoundsWon; }
-    public int getCurrentRound() { return currentRound; }
-    public boolean isGameEnded() { return gameEnded; }
+    public List<Card> getTeam1Hand() { return team1.getHand(); }
+    public List<Card> getTeam2Hand() { return team2.getHand(); }
+    public int getTeam1RoundsWon() { return team1.getRoundsWon(); }
+    public int getTeam2RoundsWon() { return team2.getRoundsWon(); }
+    public int getCurrentRound() { return board.getCurrentRound(); }
+    public boolean isGameEnded() { return board.isGameEnded(); }
+    public GameBoard getBoard() { return board; }
 }
 
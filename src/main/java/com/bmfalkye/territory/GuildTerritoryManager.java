@@ -1,11 +1,11 @@
 package com.bmfalkye.territory;
 
+import com.bmfalkye.storage.AsyncSavedData;
 import com.bmfalkye.util.ModLogger;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -14,7 +14,7 @@ import java.util.*;
  * Менеджер территорий гильдий
  * Хранит состояние точек силы и контролирующих их гильдий
  */
-public class GuildTerritoryManager extends SavedData {
+public class GuildTerritoryManager extends AsyncSavedData {
     // Точки силы: позиция -> данные точки
     private final Map<BlockPos, TerritoryPoint> territoryPoints = new HashMap<>();
     
@@ -1,12 +1,12 @@
 package com.bmfalkye.tournament;
 
+import com.bmfalkye.storage.AsyncSavedData;
 import com.bmfalkye.util.DataLoadValidator;
 import com.bmfalkye.util.ModLogger;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.level.saveddata.SavedData;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -14,7 +14,7 @@ import java.util.*;
 /**
  * Хранилище пользовательских турниров
  */
-public class CustomTournamentStorage extends SavedData {
+public class CustomTournamentStorage extends AsyncSavedData {
     // ID турнира -> CustomTournament
     private final Map<String, CustomTournament> tournaments = new HashMap<>();
     
@@ -17,6 +17,9 @@ public class TournamentSpectatorManager {
     // Зритель -> матч, который он смотрит
     private static final Map<UUID, String> spectatorToMatch = new HashMap<>();
     
+    // Матч турнира -> UUID игроков матча
+    private static final Map<String, UUID[]> matchPlayers = new HashMap<>();
+    
     /**
      * Добавляет зрителя к матчу турнира
      */
@@ -24,7 +27,10 @@ public class TournamentSpectatorManager {
                                           ServerPlayer player1, ServerPlayer player2) {
         String matchKey = createMatchKey(tournamentId, player1, player2);
         
+        // Зритель переключается на другой матч
+        removeSpectator(spectator);
         matchSpectators.computeIfAbsent(matchKey, k -> new HashSet<>()).add(spectator.getUUID());
+        matchPlayers.put(matchKey, new UUID[] {player1.getUUID(), player2.getUUID()});
         spectatorToMatch.put(spectator.getUUID(), matchKey);
     }
     
@@ -32,18 +38,66 @@ public class TournamentSpectatorManager {
      * Удаляет зрителя из матча
      */
     public static void removeSpectator(ServerPlayer spectator) {
-        String matchKey = spectatorToMatch.remove(spectator.getUUID());
+        removeSpectator(spectator.getUUID());
+    }
+    
+    /**
+     * Удаляет зрителя из матча по UUID (в том числе вышедшего с сервера)
+     */
+    public static void removeSpectator(UUID spectatorUUID) {
+        String matchKey = spectatorToMatch.remove(spectatorUUID);
         if (matchKey != null) {
             Set<UUID> spectators = matchSpectators.get(matchKey);
             if (spectators != null) {
-                spectators.remove(spectator.getUUID());
+                spectators.remove(spectatorUUID);
                 if (spectators.isEmpty()) {
                     matchSpectators.remove(matchKey);
+                    matchPlayers.remove(matchKey);
                 }
             }
         }
     }
     
+    /**
+     * Удаляет матч и всех его зрителей (матч завершён)
+     */
+    public static void removeMatch(String matchKey) {
+        Set<UUID> spectators = matchSpectators.remove(matchKey);
+        matchPlayers.remove(matchKey);
+        if (spectators != null) {
+            for (UUID spectatorUUID : spectators) {
+                spectatorToMatch.remove(spectatorUUID);
+            }
+        }
+    }
+    
+    /**
+     * Получает все матчи, у которых есть зрители (копия: ключ матча -> зрители)
+     */
+    public static Map<String, Set<UUID>> getWatchedMatches() {
+        Map<String, Set<UUID>> result = new HashMap<>();
+        for (Map.Entry<String, Set<UUID>> entry : matchSpectators.entrySet()) {
+            result.put(entry.getKey(), new HashSet<>(entry.getValue()));
+        }
+        return result;
+    }
+    
+    /**
+     * Находит активную игровую сессию матча по его ключу
+     */
+    public static FalkyeGameSession findSessionForMatch(String matchKey) {
+        UUID[] players = matchPlayers.get(matchKey);
+        if (players == null) {
+            return null;
+        }
+        FalkyeGameSession session = GameManager.getActiveGames().get(players[0]);
+        if (session == null || session.getPlayer2() == null
+            || !(session.getPlayer2().getUUID().equals(players[1]) || session.getPlayer1().getUUID().equals(players[1]))) {
+            return null;
+        }
+        return session;
+    }
+    
     /**
      * Получает список зрителей матча
      */
@@ -181,7 +181,7 @@ public class ErrorRecoverySystem {
             if (player.level() instanceof ServerLevel level) {
                 PlayerProgressStorage storage = PlayerProgressStorage.get(level);
                 // Принудительно сохраняем прогресс
-                storage.setDirty();
+                storage.markDirty(player.getUUID());
                 return true;
             }
             return false;
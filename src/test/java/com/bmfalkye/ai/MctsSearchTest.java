@@ -0,0 +1,110 @@
+package com.bmfalkye.ai;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.CardDeck;
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.game.core.GameBoard;
+import com.bmfalkye.game.core.RulesEngine;
+import com.bmfalkye.game.core.Seat;
+import com.bmfalkye.game.core.SeatState;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link MctsSearch}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class MctsSearchTest {
+
+    private static Card creature(String id, int power) {
+        return new Card(id, id, Card.CardType.CREATURE, power, "", "Дом Пламени");
+    }
+
+    private static List<Card> creatures(String prefix, int count) {
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            cards.add(creature(prefix + i, 1 + i % 7));
+        }
+        return cards;
+    }
+
+    /**
+     * Решающий раунд при счёте 1:1: первое место спасовало с 5 очками, второе ходит
+     */
+    private static RulesEngine decidingRound() {
+        GameBoard board = new GameBoard(new CardDeck(new ArrayList<>()), new CardDeck(new ArrayList<>()));
+        board.setCurrentRound(3);
+        board.seat(Seat.FIRST).setRoundsWon(1);
+        board.seat(Seat.SECOND).setRoundsWon(1);
+        board.seat(Seat.FIRST).getRow(FalkyeGameSession.CardRow.MELEE).add(creature("a1", 5));
+        board.seat(Seat.FIRST).setPassed(true);
+        board.seat(Seat.SECOND).getHand().addAll(Arrays.asList(creature("b1", 10), creature("b2", 1)));
+        board.setCurrentSeat(Seat.SECOND);
+        RulesEngine engine = new RulesEngine(board);
+        engine.recalculateScores();
+        return engine;
+    }
+
+    @Test
+    void testFindsWinningPlayInsteadOfPass() {
+        MctsSearch.Result result = new MctsSearch(new Random(42))
+            .search(decidingRound(), Seat.SECOND, 1000, 500);
+
+        assertNotNull(result.move);
+        assertFalse(result.move.isPass());
+        assertTrue(result.winRate > 0.5);
+    }
+
+    @Test
+    void testNoMovesWhenGameEnded() {
+        RulesEngine engine = decidingRound();
+        engine.getBoard().setGameEnded(true);
+
+        assertNull(new MctsSearch(new Random(1)).search(engine, Seat.SECOND, 100, 10).move);
+    }
+
+    @Test
+    void testSearchDoesNotChangeRoot() {
+        RulesEngine engine = new RulesEngine(new GameBoard(
+            new CardDeck(creatures("a", 14)), new CardDeck(creatures("b", 14))));
+        engine.dealInitialHands();
+        List<Card> handBefore = List.copyOf(engine.getBoard().seat(Seat.FIRST).getHand());
+
+        MctsSearch.Result result = new MctsSearch(new Random(7)).search(engine, Seat.FIRST, 1000, 200);
+
+        assertEquals(200, result.iterations);
+        assertEquals(handBefore, engine.getBoard().seat(Seat.FIRST).getHand());
+        assertTrue(engine.getLegalMoves(Seat.FIRST).stream()
+            .anyMatch(move -> MctsSearch.moveKey(move).equals(MctsSearch.moveKey(result.move))));
+    }
+
+    @Test
+    void testDeterminizationResamplesOnlyHiddenCards() {
+        RulesEngine engine = new RulesEngine(new GameBoard(
+            new CardDeck(creatures("a", 14)), new CardDeck(creatures("b", 14))));
+        engine.dealInitialHands();
+        SeatState opponent = engine.getBoard().seat(Seat.FIRST);
+        List<Card> unseenBefore = new ArrayList<>(opponent.getHand());
+        unseenBefore.addAll(opponent.getDeck().getCards());
+
+        RulesEngine sample = new MctsSearch(new Random(3)).determinize(engine, Seat.SECOND);
+
+        assertEquals(engine.getBoard().seat(Seat.SECOND).getHand(), sample.getBoard().seat(Seat.SECOND).getHand());
+        SeatState sampled = sample.getBoard().seat(Seat.FIRST);
+        assertEquals(opponent.getHand().size(), sampled.getHand().size());
+        List<Card> unseenAfter = new ArrayList<>(sampled.getHand());
+        unseenAfter.addAll(sampled.getDeck().getCards());
+        unseenBefore.sort(Comparator.comparing(Card::getId));
+        unseenAfter.sort(Comparator.comparing(Card::getId));
+        assertEquals(unseenBefore, unseenAfter);
+    }
+}
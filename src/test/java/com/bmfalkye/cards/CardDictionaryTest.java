@@ -0,0 +1,48 @@
+package com.bmfalkye.cards;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link CardDictionary}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class CardDictionaryTest {
+
+    @Test
+    void testNumberingIsIndependentOfRegistrationOrder() {
+        CardDictionary first = CardDictionary.of(List.of("fire_drake", "ash_golem", "water_spirit"));
+        CardDictionary second = CardDictionary.of(List.of("water_spirit", "fire_drake", "ash_golem"));
+
+        assertEquals(first.getContentHash(), second.getContentHash());
+        assertEquals(1, first.getNumericId("ash_golem"));
+        assertEquals(first.getNumericId("fire_drake"), second.getNumericId("fire_drake"));
+        assertEquals("water_spirit", first.getId(3));
+    }
+
+    @Test
+    void testUnknownIds() {
+        CardDictionary dictionary = CardDictionary.of(List.of("fire_drake"));
+
+        assertEquals(CardDictionary.UNKNOWN, dictionary.getNumericId("missing"));
+        assertEquals(CardDictionary.UNKNOWN, dictionary.getNumericId(null));
+        assertNull(dictionary.getId(0));
+        assertNull(dictionary.getId(2));
+    }
+
+    @Test
+    void testAppendKeepsExistingIds() {
+        CardDictionary dictionary = CardDictionary.of(List.of("b_card", "c_card"));
+        CardDictionary appended = dictionary.withAppended("a_card");
+
+        assertEquals(dictionary.getNumericId("b_card"), appended.getNumericId("b_card"));
+        assertEquals(3, appended.getNumericId("a_card"));
+        assertNotEquals(dictionary.getContentHash(), appended.getContentHash());
+        assertEquals(appended.getContentHash(), CardDictionary.ordered(appended.getOrderedIds()).getContentHash());
+    }
+}
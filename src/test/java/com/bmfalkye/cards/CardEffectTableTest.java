@@ -0,0 +1,52 @@
+package com.bmfalkye.cards;
+
+import com.bmfalkye.game.core.CardEffects;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link CardEffectTable} и привязки встроенных эффектов {@link CardEffects}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class CardEffectTableTest {
+
+    private static Card card(String id, Card.CardType type, String description) {
+        return new Card(id, id, type, 3, description, "Дом Пламени");
+    }
+
+    @Test
+    void testBuiltinEffectsBindById() {
+        assertNotNull(CardEffects.resolveBuiltin(card("weather_frost", Card.CardType.SPELL, "")));
+        assertNotNull(CardEffects.resolveBuiltin(card("time_paradox", Card.CardType.SPECIAL, "")));
+        assertNotNull(CardEffects.resolveBuiltin(card("ancient_tree", Card.CardType.CREATURE, "")));
+    }
+
+    @Test
+    void testBuiltinEffectsBindByDescription() {
+        assertNotNull(CardEffects.resolveBuiltin(
+            card("addon_ice", Card.CardType.SPELL, "Мороз сковывает поле")));
+    }
+
+    @Test
+    void testUnboundCardsFallBack() {
+        Card unknownSpell = card("addon_spell", Card.CardType.SPELL, "Загадочная карта");
+        assertNull(CardEffects.resolveBuiltin(unknownSpell));
+        assertNotNull(CardEffects.fallback(unknownSpell));
+
+        // Существо с признаками способности без обработчика - не привязано
+        assertNull(CardEffects.resolveBuiltin(card("addon_creature", Card.CardType.CREATURE, "Наносит урон")));
+    }
+
+    @Test
+    void testPlainCreatureIsBound() {
+        assertNotNull(CardEffects.resolveBuiltin(card("plain_soldier", Card.CardType.CREATURE, "Верный воин")));
+    }
+
+    @Test
+    void testCardsOutsideRegistryResolveOnTheFly() {
+        assertNotNull(CardEffectTable.get(card("addon_spell", Card.CardType.SPELL, "Загадочная карта")));
+    }
+}
@@ -0,0 +1,73 @@
+package com.bmfalkye.cards;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link CardIntMap}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class CardIntMapTest {
+
+    private static Card card(String id) {
+        return new Card(id, id, Card.CardType.CREATURE, 5, "", "Дом Пламени");
+    }
+
+    @Test
+    void testRegisteredCardsAreIndexedByNumericId() {
+        Card card = card("int_map_registered");
+        CardRegistry.registerCard(card);
+        CardRegistry.freeze();
+        assertTrue(card.getNumericId() > 0);
+
+        CardIntMap map = new CardIntMap();
+        map.add(card, 3);
+        map.add("int_map_registered", -1);
+
+        // Карта и её строковый ID указывают на одну запись
+        assertEquals(2, map.get(card));
+        assertEquals(2, map.get("int_map_registered"));
+        assertEquals(1, map.size());
+        assertEquals(Map.of("int_map_registered", 2), map.toMap());
+    }
+
+    @Test
+    void testUnregisteredCardsFallBackToStringIds() {
+        Card card = card("int_map_unregistered");
+        CardIntMap map = new CardIntMap();
+        map.add(card, 4);
+
+        assertEquals(4, map.get("int_map_unregistered"));
+        assertEquals(0, map.get("int_map_missing"));
+
+        // Нулевое значение убирает запись
+        map.add(card, -4);
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        Card registered = card("int_map_copy");
+        CardRegistry.registerCard(registered);
+        CardRegistry.freeze();
+        CardIntMap map = new CardIntMap();
+        map.put(registered, 2);
+        map.put("int_map_copy_unregistered", -1);
+
+        CardIntMap copy = map.copy();
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(2, copy.get(registered));
+        assertEquals(-1, copy.get("int_map_copy_unregistered"));
+
+        map.setAll(copy);
+        assertEquals(2, map.size());
+        copy.remove(registered);
+        assertEquals(2, map.get(registered));
+    }
+}
@@ -1,5 +1,8 @@
 package com.bmfalkye.cards;
 
+import com.bmfalkye.game.core.GameBoard;
+import com.bmfalkye.game.core.RulesEngine;
+import com.bmfalkye.game.core.Seat;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -14,8 +17,7 @@ import static org.junit.jupiter.api.Assertions.*;
  *   <li>Сброс состояния</li>
  * </ul>
  * 
- * <p><b>Внимание:</b> Полное тестирование требует моков для {@link com.bmfalkye.game.FalkyeGameSession}
- * и {@link net.minecraft.server.level.ServerPlayer}, так как эти классы зависят от Minecraft Forge.
+ * <p>Способность лидера применяется через {@link RulesEngine}, поэтому тестируется без сервера Minecraft.
  * 
  * @author BeforeMine Team
  * @since 1.0
@@ -83,9 +85,9 @@ class LeaderCardTest {
     void testReset() {
         LeaderCard leader = createTestLeader();
         
-        // Используем лидера (устанавливаем состояние)
-        // В реальном тесте здесь был бы вызов leader.use(), но для этого нужны моки
-        // Поэтому просто проверяем метод reset()
+        leader.use(new RulesEngine(new GameBoard(null, null)), Seat.FIRST);
+        assertTrue(leader.isUsed(), "После использования лидер должен быть отмечен использованным");
+        
         leader.reset();
         
         assertFalse(leader.isUsed(), "После сброса лидер должен быть не использован");
@@ -0,0 +1,121 @@
+package com.bmfalkye.client.network;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.CardRegistry;
+import com.bmfalkye.game.ClientFalkyeGameSession;
+import com.bmfalkye.game.FalkyeGameSession;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link ClientPrediction}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class ClientPredictionTest {
+    private static final Card KNIGHT = new Card("prediction_knight", "Рыцарь", Card.CardType.CREATURE, 5, "", "Дом Пламени");
+    private static final Card ARCHER = new Card("prediction_archer", "Лучник", Card.CardType.CREATURE, 3, "", "Дом Пламени");
+    private static final Card SPELL = new Card("prediction_spell", "Заклинание", Card.CardType.SPELL, 0, "", "Дом Пламени");
+
+    private final UUID local = UUID.randomUUID();
+    private final UUID opponent = UUID.randomUUID();
+
+    @BeforeAll
+    static void registerCards() {
+        for (Card card : Arrays.asList(KNIGHT, ARCHER, SPELL)) {
+            if (CardRegistry.getCard(card.getId()) == null) {
+                CardRegistry.registerCard(card);
+            }
+        }
+    }
+
+    private ClientFalkyeGameSession session(List<String> hand, List<String> melee, int score,
+                                            FalkyeGameSession.WeatherType weather, boolean opponentPassed) {
+        return new ClientFalkyeGameSession(local, opponent, score, 0, 1, local,
+            new ArrayList<>(hand), new ArrayList<>(List.of(ARCHER.getId())),
+            new ArrayList<>(melee), new ArrayList<>(), new ArrayList<>(),
+            new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+            new ArrayList<>(), new ArrayList<>(),
+            weather, "", "", 0, 0, false, opponentPassed, false, 30, 0,
+            Collections.emptyMap(), new ArrayList<>(), null, null);
+    }
+
+    @Test
+    void testPlainCreaturePlayIsPredicted() {
+        ClientFalkyeGameSession base = session(List.of(KNIGHT.getId(), ARCHER.getId()), List.of(), 0,
+            FalkyeGameSession.WeatherType.NONE, false);
+
+        ClientFalkyeGameSession predicted = ClientPrediction.predictPlay(base, local, KNIGHT, FalkyeGameSession.CardRow.MELEE);
+
+        assertNotNull(predicted);
+        assertEquals(List.of(ARCHER.getId()), predicted.getHand1Ids());
+        assertEquals(List.of(KNIGHT.getId()), predicted.getMelee1Ids());
+        assertEquals(5, predicted.getRoundScore1());
+        assertEquals(opponent, predicted.getCurrentPlayerUUID());
+    }
+
+    @Test
+    void testPredictionFollowsSharedRules() {
+        // Погода снижает силу карты до 1
+        ClientFalkyeGameSession frost = session(List.of(KNIGHT.getId()), List.of(), 4,
+            FalkyeGameSession.WeatherType.FROST, false);
+        assertEquals(5, ClientPrediction.predictPlay(frost, local, KNIGHT, FalkyeGameSession.CardRow.MELEE).getRoundScore1());
+
+        // Со способностью в руке ход остаётся у игрока, а пас не предсказывается (может быть отказом)
+        ClientFalkyeGameSession withSpell = session(List.of(KNIGHT.getId(), SPELL.getId()), List.of(), 0,
+            FalkyeGameSession.WeatherType.NONE, false);
+        assertEquals(local, ClientPrediction.predictPlay(withSpell, local, KNIGHT, FalkyeGameSession.CardRow.MELEE).getCurrentPlayerUUID());
+        assertNull(ClientPrediction.predictPass(withSpell, local));
+
+        // Способности и карты не из руки не предсказываются
+        assertNull(ClientPrediction.predictPlay(withSpell, local, SPELL, FalkyeGameSession.CardRow.MELEE));
+        assertNull(ClientPrediction.predictPlay(frost, local, ARCHER, FalkyeGameSession.CardRow.MELEE));
+    }
+
+    @Test
+    void testConfirmedPredictionIsDropped() {
+        ClientPrediction prediction = new ClientPrediction();
+        ClientFalkyeGameSession base = session(List.of(KNIGHT.getId(), ARCHER.getId()), List.of(), 0,
+            FalkyeGameSession.WeatherType.NONE, false);
+        ClientFalkyeGameSession predicted = ClientPrediction.predictPlay(base, local, KNIGHT, FalkyeGameSession.CardRow.MELEE);
+        prediction.track(1, KNIGHT, FalkyeGameSession.CardRow.MELEE, predicted);
+
+        // Сервер добавил бонус силы - очки другие, но рука и ряды совпали
+        ClientFalkyeGameSession authoritative = session(List.of(ARCHER.getId()), List.of(KNIGHT.getId()), 7,
+            FalkyeGameSession.WeatherType.NONE, false);
+        ClientPrediction.Reconciliation result = prediction.reconcile(authoritative, 1, local);
+
+        assertFalse(result.isRolledBack());
+        assertSame(authoritative, result.getSession());
+        assertFalse(prediction.hasPending());
+    }
+
+    @Test
+    void testRejectedPredictionIsRolledBack() {
+        ClientPrediction prediction = new ClientPrediction();
+        ClientFalkyeGameSession base = session(List.of(KNIGHT.getId(), ARCHER.getId()), List.of(), 0,
+            FalkyeGameSession.WeatherType.NONE, false);
+        prediction.track(1, KNIGHT, FalkyeGameSession.CardRow.MELEE,
+            ClientPrediction.predictPlay(base, local, KNIGHT, FalkyeGameSession.CardRow.MELEE));
+
+        // Состояние до обработки хода - предсказание остаётся поверх него
+        ClientPrediction.Reconciliation early = prediction.reconcile(base, 0, local);
+        assertFalse(early.isRolledBack());
+        assertEquals(List.of(KNIGHT.getId()), early.getSession().getMelee1Ids());
+
+        // Сервер отклонил ход: состояние не изменилось
+        ClientPrediction.Reconciliation result = prediction.reconcile(base, 1, local);
+        assertTrue(result.isRolledBack());
+        assertSame(base, result.getSession());
+        assertFalse(prediction.hasPending());
+    }
+}
@@ -0,0 +1,61 @@
+package com.bmfalkye.game;
+
+import com.bmfalkye.cards.Card;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для индекса карт на поле ({@link BattlefieldIndex}, {@link FieldRow}).
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class BattlefieldIndexTest {
+
+    private static Card card(String id) {
+        return new Card(id, id, Card.CardType.CREATURE, 5, "", "Дом Пламени");
+    }
+
+    @Test
+    void testSameInstanceIsIndexedPerSide() {
+        BattlefieldIndex index = new BattlefieldIndex();
+        FieldRow melee1 = new FieldRow(index, new RowScoreTracker(), 1, FalkyeGameSession.CardRow.MELEE);
+        FieldRow siege2 = new FieldRow(index, new RowScoreTracker(), 2, FalkyeGameSession.CardRow.SIEGE);
+        Card shared = card("fire_drake");
+
+        siege2.add(shared);
+        assertEquals(2, index.find(shared).side);
+
+        melee1.add(shared);
+        assertEquals(1, index.find(shared).side);
+        assertEquals(FalkyeGameSession.CardRow.SIEGE, index.get(shared, 2).row);
+
+        melee1.remove(shared);
+        assertNull(index.get(shared, 1));
+        assertEquals(2, index.find(shared).side);
+    }
+
+    @Test
+    void testSlotsFollowRemovalAndClear() {
+        BattlefieldIndex index = new BattlefieldIndex();
+        FieldRow row = new FieldRow(index, new RowScoreTracker(), 1, FalkyeGameSession.CardRow.RANGED);
+        Card first = card("a");
+        Card second = card("b");
+        Card third = card("c");
+        row.add(first);
+        row.add(second);
+        row.add(third);
+
+        assertEquals(2, index.get(third, 1).slot);
+        row.remove(first);
+        assertEquals(1, index.get(third, 1).slot);
+        assertNull(index.get(first, 1));
+
+        row.removeIf(c -> c == second);
+        assertEquals(0, index.get(third, 1).slot);
+
+        row.clear();
+        assertNull(index.find(third));
+    }
+}
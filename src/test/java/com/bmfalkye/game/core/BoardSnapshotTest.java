@@ -0,0 +1,98 @@
+package com.bmfalkye.game.core;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.CardDeck;
+import com.bmfalkye.game.FalkyeGameSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link BoardSnapshot} и ветвления {@link RulesEngine}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class BoardSnapshotTest {
+
+    private static Card creature(String id, int power) {
+        return new Card(id, id, Card.CardType.CREATURE, power, "", "Дом Пламени");
+    }
+
+    private static RulesEngine startedEngine() {
+        GameBoard board = new GameBoard(
+            new CardDeck(Arrays.asList(creature("a1", 5), creature("a2", 4), creature("a3", 3))),
+            new CardDeck(Arrays.asList(creature("b1", 2), creature("b2", 1))));
+        RulesEngine engine = new RulesEngine(board);
+        engine.dealInitialHands();
+        return engine;
+    }
+
+    @Test
+    void testRestoreReturnsBoardToSnapshot() {
+        RulesEngine engine = startedEngine();
+        GameBoard board = engine.getBoard();
+        board.setWeather(FalkyeGameSession.WeatherType.FOG);
+        board.seat(Seat.SECOND).addPowerModifier("b1", -1);
+        BoardSnapshot snapshot = board.snapshot();
+        List<Card> handBefore = List.copyOf(board.seat(Seat.FIRST).getHand());
+
+        engine.apply(engine.getLegalMoves(Seat.FIRST).get(0));
+        board.setWeather(FalkyeGameSession.WeatherType.NONE);
+        board.seat(Seat.SECOND).getPowerModifiers().clear();
+        assertEquals(Seat.SECOND, board.getCurrentSeat());
+
+        board.restore(snapshot);
+        assertEquals(handBefore, board.seat(Seat.FIRST).getHand());
+        assertTrue(board.seat(Seat.FIRST).getRow(FalkyeGameSession.CardRow.MELEE).isEmpty());
+        assertEquals(FalkyeGameSession.WeatherType.FOG, board.getWeather());
+        assertEquals(-1, board.seat(Seat.SECOND).getPowerModifier("b1"));
+        assertEquals(Seat.FIRST, board.getCurrentSeat());
+    }
+
+    @Test
+    void testForkIsIndependentAndSharesCards() {
+        RulesEngine engine = startedEngine();
+        RulesEngine fork = engine.fork();
+
+        assertTrue(fork.apply(fork.getLegalMoves(Seat.FIRST).get(0)));
+        assertEquals(3, engine.getBoard().seat(Seat.FIRST).getHand().size());
+        assertEquals(2, fork.getBoard().seat(Seat.FIRST).getHand().size());
+        assertSame(engine.getBoard().seat(Seat.FIRST).getHand().get(1),
+            fork.getBoard().seat(Seat.FIRST).getHand().get(0));
+    }
+
+    @Test
+    void testUndoWalksBackThroughMoves() {
+        RulesEngine fork = startedEngine().fork();
+        GameBoard board = fork.getBoard();
+        BoardSnapshot start = board.snapshot();
+
+        int applied = 0;
+        while (!board.isGameEnded() && applied < 100) {
+            assertTrue(fork.apply(fork.getLegalMoves(board.getCurrentSeat()).get(0)));
+            applied++;
+        }
+        assertTrue(board.isGameEnded());
+        assertEquals(applied, fork.getHistorySize());
+
+        while (fork.undo()) {
+            applied--;
+        }
+        assertEquals(0, applied);
+        assertFalse(board.isGameEnded());
+        assertEquals(1, board.getCurrentRound());
+        assertEquals(start.toBoard().seat(Seat.FIRST).getHand(), board.seat(Seat.FIRST).getHand());
+    }
+
+    @Test
+    void testRejectedMoveIsNotRecorded() {
+        RulesEngine fork = startedEngine().fork();
+        assertFalse(fork.apply(RulesEngine.Move.play(creature("missing", 1), FalkyeGameSession.CardRow.MELEE)));
+        assertEquals(0, fork.getHistorySize());
+        assertFalse(fork.undo());
+    }
+}
@@ -0,0 +1,96 @@
+package com.bmfalkye.game.core;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.game.FalkyeGameSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link CardEffects}: эффекты карт применяются через
+ * {@link RulesEngine} без сервера Minecraft.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class CardEffectsTest {
+
+    private static Card creature(String id, int power) {
+        return new Card(id, id, Card.CardType.CREATURE, power, "", "Дом Пламени");
+    }
+
+    private static Card spell(String id, String description) {
+        return new Card(id, id, Card.CardType.SPELL, 0, description, "Дом Пламени");
+    }
+
+    private static RulesEngine engine() {
+        RulesEngine engine = new RulesEngine(new GameBoard(null, null),
+            CardEffects.RESOLVER, GameListener.NONE, RulesEngine.BASE_POWER);
+        engine.setRandom(new Random(1L));
+        return engine;
+    }
+
+    @Test
+    void testTimeFreezeForcesOpponentPass() {
+        RulesEngine engine = engine();
+        GameBoard board = engine.getBoard();
+        board.seat(Seat.FIRST).getHand().add(spell("time_freeze", ""));
+        board.seat(Seat.SECOND).getHand().add(creature("b", 3));
+
+        assertEquals(GameRules.PlayCheck.OK,
+            engine.playCard(Seat.FIRST, spell("time_freeze", ""), FalkyeGameSession.CardRow.MELEE));
+        assertTrue(board.seat(Seat.SECOND).isPassed());
+        // Оппонент в пасе - ход остаётся у сыгравшего
+        assertEquals(Seat.FIRST, board.getCurrentSeat());
+        assertEquals(1, board.seat(Seat.FIRST).getGraveyard().size());
+    }
+
+    @Test
+    void testTemporalShiftReturnsCardOnce() {
+        RulesEngine engine = engine();
+        GameBoard board = engine.getBoard();
+        Card target = creature("b", 4);
+        board.seat(Seat.SECOND).getRow(FalkyeGameSession.CardRow.MELEE).add(target);
+        board.seat(Seat.SECOND).addPowerModifier(target, 2);
+        board.seat(Seat.FIRST).getHand().add(spell("temporal_shift", ""));
+
+        engine.playCard(Seat.FIRST, spell("temporal_shift", ""), FalkyeGameSession.CardRow.MELEE);
+
+        assertTrue(board.seat(Seat.SECOND).getRow(FalkyeGameSession.CardRow.MELEE).isEmpty());
+        assertEquals(1, board.seat(Seat.SECOND).getHand().size());
+        assertSame(target, board.seat(Seat.SECOND).getHand().get(0));
+        assertEquals(0, board.seat(Seat.SECOND).getPowerModifier(target));
+    }
+
+    @Test
+    void testFlameStormDamagesOpponentField() {
+        RulesEngine engine = engine();
+        GameBoard board = engine.getBoard();
+        Card strong = creature("strong", 5);
+        Card weak = creature("weak", 2);
+        board.seat(Seat.SECOND).getRow(FalkyeGameSession.CardRow.MELEE).add(strong);
+        board.seat(Seat.SECOND).getRow(FalkyeGameSession.CardRow.RANGED).add(weak);
+        board.seat(Seat.FIRST).getHand().add(spell("flame_storm", ""));
+
+        engine.playCard(Seat.FIRST, spell("flame_storm", ""), FalkyeGameSession.CardRow.MELEE);
+
+        assertEquals(3, engine.getPower(Seat.SECOND, strong));
+        assertTrue(board.seat(Seat.SECOND).getRow(FalkyeGameSession.CardRow.RANGED).isEmpty());
+        assertTrue(board.seat(Seat.SECOND).getGraveyard().contains(weak));
+        assertEquals(3, board.seat(Seat.SECOND).getRoundScore());
+    }
+
+    @Test
+    void testNoneResolverPlaysVanillaCards() {
+        GameBoard board = new GameBoard(null, null);
+        RulesEngine engine = new RulesEngine(board);
+        board.seat(Seat.FIRST).getHand().add(spell("time_freeze", ""));
+
+        engine.playCard(Seat.FIRST, spell("time_freeze", ""), FalkyeGameSession.CardRow.MELEE);
+
+        assertFalse(board.seat(Seat.SECOND).isPassed());
+        assertEquals(Seat.SECOND, board.getCurrentSeat());
+    }
+}
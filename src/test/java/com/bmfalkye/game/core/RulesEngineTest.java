@@ -0,0 +1,121 @@
+package com.bmfalkye.game.core;
+
+import com.bmfalkye.cards.Card;
+import com.bmfalkye.cards.CardDeck;
+import com.bmfalkye.game.FalkyeGameSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link RulesEngine} и правил {@link GameRules} без сервера Minecraft.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class RulesEngineTest {
+
+    private static Card creature(String id, int power) {
+        return new Card(id, id, Card.CardType.CREATURE, power, "", "Дом Пламени");
+    }
+
+    private static Card spell(String id) {
+        return new Card(id, id, Card.CardType.SPELL, 0, "", "Дом Пламени");
+    }
+
+    private static RulesEngine engine(List<Card> hand1, List<Card> hand2) {
+        GameBoard board = new GameBoard(null, null);
+        board.seat(Seat.FIRST).getHand().addAll(hand1);
+        board.seat(Seat.SECOND).getHand().addAll(hand2);
+        return new RulesEngine(board);
+    }
+
+    @Test
+    void testPlayCardMovesCardAndSwitchesTurn() {
+        RulesEngine engine = engine(Arrays.asList(creature("a", 5)), Arrays.asList(creature("b", 3)));
+        GameBoard board = engine.getBoard();
+
+        assertEquals(GameRules.PlayCheck.OK,
+            engine.playCard(Seat.FIRST, creature("a", 5), FalkyeGameSession.CardRow.MELEE));
+        assertTrue(board.seat(Seat.FIRST).getHand().isEmpty());
+        assertEquals(1, board.seat(Seat.FIRST).getRow(FalkyeGameSession.CardRow.MELEE).size());
+        assertEquals(5, board.seat(Seat.FIRST).getRoundScore());
+        assertEquals(Seat.SECOND, board.getCurrentSeat());
+
+        assertEquals(GameRules.PlayCheck.NOT_YOUR_TURN,
+            engine.playCard(Seat.FIRST, creature("a", 5), FalkyeGameSession.CardRow.MELEE));
+    }
+
+    @Test
+    void testTurnStaysWhileAbilityCanBePlayed() {
+        RulesEngine engine = engine(Arrays.asList(creature("a", 5), creature("c", 2), spell("s")),
+            Arrays.asList(creature("b", 3)));
+        GameBoard board = engine.getBoard();
+
+        engine.playCard(Seat.FIRST, creature("a", 5), FalkyeGameSession.CardRow.MELEE);
+        assertEquals(Seat.FIRST, board.getCurrentSeat());
+        assertEquals(GameRules.PlayCheck.NORMAL_ALREADY_PLAYED,
+            engine.playCard(Seat.FIRST, creature("c", 2), FalkyeGameSession.CardRow.MELEE));
+
+        // Пас после обычной карты - отказ от способности, а не пас на раунд
+        assertTrue(engine.pass(Seat.FIRST));
+        assertFalse(board.seat(Seat.FIRST).isPassed());
+        assertEquals(Seat.SECOND, board.getCurrentSeat());
+    }
+
+    @Test
+    void testWeatherReducesRowToCardCount() {
+        assertEquals(2, GameRules.rowScore(FalkyeGameSession.WeatherType.FROST,
+            FalkyeGameSession.CardRow.MELEE, 2, 14));
+        assertEquals(14, GameRules.rowScore(FalkyeGameSession.WeatherType.FROST,
+            FalkyeGameSession.CardRow.SIEGE, 2, 14));
+    }
+
+    @Test
+    void testRoundResolvedByRowsThenByTotal() {
+        GameRules.RoundResult byRows = GameRules.resolveRound(new int[] {9, 1, 0}, new int[] {1, 2, 3}, 10, 6);
+        assertEquals(Seat.SECOND, byRows.winner);
+        assertFalse(byRows.decidedByTotal);
+
+        GameRules.RoundResult byTotal = GameRules.resolveRound(new int[] {5, 1, 0}, new int[] {1, 9, 0}, 6, 10);
+        assertEquals(Seat.SECOND, byTotal.winner);
+        assertTrue(byTotal.decidedByTotal);
+
+        GameRules.RoundResult draw = GameRules.resolveRound(new int[] {5, 1, 0}, new int[] {1, 5, 0}, 6, 6);
+        assertNull(draw.winner);
+    }
+
+    @Test
+    void testRowDamageDestroysWeakestFirst() {
+        Card weak = creature("weak", 2);
+        Card strong = creature("strong", 6);
+        GameRules.DamagePlan plan = GameRules.planRowDamage(Arrays.asList(strong, weak), 5, Card::getPower);
+
+        assertEquals(List.of(weak), plan.destroyed);
+        assertSame(strong, plan.damaged);
+        assertEquals(3, plan.damagedPower);
+    }
+
+    @Test
+    void testHeadlessGamePlaysToTheEnd() {
+        GameBoard board = new GameBoard(
+            new CardDeck(Arrays.asList(creature("a1", 5), creature("a2", 5), creature("a3", 5))),
+            new CardDeck(Arrays.asList(creature("b1", 1))));
+        RulesEngine engine = new RulesEngine(board);
+        engine.dealInitialHands();
+        assertEquals(3, board.seat(Seat.FIRST).getHand().size());
+
+        int guard = 0;
+        while (!board.isGameEnded() && guard++ < 100) {
+            List<RulesEngine.Move> moves = engine.getLegalMoves(board.getCurrentSeat());
+            assertFalse(moves.isEmpty());
+            assertTrue(engine.apply(moves.get(0)));
+        }
+
+        assertTrue(board.isGameEnded());
+        assertEquals(Seat.FIRST, GameRules.getMatchWinner(board));
+    }
+}
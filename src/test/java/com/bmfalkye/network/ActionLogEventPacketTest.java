@@ -0,0 +1,75 @@
+package com.bmfalkye.network;
+
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.game.core.Seat;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link ActionLogEventPacket}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class ActionLogEventPacketTest {
+
+    private static ActionLogEventPacket roundTrip(ActionLogEventPacket packet) {
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        ActionLogEventPacket.encode(packet, buffer);
+        ActionLogEventPacket decoded = ActionLogEventPacket.decode(buffer);
+        assertEquals(0, buffer.readableBytes());
+        return decoded;
+    }
+
+    @Test
+    void testEventArgumentsSurviveRoundTrip() {
+        ActionLogEventPacket decoded = roundTrip(new ActionLogEventPacket(
+            ActionLogCode.FACTION_COMBO, Seat.SECOND, "Дом Пламени", 2));
+
+        assertEquals(ActionLogCode.FACTION_COMBO, decoded.getCode());
+        assertEquals(Seat.SECOND, decoded.getSeat());
+        assertEquals("Дом Пламени", decoded.getArg(0));
+        assertEquals(2, decoded.getArg(1));
+
+        ActionLogEventPacket card = roundTrip(new ActionLogEventPacket(ActionLogCode.CARD_LOST, null, "fire_dragon"));
+        assertEquals("fire_dragon", card.getArg(0));
+
+        ActionLogEventPacket played = roundTrip(new ActionLogEventPacket(ActionLogCode.CARD_PLAYED, Seat.FIRST,
+            "fire_dragon", FalkyeGameSession.CardRow.SIEGE));
+        assertEquals("fire_dragon", played.getArg(0));
+        assertEquals(FalkyeGameSession.CardRow.SIEGE, played.getArg(1));
+
+        ActionLogEventPacket effect = roundTrip(new ActionLogEventPacket(ActionLogCode.EFFECT_BOOST_ROW, Seat.FIRST,
+            "nature_heal", FalkyeGameSession.CardRow.RANGED, 3));
+        assertEquals("nature_heal", effect.getArg(0));
+        assertEquals(FalkyeGameSession.CardRow.RANGED, effect.getArg(1));
+        assertEquals(3, effect.getArg(2));
+    }
+
+    @Test
+    void testSeatIsKeptOnlyForActorEvents() {
+        assertNull(roundTrip(new ActionLogEventPacket(ActionLogCode.ROUND_SCORE, Seat.FIRST, 10, 7)).getSeat());
+        assertEquals(Seat.FIRST, roundTrip(new ActionLogEventPacket(ActionLogCode.PASSED, Seat.FIRST)).getSeat());
+    }
+
+    @Test
+    void testEventIsSmallerThanPreformattedString() {
+        FriendlyByteBuf event = new FriendlyByteBuf(Unpooled.buffer());
+        ActionLogEventPacket.encode(new ActionLogEventPacket(ActionLogCode.ROW_SCORES, null, 12, 9, 4, 15, 0, 6), event);
+        FriendlyByteBuf text = new FriendlyByteBuf(Unpooled.buffer());
+        text.writeUtf("§7Ближний бой: §a12 §7- §c9 | Дальний бой: §a4 §7- §c15 | Осада: §a0 §7- §c6");
+
+        assertTrue(event.readableBytes() * 8 < text.readableBytes());
+    }
+
+    @Test
+    void testInvalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new ActionLogEventPacket(ActionLogCode.FLAME_STORM, Seat.FIRST));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ActionLogEventPacket(ActionLogCode.FLAME_STORM, Seat.FIRST, "3"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.bmfalkye.network;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link BundlePacket}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class BundlePacketTest {
+
+    private static final int TEXT_ID = 1001;
+    private static final int NUMBER_ID = 1002;
+
+    private static final class TextMessage {
+        final String text;
+
+        TextMessage(String text) {
+            this.text = text;
+        }
+    }
+
+    private static final class NumberMessage {
+        final int value;
+
+        NumberMessage(int value) {
+            this.value = value;
+        }
+    }
+
+    @BeforeAll
+    static void registerCodecs() {
+        BundlePacket.registerCodec(TEXT_ID, TextMessage.class,
+            (msg, buf) -> buf.writeUtf(msg.text), buf -> new TextMessage(buf.readUtf()), (msg, ctx) -> { });
+        BundlePacket.registerCodec(NUMBER_ID, NumberMessage.class,
+            (msg, buf) -> buf.writeVarInt(msg.value), buf -> new NumberMessage(buf.readVarInt()), (msg, ctx) -> { });
+    }
+
+    private static BundlePacket roundTrip(BundlePacket packet) {
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        BundlePacket.encode(packet, buffer);
+        BundlePacket decoded = BundlePacket.decode(buffer);
+        assertEquals(0, buffer.readableBytes());
+        return decoded;
+    }
+
+    @Test
+    void testRoundTripKeepsOrder() {
+        BundlePacket decoded = roundTrip(new BundlePacket(List.of(
+            new TextMessage("log"), new NumberMessage(300), new TextMessage("emote"))));
+
+        List<Object> messages = decoded.getMessages();
+        assertEquals(3, messages.size());
+        assertEquals("log", ((TextMessage) messages.get(0)).text);
+        assertEquals(300, ((NumberMessage) messages.get(1)).value);
+        assertEquals("emote", ((TextMessage) messages.get(2)).text);
+    }
+
+    @Test
+    void testUnknownMessageIsSkipped() {
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        buffer.writeVarInt(2);
+        buffer.writeVarInt(9999);
+        buffer.writeInt(3);
+        buffer.writeBytes(new byte[] {1, 2, 3});
+        buffer.writeVarInt(NUMBER_ID);
+        buffer.writeInt(1);
+        buffer.writeVarInt(7);
+
+        List<Object> messages = BundlePacket.decode(buffer).getMessages();
+
+        assertEquals(1, messages.size());
+        assertEquals(7, ((NumberMessage) messages.get(0)).value);
+    }
+
+    @Test
+    void testOversizedCountIsRejectedBeforeAllocation() {
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        buffer.writeVarInt(Integer.MAX_VALUE);
+        buffer.writeVarInt(NUMBER_ID);
+        buffer.writeInt(1);
+        buffer.writeVarInt(7);
+
+        assertThrows(IllegalStateException.class, () -> BundlePacket.decode(buffer));
+    }
+
+    @Test
+    void testCanBundleOnlyRegisteredMessages() {
+        assertTrue(BundlePacket.canBundle(new TextMessage("x")));
+        assertFalse(BundlePacket.canBundle("plain string"));
+        assertFalse(BundlePacket.canBundle(null));
+        assertFalse(BundlePacket.canBundle(new BundlePacket(List.of())));
+    }
+}
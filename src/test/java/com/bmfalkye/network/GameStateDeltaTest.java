@@ -0,0 +1,85 @@
+package com.bmfalkye.network;
+
+import com.bmfalkye.game.ClientFalkyeGameSession;
+import com.bmfalkye.game.FalkyeGameSession;
+import com.bmfalkye.game.LocationEffect;
+import com.bmfalkye.settings.GameModeSettings;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link GameStateDelta}.
+ *
+ * <p>Проверяет, что дельта, применённая к базовому снимку, восстанавливает
+ * целевое состояние, и что неизменившиеся секции не попадают в пакет.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class GameStateDeltaTest {
+
+    private static final UUID PLAYER1 = UUID.randomUUID();
+    private static final UUID PLAYER2 = UUID.randomUUID();
+
+    private static ClientFalkyeGameSession session(int score1, List<String> hand1, List<String> melee1,
+                                                   Map<String, Integer> modifiers,
+                                                   FalkyeGameSession.WeatherType weather) {
+        return new ClientFalkyeGameSession(PLAYER1, PLAYER2, score1, 0, 1, PLAYER1,
+            hand1, new ArrayList<>(List.of("b1", "b2")),
+            melee1, new ArrayList<>(), new ArrayList<>(),
+            new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+            new ArrayList<>(), new ArrayList<>(),
+            weather, "", "", 0, 0, false, false, false, 30, 0,
+            modifiers, new ArrayList<>(), LocationEffect.LocationType.NONE,
+            GameModeSettings.GameMode.MODE_2D);
+    }
+
+    @Test
+    void testUnchangedStateProducesEmptyDelta() {
+        ClientFalkyeGameSession base = session(0, List.of("a1", "a2"), List.of(), Map.of(), FalkyeGameSession.WeatherType.NONE);
+        ClientFalkyeGameSession same = session(0, List.of("a1", "a2"), List.of(), Map.of(), FalkyeGameSession.WeatherType.NONE);
+
+        assertTrue(GameStateDelta.compute(base, same, 0, 1).isEmpty());
+    }
+
+    @Test
+    void testDeltaRoundTripRestoresTarget() {
+        Map<String, Integer> baseModifiers = new HashMap<>();
+        baseModifiers.put("a0", 2);
+        baseModifiers.put("a9", -1);
+        ClientFalkyeGameSession base = session(0, List.of("a1", "a2"), List.of("a0"), baseModifiers,
+            FalkyeGameSession.WeatherType.NONE);
+
+        Map<String, Integer> targetModifiers = new HashMap<>();
+        targetModifiers.put("a0", 3);
+        targetModifiers.put("a1", 1);
+        ClientFalkyeGameSession target = session(7, List.of("a2"), List.of("a0", "a1"), targetModifiers,
+            FalkyeGameSession.WeatherType.FROST);
+
+        GameStateDelta delta = GameStateDelta.compute(base, target, 4, 5);
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        GameStateDelta.encode(delta, buffer);
+        GameStateDelta decoded = GameStateDelta.decode(buffer);
+
+        assertEquals(4, decoded.getBaseSequence());
+        assertEquals(5, decoded.getSequence());
+
+        ClientFalkyeGameSession result = decoded.applyTo(base);
+        assertEquals(7, result.getRoundScore1());
+        assertEquals(List.of("a2"), result.getHand1Ids());
+        assertEquals(List.of("b1", "b2"), result.getHand2Ids());
+        assertEquals(List.of("a0", "a1"), result.getMelee1Ids());
+        assertEquals(targetModifiers, result.getPowerModifiers());
+        assertEquals(FalkyeGameSession.WeatherType.FROST, result.getWeather());
+        assertEquals(PLAYER1, result.getCurrentPlayerUUID());
+    }
+}
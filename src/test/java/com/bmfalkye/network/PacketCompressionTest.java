@@ -0,0 +1,95 @@
+package com.bmfalkye.network;
+
+import com.bmfalkye.cards.CardDictionary;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link PacketCompression}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class PacketCompressionTest {
+
+    private static FriendlyByteBuf newBuffer() {
+        return new FriendlyByteBuf(Unpooled.buffer());
+    }
+
+    private static void writeCollection(FriendlyByteBuf out, int size) {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeUtf("fire_dragon_" + (i % 12));
+        }
+    }
+
+    @Test
+    void testLargePayloadIsCompressedAndRestored() {
+        FriendlyByteBuf buffer = newBuffer();
+        PacketCompression.write(buffer, "test_large", out -> writeCollection(out, 500));
+
+        FriendlyByteBuf expected = newBuffer();
+        writeCollection(expected, 500);
+        assertTrue(buffer.readableBytes() < expected.readableBytes() / 4);
+
+        FriendlyByteBuf restored = PacketCompression.read(buffer, "test_large");
+        assertEquals(0, buffer.readableBytes());
+        assertEquals(500, restored.readInt());
+        for (int i = 0; i < 500; i++) {
+            assertEquals("fire_dragon_" + (i % 12), restored.readUtf());
+        }
+    }
+
+    @Test
+    void testSmallAndIncompressiblePayloadsStayRaw() {
+        FriendlyByteBuf small = newBuffer();
+        PacketCompression.write(small, "test_small", out -> out.writeUtf("Дом Пламени"));
+        assertEquals(PacketCompression.MODE_RAW, small.readVarInt());
+        small.readerIndex(0);
+        assertEquals("Дом Пламени", PacketCompression.read(small, "test_small").readUtf());
+
+        byte[] noise = new byte[4096];
+        new Random(5).nextBytes(noise);
+        FriendlyByteBuf data = new FriendlyByteBuf(Unpooled.wrappedBuffer(noise));
+        FriendlyByteBuf buffer = newBuffer();
+        PacketCompression.write(buffer, "test_noise", data);
+        assertEquals(noise.length, data.readableBytes());
+        assertEquals(PacketCompression.MODE_RAW, buffer.readVarInt());
+        buffer.readerIndex(0);
+
+        FriendlyByteBuf restored = PacketCompression.read(buffer, "test_noise");
+        byte[] restoredBytes = new byte[restored.readableBytes()];
+        restored.readBytes(restoredBytes);
+        assertArrayEquals(noise, restoredBytes);
+    }
+
+    @Test
+    void testStatsAreRecordedPerPacketType() {
+        PacketCompression.resetStats();
+        FriendlyByteBuf buffer = newBuffer();
+        PacketCompression.write(buffer, "test_stats", out -> writeCollection(out, 300));
+        PacketCompression.read(buffer, "test_stats");
+
+        PacketCompression.CompressionStats stats = PacketCompression.getStats().get("test_stats");
+        assertNotNull(stats);
+        assertEquals(2, stats.getPackets());
+        assertTrue(stats.getRatio() < 1.0);
+    }
+
+    @Test
+    void testDictionaryKeepsIdsAtTheEnd() {
+        CardDictionary cards = CardDictionary.of(List.of("ice_giant", "fire_dragon"));
+
+        String dictionary = new String(PacketCompression.buildDictionary(cards, null), StandardCharsets.UTF_8);
+
+        assertTrue(dictionary.contains("fire_dragon\n"));
+        assertTrue(dictionary.endsWith("\n"));
+    }
+}
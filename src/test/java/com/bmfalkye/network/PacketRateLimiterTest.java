@@ -0,0 +1,67 @@
+package com.bmfalkye.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link PacketRateLimiter}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class PacketRateLimiterTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void testBurstThenDrop() {
+        PacketRateLimiter.TokenBucket bucket = new PacketRateLimiter.TokenBucket(new PacketRateLimiter.Limit(3, 1), 0);
+
+        assertTrue(bucket.tryAcquire(0));
+        assertTrue(bucket.tryAcquire(0));
+        assertTrue(bucket.tryAcquire(0));
+        assertFalse(bucket.tryAcquire(0));
+    }
+
+    @Test
+    void testTokensRefillOverTime() {
+        PacketRateLimiter.TokenBucket bucket = new PacketRateLimiter.TokenBucket(new PacketRateLimiter.Limit(2, 2), 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+        assertFalse(bucket.tryAcquire(0));
+
+        // За полсекунды при 2 токенах в секунду появляется один токен
+        assertTrue(bucket.tryAcquire(SECOND / 2));
+        assertFalse(bucket.tryAcquire(SECOND / 2));
+
+        // Корзина не переполняется сверх размера пачки
+        assertTrue(bucket.tryAcquire(100 * SECOND));
+        assertTrue(bucket.tryAcquire(100 * SECOND));
+        assertFalse(bucket.tryAcquire(100 * SECOND));
+    }
+
+    @Test
+    void testLimitsArePerPlayerAndPerType() {
+        UUID flooder = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        long now = System.nanoTime();
+
+        int accepted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (PacketRateLimiter.tryAcquire(flooder, NetworkHandler.PassPacket.class, now)) {
+                accepted++;
+            }
+        }
+        assertEquals(3, accepted);
+        assertTrue(PacketRateLimiter.getDroppedStats().get("PassPacket") >= 17);
+
+        // Другой игрок и другой тип пакета не затронуты
+        assertTrue(PacketRateLimiter.tryAcquire(other, NetworkHandler.PassPacket.class, now));
+        assertTrue(PacketRateLimiter.tryAcquire(flooder, GameStatePackets.GameStateAckPacket.class, now));
+
+        PacketRateLimiter.clearPlayer(flooder);
+        assertTrue(PacketRateLimiter.tryAcquire(flooder, NetworkHandler.PassPacket.class, now));
+    }
+}
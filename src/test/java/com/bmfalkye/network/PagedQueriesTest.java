@@ -0,0 +1,71 @@
+package com.bmfalkye.network;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link PagedQueries}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class PagedQueriesTest {
+
+    private static List<String> cards(int count) {
+        List<String> cards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            cards.add("card_" + i);
+        }
+        return cards;
+    }
+
+    @Test
+    void testPagesCoverSnapshotWithoutGaps() {
+        List<String> snapshot = cards(45);
+        List<Object> collected = new ArrayList<>();
+        int offset = 0;
+        while (offset < snapshot.size()) {
+            PagePackets.PagePacket page = PagedQueries.slice(PagedListType.CARD_COLLECTION, 7, snapshot, offset, 20);
+            assertEquals(7, page.getCursor());
+            assertEquals(offset, page.getOffset());
+            assertEquals(45, page.getTotal());
+            collected.addAll(page.getItems());
+            offset += page.getItems().size();
+        }
+        assertEquals(snapshot, collected);
+    }
+
+    @Test
+    void testOffsetPastEndGivesEmptyPage() {
+        PagePackets.PagePacket page = PagedQueries.slice(PagedListType.CARD_COLLECTION, 1, cards(5), 50, 20);
+        assertEquals(5, page.getOffset());
+        assertTrue(page.getItems().isEmpty());
+    }
+
+    @Test
+    void testPageSizeIsClampedByServer() {
+        assertEquals(PagedQueries.MIN_PAGE_SIZE, PagedQueries.negotiatePageSize(0));
+        assertEquals(PagedQueries.MAX_PAGE_SIZE, PagedQueries.negotiatePageSize(100000));
+        assertEquals(30, PagedQueries.negotiatePageSize(30));
+    }
+
+    @Test
+    void testPageSurvivesRoundTrip() {
+        PagePackets.PagePacket page = PagedQueries.slice(PagedListType.CARD_COLLECTION, 3, cards(12), 10, 10);
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        PagePackets.PagePacket.encode(page, buffer);
+        PagePackets.PagePacket decoded = PagePackets.PagePacket.decode(buffer);
+
+        assertEquals(PagedListType.CARD_COLLECTION, decoded.getType());
+        assertEquals(3, decoded.getCursor());
+        assertEquals(10, decoded.getOffset());
+        assertEquals(12, decoded.getTotal());
+        assertEquals(List.of("card_10", "card_11"), decoded.getItems());
+    }
+}
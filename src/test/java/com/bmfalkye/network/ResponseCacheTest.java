@@ -0,0 +1,88 @@
+package com.bmfalkye.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link ResponseCache}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class ResponseCacheTest {
+    private final UUID player1 = UUID.randomUUID();
+    private final UUID player2 = UUID.randomUUID();
+    private final AtomicInteger encodes = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        for (ResponseCache.ResponseType type : ResponseCache.ResponseType.values()) {
+            ResponseCache.invalidate(type);
+        }
+        ResponseCache.resetStats();
+    }
+
+    private FriendlyByteBuf request(ResponseCache.ResponseType type, UUID player) {
+        return ResponseCache.get(type, player, out -> out.writeVarInt(encodes.incrementAndGet()));
+    }
+
+    @Test
+    void testRepeatedRequestIsServedFromCache() {
+        FriendlyByteBuf first = request(ResponseCache.ResponseType.STATISTICS, player1);
+        FriendlyByteBuf second = request(ResponseCache.ResponseType.STATISTICS, player1);
+
+        assertSame(first, second);
+        assertEquals(1, encodes.get());
+        ResponseCache.CacheStats stats = ResponseCache.getStats().get(ResponseCache.ResponseType.STATISTICS);
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0.5, stats.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void testScopeFollowsResponseType() {
+        request(ResponseCache.ResponseType.STATISTICS, player1);
+        request(ResponseCache.ResponseType.STATISTICS, player2);
+        assertEquals(2, encodes.get());
+
+        // Рейтинги общие - второй игрок получает тот же ответ
+        request(ResponseCache.ResponseType.LEADERBOARD, player1);
+        request(ResponseCache.ResponseType.LEADERBOARD, player2);
+        assertEquals(3, encodes.get());
+    }
+
+    @Test
+    void testInvalidationForcesReencode() {
+        request(ResponseCache.ResponseType.SHOP_ITEMS, player1);
+        request(ResponseCache.ResponseType.SHOP_ITEMS, player2);
+
+        ResponseCache.invalidatePlayer(ResponseCache.ResponseType.SHOP_ITEMS, player1);
+        request(ResponseCache.ResponseType.SHOP_ITEMS, player1);
+        request(ResponseCache.ResponseType.SHOP_ITEMS, player2);
+        assertEquals(3, encodes.get());
+
+        ResponseCache.invalidate(ResponseCache.ResponseType.SHOP_ITEMS);
+        request(ResponseCache.ResponseType.SHOP_ITEMS, player2);
+        assertEquals(4, encodes.get());
+        assertEquals(3, ResponseCache.getStats().get(ResponseCache.ResponseType.SHOP_ITEMS).getInvalidations());
+    }
+
+    @Test
+    void testCachedBytesAreNotConsumedBySending() {
+        FriendlyByteBuf cached = request(ResponseCache.ResponseType.EVENTS, player1);
+        int size = cached.readableBytes();
+
+        for (int i = 0; i < 2; i++) {
+            FriendlyByteBuf wire = new FriendlyByteBuf(io.netty.buffer.Unpooled.buffer());
+            NetworkHandler.SendEventsPacket.encode(new NetworkHandler.SendEventsPacket(cached), wire);
+            assertEquals(size, wire.readableBytes());
+        }
+        assertEquals(size, cached.readableBytes());
+    }
+}
@@ -0,0 +1,53 @@
+package com.bmfalkye.network;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link RttEstimator}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class RttEstimatorTest {
+
+    @Test
+    void testInitialTimeoutBeforeSamples() {
+        RttEstimator estimator = new RttEstimator();
+
+        assertEquals(-1, estimator.getSmoothedRttMs());
+        assertEquals(RttEstimator.INITIAL_TIMEOUT_MS, estimator.getRetransmitTimeoutMs());
+    }
+
+    @Test
+    void testTimeoutFollowsMeasuredRtt() {
+        RttEstimator estimator = new RttEstimator();
+        estimator.onSample(100);
+        // Первый замер: SRTT = 100, RTTVAR = 50
+        assertEquals(100, estimator.getSmoothedRttMs());
+        assertEquals(300, estimator.getRetransmitTimeoutMs());
+
+        for (int i = 0; i < 50; i++) {
+            estimator.onSample(100);
+        }
+        // Стабильное RTT - разброс стремится к нулю, тайм-аут упирается в минимум
+        assertEquals(RttEstimator.MIN_TIMEOUT_MS, estimator.getRetransmitTimeoutMs());
+    }
+
+    @Test
+    void testRetransmitBacksOffUntilNextSample() {
+        RttEstimator estimator = new RttEstimator();
+        estimator.onSample(100);
+
+        estimator.onRetransmit();
+        assertEquals(600, estimator.getRetransmitTimeoutMs());
+        for (int i = 0; i < 10; i++) {
+            estimator.onRetransmit();
+        }
+        assertEquals(RttEstimator.MAX_TIMEOUT_MS, estimator.getRetransmitTimeoutMs());
+
+        estimator.onSample(100);
+        assertTrue(estimator.getRetransmitTimeoutMs() < 600);
+    }
+}
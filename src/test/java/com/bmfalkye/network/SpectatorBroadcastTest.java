@@ -0,0 +1,52 @@
+package com.bmfalkye.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link SpectatorBroadcast}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class SpectatorBroadcastTest {
+
+    @Test
+    void testIntervalGrowsWithSpectators() {
+        assertEquals(10, SpectatorBroadcast.getInterval(1, false));
+        assertEquals(10, SpectatorBroadcast.getInterval(15, false));
+        assertEquals(25, SpectatorBroadcast.getInterval(48, false));
+        assertEquals(40, SpectatorBroadcast.getInterval(500, false));
+    }
+
+    @Test
+    void testIntervalDoublesWhenOverloaded() {
+        assertEquals(20, SpectatorBroadcast.getInterval(1, true));
+        assertEquals(40, SpectatorBroadcast.getInterval(48, true));
+    }
+
+    @Test
+    void testSameFrameIsCopiedToEverySpectator() {
+        FriendlyByteBuf frame = new FriendlyByteBuf(Unpooled.buffer());
+        frame.writeUtf("match frame");
+        frame.writeVarInt(42);
+        int frameSize = frame.readableBytes();
+        GameStatePackets.SpectatorFramePacket packet = new GameStatePackets.SpectatorFramePacket(frame);
+
+        ByteBuf first = Unpooled.buffer();
+        ByteBuf second = Unpooled.buffer();
+        GameStatePackets.SpectatorFramePacket.encode(packet, new FriendlyByteBuf(first));
+        GameStatePackets.SpectatorFramePacket.encode(packet, new FriendlyByteBuf(second));
+
+        assertEquals(frameSize, frame.readableBytes());
+        assertEquals(frameSize, first.readableBytes());
+        assertEquals(frameSize, packet.getFrameSize());
+        FriendlyByteBuf copy = new FriendlyByteBuf(second);
+        assertEquals("match frame", copy.readUtf());
+        assertEquals(42, copy.readVarInt());
+    }
+}
@@ -0,0 +1,174 @@
+package com.bmfalkye.replay;
+
+import com.bmfalkye.storage.SavePipeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link ReplayArchive}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class ReplayArchiveTest {
+    private final UUID player1 = UUID.randomUUID();
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("bm_falkye_replays");
+    }
+
+    private ReplaySystem.GameReplay replay(long timestamp, int moveCount) {
+        List<ReplaySystem.ReplayMove> moves = new ArrayList<>();
+        for (int i = 0; i < moveCount; i++) {
+            moves.add(new ReplaySystem.ReplayMove(i % 2 == 0 ? "Alex" : "Villager",
+                i % 5 == 4 ? "pass" : "play_card", i % 5 == 4 ? null : "card_" + (i % 7),
+                1 + i / 10, timestamp - 60_000 + i * 1500L));
+        }
+        return new ReplaySystem.GameReplay(player1, null, "Alex", "Villager", "Alex",
+            2, 1, timestamp - 60_000, timestamp, 60, moves);
+    }
+
+    private void awaitWrites() {
+        assertTrue(SavePipeline.awaitIdle(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testReplayRoundTrip() {
+        ReplayArchive archive = new ReplayArchive(directory, 1024 * 1024);
+        archive.open();
+        archive.append("r1", replay(1_000_000L, 30));
+
+        // До записи на диск реплей читается из очереди
+        ReplaySystem.GameReplay pending = archive.read("r1");
+        assertNotNull(pending);
+        assertEquals(30, pending.getMoves().size());
+        awaitWrites();
+
+        ReplayArchive reopened = new ReplayArchive(directory, 1024 * 1024);
+        reopened.open();
+        assertEquals(1, reopened.size());
+        ReplaySystem.ReplayInfo info = reopened.list().get(0);
+        assertEquals(player1, info.getPlayer1UUID());
+        assertNull(info.getPlayer2UUID());
+        assertEquals(1_000_000L, info.getTimestamp());
+
+        ReplaySystem.GameReplay loaded = reopened.read("r1");
+        assertEquals("Alex", loaded.getWinnerName());
+        assertEquals(60, loaded.getDuration());
+        ReplaySystem.ReplayMove move = loaded.getMoves().get(3);
+        assertEquals("Villager", move.getPlayerName());
+        assertEquals("card_3", move.getCardId());
+        assertEquals(1_000_000L - 60_000 + 3 * 1500L, move.getTimestamp());
+        assertNull(loaded.getMoves().get(4).getCardId());
+        reopened.close();
+    }
+
+    @Test
+    void testIndexIsRebuiltFromSegments() throws IOException {
+        ReplayArchive archive = new ReplayArchive(directory, 1024 * 1024);
+        archive.open();
+        archive.append("r1", replay(1_000L, 5));
+        archive.append("r2", replay(2_000L, 5));
+        assertTrue(archive.delete("r1"));
+        archive.flushIndex();
+        awaitWrites();
+
+        Files.delete(directory.resolve("index.dat"));
+        ReplayArchive reopened = new ReplayArchive(directory, 1024 * 1024);
+        reopened.open();
+        // Метка удаления в сегменте не даёт вернуть удалённый реплей
+        assertEquals(1, reopened.size());
+        assertEquals("r2", reopened.list().get(0).getReplayId());
+        assertNull(reopened.read("r1"));
+        assertNotNull(reopened.read("r2"));
+        awaitWrites();
+    }
+
+    @Test
+    void testIndexIsWrittenOnFlushAndCatchesUpFromSegmentTails() {
+        ReplayArchive archive = new ReplayArchive(directory, 1024 * 1024);
+        archive.open();
+        archive.append("r1", replay(1_000L, 5));
+        archive.append("r2", replay(2_000L, 5));
+        awaitWrites();
+        // Реплеи не переписывают индекс по одному
+        assertFalse(Files.exists(directory.resolve("index.dat")));
+
+        archive.flushIndex();
+        archive.append("r3", replay(3_000L, 5));
+        assertTrue(archive.delete("r1"));
+        awaitWrites();
+
+        // Индекс на диске знает только r1 и r2 - остальное дочитывается из хвоста сегмента
+        ReplayArchive reopened = new ReplayArchive(directory, 1024 * 1024);
+        reopened.open();
+        assertEquals(2, reopened.size());
+        assertNull(reopened.read("r1"));
+        assertNotNull(reopened.read("r2"));
+        assertEquals(5, reopened.read("r3").getMoves().size());
+        awaitWrites();
+    }
+
+    @Test
+    void testOldestSegmentIsDroppedOverLimit() {
+        ReplayArchive archive = new ReplayArchive(directory, 600, 300);
+        archive.open();
+        for (int i = 0; i < 10; i++) {
+            archive.append("r" + i, replay(1_000L * i, 20));
+        }
+        awaitWrites();
+
+        assertTrue(archive.getTotalBytes() <= 600);
+        assertNull(archive.read("r0"));
+        assertNotNull(archive.read("r9"));
+        assertFalse(Files.exists(archive.segmentFile(0)));
+        assertEquals(archive.size(), archive.list().size());
+    }
+
+    @Test
+    void testSegmentStaysCountedWhenDeleteFails() throws IOException {
+        ReplayArchive archive = new ReplayArchive(directory, 600, 300);
+        archive.open();
+        int count = 0;
+        while (!Files.exists(archive.segmentFile(1))) {
+            archive.append("r" + count, replay(1_000L * count, 20));
+            count++;
+            awaitWrites();
+        }
+
+        // Сегмент, который нельзя удалить (как отображённый в память файл на Windows)
+        Path oldest = archive.segmentFile(0);
+        long oldestSize = Files.size(oldest);
+        Files.delete(oldest);
+        Files.createDirectories(oldest.resolve("locked"));
+
+        for (int i = 0; i < 10; i++) {
+            archive.append("r" + (count + i), replay(1_000L * (count + i), 20));
+        }
+        awaitWrites();
+
+        assertTrue(Files.exists(oldest));
+        long onDisk = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "replays-*.seg")) {
+            for (Path file : files) {
+                if (Files.isRegularFile(file)) {
+                    onDisk += Files.size(file);
+                }
+            }
+        }
+        assertEquals(onDisk + oldestSize, archive.getTotalBytes());
+    }
+}
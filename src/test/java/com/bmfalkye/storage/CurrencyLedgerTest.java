@@ -0,0 +1,92 @@
+package com.bmfalkye.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link CurrencyLedger}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class CurrencyLedgerTest {
+    private final UUID player1 = UUID.randomUUID();
+    private final UUID player2 = UUID.randomUUID();
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("bm_falkye_ledger");
+    }
+
+    private void commit(CurrencyLedger ledger) {
+        ledger.commit();
+        assertTrue(SavePipeline.awaitIdle(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testReplayReturnsLatestStatePerPlayer() {
+        CurrencyLedger ledger = new CurrencyLedger(directory);
+        assertTrue(ledger.open().isEmpty());
+        ledger.append(player1, 800, 0, 0);
+        ledger.append(player1, 700, 0, 100);
+        commit(ledger);
+        ledger.append(player2, 50, 5, 0);
+        commit(ledger);
+
+        Map<UUID, CurrencyLedger.Entry> states = new CurrencyLedger(directory).open();
+        assertEquals(2, states.size());
+        assertEquals(700, states.get(player1).getCoins());
+        assertEquals(100, states.get(player1).getEscrow());
+        assertEquals(5, states.get(player2).getSoulDust());
+    }
+
+    @Test
+    void testTornFrameIsIgnored() throws IOException {
+        CurrencyLedger ledger = new CurrencyLedger(directory);
+        ledger.open();
+        ledger.append(player1, 500, 0, 0);
+        commit(ledger);
+        ledger.append(player1, 900, 0, 0);
+        ledger.append(player2, 900, 0, 0);
+        commit(ledger);
+
+        // Обрываем последний блок, как при сбое посреди записи
+        Path segment = ledger.segmentFile(1);
+        byte[] bytes = Files.readAllBytes(segment);
+        Files.write(segment, java.util.Arrays.copyOf(bytes, bytes.length - 10), StandardOpenOption.TRUNCATE_EXISTING);
+
+        Map<UUID, CurrencyLedger.Entry> states = new CurrencyLedger(directory).open();
+        assertEquals(500, states.get(player1).getCoins());
+        assertFalse(states.containsKey(player2));
+    }
+
+    @Test
+    void testCheckpointDropsOldSegmentsAndKeepsCarryOver() {
+        CurrencyLedger ledger = new CurrencyLedger(directory);
+        ledger.open();
+        ledger.append(player1, 100, 0, 0);
+        ledger.append(player2, 200, 0, 50);
+        commit(ledger);
+
+        ledger.beginCheckpoint(List.of(new CurrencyLedger.Entry(player2, 200, 0, 50)));
+        ledger.completeCheckpoint();
+        assertTrue(SavePipeline.awaitIdle(10, TimeUnit.SECONDS));
+        assertFalse(Files.exists(ledger.segmentFile(1)));
+
+        Map<UUID, CurrencyLedger.Entry> states = new CurrencyLedger(directory).open();
+        assertFalse(states.containsKey(player1));
+        assertEquals(50, states.get(player2).getEscrow());
+    }
+}
@@ -0,0 +1,72 @@
+package com.bmfalkye.storage;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link SavePipeline}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class SavePipelineTest {
+
+    private CompoundTag value(int value) {
+        CompoundTag tag = new CompoundTag();
+        tag.putInt("value", value);
+        return tag;
+    }
+
+    @Test
+    void testLatestSnapshotIsWrittenAtomically() throws IOException {
+        Path file = Files.createTempDirectory("bm_falkye_save").resolve("data.dat");
+        long writesBefore = SavePipeline.getStats().getWrites();
+
+        for (int i = 1; i <= 50; i++) {
+            SavePipeline.write(file, value(i), null);
+        }
+        // До записи читатели получают снимок из очереди
+        CompoundTag unwritten = SavePipeline.getUnwrittenSnapshot(file);
+        assertTrue(unwritten == null || unwritten.getInt("value") == 50);
+
+        assertTrue(SavePipeline.awaitIdle(10, TimeUnit.SECONDS));
+        assertEquals(50, NbtIo.readCompressed(file.toFile()).getInt("value"));
+        assertNull(SavePipeline.getUnwrittenSnapshot(file));
+        // Временный файл переименован поверх целевого
+        assertFalse(Files.exists(file.resolveSibling("data.dat.tmp")));
+
+        SavePipeline.SaveStats stats = SavePipeline.getStats();
+        assertTrue(stats.getWrites() > writesBefore);
+        assertTrue(stats.getWrites() - writesBefore + stats.getCoalesced() >= 50);
+        assertEquals(0, stats.getQueued());
+    }
+
+    @Test
+    void testFailedWriteReportsBack() throws IOException {
+        // Родитель целевого файла - обычный файл, каталог создать нельзя
+        Path blocker = Files.createTempFile("bm_falkye_save", ".blocker");
+        AtomicBoolean failed = new AtomicBoolean();
+
+        SavePipeline.write(blocker.resolve("data.dat"), value(1), () -> failed.set(true));
+
+        assertTrue(SavePipeline.awaitIdle(10, TimeUnit.SECONDS));
+        assertTrue(failed.get());
+    }
+
+    @Test
+    void testFsyncPolicyFromProperty() {
+        assertEquals(SavePipeline.FsyncPolicy.FILE, SavePipeline.FsyncPolicy.fromProperty(null));
+        assertEquals(SavePipeline.FsyncPolicy.NONE, SavePipeline.FsyncPolicy.fromProperty("none"));
+        assertEquals(SavePipeline.FsyncPolicy.FULL, SavePipeline.FsyncPolicy.fromProperty("FULL"));
+        assertEquals(SavePipeline.FsyncPolicy.FILE, SavePipeline.FsyncPolicy.fromProperty("unknown"));
+    }
+}
@@ -0,0 +1,112 @@
+package com.bmfalkye.storage;
+
+import net.minecraft.nbt.CompoundTag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link ShardedPlayerStore}.
+ *
+ * @author BeforeMine Team
+ * @since 1.0
+ */
+class ShardedPlayerStoreTest {
+    private final UUID player1 = UUID.randomUUID();
+    private final UUID player2 = UUID.randomUUID();
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("bm_falkye_shards");
+    }
+
+    private ShardedPlayerStore<CompoundTag> newStore() {
+        ShardedPlayerStore<CompoundTag> store = new ShardedPlayerStore<>("test", tag -> tag, tag -> tag, CompoundTag::new);
+        store.attach(directory);
+        return store;
+    }
+
+    private void flush(ShardedPlayerStore<CompoundTag> store) {
+        assertTrue(store.flush());
+        assertTrue(SavePipeline.awaitIdle(10, TimeUnit.SECONDS));
+    }
+
+    private CompoundTag score(int value) {
+        CompoundTag tag = new CompoundTag();
+        tag.putInt("score", value);
+        return tag;
+    }
+
+    @Test
+    void testOnlyDirtyPlayersAreWritten() throws IOException {
+        ShardedPlayerStore<CompoundTag> store = newStore();
+        store.put(player1, score(1));
+        store.put(player2, score(2));
+        flush(store);
+        assertTrue(Files.isRegularFile(store.fileFor(player1)));
+        assertTrue(Files.isRegularFile(store.fileFor(player2)));
+        assertFalse(store.isDirty());
+
+        // Изменился только первый игрок - файл второго не переписывается
+        Files.delete(store.fileFor(player2));
+        store.get(player1).putInt("score", 10);
+        store.markDirty(player1);
+        flush(store);
+        assertTrue(Files.isRegularFile(store.fileFor(player1)));
+        assertFalse(Files.exists(store.fileFor(player2)));
+    }
+
+    @Test
+    void testDataIsReadLazilyFromPlayerFile() {
+        ShardedPlayerStore<CompoundTag> store = newStore();
+        store.put(player1, score(7));
+        flush(store);
+
+        ShardedPlayerStore<CompoundTag> reopened = newStore();
+        assertEquals(0, reopened.getLoadedCount());
+        assertTrue(reopened.exists(player1));
+        assertEquals(7, reopened.get(player1).getInt("score"));
+        assertEquals(1, reopened.getLoadedCount());
+
+        // Новый игрок получает данные по умолчанию и не пишется без изменений
+        assertFalse(reopened.exists(player2));
+        assertEquals(0, reopened.get(player2).getInt("score"));
+        assertFalse(reopened.isDirty());
+    }
+
+    @Test
+    void testUnloadWritesPendingChanges() {
+        ShardedPlayerStore<CompoundTag> store = newStore();
+        store.put(player1, score(5));
+        assertTrue(store.isLoaded(player1));
+
+        // Выгрузка изменённого игрока ставит его файл в очередь записи
+        store.unload(player1);
+        assertFalse(store.isLoaded(player1));
+        assertFalse(store.isDirty());
+        assertEquals(5, store.get(player1).getInt("score"));
+
+        assertTrue(SavePipeline.awaitIdle(10, TimeUnit.SECONDS));
+        store.unload(player1);
+        assertEquals(5, newStore().get(player1).getInt("score"));
+    }
+
+    @Test
+    void testRemoveDeletesPlayerFile() {
+        ShardedPlayerStore<CompoundTag> store = newStore();
+        store.put(player1, score(3));
+        flush(store);
+
+        store.remove(player1);
+        assertFalse(store.exists(player1));
+        assertFalse(Files.exists(store.fileFor(player1)));
+    }
+}